@@ -27,10 +27,14 @@ import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.client.remote.OStorageRemoteNodeSession;
 import com.orientechnologies.orient.client.remote.OStorageRemoteSession;
 import com.orientechnologies.orient.client.remote.message.OError37Response;
+import com.orientechnologies.orient.client.remote.message.OReadRecordResponse;
 import com.orientechnologies.orient.core.OConstants;
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.serialization.OMemoryInputStream;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
 import com.orientechnologies.orient.enterprise.channel.OSocketFactory;
 import com.orientechnologies.orient.enterprise.channel.binary.OChannelBinary;
 import com.orientechnologies.orient.enterprise.channel.binary.OChannelBinaryProtocol;
@@ -43,9 +47,16 @@ import java.lang.reflect.InvocationTargetException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketException;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
 
 public class OChannelBinaryAsynchClient extends OChannelBinary {
+  // SERVERS WHICH DO NOT KNOW THE REQUESTS SENT AFTER THE HANDSHAKE, NOT ASKED AGAIN
+  private static final Set<String> NEGOTIATION_UNSUPPORTED = ConcurrentHashMap.newKeySet();
+
   private         int    socketTimeout;                                               // IN MS
   protected final short  srvProtocolVersion;
   private         String serverURL;
@@ -53,6 +64,18 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
   private         int    currentSessionId;
   private         byte   currentMessage;
 
+  // PIPELINING: EACH REQUEST IS SENT WITH AN ID, WHICH THE SERVER SENDS BACK BEFORE THE RESPONSE
+  private static final int NO_REQUEST = -1;
+
+  private volatile boolean              pipelined;
+  private          int                  nextRequestId;                                // GUARDED BY WRITE LOCK
+  private          int                  currentRequestId = NO_REQUEST;                // GUARDED BY WRITE LOCK
+  private final    Map<Thread, Integer> pendingRequests  = new ConcurrentHashMap<Thread, Integer>();
+  private final    Map<Integer, Thread> waitingReaders   = new ConcurrentHashMap<Integer, Thread>();
+  private          int                  nextResponseId   = NO_REQUEST;                // GUARDED BY READ LOCK
+  private          boolean              responseRead;                                 // GUARDED BY READ LOCK
+  private volatile Thread               responseReader;
+
   public OChannelBinaryAsynchClient(final String remoteHost, final int remotePort, final String iDatabaseName,
       final OContextConfiguration iConfig, final int iProtocolVersion) throws IOException {
     super(OSocketFactory.instance(iConfig).createSocket(), iConfig);
@@ -63,38 +86,22 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
         serverURL += "/" + iDatabaseName;
       socketTimeout = iConfig.getValueAsInteger(OGlobalConfiguration.NETWORK_SOCKET_TIMEOUT);
 
-      try {
-        socket.connect(new InetSocketAddress(remoteHost, remotePort), getSocketTimeout());
-        setReadResponseTimeout();
-        connected();
-      } catch (java.net.SocketTimeoutException e) {
-        throw new IOException("Cannot connect to host " + remoteHost + ":" + remotePort, e);
-      }
-      try {
-        if (socketBufferSize > 0) {
-          inStream = new BufferedInputStream(socket.getInputStream(), socketBufferSize);
-          outStream = new BufferedOutputStream(socket.getOutputStream(), socketBufferSize);
-        } else {
-          inStream = new BufferedInputStream(socket.getInputStream());
-          outStream = new BufferedOutputStream(socket.getOutputStream());
-        }
+      final String serverAddress = remoteHost + ":" + remotePort;
 
-        in = new DataInputStream(inStream);
-        out = new DataOutputStream(outStream);
-
-        srvProtocolVersion = readShort();
-
-        writeByte(OChannelBinaryProtocol.REQUEST_HANDSHAKE);
-        writeShort((short) iProtocolVersion);
-        writeString("Java Client");
-        writeString(OConstants.getVersion());
-        writeByte(OChannelBinaryProtocol.ENCODING_DEFAULT);
-        writeByte(OChannelBinaryProtocol.ERROR_MESSAGE_JAVA);
-        flush();
-      } catch (IOException e) {
-        throw new ONetworkProtocolException(
-            "Cannot read protocol version from remote server " + socket.getRemoteSocketAddress() + ": " + e);
+      short protocolVersion = connect(remoteHost, remotePort, iProtocolVersion);
+      if (!NEGOTIATION_UNSUPPORTED.contains(serverAddress) && !negotiate(iConfig)) {
+        // THE SERVER DOES NOT KNOW THE REQUESTS AND CANNOT READ THE CONNECTION ANYMORE: CONNECT AGAIN WITHOUT THEM
+        NEGOTIATION_UNSUPPORTED.add(serverAddress);
+        OLogManager.instance().warn(this,
+            "Server %s does not support compression of the network frames and records in storage format, connections use the default ones",
+            serverAddress);
+
+        socket.close();
+        setSocket(OSocketFactory.instance(iConfig).createSocket());
+        protocolVersion = connect(remoteHost, remotePort, iProtocolVersion);
       }
+      srvProtocolVersion = protocolVersion;
+      connected();
 
       if (srvProtocolVersion != iProtocolVersion) {
         OLogManager.instance().warn(this,
@@ -110,6 +117,145 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
     }
   }
 
+  /**
+   * Connects the socket and sends the handshake.
+   *
+   * @return the protocol version of the server
+   */
+  private short connect(final String remoteHost, final int remotePort, final int iProtocolVersion) throws IOException {
+    try {
+      socket.connect(new InetSocketAddress(remoteHost, remotePort), getSocketTimeout());
+      setReadResponseTimeout();
+    } catch (java.net.SocketTimeoutException e) {
+      throw new IOException("Cannot connect to host " + remoteHost + ":" + remotePort, e);
+    }
+    try {
+      if (socketBufferSize > 0) {
+        inStream = new BufferedInputStream(socket.getInputStream(), socketBufferSize);
+        outStream = new BufferedOutputStream(socket.getOutputStream(), socketBufferSize);
+      } else {
+        inStream = new BufferedInputStream(socket.getInputStream());
+        outStream = new BufferedOutputStream(socket.getOutputStream());
+      }
+
+      in = new DataInputStream(inStream);
+      out = new DataOutputStream(outStream);
+
+      final short protocolVersion = readShort();
+
+      writeByte(OChannelBinaryProtocol.REQUEST_HANDSHAKE);
+      writeShort((short) iProtocolVersion);
+      writeString("Java Client");
+      writeString(OConstants.getVersion());
+      writeByte(OChannelBinaryProtocol.ENCODING_DEFAULT);
+      writeByte(OChannelBinaryProtocol.ERROR_MESSAGE_JAVA);
+      flush();
+      return protocolVersion;
+    } catch (IOException e) {
+      throw new ONetworkProtocolException(
+          "Cannot read protocol version from remote server " + socket.getRemoteSocketAddress() + ": " + e);
+    }
+  }
+
+  /**
+   * Sends the requests of the features of the connection enabled in the configuration.
+   *
+   * @return false if the server does not support the requests
+   */
+  private boolean negotiate(final OContextConfiguration iConfig) throws IOException {
+    if (iConfig.getValueAsBoolean(OGlobalConfiguration.CLIENT_CHANNEL_RECORD_STORAGE_FORMAT) && !requestRecordStorageFormat())
+      return false;
+
+    final String compressionName = iConfig.getValueAsString(OGlobalConfiguration.CLIENT_CHANNEL_COMPRESSION);
+    if (compressionName != null && !compressionName.isEmpty())
+      return requestCompression(compressionName,
+          iConfig.getValueAsInteger(OGlobalConfiguration.CLIENT_CHANNEL_COMPRESSION_THRESHOLD));
+    return true;
+  }
+
+  /**
+   * Requests the server to send the loaded records in the format of the storage, when the storage uses the binary serializer. Such
+   * records are converted by the client, see {@link OReadRecordResponse#isStorageFormat()}.
+   *
+   * @return false if the server does not support the request
+   */
+  private boolean requestRecordStorageFormat() throws IOException {
+    writeByte(OChannelBinaryProtocol.REQUEST_RECORD_STORAGE_FORMAT);
+    writeInt(-1);
+    writeString(ORecordSerializerBinary.NAME);
+    flush();
+
+    try {
+      if (readByte() != OChannelBinaryProtocol.RESPONSE_STATUS_OK || readInt() != -1)
+        return false;
+      readBoolean();
+    } catch (IOException e) {
+      // CLOSED OR NOT ANSWERED
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Requests the server to send back the id of each request before its response, and switches the channel to pipelining mode in
+   * which several threads may send requests one after another without waiting for the responses of the previous requests. The
+   * responses may come in any order, each thread reads the response with the id of its request. Write lock should be acquired by
+   * {@link #acquireWriteLock()} in this mode, request and response should be always sent and read by the same thread.
+   *
+   * @return false if the server does not support the request, the channel cannot be used anymore in this case
+   */
+  public boolean requestPipelining() throws IOException {
+    writeByte(OChannelBinaryProtocol.REQUEST_PIPELINING);
+    writeInt(-1);
+    flush();
+
+    try {
+      if (readByte() != OChannelBinaryProtocol.RESPONSE_STATUS_OK || readInt() != -1 || !readBoolean())
+        return false;
+    } catch (IOException e) {
+      // CLOSED OR NOT ANSWERED
+      return false;
+    }
+
+    pipelined = true;
+    return true;
+  }
+
+  /**
+   * Requests the server to compress the frames of this connection. The server answers with the accepted compression, or null if it
+   * refuses it, and the connection switches to the compressed frames just after the answer.
+   *
+   * @return false if the server does not support the request
+   */
+  private boolean requestCompression(final String compressionName, final int threshold) throws IOException {
+    final OCompression compression = OCompressionFactory.INSTANCE.getCompression(compressionName, null);
+
+    writeByte(OChannelBinaryProtocol.REQUEST_COMPRESSION);
+    writeInt(-1);
+    writeString(compressionName);
+    writeInt(threshold);
+    flush();
+
+    try {
+      if (readByte() != OChannelBinaryProtocol.RESPONSE_STATUS_OK || readInt() != -1)
+        return false;
+
+      final String accepted = readString();
+      if (accepted == null) {
+        OLogManager.instance()
+            .warn(this, "Server %s refused compression '%s' of the network frames, the connection is not compressed", serverURL,
+                compressionName);
+        return true;
+      }
+    } catch (IOException e) {
+      // CLOSED OR NOT ANSWERED
+      return false;
+    }
+
+    enableCompression(compression, threshold);
+    return true;
+  }
+
   @SuppressWarnings("unchecked")
   private static RuntimeException createException(final String iClassName, final String iMessage, final Exception iPrevious) {
     RuntimeException rootException = null;
@@ -156,7 +302,9 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
   public byte[] beginResponse(final int iRequesterId, final long iTimeout, final boolean token) throws IOException {
     try {
       // WAIT FOR THE RESPONSE
-      if (iTimeout <= 0)
+      if (pipelined)
+        waitResponseTurn();
+      else if (iTimeout <= 0)
         acquireReadLock();
 
       if (!isConnected()) {
@@ -177,6 +325,8 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
         setReadResponseTimeout();
       }
 
+      if (pipelined && currentSessionId != iRequesterId)
+        throw new IOException("Received the response of session " + currentSessionId + " instead of " + iRequesterId);
       assert (currentSessionId == iRequesterId);
 
       if (debug)
@@ -199,6 +349,13 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
   }
 
   public void endResponse() throws IOException {
+    if (pipelined && responseReader == Thread.currentThread()) {
+      responseReader = null;
+      if (!responseRead)
+        // THE REST OF THE RESPONSE WOULD BE READ AS THE NEXT RESPONSES
+        close();
+    }
+
     // WAKE UP ALL THE WAITING THREADS
     try {
       releaseReadLock();
@@ -207,11 +364,33 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
       OLogManager.instance().debug(this, "Error on unlocking network channel after reading response");
     }
 
+    if (pipelined) {
+      // ONE OF THE WAITING THREADS READS THE ID OF THE NEXT RESPONSE
+      final Iterator<Thread> readers = waitingReaders.values().iterator();
+      if (readers.hasNext())
+        LockSupport.unpark(readers.next());
+    }
+  }
+
+  /**
+   * Marks the response of the current thread as read to its end. In pipelining mode {@link #endResponse()} closes the channel when
+   * the response was not read to its end, because its remaining bytes would be read as the next responses.
+   */
+  public void markResponseRead() {
+    if (responseReader == Thread.currentThread())
+      responseRead = true;
   }
 
   public void endRequest() throws IOException {
-    flush();
-    releaseWriteLock();
+    try {
+      flush();
+    } finally {
+      if (pipelined && currentRequestId != NO_REQUEST) {
+        pendingRequests.put(Thread.currentThread(), currentRequestId);
+        currentRequestId = NO_REQUEST;
+      }
+      releaseWriteLock();
+    }
   }
 
   @Override
@@ -221,6 +400,95 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
     } catch (Exception e) {
       // IGNORE IT
     }
+
+    if (pipelined)
+      for (Thread reader : waitingReaders.values())
+        LockSupport.unpark(reader);
+  }
+
+  public boolean isPipelined() {
+    return pipelined;
+  }
+
+  /**
+   * Tells if in pipelining mode the current thread sent the request but has not read its response yet.
+   */
+  public boolean isResponsePending() {
+    return pendingRequests.containsKey(Thread.currentThread());
+  }
+
+  /**
+   * Waits till the next response is the response of the request of the current thread and returns holding the read lock. The
+   * thread which holds the read lock reads the id of the next response and, if it is the response of another thread, wakes that
+   * thread up and waits again.
+   */
+  private void waitResponseTurn() throws IOException {
+    final Integer requestId = pendingRequests.get(Thread.currentThread());
+    if (requestId == null)
+      throw new IllegalStateException("Response is read by the thread which did not send the request");
+
+    waitingReaders.put(requestId, Thread.currentThread());
+    try {
+      while (true) {
+        acquireReadLock();
+        if (!isConnected()) {
+          releaseReadLock();
+          throw new IOException("Channel is closed");
+        }
+
+        if (nextResponseId == NO_REQUEST)
+          nextResponseId = readResponseId();
+
+        if (nextResponseId == requestId) {
+          nextResponseId = NO_REQUEST;
+          pendingRequests.remove(Thread.currentThread());
+          responseReader = Thread.currentThread();
+          responseRead = false;
+          return;
+        }
+
+        // ONLY THE READER OF THE NEXT RESPONSE IS WOKEN UP, OTHERWISE ALL THE WAITING THREADS WOULD WAKE UP ON EACH RESPONSE
+        final Thread reader = waitingReaders.get(nextResponseId);
+        releaseReadLock();
+        if (reader != null)
+          LockSupport.unpark(reader);
+
+        LockSupport.park(this);
+
+        if (Thread.interrupted()) {
+          // RESPONSE WILL NOT BE READ, SO IT WOULD BLOCK THE NEXT RESPONSES
+          Thread.currentThread().interrupt();
+          close();
+          throw new IOException("Waiting for the response was interrupted");
+        }
+      }
+    } finally {
+      waitingReaders.remove(requestId);
+    }
+  }
+
+  /**
+   * Reads the id of the next response. The channel is closed and the read lock released if the id cannot be read or it is not the
+   * id of a pending request.
+   */
+  private int readResponseId() throws IOException {
+    final int responseId;
+    try {
+      setWaitResponseTimeout();
+      responseId = readInt();
+      setReadResponseTimeout();
+    } catch (IOException e) {
+      close();
+      releaseReadLock();
+      throw e;
+    }
+
+    if (!pendingRequests.containsValue(responseId)) {
+      close();
+      releaseReadLock();
+      throw new IOException("Received the response of unknown request " + responseId);
+    }
+    return responseId;
   }
 
   @Override
@@ -269,6 +537,8 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
 
       OError37Response response = new OError37Response();
       response.read(this, null);
+      // THE ERROR IS THE WHOLE RESPONSE, THE CHANNEL CAN BE USED BY THE NEXT RESPONSES
+      markResponseRead();
       byte[] serializedException = response.getVerbose();
       Exception previous = null;
       if (serializedException != null && serializedException.length > 0)
@@ -343,9 +613,22 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
     if (nodeSession == null)
       throw new OIOException("Invalid session for URL '" + getServerURL() + "'");
 
+    beginRequest(iCommand, nodeSession.getSessionId(), nodeSession.getToken());
+  }
+
+  /**
+   * Writes the header of a request, in pipelining mode preceded by the id of the request.
+   */
+  public void beginRequest(final byte iCommand, final int iSessionId, final byte[] iToken) throws IOException {
+    if (pipelined) {
+      currentRequestId = nextRequestId;
+      nextRequestId = (nextRequestId + 1) & Integer.MAX_VALUE;
+      writeInt(currentRequestId);
+    }
+
     writeByte(iCommand);
-    writeInt(nodeSession.getSessionId());
-    writeBytes(nodeSession.getToken());
+    writeInt(iSessionId);
+    writeBytes(iToken);
   }
 
   public int getSocketTimeout() {
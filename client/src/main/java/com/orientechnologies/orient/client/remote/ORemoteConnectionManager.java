@@ -19,17 +19,21 @@
  */
 package com.orientechnologies.orient.client.remote;
 
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.io.OIOException;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.client.binary.OChannelBinaryAsynchClient;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Manages network connections against OrientDB servers. All the connection pools are managed in a Map<url,pool>, but in the future
@@ -40,11 +44,16 @@ import java.util.concurrent.ConcurrentMap;
 public class ORemoteConnectionManager {
   public static final String PARAM_MAX_POOL = "maxpool";
 
-  protected final ConcurrentMap<String, ORemoteConnectionPool> connections;
-  protected final long                                         timeout;
+  protected final ConcurrentMap<String, ORemoteConnectionPool>        connections;
+  protected final ConcurrentMap<String, OChannelBinaryAsynchClient[]> pipelinedChannels;
+  protected final long                                                timeout;
+  private final   AtomicInteger                                       nextPipelinedChannel = new AtomicInteger();
+  // SERVERS WHICH DO NOT SUPPORT PIPELINING, NOT ASKED AGAIN
+  private final   Set<String>                                         pipeliningUnsupported = ConcurrentHashMap.newKeySet();
 
   public ORemoteConnectionManager(final long iTimeout) {
     connections = new ConcurrentHashMap<String, ORemoteConnectionPool>();
+    pipelinedChannels = new ConcurrentHashMap<String, OChannelBinaryAsynchClient[]>();
     timeout = iTimeout;
   }
 
@@ -54,14 +63,15 @@ public class ORemoteConnectionManager {
     }
 
     connections.clear();
+
+    for (OChannelBinaryAsynchClient[] channels : pipelinedChannels.values())
+      closePipelinedChannels(channels);
+
+    pipelinedChannels.clear();
   }
 
   public OChannelBinaryAsynchClient acquire(String iServerURL, final OContextConfiguration clientConfiguration) {
-    if (iServerURL.startsWith(OEngineRemote.PREFIX))
-      iServerURL = iServerURL.substring(OEngineRemote.PREFIX.length());
-
-    if (iServerURL.endsWith("/"))
-      iServerURL = iServerURL.substring(0, iServerURL.length() - 1);
+    iServerURL = normalizeURL(iServerURL);
 
     long localTimeout = timeout;
 
@@ -103,10 +113,77 @@ public class ORemoteConnectionManager {
     return null;
   }
 
+  /**
+   * Returns one of the channels shared by all threads which pipeline their requests to the server, channels are taken in round
+   * robin order. Unlike {@link #acquire(String, OContextConfiguration)} channel is not removed from the pool, only its write lock
+   * is acquired till the request is sent.
+   *
+   * @return null if the server does not support pipelining, in this case channels should be acquired from the pool
+   *
+   * @see OChannelBinaryAsynchClient#requestPipelining()
+   */
+  public OChannelBinaryAsynchClient acquirePipelined(String iServerURL, final OContextConfiguration clientConfiguration) {
+    iServerURL = normalizeURL(iServerURL);
+    if (pipeliningUnsupported.contains(iServerURL))
+      return null;
+
+    OChannelBinaryAsynchClient[] channels = pipelinedChannels.get(iServerURL);
+    if (channels == null) {
+      final int channelsCount = clientConfiguration.getValueAsInteger(OGlobalConfiguration.CLIENT_CHANNEL_PIPELINING_CONNECTIONS);
+      channels = new OChannelBinaryAsynchClient[Math.max(1, channelsCount)];
+
+      final OChannelBinaryAsynchClient[] prev = pipelinedChannels.putIfAbsent(iServerURL, channels);
+      if (prev != null)
+        channels = prev;
+    }
+
+    final int index = (nextPipelinedChannel.getAndIncrement() & Integer.MAX_VALUE) % channels.length;
+    OChannelBinaryAsynchClient channel;
+    synchronized (channels) {
+      channel = channels[index];
+      if (channel == null || !channel.isConnected()) {
+        if (channel != null)
+          channel.close();
+
+        channel = getOrCreatePool(iServerURL, clientConfiguration).createNetworkConnection(iServerURL, clientConfiguration);
+        if (!requestPipelining(channel)) {
+          if (pipeliningUnsupported.add(iServerURL))
+            OLogManager.instance()
+                .warn(this, "Server %s does not support pipelining of the requests, connections are taken from the pool", iServerURL);
+          return null;
+        }
+        channels[index] = channel;
+      }
+    }
+
+    channel.acquireWriteLock();
+    return channel;
+  }
+
+  private static boolean requestPipelining(final OChannelBinaryAsynchClient channel) {
+    try {
+      if (channel.requestPipelining())
+        return true;
+    } catch (IOException e) {
+      channel.close();
+      throw OException.wrapException(new OIOException("Cannot request pipelining from server " + channel.getServerURL()), e);
+    }
+    channel.close();
+    return false;
+  }
+
   public void release(final OChannelBinaryAsynchClient conn) {
     if (conn == null)
       return;
 
+    if (conn.isPipelined()) {
+      // SHARED CHANNEL STAYS OPEN, UNLESS IT WAS CLOSED ON A PARTIALLY READ RESPONSE OR THE RESPONSE OF THE CURRENT THREAD WAS NOT
+      // READ AND WOULD BLOCK THE NEXT RESPONSES
+      if (!conn.isConnected() || conn.isResponsePending())
+        remove(conn);
+      return;
+    }
+
     final ORemoteConnectionPool pool = connections.get(conn.getServerURL());
     if (pool != null) {
       if (!conn.isConnected()) {
@@ -122,6 +199,11 @@ public class ORemoteConnectionManager {
     if (conn == null)
       return;
 
+    if (conn.isPipelined()) {
+      removePipelined(conn);
+      return;
+    }
+
     final ORemoteConnectionPool pool = connections.get(conn.getServerURL());
     if (pool == null)
       throw new IllegalStateException("Connection cannot be released because the pool doesn't exist anymore");
@@ -142,6 +224,22 @@ public class ORemoteConnectionManager {
 
   }
 
+  private void removePipelined(final OChannelBinaryAsynchClient conn) {
+    final OChannelBinaryAsynchClient[] channels = pipelinedChannels.get(conn.getServerURL());
+    if (channels != null)
+      synchronized (channels) {
+        for (int i = 0; i < channels.length; i++)
+          if (channels[i] == conn)
+            channels[i] = null;
+      }
+
+    try {
+      conn.close();
+    } catch (Exception e) {
+      OLogManager.instance().debug(this, "Cannot close connection", e);
+    }
+  }
+
   public Set<String> getURLs() {
     return connections.keySet();
   }
@@ -179,6 +277,10 @@ public class ORemoteConnectionManager {
   }
 
   public void closePool(final String url) {
+    final OChannelBinaryAsynchClient[] channels = pipelinedChannels.remove(url);
+    if (channels != null)
+      closePipelinedChannels(channels);
+
     final ORemoteConnectionPool pool = connections.remove(url);
     if (pool == null)
       return;
@@ -186,6 +288,20 @@ public class ORemoteConnectionManager {
     closePool(pool);
   }
 
+  protected void closePipelinedChannels(final OChannelBinaryAsynchClient[] channels) {
+    synchronized (channels) {
+      for (int i = 0; i < channels.length; i++) {
+        if (channels[i] != null)
+          try {
+            channels[i].close();
+          } catch (Exception e) {
+            OLogManager.instance().debug(this, "Cannot close binary channel", e);
+          }
+        channels[i] = null;
+      }
+    }
+  }
+
   protected void closePool(ORemoteConnectionPool pool) {
     final List<OChannelBinaryAsynchClient> conns = new ArrayList<OChannelBinaryAsynchClient>(pool.getPool().getAllResources());
     for (OChannelBinaryAsynchClient c : conns)
@@ -202,4 +318,27 @@ public class ORemoteConnectionManager {
     return connections.get(url);
   }
 
+  private ORemoteConnectionPool getOrCreatePool(final String url, final OContextConfiguration clientConfiguration) {
+    ORemoteConnectionPool pool = connections.get(url);
+    if (pool == null) {
+      pool = new ORemoteConnectionPool(clientConfiguration.getValueAsInteger(OGlobalConfiguration.CLIENT_CHANNEL_MAX_POOL));
+      final ORemoteConnectionPool prev = connections.putIfAbsent(url, pool);
+      if (prev != null) {
+        pool.getPool().close();
+        pool = prev;
+      }
+    }
+    return pool;
+  }
+
+  private static String normalizeURL(String url) {
+    if (url.startsWith(OEngineRemote.PREFIX))
+      url = url.substring(OEngineRemote.PREFIX.length());
+
+    if (url.endsWith("/"))
+      url = url.substring(0, url.length() - 1);
+
+    return url;
+  }
+
 }
@@ -53,6 +53,7 @@ import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.security.OCredentialInterceptor;
 import com.orientechnologies.orient.core.security.OSecurityManager;
 import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializerFactory;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
 import com.orientechnologies.orient.core.sql.query.OLiveQuery;
 import com.orientechnologies.orient.core.storage.*;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.ORecordSerializationContext;
@@ -74,6 +75,9 @@ import javax.naming.directory.InitialDirContext;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.Callable;
@@ -88,14 +92,15 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
   @Deprecated
   public static final String PARAM_CONNECTION_STRATEGY = "connectionStrategy";
 
-  private static final String        DEFAULT_HOST      = "localhost";
-  private static final int           DEFAULT_PORT      = 2424;
-  private static final int           DEFAULT_SSL_PORT  = 2434;
-  public static final  String        ADDRESS_SEPARATOR = ";";
-  public static final  String        DRIVER_NAME       = "OrientDB Java";
-  private static final String        LOCAL_IP          = "127.0.0.1";
-  private static final String        LOCALHOST         = "localhost";
-  private static       AtomicInteger sessionSerialId   = new AtomicInteger(-1);
+  private static final String        DEFAULT_HOST           = "localhost";
+  private static final int           DEFAULT_PORT           = 2424;
+  private static final int           DEFAULT_SSL_PORT       = 2434;
+  public static final  String        ADDRESS_SEPARATOR      = ";";
+  public static final  String        DRIVER_NAME            = "OrientDB Java";
+  private static final String        LOCAL_IP               = "127.0.0.1";
+  private static final String        LOCALHOST              = "localhost";
+  private static final int           MAX_ADAPTIVE_PAGE_SIZE = 100_000;
+  private static       AtomicInteger sessionSerialId        = new AtomicInteger(-1);
 
   public enum CONNECTION_STRATEGY {
     STICKY, ROUND_ROBIN_CONNECT, ROUND_ROBIN_REQUEST
@@ -119,6 +124,14 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
       .newSetFromMap(new ConcurrentHashMap<OStorageRemoteSession, Boolean>());
 
   private final Map<Integer, OLiveQueryClientListener> liveQueryListener = new ConcurrentHashMap<>();
+
+  /**
+   * Channels on which the next page of a result set was requested and not read yet, released if the result set is garbage
+   * collected without being closed.
+   */
+  private final Set<OPrefetchReference>          prefetches        = Collections
+      .newSetFromMap(new ConcurrentHashMap<OPrefetchReference, Boolean>());
+  private final ReferenceQueue<ORemoteResultSet> droppedPrefetches = new ReferenceQueue<>();
   private volatile OStorageRemotePushThread pushThread;
   private final    OrientDBRemote           context;
 
@@ -160,6 +173,8 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     else
       pMode = mode;
     request.setMode((byte) pMode);
+    // ONLY SYNCHRONOUS RESPONSES ARE READ BY THE THREAD WHICH SENT THE REQUEST, AS PIPELINING REQUIRES
+    final boolean pipelined = pMode == 0 && isPipeliningEnabled();
     return baseNetworkOperation((network, session) -> {
       // Send The request
       try {
@@ -175,6 +190,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
         try {
           beginResponse(network, session);
           response.read(network, session);
+          network.markResponseRead();
         } finally {
           endResponse(network);
         }
@@ -206,11 +222,13 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
         connectionManager.release(network);
       }
       return ret;
-    }, errorMessage, retry);
+    }, errorMessage, retry, pipelined);
   }
 
   public <T extends OBinaryResponse> T networkOperationRetryTimeout(final OBinaryRequest<T> request, final String errorMessage,
       int retry, int timeout) {
+    // SOCKET TIMEOUT CANNOT BE CHANGED FOR THE REQUEST SENT OVER THE SHARED CHANNEL
+    final boolean pipelined = timeout <= 0 && isPipeliningEnabled();
     return baseNetworkOperation((network, session) -> {
       try {
         network.beginRequest(request.getCommand(), session);
@@ -225,6 +243,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
           network.setSocketTimeout(timeout);
         beginResponse(network, session);
         response.read(network, session);
+        network.markResponseRead();
       } finally {
         endResponse(network);
         if (timeout > 0)
@@ -232,7 +251,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
       }
       connectionManager.release(network);
       return response;
-    }, errorMessage, retry);
+    }, errorMessage, retry, pipelined);
   }
 
   public <T extends OBinaryResponse> T networkOperationNoRetry(final OBinaryRequest<T> request, final String errorMessage) {
@@ -244,6 +263,18 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
   }
 
   public <T> T baseNetworkOperation(final OStorageRemoteOperation<T> operation, final String errorMessage, int retry) {
+    return baseNetworkOperation(operation, errorMessage, retry, false);
+  }
+
+  /**
+   * Executes the operation retrying it in case of network errors.
+   *
+   * @param pipelined if true the operation is executed over the channel shared with other threads when the server supports it, in
+   *                  this case response should be read by the same thread which sent the request. Otherwise channel is taken from
+   *                  the pool for exclusive use.
+   */
+  public <T> T baseNetworkOperation(final OStorageRemoteOperation<T> operation, final String errorMessage, int retry,
+      final boolean pipelined) {
     OStorageRemoteSession session = getCurrentSession();
     if (session.commandExecuting)
       throw new ODatabaseException(
@@ -258,7 +289,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
 
       do {
         try {
-          network = getNetwork(serverUrl);
+          network = pipelined ? getPipelinedNetwork(serverUrl) : getNetwork(serverUrl);
         } catch (OException e) {
           if (session.isStickToSession()) {
             throw e;
@@ -278,7 +309,9 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
         OStorageRemoteNodeSession nodeSession = session.getServerSession(network.getServerURL());
         if (nodeSession == null || !nodeSession.isValid()) {
           openRemoteDatabase(network);
-          if (!network.tryLock())
+          if (network.isPipelined())
+            network.acquireWriteLock();
+          else if (!network.tryLock())
             continue;
         }
 
@@ -633,7 +666,8 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
         ignoreCache);
     OReadRecordIfVersionIsNotLatestResponse response = networkOperation(request, "Error on read record " + rid);
 
-    return new OStorageOperationResult<ORawBuffer>(response.getResult());
+    return new OStorageOperationResult<ORawBuffer>(
+        response.isStorageFormat() ? fromStorageFormat(response.getResult()) : response.getResult());
   }
 
   public OStorageOperationResult<ORawBuffer> readRecord(final ORecordId iRid, final String iFetchPlan, final boolean iIgnoreCache,
@@ -646,7 +680,18 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     OReadRecordRequest request = new OReadRecordRequest(iIgnoreCache, iRid, iFetchPlan, false);
     OReadRecordResponse response = networkOperation(request, "Error on read record " + iRid);
 
-    return new OStorageOperationResult<ORawBuffer>(response.getResult());
+    return new OStorageOperationResult<ORawBuffer>(
+        response.isStorageFormat() ? fromStorageFormat(response.getResult()) : response.getResult());
+  }
+
+  /**
+   * Marks a record sent by the server in the format of the storage, so the record is filled by the binary serializer instead of
+   * the serializer of the network. The document reloads the schema only if it reads a property unknown to the schema of the
+   * client.
+   */
+  private static ORawBuffer fromStorageFormat(final ORawBuffer buffer) {
+    buffer.recordFormat = ORecordSerializerBinary.INSTANCE;
+    return buffer;
   }
 
   @Override
@@ -871,6 +916,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     if (!response.isHasNextPage()) {
       unstickToSession();
     }
+    pageFetched(db, rs, response);
     return new ORemoteQueryResult(rs, response.isTxChanges(), response.isReloadMetadata());
   }
 
@@ -888,6 +934,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     if (!response.isHasNextPage()) {
       unstickToSession();
     }
+    pageFetched(db, rs, response);
     return new ORemoteQueryResult(rs, response.isTxChanges(), response.isReloadMetadata());
   }
 
@@ -946,14 +993,137 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
   }
 
   public void fetchNextPage(ODatabaseDocumentRemote database, ORemoteResultSet rs) {
-    int recordsPerPage = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.getValueAsInteger();
+    final OQueryResponse response;
+    final OChannelBinaryAsynchClient prefetchNetwork = rs.getPrefetchNetwork();
+    if (prefetchNetwork != null) {
+      rs.setPrefetchNetwork(null);
+      prefetches.removeIf(reference -> reference.get() == rs);
+      response = readPrefetchedPage(rs, prefetchNetwork);
+    } else {
+      OQueryNextPageRequest request = new OQueryNextPageRequest(rs.getQueryId(), getNextPageSize(rs));
+      response = networkOperation(request, "Error on fetching next page for statment: " + rs.getQueryId());
+    }
+
+    rs.fetched(response.getResult(), response.isHasNextPage(), response.getExecutionPlan(), response.getQueryStats());
+    pageFetched(database, rs, response);
+  }
+
+  /**
+   * Adapts size of the next page to the size of the records of the received page and, if enabled, requests the next page
+   * without waiting till the received page is consumed. Prefetching is not done inside of transaction, so the next page is
+   * always computed after the changes done while the previous page was consumed.
+   */
+  private void pageFetched(ODatabaseDocumentRemote database, ORemoteResultSet rs, OQueryResponse response) {
+    final int pageBytes = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_BYTES.getValueAsInteger();
+    final int records = response.getResult().size();
+    if (pageBytes > 0 && records > 0 && response.getResultBytes() > 0) {
+      final long recordBytes = Math.max(1, response.getResultBytes() / records);
+      rs.setNextPageSize((int) Math.max(1, Math.min(MAX_ADAPTIVE_PAGE_SIZE, pageBytes / recordBytes)));
+    }
+
+    if (response.isHasNextPage() && !rs.isClosed() && !database.getTransaction().isActive()
+        && OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PREFETCH.getValueAsBoolean())
+      prefetchNextPage(rs);
+  }
+
+  private void prefetchNextPage(ORemoteResultSet rs) {
+    releaseDroppedPrefetches();
+    if (prefetches.size() >= getMaxPrefetches())
+      // EVERY PREFETCH HOLDS A CHANNEL OF THE POOL TILL THE PAGE IS READ
+      return;
+
+    final OStorageRemoteSession session = getCurrentSession();
+    final OChannelBinaryAsynchClient network;
+    try {
+      network = getNetwork(getNextAvailableServerURL(false, session));
+    } catch (OException e) {
+      // THE PAGE WILL BE FETCHED ON DEMAND
+      OLogManager.instance().debug(this, "Cannot prefetch next page of query %s", e, rs.getQueryId());
+      return;
+    }
+
+    final OStorageRemoteNodeSession nodeSession = session.getServerSession(network.getServerURL());
+    if (nodeSession == null || !nodeSession.isValid()) {
+      network.unlock();
+      connectionManager.release(network);
+      return;
+    }
+
+    final OQueryNextPageRequest request = new OQueryNextPageRequest(rs.getQueryId(), getNextPageSize(rs));
+    try {
+      try {
+        network.beginRequest(request.getCommand(), nodeSession);
+        request.write(network, session);
+      } finally {
+        network.endRequest();
+      }
+    } catch (IOException | OIOException e) {
+      OLogManager.instance().debug(this, "Cannot prefetch next page of query %s", e, rs.getQueryId());
+      connectionManager.remove(network);
+      return;
+    }
+    rs.setPrefetchNetwork(network);
+    prefetches.add(new OPrefetchReference(rs, network, droppedPrefetches));
+  }
+
+  private int getMaxPrefetches() {
+    return Math.max(1, clientConfiguration.getValueAsInteger(OGlobalConfiguration.CLIENT_CHANNEL_MAX_POOL) / 2);
+  }
+
+  /**
+   * Closes the channels of the prefetched pages of result sets which were garbage collected without being closed. The response
+   * of the page was never read, so the channel cannot be returned to the pool.
+   */
+  private void releaseDroppedPrefetches() {
+    Reference<? extends ORemoteResultSet> reference;
+    while ((reference = droppedPrefetches.poll()) != null) {
+      if (prefetches.remove(reference)) {
+        OLogManager.instance().warn(this,
+            "Remote result set with a prefetched page was not closed, please make sure you close them with OResultSet.close()");
+        connectionManager.remove(((OPrefetchReference) reference).network);
+      }
+    }
+  }
+
+  private static final class OPrefetchReference extends WeakReference<ORemoteResultSet> {
+    private final OChannelBinaryAsynchClient network;
+
+    private OPrefetchReference(ORemoteResultSet rs, OChannelBinaryAsynchClient network, ReferenceQueue<ORemoteResultSet> queue) {
+      super(rs, queue);
+      this.network = network;
+    }
+  }
+
+  private static int getNextPageSize(ORemoteResultSet rs) {
+    int recordsPerPage = rs.getNextPageSize();
+    if (recordsPerPage <= 0) {
+      recordsPerPage = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.getValueAsInteger();
+    }
     if (recordsPerPage <= 0) {
       recordsPerPage = 100;
     }
-    OQueryNextPageRequest request = new OQueryNextPageRequest(rs.getQueryId(), recordsPerPage);
-    OQueryResponse response = networkOperation(request, "Error on fetching next page for statment: " + rs.getQueryId());
+    return recordsPerPage;
+  }
 
-    rs.fetched(response.getResult(), response.isHasNextPage(), response.getExecutionPlan(), response.getQueryStats());
+  private OQueryResponse readPrefetchedPage(ORemoteResultSet rs, OChannelBinaryAsynchClient network) {
+    final OStorageRemoteSession session = getCurrentSession();
+    final OQueryResponse response = new OQueryResponse();
+    try {
+      try {
+        beginResponse(network, session);
+        response.read(network, session);
+      } finally {
+        endResponse(network);
+      }
+    } catch (IOException | OIOException e) {
+      connectionManager.remove(network);
+      throw OException.wrapException(new OIOException("Error on fetching next page for statement: " + rs.getQueryId()), e);
+    } catch (RuntimeException e) {
+      connectionManager.release(network);
+      throw e;
+    }
+    connectionManager.release(network);
+    return response;
   }
 
   public List<ORecordOperation> commit(final OTransactionInternal iTx) {
@@ -1146,9 +1316,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     if (iNetwork == null)
       return;
 
-    iNetwork.flush();
-    iNetwork.releaseWriteLock();
-
+    iNetwork.endRequest();
   }
 
   /**
@@ -1291,9 +1459,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
             OReopenRequest request = new OReopenRequest();
 
             try {
-              network.writeByte(request.getCommand());
-              network.writeInt(nodeSession.getSessionId());
-              network.writeBytes(nodeSession.getToken());
+              network.beginRequest(request.getCommand(), nodeSession.getSessionId(), nodeSession.getToken());
               request.write(network, session);
             } finally {
               endRequest(network);
@@ -1386,9 +1552,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     OStorageRemoteNodeSession nodeSession = session.getOrCreateServerSession(network.getServerURL());
     OOpen37Request request = new OOpen37Request(name, session.connectionUserName, session.connectionUserPassword);
     try {
-      network.writeByte(request.getCommand());
-      network.writeInt(nodeSession.getSessionId());
-      network.writeBytes(null);
+      network.beginRequest(request.getCommand(), nodeSession.getSessionId(), null);
       request.write(network, session);
     } finally {
       endRequest(network);
@@ -1398,6 +1562,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     try {
       network.beginResponse(nodeSession.getSessionId(), true);
       response.read(network, session);
+      network.markResponseRead();
     } finally {
       endResponse(network);
       connectionManager.release(network);
@@ -1774,6 +1939,26 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     return network;
   }
 
+  /**
+   * Returns one of the channels shared by all threads with the write lock acquired, or a channel from the pool if the server does
+   * not support pipelining.
+   */
+  public OChannelBinaryAsynchClient getPipelinedNetwork(final String iCurrentURL) {
+    final OChannelBinaryAsynchClient network;
+    try {
+      network = connectionManager.acquirePipelined(iCurrentURL, clientConfiguration);
+    } catch (OIOException cause) {
+      throw cause;
+    } catch (Exception cause) {
+      throw OException.wrapException(new OStorageException("Cannot open a connection to remote server: " + iCurrentURL), cause);
+    }
+    return network != null ? network : getNetwork(iCurrentURL);
+  }
+
+  private boolean isPipeliningEnabled() {
+    return clientConfiguration.getValueAsBoolean(OGlobalConfiguration.CLIENT_CHANNEL_PIPELINING);
+  }
+
   public void beginResponse(OChannelBinaryAsynchClient iNetwork, OStorageRemoteSession session) throws IOException {
     OStorageRemoteNodeSession nodeSession = session.getServerSession(iNetwork.getServerURL());
     byte[] newToken = iNetwork.beginResponse(nodeSession.getSessionId(), true);
@@ -5,6 +5,7 @@ import com.orientechnologies.orient.client.remote.OStorageRemoteSession;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializer;
 import com.orientechnologies.orient.core.sql.executor.*;
+import com.orientechnologies.orient.enterprise.channel.OChannel;
 import com.orientechnologies.orient.enterprise.channel.binary.OChannelDataInput;
 import com.orientechnologies.orient.enterprise.channel.binary.OChannelDataOutput;
 
@@ -29,6 +30,7 @@ public class OQueryResponse implements OBinaryResponse {
   private boolean                  hasNextPage;
   private Map<String, Long>        queryStats;
   private boolean                  reloadMetadata;
+  private long                     resultBytes;
 
   public OQueryResponse(String queryId, boolean txChanges, List<OResultInternal> result, Optional<OExecutionPlan> executionPlan,
       boolean hasNextPage, Map<String, Long> queryStats, boolean reloadMetadata) {
@@ -69,9 +71,12 @@ public class OQueryResponse implements OBinaryResponse {
     int prefetched = network.readInt();
     int size = network.readInt();
     this.result = new ArrayList<>(size);
+    final long receivedBytes = network instanceof OChannel ? ((OChannel) network).getReceivedBytes() : 0;
     while (size-- > 0) {
       result.add(OMessageHelper.readResult(network));
     }
+    if (network instanceof OChannel)
+      resultBytes = ((OChannel) network).getReceivedBytes() - receivedBytes;
     this.hasNextPage = network.readBoolean();
     this.queryStats = readQueryStats(network);
     reloadMetadata = network.readBoolean();
@@ -172,4 +177,11 @@ public class OQueryResponse implements OBinaryResponse {
   public boolean isReloadMetadata() {
     return reloadMetadata;
   }
+
+  /**
+   * Returns amount of bytes of the results of this page received from the network, or 0 if it is unknown.
+   */
+  public long getResultBytes() {
+    return resultBytes;
+  }
 }
@@ -40,6 +40,7 @@ public class OReadRecordIfVersionIsNotLatestResponse implements OBinaryResponse
   private int          version;
   private byte[]       record;
   private Set<ORecord> recordsToSend;
+  private boolean      storageFormat;
   private ORawBuffer   result;
 
   public OReadRecordIfVersionIsNotLatestResponse() {
@@ -52,9 +53,14 @@ public class OReadRecordIfVersionIsNotLatestResponse implements OBinaryResponse
     this.recordsToSend = recordsToSend;
   }
 
+  public OReadRecordIfVersionIsNotLatestResponse(byte recordType, int version, byte[] record, Set<ORecord> recordsToSend, boolean storageFormat) {
+    this(recordType, version, record, recordsToSend);
+    this.storageFormat = storageFormat;
+  }
+
   public void write(OChannelDataOutput network, int protocolVersion, ORecordSerializer serializer) throws IOException {
     if (record != null) {
-      network.writeByte((byte) 1);
+      network.writeByte(storageFormat ? OReadRecordResponse.RECORD_IN_STORAGE_FORMAT : (byte) 1);
       if (protocolVersion <= OChannelBinaryProtocol.PROTOCOL_VERSION_27) {
         network.writeBytes(record);
         network.writeVersion(version);
@@ -79,8 +85,10 @@ public class OReadRecordIfVersionIsNotLatestResponse implements OBinaryResponse
   @Override
   public void read(OChannelDataInput network, OStorageRemoteSession session) throws IOException {
     ORecordSerializer serializer = ORecordSerializerNetworkV37.INSTANCE;
-    if (network.readByte() == 0)
+    final byte status = network.readByte();
+    if (status == 0)
       return;
+    storageFormat = status == OReadRecordResponse.RECORD_IN_STORAGE_FORMAT;
 
     byte type = network.readByte();
     int recVersion = network.readVersion();
@@ -104,4 +112,11 @@ public class OReadRecordIfVersionIsNotLatestResponse implements OBinaryResponse
     return result;
   }
 
+  /**
+   * @return true if the record was sent in the format of the storage, instead of the format of the network.
+   */
+  public boolean isStorageFormat() {
+    return storageFormat;
+  }
+
 }
\ No newline at end of file
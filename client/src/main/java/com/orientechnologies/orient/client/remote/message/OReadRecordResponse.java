@@ -35,11 +35,14 @@ import java.io.IOException;
 import java.util.Set;
 
 public final class OReadRecordResponse implements OBinaryResponse {
+  // STATUS OF A RECORD SENT IN THE FORMAT OF THE STORAGE, ONLY TO CLIENTS WHICH REQUESTED IT
+  public static final byte RECORD_IN_STORAGE_FORMAT = 3;
 
   private byte         recordType;
   private int          version;
   private byte[]       record;
   private Set<ORecord> recordsToSend;
+  private boolean      storageFormat;
   private ORawBuffer   result;
 
   public OReadRecordResponse() {
@@ -52,9 +55,14 @@ public final class OReadRecordResponse implements OBinaryResponse {
     this.recordsToSend = recordsToSend;
   }
 
+  public OReadRecordResponse(byte recordType, int version, byte[] record, Set<ORecord> recordsToSend, boolean storageFormat) {
+    this(recordType, version, record, recordsToSend);
+    this.storageFormat = storageFormat;
+  }
+
   public void write(OChannelDataOutput network, int protocolVersion, ORecordSerializer serializer) throws IOException {
     if (record != null) {
-      network.writeByte((byte) 1);
+      network.writeByte(storageFormat ? RECORD_IN_STORAGE_FORMAT : (byte) 1);
       if (protocolVersion <= OChannelBinaryProtocol.PROTOCOL_VERSION_27) {
         network.writeBytes(record);
         network.writeVersion(version);
@@ -79,8 +87,10 @@ public final class OReadRecordResponse implements OBinaryResponse {
   @Override
   public void read(OChannelDataInput network, OStorageRemoteSession session) throws IOException {
     ORecordSerializer serializer = ORecordSerializerNetworkV37.INSTANCE;
-    if (network.readByte() == 0)
+    final byte status = network.readByte();
+    if (status == 0)
       return;
+    storageFormat = status == RECORD_IN_STORAGE_FORMAT;
 
     final ORawBuffer buffer;
     final byte type = network.readByte();
@@ -108,4 +118,11 @@ public final class OReadRecordResponse implements OBinaryResponse {
   public ORawBuffer getResult() {
     return result;
   }
+
+  /**
+   * @return true if the record was sent in the format of the storage, instead of the format of the network.
+   */
+  public boolean isStorageFormat() {
+    return storageFormat;
+  }
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.orientechnologies.orient.client.remote.message;
 
+import com.orientechnologies.orient.client.binary.OChannelBinaryAsynchClient;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentRemote;
 import com.orientechnologies.orient.core.sql.executor.OExecutionPlan;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -15,18 +18,21 @@ import java.util.Optional;
  */
 public class ORemoteResultSet implements OResultSet {
 
-  private final ODatabaseDocumentRemote  db;
-  private final String                   queryId;
-  private       List<OResultInternal>    currentPage;
-  private       Optional<OExecutionPlan> executionPlan;
-  private       Map<String, Long>        queryStats;
-  private       boolean                  hasNextPage;
+  private final ODatabaseDocumentRemote    db;
+  private final String                     queryId;
+  private       Deque<OResultInternal>     currentPage;
+  private       Optional<OExecutionPlan>   executionPlan;
+  private       Map<String, Long>          queryStats;
+  private       boolean                    hasNextPage;
+  private       int                        nextPageSize;
+  private       OChannelBinaryAsynchClient prefetchNetwork;
+  private       boolean                    closed;
 
   public ORemoteResultSet(ODatabaseDocumentRemote db, String queryId, List<OResultInternal> currentPage,
       Optional<OExecutionPlan> executionPlan, Map<String, Long> queryStats, boolean hasNextPage) {
     this.db = db;
     this.queryId = queryId;
-    this.currentPage = currentPage;
+    this.currentPage = new ArrayDeque<>(currentPage);
     this.executionPlan = executionPlan;
     this.queryStats = queryStats;
     this.hasNextPage = hasNextPage;
@@ -63,11 +69,16 @@ public class ORemoteResultSet implements OResultSet {
     if (currentPage.isEmpty()) {
       throw new IllegalStateException();
     }
-    return currentPage.remove(0);
+    return currentPage.removeFirst();
   }
 
   @Override
   public void close() {
+    closed = true;
+    if (prefetchNetwork != null) {
+      // THE REQUESTED PAGE HAS TO BE READ BEFORE THE CHANNEL CAN BE REUSED
+      fetchNextPage();
+    }
     if (hasNextPage) {
       // CLOSES THE QUERY SERVER SIDE ONLY IF THERE IS ANOTHER PAGE. THE SERVER ALREADY AUTOMATICALLY CLOSES THE QUERY AFTER SENDING THE LAST PAGE
       db.closeQuery(queryId);
@@ -96,9 +107,37 @@ public class ORemoteResultSet implements OResultSet {
     return queryId;
   }
 
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Returns amount of records to request in the next page, or 0 if the default page size should be used.
+   */
+  public int getNextPageSize() {
+    return nextPageSize;
+  }
+
+  public void setNextPageSize(int nextPageSize) {
+    this.nextPageSize = nextPageSize;
+  }
+
+  /**
+   * Returns the channel on which the next page was already requested and its response was not read yet, or null. The channel is
+   * returned to the pool when the page is read or the result set is closed, and closed if the result set is garbage collected
+   * without being closed.
+   */
+  public OChannelBinaryAsynchClient getPrefetchNetwork() {
+    return prefetchNetwork;
+  }
+
+  public void setPrefetchNetwork(OChannelBinaryAsynchClient prefetchNetwork) {
+    this.prefetchNetwork = prefetchNetwork;
+  }
+
   public void fetched(List<OResultInternal> result, boolean hasNextPage, Optional<OExecutionPlan> executionPlan,
       Map<String, Long> queryStats) {
-    this.currentPage = result;
+    this.currentPage = new ArrayDeque<>(result);
     this.hasNextPage = hasNextPage;
 
     if (queryStats != null) {
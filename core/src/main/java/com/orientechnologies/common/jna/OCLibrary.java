@@ -17,6 +17,21 @@ public interface OCLibrary extends Library {
 
   int RLIMIT_NOFILE = 7;
 
+  /**
+   * Flag of {@link #open(String, int)}, the file is opened in read only mode.
+   */
+  int O_RDONLY = 0;
+
+  /**
+   * Advice of {@link #posix_fadvise(int, long, long, int)}, the specified data will be accessed sequentially.
+   */
+  int POSIX_FADV_SEQUENTIAL = 2;
+
+  /**
+   * Advice of {@link #posix_fadvise(int, long, long, int)}, the specified data will be accessed in the near future.
+   */
+  int POSIX_FADV_WILLNEED = 3;
+
   /**
    * Denotes no limit on a resource.
    */
@@ -60,4 +75,7 @@ public interface OCLibrary extends Library {
   int fallocate(int fd, int mode, long offset, long len) throws LastErrorException;
 
   int close(int fd) throws LastErrorException;
+
+  // see man(2) posix_fadvise, returns error number instead of setting errno
+  int posix_fadvise(int fd, long offset, long len, int advice);
 }
@@ -222,6 +222,33 @@ public class ONative {
     return C_LIBRARY.close(fd);
   }
 
+  /**
+   * Opens file in read only mode, available only on Linux.
+   *
+   * @return file descriptor
+   */
+  public int openForRead(String path) throws LastErrorException {
+    return C_LIBRARY.open(path, OCLibrary.O_RDONLY);
+  }
+
+  /**
+   * Announces to the kernel the pattern of access of the file data, available only on Linux.
+   *
+   * @param advice one of <code>OCLibrary.POSIX_FADV_*</code> constants
+   *
+   * @return <code>0</code> if call was successful and error number otherwise
+   */
+  public int fadvise(int fd, long offset, long len, int advice) {
+    return C_LIBRARY.posix_fadvise(fd, offset, len, advice);
+  }
+
+  /**
+   * @return <code>true</code> if native calls which work with file descriptors are available
+   */
+  public boolean isFileAdviceSupported() {
+    return C_LIBRARY != null;
+  }
+
   private long updateMemoryLimit(long memoryLimit, final long newMemoryLimit) {
     if (newMemoryLimit <= 0) {
       return memoryLimit;
@@ -20,6 +20,7 @@
 
 package com.orientechnologies.common.serialization.types;
 
+import com.orientechnologies.common.comparator.ODefaultComparator;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALChanges;
 
 import java.nio.ByteBuffer;
@@ -235,4 +236,26 @@ public interface OBinarySerializer<T> {
    * @return Size of serialized object.
    */
   int getObjectSizeInByteBuffer(ByteBuffer buffer, OWALChanges walChanges, int offset);
+
+  /**
+   * Compares object which is serialized in buffer with passed in object, result of comparison is the same as result of call of
+   * {@link ODefaultComparator#compare(Object, Object)} on deserialized object and passed in object.
+   * <p>
+   * Binary format of object is expected to be the same as binary format of {@link #serializeNativeObject(Object, byte[], int,
+   * Object...)}. Buffer is read using absolute offsets, so its position is not changed and buffer may be shared between threads.
+   * <p>
+   * Default implementation deserializes object, serializers override it to compare objects without deserialization.
+   *
+   * @param buffer Buffer which contains serialized presentation of object.
+   * @param offset Offset of binary presentation of object inside of byte buffer.
+   * @param object Object to compare with.
+   *
+   * @return Negative number, zero or positive number if serialized object is less than, equal to or greater than passed in object.
+   */
+  default int compareInByteBuffer(ByteBuffer buffer, int offset, T object) {
+    final ByteBuffer duplicate = buffer.duplicate().order(buffer.order());
+    duplicate.position(offset);
+
+    return ODefaultComparator.INSTANCE.compare(deserializeFromByteBufferObject(duplicate), object);
+  }
 }
@@ -133,6 +133,14 @@ public class OIntegerSerializer implements OBinarySerializer<Integer> {
     return INT_SIZE;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int compareInByteBuffer(ByteBuffer buffer, int offset, Integer object) {
+    return Integer.compare(buffer.getInt(offset), object);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -139,6 +139,14 @@ public class OLongSerializer implements OBinarySerializer<Long> {
     return LONG_SIZE;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int compareInByteBuffer(ByteBuffer buffer, int offset, Long object) {
+    return Long.compare(buffer.getLong(offset), object);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -178,6 +178,31 @@ public class OStringSerializer implements OBinarySerializer<String> {
     return buffer.getInt() * 2 + OIntegerSerializer.INT_SIZE;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Characters are compared one by one directly in the buffer, the same way as {@link String#compareTo(String)} does it.
+   */
+  @Override
+  public int compareInByteBuffer(ByteBuffer buffer, int offset, String object) {
+    final int len = buffer.getInt(offset);
+    final int otherLen = object.length();
+    final int minLen = Math.min(len, otherLen);
+
+    int position = offset + OIntegerSerializer.INT_SIZE;
+    for (int i = 0; i < minLen; i++) {
+      final char character = (char) ((0xFF & buffer.get(position)) | ((0xFF & buffer.get(position + 1)) << 8));
+      final char otherCharacter = object.charAt(i);
+
+      if (character != otherCharacter)
+        return character - otherCharacter;
+
+      position += 2;
+    }
+
+    return len - otherLen;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,237 @@
+/*
+  *
+  *  *  Copyright 2014 Orient Technologies LTD (info(at)orientechnologies.com)
+  *  *
+  *  *  Licensed under the Apache License, Version 2.0 (the "License");
+  *  *  you may not use this file except in compliance with the License.
+  *  *  You may obtain a copy of the License at
+  *  *
+  *  *       http://www.apache.org/licenses/LICENSE-2.0
+  *  *
+  *  *  Unless required by applicable law or agreed to in writing, software
+  *  *  distributed under the License is distributed on an "AS IS" BASIS,
+  *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  *  *  See the License for the specific language governing permissions and
+  *  *  limitations under the License.
+  *  *
+  *  * For more information: http://www.orientechnologies.com
+  *
+  */
+
+package com.orientechnologies.orient.core.compression.impl;
+
+/**
+ * Pure Java compression implementation of the LZ4 block format, which trades compression ratio for speed. Compressed content is
+ * prefixed by the length of the uncompressed content as 4 bytes int.
+ */
+public class OLZ4Compression extends OAbstractCompression {
+  public static final OLZ4Compression INSTANCE = new OLZ4Compression();
+  public static final String          NAME     = "lz4";
+
+  private static final int MIN_MATCH     = 4;
+  private static final int LAST_LITERALS = 5;
+  private static final int MF_LIMIT      = 12;
+  private static final int MAX_DISTANCE  = 0xFFFF;
+  private static final int HASH_LOG      = 12;
+  private static final int RUN_MASK      = 0x0F;
+
+  @Override
+  public byte[] compress(final byte[] content, final int offset, final int length) {
+    final byte[] buffer = new byte[4 + length + length / 255 + 16];
+    writeInt(buffer, 0, length);
+
+    int op = 4;
+    int anchor = offset;
+    final int end = offset + length;
+
+    if (length >= MF_LIMIT) {
+      final int[] table = new int[1 << HASH_LOG];
+      final int matchLimit = end - LAST_LITERALS;
+      final int mfLimit = end - MF_LIMIT;
+
+      int ip = offset;
+      while (ip < mfLimit) {
+        final int sequence = readInt(content, ip);
+        final int hash = hash(sequence);
+        int ref = table[hash] - 1 + offset;
+        table[hash] = ip - offset + 1;
+
+        if (ref < offset || ip - ref > MAX_DISTANCE || readInt(content, ref) != sequence) {
+          // SKIP FASTER THROUGH CONTENT WITHOUT MATCHES
+          ip += 1 + ((ip - anchor) >>> 6);
+          continue;
+        }
+
+        while (ip > anchor && ref > offset && content[ip - 1] == content[ref - 1]) {
+          ip--;
+          ref--;
+        }
+
+        int matchLength = MIN_MATCH;
+        while (ip + matchLength < matchLimit && content[ip + matchLength] == content[ref + matchLength])
+          matchLength++;
+
+        op = writeSequence(content, anchor, ip - anchor, buffer, op, ip - ref, matchLength);
+        ip += matchLength;
+        anchor = ip;
+
+        if (ip < mfLimit)
+          table[hash(readInt(content, ip - 2))] = ip - 2 - offset + 1;
+      }
+    }
+
+    op = writeLiterals(content, anchor, end - anchor, buffer, op, 0);
+
+    final byte[] result = new byte[op];
+    System.arraycopy(buffer, 0, result, 0, op);
+    return result;
+  }
+
+  @Override
+  public byte[] uncompress(final byte[] content, final int offset, final int length) {
+    return uncompress(content, offset, length, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Uncompresses the content checking that it does not declare more than <code>maxLength</code> bytes and that every sequence
+   * stays inside of the content and of the uncompressed result, to be used with content received from untrusted sources.
+   *
+   * @throws IllegalArgumentException if the content is corrupted or larger than <code>maxLength</code> once uncompressed.
+   */
+  public byte[] uncompress(final byte[] content, final int offset, final int length, final int maxLength) {
+    if (length < 4)
+      throw new IllegalArgumentException("Corrupted LZ4 content: missing uncompressed length");
+
+    final int uncompressedLength = readInt(content, offset);
+    if (uncompressedLength < 0 || uncompressedLength > maxLength)
+      throw new IllegalArgumentException(
+          "Corrupted LZ4 content: invalid uncompressed length " + uncompressedLength + " (max " + maxLength + ")");
+
+    final byte[] result = new byte[uncompressedLength];
+
+    int ip = offset + 4;
+    int op = 0;
+    final int end = offset + length;
+    while (ip < end) {
+      final int token = content[ip++] & 0xFF;
+
+      int literals = token >>> 4;
+      if (literals == RUN_MASK) {
+        int b;
+        do {
+          checkInput(ip, 1, end);
+          b = content[ip++] & 0xFF;
+          literals += b;
+        } while (b == 0xFF);
+      }
+      checkInput(ip, literals, end);
+      checkOutput(op, literals, result.length);
+      System.arraycopy(content, ip, result, op, literals);
+      ip += literals;
+      op += literals;
+
+      if (ip >= end)
+        break;
+
+      checkInput(ip, 2, end);
+      final int distance = (content[ip] & 0xFF) | ((content[ip + 1] & 0xFF) << 8);
+      ip += 2;
+      if (distance == 0 || distance > op)
+        throw new IllegalArgumentException("Corrupted LZ4 content: invalid match distance " + distance + " at " + op);
+
+      int matchLength = token & RUN_MASK;
+      if (matchLength == RUN_MASK) {
+        int b;
+        do {
+          checkInput(ip, 1, end);
+          b = content[ip++] & 0xFF;
+          matchLength += b;
+        } while (b == 0xFF);
+      }
+      matchLength += MIN_MATCH;
+      checkOutput(op, matchLength, result.length);
+
+      final int ref = op - distance;
+      if (distance >= matchLength)
+        System.arraycopy(result, ref, result, op, matchLength);
+      else
+        // OVERLAPPING MATCH REPEATS THE LAST BYTES
+        for (int i = 0; i < matchLength; i++)
+          result[op + i] = result[ref + i];
+      op += matchLength;
+    }
+
+    if (op != result.length)
+      throw new IllegalArgumentException("Corrupted LZ4 content: expected " + result.length + " bytes but found " + op);
+    return result;
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  private static int writeSequence(final byte[] content, final int literalsOffset, final int literals, final byte[] buffer, int op,
+      final int distance, final int matchLength) {
+    final int tokenPosition = op;
+    op = writeLiterals(content, literalsOffset, literals, buffer, op, 0);
+
+    buffer[op++] = (byte) distance;
+    buffer[op++] = (byte) (distance >>> 8);
+
+    int length = matchLength - MIN_MATCH;
+    if (length >= RUN_MASK) {
+      buffer[tokenPosition] |= RUN_MASK;
+      op = writeLength(buffer, op, length - RUN_MASK);
+    } else
+      buffer[tokenPosition] |= length;
+    return op;
+  }
+
+  private static int writeLiterals(final byte[] content, final int literalsOffset, final int literals, final byte[] buffer, int op,
+      final int matchToken) {
+    if (literals >= RUN_MASK) {
+      buffer[op++] = (byte) (RUN_MASK << 4 | matchToken);
+      op = writeLength(buffer, op, literals - RUN_MASK);
+    } else
+      buffer[op++] = (byte) (literals << 4 | matchToken);
+
+    System.arraycopy(content, literalsOffset, buffer, op, literals);
+    return op + literals;
+  }
+
+  private static int writeLength(final byte[] buffer, int op, int length) {
+    while (length >= 0xFF) {
+      buffer[op++] = (byte) 0xFF;
+      length -= 0xFF;
+    }
+    buffer[op++] = (byte) length;
+    return op;
+  }
+
+  private static void checkInput(final int ip, final int count, final int end) {
+    if (count > end - ip)
+      throw new IllegalArgumentException("Corrupted LZ4 content: sequence exceeds the compressed content");
+  }
+
+  private static void checkOutput(final int op, final int count, final int length) {
+    if (count > length - op)
+      throw new IllegalArgumentException("Corrupted LZ4 content: sequence exceeds the uncompressed length");
+  }
+
+  private static int hash(final int sequence) {
+    return (sequence * -1640531535) >>> (32 - HASH_LOG);
+  }
+
+  private static int readInt(final byte[] buffer, final int offset) {
+    return (buffer[offset] & 0xFF) << 24 | (buffer[offset + 1] & 0xFF) << 16 | (buffer[offset + 2] & 0xFF) << 8
+        | (buffer[offset + 3] & 0xFF);
+  }
+
+  private static void writeInt(final byte[] buffer, final int offset, final int value) {
+    buffer[offset] = (byte) (value >>> 24);
+    buffer[offset + 1] = (byte) (value >>> 16);
+    buffer[offset + 2] = (byte) (value >>> 8);
+    buffer[offset + 3] = (byte) value;
+  }
+}
@@ -138,6 +138,10 @@ public enum OGlobalConfiguration {
         }
       }),
 
+  DISK_CACHE_EVICTION_POLICY("storage.diskCache.evictionPolicy",
+      "Eviction policy of disk cache: '2Q' or 'WTinyLFU'. 'WTinyLFU' policy does not take global locks on page access and scales "
+          + "better with the amount of threads, it is applied on engine startup", String.class, "2Q"),
+
   DISK_WRITE_CACHE_PART("storage.diskCache.writeCachePart", "Percentage of disk cache, which is used as write cache", Integer.class,
       15),
 
@@ -250,6 +254,17 @@ public enum OGlobalConfiguration {
 
   WAL_COMMIT_TIMEOUT("storage.wal.commitTimeout", "Maximum interval between WAL commits (in ms.)", Integer.class, 1000),
 
+  WAL_GROUP_COMMIT("storage.wal.groupCommit",
+      "Commits wait till their changes are forced to the disk, and concurrent commits share the same WAL flush (group commit)",
+      Boolean.class, false),
+
+  WAL_GROUP_COMMIT_MAX_DELAY("storage.wal.groupCommitMaxDelay",
+      "Maximum time (in microseconds) a WAL flush may be delayed to wait for other concurrent commits, if group commit is enabled. "
+          + "The actual delay adapts to the rate of commits", Integer.class, 2000),
+
+  WAL_MAPPED_READ("storage.wal.mappedRead",
+      "Read WAL segments which are not written any more through memory mapped files. Ignored on Windows", Boolean.class, true),
+
   WAL_SHUTDOWN_TIMEOUT("storage.wal.shutdownTimeout", "Maximum wait interval between events, when the background flush thread"
       + "receives a shutdown command and when the background flush will be stopped (in ms.)", Integer.class, 10000),
 
@@ -263,6 +278,10 @@ public enum OGlobalConfiguration {
   WAL_RESTORE_BATCH_SIZE("storage.wal.restore.batchSize",
       "Amount of WAL records, which are read at once in a single batch during a restore procedure", Integer.class, 1000),
 
+  WAL_RESTORE_THREADS("storage.wal.restore.threads",
+      "Amount of threads which apply page changes during a restore procedure. Changes of the same page are always applied by the same "
+          + "thread in the order they were logged. 1 means that data are restored by a single thread", Integer.class, 1),
+
   @Deprecated WAL_READ_CACHE_SIZE("storage.wal.readCacheSize", "Size of WAL read cache in amount of pages", Integer.class, 1000),
 
   WAL_FUZZY_CHECKPOINT_SHUTDOWN_TIMEOUT("storage.wal.fuzzyCheckpointShutdownWait",
@@ -301,6 +320,14 @@ public enum OGlobalConfiguration {
   PAGINATED_STORAGE_LOWEST_FREELIST_BOUNDARY("storage.lowestFreeListBound",
       "The least amount of free space (in kb) in a page, which is tracked in paginated storage", Integer.class, 16),
 
+  PAGINATED_STORAGE_COMPACTION_FREE_SPACE("storage.compactionFreeSpace",
+      "The least amount of free space (in kb) in a page of cluster, records of which are moved to other pages "
+          + "during compaction of the cluster", Integer.class, 32),
+
+  PAGINATED_STORAGE_COMPACTION_DELAY("storage.compactionDelay",
+      "Pause (in ms) between portions of records moved during compaction of cluster, it limits impact of compaction "
+          + "on concurrent operations. 0 means no pause", Integer.class, 10),
+
   STORAGE_LOCK_TIMEOUT("storage.lockTimeout", "Maximum amount of time (in ms) to lock the storage", Integer.class, 0),
 
   STORAGE_RECORD_LOCK_TIMEOUT("storage.record.lockTimeout", "Maximum of time (in ms) to lock a shared record", Integer.class, 2000),
@@ -396,6 +423,42 @@ public enum OGlobalConfiguration {
 
   INDEX_CURSOR_PREFETCH_SIZE("index.cursor.prefetchSize", "Default prefetch size of index cursor", Integer.class, 10000),
 
+  INDEX_BULK_LOAD("index.bulkLoad",
+      "Fill unique SB-tree indexes by sorting of keys and bottom-up write of tree pages during index creation and rebuild "
+          + "instead of insertion of keys one by one", Boolean.class, true),
+
+  INDEX_BULK_LOAD_FILL_FACTOR("index.bulkLoad.fillFactor",
+      "Percent of the page space which is filled by entries during bulk load of index, the rest of the space is left for "
+          + "further insertions (90 by default)", Integer.class, 90),
+
+  INDEX_BULK_LOAD_SORT_BUFFER_SIZE("index.bulkLoad.sortBufferSize",
+      "Amount of index entries which are sorted in memory by every thread during bulk load of index, "
+          + "before they are written to a temporary file", Integer.class, 200000),
+
+  INDEX_BULK_LOAD_THREADS("index.bulkLoad.threads",
+      "Maximum number of threads which extract index keys from clusters in parallel during bulk load of index", Integer.class,
+      Runtime.getRuntime().availableProcessors()),
+
+  INDEX_REBUILD_THREADS("index.rebuild.threads",
+      "Maximum number of threads which scan clusters in parallel during index creation and rebuild if keys are put in the index "
+          + "one by one", Integer.class, Runtime.getRuntime().availableProcessors()),
+
+  INDEX_REBUILD_BATCH_SIZE("index.rebuild.batchSize",
+      "Amount of index entries which are put in the index inside of single atomic operation during index creation and rebuild",
+      Integer.class, 1000),
+
+  INDEX_AUTO_REBUILD_THREADS("index.auto.rebuildThreads",
+      "Maximum number of indexes which are rebuilt in parallel when indexes are recreated after crash", Integer.class,
+      Math.max(1, Runtime.getRuntime().availableProcessors() / 2)),
+
+  INDEX_BLOOM_FILTER("index.bloomFilter",
+      "Keep in memory Bloom filter of keys of SB-tree and hash indexes, so look ups of absent keys do not load index pages. "
+          + "Used for indexes which are created without explicit \"bloomFilter\" metadata field", Boolean.class, false),
+
+  INDEX_BLOOM_FILTER_FALSE_POSITIVE_RATE("index.bloomFilter.falsePositiveRate",
+      "Expected rate of look ups of absent keys which are not filtered out by Bloom filter of index (0.01 by default)",
+      Float.class, 0.01),
+
   // SBTREE
   SBTREE_MAX_DEPTH("sbtree.maxDepth",
       "Maximum depth of sbtree, which will be traversed during key look up until it will be treated as broken (64 by default)",
@@ -408,6 +471,11 @@ public enum OGlobalConfiguration {
       "Maximum size of value which can be put in an SBTree without creation link to a standalone page in bytes (40960 by default)",
       Integer.class, 40960),
 
+  SBTREE_KEY_COMPRESSION("sbtree.keyCompression",
+      "Store keys of new pages of SBTree in normalized form with common prefix of the page kept only once and shorten separator keys "
+          + "of non-leaf pages. Pages which were written before are read as is. Applied only to not encrypted indexes which keys consist "
+          + "of strings, integer numbers, booleans, links and date-times", Boolean.class, false),
+
   SBTREEBONSAI_BUCKET_SIZE("sbtreebonsai.bucketSize",
       "Size of bucket in OSBTreeBonsai (in kB). Contract: bucketSize < storagePageSize, storagePageSize % bucketSize == 0",
       Integer.class, 2),
@@ -498,6 +566,26 @@ public enum OGlobalConfiguration {
   NETWORK_BINARY_DEBUG("network.binary.debug", "Debug mode: print all data incoming on the binary channel", Boolean.class, false,
       true),
 
+  NETWORK_BINARY_NIO_ENABLED("network.binary.nio.enabled",
+      "Serves binary connections by a selector thread and a pool of worker threads instead of a thread per connection, so idle connections do not hold a thread. Not supported by SSL sockets",
+      Boolean.class, false),
+
+  NETWORK_BINARY_NIO_WORKERS("network.binary.nio.workers",
+      "Maximum number of threads which execute requests of binary connections if 'network.binary.nio.enabled' is set",
+      Integer.class, Runtime.getRuntime().availableProcessors() << 3),
+
+  NETWORK_BINARY_NIO_SHUTDOWN_TIMEOUT("network.binary.nio.shutdownTimeout",
+      "Maximum time (in ms) to wait on server shutdown for the requests which are executed by the workers if 'network.binary.nio.enabled' is set",
+      Integer.class, 30000),
+
+  NETWORK_BINARY_COMPRESSION("network.binary.compression",
+      "Compressions of the network frames that the server accepts when requested by the client of a binary connection, comma separated. Empty to refuse the compression",
+      String.class, "lz4"),
+
+  NETWORK_BINARY_RECORD_STORAGE_FORMAT("network.binary.recordStorageFormat",
+      "Sends the loaded records in the format of the storage, without converting them, to the clients of binary connections which requested it",
+      Boolean.class, true),
+
   // HTTP
 
   /**
@@ -641,6 +729,17 @@ public enum OGlobalConfiguration {
       "The size of a remote ResultSet page, ie. the number of records"
           + "that are fetched together during remote query execution. This has to be set on the client.", Integer.class, 100),
 
+  QUERY_REMOTE_RESULTSET_PAGE_BYTES("query.remoteResultSet.pageBytes",
+      "The approximate size in bytes of the next pages of a remote ResultSet. The number of records of the next page is adapted to the size "
+          + "of the records of the previous page. 0 means that all the pages have 'query.remoteResultSet.pageSize' records. "
+          + "This has to be set on the client.", Integer.class, 0),
+
+  QUERY_REMOTE_RESULTSET_PREFETCH("query.remoteResultSet.prefetch",
+      "Request the next page of a remote ResultSet as soon as the current page is received, so the next page is transferred "
+          + "while the current one is consumed. Every prefetched page holds a pooled channel till it is read, so result sets have to be "
+          + "closed, and at most half of 'client.channel.maxPool' pages are prefetched at once. This has to be set on the client.",
+      Boolean.class, false),
+
   QUERY_REMOTE_SEND_EXECUTION_PLAN("query.remoteResultSet.sendExecutionPlan",
       "Send the execution plan details or not. False by default", Boolean.class, false),
 
@@ -653,10 +752,31 @@ public enum OGlobalConfiguration {
       "Size of the queue that holds results on parallel execution. The queue is blocking, so in case the queue is full, the query threads will be in a wait state",
       Integer.class, 20000),
 
+  QUERY_PARALLEL_MAX_THREADS("query.parallelMaxThreads",
+      "Maximum number of threads used by a single query to execute its sub-plans in parallel (eg. scans of the clusters of a class)",
+      Integer.class, Runtime.getRuntime().availableProcessors()),
+
+  QUERY_PARALLEL_PREFETCH_BATCHES("query.parallelPrefetchBatches",
+      "Number of batches of records that each parallel sub-plan can prefetch before waiting for the consumer of the results",
+      Integer.class, 4),
+
+  QUERY_MEMORY_LIMIT_PER_OPERATION("query.memoryLimitPerOperation",
+      "Maximum amount of heap memory (in MB) that a blocking operation of a query (eg. ORDER BY) can use to hold intermediate results. "
+          + "When the limit is exceeded the results are written to temporary files. (Use 0 to disable the limit)", Integer.class,
+      256),
+
+  QUERY_SPILL_DIRECTORY("query.spillDirectory",
+      "Directory where query operations write the temporary files of the results that exceed query.memoryLimitPerOperation. "
+          + "If empty the temporary directory of the JVM is used", String.class, ""),
+
   QUERY_SCAN_PREFETCH_PAGES("query.scanPrefetchPages",
       "Pages to prefetch during scan. Setting this value higher makes scans faster, because it reduces the number of I/O operations, though it consumes more memory. (Use 0 to disable)",
       Integer.class, 20),
 
+  QUERY_SCAN_ASYNC_PREFETCH("query.scanAsyncPrefetch",
+      "Read the next query.scanPrefetchPages pages of a cluster in background while the current ones are scanned", Boolean.class,
+      true),
+
   QUERY_SCAN_BATCH_SIZE("query.scanBatchSize",
       "Scan clusters in blocks of records. This setting reduces the lock time on the cluster during scans. A high value mean a faster execution, but also a lower concurrency level. Set to 0 to disable batch scanning. Disabling batch scanning is suggested for read-only databases only",
       Long.class, 1000),
@@ -686,6 +806,41 @@ public enum OGlobalConfiguration {
   CLIENT_CHANNEL_MAX_POOL("client.channel.maxPool",
       "Maximum size of pool of network channels between client and server. A channel is a TCP/IP connection", Integer.class, 100),
 
+  /**
+   * If enabled, synchronous requests of all threads are pipelined over a few shared network channels, instead of taking an
+   * exclusive channel from the pool for each request.
+   */
+  CLIENT_CHANNEL_PIPELINING("client.channel.pipelining",
+      "Pipeline synchronous requests of all threads over a few shared network channels, instead of using an exclusive channel from the pool for each request",
+      Boolean.class, false),
+
+  /**
+   * Amount of shared network channels per server used when pipelining is enabled.
+   */
+  CLIENT_CHANNEL_PIPELINING_CONNECTIONS("client.channel.pipelining.connections",
+      "Amount of shared network channels per server used when pipelining is enabled", Integer.class, 2),
+
+  /**
+   * Compression of the network frames requested to the server for every new connection, empty to not compress them.
+   */
+  CLIENT_CHANNEL_COMPRESSION("client.channel.compression",
+      "Compression of the network frames requested to the server for every new connection (e.g. 'lz4'). Empty to not compress them. If the server does not support it the connection is not compressed",
+      String.class, ""),
+
+  /**
+   * Network frames smaller than this amount of bytes are sent uncompressed.
+   */
+  CLIENT_CHANNEL_COMPRESSION_THRESHOLD("client.channel.compression.threshold",
+      "Network frames smaller than this amount of bytes are sent uncompressed by both the client and the server", Integer.class,
+      1024),
+
+  /**
+   * Asks the server to send the loaded records in the format of the storage, so they are converted by the client.
+   */
+  CLIENT_CHANNEL_RECORD_STORAGE_FORMAT("client.channel.recordStorageFormat",
+      "Asks the server to send the loaded records in the format of the storage, so they are converted by the client instead of by the server",
+      Boolean.class, false),
+
   /**
    * Maximum time, where the client should wait for a connection from the pool, when all connections busy.
    */
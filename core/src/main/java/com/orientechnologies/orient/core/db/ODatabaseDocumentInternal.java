@@ -41,6 +41,8 @@ import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollection
 import com.orientechnologies.orient.core.tx.OTransaction;
 import com.orientechnologies.orient.core.tx.OTransactionInternal;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 public interface ODatabaseDocumentInternal extends ODatabaseSession, ODatabaseInternal<ORecord> {
@@ -115,6 +117,14 @@ public interface ODatabaseDocumentInternal extends ODatabaseSession, ODatabaseIn
       final boolean ignoreCache, final boolean iUpdateCache, final boolean loadTombstones,
       final OStorage.LOCKING_STRATEGY lockingStrategy, RecordReader recordReader);
 
+  /**
+   * Loads several records at once. Records which are absent in local cache are read from storage in one batch, records which
+   * are loaded inside of active transaction are loaded one by one.
+   *
+   * @return Loaded records in the same order as passed in RIDs, absent records are skipped.
+   */
+  List<ORecord> loadRecords(Collection<? extends ORID> rids);
+
   <RET extends ORecord> RET executeSaveRecord(final ORecord record, String clusterName, final int ver, final OPERATION_MODE mode,
       boolean forceCreate, final ORecordCallback<? extends Number> recordCreatedCallback,
       ORecordCallback<Integer> recordUpdatedCallback);
@@ -0,0 +1,35 @@
+package com.orientechnologies.orient.core.db.document;
+
+import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.OStorage;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Returns records which were read from storage in one batch, records which were not part of the batch are read from storage.
+ *
+ * @Internal
+ */
+public final class BatchRecordReader implements RecordReader {
+  private final Set<ORID>             batchRids;
+  private final Map<ORID, ORawBuffer> buffers;
+
+  public BatchRecordReader(Set<ORID> batchRids, Map<ORID, ORawBuffer> buffers) {
+    this.batchRids = batchRids;
+    this.buffers = buffers;
+  }
+
+  @Override
+  public ORawBuffer readRecord(OStorage storage, ORecordId rid, String fetchPlan, boolean ignoreCache, final int recordVersion)
+      throws ORecordNotFoundException {
+    if (batchRids.contains(rid))
+      return buffers.get(rid);
+
+    // record was found in local cache before the batch was read, but was evicted from the cache since then
+    return storage.readRecord(rid, fetchPlan, ignoreCache, false, null).getResult();
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db.document;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OValidationException;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
+import com.orientechnologies.orient.core.metadata.security.ORole;
+import com.orientechnologies.orient.core.metadata.security.ORule;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODirtyManager;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.ORecordSerializationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Inserts new records in batches. Records are collected per cluster and when batch is full all of them are passed to the storage
+ * at once, so storage fills cluster pages one by one inside of single atomic operation instead of modification of the same page
+ * for each record.
+ * <p>
+ * Record hooks are not called for records inserted by this class and records are not added to the local cache. Records which
+ * need hooks or indexes to be maintained, that is records of classes which have indexes, security, function, sequence, scheduler
+ * and triggered classes and records which contain links to not saved records, are saved in usual way. If transaction is active
+ * all records are saved in usual way too.
+ * <p>
+ * Identity of buffered records is not known till the batch is flushed, so listener is called once record gets its final identity.
+ * Buffered records are flushed before a record is saved in usual way, and buffered records which were saved by other means before
+ * the flush are not created again.
+ * This class is not thread safe.
+ */
+public class OBulkRecordInserter implements AutoCloseable {
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
+  private final ODatabaseDocumentInternal         database;
+  private final int                               batchSize;
+  private final Map<Integer, List<PendingRecord>> pendingRecords = new HashMap<>();
+
+  public OBulkRecordInserter(ODatabaseDocumentInternal database) {
+    this(database, DEFAULT_BATCH_SIZE);
+  }
+
+  public OBulkRecordInserter(ODatabaseDocumentInternal database, int batchSize) {
+    if (batchSize <= 0)
+      throw new IllegalArgumentException("Batch size should be positive but was " + batchSize);
+
+    this.database = database;
+    this.batchSize = batchSize;
+  }
+
+  public void insert(ORecord record, String clusterName) {
+    insert(record, clusterName, null);
+  }
+
+  /**
+   * Adds new record to the batch.
+   *
+   * @param record      New record to insert.
+   * @param clusterName Name of cluster where record should be stored or <code>null</code> if cluster should be chosen by record
+   *                    class.
+   * @param listener    Listener which is called when record is stored and its identity is assigned, may be <code>null</code>.
+   */
+  public void insert(ORecord record, String clusterName, Consumer<ORecord> listener) {
+    if (!isBulkInsertAllowed(record)) {
+      // RECORD MAY LINK BUFFERED RECORDS WHICH WOULD BE SAVED BY CASCADE AND THEN CREATED AGAIN BY THE BATCH
+      flush();
+      database.save(record, clusterName);
+
+      if (listener != null)
+        listener.accept(record);
+
+      return;
+    }
+
+    if (record instanceof ODocument) {
+      final ODocument document = (ODocument) record;
+      try {
+        document.validate();
+      } catch (OValidationException e) {
+        document.undo();
+        throw e;
+      }
+
+      ODocumentInternal.convertAllMultiValuesToTrackedVersions(document);
+
+      if (document.getClassName() != null)
+        database.checkSecurity(ORule.ResourceGeneric.CLASS, ORole.PERMISSION_CREATE, document.getClassName());
+    }
+
+    ORecordInternal.onBeforeIdentityChanged(record);
+    final int clusterId = database.assignAndCheckCluster(record, clusterName);
+    database.checkSecurity(ORule.ResourceGeneric.CLUSTER, ORole.PERMISSION_CREATE, database.getClusterNameById(clusterId));
+
+    final List<PendingRecord> records = pendingRecords.computeIfAbsent(clusterId, k -> new ArrayList<>());
+    records.add(new PendingRecord(record, listener));
+
+    if (records.size() >= batchSize) {
+      pendingRecords.remove(clusterId);
+      flush(clusterId, records);
+    }
+  }
+
+  /**
+   * Stores all buffered records.
+   */
+  public void flush() {
+    final List<Map.Entry<Integer, List<PendingRecord>>> entries = new ArrayList<>(pendingRecords.entrySet());
+    pendingRecords.clear();
+
+    for (Map.Entry<Integer, List<PendingRecord>> entry : entries)
+      flush(entry.getKey(), entry.getValue());
+  }
+
+  @Override
+  public void close() {
+    flush();
+  }
+
+  private boolean isBulkInsertAllowed(ORecord record) {
+    if (database.getTransaction().isActive())
+      return false;
+
+    if (!record.getIdentity().isNew())
+      return false;
+
+    final ODirtyManager dirtyManager = ORecordInternal.getDirtyManager(record);
+    if (dirtyManager != null && dirtyManager.getReferences() != null && !dirtyManager.getReferences().isEmpty())
+      return false;
+
+    if (record instanceof ODocument) {
+      final ODocument document = (ODocument) record;
+      ODocumentInternal.checkClass(document, database);
+
+      final OImmutableClass clazz = ODocumentInternal.getImmutableSchemaClass(database, document);
+      if (clazz != null) {
+        if (clazz.isOuser() || clazz.isOrole() || clazz.isRestricted() || clazz.isFunction() || clazz.isSequence() || clazz
+            .isScheduler() || clazz.isTriggered())
+          return false;
+
+        if (!clazz.getIndexes().isEmpty())
+          return false;
+      }
+    }
+
+    return true;
+  }
+
+  private void flush(int clusterId, List<PendingRecord> pending) {
+    // RECORDS SAVED IN THE MEANTIME BY OTHER MEANS ARE ALREADY STORED
+    final List<PendingRecord> records = new ArrayList<>(pending.size());
+    for (PendingRecord pendingRecord : pending) {
+      if (pendingRecord.record.getIdentity().isPersistent()) {
+        if (pendingRecord.listener != null)
+          pendingRecord.listener.accept(pendingRecord.record);
+      } else
+        records.add(pendingRecord);
+    }
+
+    if (records.isEmpty())
+      return;
+
+    final byte[][] contents = new byte[records.size()][];
+    final byte[] recordTypes = new byte[records.size()];
+
+    database.getMetadata().makeThreadLocalSchemaSnapshot();
+    ORecordSerializationContext.pushContext();
+    try {
+      for (int i = 0; i < records.size(); i++) {
+        final ORecord record = records.get(i).record;
+        contents[i] = record.toStream();
+        recordTypes[i] = ORecordInternal.getRecordType(record);
+      }
+
+      final OPhysicalPosition[] positions = database.getStorage().createRecords(clusterId, contents, 0, recordTypes);
+
+      for (int i = 0; i < records.size(); i++) {
+        final PendingRecord pendingRecord = records.get(i);
+        final ORecord record = pendingRecord.record;
+
+        ((ORecordId) record.getIdentity()).setClusterPosition(positions[i].clusterPosition);
+        ORecordInternal.onAfterIdentityChanged(record);
+
+        ORecordInternal.setVersion(record, positions[i].recordVersion);
+        ORecordInternal.unsetDirty(record);
+
+        if (pendingRecord.listener != null)
+          pendingRecord.listener.accept(record);
+      }
+    } finally {
+      ORecordSerializationContext.pullContext();
+      database.getMetadata().clearThreadLocalSchemaSnapshot();
+    }
+  }
+
+  private static final class PendingRecord {
+    private final ORecord           record;
+    private final Consumer<ORecord> listener;
+
+    private PendingRecord(ORecord record, Consumer<ORecord> listener) {
+      this.record = record;
+      this.listener = listener;
+    }
+  }
+}
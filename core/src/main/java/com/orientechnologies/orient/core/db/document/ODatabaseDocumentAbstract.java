@@ -1109,6 +1109,47 @@ public abstract class ODatabaseDocumentAbstract extends OListenerManger<ODatabas
     return (RET) currentTx.loadRecord(recordId, null, null, false);
   }
 
+  @Override
+  public List<ORecord> loadRecords(final Collection<? extends ORID> rids) {
+    checkOpenness();
+    checkIfActive();
+
+    final List<ORecord> result = new ArrayList<>(rids.size());
+
+    // records loaded inside of transaction are tracked by transaction
+    if (getTransaction().isActive() || (microTransaction != null && microTransaction.isActive())) {
+      for (ORID rid : rids) {
+        final ORecord record = load(rid);
+        if (record != null)
+          result.add(record);
+      }
+
+      return result;
+    }
+
+    final OLocalRecordCache localCache = getLocalCache();
+    final Set<ORID> batchRids = new HashSet<>();
+    for (ORID rid : rids) {
+      if (rid.isPersistent() && localCache.findRecord(rid) == null)
+        batchRids.add(rid);
+    }
+
+    final Map<ORID, ORawBuffer> buffers = batchRids.isEmpty() ? Collections.emptyMap() : getStorage().readRecords(batchRids);
+    final RecordReader recordReader = new BatchRecordReader(batchRids, buffers);
+
+    for (ORID rid : rids) {
+      if (rid.isNew())
+        continue;
+
+      final ORecord record = executeReadRecord((ORecordId) rid, null, -1, null, false, true, false,
+          OStorage.LOCKING_STRATEGY.NONE, recordReader);
+      if (record != null)
+        result.add(record);
+    }
+
+    return result;
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public <RET extends ORecord> RET load(final ORID iRecordId, final String iFetchPlan) {
@@ -1358,7 +1399,12 @@ public abstract class ODatabaseDocumentAbstract extends OListenerManger<ODatabas
       if (beforeReadOperations(iRecord))
         return null;
 
+      // A REUSED RECORD MAY HAVE BEEN FILLED BEFORE BY A SERIALIZER OTHER THAN THE ONE OF THE BUFFER
+      ORecordInternal.setRecordSerializer(iRecord, recordBuffer.recordFormat != null ? recordBuffer.recordFormat : getSerializer());
       iRecord.fromStream(recordBuffer.buffer);
+      if (recordBuffer.recordFormat != null && iRecord instanceof ODocument)
+        // THE PROPERTIES OF THE BUFFER ARE RESOLVED BY THE SCHEMA OF THIS DATABASE, SO THEY CANNOT BE READ LAZILY
+        ((ODocument) iRecord).deserializeFields();
 
       afterReadOperations(iRecord);
       if (iUpdateCache)
@@ -2754,4 +2800,4 @@ public abstract class ODatabaseDocumentAbstract extends OListenerManger<ODatabas
       return true;
     return false;
   }
-}
\ No newline at end of file
+}
\ No newline at end of file
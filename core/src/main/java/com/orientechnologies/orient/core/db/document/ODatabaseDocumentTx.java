@@ -609,6 +609,12 @@ public class ODatabaseDocumentTx implements ODatabaseDocumentInternal {
     return internal.reload(iObject, iFetchPlan, iIgnoreCache, force);
   }
 
+  @Override
+  public List<ORecord> loadRecords(Collection<? extends ORID> rids) {
+    checkOpenness();
+    return internal.loadRecords(rids);
+  }
+
   @Override
   public <RET extends ORecord> RET load(ORID recordId) {
     checkOpenness();
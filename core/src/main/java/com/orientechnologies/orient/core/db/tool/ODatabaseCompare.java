@@ -44,6 +44,7 @@ import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OProperty;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ORecordInternal;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.record.impl.ODocumentHelper;
 import com.orientechnologies.orient.core.record.impl.ODocumentHelper.ODbRelatedCall;
@@ -812,6 +813,8 @@ public class ODatabaseCompare extends ODatabaseImpExpAbstract {
                   makeDbCall(databaseOne, new ODocumentHelper.ODbRelatedCall<Object>() {
                     public Object call(ODatabaseDocumentInternal database) {
                       doc1.reset();
+                      ORecordInternal
+                          .setRecordSerializer(doc1, buffer1.recordFormat != null ? buffer1.recordFormat : database.getSerializer());
                       doc1.fromStream(buffer1.buffer);
                       return null;
                     }
@@ -820,6 +823,8 @@ public class ODatabaseCompare extends ODatabaseImpExpAbstract {
                   makeDbCall(databaseTwo, new ODocumentHelper.ODbRelatedCall<Object>() {
                     public Object call(ODatabaseDocumentInternal database) {
                       doc2.reset();
+                      ORecordInternal
+                          .setRecordSerializer(doc2, buffer2.recordFormat != null ? buffer2.recordFormat : database.getSerializer());
                       doc2.fromStream(buffer2.buffer);
                       return null;
                     }
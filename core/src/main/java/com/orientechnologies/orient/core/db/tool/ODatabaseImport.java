@@ -28,6 +28,7 @@ import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabase.STATUS;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.document.OBulkRecordInserter;
 import com.orientechnologies.orient.core.db.document.ODocumentFieldWalker;
 import com.orientechnologies.orient.core.db.record.OClassTrigger;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
@@ -119,6 +120,9 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
   private boolean migrateLinks       = true;
   private boolean merge              = false;
   private boolean rebuildIndexes     = true;
+  private boolean bulkInsert         = false;
+
+  private OBulkRecordInserter bulkInserter;
 
   private Set<String>         indexesToRebuild    = new HashSet<String>();
   private Map<String, String> convertedClassNames = new HashMap<String, String>();
@@ -305,6 +309,17 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
     this.rebuildIndexes = rebuildIndexes;
   }
 
+  public boolean isBulkInsert() {
+    return bulkInsert;
+  }
+
+  /**
+   * If set, records are inserted in batches without call of record hooks, see {@link OBulkRecordInserter}.
+   */
+  public void setBulkInsert(boolean bulkInsert) {
+    this.bulkInsert = bulkInsert;
+  }
+
   public boolean isPreserveClusterIDs() {
     return preserveClusterIDs;
   }
@@ -341,6 +356,8 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
       migrateLinks = Boolean.parseBoolean(items.get(0));
     else if (option.equalsIgnoreCase("-rebuildIndexes"))
       rebuildIndexes = Boolean.parseBoolean(items.get(0));
+    else if (option.equalsIgnoreCase("-bulkInsert"))
+      bulkInsert = Boolean.parseBoolean(items.get(0));
     else
       super.parseSetting(option, items);
   }
@@ -1058,6 +1075,9 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
     long last = begin;
     Set<String> involvedClusters = new HashSet<String>();
 
+    if (bulkInsert)
+      bulkInserter = new OBulkRecordInserter(database);
+
     while (jsonReader.lastChar() != ']') {
       rid = importRecord();
 
@@ -1088,6 +1108,11 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
       record = null;
     }
 
+    if (bulkInserter != null) {
+      bulkInserter.flush();
+      bulkInserter = null;
+    }
+
     final Set<ORID> brokenRids = new HashSet<ORID>();
 
     if (exporterVersion >= 12) {
@@ -1212,15 +1237,31 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
         record.setDirty();
         ORecordInternal.setIdentity(record, new ORecordId());
 
-        if (!preserveRids && record instanceof ODocument
-            && ODocumentInternal.getImmutableSchemaClass(database, ((ODocument) record)) != null)
-          record.save();
-        else
-          record.save(database.getClusterNameById(clusterId));
+        if (bulkInserter != null) {
+          final String clusterName;
+          if (!preserveRids && record instanceof ODocument
+              && ODocumentInternal.getImmutableSchemaClass(database, ((ODocument) record)) != null)
+            clusterName = null;
+          else
+            clusterName = database.getClusterNameById(clusterId);
+
+          // IDENTITY IS ASSIGNED WHEN BATCH IS FLUSHED
+          bulkInserter.insert(record, clusterName, importedRecord -> {
+            if (!rid.equals(importedRecord.getIdentity()))
+              // SAVE IT ONLY IF DIFFERENT
+              exportImportHashTable.put(rid, importedRecord.getIdentity());
+          });
+        } else {
+          if (!preserveRids && record instanceof ODocument
+              && ODocumentInternal.getImmutableSchemaClass(database, ((ODocument) record)) != null)
+            record.save();
+          else
+            record.save(database.getClusterNameById(clusterId));
 
-        if (!rid.equals(record.getIdentity()))
-          // SAVE IT ONLY IF DIFFERENT
-          exportImportHashTable.put(rid, record.getIdentity());
+          if (!rid.equals(record.getIdentity()))
+            // SAVE IT ONLY IF DIFFERENT
+            exportImportHashTable.put(rid, record.getIdentity());
+        }
       }
 
     } catch (Exception t) {
@@ -30,7 +30,9 @@ import com.orientechnologies.orient.core.engine.OEngineAbstract;
 import com.orientechnologies.orient.core.engine.OMemoryAndLocalPaginatedEnginesInitializer;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
 import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.cache.local.wtinylfu.OWTinyLFUCache;
 import com.orientechnologies.orient.core.storage.fs.OFileClassic;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
 
@@ -43,7 +45,7 @@ import java.util.Map;
 public class OEngineLocalPaginated extends OEngineAbstract {
   public static final String NAME = "plocal";
 
-  private volatile O2QCache readCache;
+  private volatile OReadCache readCache;
 
   protected final OClosableLinkedContainer<Long, OFileClassic> files = new OClosableLinkedContainer<>(getOpenFilesLimit());
 
@@ -68,11 +70,26 @@ public class OEngineLocalPaginated extends OEngineAbstract {
     OMemoryAndLocalPaginatedEnginesInitializer.INSTANCE.initialize();
     super.startup();
 
-    readCache = new O2QCache(calculateReadCacheMaxMemory(OGlobalConfiguration.DISK_CACHE_SIZE.getValueAsLong() * 1024 * 1024),
-        OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger() * 1024, true,
+    readCache = createReadCache(calculateReadCacheMaxMemory(OGlobalConfiguration.DISK_CACHE_SIZE.getValueAsLong() * 1024 * 1024),
+        OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger() * 1024,
         OGlobalConfiguration.DISK_CACHE_PINNED_PAGES.getValueAsInteger());
   }
 
+  /**
+   * Creates read cache which uses eviction policy defined by {@link OGlobalConfiguration#DISK_CACHE_EVICTION_POLICY}.
+   */
+  private static OReadCache createReadCache(long readCacheMaxMemory, int pageSize, int percentOfPinnedPages) {
+    final String policy = OGlobalConfiguration.DISK_CACHE_EVICTION_POLICY.getValueAsString();
+
+    if ("WTinyLFU".equalsIgnoreCase(policy))
+      return new OWTinyLFUCache(readCacheMaxMemory, pageSize, true, percentOfPinnedPages);
+
+    if (!"2Q".equalsIgnoreCase(policy))
+      OLogManager.instance().warn(OEngineLocalPaginated.class, "Unknown disk cache eviction policy '%s', 2Q policy will be used", policy);
+
+    return new O2QCache(readCacheMaxMemory, pageSize, true, percentOfPinnedPages);
+  }
+
   private long calculateReadCacheMaxMemory(final long cacheSize) {
     return (long) (cacheSize * ((100 - OGlobalConfiguration.DISK_WRITE_CACHE_PART.getValueAsInteger()) / 100.0));
   }
@@ -80,7 +97,7 @@ public class OEngineLocalPaginated extends OEngineAbstract {
   /**
    * @param cacheSize Cache size in bytes.
    *
-   * @see O2QCache#changeMaximumAmountOfMemory(long)
+   * @see OReadCache#changeMaximumAmountOfMemory(long)
    */
   public void changeCacheSize(final long cacheSize) {
     if (readCache != null)
@@ -106,7 +123,7 @@ public class OEngineLocalPaginated extends OEngineAbstract {
     return NAME;
   }
 
-  public O2QCache getReadCache() {
+  public OReadCache getReadCache() {
     return readCache;
   }
 
@@ -0,0 +1,16 @@
+package com.orientechnologies.orient.core.exception;
+
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OClusterFreeSpaceMap;
+
+/**
+ * Exception which is thrown by {@link OClusterFreeSpaceMap} if operation on the map of free space of cluster pages failed.
+ */
+public class OClusterFreeSpaceMapException extends ODurableComponentException {
+  public OClusterFreeSpaceMapException(OClusterFreeSpaceMapException exception) {
+    super(exception);
+  }
+
+  public OClusterFreeSpaceMapException(String message, OClusterFreeSpaceMap component) {
+    super(message, component);
+  }
+}
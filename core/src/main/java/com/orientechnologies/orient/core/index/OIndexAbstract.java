@@ -27,6 +27,8 @@ import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.listener.OProgressListener;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
@@ -34,6 +36,7 @@ import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.exception.OConfigurationException;
 import com.orientechnologies.orient.core.exception.OInvalidIndexEngineIdException;
 import com.orientechnologies.orient.core.exception.OTooBigIndexKeyException;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.ORecord;
@@ -44,20 +47,31 @@ import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.index.sbtree.local.OSBTreeBulkLoader;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OIndexRIDContainer;
 import com.orientechnologies.orient.core.tx.OTransactionIndexChanges;
 import com.orientechnologies.orient.core.tx.OTransactionIndexChangesPerKey;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -502,11 +516,22 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
       if (iProgressListener != null)
         iProgressListener.onBegin(this, documentTotal, rebuild);
 
-      // INDEX ALL CLUSTERS
-      for (final String clusterName : clustersToIndex) {
-        final long[] metrics = indexCluster(clusterName, iProgressListener, documentNum, documentIndexed, documentTotal);
-        documentNum = metrics[0];
-        documentIndexed = metrics[1];
+      final OSBTreeBulkLoader<Object, Object> bulkLoader = documentTotal > 0 ? createBulkLoader() : null;
+      if (bulkLoader != null) {
+        try {
+          documentIndexed = bulkLoad(bulkLoader, iProgressListener, documentTotal);
+        } finally {
+          bulkLoader.close();
+        }
+      } else if (documentTotal > 0 && indexDefinition != null && !getDatabase().getTransaction().isActive()) {
+        documentIndexed = indexClustersInParallel(iProgressListener, documentTotal);
+      } else {
+        // INDEX ALL CLUSTERS
+        for (final String clusterName : clustersToIndex) {
+          final long[] metrics = indexCluster(clusterName, iProgressListener, documentNum, documentIndexed, documentTotal);
+          documentNum = metrics[0];
+          documentIndexed = metrics[1];
+        }
       }
 
       if (iProgressListener != null)
@@ -519,6 +544,379 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
     return documentIndexed;
   }
 
+  /**
+   * @return Loader which fills the index in bulk, or <code>null</code> if the index has to be filled by insertion of keys one by
+   * one.
+   */
+  private OSBTreeBulkLoader<Object, Object> createBulkLoader() {
+    final ODatabaseDocumentInternal database = getDatabase();
+    if (getBulkLoadValidator() == null || indexDefinition == null || database.getTransaction().isActive() || !database
+        .getConfiguration().getValueAsBoolean(OGlobalConfiguration.INDEX_BULK_LOAD))
+      return null;
+
+    final int sortBufferSize = database.getConfiguration().getValueAsInteger(OGlobalConfiguration.INDEX_BULK_LOAD_SORT_BUFFER_SIZE);
+    while (true)
+      try {
+        return storage.createIndexBulkLoader(indexId, sortBufferSize);
+      } catch (OInvalidIndexEngineIdException ignore) {
+        doReloadIndexEngine();
+      }
+  }
+
+  /**
+   * Validator which resolves entries with the same key during bulk load of the index.
+   *
+   * @return Validator or <code>null</code> if the index can not be filled in bulk.
+   */
+  protected OIndexEngine.Validator<Object, OIdentifiable> getBulkLoadValidator() {
+    return null;
+  }
+
+  /**
+   * Extracts keys from the clusters in parallel, every thread uses its own copy of the current database. Keys are sorted and loaded
+   * in the index at once, <code>null</code> keys are put in the index one by one after that.
+   */
+  private long bulkLoad(final OSBTreeBulkLoader<Object, Object> bulkLoader, final OProgressListener iProgressListener,
+      final long documentTotal) {
+    final ODatabaseDocumentInternal database = getDatabase();
+    final int threads = Math.max(1,
+        Math.min(database.getConfiguration().getValueAsInteger(OGlobalConfiguration.INDEX_BULK_LOAD_THREADS),
+            clustersToIndex.size()));
+
+    final List<ORID> nullKeyRecords = Collections.synchronizedList(new ArrayList<ORID>());
+    final AtomicLong documentNum = new AtomicLong();
+    final AtomicLong documentIndexed = new AtomicLong();
+
+    if (threads == 1) {
+      final OSBTreeBulkLoader<Object, Object>.Sorter sorter = bulkLoader.newSorter();
+      for (final String clusterName : clustersToIndex)
+        extractKeys(database, clusterName, (key, rid) -> addKey(sorter, nullKeyRecords, key, rid), iProgressListener, documentNum,
+            documentIndexed, documentTotal);
+    } else {
+      extractKeysInParallel(bulkLoader, threads, iProgressListener, nullKeyRecords, documentNum, documentIndexed, documentTotal);
+    }
+
+    while (true)
+      try {
+        storage.bulkLoadIndex(indexId, bulkLoader, getBulkLoadValidator(),
+            database.getConfiguration().getValueAsInteger(OGlobalConfiguration.INDEX_BULK_LOAD_FILL_FACTOR) / 100.0f);
+        break;
+      } catch (OInvalidIndexEngineIdException ignore) {
+        doReloadIndexEngine();
+      }
+
+    for (ORID rid : nullKeyRecords) {
+      try {
+        put(null, rid);
+      } catch (OTooBigIndexKeyException | OIndexException e) {
+        OLogManager.instance().error(this,
+            "Exception during index rebuild. Exception was caused by following key/ value pair - key %s, value %s."
+                + " Rebuild will continue from this point", e, null, rid);
+      }
+    }
+
+    return documentIndexed.get();
+  }
+
+  private void extractKeysInParallel(final OSBTreeBulkLoader<Object, Object> bulkLoader, final int threads,
+      final OProgressListener iProgressListener, final List<ORID> nullKeyRecords, final AtomicLong documentNum,
+      final AtomicLong documentIndexed, final long documentTotal) {
+    final ODatabaseDocumentInternal database = getDatabase();
+    final Queue<String> clusters = new ConcurrentLinkedQueue<String>(clustersToIndex);
+    final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+
+    try {
+      for (int i = 0; i < threads; i++) {
+        // the database copy is created here, on the thread that owns the original database instance
+        final ODatabaseDocumentInternal workerDb = database.copy();
+        final OSBTreeBulkLoader<Object, Object>.Sorter sorter = bulkLoader.newSorter();
+
+        futures.add(Orient.instance().submit(() -> {
+          workerDb.activateOnCurrentThread();
+          try {
+            String clusterName;
+            while ((clusterName = clusters.poll()) != null)
+              extractKeys(workerDb, clusterName, (key, rid) -> addKey(sorter, nullKeyRecords, key, rid), iProgressListener,
+                  documentNum, documentIndexed, documentTotal);
+          } finally {
+            workerDb.activateOnCurrentThread();
+            workerDb.close();
+            ODatabaseRecordThreadLocal.instance().remove();
+          }
+
+          return null;
+        }));
+      }
+    } finally {
+      database.activateOnCurrentThread();
+      awaitExtraction(futures);
+    }
+  }
+
+  private void awaitExtraction(List<Future<Void>> futures) {
+    RuntimeException exception = null;
+    for (Future<Void> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        if (exception == null)
+          exception = new OCommandExecutionException("The index rebuild has been interrupted");
+      } catch (ExecutionException e) {
+        if (exception == null) {
+          if (e.getCause() instanceof RuntimeException)
+            exception = (RuntimeException) e.getCause();
+          else
+            exception = OException.wrapException(new OIndexException("Error during extraction of keys of index '" + name + "'"),
+                e.getCause());
+        }
+      }
+    }
+
+    if (exception != null)
+      throw exception;
+  }
+
+  private void extractKeys(final ODatabaseDocumentInternal database, final String clusterName, final KeyConsumer consumer,
+      final OProgressListener iProgressListener, final AtomicLong documentNum, final AtomicLong documentIndexed,
+      final long documentTotal) {
+    try {
+      for (final ORecord record : database.browseCluster(clusterName)) {
+        if (Thread.interrupted())
+          throw new OCommandExecutionException("The index rebuild has been interrupted");
+
+        if (record instanceof ODocument) {
+          final ODocument doc = (ODocument) record;
+          final Object fieldValue = indexDefinition.getDocumentValueToIndex(doc);
+
+          if (fieldValue != null || !indexDefinition.isNullValuesIgnored()) {
+            try {
+              if (fieldValue instanceof Collection) {
+                for (final Object fieldValueItem : (Collection<?>) fieldValue)
+                  consumer.accept(fieldValueItem, doc.getIdentity());
+              } else
+                consumer.accept(fieldValue, doc.getIdentity());
+            } catch (OTooBigIndexKeyException | OIndexException e) {
+              OLogManager.instance().error(this,
+                  "Exception during index rebuild. Exception was caused by following key/ value pair - key %s, value %s."
+                      + " Rebuild will continue from this point", e, fieldValue, doc.getIdentity());
+            }
+
+            documentIndexed.incrementAndGet();
+          }
+        }
+
+        final long num = documentNum.incrementAndGet();
+        if (iProgressListener != null) {
+          synchronized (iProgressListener) {
+            iProgressListener.onProgress(this, num, (float) (num * 100.0 / documentTotal));
+          }
+        }
+      }
+    } catch (NoSuchElementException ignore) {
+      // END OF CLUSTER REACHED, IGNORE IT
+    }
+  }
+
+  private void addKey(final OSBTreeBulkLoader<Object, Object>.Sorter sorter, final List<ORID> nullKeyRecords, Object key,
+      final ORID rid) {
+    key = getCollatingValue(key);
+    if (key == null)
+      nullKeyRecords.add(rid);
+    else
+      sorter.add(key, rid);
+  }
+
+  /**
+   * Extracts keys from the clusters in parallel, every thread uses its own copy of the current database. Extracted entries are
+   * passed to the current thread in batches and every batch is put in the index inside of single atomic operation.
+   */
+  private long indexClustersInParallel(final OProgressListener iProgressListener, final long documentTotal) {
+    final ODatabaseDocumentInternal database = getDatabase();
+    final int threads = Math.max(1,
+        Math.min(database.getConfiguration().getValueAsInteger(OGlobalConfiguration.INDEX_REBUILD_THREADS),
+            clustersToIndex.size()));
+    final int batchSize = Math.max(1, database.getConfiguration().getValueAsInteger(OGlobalConfiguration.INDEX_REBUILD_BATCH_SIZE));
+
+    final Queue<String> clusters = new ConcurrentLinkedQueue<String>(clustersToIndex);
+    final BlockingQueue<IndexBatch> batches = new ArrayBlockingQueue<IndexBatch>(2 * threads);
+    final AtomicBoolean stopped = new AtomicBoolean();
+    final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+    final AtomicLong documentNum = new AtomicLong();
+    final AtomicLong documentIndexed = new AtomicLong();
+
+    boolean completed = false;
+    try {
+      for (int i = 0; i < threads; i++) {
+        // the database copy is created here, on the thread that owns the original database instance
+        final ODatabaseDocumentInternal workerDb = database.copy();
+
+        futures.add(Orient.instance().submit(() -> {
+          workerDb.activateOnCurrentThread();
+          try {
+            final IndexBatchProducer producer = new IndexBatchProducer(batches, batchSize, stopped);
+
+            String clusterName;
+            while ((clusterName = clusters.poll()) != null)
+              extractKeys(workerDb, clusterName, producer, iProgressListener, documentNum, documentIndexed, documentTotal);
+
+            producer.flush();
+          } catch (OCommandExecutionException e) {
+            // rebuild is stopped because of the error during put of extracted keys
+            if (!stopped.get())
+              throw e;
+          } finally {
+            workerDb.activateOnCurrentThread();
+            workerDb.close();
+            ODatabaseRecordThreadLocal.instance().remove();
+          }
+
+          return null;
+        }));
+      }
+
+      database.activateOnCurrentThread();
+      while (true) {
+        // futures are checked before the queue, batches are added to the queue before the producer completes
+        final boolean extracted = isDone(futures);
+
+        final IndexBatch batch = batches.poll(100, TimeUnit.MILLISECONDS);
+        if (batch != null)
+          putBatch(batch);
+        else if (extracted)
+          break;
+      }
+
+      completed = true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new OCommandExecutionException("The index rebuild has been interrupted");
+    } finally {
+      database.activateOnCurrentThread();
+
+      if (!completed) {
+        stopped.set(true);
+
+        for (Future<Void> future : futures) {
+          try {
+            future.get();
+          } catch (InterruptedException ignore) {
+            Thread.currentThread().interrupt();
+            break;
+          } catch (ExecutionException ignore) {
+            // the exception which stopped the rebuild is thrown instead
+          }
+        }
+      }
+    }
+
+    awaitExtraction(futures);
+
+    return documentIndexed.get();
+  }
+
+  private static boolean isDone(List<Future<Void>> futures) {
+    for (Future<Void> future : futures) {
+      if (!future.isDone())
+        return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Puts batch of entries in the index inside of single atomic operation. If the batch is rolled back, entries are put in the index
+   * one by one, so errors caused by particular entries are handled in the same way as during rebuild without batches.
+   */
+  private void putBatch(final IndexBatch batch) {
+    try {
+      storage.callInsideAtomicOperation(() -> {
+        for (int i = 0; i < batch.keys.size(); i++)
+          put(batch.keys.get(i), batch.rids.get(i));
+
+        return null;
+      });
+    } catch (RuntimeException ignore) {
+      for (int i = 0; i < batch.keys.size(); i++) {
+        final Object key = batch.keys.get(i);
+        final ORID rid = batch.rids.get(i);
+
+        try {
+          put(key, rid);
+        } catch (OTooBigIndexKeyException | OIndexException e) {
+          OLogManager.instance().error(this,
+              "Exception during index rebuild. Exception was caused by following key/ value pair - key %s, value %s."
+                  + " Rebuild will continue from this point", e, key, rid);
+        }
+      }
+    }
+  }
+
+  /**
+   * Receives keys extracted from the records of the indexed clusters.
+   */
+  private interface KeyConsumer {
+    void accept(Object key, ORID rid);
+  }
+
+  private static final class IndexBatch {
+    private final List<Object> keys;
+    private final List<ORID>   rids;
+
+    private IndexBatch(int size) {
+      keys = new ArrayList<Object>(size);
+      rids = new ArrayList<ORID>(size);
+    }
+  }
+
+  /**
+   * Collects extracted entries of a single thread in batches and passes filled batches to the thread which puts them in the index.
+   */
+  private static final class IndexBatchProducer implements KeyConsumer {
+    private final BlockingQueue<IndexBatch> batches;
+    private final int                       batchSize;
+    private final AtomicBoolean             stopped;
+
+    private IndexBatch batch;
+
+    private IndexBatchProducer(BlockingQueue<IndexBatch> batches, int batchSize, AtomicBoolean stopped) {
+      this.batches = batches;
+      this.batchSize = batchSize;
+      this.stopped = stopped;
+      this.batch = new IndexBatch(batchSize);
+    }
+
+    @Override
+    public void accept(Object key, ORID rid) {
+      if (stopped.get())
+        throw new OCommandExecutionException("The index rebuild has been interrupted");
+
+      batch.keys.add(key);
+      batch.rids.add(rid);
+
+      if (batch.keys.size() >= batchSize) {
+        flush();
+        batch = new IndexBatch(batchSize);
+      }
+    }
+
+    private void flush() {
+      if (batch.keys.isEmpty())
+        return;
+
+      try {
+        // batches are not consumed any more if the rebuild is stopped
+        while (!batches.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+          if (stopped.get())
+            throw new OCommandExecutionException("The index rebuild has been interrupted");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new OCommandExecutionException("The index rebuild has been interrupted");
+      }
+    }
+  }
+
   public boolean remove(Object key, final OIdentifiable value) {
     return remove(key);
   }
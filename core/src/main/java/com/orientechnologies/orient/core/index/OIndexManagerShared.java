@@ -27,6 +27,7 @@ import com.orientechnologies.common.util.OUncaughtExceptionHandler;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentEmbedded;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.db.record.ORecordElement;
@@ -43,6 +44,8 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.nio.channels.UnsupportedAddressTypeException;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Manages indexes at database level. A single instance is shared among multiple databases. Contentions are managed by r/w locks.
@@ -481,9 +484,9 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
   }
 
   private class RecreateIndexesTask implements Runnable {
-    private final OStorage storage;
-    private       int      ok;
-    private       int      errors;
+    private final OStorage      storage;
+    private final AtomicInteger ok     = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
 
     public RecreateIndexesTask(OStorage storage) {
       this.storage = storage;
@@ -529,25 +532,98 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
     }
 
     private void recreateIndexes(Collection<ODocument> indexesToRebuild, ODatabaseDocumentEmbedded db) {
-      ok = 0;
-      errors = 0;
+      ok.set(0);
+      errors.set(0);
+
+      final Queue<OIndexInternal<?>> indexesToFill = new ConcurrentLinkedQueue<>();
       for (ODocument index : indexesToRebuild) {
         try {
-          recreateIndex(index);
+          recreateIndex(index, indexesToFill);
         } catch (RuntimeException e) {
           OLogManager.instance().error(this, "Error during addition of index '%s'", e, index);
-          errors++;
+          errors.incrementAndGet();
         }
       }
 
+      fillIndexes(indexesToFill, db);
+
       db.getMetadata().getIndexManager().save();
 
       rebuildCompleted = true;
 
-      OLogManager.instance().info(this, "%d indexes were restored successfully, %d errors", ok, errors);
+      OLogManager.instance().info(this, "%d indexes were restored successfully, %d errors", ok.get(), errors.get());
     }
 
-    private void recreateIndex(ODocument indexDocument) {
+    /**
+     * Fills recreated indexes, indexes are filled in parallel by separate threads, every thread uses its own copy of the database.
+     */
+    private void fillIndexes(final Queue<OIndexInternal<?>> indexes, final ODatabaseDocumentEmbedded db) {
+      final int threads = Math.min(indexes.size(),
+          db.getConfiguration().getValueAsInteger(OGlobalConfiguration.INDEX_AUTO_REBUILD_THREADS));
+
+      if (threads <= 1) {
+        OIndexInternal<?> index;
+        while ((index = indexes.poll()) != null)
+          fillIndex(index);
+
+        return;
+      }
+
+      final List<Thread> fillThreads = new ArrayList<>();
+      try {
+        for (int i = 0; i < threads; i++) {
+          final ODatabaseDocumentInternal workerDb = db.copy();
+
+          final Thread thread = new Thread(() -> {
+            workerDb.activateOnCurrentThread();
+            try {
+              OIndexInternal<?> index;
+              while ((index = indexes.poll()) != null)
+                fillIndex(index);
+            } finally {
+              workerDb.activateOnCurrentThread();
+              workerDb.close();
+              ODatabaseRecordThreadLocal.instance().remove();
+            }
+          }, "OrientDB rebuild indexes " + i);
+
+          thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+          thread.start();
+
+          fillThreads.add(thread);
+        }
+      } finally {
+        db.activateOnCurrentThread();
+
+        for (Thread thread : fillThreads) {
+          try {
+            thread.join();
+          } catch (InterruptedException e) {
+            OLogManager.instance().info(this, "Index rebuild task was interrupted.", e);
+            Thread.currentThread().interrupt();
+            break;
+          }
+        }
+      }
+    }
+
+    private void fillIndex(OIndexInternal<?> index) {
+      try {
+        index.rebuild(new OIndexRebuildOutputListener(index));
+        index.flush();
+
+        setDirty();
+
+        ok.incrementAndGet();
+
+        OLogManager.instance().info(this, "Rebuild of '%s index was successfully finished", index.getName());
+      } catch (RuntimeException e) {
+        OLogManager.instance().error(this, "Error during rebuild of index '%s'", e, index.getName());
+        errors.incrementAndGet();
+      }
+    }
+
+    private void recreateIndex(ODocument indexDocument, Queue<OIndexInternal<?>> indexesToFill) {
       final OIndexInternal<?> index = createIndex(indexDocument);
       final OIndexMetadata indexMetadata = index.loadMetadata(indexDocument);
       final OIndexDefinition indexDefinition = indexMetadata.getIndexDefinition();
@@ -567,7 +643,7 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
         } else {
           OLogManager.instance()
               .info(this, "Index '%s' is a non-durable automatic index and must be rebuilt", indexMetadata.getName());
-          rebuildNonDurableAutomaticIndex(indexDocument, index, indexMetadata, indexDefinition);
+          rebuildNonDurableAutomaticIndex(indexDocument, index, indexMetadata, indexDefinition, indexesToFill);
         }
       } else {
         if (durable) {
@@ -585,7 +661,7 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
     }
 
     private void rebuildNonDurableAutomaticIndex(ODocument indexDocument, OIndexInternal<?> index, OIndexMetadata indexMetadata,
-        OIndexDefinition indexDefinition) {
+        OIndexDefinition indexDefinition, Queue<OIndexInternal<?>> indexesToFill) {
       try {
         index.loadFromConfiguration(indexDocument);
         index.delete();
@@ -619,16 +695,9 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
 
         OLogManager.instance().info(this, "Index '%s' was successfully created and rebuild is going to be started", indexName);
 
-        index.rebuild(new OIndexRebuildOutputListener(index));
-        index.flush();
-
-        setDirty();
-
-        ok++;
-
-        OLogManager.instance().info(this, "Rebuild of '%s index was successfully finished", indexName);
+        indexesToFill.add(index);
       } else {
-        errors++;
+        errors.incrementAndGet();
         OLogManager.instance().error(this, "Information about index was restored incorrectly, following data were loaded : "
             + "index name '%s', index definition '%s', clusters %s, type %s", null, indexName, indexDefinition, clusters, type);
       }
@@ -639,7 +708,7 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
         addIndexInternal(index);
         setDirty();
 
-        ok++;
+        ok.incrementAndGet();
         OLogManager.instance().info(this, "Index '%s' was added in DB index list", index.getName());
       } else {
         try {
@@ -648,7 +717,7 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
         } catch (Exception e) {
           OLogManager.instance().error(this, "Error while deleting index '%s'", e, index.getName());
         }
-        errors++;
+        errors.incrementAndGet();
       }
     }
 
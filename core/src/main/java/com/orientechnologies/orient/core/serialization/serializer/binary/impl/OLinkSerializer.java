@@ -141,6 +141,28 @@ public class OLinkSerializer implements OBinarySerializer<OIdentifiable> {
     return RID_SIZE;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int compareInByteBuffer(ByteBuffer buffer, int offset, OIdentifiable object) {
+    if (object == null)
+      return 1;
+
+    final ORID other = object.getIdentity();
+
+    final int clusterId = buffer.getShort(offset);
+    if (clusterId != other.getClusterId())
+      return clusterId > other.getClusterId() ? 1 : -1;
+
+    // cluster position is stored in big endian order, see serializeNativeObject
+    long clusterPosition = 0;
+    for (int i = 0; i < OLongSerializer.LONG_SIZE; i++)
+      clusterPosition = (clusterPosition << 8) | (0xFF & buffer.get(offset + OShortSerializer.SHORT_SIZE + i));
+
+    return Long.compare(clusterPosition, other.getClusterPosition());
+  }
+
   /**
    * {@inheritDoc}
    */
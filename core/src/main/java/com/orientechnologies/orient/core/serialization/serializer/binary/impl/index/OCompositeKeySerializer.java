@@ -23,7 +23,10 @@ package com.orientechnologies.orient.core.serialization.serializer.binary.impl.i
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.ONullSerializer;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
 import com.orientechnologies.common.util.OCommonConst;
+import com.orientechnologies.orient.core.index.OAlwaysGreaterKey;
+import com.orientechnologies.orient.core.index.OAlwaysLessKey;
 import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.serialization.serializer.binary.OBinarySerializerFactory;
@@ -329,6 +332,65 @@ public class OCompositeKeySerializer implements OBinarySerializer<OCompositeKey>
     return buffer.getInt();
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Keys are compared one by one in the same way as {@link OCompositeKey#compareTo(OCompositeKey)} does it, every key is compared
+   * by its own serializer without deserialization.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public int compareInByteBuffer(ByteBuffer buffer, int offset, OCompositeKey object) {
+    offset += OIntegerSerializer.INT_SIZE;
+
+    final int keysSize = buffer.getInt(offset);
+    offset += OIntegerSerializer.INT_SIZE;
+
+    final List<Object> otherKeys = object.getKeys();
+    final int minSize = Math.min(keysSize, otherKeys.size());
+
+    final OBinarySerializerFactory factory = OBinarySerializerFactory.getInstance();
+    for (int i = 0; i < minSize; i++) {
+      final Object otherKey = otherKeys.get(i);
+
+      if (otherKey instanceof OAlwaysGreaterKey)
+        return -1;
+
+      if (otherKey instanceof OAlwaysLessKey)
+        return 1;
+
+      final byte serializerId = buffer.get(offset);
+      offset += OBinarySerializerFactory.TYPE_IDENTIFIER_SIZE;
+
+      final OBinarySerializer<Object> binarySerializer = (OBinarySerializer<Object>) factory.getObjectSerializer(serializerId);
+
+      final int result;
+      if (otherKey == null)
+        result = binarySerializer.getId() == ONullSerializer.ID ? 0 : 1;
+      else
+        result = binarySerializer.compareInByteBuffer(buffer, offset, otherKey);
+
+      if (result != 0)
+        return result;
+
+      offset += getObjectSizeInByteBuffer(binarySerializer, buffer, offset);
+    }
+
+    return 0;
+  }
+
+  private static int getObjectSizeInByteBuffer(OBinarySerializer<Object> binarySerializer, ByteBuffer buffer, int offset) {
+    if (binarySerializer.isFixedLength())
+      return binarySerializer.getFixedLength();
+
+    if (binarySerializer.getId() == OStringSerializer.ID)
+      return buffer.getInt(offset) * 2 + OIntegerSerializer.INT_SIZE;
+
+    final ByteBuffer duplicate = buffer.duplicate().order(buffer.order());
+    duplicate.position(offset);
+    return binarySerializer.getObjectSizeInByteBuffer(duplicate);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -1,6 +1,7 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.sql.parser.OExpression;
@@ -11,19 +12,95 @@ import com.orientechnologies.orient.core.sql.parser.OProjectionItem;
 import java.util.*;
 
 /**
+ * Calculates aggregate projections, grouping the results of the previous step by the GROUP BY key.
+ * <p>
+ * The memory used by the groups is estimated when they are created. When it exceeds the memory limit of a query operation ({@link
+ * com.orientechnologies.orient.core.config.OGlobalConfiguration#QUERY_MEMORY_LIMIT_PER_OPERATION}), the groups already in memory
+ * keep being aggregated, while the input results of the other groups are written to temporary files, partitioned by the hash of
+ * their key. When the groups in memory are returned, the partitions are aggregated one by one (and partitioned again if they still
+ * do not fit in memory). The partial aggregation values are never written to disk.
+ * <p>
  * Created by luigidellaquila on 12/07/16.
  */
 public class AggregateProjectionCalculationStep extends ProjectionCalculationStep {
+  public static final String STAT_SPILLED_ROWS  = "aggregateSpilledRows";
+  public static final String STAT_SPILLED_BYTES = "aggregateSpilledBytes";
+
+  private static final int PARTITIONS               = 16;
+  private static final int MAX_PARTITION_LEVEL      = 6;
+  private static final int AGGREGATION_CONTEXT_SIZE = 64;
+  private static final int GROUP_OVERHEAD           = 128;
 
   private final OGroupBy groupBy;
 
   //the key is the GROUP BY key, the value is the (partially) aggregated value
-  private Map<List, OResultInternal> aggregateResults = new LinkedHashMap<>();
-  private List<OResultInternal>      finalResults     = null;
+  private Map<GroupKey, OResultInternal> aggregateResults = new LinkedHashMap<>();
+  private List<OResultInternal>          finalResults     = null;
+
+  private long               memoryLimit    = 0;
+  private long               aggregateSize  = 0;
+  private int                partitionLevel = 0;
+  private OResultSpillFile[] partitions     = null;
+  private Deque<Partition>   spilled        = new ArrayDeque<>();
+  private long               spilledRows    = 0;
+  private long               spilledBytes   = 0;
 
   private int  nextItem = 0;
   private long cost     = 0;
 
+  /**
+   * GROUP BY key: the values of the GROUP BY expressions, with the hash code calculated once
+   */
+  private static final class GroupKey {
+    private static final GroupKey NO_GROUP_BY = new GroupKey(new Object[0]);
+
+    private final Object[] values;
+    private final int      hash;
+
+    private GroupKey(Object[] values) {
+      this.values = values;
+      this.hash = Arrays.hashCode(values);
+    }
+
+    private long estimateSize() {
+      long result = 16 + values.length * 8;
+      for (Object value : values) {
+        result += OResultMemoryEstimator.estimateValue(value);
+      }
+      return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof GroupKey)) {
+        return false;
+      }
+      GroupKey other = (GroupKey) o;
+      return hash == other.hash && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /**
+   * input results written to disk, that still have to be aggregated
+   */
+  private static final class Partition {
+    private final OResultSpillFile file;
+    private final int              level;
+
+    private Partition(OResultSpillFile file, int level) {
+      this.file = file;
+      this.level = level;
+    }
+  }
+
   public AggregateProjectionCalculationStep(OProjection projection, OGroupBy groupBy, OCommandContext ctx,
       boolean profilingEnabled) {
     super(projection, ctx, profilingEnabled);
@@ -41,15 +118,20 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
 
       @Override
       public boolean hasNext() {
-        if (localNext > nRecords || nextItem >= finalResults.size()) {
+        if (localNext >= nRecords) {
           return false;
         }
+        while (nextItem >= finalResults.size()) {
+          if (!aggregateNextPartition(ctx)) {
+            return false;
+          }
+        }
         return true;
       }
 
       @Override
       public OResult next() {
-        if (localNext > nRecords || nextItem >= finalResults.size()) {
+        if (!hasNext()) {
           throw new IllegalStateException();
         }
         OResult result = finalResults.get(nextItem);
@@ -79,6 +161,9 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
     if (!prev.isPresent()) {
       throw new OCommandExecutionException("Cannot execute an aggregation or a GROUP BY without a previous result");
     }
+    if (OResultSpillFile.isSpillEnabled(ctx)) {
+      memoryLimit = OResultSpillFile.getMemoryLimit(ctx);
+    }
     OExecutionStepInternal prevStep = prev.get();
     OResultSet lastRs = prevStep.syncPull(ctx, nRecords);
     while (lastRs.hasNext()) {
@@ -87,9 +172,49 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
         lastRs = prevStep.syncPull(ctx, nRecords);
       }
     }
+    finishAggregation();
+  }
+
+  /**
+   * aggregates the next partition written to disk
+   *
+   * @return false if there are no more partitions
+   */
+  private boolean aggregateNextPartition(OCommandContext ctx) {
+    Partition partition = spilled.poll();
+    if (partition == null) {
+      return false;
+    }
+    try {
+      partitionLevel = partition.level;
+      OResult next;
+      while ((next = partition.file.read()) != null) {
+        aggregate(next, ctx);
+      }
+    } finally {
+      partition.file.close();
+    }
+    finishAggregation();
+    return true;
+  }
+
+  private void finishAggregation() {
+    if (partitions != null) {
+      for (OResultSpillFile partition : partitions) {
+        if (partition.size() == 0) {
+          partition.close();
+          continue;
+        }
+        partition.finishWriting();
+        spilled.push(new Partition(partition, partitionLevel + 1));
+      }
+      partitions = null;
+    }
     finalResults = new ArrayList<>();
     finalResults.addAll(aggregateResults.values());
     aggregateResults.clear();
+    aggregateSize = 0;
+    nextItem = 0;
     for (OResultInternal item : finalResults) {
       for (String name : item.getPropertyNames()) {
         Object prevVal = item.getProperty(name);
@@ -103,17 +228,28 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
   private void aggregate(OResult next, OCommandContext ctx) {
     long begin = profilingEnabled ? System.nanoTime() : 0;
     try {
-      List<Object> key = new ArrayList<>();
-      if (groupBy != null) {
-        for (OExpression item : groupBy.getItems()) {
-          Object val = item.execute(next, ctx);
-          key.add(val);
-        }
-      }
+      GroupKey key = calculateKey(next, ctx);
       OResultInternal preAggr = aggregateResults.get(key);
       if (preAggr == null) {
+        if (partitions == null && memoryLimit > 0 && aggregateSize > memoryLimit && partitionLevel < MAX_PARTITION_LEVEL) {
+          partitions = new OResultSpillFile[PARTITIONS];
+          for (int i = 0; i < PARTITIONS; i++) {
+            partitions[i] = new OResultSpillFile(ctx, "orientdb-groupby-");
+          }
+        }
+        if (partitions != null) {
+          if (spill(key, next, ctx)) {
+            return;
+          }
+          // the group could have been read back from the partitions
+          preAggr = aggregateResults.get(key);
+        }
+      }
+      boolean newGroup = preAggr == null;
+      if (newGroup) {
         preAggr = new OResultInternal();
         aggregateResults.put(key, preAggr);
+        aggregateSize += GROUP_OVERHEAD + key.estimateSize();
       }
 
       for (OProjectionItem proj : this.projection.getItems()) {
@@ -123,10 +259,15 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
           if (aggrCtx == null) {
             aggrCtx = proj.getAggregationContext(ctx);
             preAggr.setProperty(alias, aggrCtx);
+            aggregateSize += AGGREGATION_CONTEXT_SIZE;
           }
           aggrCtx.apply(next, ctx);
         } else {
-          preAggr.setProperty(alias, proj.execute(next, ctx));
+          Object value = proj.execute(next, ctx);
+          if (newGroup) {
+            aggregateSize += OResultMemoryEstimator.estimateValue(value);
+          }
+          preAggr.setProperty(alias, value);
         }
       }
     } finally {
@@ -136,6 +277,91 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
     }
   }
 
+  private GroupKey calculateKey(OResult next, OCommandContext ctx) {
+    if (groupBy == null) {
+      return GroupKey.NO_GROUP_BY;
+    }
+    List<OExpression> items = groupBy.getItems();
+    Object[] values = new Object[items.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = items.get(i).execute(next, ctx);
+    }
+    return new GroupKey(values);
+  }
+
+  /**
+   * writes an input result to the partition of its GROUP BY key
+   *
+   * @return false if the result could not be written, and has to be aggregated in memory
+   */
+  private boolean spill(GroupKey key, OResult next, OCommandContext ctx) {
+    OResultSpillFile partition = partitions[partitionOf(key)];
+    long bytes = partition.getBytes();
+    try {
+      partition.write(next);
+    } catch (RuntimeException e) {
+      // eg. a result that cannot be serialized: the partitions are aggregated in memory, to keep each group in one place
+      OLogManager.instance().warn(this, "Cannot write GROUP BY results to disk, the aggregation will be executed in memory", e);
+      unspill(ctx);
+      return false;
+    }
+    spilledRows++;
+    spilledBytes += partition.getBytes() - bytes;
+    return true;
+  }
+
+  /**
+   * aggregates in memory the results written to the partitions of the current level and disables spilling
+   */
+  private void unspill(OCommandContext ctx) {
+    OResultSpillFile[] toRead = partitions;
+    partitions = null;
+    memoryLimit = 0;
+    for (OResultSpillFile partition : toRead) {
+      try {
+        partition.finishWriting();
+        OResult next;
+        while ((next = partition.read()) != null) {
+          aggregate(next, ctx);
+        }
+      } finally {
+        partition.close();
+      }
+    }
+  }
+
+  private int partitionOf(GroupKey key) {
+    // a different mix at each level, so that a partition that does not fit in memory is split again
+    int h = key.hash ^ (partitionLevel * 0x9E3779B9);
+    h ^= h >>> 16;
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    h *= 0xC2B2AE35;
+    h ^= h >>> 16;
+    return Math.floorMod(h, PARTITIONS);
+  }
+
+  @Override
+  public void close() {
+    if (partitions != null) {
+      for (OResultSpillFile partition : partitions) {
+        partition.close();
+      }
+      partitions = null;
+    }
+    for (Partition partition : spilled) {
+      partition.file.close();
+    }
+    spilled.clear();
+    super.close();
+  }
+
+  @Override
+  public void fillQueryStats(Map<String, Long> stats) {
+    OExecutionStepInternal.addQueryStat(stats, STAT_SPILLED_ROWS, spilledRows);
+    OExecutionStepInternal.addQueryStat(stats, STAT_SPILLED_BYTES, spilledBytes);
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String spaces = OExecutionStepInternal.getIndent(depth, indent);
@@ -145,6 +371,9 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
     }
     result +=
         "\n" + spaces + "      " + projection.toString() + "" + (groupBy == null ? "" : (spaces + "\n  " + groupBy.toString()));
+    if (spilledRows > 0) {
+      result += "\n" + spaces + "  (spilled to disk: " + spilledRows + " results, " + spilledBytes + " bytes)";
+    }
     return result;
   }
 
@@ -152,4 +381,10 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
   public long getCost() {
     return cost;
   }
+
+  @Override
+  public OExecutionStep copy(OCommandContext ctx) {
+    return new AggregateProjectionCalculationStep(projection.copy(), groupBy == null ? null : groupBy.copy(), ctx,
+        profilingEnabled);
+  }
 }
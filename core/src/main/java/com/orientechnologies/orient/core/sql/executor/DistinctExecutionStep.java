@@ -2,32 +2,116 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.exception.OSerializationException;
 import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.result.binary.OResultSerializerNetwork;
 
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 
 /**
+ * Removes the duplicate results. Records are remembered by their RID, projections by their binary serialization, so that the full
+ * results are not kept in memory.
+ * <p>
+ * When the memory used to remember the results exceeds the memory limit of a query operation ({@link
+ * com.orientechnologies.orient.core.config.OGlobalConfiguration#QUERY_MEMORY_LIMIT_PER_OPERATION}), the results that were not seen
+ * yet are written to temporary files, partitioned by their hash, and returned after the input is exhausted, deduplicating one
+ * partition at a time. The spilled results are returned out of order, so nothing is written to disk when the input is sorted.
+ * <p>
  * Created by luigidellaquila on 08/07/16.
  */
 public class DistinctExecutionStep extends AbstractExecutionStep {
+  public static final String STAT_SPILLED_ROWS  = "distinctSpilledRows";
+  public static final String STAT_SPILLED_BYTES = "distinctSpilledBytes";
 
-  Set<OResult> pastItems = new HashSet<>();
-  ORidSet      pastRids  = new ORidSet();
+  private static final int PARTITIONS          = 16;
+  private static final int MAX_PARTITION_LEVEL = 6;
+  private static final int RID_SIZE            = 16;
+  private static final int KEY_OVERHEAD        = 64;
+
+  Set<Object> pastItems = new HashSet<>();
+  ORidSet     pastRids  = new ORidSet();
 
   OResultSet lastResult = null;
   OResult nextValue;
 
   private long cost = 0;
 
+  private final OResultSerializerNetwork serializer = new OResultSerializerNetwork();
+
+  private final boolean orderedInput;
+
+  private long               memoryLimit    = -1;
+  private long               pastSize       = 0;
+  private boolean            inputFinished  = false;
+  private int                partitionLevel = 0;
+  private OResultSpillFile[] partitions     = null;
+  private OResultSpillFile   reading        = null;
+  private Deque<Partition>   spilled        = new ArrayDeque<>();
+  private long               spilledRows    = 0;
+  private long               spilledBytes   = 0;
+
+  /**
+   * binary serialization of a projection, used to remember the projections already returned
+   */
+  private static final class BinaryKey {
+    private final byte[] bytes;
+    private final int    hash;
+
+    private BinaryKey(byte[] bytes) {
+      this.bytes = bytes;
+      this.hash = Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof BinaryKey)) {
+        return false;
+      }
+      BinaryKey other = (BinaryKey) o;
+      return hash == other.hash && Arrays.equals(bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /**
+   * results written to disk, that still have to be deduplicated
+   */
+  private static final class Partition {
+    private final OResultSpillFile file;
+    private final int              level;
+
+    private Partition(OResultSpillFile file, int level) {
+      this.file = file;
+      this.level = level;
+    }
+  }
+
   public DistinctExecutionStep(OCommandContext ctx, boolean profilingEnabled) {
+    this(ctx, false, profilingEnabled);
+  }
+
+  /**
+   * @param orderedInput true if the order of the input has to be preserved, eg. when it is sorted by an ORDER BY
+   */
+  public DistinctExecutionStep(OCommandContext ctx, boolean orderedInput, boolean profilingEnabled) {
     super(ctx, profilingEnabled);
+    this.orderedInput = orderedInput;
   }
 
   @Override
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    if (memoryLimit < 0) {
+      boolean ordered = orderedInput || getPrev().filter(x -> x instanceof OrderByStep).isPresent();
+      memoryLimit = !ordered && OResultSpillFile.isSpillEnabled(ctx) ? OResultSpillFile.getMemoryLimit(ctx) : 0;
+    }
 
     OResultSet result = new OResultSet() {
       int nextLocal = 0;
@@ -85,19 +169,16 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
       if (nextValue != null) {
         return;
       }
-      if (lastResult == null || !lastResult.hasNext()) {
-        lastResult = getPrev().get().syncPull(ctx, nRecords);
-      }
-      if (lastResult == null || !lastResult.hasNext()) {
+      OResult item = nextInput(nRecords);
+      if (item == null) {
         return;
       }
       long begin = profilingEnabled ? System.nanoTime() : 0;
       try {
-        nextValue = lastResult.next();
-        if (alreadyVisited(nextValue)) {
-          nextValue = null;
-        } else {
-          markAsVisited(nextValue);
+        Object key = keyOf(item);
+        if (!alreadyVisited(key) && !spill(key, item)) {
+          markAsVisited(key, item);
+          nextValue = item;
         }
       } finally {
         if (profilingEnabled) {
@@ -107,29 +188,165 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
     }
   }
 
-  private void markAsVisited(OResult nextValue) {
-    if (nextValue.isElement()) {
-      ORID identity = nextValue.getElement().get().getIdentity();
-      int cluster = identity.getClusterId();
-      long pos = identity.getClusterPosition();
-      if (cluster >= 0 && pos >= 0) {
-        pastRids.add(identity);
-        return;
+  /**
+   * @return the next result of the previous step or, when it is exhausted, of the partitions written to disk
+   */
+  private OResult nextInput(int nRecords) {
+    while (true) {
+      if (reading != null) {
+        OResult result = reading.read();
+        if (result != null) {
+          return result;
+        }
+        reading.close();
+        reading = null;
+        finishPartitions();
+      } else if (!inputFinished) {
+        if (lastResult == null || !lastResult.hasNext()) {
+          lastResult = getPrev().get().syncPull(ctx, nRecords);
+        }
+        if (lastResult != null && lastResult.hasNext()) {
+          return lastResult.next();
+        }
+        inputFinished = true;
+        finishPartitions();
       }
+
+      Partition next = spilled.poll();
+      if (next == null) {
+        return null;
+      }
+      pastItems = new HashSet<>();
+      pastRids = new ORidSet();
+      pastSize = 0;
+      partitionLevel = next.level;
+      reading = next.file;
     }
-    pastItems.add(nextValue);
   }
 
-  private boolean alreadyVisited(OResult nextValue) {
+  private void finishPartitions() {
+    if (partitions == null) {
+      return;
+    }
+    for (OResultSpillFile partition : partitions) {
+      if (partition.size() == 0) {
+        partition.close();
+        continue;
+      }
+      partition.finishWriting();
+      spilled.push(new Partition(partition, partitionLevel + 1));
+    }
+    partitions = null;
+  }
+
+  /**
+   * @return the RID of a persistent record, the binary serialization of a projection or, if it cannot be serialized, the result
+   * itself
+   */
+  private Object keyOf(OResult nextValue) {
     if (nextValue.isElement()) {
       ORID identity = nextValue.getElement().get().getIdentity();
       int cluster = identity.getClusterId();
       long pos = identity.getClusterPosition();
       if (cluster >= 0 && pos >= 0) {
-        return pastRids.contains(identity);
+        return identity;
+      }
+      return nextValue;
+    }
+    // the serialization depends on the order of the properties, so they are sorted
+    OResultInternal sorted = new OResultInternal();
+    for (String name : new TreeSet<>(nextValue.getPropertyNames())) {
+      Object value = nextValue.getProperty(name);
+      if (!hasStableSerialization(value)) {
+        return nextValue;
+      }
+      sorted.setProperty(name, value);
+    }
+    try {
+      BytesContainer container = new BytesContainer();
+      serializer.serialize(sorted, container);
+      return new BinaryKey(container.fitBytes());
+    } catch (OSerializationException e) {
+      return nextValue;
+    }
+  }
+
+  /**
+   * @return false if two values that are equal could have different serializations, eg. maps with a different iteration order
+   */
+  private static boolean hasStableSerialization(Object value) {
+    if (value instanceof Map || value instanceof Set) {
+      return false;
+    }
+    if (value instanceof OResult) {
+      return ((OResult) value).isElement();
+    }
+    if (value instanceof Collection) {
+      for (Object item : (Collection) value) {
+        if (!hasStableSerialization(item)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private void markAsVisited(Object key, OResult nextValue) {
+    if (key instanceof ORID) {
+      pastRids.add((ORID) key);
+      pastSize += RID_SIZE;
+    } else if (key instanceof BinaryKey) {
+      pastItems.add(key);
+      pastSize += KEY_OVERHEAD + ((BinaryKey) key).bytes.length;
+    } else {
+      pastItems.add(key);
+      pastSize += KEY_OVERHEAD + OResultMemoryEstimator.estimate(nextValue);
+    }
+  }
+
+  private boolean alreadyVisited(Object key) {
+    if (key instanceof ORID) {
+      return pastRids.contains(key);
+    }
+    return pastItems.contains(key);
+  }
+
+  /**
+   * writes a result that was not seen yet to the partition of its hash, if the memory limit was exceeded
+   *
+   * @return true if the result was written to disk
+   */
+  private boolean spill(Object key, OResult nextValue) {
+    if (key instanceof OResult) {
+      // cannot be serialized, it can only be deduplicated in memory
+      return false;
+    }
+    if (partitions == null) {
+      if (memoryLimit <= 0 || pastSize <= memoryLimit || partitionLevel >= MAX_PARTITION_LEVEL) {
+        return false;
+      }
+      partitions = new OResultSpillFile[PARTITIONS];
+      for (int i = 0; i < PARTITIONS; i++) {
+        partitions[i] = new OResultSpillFile(ctx, "orientdb-distinct-");
       }
     }
-    return pastItems.contains(nextValue);
+    OResultSpillFile partition = partitions[partitionOf(key)];
+    long bytes = partition.getBytes();
+    partition.write(nextValue);
+    spilledRows++;
+    spilledBytes += partition.getBytes() - bytes;
+    return true;
+  }
+
+  private int partitionOf(Object key) {
+    // a different mix at each level, so that a partition that does not fit in memory is split again
+    int h = key.hashCode() ^ (partitionLevel * 0x9E3779B9);
+    h ^= h >>> 16;
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    h *= 0xC2B2AE35;
+    h ^= h >>> 16;
+    return Math.floorMod(h, PARTITIONS);
   }
 
   @Override
@@ -139,15 +356,39 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
 
   @Override
   public void close() {
+    if (partitions != null) {
+      for (OResultSpillFile partition : partitions) {
+        partition.close();
+      }
+      partitions = null;
+    }
+    if (reading != null) {
+      reading.close();
+      reading = null;
+    }
+    for (Partition partition : spilled) {
+      partition.file.close();
+    }
+    spilled.clear();
     prev.ifPresent(x -> x.close());
   }
 
+  @Override
+  public void fillQueryStats(Map<String, Long> stats) {
+    OExecutionStepInternal.addQueryStat(stats, STAT_SPILLED_ROWS, spilledRows);
+    OExecutionStepInternal.addQueryStat(stats, STAT_SPILLED_BYTES, spilledBytes);
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String result = OExecutionStepInternal.getIndent(depth, indent) + "+ DISTINCT";
     if (profilingEnabled) {
       result += " (" + getCostFormatted() + ")";
     }
+    if (spilledRows > 0) {
+      result += "\n" + OExecutionStepInternal.getIndent(depth, indent) + "  (spilled to disk: " + spilledRows + " results, "
+          + spilledBytes + " bytes)";
+    }
     return result;
   }
 
@@ -9,10 +9,13 @@ import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.iterator.ORecordIteratorCluster;
 import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.parser.*;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com)
@@ -22,6 +25,7 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
   public static final Object ORDER_ASC  = "ASC";
   public static final Object ORDER_DESC = "DESC";
   private final QueryPlanningInfo queryPlanning;
+  private final String[]          fieldsToDecode;
 
   private int    clusterId;
   private Object order;
@@ -38,6 +42,9 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
     super(ctx, profilingEnabled);
     this.clusterId = clusterId;
     this.queryPlanning = queryPlanning;
+    this.fieldsToDecode = queryPlanning == null || queryPlanning.fieldsToDecode == null || queryPlanning.fieldsToDecode.isEmpty() ?
+        null :
+        queryPlanning.fieldsToDecode.toArray(new String[queryPlanning.fieldsToDecode.size()]);
   }
 
   @Override
@@ -68,7 +75,7 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
             if (ORDER_DESC == order) {
               return iterator.hasPrevious();
             } else {
-              return iterator.hasNext();
+              return scan(ctx, iterator::hasNext);
             }
           } finally {
             if (profilingEnabled) {
@@ -94,7 +101,11 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
             if (ORDER_DESC == order) {
               record = iterator.previous();
             } else {
-              record = iterator.next();
+              record = scan(ctx, iterator::next);
+            }
+            if (fieldsToDecode != null && record instanceof ODocument) {
+              // decodes all the fields needed by the query in one pass, the other fields are never deserialized
+              ((ODocument) record).deserializeFields(fieldsToDecode);
             }
             nFetched++;
             OResultInternal result = new OResultInternal();
@@ -133,6 +144,21 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
 
   }
 
+  /**
+   * Cluster is read in order of record positions, so pages of the cluster are read in batches and the next batch is prefetched in
+   * background while the current one is processed.
+   */
+  private static <T> T scan(OCommandContext ctx, Supplier<T> action) {
+    final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    final boolean prefetchRecords = db.isPrefetchRecords();
+    db.setPrefetchRecords(true);
+    try {
+      return action.get();
+    } finally {
+      db.setPrefetchRecords(prefetchRecords);
+    }
+  }
+
   private long calculateMinClusterPosition() {
     if (queryPlanning == null || queryPlanning.ridRangeConditions == null || queryPlanning.ridRangeConditions.isEmpty()) {
       return -1;
@@ -212,6 +238,9 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
     if (profilingEnabled) {
       result += " (" + getCostFormatted() + ")";
     }
+    if (fieldsToDecode != null) {
+      result += "\n" + OExecutionStepInternal.getIndent(depth, indent) + "  fields to decode: " + Arrays.toString(fieldsToDecode);
+    }
     return result;
   }
 
@@ -219,6 +248,10 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
     this.order = order;
   }
 
+  public int getClusterId() {
+    return clusterId;
+  }
+
   @Override
   public long getCost() {
     return cost;
@@ -3,6 +3,8 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORecordId;
@@ -14,10 +16,17 @@ import java.util.stream.Collectors;
  * Created by luigidellaquila on 22/07/16.
  */
 public class FetchFromRidsStep extends AbstractExecutionStep {
+  /**
+   * Amount of records which are loaded from storage at once
+   */
+  private static final int LOAD_BATCH_SIZE = 100;
+
   private Collection<ORecordId> rids;
 
   private Iterator<ORecordId> iterator;
 
+  private Iterator<? extends OIdentifiable> loadedRecords;
+
   private OResult nextResult = null;
 
   public FetchFromRidsStep(Collection<ORecordId> rids, OCommandContext ctx, boolean profilingEnabled) {
@@ -28,6 +37,7 @@ public class FetchFromRidsStep extends AbstractExecutionStep {
 
   public void reset() {
     iterator = rids.iterator();
+    loadedRecords = null;
     nextResult = null;
   }
 
@@ -41,20 +51,17 @@ public class FetchFromRidsStep extends AbstractExecutionStep {
         if (nextResult != null) {
           return;
         }
-        while (iterator.hasNext()) {
-          ORecordId nextRid = iterator.next();
-          if (nextRid == null) {
-            continue;
+        while (true) {
+          if (loadedRecords != null && loadedRecords.hasNext()) {
+            nextResult = new OResultInternal();
+            ((OResultInternal) nextResult).setElement(loadedRecords.next());
+            return;
           }
-          OIdentifiable nextDoc = (OIdentifiable) ctx.getDatabase().load(nextRid);
-          if (nextDoc == null) {
-            continue;
+          if (!iterator.hasNext()) {
+            return;
           }
-          nextResult = new OResultInternal();
-          ((OResultInternal) nextResult).setElement(nextDoc);
-          return;
+          loadedRecords = loadNextBatch(ctx).iterator();
         }
-        return;
       }
 
       @Override
@@ -97,6 +104,30 @@ public class FetchFromRidsStep extends AbstractExecutionStep {
     };
   }
 
+  private List<? extends OIdentifiable> loadNextBatch(OCommandContext ctx) {
+    List<ORecordId> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+    while (batch.size() < LOAD_BATCH_SIZE && iterator.hasNext()) {
+      ORecordId nextRid = iterator.next();
+      if (nextRid != null) {
+        batch.add(nextRid);
+      }
+    }
+
+    ODatabase db = ctx.getDatabase();
+    if (db instanceof ODatabaseDocumentInternal) {
+      return ((ODatabaseDocumentInternal) db).loadRecords(batch);
+    }
+
+    List<OIdentifiable> result = new ArrayList<>(batch.size());
+    for (ORecordId rid : batch) {
+      OIdentifiable nextDoc = (OIdentifiable) db.load(rid);
+      if (nextDoc != null) {
+        result.add(nextDoc);
+      }
+    }
+    return result;
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     return OExecutionStepInternal.getIndent(depth, indent) + "+ FETCH FROM RIDs\n" + OExecutionStepInternal.getIndent(depth, indent)
@@ -6,6 +6,7 @@ import com.orientechnologies.orient.core.command.OCommandContext;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>Execution Steps are the building blocks of a query execution plan</p> <p>Typically an execution plan is made of a chain of
@@ -135,4 +136,27 @@ public interface OExecutionStepInternal extends OExecutionStep {
   default boolean canBeCached() {
     return false;
   }
+
+  /**
+   * adds to the query statistics the counters collected by this step during the execution (eg. the amount of data written to
+   * temporary files)
+   *
+   * @param stats the statistics of the query, counters with the same name are summed
+   */
+  default void fillQueryStats(Map<String, Long> stats) {
+    List<OExecutionStep> subSteps = getSubSteps();
+    if (subSteps != null) {
+      for (OExecutionStep step : subSteps) {
+        if (step instanceof OExecutionStepInternal) {
+          ((OExecutionStepInternal) step).fillQueryStats(stats);
+        }
+      }
+    }
+  }
+
+  static void addQueryStat(Map<String, Long> stats, String name, long value) {
+    if (value != 0) {
+      stats.merge(name, value, Long::sum);
+    }
+  }
 }
@@ -2,6 +2,9 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Created by luigidellaquila on 06/07/16.
  */
@@ -46,4 +49,12 @@ public interface OInternalExecutionPlan extends OExecutionPlan {
   default void setStatement(String stm) {
 
   }
+
+  /**
+   * @return the counters collected by the steps of the plan during the execution (eg. the amount of data written to temporary
+   * files)
+   */
+  default Map<String, Long> getQueryStats() {
+    return new HashMap<>();
+  }
 }
@@ -0,0 +1,132 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordAbstract;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Gives a rough estimation of the heap memory used by query results, so that blocking query operations can decide when their
+ * intermediate results exceed the memory limit and have to be written to disk.
+ * <p>
+ * The estimation does not walk the whole object graph: records are measured by the size of their serialized content, collections
+ * and maps by their size and by the estimation of their first elements.
+ */
+public class OResultMemoryEstimator {
+  private static final int OBJECT_OVERHEAD     = 16;
+  private static final int REFERENCE_SIZE      = 8;
+  private static final int RESULT_OVERHEAD     = 96;
+  private static final int DEFAULT_RECORD_SIZE = 256;
+  private static final int MAX_SAMPLED_ITEMS   = 16;
+
+  private OResultMemoryEstimator() {
+  }
+
+  /**
+   * @param result a query result
+   *
+   * @return the estimated number of bytes that the result keeps in the heap
+   */
+  public static long estimate(OResult result) {
+    long size = RESULT_OVERHEAD;
+    if (result == null) {
+      return size;
+    }
+    if (result.isElement()) {
+      size += estimateRecord(result.getRecord().orElse(null));
+    }
+    if (result instanceof OResultInternal) {
+      size += estimateMap(((OResultInternal) result).content);
+    } else if (!result.isElement()) {
+      for (String name : result.getPropertyNames()) {
+        size += estimateValue(name) + estimateValue(result.getProperty(name)) + REFERENCE_SIZE * 2;
+      }
+    }
+    for (String key : result.getMetadataKeys()) {
+      size += estimateValue(key) + estimateValue(result.getMetadata(key)) + REFERENCE_SIZE * 2;
+    }
+    return size;
+  }
+
+  private static long estimateRecord(ORecord record) {
+    if (record == null) {
+      return 0;
+    }
+    int recordSize = record instanceof ORecordAbstract ? ((ORecordAbstract) record).getSize() : 0;
+    if (recordSize <= 0) {
+      recordSize = DEFAULT_RECORD_SIZE;
+    }
+    // the serialized content plus, roughly, the same amount for the deserialized fields
+    return OBJECT_OVERHEAD * 4 + recordSize * 2L;
+  }
+
+  /**
+   * @param value a property value or a GROUP BY key
+   *
+   * @return the estimated number of bytes that the value keeps in the heap
+   */
+  public static long estimateValue(Object value) {
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof String) {
+      return OBJECT_OVERHEAD * 2 + ((String) value).length() * 2L;
+    }
+    if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+      return OBJECT_OVERHEAD + 8;
+    }
+    if (value instanceof byte[]) {
+      return OBJECT_OVERHEAD + ((byte[]) value).length;
+    }
+    if (value instanceof OResult) {
+      return estimate((OResult) value);
+    }
+    if (value instanceof ORecord) {
+      return estimateRecord((ORecord) value);
+    }
+    if (value instanceof OIdentifiable) {
+      return OBJECT_OVERHEAD * 2 + 12;
+    }
+    if (value instanceof Collection) {
+      return estimateCollection((Collection<?>) value);
+    }
+    if (value instanceof Map) {
+      return estimateMap((Map<?, ?>) value);
+    }
+    return OBJECT_OVERHEAD * 2;
+  }
+
+  private static long estimateCollection(Collection<?> collection) {
+    long size = OBJECT_OVERHEAD * 2 + (long) collection.size() * REFERENCE_SIZE;
+    if (collection.isEmpty()) {
+      return size;
+    }
+    long sampled = 0;
+    int count = 0;
+    for (Object item : collection) {
+      sampled += estimateValue(item);
+      if (++count >= MAX_SAMPLED_ITEMS) {
+        break;
+      }
+    }
+    return size + sampled * collection.size() / count;
+  }
+
+  private static long estimateMap(Map<?, ?> map) {
+    long size = OBJECT_OVERHEAD * 3 + (long) map.size() * (REFERENCE_SIZE * 4 + OBJECT_OVERHEAD);
+    if (map.isEmpty()) {
+      return size;
+    }
+    long sampled = 0;
+    int count = 0;
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      sampled += estimateValue(entry.getKey()) + estimateValue(entry.getValue());
+      if (++count >= MAX_SAMPLED_ITEMS) {
+        break;
+      }
+    }
+    return size + sampled * map.size() / count;
+  }
+}
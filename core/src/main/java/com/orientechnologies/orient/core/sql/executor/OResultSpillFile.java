@@ -0,0 +1,227 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OVarIntSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.result.binary.OResultSerializerNetwork;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * Temporary file that holds the query results that do not fit in the memory limit of a query operation (see {@link
+ * OGlobalConfiguration#QUERY_MEMORY_LIMIT_PER_OPERATION}).
+ * <p>
+ * Results are appended with {@link #write(OResult)}; after {@link #finishWriting()} they can be read back, in the same order, with
+ * {@link #read()}. Records are written with their identity, version and serialized content, so that they are read back as records
+ * without accessing the storage; projections and metadata are written with the {@link OResultSerializerNetwork}. The file is
+ * deleted by {@link #close()}.
+ */
+public class OResultSpillFile implements AutoCloseable {
+  private static final byte PROJECTION = 0;
+  private static final byte RECORD     = 1;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final ODatabaseDocumentInternal db;
+  private final OResultSerializerNetwork  serializer = new OResultSerializerNetwork();
+  private final Path                      path;
+
+  private DataOutputStream out;
+  private DataInputStream  in;
+  private long             size      = 0;
+  private long             bytes     = 0;
+  private long             readCount = 0;
+
+  public OResultSpillFile(OCommandContext ctx, String prefix) {
+    this.db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    try {
+      this.path = Files.createTempFile(getSpillDirectory(db), prefix, ".tmp");
+      this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path.toFile()), BUFFER_SIZE));
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot create temporary file for query results"), e);
+    }
+  }
+
+  /**
+   * @return true if the query operations executed on the database have to write to disk the intermediate results that exceed the
+   * memory limit. Spilling is not used inside transactions, because the records read back from disk would not be the ones tracked by
+   * the transaction.
+   */
+  public static boolean isSpillEnabled(OCommandContext ctx) {
+    return getMemoryLimit(ctx) > 0 && ctx.getDatabase() instanceof ODatabaseDocumentInternal && !((ODatabaseDocumentInternal) ctx
+        .getDatabase()).getTransaction().isActive();
+  }
+
+  /**
+   * @return the memory limit of a single query operation in bytes, 0 if there is no limit
+   */
+  public static long getMemoryLimit(OCommandContext ctx) {
+    int limitMB;
+    if (ctx.getDatabase() instanceof ODatabaseDocumentInternal) {
+      limitMB = ((ODatabaseDocumentInternal) ctx.getDatabase()).getConfiguration()
+          .getValueAsInteger(OGlobalConfiguration.QUERY_MEMORY_LIMIT_PER_OPERATION);
+    } else {
+      limitMB = OGlobalConfiguration.QUERY_MEMORY_LIMIT_PER_OPERATION.getValueAsInteger();
+    }
+    return limitMB <= 0 ? 0 : limitMB * 1024L * 1024L;
+  }
+
+  private static Path getSpillDirectory(ODatabaseDocumentInternal db) throws IOException {
+    String dir = db.getConfiguration().getValueAsString(OGlobalConfiguration.QUERY_SPILL_DIRECTORY);
+    if (dir == null || dir.trim().isEmpty()) {
+      dir = System.getProperty("java.io.tmpdir");
+    }
+    Path result = Paths.get(OFileUtils.getPath(dir));
+    Files.createDirectories(result);
+    return result;
+  }
+
+  public void write(OResult result) {
+    byte[] content = serialize(result);
+    try {
+      out.writeInt(content.length);
+      out.write(content);
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot write query results to " + path), e);
+    }
+    size++;
+    bytes += content.length + 4;
+  }
+
+  /**
+   * flushes the written results and prepares the file to be read
+   */
+  public void finishWriting() {
+    try {
+      out.close();
+      out = null;
+      in = new DataInputStream(new BufferedInputStream(new FileInputStream(path.toFile()), BUFFER_SIZE));
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot read query results from " + path), e);
+    }
+  }
+
+  /**
+   * @return the next result in the file, null if all the results were read
+   */
+  public OResult read() {
+    if (readCount >= size) {
+      return null;
+    }
+    try {
+      byte[] content = new byte[in.readInt()];
+      in.readFully(content);
+      readCount++;
+      return deserialize(content);
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot read query results from " + path), e);
+    }
+  }
+
+  /**
+   * @return the number of results written to the file
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * @return the number of bytes written to the file
+   */
+  public long getBytes() {
+    return bytes;
+  }
+
+  @Override
+  public void close() {
+    try {
+      if (out != null) {
+        out.close();
+        out = null;
+      }
+      if (in != null) {
+        in.close();
+        in = null;
+      }
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      OLogManager.instance().warn(this, "Cannot delete temporary file of query results %s", e, path);
+    }
+  }
+
+  private byte[] serialize(OResult result) {
+    BytesContainer container = new BytesContainer();
+    ORecord record = result.getRecord().orElse(null);
+    OResultInternal properties = new OResultInternal();
+    if (record != null) {
+      writeByte(container, RECORD);
+      writeByte(container, ORecordInternal.getRecordType(record));
+      ORID rid = record.getIdentity();
+      OVarIntSerializer.write(container, rid.getClusterId());
+      OVarIntSerializer.write(container, rid.getClusterPosition());
+      OVarIntSerializer.write(container, record.getVersion());
+      byte[] stream = record.toStream();
+      OVarIntSerializer.write(container, stream.length);
+      int pos = container.alloc(stream.length);
+      System.arraycopy(stream, 0, container.bytes, pos, stream.length);
+      if (result instanceof OResultInternal) {
+        //properties added to the record by the query
+        for (Map.Entry<String, Object> entry : ((OResultInternal) result).content.entrySet()) {
+          properties.setProperty(entry.getKey(), entry.getValue());
+        }
+      }
+    } else {
+      writeByte(container, PROJECTION);
+      for (String name : result.getPropertyNames()) {
+        properties.setProperty(name, result.getProperty(name));
+      }
+    }
+    for (String key : result.getMetadataKeys()) {
+      properties.setMetadata(key, result.getMetadata(key));
+    }
+    serializer.serialize(properties, container);
+    return container.fitBytes();
+  }
+
+  private static void writeByte(BytesContainer container, byte value) {
+    int pos = container.alloc(1);
+    container.bytes[pos] = value;
+  }
+
+  private OResult deserialize(byte[] content) {
+    BytesContainer container = new BytesContainer(content);
+    byte kind = content[container.offset++];
+    if (kind == PROJECTION) {
+      return serializer.deserialize(container);
+    }
+    byte recordType = content[container.offset++];
+    int clusterId = OVarIntSerializer.readAsInteger(container);
+    long clusterPosition = OVarIntSerializer.readAsLong(container);
+    int version = OVarIntSerializer.readAsInteger(container);
+    byte[] stream = new byte[OVarIntSerializer.readAsInteger(container)];
+    System.arraycopy(content, container.offset, stream, 0, stream.length);
+    container.skip(stream.length);
+
+    ORecord record = Orient.instance().getRecordFactoryManager().newInstance(recordType, clusterId, db);
+    ORecordInternal.fill(record, new ORecordId(clusterId, clusterPosition), version, stream, false);
+
+    OResultInternal properties = serializer.deserialize(container);
+    properties.setElement(record);
+    return properties;
+  }
+}
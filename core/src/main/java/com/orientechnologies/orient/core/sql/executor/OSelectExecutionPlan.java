@@ -5,7 +5,9 @@ import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -95,6 +97,15 @@ public class OSelectExecutionPlan implements OInternalExecutionPlan {
     return 0l;
   }
 
+  @Override
+  public Map<String, Long> getQueryStats() {
+    Map<String, Long> result = new HashMap<>();
+    for (OExecutionStepInternal step : steps) {
+      step.fillQueryStats(result);
+    }
+    return result;
+  }
+
   public OResult serialize() {
     OResultInternal result = new OResultInternal();
     result.setProperty("type", "QueryExecutionPlan");
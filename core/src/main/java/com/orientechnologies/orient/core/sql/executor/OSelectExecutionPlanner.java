@@ -3,6 +3,7 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.util.OPair;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseInternal;
@@ -82,6 +83,8 @@ public class OSelectExecutionPlanner {
 
     calculateShardingStrategy(info, ctx);
 
+    info.fieldsToDecode = calculateFieldsToDecode(info);
+
     handleFetchFromTarger(result, info, ctx, enableProfiling);
 
     if (info.globalLetPresent) {
@@ -572,7 +575,7 @@ public class OSelectExecutionPlanner {
 
   private static void handleDistinct(OSelectExecutionPlan result, QueryPlanningInfo info, OCommandContext ctx,
       boolean profilingEnabled) {
-    result.chain(new DistinctExecutionStep(ctx, profilingEnabled));
+    result.chain(new DistinctExecutionStep(ctx, info.orderBy != null, profilingEnabled));
   }
 
   private static void handleProjectionsBeforeOrderBy(OSelectExecutionPlan result, QueryPlanningInfo info, OCommandContext ctx,
@@ -619,6 +622,73 @@ public class OSelectExecutionPlanner {
     addOrderByProjections(info);
   }
 
+  /**
+   * calculates the record fields that are read by the query, so that only these fields are decoded when records are fetched.
+   *
+   * @return the field names or null if the fields cannot be determined (eg. SELECT *, per-record LET, functions, subqueries)
+   */
+  protected static Set<String> calculateFieldsToDecode(QueryPlanningInfo info) {
+    if (info.perRecordLetClause != null || info.unwind != null) {
+      return null;
+    }
+    Set<String> result = new LinkedHashSet<>();
+    if (!collectRequiredFields(info.preAggregateProjection, result) || !collectRequiredFields(info.aggregateProjection, result)) {
+      return null;
+    }
+    if (!collectRequiredFields(info.projection, result) || !collectRequiredFields(info.projectionAfterOrderBy, result)) {
+      return null;
+    }
+    if (info.projection == null && info.aggregateProjection == null) {
+      return null;
+    }
+    if (info.whereClause != null && !info.whereClause.getBaseExpression().collectRequiredFields(result)) {
+      return null;
+    }
+    if (info.groupBy != null) {
+      for (OExpression item : info.groupBy.getItems()) {
+        if (!item.collectRequiredFields(result)) {
+          return null;
+        }
+      }
+    }
+    if (info.orderBy != null && info.orderBy.getItems() != null) {
+      for (OOrderByItem item : info.orderBy.getItems()) {
+        if (item.getModifier() != null) {
+          return null;
+        }
+        if (item.getAlias() != null) {
+          if (!isProjectionAlias(info, item.getAlias())) {
+            result.add(item.getAlias());
+          }
+        } else if (!isRecordMetadata(item.getRecordAttr())) {
+          return null;
+        }
+      }
+    }
+    return result;
+  }
+
+  private static boolean isProjectionAlias(QueryPlanningInfo info, String alias) {
+    return (info.projection != null && info.projection.getAllAliases().contains(alias)) || (info.aggregateProjection != null
+        && info.aggregateProjection.getAllAliases().contains(alias));
+  }
+
+  private static boolean isRecordMetadata(String recordAttr) {
+    return "@rid".equalsIgnoreCase(recordAttr) || "@class".equalsIgnoreCase(recordAttr) || "@version".equalsIgnoreCase(recordAttr);
+  }
+
+  private static boolean collectRequiredFields(OProjection projection, Set<String> fields) {
+    if (projection == null || projection.getItems() == null) {
+      return true;
+    }
+    for (OProjectionItem item : projection.getItems()) {
+      if (item.isAll() || item.getExpression() == null || !item.getExpression().collectRequiredFields(fields)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private static void rewriteIndexChainsAsSubqueries(QueryPlanningInfo info, OCommandContext ctx) {
     if (ctx == null || ctx.getDatabase() == null) {
       return;
@@ -1407,7 +1477,8 @@ public class OSelectExecutionPlanner {
     if (limitSize >= 0) {
       maxResults = skipSize + limitSize;
     }
-    if (info.expand || info.unwind != null) {
+    if (info.expand || info.unwind != null || info.distinct) {
+      // the results after the ORDER BY are not the ones returned, so its buffer cannot be bounded
       maxResults = null;
     }
     if (!info.orderApplied && info.orderBy != null && info.orderBy.getItems() != null && info.orderBy.getItems().size() > 0) {
@@ -1459,7 +1530,53 @@ public class OSelectExecutionPlanner {
     if (orderByRidAsc != null && info.serverToClusters.size() == 1) {
       info.orderApplied = true;
     }
-    plan.chain(fetcher);
+    if (orderByRidAsc == null && canScanClassInParallel(fetcher, ctx)) {
+      plan.chain(createParallelClassScan(fetcher, info, ctx, profilingEnabled));
+    } else {
+      plan.chain(fetcher);
+    }
+  }
+
+  /**
+   * checks if the clusters of a class can be scanned in parallel: the scan is not required to return records in RID order (checked
+   * by the caller), parallel execution is enabled with {@link OGlobalConfiguration#QUERY_PARALLEL_AUTO}, more than one cluster has
+   * to be scanned and the clusters contain enough records to make it worth.
+   */
+  private boolean canScanClassInParallel(FetchFromClassExecutionStep fetcher, OCommandContext ctx) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    if (!db.getConfiguration().getValueAsBoolean(OGlobalConfiguration.QUERY_PARALLEL_AUTO) || db.getTransaction().isActive()) {
+      return false;
+    }
+    int[] clusterIds = fetcher.getSubSteps().stream().filter(x -> x instanceof FetchFromClusterExecutionStep)
+        .mapToInt(x -> ((FetchFromClusterExecutionStep) x).getClusterId()).toArray();
+    if (clusterIds.length < 2) {
+      return false;
+    }
+    return db.getStorage().count(clusterIds) >= db.getConfiguration()
+        .getValueAsLong(OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS);
+  }
+
+  /**
+   * transforms a class scan in a parallel execution of the single cluster scans. If the query is not sharded and there is no LET
+   * clause, also the WHERE condition is evaluated in parallel, in each sub-plan
+   */
+  private OExecutionStepInternal createParallelClassScan(FetchFromClassExecutionStep fetcher, QueryPlanningInfo info,
+      OCommandContext ctx, boolean profilingEnabled) {
+    boolean pushDownWhere = info.whereClause != null && info.perRecordLetClause == null && info.serverToClusters.size() == 1;
+    List<OInternalExecutionPlan> subPlans = new ArrayList<>();
+    for (OExecutionStep clusterStep : fetcher.getSubSteps()) {
+      OSelectExecutionPlan subPlan = new OSelectExecutionPlan(ctx);
+      subPlan.chain((OExecutionStepInternal) clusterStep);
+      if (pushDownWhere) {
+        subPlan.chain(new FilterStep(info.whereClause.copy(), ctx, profilingEnabled));
+      }
+      subPlans.add(subPlan);
+    }
+    if (pushDownWhere) {
+      info.whereClause = null;
+      info.flattenedWhereClause = null;
+    }
+    return new ParallelExecStep(subPlans, true, ctx, profilingEnabled);
   }
 
   private boolean handleClassAsTargetWithIndexedFunction(OSelectExecutionPlan plan, Set<String> filterClusters,
@@ -1797,7 +1914,7 @@ public class OSelectExecutionPlanner {
       }
       result.add(new GetValueFromIndexEntryStep(ctx, filterClusterIds, profilingEnabled));
       if (requiresMultipleIndexLookups(desc.keyCondition)) {
-        result.add(new DistinctExecutionStep(ctx, profilingEnabled));
+        result.add(new DistinctExecutionStep(ctx, info.orderBy != null, profilingEnabled));
       }
       if (orderAsc != null && info.orderBy != null && fullySorted(info.orderBy, desc.keyCondition, desc.idx)
           && info.serverToClusters.size() == 1) {
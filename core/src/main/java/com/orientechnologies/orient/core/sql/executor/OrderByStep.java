@@ -1,15 +1,27 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.sql.parser.OOrderBy;
 
 import java.util.*;
 
 /**
+ * Sorts the results of the previous step.
+ * <p>
+ * With a LIMIT (maxResults) only the first maxResults results are kept, in a bounded heap.
+ * <p>
+ * If there is no LIMIT and the results exceed the memory limit of a query operation ({@link
+ * com.orientechnologies.orient.core.config.OGlobalConfiguration#QUERY_MEMORY_LIMIT_PER_OPERATION}), the results collected so far
+ * are sorted and written to a temporary file (a sorted run); at the end the runs are merged while the results are returned.
+ * <p>
  * Created by luigidellaquila on 11/07/16.
  */
 public class OrderByStep extends AbstractExecutionStep {
+  public static final String STAT_SPILLED_RUNS  = "orderBySpilledRuns";
+  public static final String STAT_SPILLED_BYTES = "orderBySpilledBytes";
+
   private final OOrderBy orderBy;
   private       Integer  maxResults;
 
@@ -18,6 +30,50 @@ public class OrderByStep extends AbstractExecutionStep {
   List<OResult> cachedResult = null;
   int           nextElement  = 0;
 
+  private long                   memoryLimit      = 0;
+  private long                   cachedResultSize = 0;
+  private List<OResultSpillFile> spilledRuns      = new ArrayList<>();
+  private long                   spilledBytes     = 0;
+  private PriorityQueue<RunHead> mergeQueue       = null;
+
+  /**
+   * the next result of a sorted run, during the merge of the runs
+   */
+  private static class RunHead {
+    private final int               run;
+    private final OResultSpillFile  file;
+    private final Iterator<OResult> memory;
+    private       OResult           current;
+
+    private RunHead(int run, OResultSpillFile file, Iterator<OResult> memory) {
+      this.run = run;
+      this.file = file;
+      this.memory = memory;
+    }
+
+    private boolean advance() {
+      if (file != null) {
+        current = file.read();
+      } else {
+        current = memory.hasNext() ? memory.next() : null;
+      }
+      return current != null;
+    }
+  }
+
+  /**
+   * a result kept by the top-K heap, with its position in the input
+   */
+  private static class TopKEntry {
+    private final OResult result;
+    private final long    sequence;
+
+    private TopKEntry(OResult result, long sequence) {
+      this.result = result;
+      this.sequence = sequence;
+    }
+  }
+
   public OrderByStep(OOrderBy orderBy, OCommandContext ctx, boolean profilingEnabled) {
     this(orderBy, null, ctx, profilingEnabled);
   }
@@ -35,9 +91,16 @@ public class OrderByStep extends AbstractExecutionStep {
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
     if (cachedResult == null) {
       cachedResult = new ArrayList<>();
+      if (maxResults == null && OResultSpillFile.isSpillEnabled(ctx)) {
+        memoryLimit = OResultSpillFile.getMemoryLimit(ctx);
+      }
       prev.ifPresent(p -> init(p, ctx));
     }
 
+    if (mergeQueue != null) {
+      return mergeResultSet(nRecords);
+    }
+
     return new OResultSet() {
       int currentBatchReturned = 0;
       int offset = nextElement;
@@ -92,7 +155,10 @@ public class OrderByStep extends AbstractExecutionStep {
   }
 
   private void init(OExecutionStepInternal p, OCommandContext ctx) {
-
+    if (maxResults != null) {
+      initTopK(p, ctx);
+      return;
+    }
     boolean sorted = true;
     do {
       OResultSet lastBatch = p.syncPull(ctx, 100);
@@ -108,11 +174,11 @@ public class OrderByStep extends AbstractExecutionStep {
         try {
           cachedResult.add(item);
           sorted = false;
-          //compact, only at twice as the buffer, to avoid to do it at each add
-          if (this.maxResults != null && maxResults * 2 < cachedResult.size()) {
-            cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-            cachedResult = new ArrayList<>(cachedResult.subList(0, maxResults));
-            sorted = true;
+          if (memoryLimit > 0) {
+            cachedResultSize += OResultMemoryEstimator.estimate(item);
+            if (cachedResultSize > memoryLimit) {
+              spillRun(ctx);
+            }
           }
         } finally {
           if (profilingEnabled) {
@@ -123,31 +189,183 @@ public class OrderByStep extends AbstractExecutionStep {
       if (timedOut) {
         break;
       }
-      long begin = profilingEnabled ? System.nanoTime() : 0;
-      try {
-        //compact at each batch, if needed
-        if (!sorted && this.maxResults != null && maxResults < cachedResult.size()) {
-          cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-          cachedResult = new ArrayList<>(cachedResult.subList(0, maxResults));
-          sorted = true;
+    } while (true);
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      if (!sorted) {
+        cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
+      }
+      if (!spilledRuns.isEmpty()) {
+        initMerge(ctx);
+      }
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+
+  }
+
+  /**
+   * keeps only the first maxResults results in a bounded heap, whose head is the result that would be discarded first: O(n log k)
+   * comparisons and O(k) memory
+   */
+  private void initTopK(OExecutionStepInternal p, OCommandContext ctx) {
+    // results with the same value keep the original order, as the sort does: the last one read is the first to be discarded
+    Comparator<TopKEntry> order = (a, b) -> {
+      int result = orderBy.compare(a.result, b.result, ctx);
+      return result != 0 ? result : Long.compare(a.sequence, b.sequence);
+    };
+    PriorityQueue<TopKEntry> heap = new PriorityQueue<>(Math.min(maxResults, 1000) + 1, order.reversed());
+    long sequence = 0;
+    do {
+      OResultSet lastBatch = p.syncPull(ctx, 100);
+      if (!lastBatch.hasNext()) {
+        break;
+      }
+      while (lastBatch.hasNext()) {
+        if (this.timedOut) {
+          break;
         }
-      } finally {
-        if (profilingEnabled) {
-          cost += (System.nanoTime() - begin);
+        OResult item = lastBatch.next();
+        long begin = profilingEnabled ? System.nanoTime() : 0;
+        try {
+          if (maxResults == 0) {
+            continue;
+          }
+          TopKEntry entry = new TopKEntry(item, sequence++);
+          if (heap.size() < maxResults) {
+            heap.add(entry);
+          } else if (order.compare(entry, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(entry);
+          }
+        } finally {
+          if (profilingEnabled) {
+            cost += (System.nanoTime() - begin);
+          }
         }
       }
+      if (timedOut) {
+        break;
+      }
     } while (true);
     long begin = profilingEnabled ? System.nanoTime() : 0;
     try {
-      if (!sorted) {
-        cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
+      TopKEntry[] entries = heap.toArray(new TopKEntry[heap.size()]);
+      Arrays.sort(entries, order);
+      cachedResult = new ArrayList<>(entries.length);
+      for (TopKEntry entry : entries) {
+        cachedResult.add(entry.result);
       }
     } finally {
       if (profilingEnabled) {
         cost += (System.nanoTime() - begin);
       }
     }
+  }
 
+  /**
+   * sorts the results collected in memory and writes them to a temporary file
+   */
+  private void spillRun(OCommandContext ctx) {
+    cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
+    OResultSpillFile run = new OResultSpillFile(ctx, "orientdb-orderby-");
+    try {
+      for (OResult item : cachedResult) {
+        run.write(item);
+      }
+      run.finishWriting();
+    } catch (RuntimeException e) {
+      // eg. a result that cannot be serialized, go on in memory
+      OLogManager.instance().warn(this, "Cannot write sorted results to disk, the sort will be executed in memory", e);
+      run.close();
+      memoryLimit = 0;
+      return;
+    }
+    spilledRuns.add(run);
+    spilledBytes += run.getBytes();
+    cachedResult = new ArrayList<>();
+    cachedResultSize = 0;
+  }
+
+  private void initMerge(OCommandContext ctx) {
+    mergeQueue = new PriorityQueue<>(spilledRuns.size() + 1, (a, b) -> {
+      int result = orderBy.compare(a.current, b.current, ctx);
+      // results with the same value keep the original order, as the in memory sort does
+      return result != 0 ? result : Integer.compare(a.run, b.run);
+    });
+    for (int i = 0; i < spilledRuns.size(); i++) {
+      RunHead head = new RunHead(i, spilledRuns.get(i), null);
+      if (head.advance()) {
+        mergeQueue.add(head);
+      }
+    }
+    RunHead memoryRun = new RunHead(spilledRuns.size(), null, cachedResult.iterator());
+    if (memoryRun.advance()) {
+      mergeQueue.add(memoryRun);
+    }
+  }
+
+  private OResultSet mergeResultSet(int nRecords) {
+    return new OResultSet() {
+      int currentBatchReturned = 0;
+
+      @Override
+      public boolean hasNext() {
+        return currentBatchReturned < nRecords && !mergeQueue.isEmpty();
+      }
+
+      @Override
+      public OResult next() {
+        long begin = profilingEnabled ? System.nanoTime() : 0;
+        try {
+          if (!hasNext()) {
+            throw new IllegalStateException();
+          }
+          RunHead head = mergeQueue.poll();
+          OResult result = head.current;
+          if (head.advance()) {
+            mergeQueue.add(head);
+          }
+          currentBatchReturned++;
+          return result;
+        } finally {
+          if (profilingEnabled) {
+            cost += (System.nanoTime() - begin);
+          }
+        }
+      }
+
+      @Override
+      public void close() {
+        prev.ifPresent(p -> p.close());
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return Optional.empty();
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return new HashMap<>();
+      }
+    };
+  }
+
+  @Override
+  public void close() {
+    for (OResultSpillFile run : spilledRuns) {
+      run.close();
+    }
+    super.close();
+  }
+
+  @Override
+  public void fillQueryStats(Map<String, Long> stats) {
+    OExecutionStepInternal.addQueryStat(stats, STAT_SPILLED_RUNS, spilledRuns.size());
+    OExecutionStepInternal.addQueryStat(stats, STAT_SPILLED_BYTES, spilledBytes);
   }
 
   @Override
@@ -157,6 +375,9 @@ public class OrderByStep extends AbstractExecutionStep {
       result += " (" + getCostFormatted() + ")";
     }
     result += (maxResults != null ? "\n  (buffer size: " + maxResults + ")" : "");
+    if (!spilledRuns.isEmpty()) {
+      result += "\n  (spilled to disk: " + spilledRuns.size() + " sorted runs, " + spilledBytes + " bytes)";
+    }
     return result;
   }
 
@@ -1,30 +1,93 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
+ * Executes a list of sub-plans and returns the union of their results.
+ * <p>
+ * By default the sub-plans are executed one after the other on the caller thread. When created in parallel mode, each sub-plan is
+ * executed on the OrientDB worker pool (at most {@link OGlobalConfiguration#QUERY_PARALLEL_MAX_THREADS} sub-plans at a time), with
+ * its own database instance; every sub-plan fills a bounded prefetch queue of batches, so the workers can run ahead of the caller
+ * only by {@link OGlobalConfiguration#QUERY_PARALLEL_PREFETCH_BATCHES} batches of the size requested by {@link #syncPull}. In
+ * parallel mode the results of different sub-plans are interleaved, so it has to be used only when the order of the results does
+ * not matter. If a transaction is active, the sub-plans are executed serially anyway, because other database instances cannot see
+ * the transaction changes.
+ *
  * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com)
  */
 public class ParallelExecStep extends AbstractExecutionStep {
+  /**
+   * marks the threads that are executing a sub-plan in parallel, nested parallel steps are executed serially on them to avoid
+   * saturating the worker pool
+   */
+  private static final ThreadLocal<Boolean> PARALLEL_WORKER = new ThreadLocal<>();
+
+  private static final List<OResult> END_OF_PLAN = Collections.emptyList();
+
   private final List<OInternalExecutionPlan> subExecutionPlans;
+  private final boolean                      parallel;
 
   int current = 0;
   private OResultSet currentResultSet = null;
 
+  private          boolean                            started       = false;
+  private          List<BlockingQueue<List<OResult>>> queues;
+  private          Semaphore                          available;
+  private          int                                nextQueue     = 0;
+  private          int                                finishedPlans = 0;
+  private          Iterator<OResult>                  currentBatch  = null;
+  private volatile boolean                            closed        = false;
+  private volatile RuntimeException                   error         = null;
+
   public ParallelExecStep(List<OInternalExecutionPlan> subExecuitonPlans, OCommandContext ctx, boolean profilingEnabled) {
+    this(subExecuitonPlans, false, ctx, profilingEnabled);
+  }
+
+  /**
+   * @param subExecuitonPlans the sub-plans to execute
+   * @param parallel          true to execute the sub-plans concurrently, false to execute them one after the other
+   * @param ctx               the query context
+   * @param profilingEnabled  true to enable profiling
+   */
+  public ParallelExecStep(List<OInternalExecutionPlan> subExecuitonPlans, boolean parallel, OCommandContext ctx,
+      boolean profilingEnabled) {
     super(ctx, profilingEnabled);
     this.subExecutionPlans = subExecuitonPlans;
+    this.parallel = parallel;
+  }
+
+  public boolean isParallel() {
+    return parallel;
   }
 
   @Override
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
     getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    if (!started) {
+      started = true;
+      if (canRunInParallel(ctx)) {
+        startWorkers(ctx, nRecords);
+      }
+    }
+    if (queues != null) {
+      return parallelResultSet(nRecords);
+    }
     return new OResultSet() {
       int localCount = 0;
 
@@ -87,6 +150,209 @@ public class ParallelExecStep extends AbstractExecutionStep {
     } while (!currentResultSet.hasNext());
   }
 
+  private boolean canRunInParallel(OCommandContext ctx) {
+    if (!parallel || subExecutionPlans.size() < 2 || Boolean.TRUE.equals(PARALLEL_WORKER.get())) {
+      return false;
+    }
+    if (!(ctx.getDatabase() instanceof ODatabaseDocumentInternal)) {
+      return false;
+    }
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    if (db.getTransaction().isActive()) {
+      return false;
+    }
+    for (OInternalExecutionPlan plan : subExecutionPlans) {
+      if (!plan.canBeCached()) {
+        //the sub-plan cannot be copied to a context bound to another database instance
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void startWorkers(OCommandContext ctx, int batchSize) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    int maxThreads = Math.max(1, db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_PARALLEL_MAX_THREADS));
+    int prefetchBatches = Math
+        .max(1, db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_PARALLEL_PREFETCH_BATCHES));
+
+    queues = new ArrayList<>();
+    for (int i = 0; i < subExecutionPlans.size(); i++) {
+      queues.add(new ArrayBlockingQueue<>(prefetchBatches + 1));//one more slot for the end of plan marker
+    }
+    available = new Semaphore(0);
+
+    AtomicInteger nextPlan = new AtomicInteger(0);
+    int nWorkers = Math.min(maxThreads, subExecutionPlans.size());
+    for (int i = 0; i < nWorkers; i++) {
+      //the database copy is created here, on the thread that owns the original database instance
+      ODatabaseDocumentInternal workerDb = db.copy();
+      Orient.instance().submit(() -> runWorker(workerDb, ctx, nextPlan, batchSize));
+    }
+  }
+
+  private void runWorker(ODatabaseDocumentInternal workerDb, OCommandContext parentCtx, AtomicInteger nextPlan, int batchSize) {
+    PARALLEL_WORKER.set(Boolean.TRUE);
+    try {
+      workerDb.activateOnCurrentThread();
+      int planIndex;
+      while (!closed && (planIndex = nextPlan.getAndIncrement()) < subExecutionPlans.size()) {
+        runSubPlan(planIndex, workerDb, parentCtx, batchSize);
+      }
+    } finally {
+      workerDb.activateOnCurrentThread();
+      workerDb.close();
+      ODatabaseRecordThreadLocal.instance().remove();
+      PARALLEL_WORKER.remove();
+    }
+  }
+
+  private void runSubPlan(int planIndex, ODatabaseDocumentInternal workerDb, OCommandContext parentCtx, int batchSize) {
+    BlockingQueue<List<OResult>> queue = queues.get(planIndex);
+    try {
+      OInternalExecutionPlan plan = subExecutionPlans.get(planIndex).copy(createWorkerContext(parentCtx, workerDb));
+      try {
+        while (!closed) {
+          OResultSet rs = plan.fetchNext(batchSize);
+          List<OResult> batch = new ArrayList<>(batchSize);
+          while (rs.hasNext()) {
+            batch.add(rs.next());
+          }
+          if (batch.isEmpty() || !enqueue(queue, batch)) {
+            break;
+          }
+        }
+      } finally {
+        plan.close();
+      }
+    } catch (RuntimeException e) {
+      if (error == null) {
+        error = e;
+      }
+    } finally {
+      enqueue(queue, END_OF_PLAN);
+    }
+  }
+
+  /**
+   * creates a context for a sub-plan executed by a worker thread. The variables of the query context are copied, so that the
+   * sub-plan can set its own variables (eg. $current) without affecting the contexts that are in use on other threads
+   */
+  private OCommandContext createWorkerContext(OCommandContext parentCtx, ODatabaseDocumentInternal workerDb) {
+    OBasicCommandContext result = new OBasicCommandContext();
+    result.setVariable("current", null);
+    for (Map.Entry<String, Object> variable : parentCtx.getVariables().entrySet()) {
+      result.setVariable(variable.getKey(), variable.getValue());
+    }
+    result.setParentWithoutOverridingChild(parentCtx.getParent());
+    result.setInputParameters(parentCtx.getInputParameters());
+    result.setDatabase(workerDb);
+    return result;
+  }
+
+  private boolean enqueue(BlockingQueue<List<OResult>> queue, List<OResult> batch) {
+    try {
+      while (!closed) {
+        if (queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+          available.release();
+          return true;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      if (error == null) {
+        error = OException.wrapException(new OCommandExecutionException("Parallel query execution interrupted"), e);
+      }
+      available.release();
+    }
+    return false;
+  }
+
+  private OResultSet parallelResultSet(int nRecords) {
+    return new OResultSet() {
+      int localCount = 0;
+
+      @Override
+      public boolean hasNext() {
+        if (localCount >= nRecords) {
+          return false;
+        }
+        return (currentBatch != null && currentBatch.hasNext()) || fetchNextBatch();
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext()) {
+          throw new IllegalStateException();
+        }
+        localCount++;
+        return currentBatch.next();
+      }
+
+      @Override
+      public void close() {
+
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return null;
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  /**
+   * waits for the next batch produced by any of the sub-plans
+   *
+   * @return false if all the sub-plans are exhausted
+   */
+  private boolean fetchNextBatch() {
+    while (finishedPlans < queues.size()) {
+      try {
+        available.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        close();
+        throw OException.wrapException(new OCommandExecutionException("Parallel query execution interrupted"), e);
+      }
+      if (error != null) {
+        close();
+        throw error;
+      }
+      for (int i = 0; i < queues.size(); i++) {
+        int queueIndex = (nextQueue + i) % queues.size();
+        List<OResult> batch = queues.get(queueIndex).poll();
+        if (batch == null) {
+          continue;
+        }
+        //round robin on the sub-plans, so that no worker waits on a full queue while others are consumed
+        nextQueue = queueIndex + 1;
+        if (batch == END_OF_PLAN) {
+          finishedPlans++;
+          break;
+        }
+        currentBatch = batch.iterator();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    if (queues != null) {
+      //the workers notice that the step is closed and release their sub-plans and database instances
+      queues.forEach(Collection::clear);
+    }
+    super.close();
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String result = "";
@@ -178,7 +444,7 @@ public class ParallelExecStep extends AbstractExecutionStep {
 
   private String head(int depth, int indent, int nItems) {
     String ind = OExecutionStepInternal.getIndent(depth, indent);
-    return ind + "+ PARALLEL";
+    return ind + (parallel ? "+ PARALLEL (" + nItems + " sub-plans, concurrent)" : "+ PARALLEL");
   }
 
   private String foot(int[] blockSizes) {
@@ -217,7 +483,7 @@ public class ParallelExecStep extends AbstractExecutionStep {
 
   @Override
   public OExecutionStep copy(OCommandContext ctx) {
-    return new ParallelExecStep(subExecutionPlans.stream().map(x -> x.copy(ctx)).collect(Collectors.toList()), ctx,
+    return new ParallelExecStep(subExecutionPlans.stream().map(x -> x.copy(ctx)).collect(Collectors.toList()), parallel, ctx,
         profilingEnabled);
   }
 }
@@ -52,6 +52,12 @@ public class QueryPlanningInfo {
   OAndBlock ridRangeConditions;
   OStorage.LOCKING_STRATEGY lockRecord;
 
+  /**
+   * fields that are needed by the query, only these fields are decoded when records are fetched from clusters. Null means that
+   * fields cannot be determined and records are decoded as usual
+   */
+  Set<String> fieldsToDecode;
+
   public QueryPlanningInfo copy() {
     //TODO check what has to be copied and what can be just referenced as it is
     QueryPlanningInfo result = new QueryPlanningInfo();
@@ -82,6 +88,7 @@ public class QueryPlanningInfo {
     result.ridRangeConditions = this.ridRangeConditions;
 
     result.lockRecord = this.lockRecord;
+    result.fieldsToDecode = this.fieldsToDecode;
     return result;
   }
 }
@@ -214,6 +214,16 @@ public class OAndBlock extends OBooleanExpression {
     }
   }
 
+  @Override
+  public boolean collectRequiredFields(Set<String> fields) {
+    for (OBooleanExpression exp : subBlocks) {
+      if (!exp.collectRequiredFields(fields)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public boolean refersToParent() {
     for (OBooleanExpression exp : subBlocks) {
@@ -312,6 +312,17 @@ public class OBaseExpression extends OMathExpression {
     return result;
   }
 
+  @Override
+  public boolean collectRequiredFields(Set<String> fields) {
+    if (number != null || inputParam != null || string != null) {
+      return true;
+    }
+    if (identifier != null && modifier == null) {
+      return identifier.collectRequiredFields(fields);
+    }
+    return false;
+  }
+
   public boolean refersToParent() {
     if (identifier != null && identifier.refersToParent()) {
       return true;
@@ -288,6 +288,13 @@ public class OBaseIdentifier extends SimpleNode {
     return result;
   }
 
+  public boolean collectRequiredFields(Set<String> fields) {
+    if (levelZero == null && suffix != null) {
+      return suffix.collectRequiredFields(fields);
+    }
+    return false;
+  }
+
   public boolean refersToParent() {
     if (levelZero != null && levelZero.refersToParent()) {
       return true;
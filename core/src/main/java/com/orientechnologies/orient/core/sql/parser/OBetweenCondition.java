@@ -159,6 +159,11 @@ public class OBetweenCondition extends OBooleanExpression {
     third.extractSubQueries(collector);
   }
 
+  @Override
+  public boolean collectRequiredFields(Set<String> fields) {
+    return first.collectRequiredFields(fields) && second.collectRequiredFields(fields) && third.collectRequiredFields(fields);
+  }
+
   @Override
   public boolean refersToParent() {
     return first.refersToParent() || second.refersToParent() || third.refersToParent();
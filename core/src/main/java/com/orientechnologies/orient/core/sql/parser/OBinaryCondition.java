@@ -204,6 +204,11 @@ public class OBinaryCondition extends OBooleanExpression {
     right.extractSubQueries(collector);
   }
 
+  @Override
+  public boolean collectRequiredFields(Set<String> fields) {
+    return left.collectRequiredFields(fields) && right.collectRequiredFields(fields);
+  }
+
   @Override
   public boolean refersToParent() {
     return left.refersToParent() || right.refersToParent();
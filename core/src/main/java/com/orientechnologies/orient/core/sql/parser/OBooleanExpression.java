@@ -86,6 +86,11 @@ public abstract class OBooleanExpression extends SimpleNode {
 
     }
 
+    @Override
+    public boolean collectRequiredFields(Set<String> fields) {
+      return true;
+    }
+
     @Override
     public boolean refersToParent() {
       return false;
@@ -163,6 +168,11 @@ public abstract class OBooleanExpression extends SimpleNode {
 
     }
 
+    @Override
+    public boolean collectRequiredFields(Set<String> fields) {
+      return true;
+    }
+
     @Override
     public boolean refersToParent() {
       return false;
@@ -232,6 +242,15 @@ public abstract class OBooleanExpression extends SimpleNode {
 
   public abstract void extractSubQueries(SubQueryCollector collector);
 
+  /**
+   * Adds names of the fields of the current record which are needed to evaluate this condition.
+   *
+   * @return false if it is not possible to determine the fields, eg. because the whole record is used.
+   */
+  public boolean collectRequiredFields(Set<String> fields) {
+    return false;
+  }
+
   public abstract boolean refersToParent();
 
   /**
@@ -0,0 +1,139 @@
+/* Generated By:JJTree: Do not edit this line. OCompactClusterStatement.java Version 4.3 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.types.OModifiableLong;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentAbstract;
+import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.storage.OCluster;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OClusterPage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OPaginatedCluster;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Moves records of cluster from sparse pages to the pages at the beginning of the cluster file, RIDs of records are not changed.
+ * Returns amount of moved records, amount of pages read by full scan of the cluster before and after compaction and amount of
+ * bytes of pages which were freed.
+ */
+public class OCompactClusterStatement extends ODDLStatement {
+
+  public OIdentifier clusterName;
+  public OInteger    clusterNumber;
+
+  public OCompactClusterStatement(int id) {
+    super(id);
+  }
+
+  public OCompactClusterStatement(OrientSql p, int id) {
+    super(p, id);
+  }
+
+  @Override public OResultSet executeDDL(OCommandContext ctx) {
+    ODatabaseDocumentAbstract database = (ODatabaseDocumentAbstract) ctx.getDatabase();
+    OInternalResultSet rs = new OInternalResultSet();
+
+    int clusterId;
+    if (clusterNumber != null) {
+      clusterId = clusterNumber.getValue().intValue();
+    } else {
+      clusterId = database.getClusterIdByName(clusterName.getStringValue());
+    }
+
+    if (clusterId < 0) {
+      if (clusterNumber != null)
+        throw new ODatabaseException("Cluster with id " + clusterId + " does not exist");
+      throw new ODatabaseException("Cluster with name " + clusterName + " does not exist");
+    }
+
+    final OCluster cluster = database.getStorage().getUnderlying().getClusterById(clusterId);
+    if (cluster == null) {
+      throw new ODatabaseException("Cluster with id " + clusterId + " does not exist");
+    }
+
+    if (!(cluster instanceof OPaginatedCluster)) {
+      throw new ODatabaseException("Cluster " + cluster.getName() + " does not support compaction");
+    }
+
+    database.checkForClusterPermissions(cluster.getName());
+
+    final OPaginatedCluster paginatedCluster = (OPaginatedCluster) cluster;
+    final long dataPagesBefore;
+    final OModifiableLong releasedDataPages = new OModifiableLong();
+    final long movedRecords;
+    final long startTime = System.currentTimeMillis();
+    try {
+      dataPagesBefore = paginatedCluster.getDataPagesCount();
+      // PAGES EMPTIED BY COMPACTION ARE COUNTED BY IT, SO THE CLUSTER IS NOT SCANNED AGAIN
+      movedRecords = paginatedCluster.compact(releasedDataPages);
+    } catch (IOException ioe) {
+      throw OException
+          .wrapException(new ODatabaseException("Error during compaction of cluster with name " + cluster.getName()), ioe);
+    }
+
+    OResultInternal result = new OResultInternal();
+    result.setProperty("operation", "compact cluster");
+    result.setProperty("clusterName", cluster.getName());
+    result.setProperty("clusterId", clusterId);
+    result.setProperty("movedRecords", movedRecords);
+    result.setProperty("scanPagesBefore", dataPagesBefore);
+    result.setProperty("scanPagesAfter", dataPagesBefore - releasedDataPages.getValue());
+    result.setProperty("reclaimedBytes", Math.max(releasedDataPages.getValue(), 0) * OClusterPage.PAGE_SIZE);
+    result.setProperty("elapsedTime", System.currentTimeMillis() - startTime);
+
+    rs.add(result);
+    return rs;
+  }
+
+  /**
+   * Accept the visitor.
+   **/
+  public Object jjtAccept(OrientSqlVisitor visitor, Object data) {
+    return visitor.visit(this, data);
+  }
+
+  @Override public void toString(Map<Object, Object> params, StringBuilder builder) {
+    builder.append("COMPACT CLUSTER ");
+    if (clusterName != null) {
+      clusterName.toString(params, builder);
+    } else if (clusterNumber != null) {
+      clusterNumber.toString(params, builder);
+    }
+  }
+
+  @Override public OCompactClusterStatement copy() {
+    OCompactClusterStatement result = new OCompactClusterStatement(-1);
+    result.clusterName = clusterName == null ? null : clusterName.copy();
+    result.clusterNumber = clusterNumber == null ? null : clusterNumber.copy();
+    return result;
+  }
+
+  @Override public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+
+    OCompactClusterStatement that = (OCompactClusterStatement) o;
+
+    if (clusterName != null ? !clusterName.equals(that.clusterName) : that.clusterName != null)
+      return false;
+    if (clusterNumber != null ? !clusterNumber.equals(that.clusterNumber) : that.clusterNumber != null)
+      return false;
+
+    return true;
+  }
+
+  @Override public int hashCode() {
+    int result = clusterName != null ? clusterName.hashCode() : 0;
+    result = 31 * result + (clusterNumber != null ? clusterNumber.hashCode() : 0);
+    return result;
+  }
+}
+/* JavaCC - OriginalChecksum=d77db98cdf29e595aed5f6797e6cd081 (do not edit this line) */
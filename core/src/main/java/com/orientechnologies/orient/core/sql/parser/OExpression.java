@@ -520,6 +520,21 @@ public class OExpression extends SimpleNode {
     }
   }
 
+  /**
+   * Adds names of the fields of the current record which are needed to calculate this expression.
+   *
+   * @return false if it is not possible to determine the fields, eg. because the whole record is used.
+   */
+  public boolean collectRequiredFields(Set<String> fields) {
+    if (isEarlyCalculated()) {
+      return true;
+    }
+    if (mathExpression != null) {
+      return mathExpression.collectRequiredFields(fields);
+    }
+    return false;
+  }
+
   public boolean refersToParent() {
     if (mathExpression != null && mathExpression.refersToParent()) {
       return true;
@@ -82,6 +82,11 @@ public class OIsDefinedCondition extends OBooleanExpression implements OSimpleBo
     this.expression.extractSubQueries(collector);
   }
 
+  @Override
+  public boolean collectRequiredFields(Set<String> fields) {
+    return expression != null && expression.collectRequiredFields(fields);
+  }
+
   @Override
   public boolean refersToParent() {
     if (expression != null && expression.refersToParent()) {
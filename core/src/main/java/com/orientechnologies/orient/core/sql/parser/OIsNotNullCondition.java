@@ -76,6 +76,10 @@ public class OIsNotNullCondition extends OBooleanExpression {
     this.expression.extractSubQueries(collector);
   }
 
+  @Override public boolean collectRequiredFields(Set<String> fields) {
+    return expression != null && expression.collectRequiredFields(fields);
+  }
+
   @Override public boolean refersToParent() {
     if (expression != null && expression.refersToParent()) {
       return true;
@@ -91,6 +91,11 @@ public class OIsNullCondition extends OBooleanExpression {
     this.expression.extractSubQueries(collector);
   }
 
+  @Override
+  public boolean collectRequiredFields(Set<String> fields) {
+    return expression != null && expression.collectRequiredFields(fields);
+  }
+
   @Override
   public boolean refersToParent() {
     if (expression != null && expression.refersToParent()) {
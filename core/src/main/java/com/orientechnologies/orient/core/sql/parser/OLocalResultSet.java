@@ -9,7 +9,6 @@ import com.orientechnologies.orient.core.sql.executor.OInternalExecutionPlan;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -95,7 +94,7 @@ public class OLocalResultSet implements OResultSet {
 
   @Override
   public Map<String, Long> getQueryStats() {
-    return new HashMap<>();//TODO
+    return executionPlan.getQueryStats();
   }
 
 }
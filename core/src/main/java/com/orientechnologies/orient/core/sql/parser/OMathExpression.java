@@ -981,6 +981,15 @@ public class OMathExpression extends SimpleNode {
     }
   }
 
+  public boolean collectRequiredFields(Set<String> fields) {
+    for (OMathExpression expr : this.childExpressions) {
+      if (!expr.collectRequiredFields(fields)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public boolean refersToParent() {
     for (OMathExpression expr : this.childExpressions) {
       if (expr.refersToParent()) {
@@ -123,6 +123,11 @@ public class ONotBlock extends OBooleanExpression {
     sub.extractSubQueries(collector);
   }
 
+  @Override
+  public boolean collectRequiredFields(Set<String> fields) {
+    return sub.collectRequiredFields(fields);
+  }
+
   @Override
   public boolean refersToParent() {
     return sub.refersToParent();
@@ -204,6 +204,16 @@ public class OOrBlock extends OBooleanExpression {
     }
   }
 
+  @Override
+  public boolean collectRequiredFields(Set<String> fields) {
+    for (OBooleanExpression exp : subBlocks) {
+      if (exp != null && !exp.collectRequiredFields(fields)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public boolean refersToParent() {
     for (OBooleanExpression exp : subBlocks) {
@@ -82,6 +82,11 @@ public class OParenthesisBlock extends OBooleanExpression {
     this.subElement.extractSubQueries(collector);
   }
 
+  @Override
+  public boolean collectRequiredFields(Set<String> fields) {
+    return subElement.collectRequiredFields(fields);
+  }
+
   @Override
   public boolean refersToParent() {
     return subElement.refersToParent();
@@ -163,6 +163,14 @@ public class OParenthesisExpression extends OMathExpression {
     }
   }
 
+  @Override
+  public boolean collectRequiredFields(Set<String> fields) {
+    if (expression != null && statement == null) {
+      return expression.collectRequiredFields(fields);
+    }
+    return false;
+  }
+
   public boolean refersToParent() {
     if (expression != null && expression.refersToParent()) {
       return true;
@@ -299,6 +299,23 @@ public class OSuffixIdentifier extends SimpleNode {
 
   }
 
+  public boolean collectRequiredFields(Set<String> fields) {
+    if (identifier != null) {
+      String name = identifier.getStringValue();
+      if (name.startsWith("$")) {
+        // context variables like $current can refer to the whole record
+        return false;
+      }
+      fields.add(name);
+      return true;
+    }
+    if (recordAttribute != null) {
+      String name = recordAttribute.getName();
+      return name.equalsIgnoreCase("@rid") || name.equalsIgnoreCase("@class") || name.equalsIgnoreCase("@version");
+    }
+    return false;
+  }
+
   public boolean refersToParent() {
     if (identifier != null && identifier.getStringValue().equalsIgnoreCase("$parent")) {
       return true;
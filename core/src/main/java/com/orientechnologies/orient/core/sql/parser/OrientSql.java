@@ -29,7 +29,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
       if (jj_2_1(4)) {
-        jj_consume_token(258);
+        jj_consume_token(259);
         jjtn000.cluster = Integer();
         jj_consume_token(COLON);
         jjtn000.position = Integer();
@@ -157,6 +157,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         case DROP:
         case REBUILD:
         case OPTIMIZE:
+        case COMPACT:
         case EXPLAIN:
         case GRANT:
         case REVOKE:
@@ -439,6 +440,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case OPTIMIZE:
         token = jj_consume_token(OPTIMIZE);
         break;
+      case COMPACT:
+        token = jj_consume_token(COMPACT);
+        break;
       case LINK:
         token = jj_consume_token(LINK);
         break;
@@ -792,7 +796,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));OStatement result = null;
     try {
-      if (jj_2_43(2)) {
+      if (jj_2_44(2)) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SELECT:
         case TRAVERSE:
@@ -862,17 +866,19 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                     result = TruncateClusterStatement();
                   } else if (jj_2_28(2147483647)) {
                     result = TruncateRecordStatement();
-                  } else if (jj_2_29(2)) {
+                  } else if (jj_2_29(2147483647)) {
+                    result = CompactClusterStatement();
+                  } else if (jj_2_30(2)) {
                     result = AlterSequenceStatement();
-                  } else if (jj_2_30(2147483647)) {
+                  } else if (jj_2_31(2147483647)) {
                     result = AlterClassStatement();
-                  } else if (jj_2_31(2)) {
+                  } else if (jj_2_32(2)) {
                     result = DropSequenceStatement();
-                  } else if (jj_2_32(2147483647)) {
-                    result = DropClassStatement();
                   } else if (jj_2_33(2147483647)) {
-                    result = AlterPropertyStatement();
+                    result = DropClassStatement();
                   } else if (jj_2_34(2147483647)) {
+                    result = AlterPropertyStatement();
+                  } else if (jj_2_35(2147483647)) {
                     result = DropPropertyStatement();
                   } else {
                     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -881,13 +887,13 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                       break;
                     default:
                       jj_la1[12] = jj_gen;
-                      if (jj_2_35(2)) {
+                      if (jj_2_36(2)) {
                         result = DropIndexStatement();
-                      } else if (jj_2_36(2147483647)) {
+                      } else if (jj_2_37(2147483647)) {
                         result = AlterClusterStatement();
-                      } else if (jj_2_37(2)) {
-                        result = DropClusterStatement();
                       } else if (jj_2_38(2)) {
+                        result = DropClusterStatement();
+                      } else if (jj_2_39(2)) {
                         result = AlterDatabaseStatement();
                       } else {
                         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -923,13 +929,13 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                           break;
                         default:
                           jj_la1[13] = jj_gen;
-                          if (jj_2_39(2147483647)) {
+                          if (jj_2_40(2147483647)) {
                             result = HaRemoveServerStatement();
-                          } else if (jj_2_40(2147483647)) {
-                            result = HaStatusStatement();
                           } else if (jj_2_41(2147483647)) {
-                            result = HaSyncDatabaseStatement();
+                            result = HaStatusStatement();
                           } else if (jj_2_42(2147483647)) {
+                            result = HaSyncDatabaseStatement();
+                          } else if (jj_2_43(2147483647)) {
                             result = HaSyncClusterStatement();
                           } else {
                             jj_consume_token(-1);
@@ -951,7 +957,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           break;
         default:
           jj_la1[14] = jj_gen;
-          if (jj_2_44(2147483647)) {
+          if (jj_2_45(2147483647)) {
             result = ProfileStatement();
           } else {
             switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1000,7 +1006,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
  jjtree.openNodeScope(jjtn000);
  jjtn000.jjtSetFirstToken(getToken(1));OStatement result;
     try {
-      if (jj_2_45(2147483647)) {
+      if (jj_2_46(2147483647)) {
         result = SelectStatement();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1015,7 +1021,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           break;
         default:
           jj_la1[16] = jj_gen;
-          if (jj_2_46(2147483647)) {
+          if (jj_2_47(2147483647)) {
             result = FindReferencesStatement();
           } else {
             jj_consume_token(-1);
@@ -1271,6 +1277,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -1333,7 +1340,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 258:
+      case 259:
         jjtn000.projection = Projection();
         break;
       default:
@@ -1578,6 +1585,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -1754,7 +1762,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                                                 jjtn000.matchExpressions.add(lastMatchExpr);
       }
       jj_consume_token(RETURN);
-      if (jj_2_47(2)) {
+      if (jj_2_48(2)) {
         jj_consume_token(DISTINCT);
                            jjtn000.returnDistinct = true;
         lastReturn = Expression();
@@ -1767,7 +1775,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           jj_la1[53] = jj_gen;
           ;
         }
-      } else if (jj_2_48(2147483647)) {
+      } else if (jj_2_49(2147483647)) {
         lastReturn = Expression();
                                          lastReturnAlias = null;
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2059,15 +2067,15 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));ODeleteEdgeStatement result;
     try {
-      if (jj_2_49(2147483647)) {
+      if (jj_2_50(2147483647)) {
         result = DeleteEdgeByRidStatement();
-      } else if (jj_2_50(2147483647)) {
-        result = DeleteEdgeFromToStatement();
       } else if (jj_2_51(2147483647)) {
-        result = DeleteEdgeVToStatement();
+        result = DeleteEdgeFromToStatement();
       } else if (jj_2_52(2147483647)) {
-        result = DeleteEdgeToStatement();
+        result = DeleteEdgeVToStatement();
       } else if (jj_2_53(2147483647)) {
+        result = DeleteEdgeToStatement();
+      } else if (jj_2_54(2147483647)) {
         result = DeleteEdgeWhereStatement();
       } else {
         jj_consume_token(-1);
@@ -2113,7 +2121,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 258:
+      case 259:
         jjtn000.rid = Rid();
         break;
       case LBRACKET:
@@ -2122,7 +2130,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 258:
+        case 259:
           lastRid = Rid();
                     jjtn000.rids = new ArrayList();
                     jjtn000.rids.add(lastRid);
@@ -2252,6 +2260,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -2558,6 +2567,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -2774,6 +2784,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -2836,7 +2847,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 258:
+        case 259:
           jjtn000.returnProjection = Projection();
           break;
         default:
@@ -3046,6 +3057,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -3108,7 +3120,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 258:
+        case 259:
           jjtn000.returnProjection = Projection();
           break;
         default:
@@ -3602,7 +3614,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
     try {
       jj_consume_token(INSERT);
       jj_consume_token(INTO);
-      if (jj_2_54(2147483647)) {
+      if (jj_2_55(2147483647)) {
         jjtn000.targetIndex = IndexIdentifier();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3661,6 +3673,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -3727,7 +3740,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           throw new ParseException();
         }
       }
-      if (jj_2_55(2147483647)) {
+      if (jj_2_56(2147483647)) {
         jjtn000.insertBody = InsertBody();
       } else {
         ;
@@ -3756,7 +3769,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SELECT:
-          if (jj_2_56(2147483647)) {
+          if (jj_2_57(2147483647)) {
             jjtn000.selectStatement = SelectStatement();
           } else {
             switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3772,9 +3785,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           break;
         default:
           jj_la1[129] = jj_gen;
-          if (jj_2_58(2)) {
+          if (jj_2_59(2)) {
             jj_consume_token(LPAREN);
-            if (jj_2_57(2147483647)) {
+            if (jj_2_58(2147483647)) {
               jjtn000.selectStatement = SelectStatement();
             } else {
               switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3844,7 +3857,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
     OExpression lastExpression;
     List<OExpression> lastExpressionList;
     try {
-      if (jj_2_59(3)) {
+      if (jj_2_60(3)) {
         jj_consume_token(LPAREN);
         lastIdentifier = Identifier();
                     jjtn000.identifierList = new ArrayList<OIdentifier>();
@@ -3918,7 +3931,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           }
           jj_consume_token(RPAREN);
         }
-      } else if (jj_2_60(3)) {
+      } else if (jj_2_61(3)) {
         jj_consume_token(SET);
                     jjtn000.setExpressions = new ArrayList<OInsertSetExpression>();
                     OInsertSetExpression lastSetExpr = new OInsertSetExpression();
@@ -4059,7 +4072,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
     try {
       jj_consume_token(CREATE);
       jj_consume_token(VERTEX);
-      if (jj_2_61(2147483647)) {
+      if (jj_2_62(2147483647)) {
         jjtn000.targetClass = Identifier();
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case CLUSTER:
@@ -4070,7 +4083,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           jj_la1[139] = jj_gen;
           ;
         }
-      } else if (jj_2_62(2147483647)) {
+      } else if (jj_2_63(2147483647)) {
         jjtn000.targetCluster = Cluster();
       } else {
         jj_consume_token(-1);
@@ -4085,7 +4098,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jj_la1[140] = jj_gen;
         ;
       }
-      if (jj_2_63(2147483647)) {
+      if (jj_2_64(2147483647)) {
         jjtn000.insertBody = InsertBody();
       } else {
         ;
@@ -4294,6 +4307,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -4562,6 +4576,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -4664,7 +4679,7 @@ Token token;
     jjtn000.jjtSetFirstToken(getToken(1));java.util.List<OProjectionItem> items = new java.util.ArrayList<OProjectionItem>();
     OProjectionItem lastItem = null;
     try {
-      if (jj_2_64(2147483647)) {
+      if (jj_2_65(2147483647)) {
         lastItem = ProjectionItem();
                                          items.add(lastItem);
         label_17:
@@ -4922,6 +4937,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -4984,7 +5000,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 258:
+      case 259:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case BANG:
           jj_consume_token(BANG);
@@ -5061,11 +5077,11 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_65(2147483647)) {
+      if (jj_2_66(2147483647)) {
         jjtn000.rid = Rid();
-      } else if (jj_2_66(2147483647)) {
-        jjtn000.inputParam = InputParameter();
       } else if (jj_2_67(2147483647)) {
+        jjtn000.inputParam = InputParameter();
+      } else if (jj_2_68(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -5105,9 +5121,9 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));Token tokenVal;
     try {
-      if (jj_2_68(2147483647)) {
+      if (jj_2_69(2147483647)) {
         jjtn000.inputValue = InputParameter();
-      } else if (jj_2_69(2147483647)) {
+      } else if (jj_2_70(2147483647)) {
         tokenVal = jj_consume_token(INTEGER_LITERAL);
                                        jjtn000.integer = Integer.parseInt(tokenVal.image);
       } else {
@@ -5388,6 +5404,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -5502,6 +5519,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -5564,7 +5582,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 258:
+      case 259:
         lastExpression = Expression();
                                            jjtn000.params.add(lastExpression);
         label_21:
@@ -5681,6 +5699,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -5743,7 +5762,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 258:
+      case 259:
         lastExpression = Expression();
                                             jjtn000.params.add(lastExpression);
         label_22:
@@ -5800,7 +5819,7 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_70(2147483647)) {
+      if (jj_2_71(2147483647)) {
         jjtn000.functionCall = FunctionCall();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5810,7 +5829,7 @@ Token token;
           break;
         default:
           jj_la1[172] = jj_gen;
-          if (jj_2_71(2147483647)) {
+          if (jj_2_72(2147483647)) {
             jjtn000.collection = Collection();
           } else {
             jj_consume_token(-1);
@@ -5852,9 +5871,9 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_72(2147483647)) {
+      if (jj_2_73(2147483647)) {
         jjtn000.identifier = Identifier();
-      } else if (jj_2_73(2147483647)) {
+      } else if (jj_2_74(2147483647)) {
         jjtn000.recordAttribute = RecordAttribute();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5902,9 +5921,9 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_74(2147483647)) {
+      if (jj_2_75(2147483647)) {
         jjtn000.levelZero = LevelZeroIdentifier();
-      } else if (jj_2_75(2147483647)) {
+      } else if (jj_2_76(2147483647)) {
         jjtn000.suffix = SuffixIdentifier();
       } else {
         jj_consume_token(-1);
@@ -5948,13 +5967,13 @@ Token token;
       case LBRACKET:
         jj_consume_token(LBRACKET);
                              jjtn000.squareBrackets = true;
-        if (jj_2_76(2147483647)) {
+        if (jj_2_77(2147483647)) {
           jjtn000.rightBinaryCondition = RightBinaryCondition();
-        } else if (jj_2_77(2147483647)) {
-          jjtn000.arrayRange = ArrayRangeSelector();
         } else if (jj_2_78(2147483647)) {
-          jjtn000.condition = OrBlock();
+          jjtn000.arrayRange = ArrayRangeSelector();
         } else if (jj_2_79(2147483647)) {
+          jjtn000.condition = OrBlock();
+        } else if (jj_2_80(2147483647)) {
           jjtn000.arraySingleValues = ArraySingleValuesSelector();
         } else {
           jj_consume_token(-1);
@@ -5964,7 +5983,7 @@ Token token;
         break;
       default:
         jj_la1[174] = jj_gen;
-        if (jj_2_80(2147483647)) {
+        if (jj_2_81(2147483647)) {
           jjtn000.methodCall = MethodCall();
         } else {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5979,7 +5998,7 @@ Token token;
           }
         }
       }
-      if (jj_2_81(2147483647)) {
+      if (jj_2_82(2147483647)) {
         jjtn000.next = Modifier();
       } else {
         ;
@@ -6018,7 +6037,7 @@ Token token;
  jjtree.openNodeScope(jjtn000);
  jjtn000.jjtSetFirstToken(getToken(1));Token token;
     try {
-      if (jj_2_82(2147483647)) {
+      if (jj_2_83(2147483647)) {
         jjtn000.arrayConcatExpression = ArrayConcatExpression();
                                                                   jjtn000.value = jjtn000.arrayConcatExpression;
       } else {
@@ -6037,10 +6056,10 @@ Token token;
           break;
         default:
           jj_la1[176] = jj_gen;
-          if (jj_2_83(2147483647)) {
+          if (jj_2_84(2147483647)) {
             jjtn000.rid = Rid();
                               jjtn000.value = jjtn000.rid;
-          } else if (jj_2_84(2147483647)) {
+          } else if (jj_2_85(2147483647)) {
             jjtn000.mathExpression = MathExpression();
                                                     jjtn000.value = jjtn000.mathExpression;
           } else {
@@ -6157,10 +6176,10 @@ Token token;
         break;
       default:
         jj_la1[179] = jj_gen;
-        if (jj_2_85(2147483647)) {
+        if (jj_2_86(2147483647)) {
           jjtn000.rid = Rid();
                               jjtn000.value = jjtn000.rid;
-        } else if (jj_2_86(2147483647)) {
+        } else if (jj_2_87(2147483647)) {
           jjtn000.mathExpression = MathExpression();
                                                     jjtn000.value = jjtn000.mathExpression;
         } else {
@@ -6215,7 +6234,7 @@ Token token;
                                            jjtn000.getChildExpressions().add(sub);
       label_24:
       while (true) {
-        if (jj_2_87(2)) {
+        if (jj_2_88(2)) {
           ;
         } else {
           break label_24;
@@ -6311,9 +6330,9 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));OMathExpression expr;
     try {
-      if (jj_2_88(2147483647)) {
+      if (jj_2_89(2147483647)) {
         expr = ParenthesisExpression();
-      } else if (jj_2_89(2147483647)) {
+      } else if (jj_2_90(2147483647)) {
         expr = BaseExpression();
       } else {
         jj_consume_token(-1);
@@ -6354,7 +6373,7 @@ Token token;
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jj_consume_token(LPAREN);
-      if (jj_2_90(2)) {
+      if (jj_2_91(2)) {
         jjtn000.statement = QueryStatement();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -6414,6 +6433,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -6476,7 +6496,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 258:
+        case 259:
           jjtn000.expression = Expression();
           break;
         case INSERT:
@@ -6584,6 +6604,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -6635,7 +6656,7 @@ Token token;
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
         jjtn000.identifier = BaseIdentifier();
-        if (jj_2_91(2147483647)) {
+        if (jj_2_92(2147483647)) {
           jjtn000.modifier = Modifier();
         } else {
           ;
@@ -6644,7 +6665,7 @@ Token token;
       case HOOK:
       case COLON:
         jjtn000.inputParam = InputParameter();
-        if (jj_2_92(2147483647)) {
+        if (jj_2_93(2147483647)) {
           jjtn000.modifier = Modifier();
         } else {
           ;
@@ -6667,7 +6688,7 @@ Token token;
           jj_consume_token(-1);
           throw new ParseException();
         }
-        if (jj_2_93(2147483647)) {
+        if (jj_2_94(2147483647)) {
           jjtn000.modifier = Modifier();
         } else {
           ;
@@ -6800,7 +6821,7 @@ Token token;
     try {
       jjtn000.varName = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_94(2147483647)) {
+      if (jj_2_95(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -6856,13 +6877,13 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 258:
+      case 259:
         lastRid = Rid();
                           jjtn000.rids.add(lastRid);
         break;
       default:
         jj_la1[191] = jj_gen;
-        if (jj_2_98(2)) {
+        if (jj_2_99(2)) {
           jj_consume_token(LBRACKET);
           lastRid = Rid();
                                          jjtn000.rids.add(lastRid);
@@ -6937,7 +6958,7 @@ Token token;
             break;
           default:
             jj_la1[192] = jj_gen;
-            if (jj_2_99(2147483647)) {
+            if (jj_2_100(2147483647)) {
               jjtn000.index = IndexIdentifier();
             } else {
               switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -6948,7 +6969,7 @@ Token token;
                 jj_consume_token(LPAREN);
                 jjtn000.statement = QueryStatement();
                 jj_consume_token(RPAREN);
-                if (jj_2_95(2147483647)) {
+                if (jj_2_96(2147483647)) {
                   jjtn000.modifier = Modifier();
                 } else {
                   ;
@@ -6960,9 +6981,9 @@ Token token;
                 break;
               default:
                 jj_la1[193] = jj_gen;
-                if (jj_2_100(2)) {
+                if (jj_2_101(2)) {
                   jjtn000.functionCall = FunctionCall();
-                  if (jj_2_96(2147483647)) {
+                  if (jj_2_97(2147483647)) {
                     jjtn000.modifier = Modifier();
                   } else {
                     ;
@@ -7024,6 +7045,7 @@ Token token;
                   case ID:
                   case DATABASE:
                   case OPTIMIZE:
+                  case COMPACT:
                   case LINK:
                   case TYPE:
                   case INVERSE:
@@ -7070,7 +7092,7 @@ Token token;
                   case IDENTIFIER:
                   case QUOTED_IDENTIFIER:
                     jjtn000.identifier = Identifier();
-                    if (jj_2_97(2147483647)) {
+                    if (jj_2_98(2147483647)) {
                       jjtn000.modifier = Modifier();
                     } else {
                       ;
@@ -7214,6 +7236,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -7340,8 +7363,8 @@ Token token;
     OIdentifier lastIdentifier;
     try {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 259:
-        jj_consume_token(259);
+      case 260:
+        jj_consume_token(260);
                              builder.append("__@recordmap@___");
         break;
       default:
@@ -7620,9 +7643,9 @@ Token token;
       case NOT:
         jj_consume_token(NOT);
                jjtn000.negate = true;
-        if (jj_2_101(2147483647)) {
+        if (jj_2_102(2147483647)) {
           jjtn000.sub = ConditionBlock();
-        } else if (jj_2_102(2147483647)) {
+        } else if (jj_2_103(2147483647)) {
           jjtn000.sub = ParenthesisBlock();
         } else {
           jj_consume_token(-1);
@@ -7685,6 +7708,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -7747,10 +7771,10 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 258:
-        if (jj_2_103(2147483647)) {
+      case 259:
+        if (jj_2_104(2147483647)) {
           jjtn000.sub = ConditionBlock();
-        } else if (jj_2_104(2147483647)) {
+        } else if (jj_2_105(2147483647)) {
           jjtn000.sub = ParenthesisBlock();
         } else {
           jj_consume_token(-1);
@@ -7833,37 +7857,37 @@ Token token;
  jjtree.openNodeScope(jjtn000);
  jjtn000.jjtSetFirstToken(getToken(1));OBooleanExpression result = null;
     try {
-      if (jj_2_105(2147483647)) {
+      if (jj_2_106(2147483647)) {
         result = IsNotNullCondition();
-      } else if (jj_2_106(2147483647)) {
-        result = IsNullCondition();
       } else if (jj_2_107(2147483647)) {
-        result = IsNotDefinedCondition();
+        result = IsNullCondition();
       } else if (jj_2_108(2147483647)) {
-        result = IsDefinedCondition();
+        result = IsNotDefinedCondition();
       } else if (jj_2_109(2147483647)) {
-        result = InCondition();
+        result = IsDefinedCondition();
       } else if (jj_2_110(2147483647)) {
-        result = NotInCondition();
+        result = InCondition();
       } else if (jj_2_111(2147483647)) {
-        result = BinaryCondition();
+        result = NotInCondition();
       } else if (jj_2_112(2147483647)) {
-        result = BetweenCondition();
+        result = BinaryCondition();
       } else if (jj_2_113(2147483647)) {
-        result = ContainsCondition();
+        result = BetweenCondition();
       } else if (jj_2_114(2147483647)) {
-        result = ContainsValueCondition();
+        result = ContainsCondition();
       } else if (jj_2_115(2147483647)) {
-        result = ContainsAllCondition();
+        result = ContainsValueCondition();
       } else if (jj_2_116(2147483647)) {
-        result = ContainsAnyCondition();
+        result = ContainsAllCondition();
       } else if (jj_2_117(2147483647)) {
-        result = ContainsTextCondition();
+        result = ContainsAnyCondition();
       } else if (jj_2_118(2147483647)) {
-        result = MatchesCondition();
+        result = ContainsTextCondition();
       } else if (jj_2_119(2147483647)) {
-        result = IndexMatchCondition();
+        result = MatchesCondition();
       } else if (jj_2_120(2147483647)) {
+        result = IndexMatchCondition();
+      } else if (jj_2_121(2147483647)) {
         result = InstanceofCondition();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -8412,11 +8436,11 @@ Token token;
     try {
       jjtn000.left = Expression();
       jjtn000.operator = ContainsValueOperator();
-      if (jj_2_121(3)) {
+      if (jj_2_122(3)) {
         jj_consume_token(LPAREN);
         jjtn000.condition = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_122(2147483647)) {
+      } else if (jj_2_123(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -8514,6 +8538,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -8685,6 +8710,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -8747,7 +8773,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 258:
+        case 259:
           lastExpression = Expression();
                                                     jjtn000.leftExpressions.add(lastExpression);
           label_32:
@@ -8832,6 +8858,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -8894,7 +8921,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 258:
+        case 259:
           lastExpression = Expression();
                                                     jjtn000.leftExpressions.add(lastExpression);
           label_33:
@@ -8976,6 +9003,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -9038,7 +9066,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 258:
+        case 259:
           lastExpression = Expression();
                                                     jjtn000.rightExpressions.add(lastExpression);
           label_34:
@@ -9292,11 +9320,11 @@ Token token;
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINS);
-      if (jj_2_123(3)) {
+      if (jj_2_124(3)) {
         jj_consume_token(LPAREN);
         jjtn000.condition = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_124(2147483647)) {
+      } else if (jj_2_125(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -9359,9 +9387,9 @@ Token token;
     try {
       jjtn000.left = Expression();
       jjtn000.operator = InOperator();
-      if (jj_2_126(2)) {
+      if (jj_2_127(2)) {
         jj_consume_token(LPAREN);
-        if (jj_2_125(2147483647)) {
+        if (jj_2_126(2147483647)) {
           jjtn000.rightStatement = SelectStatement();
         } else {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -9375,7 +9403,7 @@ Token token;
           }
         }
         jj_consume_token(RPAREN);
-      } else if (jj_2_127(2)) {
+      } else if (jj_2_128(2)) {
         jj_consume_token(LPAREN);
         jjtn000.rightParam = InputParameter();
         jj_consume_token(RPAREN);
@@ -9436,6 +9464,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -9540,9 +9569,9 @@ Token token;
       jjtn000.left = Expression();
       jj_consume_token(NOT);
       InOperator();
-      if (jj_2_129(2)) {
+      if (jj_2_130(2)) {
         jj_consume_token(LPAREN);
-        if (jj_2_128(2147483647)) {
+        if (jj_2_129(2147483647)) {
           jjtn000.rightStatement = SelectStatement();
         } else {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -9556,7 +9585,7 @@ Token token;
           }
         }
         jj_consume_token(RPAREN);
-      } else if (jj_2_130(2)) {
+      } else if (jj_2_131(2)) {
         jj_consume_token(LPAREN);
         jjtn000.rightParam = InputParameter();
         jj_consume_token(RPAREN);
@@ -9617,6 +9646,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -9720,11 +9750,11 @@ Token token;
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINSALL);
-      if (jj_2_131(3)) {
+      if (jj_2_132(3)) {
         jj_consume_token(LPAREN);
         jjtn000.rightBlock = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_132(2147483647)) {
+      } else if (jj_2_133(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -9766,11 +9796,11 @@ Token token;
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINSANY);
-      if (jj_2_133(3)) {
+      if (jj_2_134(3)) {
         jj_consume_token(LPAREN);
         jjtn000.rightBlock = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_134(2147483647)) {
+      } else if (jj_2_135(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -9964,6 +9994,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -10013,7 +10044,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 258:
+      case 259:
                     lastItem = new OOrderByItem();
                     jjtn000.items.add(lastItem);
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -10072,6 +10103,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -10133,7 +10165,7 @@ Token token;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 258:
+        case 259:
           lastItem.rid = Rid();
           break;
         case RECORD_ATTRIBUTE:
@@ -10228,6 +10260,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -10289,7 +10322,7 @@ Token token;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 258:
+        case 259:
           lastItem.rid = Rid();
           break;
         case RECORD_ATTRIBUTE:
@@ -10397,6 +10430,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -10446,7 +10480,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 258:
+        case 259:
                         lastItem = new OOrderByItem();
                         jjtn000.items.add(lastItem);
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -10505,6 +10539,7 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case COMPACT:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -10566,7 +10601,7 @@ Token token;
           case INTEGER_LITERAL:
           case LBRACE:
           case MINUS:
-          case 258:
+          case 259:
             lastItem.rid = Rid();
             break;
           case RECORD_ATTRIBUTE:
@@ -10661,6 +10696,7 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case COMPACT:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -10722,7 +10758,7 @@ Token token;
           case INTEGER_LITERAL:
           case LBRACE:
           case MINUS:
-          case 258:
+          case 259:
             lastItem.rid = Rid();
             break;
           case RECORD_ATTRIBUTE:
@@ -11262,6 +11298,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -11324,7 +11361,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 258:
+      case 259:
         lastExpression = Expression();
                                             jjtn000.expressions.add(lastExpression);
         label_38:
@@ -11442,6 +11479,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -11593,6 +11631,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -11749,7 +11788,7 @@ Token token;
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jjtn000.base = BaseIdentifier();
-      if (jj_2_135(2147483647)) {
+      if (jj_2_136(2147483647)) {
         jjtn000.modifier = Modifier();
       } else {
         ;
@@ -11846,6 +11885,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -11952,6 +11992,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -12088,6 +12129,7 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case COMPACT:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -12211,13 +12253,13 @@ Token token;
           jj_la1[265] = jj_gen;
           break label_42;
         }
-        if (jj_2_136(3)) {
+        if (jj_2_137(3)) {
           nextItem = MatchPathItem();
-        } else if (jj_2_137(3)) {
-          nextItem = MultiMatchPathItemArrows();
         } else if (jj_2_138(3)) {
+          nextItem = MultiMatchPathItemArrows();
+        } else if (jj_2_139(3)) {
           nextItem = MultiMatchPathItem();
-        } else if (jj_2_139(2147483647)) {
+        } else if (jj_2_140(2147483647)) {
           nextItem = OutPathItem();
         } else {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -12226,7 +12268,7 @@ Token token;
             break;
           default:
             jj_la1[266] = jj_gen;
-            if (jj_2_140(2147483647)) {
+            if (jj_2_141(2147483647)) {
               nextItem = BothPathItem();
             } else {
               jj_consume_token(-1);
@@ -12362,7 +12404,7 @@ Token token;
                                               jjtn000.items.add(nextItem);
       label_43:
       while (true) {
-        if (jj_2_141(2147483647)) {
+        if (jj_2_142(2147483647)) {
           ;
         } else {
           break label_43;
@@ -12418,13 +12460,13 @@ Token token;
       jj_consume_token(LPAREN);
       label_44:
       while (true) {
-        if (jj_2_142(2147483647)) {
+        if (jj_2_143(2147483647)) {
           nextItem = OutPathItemOpt();
                                                jjtn000.items.add(nextItem);
-        } else if (jj_2_143(2147483647)) {
+        } else if (jj_2_144(2147483647)) {
           nextItem = InPathItemOpt();
                                               jjtn000.items.add(nextItem);
-        } else if (jj_2_144(2147483647)) {
+        } else if (jj_2_145(2147483647)) {
           nextItem = BothPathItemOpt();
                                                 jjtn000.items.add(nextItem);
         } else {
@@ -12630,6 +12672,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -12859,6 +12902,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13027,6 +13071,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13193,6 +13238,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13359,6 +13405,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13534,6 +13581,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13707,6 +13755,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13970,6 +14019,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -14062,6 +14112,155 @@ Token token;
     throw new Error("Missing return statement in function");
   }
 
+  final public OCompactClusterStatement CompactClusterStatement() throws ParseException {
+ /*@bgen(jjtree) CompactClusterStatement */
+  OCompactClusterStatement jjtn000 = new OCompactClusterStatement(JJTCOMPACTCLUSTERSTATEMENT);
+  boolean jjtc000 = true;
+  jjtree.openNodeScope(jjtn000);
+  jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(COMPACT);
+      jj_consume_token(CLUSTER);
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case TO:
+      case VALUE:
+      case VALUES:
+      case SET:
+      case ADD:
+      case PUT:
+      case MERGE:
+      case CONTENT:
+      case REMOVE:
+      case ORDER:
+      case GROUP:
+      case OFFSET:
+      case RECORD:
+      case CACHE:
+      case LUCENE:
+      case NEAR:
+      case WITHIN:
+      case MINDEPTH:
+      case CLASS:
+      case SUPERCLASS:
+      case CLASSES:
+      case SUPERCLASSES:
+      case EXCEPTION:
+      case PROFILE:
+      case STORAGE:
+      case ON:
+      case OFF:
+      case TRUNCATE:
+      case FIND:
+      case REFERENCES:
+      case EXTENDS:
+      case CLUSTERS:
+      case ABSTRACT:
+      case ALTER:
+      case NAME:
+      case SHORTNAME:
+      case OVERSIZE:
+      case STRICTMODE:
+      case ADDCLUSTER:
+      case REMOVECLUSTER:
+      case CUSTOM:
+      case CLUSTERSELECTION:
+      case DESCRIPTION:
+      case ENCRYPTION:
+      case DROP:
+      case PROPERTY:
+      case FORCE:
+      case METADATA:
+      case INDEX:
+      case COLLATE:
+      case ENGINE:
+      case REBUILD:
+      case ID:
+      case DATABASE:
+      case OPTIMIZE:
+      case COMPACT:
+      case LINK:
+      case TYPE:
+      case INVERSE:
+      case EXPLAIN:
+      case GRANT:
+      case REVOKE:
+      case READ:
+      case EXECUTE:
+      case ALL:
+      case NONE:
+      case FUNCTION:
+      case PARAMETERS:
+      case IDEMPOTENT:
+      case LANGUAGE:
+      case BEGIN:
+      case COMMIT:
+      case ROLLBACK:
+      case IF:
+      case ISOLATION:
+      case SLEEP:
+      case CONSOLE:
+      case BLOB:
+      case SHARED:
+      case DEFAULT_:
+      case SEQUENCE:
+      case START:
+      case OPTIONAL:
+      case COUNT:
+      case HA:
+      case STATUS:
+      case SERVER:
+      case SYNC:
+      case EXISTS:
+      case MOVE:
+      case DEPTH_ALIAS:
+      case PATH_ALIAS:
+      case IDENTIFIED:
+      case ROLE:
+      case USER:
+      case RID:
+      case DEFAULTCLUSTER:
+      case IN:
+      case KEY:
+      case IDENTIFIER:
+      case QUOTED_IDENTIFIER:
+        jjtn000.clusterName = Identifier();
+        break;
+      case INTEGER_LITERAL:
+      case MINUS:
+        jjtn000.clusterNumber = Integer();
+        break;
+      default:
+        jj_la1[298] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+          jjtree.closeNodeScope(jjtn000, true);
+          jjtc000 = false;
+          jjtn000.jjtSetLastToken(getToken(0));
+          {if (true) return jjtn000;}
+    } catch (Throwable jjte000) {
+          if (jjtc000) {
+            jjtree.clearNodeScope(jjtn000);
+            jjtc000 = false;
+          } else {
+            jjtree.popNode();
+          }
+          if (jjte000 instanceof RuntimeException) {
+            {if (true) throw (RuntimeException)jjte000;}
+          }
+          if (jjte000 instanceof ParseException) {
+            {if (true) throw (ParseException)jjte000;}
+          }
+          {if (true) throw (Error)jjte000;}
+    } finally {
+          if (jjtc000) {
+            jjtree.closeNodeScope(jjtn000, true);
+            jjtn000.jjtSetLastToken(getToken(0));
+          }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
   final public OTruncateRecordStatement TruncateRecordStatement() throws ParseException {
  /*@bgen(jjtree) TruncateRecordStatement */
   OTruncateRecordStatement jjtn000 = new OTruncateRecordStatement(JJTTRUNCATERECORDSTATEMENT);
@@ -14075,7 +14274,7 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 258:
+      case 259:
         jjtn000.record = Rid();
         break;
       case LBRACKET:
@@ -14085,7 +14284,7 @@ Token token;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 258:
+        case 259:
           lastRecord = Rid();
                                                      jjtn000.records.add(lastRecord);
           label_46:
@@ -14095,7 +14294,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[298] = jj_gen;
+              jj_la1[299] = jj_gen;
               break label_46;
             }
             jj_consume_token(COMMA);
@@ -14104,13 +14303,13 @@ Token token;
           }
           break;
         default:
-          jj_la1[299] = jj_gen;
+          jj_la1[300] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[300] = jj_gen;
+        jj_la1[301] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -14154,7 +14353,7 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 258:
+      case 259:
         jjtn000.rid = Rid();
         break;
       case LPAREN:
@@ -14163,7 +14362,7 @@ Token token;
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[301] = jj_gen;
+        jj_la1[302] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -14227,6 +14426,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -14279,7 +14479,7 @@ Token token;
           lastTarget = Cluster();
           break;
         default:
-          jj_la1[302] = jj_gen;
+          jj_la1[303] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -14291,7 +14491,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[303] = jj_gen;
+            jj_la1[304] = jj_gen;
             break label_47;
           }
           jj_consume_token(COMMA);
@@ -14351,6 +14551,7 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case COMPACT:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -14403,7 +14604,7 @@ Token token;
             lastTarget = Cluster();
             break;
           default:
-            jj_la1[304] = jj_gen;
+            jj_la1[305] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -14412,7 +14613,7 @@ Token token;
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[305] = jj_gen;
+        jj_la1[306] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -14461,7 +14662,7 @@ Token token;
                                         jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[306] = jj_gen;
+        jj_la1[307] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -14476,7 +14677,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[307] = jj_gen;
+            jj_la1[308] = jj_gen;
             break label_48;
           }
           jj_consume_token(COMMA);
@@ -14485,7 +14686,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[308] = jj_gen;
+        jj_la1[309] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -14500,7 +14701,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[309] = jj_gen;
+            jj_la1[310] = jj_gen;
             break label_49;
           }
           jj_consume_token(COMMA);
@@ -14509,7 +14710,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[310] = jj_gen;
+        jj_la1[311] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -14518,7 +14719,7 @@ Token token;
         jjtn000.totalClusterNo = Integer();
         break;
       default:
-        jj_la1[311] = jj_gen;
+        jj_la1[312] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -14527,7 +14728,7 @@ Token token;
                                jjtn000.abstractClass = true;
         break;
       default:
-        jj_la1[312] = jj_gen;
+        jj_la1[313] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -14634,6 +14835,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -14685,7 +14887,7 @@ Token token;
           jj_consume_token(NULL);
           break;
         default:
-          jj_la1[313] = jj_gen;
+          jj_la1[314] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -14706,13 +14908,13 @@ Token token;
                                                  jjtn000.remove = true;
             break;
           default:
-            jj_la1[314] = jj_gen;
+            jj_la1[315] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[315] = jj_gen;
+          jj_la1[316] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -14771,6 +14973,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -14823,7 +15026,7 @@ Token token;
                                          jjtn000.identifierValue = null;
           break;
         default:
-          jj_la1[316] = jj_gen;
+          jj_la1[317] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -14888,6 +15091,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -14942,7 +15146,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[317] = jj_gen;
+              jj_la1[318] = jj_gen;
               break label_50;
             }
             jj_consume_token(COMMA);
@@ -14955,7 +15159,7 @@ Token token;
                                          jjtn000.identifierListValue = null;
           break;
         default:
-          jj_la1[318] = jj_gen;
+          jj_la1[319] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -14978,7 +15182,7 @@ Token token;
                                                   jjtn000.booleanValue = false;
           break;
         default:
-          jj_la1[319] = jj_gen;
+          jj_la1[320] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15042,6 +15246,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15094,7 +15299,7 @@ Token token;
           jjtn000.numberValue = Integer();
           break;
         default:
-          jj_la1[320] = jj_gen;
+          jj_la1[321] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15158,6 +15363,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15210,7 +15416,7 @@ Token token;
           jjtn000.numberValue = Integer();
           break;
         default:
-          jj_la1[321] = jj_gen;
+          jj_la1[322] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15235,7 +15441,7 @@ Token token;
                                                   jjtn000.booleanValue = false;
           break;
         default:
-          jj_la1[322] = jj_gen;
+          jj_la1[323] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15299,6 +15505,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15346,8 +15553,8 @@ Token token;
         case QUOTED_IDENTIFIER:
           jjtn000.identifierValue = Identifier();
           break;
-        case 260:
-          jj_consume_token(260);
+        case 261:
+          jj_consume_token(261);
                                                 jjtn000.customString = "round-robin";
           break;
         case RID_STRING:
@@ -15356,7 +15563,7 @@ Token token;
                                                                     jjtn000.customString = jjtn000.customString.substring(1, jjtn000.customString.length() - 1);
           break;
         default:
-          jj_la1[323] = jj_gen;
+          jj_la1[324] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15420,6 +15627,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15471,7 +15679,7 @@ Token token;
           jj_consume_token(NULL);
           break;
         default:
-          jj_la1[324] = jj_gen;
+          jj_la1[325] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15535,6 +15743,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15586,7 +15795,7 @@ Token token;
           jj_consume_token(NULL);
           break;
         default:
-          jj_la1[325] = jj_gen;
+          jj_la1[326] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15653,6 +15862,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15701,13 +15911,13 @@ Token token;
           jjtn000.defaultClusterName = Identifier();
           break;
         default:
-          jj_la1[326] = jj_gen;
+          jj_la1[327] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[327] = jj_gen;
+        jj_la1[328] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -15717,7 +15927,7 @@ Token token;
                      jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[328] = jj_gen;
+        jj_la1[329] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -15764,7 +15974,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[329] = jj_gen;
+        jj_la1[330] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -15773,7 +15983,7 @@ Token token;
                      jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[330] = jj_gen;
+        jj_la1[331] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -15833,7 +16043,7 @@ Token token;
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_145(3)) {
+      if (jj_2_146(3)) {
         IfNotExists();
                                                    jjtn000.ifNotExists = true;
       } else {
@@ -15896,6 +16106,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -15944,7 +16155,7 @@ Token token;
         jjtn000.linkedType = Identifier();
         break;
       default:
-        jj_la1[331] = jj_gen;
+        jj_la1[332] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -15959,7 +16170,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[332] = jj_gen;
+            jj_la1[333] = jj_gen;
             break label_51;
           }
           jj_consume_token(COMMA);
@@ -15969,7 +16180,7 @@ Token token;
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[333] = jj_gen;
+        jj_la1[334] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -15978,7 +16189,7 @@ Token token;
                              jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[334] = jj_gen;
+        jj_la1[335] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -16060,7 +16271,7 @@ Token token;
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_146(3)) {
+      if (jj_2_147(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -16122,6 +16333,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -16171,7 +16383,7 @@ Token token;
           jjtn000.settingValue = Expression();
           break;
         default:
-          jj_la1[335] = jj_gen;
+          jj_la1[336] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -16222,7 +16434,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[336] = jj_gen;
+        jj_la1[337] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -16231,7 +16443,7 @@ Token token;
                     jjtn000.force = true;
         break;
       default:
-        jj_la1[337] = jj_gen;
+        jj_la1[338] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -16273,7 +16485,7 @@ Token token;
       jj_consume_token(CREATE);
       jj_consume_token(INDEX);
       jjtn000.name = IndexName();
-      if (jj_2_148(4)) {
+      if (jj_2_149(4)) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case IF:
           jj_consume_token(IF);
@@ -16282,7 +16494,7 @@ Token token;
                                    jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[338] = jj_gen;
+          jj_la1[339] = jj_gen;
           ;
         }
         jj_consume_token(ON);
@@ -16344,6 +16556,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -16401,7 +16614,7 @@ Token token;
                     jjtn000.propertyList.add(lastProperty);
           break;
         default:
-          jj_la1[339] = jj_gen;
+          jj_la1[340] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -16418,13 +16631,13 @@ Token token;
                               lastProperty.byValue = true;
             break;
           default:
-            jj_la1[340] = jj_gen;
+            jj_la1[341] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[341] = jj_gen;
+          jj_la1[342] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -16433,7 +16646,7 @@ Token token;
           lastProperty.collate = Identifier();
           break;
         default:
-          jj_la1[342] = jj_gen;
+          jj_la1[343] = jj_gen;
           ;
         }
         label_52:
@@ -16443,7 +16656,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[343] = jj_gen;
+            jj_la1[344] = jj_gen;
             break label_52;
           }
           jj_consume_token(COMMA);
@@ -16503,6 +16716,7 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case COMPACT:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -16560,7 +16774,7 @@ Token token;
                         jjtn000.propertyList.add(lastProperty);
             break;
           default:
-            jj_la1[344] = jj_gen;
+            jj_la1[345] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -16577,13 +16791,13 @@ Token token;
                                   lastProperty.byValue = true;
               break;
             default:
-              jj_la1[345] = jj_gen;
+              jj_la1[346] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
             break;
           default:
-            jj_la1[346] = jj_gen;
+            jj_la1[347] = jj_gen;
             ;
           }
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -16592,7 +16806,7 @@ Token token;
             lastProperty.collate = Identifier();
             break;
           default:
-            jj_la1[347] = jj_gen;
+            jj_la1[348] = jj_gen;
             ;
           }
         }
@@ -16655,6 +16869,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -16700,7 +16915,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_147(3)) {
+          if (jj_2_148(3)) {
             jj_consume_token(IF);
             jj_consume_token(NOT);
             jj_consume_token(EXISTS);
@@ -16763,6 +16978,7 @@ Token token;
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case COMPACT:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -16811,19 +17027,19 @@ Token token;
               jjtn000.type = Identifier();
               break;
             default:
-              jj_la1[348] = jj_gen;
+              jj_la1[349] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[349] = jj_gen;
+          jj_la1[350] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
       }
-      if (jj_2_151(2)) {
+      if (jj_2_152(2)) {
         jj_consume_token(ENGINE);
         jjtn000.engine = Identifier();
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -16882,6 +17098,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -16927,7 +17144,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_149(2)) {
+          if (jj_2_150(2)) {
             jj_consume_token(METADATA);
             jjtn000.metadata = Json();
           } else {
@@ -16987,6 +17204,7 @@ Token token;
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case COMPACT:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -17041,7 +17259,7 @@ Token token;
                   ;
                   break;
                 default:
-                  jj_la1[350] = jj_gen;
+                  jj_la1[351] = jj_gen;
                   break label_53;
                 }
                 jj_consume_token(COMMA);
@@ -17054,19 +17272,19 @@ Token token;
                 jjtn000.metadata = Json();
                 break;
               default:
-                jj_la1[351] = jj_gen;
+                jj_la1[352] = jj_gen;
                 ;
               }
               break;
             default:
-              jj_la1[352] = jj_gen;
+              jj_la1[353] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[353] = jj_gen;
+          jj_la1[354] = jj_gen;
           ;
         }
       } else {
@@ -17126,6 +17344,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -17171,7 +17390,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_150(2)) {
+          if (jj_2_151(2)) {
             jj_consume_token(METADATA);
             jjtn000.metadata = Json();
           } else {
@@ -17231,6 +17450,7 @@ Token token;
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case COMPACT:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -17285,7 +17505,7 @@ Token token;
                   ;
                   break;
                 default:
-                  jj_la1[354] = jj_gen;
+                  jj_la1[355] = jj_gen;
                   break label_54;
                 }
                 jj_consume_token(COMMA);
@@ -17298,19 +17518,19 @@ Token token;
                 jjtn000.metadata = Json();
                 break;
               default:
-                jj_la1[355] = jj_gen;
+                jj_la1[356] = jj_gen;
                 ;
               }
               break;
             default:
-              jj_la1[356] = jj_gen;
+              jj_la1[357] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[357] = jj_gen;
+          jj_la1[358] = jj_gen;
           ;
         }
       }
@@ -17406,6 +17626,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -17451,7 +17672,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 259:
+      case 260:
         jjtn000.name = IndexName();
         break;
       case STAR:
@@ -17459,7 +17680,7 @@ Token token;
                      jjtn000.all = true;
         break;
       default:
-        jj_la1[358] = jj_gen;
+        jj_la1[359] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -17555,6 +17776,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -17600,7 +17822,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 259:
+      case 260:
         jjtn000.name = IndexName();
         break;
       case STAR:
@@ -17608,7 +17830,7 @@ Token token;
                      jjtn000.all = true;
         break;
       default:
-        jj_la1[359] = jj_gen;
+        jj_la1[360] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -17619,7 +17841,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[360] = jj_gen;
+        jj_la1[361] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -17667,7 +17889,7 @@ Token token;
                                  jjtn000.blob = true;
         break;
       default:
-        jj_la1[361] = jj_gen;
+        jj_la1[362] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -17680,7 +17902,7 @@ Token token;
                                 jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[362] = jj_gen;
+        jj_la1[363] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -17689,7 +17911,7 @@ Token token;
         jjtn000.id = Integer();
         break;
       default:
-        jj_la1[363] = jj_gen;
+        jj_la1[364] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -17735,7 +17957,7 @@ Token token;
                    jjtn000.starred = true;
         break;
       default:
-        jj_la1[364] = jj_gen;
+        jj_la1[365] = jj_gen;
         ;
       }
       jjtn000.attributeName = Identifier();
@@ -17832,6 +18054,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -17884,7 +18107,7 @@ Token token;
         jjtn000.id = Integer();
         break;
       default:
-        jj_la1[365] = jj_gen;
+        jj_la1[366] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -17895,7 +18118,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[366] = jj_gen;
+        jj_la1[367] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -17934,7 +18157,7 @@ Token token;
     try {
       jj_consume_token(ALTER);
       jj_consume_token(DATABASE);
-      if (jj_2_152(3)) {
+      if (jj_2_153(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -17996,6 +18219,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -18045,7 +18269,7 @@ Token token;
           jjtn000.settingValue = Expression();
           break;
         default:
-          jj_la1[367] = jj_gen;
+          jj_la1[368] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -18129,7 +18353,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[368] = jj_gen;
+          jj_la1[369] = jj_gen;
           break label_55;
         }
         lastOption = CommandLineOption();
@@ -18233,6 +18457,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -18284,7 +18509,7 @@ Token token;
         jjtn000.sourceRecordAttr = RecordAttribute();
         break;
       default:
-        jj_la1[369] = jj_gen;
+        jj_la1[370] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18347,6 +18572,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -18398,7 +18624,7 @@ Token token;
         jjtn000.destRecordAttr = RecordAttribute();
         break;
       default:
-        jj_la1[370] = jj_gen;
+        jj_la1[371] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18408,7 +18634,7 @@ Token token;
                       jjtn000.inverse = true;
         break;
       default:
-        jj_la1[371] = jj_gen;
+        jj_la1[372] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -18547,7 +18773,7 @@ Token token;
                  jjtn000.permission = "NONE";
         break;
       default:
-        jj_la1[372] = jj_gen;
+        jj_la1[373] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18635,6 +18861,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -18683,7 +18910,7 @@ Token token;
         jjtn000.identifier = Identifier();
         break;
       default:
-        jj_la1[373] = jj_gen;
+        jj_la1[374] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18733,7 +18960,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[374] = jj_gen;
+          jj_la1[375] = jj_gen;
           break label_56;
         }
         jj_consume_token(DOT);
@@ -18788,7 +19015,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[375] = jj_gen;
+          jj_la1[376] = jj_gen;
           break label_57;
         }
         jj_consume_token(DOT);
@@ -18851,7 +19078,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[376] = jj_gen;
+            jj_la1[377] = jj_gen;
             break label_58;
           }
           jj_consume_token(COMMA);
@@ -18861,7 +19088,7 @@ Token token;
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[377] = jj_gen;
+        jj_la1[378] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18877,13 +19104,13 @@ Token token;
                           jjtn000.idempotent = false;
           break;
         default:
-          jj_la1[378] = jj_gen;
+          jj_la1[379] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[379] = jj_gen;
+        jj_la1[380] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18892,7 +19119,7 @@ Token token;
         jjtn000.language = Identifier();
         break;
       default:
-        jj_la1[380] = jj_gen;
+        jj_la1[381] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -18991,6 +19218,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -19043,7 +19271,7 @@ Token token;
         jjtn000.passwordString = String();
         break;
       default:
-        jj_la1[381] = jj_gen;
+        jj_la1[382] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19106,6 +19334,7 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case COMPACT:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -19212,6 +19441,7 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case COMPACT:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -19266,7 +19496,7 @@ Token token;
                 ;
                 break;
               default:
-                jj_la1[382] = jj_gen;
+                jj_la1[383] = jj_gen;
                 break label_59;
               }
               jj_consume_token(COMMA);
@@ -19275,19 +19505,19 @@ Token token;
             }
             break;
           default:
-            jj_la1[383] = jj_gen;
+            jj_la1[384] = jj_gen;
             ;
           }
           jj_consume_token(RBRACKET);
           break;
         default:
-          jj_la1[384] = jj_gen;
+          jj_la1[385] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[385] = jj_gen;
+        jj_la1[386] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19364,9 +19594,9 @@ Token token;
       jj_consume_token(LET);
       jjtn000.name = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_153(2147483647)) {
+      if (jj_2_154(2147483647)) {
         jjtn000.statement = StatementInternal();
-      } else if (jj_2_154(2147483647)) {
+      } else if (jj_2_155(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -19413,7 +19643,7 @@ Token token;
         jjtn000.isolation = Identifier();
         break;
       default:
-        jj_la1[386] = jj_gen;
+        jj_la1[387] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19457,7 +19687,7 @@ Token token;
         jjtn000.retry = Integer();
         break;
       default:
-        jj_la1[387] = jj_gen;
+        jj_la1[388] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19573,6 +19803,7 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case COMPACT:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -19635,11 +19866,11 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 258:
+      case 259:
         jjtn000.expression = Expression();
         break;
       default:
-        jj_la1[388] = jj_gen;
+        jj_la1[389] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19700,6 +19931,7 @@ Token token;
         case DROP:
         case REBUILD:
         case OPTIMIZE:
+        case COMPACT:
         case EXPLAIN:
         case GRANT:
         case REVOKE:
@@ -19715,10 +19947,10 @@ Token token;
           ;
           break;
         default:
-          jj_la1[389] = jj_gen;
+          jj_la1[390] = jj_gen;
           break label_60;
         }
-        if (jj_2_155(2147483647)) {
+        if (jj_2_156(2147483647)) {
           last = StatementSemicolon();
                                           jjtn000.statements.add(last);
         } else {
@@ -19731,7 +19963,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[390] = jj_gen;
+            jj_la1[391] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -19857,7 +20089,7 @@ Token token;
                                 jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[391] = jj_gen;
+        jj_la1[392] = jj_gen;
         ;
       }
       jj_consume_token(TYPE);
@@ -19875,7 +20107,7 @@ Token token;
         jjtn000.start = Expression();
         break;
       default:
-        jj_la1[392] = jj_gen;
+        jj_la1[393] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -19884,7 +20116,7 @@ Token token;
         jjtn000.increment = Expression();
         break;
       default:
-        jj_la1[393] = jj_gen;
+        jj_la1[394] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -19893,7 +20125,7 @@ Token token;
         jjtn000.cache = Expression();
         break;
       default:
-        jj_la1[394] = jj_gen;
+        jj_la1[395] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19939,7 +20171,7 @@ Token token;
         jjtn000.start = Expression();
         break;
       default:
-        jj_la1[395] = jj_gen;
+        jj_la1[396] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -19948,7 +20180,7 @@ Token token;
         jjtn000.increment = Expression();
         break;
       default:
-        jj_la1[396] = jj_gen;
+        jj_la1[397] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -19957,7 +20189,7 @@ Token token;
         jjtn000.cache = Expression();
         break;
       default:
-        jj_la1[397] = jj_gen;
+        jj_la1[398] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20004,7 +20236,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[398] = jj_gen;
+        jj_la1[399] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20046,48 +20278,48 @@ Token token;
       label_61:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 261:
         case 262:
         case 263:
         case 264:
         case 265:
         case 266:
+        case 267:
           ;
           break;
         default:
-          jj_la1[399] = jj_gen;
+          jj_la1[400] = jj_gen;
           break label_61;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 261:
-          token = jj_consume_token(261);
-                                 jjtn000.servers = true;
-          break;
         case 262:
           token = jj_consume_token(262);
-                            jjtn000.db = true;
+                                 jjtn000.servers = true;
           break;
         case 263:
           token = jj_consume_token(263);
-                                 jjtn000.latency = true;
+                            jjtn000.db = true;
           break;
         case 264:
           token = jj_consume_token(264);
-                                  jjtn000.messages = true;
+                                 jjtn000.latency = true;
           break;
         case 265:
           token = jj_consume_token(265);
+                                  jjtn000.messages = true;
+          break;
+        case 266:
+          token = jj_consume_token(266);
                 jjtn000.servers = true;
                 jjtn000.db = true;
                 jjtn000.latency = true;
                 jjtn000.messages = true;
           break;
-        case 266:
-          token = jj_consume_token(266);
+        case 267:
+          token = jj_consume_token(267);
                                      jjtn000.outputText = true;
           break;
         default:
-          jj_la1[400] = jj_gen;
+          jj_la1[401] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -20156,25 +20388,25 @@ Token token;
       label_62:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 267:
         case 268:
+        case 269:
           ;
           break;
         default:
-          jj_la1[401] = jj_gen;
+          jj_la1[402] = jj_gen;
           break label_62;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 267:
-          jj_consume_token(267);
-                      jjtn000.force = true;
-          break;
         case 268:
           jj_consume_token(268);
+                      jjtn000.force = true;
+          break;
+        case 269:
+          jj_consume_token(269);
                       jjtn000.full = true;
           break;
         default:
-          jj_la1[402] = jj_gen;
+          jj_la1[403] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -20204,25 +20436,25 @@ Token token;
       jj_consume_token(CLUSTER);
       jjtn000.clusterName = Identifier();
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 269:
       case 270:
+      case 271:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 269:
-          jj_consume_token(269);
-                                 jjtn000.modeFull = true;
-          break;
         case 270:
           jj_consume_token(270);
+                                 jjtn000.modeFull = true;
+          break;
+        case 271:
+          jj_consume_token(271);
                           jjtn000.modeMerge = true;
           break;
         default:
-          jj_la1[403] = jj_gen;
+          jj_la1[404] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[404] = jj_gen;
+        jj_la1[405] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20285,6 +20517,7 @@ Token token;
         case DROP:
         case REBUILD:
         case OPTIMIZE:
+        case COMPACT:
         case EXPLAIN:
         case GRANT:
         case REVOKE:
@@ -20301,10 +20534,10 @@ Token token;
           ;
           break;
         default:
-          jj_la1[405] = jj_gen;
+          jj_la1[406] = jj_gen;
           break label_63;
         }
-        if (jj_2_156(2147483647)) {
+        if (jj_2_157(2147483647)) {
           lastStatement = StatementSemicolon();
                                               jjtn000.statements.add(lastStatement);
         } else {
@@ -20321,7 +20554,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[406] = jj_gen;
+            jj_la1[407] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -21447,310 +21680,334 @@ Token token;
     finally { jj_save(155, xla); }
   }
 
-  private boolean jj_3R_189() {
-    if (jj_3R_141()) return true;
-    if (jj_scan_token(IS)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(DEFINED)) return true;
-    return false;
+  private boolean jj_2_157(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_157(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(156, xla); }
   }
 
-  private boolean jj_3R_190() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_192() {
+    if (jj_3R_143()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_187() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_189() {
+    if (jj_3R_143()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_188() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_190() {
+    if (jj_3R_143()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_678() {
+  private boolean jj_3R_682() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_577() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_581() {
+    if (jj_3R_143()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_678()) { jj_scanpos = xsp; break; }
+      if (jj_3R_682()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_677() {
+  private boolean jj_3R_681() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_194() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_196() {
+    if (jj_3R_143()) return true;
     if (jj_scan_token(BETWEEN)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_576() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_580() {
+    if (jj_3R_143()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_677()) { jj_scanpos = xsp; break; }
+      if (jj_3R_681()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_676() {
+  private boolean jj_3R_680() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_423() {
+  private boolean jj_3R_427() {
     if (jj_scan_token(BETWEEN)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_576()) jj_scanpos = xsp;
+    if (jj_3R_580()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     if (jj_scan_token(AND)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_577()) jj_scanpos = xsp;
+    if (jj_3R_581()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_575() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_579() {
+    if (jj_3R_143()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_676()) { jj_scanpos = xsp; break; }
+      if (jj_3R_680()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_422() {
-    if (jj_3R_413()) return true;
+  private boolean jj_3R_426() {
+    if (jj_3R_417()) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_575()) jj_scanpos = xsp;
+    if (jj_3R_579()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_426() {
+  private boolean jj_3R_430() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_201() {
+  private boolean jj_3R_203() {
     if (jj_scan_token(KEY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_422()) {
+    if (jj_3R_426()) {
     jj_scanpos = xsp;
-    if (jj_3R_423()) return true;
+    if (jj_3R_427()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_425() {
-    if (jj_3R_574()) return true;
+  private boolean jj_3R_429() {
+    if (jj_3R_578()) return true;
     return false;
   }
 
-  private boolean jj_3R_424() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_428() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3_122() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3_123() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_202() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_204() {
+    if (jj_3R_143()) return true;
     if (jj_scan_token(INSTANCEOF)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_424()) {
+    if (jj_3R_428()) {
     jj_scanpos = xsp;
-    if (jj_3R_425()) {
+    if (jj_3R_429()) {
     jj_scanpos = xsp;
-    if (jj_3R_426()) return true;
+    if (jj_3R_430()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_416() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_420() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3_121() {
+  private boolean jj_3_122() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_164()) return true;
+    if (jj_3R_166()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_196() {
-    if (jj_3R_141()) return true;
-    if (jj_3R_415()) return true;
+  private boolean jj_3R_198() {
+    if (jj_3R_143()) return true;
+    if (jj_3R_419()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_121()) {
+    if (jj_3_122()) {
     jj_scanpos = xsp;
-    if (jj_3R_416()) return true;
+    if (jj_3R_420()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_193() {
-    if (jj_3R_141()) return true;
-    if (jj_3R_413()) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_195() {
+    if (jj_3R_143()) return true;
+    if (jj_3R_417()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_533() {
+  private boolean jj_3R_537() {
     if (jj_scan_token(NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_364() {
+  private boolean jj_3R_368() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_533()) jj_scanpos = xsp;
-    if (jj_3R_410()) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_537()) jj_scanpos = xsp;
+    if (jj_3R_414()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_363() {
-    if (jj_3R_413()) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_367() {
+    if (jj_3R_417()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_162() {
+  private boolean jj_3R_164() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_363()) {
+    if (jj_3R_367()) {
     jj_scanpos = xsp;
-    if (jj_3R_364()) return true;
+    if (jj_3R_368()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_752() {
+  private boolean jj_3R_756() {
     if (jj_scan_token(EQEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_751() {
+  private boolean jj_3R_755() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_663() {
+  private boolean jj_3R_667() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_751()) {
+    if (jj_3R_755()) {
     jj_scanpos = xsp;
-    if (jj_3R_752()) return true;
+    if (jj_3R_756()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_415() {
+  private boolean jj_3R_419() {
     if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_671() {
+  private boolean jj_3R_675() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_675() {
+  private boolean jj_3R_679() {
     if (jj_scan_token(SC_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_674() {
+  private boolean jj_3R_678() {
     if (jj_scan_token(WITHIN)) return true;
     return false;
   }
 
-  private boolean jj_3R_673() {
+  private boolean jj_3R_677() {
     if (jj_scan_token(NEAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_672() {
+  private boolean jj_3R_676() {
     if (jj_scan_token(LUCENE)) return true;
     return false;
   }
 
-  private boolean jj_3R_670() {
+  private boolean jj_3R_674() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_669() {
+  private boolean jj_3R_673() {
     if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  private boolean jj_3R_668() {
+  private boolean jj_3R_672() {
     if (jj_scan_token(GE)) return true;
     return false;
   }
 
-  private boolean jj_3R_667() {
+  private boolean jj_3R_671() {
     if (jj_scan_token(NEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_666() {
+  private boolean jj_3R_670() {
     if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  private boolean jj_3R_665() {
+  private boolean jj_3R_669() {
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_664() {
+  private boolean jj_3R_668() {
     if (jj_scan_token(LT)) return true;
     return false;
   }
 
+  private boolean jj_3R_577() {
+    if (jj_3R_679()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_576() {
+    if (jj_3R_678()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_575() {
+    if (jj_3R_677()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_574() {
+    if (jj_3R_676()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_565() {
+    if (jj_3R_667()) return true;
+    return false;
+  }
+
   private boolean jj_3R_573() {
     if (jj_3R_675()) return true;
     return false;
@@ -21771,11 +22028,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_561() {
-    if (jj_3R_663()) return true;
-    return false;
-  }
-
   private boolean jj_3R_569() {
     if (jj_3R_671()) return true;
     return false;
@@ -21796,52 +22048,24 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_565() {
-    if (jj_3R_667()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_564() {
-    if (jj_3R_666()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_563() {
-    if (jj_3R_665()) return true;
+  private boolean jj_3_120() {
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_562() {
-    if (jj_3R_664()) return true;
+  private boolean jj_3_121() {
+    if (jj_3R_204()) return true;
     return false;
   }
 
   private boolean jj_3_119() {
-    if (jj_3R_201()) return true;
-    return false;
-  }
-
-  private boolean jj_3_120() {
     if (jj_3R_202()) return true;
     return false;
   }
 
-  private boolean jj_3_118() {
-    if (jj_3R_200()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_413() {
+  private boolean jj_3R_417() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_561()) {
-    jj_scanpos = xsp;
-    if (jj_3R_562()) {
-    jj_scanpos = xsp;
-    if (jj_3R_563()) {
-    jj_scanpos = xsp;
-    if (jj_3R_564()) {
-    jj_scanpos = xsp;
     if (jj_3R_565()) {
     jj_scanpos = xsp;
     if (jj_3R_566()) {
@@ -21858,7 +22082,15 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_572()) {
     jj_scanpos = xsp;
-    if (jj_3R_573()) return true;
+    if (jj_3R_573()) {
+    jj_scanpos = xsp;
+    if (jj_3R_574()) {
+    jj_scanpos = xsp;
+    if (jj_3R_575()) {
+    jj_scanpos = xsp;
+    if (jj_3R_576()) {
+    jj_scanpos = xsp;
+    if (jj_3R_577()) return true;
     }
     }
     }
@@ -21874,177 +22106,169 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_409() {
+  private boolean jj_3R_413() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_408() {
+  private boolean jj_3R_412() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3_117() {
-    if (jj_3R_199()) return true;
+  private boolean jj_3_118() {
+    if (jj_3R_201()) return true;
     return false;
   }
 
-  private boolean jj_3R_406() {
-    if (jj_3R_201()) return true;
+  private boolean jj_3R_410() {
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3_115() {
-    if (jj_3R_197()) return true;
+  private boolean jj_3_116() {
+    if (jj_3R_199()) return true;
     return false;
   }
 
-  private boolean jj_3R_407() {
-    if (jj_3R_202()) return true;
+  private boolean jj_3R_411() {
+    if (jj_3R_204()) return true;
     return false;
   }
 
-  private boolean jj_3_116() {
-    if (jj_3R_198()) return true;
+  private boolean jj_3_117() {
+    if (jj_3R_200()) return true;
     return false;
   }
 
-  private boolean jj_3R_405() {
-    if (jj_3R_200()) return true;
+  private boolean jj_3R_409() {
+    if (jj_3R_202()) return true;
+    return false;
+  }
+
+  private boolean jj_3_115() {
+    if (jj_3R_198()) return true;
     return false;
   }
 
   private boolean jj_3_114() {
-    if (jj_3R_196()) return true;
+    if (jj_3R_197()) return true;
     return false;
   }
 
   private boolean jj_3_113() {
-    if (jj_3R_195()) return true;
+    if (jj_3R_196()) return true;
     return false;
   }
 
-  private boolean jj_3_112() {
-    if (jj_3R_194()) return true;
+  private boolean jj_3R_408() {
+    if (jj_3R_201()) return true;
     return false;
   }
 
-  private boolean jj_3R_404() {
+  private boolean jj_3R_406() {
     if (jj_3R_199()) return true;
     return false;
   }
 
-  private boolean jj_3R_402() {
-    if (jj_3R_197()) return true;
+  private boolean jj_3_112() {
+    if (jj_3R_195()) return true;
     return false;
   }
 
-  private boolean jj_3_111() {
-    if (jj_3R_193()) return true;
+  private boolean jj_3R_407() {
+    if (jj_3R_200()) return true;
     return false;
   }
 
-  private boolean jj_3R_403() {
+  private boolean jj_3R_405() {
     if (jj_3R_198()) return true;
     return false;
   }
 
-  private boolean jj_3R_401() {
-    if (jj_3R_196()) return true;
+  private boolean jj_3R_404() {
+    if (jj_3R_197()) return true;
     return false;
   }
 
-  private boolean jj_3R_400() {
-    if (jj_3R_195()) return true;
+  private boolean jj_3_110() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3_109() {
-    if (jj_3R_191()) return true;
+  private boolean jj_3_111() {
+    if (jj_3R_194()) return true;
     return false;
   }
 
-  private boolean jj_3_110() {
+  private boolean jj_3R_403() {
+    if (jj_3R_196()) return true;
+    return false;
+  }
+
+  private boolean jj_3_109() {
     if (jj_3R_192()) return true;
     return false;
   }
 
-  private boolean jj_3R_399() {
-    if (jj_3R_194()) return true;
+  private boolean jj_3R_402() {
+    if (jj_3R_195()) return true;
     return false;
   }
 
   private boolean jj_3_108() {
-    if (jj_3R_190()) return true;
+    if (jj_3R_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_398() {
-    if (jj_3R_193()) return true;
+  private boolean jj_3_107() {
+    if (jj_3R_190()) return true;
     return false;
   }
 
-  private boolean jj_3_107() {
-    if (jj_3R_189()) return true;
+  private boolean jj_3R_400() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
   private boolean jj_3_106() {
-    if (jj_3R_188()) return true;
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_396() {
-    if (jj_3R_191()) return true;
+  private boolean jj_3R_401() {
+    if (jj_3R_194()) return true;
     return false;
   }
 
-  private boolean jj_3_105() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_399() {
+    if (jj_3R_192()) return true;
     return false;
   }
 
-  private boolean jj_3R_397() {
-    if (jj_3R_192()) return true;
+  private boolean jj_3R_398() {
+    if (jj_3R_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_395() {
+  private boolean jj_3R_397() {
     if (jj_3R_190()) return true;
     return false;
   }
 
-  private boolean jj_3R_394() {
+  private boolean jj_3R_396() {
     if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_393() {
+  private boolean jj_3_105() {
     if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_392() {
-    if (jj_3R_187()) return true;
-    return false;
-  }
-
-  private boolean jj_3_104() {
-    if (jj_3R_186()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_185() {
+  private boolean jj_3R_187() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_392()) {
-    jj_scanpos = xsp;
-    if (jj_3R_393()) {
-    jj_scanpos = xsp;
-    if (jj_3R_394()) {
-    jj_scanpos = xsp;
-    if (jj_3R_395()) {
-    jj_scanpos = xsp;
     if (jj_3R_396()) {
     jj_scanpos = xsp;
     if (jj_3R_397()) {
@@ -22071,7 +22295,15 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_408()) {
     jj_scanpos = xsp;
-    if (jj_3R_409()) return true;
+    if (jj_3R_409()) {
+    jj_scanpos = xsp;
+    if (jj_3R_410()) {
+    jj_scanpos = xsp;
+    if (jj_3R_411()) {
+    jj_scanpos = xsp;
+    if (jj_3R_412()) {
+    jj_scanpos = xsp;
+    if (jj_3R_413()) return true;
     }
     }
     }
@@ -22092,436 +22324,436 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_103() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3_104() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3_102() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3_103() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_186() {
+  private boolean jj_3R_188() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_164()) return true;
+    if (jj_3R_166()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_101() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3_102() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_738() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_742() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_737() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_741() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_736() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_740() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_651() {
+  private boolean jj_3R_655() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_737()) {
+    if (jj_3R_741()) {
     jj_scanpos = xsp;
-    if (jj_3R_738()) return true;
+    if (jj_3R_742()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_735() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_739() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_650() {
+  private boolean jj_3R_654() {
     if (jj_scan_token(NOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_735()) {
+    if (jj_3R_739()) {
     jj_scanpos = xsp;
-    if (jj_3R_736()) return true;
+    if (jj_3R_740()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_537() {
+  private boolean jj_3R_541() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_650()) {
+    if (jj_3R_654()) {
     jj_scanpos = xsp;
-    if (jj_3R_651()) return true;
+    if (jj_3R_655()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_538() {
+  private boolean jj_3R_542() {
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_537()) return true;
+    if (jj_3R_541()) return true;
     return false;
   }
 
-  private boolean jj_3R_369() {
+  private boolean jj_3R_373() {
     if (jj_scan_token(OR)) return true;
-    if (jj_3R_368()) return true;
+    if (jj_3R_372()) return true;
     return false;
   }
 
-  private boolean jj_3R_368() {
-    if (jj_3R_537()) return true;
+  private boolean jj_3R_372() {
+    if (jj_3R_541()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_538()) { jj_scanpos = xsp; break; }
+      if (jj_3R_542()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_164() {
-    if (jj_3R_368()) return true;
+  private boolean jj_3R_166() {
+    if (jj_3R_372()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_369()) { jj_scanpos = xsp; break; }
+      if (jj_3R_373()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_453() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_457() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_523() {
+  private boolean jj_3R_527() {
     if (jj_scan_token(INDEXVALUESDESC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_522() {
+  private boolean jj_3R_526() {
     if (jj_scan_token(INDEXVALUESASC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_521() {
+  private boolean jj_3R_525() {
     if (jj_scan_token(INDEXVALUES_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_343() {
+  private boolean jj_3R_347() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_521()) {
+    if (jj_3R_525()) {
     jj_scanpos = xsp;
-    if (jj_3R_522()) {
+    if (jj_3R_526()) {
     jj_scanpos = xsp;
-    if (jj_3R_523()) return true;
+    if (jj_3R_527()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_342() {
+  private boolean jj_3R_346() {
     if (jj_scan_token(INDEX_COLON)) return true;
-    if (jj_3R_520()) return true;
+    if (jj_3R_524()) return true;
     return false;
   }
 
-  private boolean jj_3R_147() {
+  private boolean jj_3R_149() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_342()) {
+    if (jj_3R_346()) {
     jj_scanpos = xsp;
-    if (jj_3R_343()) return true;
+    if (jj_3R_347()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_730() {
+  private boolean jj_3R_734() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_729() {
+  private boolean jj_3R_733() {
     if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_640() {
+  private boolean jj_3R_644() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_729()) {
+    if (jj_3R_733()) {
     jj_scanpos = xsp;
-    if (jj_3R_730()) return true;
+    if (jj_3R_734()) return true;
     }
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_639() {
-    if (jj_scan_token(259)) return true;
+  private boolean jj_3R_643() {
+    if (jj_scan_token(260)) return true;
     return false;
   }
 
-  private boolean jj_3R_520() {
+  private boolean jj_3R_524() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_639()) jj_scanpos = xsp;
-    if (jj_3R_151()) return true;
+    if (jj_3R_643()) jj_scanpos = xsp;
+    if (jj_3R_153()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_640()) { jj_scanpos = xsp; break; }
+      if (jj_3R_644()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_909() {
+  private boolean jj_3R_913() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_825() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_829() {
+    if (jj_3R_153()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_909()) { jj_scanpos = xsp; break; }
+      if (jj_3R_913()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_690() {
+  private boolean jj_3R_694() {
     if (jj_scan_token(METADATA_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_689() {
+  private boolean jj_3R_693() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_825()) jj_scanpos = xsp;
+    if (jj_3R_829()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_347() {
+  private boolean jj_3R_351() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_97() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_98() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_346() {
+  private boolean jj_3R_350() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_96() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_97() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_153() {
+  private boolean jj_3R_155() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_346()) {
+    if (jj_3R_350()) {
     jj_scanpos = xsp;
-    if (jj_3R_347()) return true;
+    if (jj_3R_351()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_693() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_697() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3_95() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_96() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_692() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_696() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_601() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_605() {
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_693()) jj_scanpos = xsp;
+    if (jj_3R_697()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_691() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_695() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3_100() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3_101() {
+    if (jj_3R_159()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_692()) jj_scanpos = xsp;
+    if (jj_3R_696()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_600() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_604() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3_99() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3_100() {
+    if (jj_3R_149()) return true;
     return false;
   }
 
-  private boolean jj_3R_599() {
+  private boolean jj_3R_603() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_186()) return true;
     if (jj_scan_token(RPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_691()) jj_scanpos = xsp;
+    if (jj_3R_695()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_598() {
-    if (jj_3R_690()) return true;
+  private boolean jj_3R_602() {
+    if (jj_3R_694()) return true;
     return false;
   }
 
-  private boolean jj_3R_597() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3R_601() {
+    if (jj_3R_149()) return true;
     return false;
   }
 
-  private boolean jj_3R_824() {
-    if (jj_3R_530()) return true;
+  private boolean jj_3R_828() {
+    if (jj_3R_534()) return true;
     return false;
   }
 
-  private boolean jj_3R_596() {
-    if (jj_3R_689()) return true;
+  private boolean jj_3R_600() {
+    if (jj_3R_693()) return true;
     return false;
   }
 
-  private boolean jj_3R_624() {
+  private boolean jj_3R_628() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_623()) return true;
+    if (jj_3R_627()) return true;
     return false;
   }
 
-  private boolean jj_3R_688() {
+  private boolean jj_3R_692() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_823()) {
+    if (jj_3R_827()) {
     jj_scanpos = xsp;
-    if (jj_3R_824()) return true;
+    if (jj_3R_828()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_823() {
+  private boolean jj_3R_827() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_529()) return true;
+    if (jj_3R_533()) return true;
     return false;
   }
 
-  private boolean jj_3R_595() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3R_599() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_687() {
-    if (jj_3R_530()) return true;
+  private boolean jj_3R_691() {
+    if (jj_3R_534()) return true;
     return false;
   }
 
-  private boolean jj_3R_686() {
-    if (jj_3R_529()) return true;
+  private boolean jj_3R_690() {
+    if (jj_3R_533()) return true;
     return false;
   }
 
-  private boolean jj_3R_685() {
+  private boolean jj_3R_689() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_155()) return true;
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_594() {
+  private boolean jj_3R_598() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_686()) {
+    if (jj_3R_690()) {
     jj_scanpos = xsp;
-    if (jj_3R_687()) return true;
+    if (jj_3R_691()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_688()) { jj_scanpos = xsp; break; }
+      if (jj_3R_692()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3_98() {
+  private boolean jj_3_99() {
     if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_155()) return true;
+    if (jj_3R_157()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_685()) { jj_scanpos = xsp; break; }
+      if (jj_3R_689()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_593() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_597() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_448() {
+  private boolean jj_3R_452() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_593()) {
+    if (jj_3R_597()) {
     jj_scanpos = xsp;
-    if (jj_3_98()) {
+    if (jj_3_99()) {
     jj_scanpos = xsp;
-    if (jj_3R_594()) {
+    if (jj_3R_598()) {
     jj_scanpos = xsp;
-    if (jj_3R_595()) {
+    if (jj_3R_599()) {
     jj_scanpos = xsp;
-    if (jj_3R_596()) {
+    if (jj_3R_600()) {
     jj_scanpos = xsp;
-    if (jj_3R_597()) {
+    if (jj_3R_601()) {
     jj_scanpos = xsp;
-    if (jj_3R_598()) {
+    if (jj_3R_602()) {
     jj_scanpos = xsp;
-    if (jj_3R_599()) {
+    if (jj_3R_603()) {
     jj_scanpos = xsp;
-    if (jj_3R_600()) {
+    if (jj_3R_604()) {
     jj_scanpos = xsp;
-    if (jj_3_100()) {
+    if (jj_3_101()) {
     jj_scanpos = xsp;
-    if (jj_3R_601()) return true;
+    if (jj_3R_605()) return true;
     }
     }
     }
@@ -22535,262 +22767,258 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_94() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3_95() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_709() {
+  private boolean jj_3R_713() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_186()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_708() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_712() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_623() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_627() {
+    if (jj_3R_153()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_708()) {
+    if (jj_3R_712()) {
     jj_scanpos = xsp;
-    if (jj_3R_709()) return true;
+    if (jj_3R_713()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_93() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_94() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_505() {
+  private boolean jj_3R_509() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_623()) return true;
+    if (jj_3R_627()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_624()) { jj_scanpos = xsp; break; }
+      if (jj_3R_628()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_241() {
-    if (jj_3R_448()) return true;
+  private boolean jj_3R_243() {
+    if (jj_3R_452()) return true;
     return false;
   }
 
-  private boolean jj_3R_558() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_562() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3_92() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_93() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_557() {
+  private boolean jj_3R_561() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_556() {
-    if (jj_3R_574()) return true;
+  private boolean jj_3R_560() {
+    if (jj_3R_578()) return true;
     return false;
   }
 
-  private boolean jj_3_91() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_92() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_555() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_559() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_386() {
+  private boolean jj_3R_390() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_556()) {
+    if (jj_3R_560()) {
     jj_scanpos = xsp;
-    if (jj_3R_557()) return true;
+    if (jj_3R_561()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_558()) jj_scanpos = xsp;
+    if (jj_3R_562()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_554() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_558() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_385() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_389() {
+    if (jj_3R_158()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_555()) jj_scanpos = xsp;
+    if (jj_3R_559()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_384() {
-    if (jj_3R_553()) return true;
+  private boolean jj_3R_388() {
+    if (jj_3R_557()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_554()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_383() {
-    if (jj_3R_475()) return true;
+    if (jj_3R_558()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_381() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_387() {
+    if (jj_3R_479()) return true;
     return false;
   }
 
-  private boolean jj_3R_183() {
+  private boolean jj_3R_185() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_383()) {
+    if (jj_3R_387()) {
     jj_scanpos = xsp;
-    if (jj_3R_384()) {
+    if (jj_3R_388()) {
     jj_scanpos = xsp;
-    if (jj_3R_385()) {
+    if (jj_3R_389()) {
     jj_scanpos = xsp;
-    if (jj_3R_386()) return true;
+    if (jj_3R_390()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_382() {
-    if (jj_3R_289()) return true;
+  private boolean jj_3R_385() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3_90() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3R_386() {
+    if (jj_3R_293()) return true;
     return false;
   }
 
-  private boolean jj_3_89() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3_91() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3_88() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3_90() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_182() {
-    if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
+  private boolean jj_3_89() {
+    if (jj_3R_184()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_184() {
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_90()) {
+    if (jj_3_91()) {
     jj_scanpos = xsp;
-    if (jj_3R_381()) {
+    if (jj_3R_385()) {
     jj_scanpos = xsp;
-    if (jj_3R_382()) return true;
+    if (jj_3R_386()) return true;
     }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_380() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_384() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_379() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3R_383() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_181() {
+  private boolean jj_3R_183() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_379()) {
+    if (jj_3R_383()) {
     jj_scanpos = xsp;
-    if (jj_3R_380()) return true;
+    if (jj_3R_384()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_180() {
+  private boolean jj_3R_182() {
     if (jj_scan_token(XOR)) return true;
     return false;
   }
 
-  private boolean jj_3R_179() {
+  private boolean jj_3R_181() {
     if (jj_scan_token(BIT_OR)) return true;
     return false;
   }
 
-  private boolean jj_3R_178() {
+  private boolean jj_3R_180() {
     if (jj_scan_token(BIT_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_177() {
+  private boolean jj_3R_179() {
     if (jj_scan_token(RUNSIGNEDSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_176() {
+  private boolean jj_3R_178() {
     if (jj_scan_token(RSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_175() {
+  private boolean jj_3R_177() {
     if (jj_scan_token(LSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_174() {
+  private boolean jj_3R_176() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_173() {
+  private boolean jj_3R_175() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_172() {
+  private boolean jj_3R_174() {
     if (jj_scan_token(REM)) return true;
     return false;
   }
 
-  private boolean jj_3R_171() {
+  private boolean jj_3R_173() {
     if (jj_scan_token(SLASH)) return true;
     return false;
   }
 
-  private boolean jj_3R_170() {
+  private boolean jj_3R_172() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3_87() {
+  private boolean jj_3_88() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_170()) {
-    jj_scanpos = xsp;
-    if (jj_3R_171()) {
-    jj_scanpos = xsp;
     if (jj_3R_172()) {
     jj_scanpos = xsp;
     if (jj_3R_173()) {
@@ -22807,7 +23035,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_179()) {
     jj_scanpos = xsp;
-    if (jj_3R_180()) return true;
+    if (jj_3R_180()) {
+    jj_scanpos = xsp;
+    if (jj_3R_181()) {
+    jj_scanpos = xsp;
+    if (jj_3R_182()) return true;
     }
     }
     }
@@ -22818,74 +23050,74 @@ Token token;
     }
     }
     }
-    if (jj_3R_181()) return true;
+    if (jj_3R_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_169() {
-    if (jj_3R_181()) return true;
+  private boolean jj_3R_171() {
+    if (jj_3R_183()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_87()) { jj_scanpos = xsp; break; }
+      if (jj_3_88()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_86() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3_87() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3_85() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3_86() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_552() {
-    if (jj_3R_219()) return true;
+  private boolean jj_3R_556() {
+    if (jj_3R_221()) return true;
     return false;
   }
 
-  private boolean jj_3R_551() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_555() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_550() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_554() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_549() {
+  private boolean jj_3R_553() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_548() {
+  private boolean jj_3R_552() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_547() {
+  private boolean jj_3R_551() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_377() {
+  private boolean jj_3R_381() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_547()) {
+    if (jj_3R_551()) {
     jj_scanpos = xsp;
-    if (jj_3R_548()) {
+    if (jj_3R_552()) {
     jj_scanpos = xsp;
-    if (jj_3R_549()) {
+    if (jj_3R_553()) {
     jj_scanpos = xsp;
-    if (jj_3R_550()) {
+    if (jj_3R_554()) {
     jj_scanpos = xsp;
-    if (jj_3R_551()) {
+    if (jj_3R_555()) {
     jj_scanpos = xsp;
-    if (jj_3R_552()) return true;
+    if (jj_3R_556()) return true;
     }
     }
     }
@@ -22894,109 +23126,109 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_378() {
+  private boolean jj_3R_382() {
     if (jj_scan_token(SC_OR)) return true;
-    if (jj_3R_377()) return true;
+    if (jj_3R_381()) return true;
     return false;
   }
 
-  private boolean jj_3_84() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3_85() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_168() {
-    if (jj_3R_377()) return true;
+  private boolean jj_3R_170() {
+    if (jj_3R_381()) return true;
     Token xsp;
-    if (jj_3R_378()) return true;
+    if (jj_3R_382()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_378()) { jj_scanpos = xsp; break; }
+      if (jj_3R_382()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_83() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3_84() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_323() {
-    if (jj_3R_219()) return true;
+  private boolean jj_3R_327() {
+    if (jj_3R_221()) return true;
     return false;
   }
 
-  private boolean jj_3R_322() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_326() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3_82() {
-    if (jj_3R_168()) return true;
+  private boolean jj_3_83() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_321() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_325() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_320() {
+  private boolean jj_3R_324() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_319() {
+  private boolean jj_3R_323() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_318() {
+  private boolean jj_3R_322() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3_81() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_82() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_317() {
-    if (jj_3R_168()) return true;
+  private boolean jj_3R_321() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3_79() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3_80() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3_80() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3_81() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3_78() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3_79() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_141() {
+  private boolean jj_3R_143() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_317()) {
+    if (jj_3R_321()) {
     jj_scanpos = xsp;
-    if (jj_3R_318()) {
+    if (jj_3R_322()) {
     jj_scanpos = xsp;
-    if (jj_3R_319()) {
+    if (jj_3R_323()) {
     jj_scanpos = xsp;
-    if (jj_3R_320()) {
+    if (jj_3R_324()) {
     jj_scanpos = xsp;
-    if (jj_3R_321()) {
+    if (jj_3R_325()) {
     jj_scanpos = xsp;
-    if (jj_3R_322()) {
+    if (jj_3R_326()) {
     jj_scanpos = xsp;
-    if (jj_3R_323()) return true;
+    if (jj_3R_327()) return true;
     }
     }
     }
@@ -23006,63 +23238,63 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_376() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_380() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3_77() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3_78() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_375() {
+  private boolean jj_3R_379() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  private boolean jj_3_76() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3_77() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_546() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_550() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_374() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_378() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_545() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_549() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_544() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_548() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_543() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_547() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_373() {
+  private boolean jj_3R_377() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_543()) {
+    if (jj_3R_547()) {
     jj_scanpos = xsp;
-    if (jj_3R_544()) {
+    if (jj_3R_548()) {
     jj_scanpos = xsp;
-    if (jj_3R_545()) {
+    if (jj_3R_549()) {
     jj_scanpos = xsp;
-    if (jj_3R_546()) return true;
+    if (jj_3R_550()) return true;
     }
     }
     }
@@ -23070,655 +23302,675 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_531() {
+  private boolean jj_3R_535() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3_75() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3_76() {
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  private boolean jj_3_74() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3_75() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_167() {
+  private boolean jj_3R_169() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_373()) {
+    if (jj_3R_377()) {
     jj_scanpos = xsp;
-    if (jj_3R_374()) {
+    if (jj_3R_378()) {
     jj_scanpos = xsp;
-    if (jj_3R_375()) return true;
+    if (jj_3R_379()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_376()) jj_scanpos = xsp;
+    if (jj_3R_380()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_660() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_664() {
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_659() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_663() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3_73() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3_74() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3_72() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3_73() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_553() {
+  private boolean jj_3R_557() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_659()) {
+    if (jj_3R_663()) {
     jj_scanpos = xsp;
-    if (jj_3R_660()) return true;
+    if (jj_3R_664()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_362() {
+  private boolean jj_3R_366() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_361() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_365() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3_71() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3_72() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_360() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_364() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3_70() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3_71() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_161() {
+  private boolean jj_3R_163() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_360()) {
+    if (jj_3R_364()) {
     jj_scanpos = xsp;
-    if (jj_3R_361()) {
+    if (jj_3R_365()) {
     jj_scanpos = xsp;
-    if (jj_3R_362()) return true;
+    if (jj_3R_366()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_359() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_363() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_358() {
+  private boolean jj_3R_362() {
     if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_357() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_361() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_542() {
+  private boolean jj_3R_546() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_160() {
+  private boolean jj_3R_162() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_357()) {
+    if (jj_3R_361()) {
     jj_scanpos = xsp;
-    if (jj_3R_358()) {
+    if (jj_3R_362()) {
     jj_scanpos = xsp;
-    if (jj_3R_359()) return true;
+    if (jj_3R_363()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_372() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_376() {
+    if (jj_3R_143()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_542()) { jj_scanpos = xsp; break; }
+      if (jj_3R_546()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_166() {
+  private boolean jj_3R_168() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_372()) jj_scanpos = xsp;
+    if (jj_3R_376()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_355() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_359() {
+    if (jj_3R_143()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_531()) { jj_scanpos = xsp; break; }
+      if (jj_3R_535()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_354() {
+  private boolean jj_3R_358() {
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  private boolean jj_3R_353() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_357() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_157() {
+  private boolean jj_3R_159() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_353()) {
+    if (jj_3R_357()) {
     jj_scanpos = xsp;
-    if (jj_3R_354()) return true;
+    if (jj_3R_358()) return true;
     }
     if (jj_scan_token(LPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_355()) jj_scanpos = xsp;
+    if (jj_3R_359()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_159() {
+  private boolean jj_3R_161() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_528() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_532() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_536() {
+  private boolean jj_3R_540() {
     if (jj_scan_token(ELLIPSIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_535() {
+  private boolean jj_3R_539() {
     if (jj_scan_token(RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_367() {
-    if (jj_3R_534()) return true;
+  private boolean jj_3R_371() {
+    if (jj_3R_538()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_535()) {
+    if (jj_3R_539()) {
     jj_scanpos = xsp;
-    if (jj_3R_536()) return true;
+    if (jj_3R_540()) return true;
     }
-    if (jj_3R_534()) return true;
+    if (jj_3R_538()) return true;
     return false;
   }
 
-  private boolean jj_3R_366() {
+  private boolean jj_3R_370() {
     if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_365() {
+  private boolean jj_3R_369() {
     if (jj_scan_token(INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_163() {
+  private boolean jj_3R_165() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_365()) {
+    if (jj_3R_369()) {
     jj_scanpos = xsp;
-    if (jj_3R_366()) {
+    if (jj_3R_370()) {
     jj_scanpos = xsp;
-    if (jj_3R_367()) return true;
+    if (jj_3R_371()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_371() {
+  private boolean jj_3R_375() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_370()) return true;
+    if (jj_3R_374()) return true;
     return false;
   }
 
-  private boolean jj_3_69() {
+  private boolean jj_3_70() {
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_165() {
-    if (jj_3R_370()) return true;
+  private boolean jj_3R_167() {
+    if (jj_3R_374()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_371()) { jj_scanpos = xsp; break; }
+      if (jj_3R_375()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_68() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3_69() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_649() {
+  private boolean jj_3R_653() {
     if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3_67() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3_68() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_648() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_652() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3_66() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3_67() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3_65() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3_66() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_534() {
+  private boolean jj_3R_538() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_648()) {
+    if (jj_3R_652()) {
     jj_scanpos = xsp;
-    if (jj_3R_649()) return true;
+    if (jj_3R_653()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_541() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_545() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_540() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_544() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_539() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_543() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_370() {
+  private boolean jj_3R_374() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_539()) {
+    if (jj_3R_543()) {
     jj_scanpos = xsp;
-    if (jj_3R_540()) {
+    if (jj_3R_544()) {
     jj_scanpos = xsp;
-    if (jj_3R_541()) return true;
+    if (jj_3R_545()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_734() {
+  private boolean jj_3R_738() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_860() {
+  private boolean jj_3R_864() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_733() {
-    if (jj_3R_527()) return true;
+  private boolean jj_3R_737() {
+    if (jj_3R_531()) return true;
     return false;
   }
 
-  private boolean jj_3R_859() {
+  private boolean jj_3R_863() {
     if (jj_scan_token(BANG)) return true;
     return false;
   }
 
-  private boolean jj_3R_684() {
+  private boolean jj_3R_688() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_154()) return true;
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_732() {
+  private boolean jj_3R_736() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_859()) jj_scanpos = xsp;
-    if (jj_3R_141()) return true;
+    if (jj_3R_863()) jj_scanpos = xsp;
+    if (jj_3R_143()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_860()) jj_scanpos = xsp;
+    if (jj_3R_864()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_731() {
+  private boolean jj_3R_735() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_642() {
+  private boolean jj_3R_646() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_731()) {
+    if (jj_3R_735()) {
     jj_scanpos = xsp;
-    if (jj_3R_732()) return true;
+    if (jj_3R_736()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_733()) jj_scanpos = xsp;
+    if (jj_3R_737()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_734()) jj_scanpos = xsp;
+    if (jj_3R_738()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_683() {
+  private boolean jj_3R_687() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_154()) return true;
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_643() {
+  private boolean jj_3R_647() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_642()) return true;
+    if (jj_3R_646()) return true;
     return false;
   }
 
-  private boolean jj_3R_527() {
+  private boolean jj_3R_531() {
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACE)) return true;
-    if (jj_3R_642()) return true;
+    if (jj_3R_646()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_643()) { jj_scanpos = xsp; break; }
+      if (jj_3R_647()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_349() {
+  private boolean jj_3R_353() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_528()) return true;
+    if (jj_3R_532()) return true;
     return false;
   }
 
-  private boolean jj_3R_348() {
-    if (jj_3R_527()) return true;
+  private boolean jj_3R_352() {
+    if (jj_3R_531()) return true;
     return false;
   }
 
-  private boolean jj_3R_154() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_156() {
+    if (jj_3R_143()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_348()) jj_scanpos = xsp;
+    if (jj_3R_352()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_349()) jj_scanpos = xsp;
+    if (jj_3R_353()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_64() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3_65() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_590() {
+  private boolean jj_3R_594() {
     if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_154()) return true;
+    if (jj_3R_156()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_684()) { jj_scanpos = xsp; break; }
+      if (jj_3R_688()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_589() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_593() {
+    if (jj_3R_156()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_683()) { jj_scanpos = xsp; break; }
+      if (jj_3R_687()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_443() {
+  private boolean jj_3_157() {
+    if (jj_3R_65()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_447() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_589()) {
+    if (jj_3R_593()) {
     jj_scanpos = xsp;
-    if (jj_3R_590()) return true;
+    if (jj_3R_594()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_645() {
+  private boolean jj_3R_649() {
     if (jj_scan_token(SKIP2)) return true;
     return false;
   }
 
-  private boolean jj_3R_647() {
+  private boolean jj_3R_651() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3_156() {
-    if (jj_3R_65()) return true;
+  private boolean jj_3R_648() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_644() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_650() {
+    if (jj_scan_token(LIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_646() {
-    if (jj_scan_token(LIMIT)) return true;
+  private boolean jj_3R_504() {
+    if (jj_scan_token(271)) return true;
     return false;
   }
 
-  private boolean jj_3R_530() {
+  private boolean jj_3R_534() {
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_644()) {
+    if (jj_3R_648()) {
     jj_scanpos = xsp;
-    if (jj_3R_645()) {
+    if (jj_3R_649()) {
     jj_scanpos = xsp;
-    if (jj_3R_646()) {
+    if (jj_3R_650()) {
     jj_scanpos = xsp;
-    if (jj_3R_647()) return true;
+    if (jj_3R_651()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_444() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_292() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_503()) {
+    jj_scanpos = xsp;
+    if (jj_3R_504()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_500() {
+  private boolean jj_3R_503() {
     if (jj_scan_token(270)) return true;
     return false;
   }
 
-  private boolean jj_3R_529() {
+  private boolean jj_3R_448() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_153()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_533() {
     if (jj_scan_token(HOOK)) return true;
     return false;
   }
 
-  private boolean jj_3R_288() {
+  private boolean jj_3R_104() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(SYNC)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_499()) {
-    jj_scanpos = xsp;
-    if (jj_3R_500()) return true;
-    }
+    if (jj_3R_292()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_499() {
-    if (jj_scan_token(269)) return true;
+  private boolean jj_3R_356() {
+    if (jj_3R_534()) return true;
     return false;
   }
 
-  private boolean jj_3R_352() {
-    if (jj_3R_530()) return true;
+  private boolean jj_3R_355() {
+    if (jj_3R_533()) return true;
     return false;
   }
 
-  private boolean jj_3R_351() {
-    if (jj_3R_529()) return true;
+  private boolean jj_3R_502() {
+    if (jj_scan_token(269)) return true;
     return false;
   }
 
-  private boolean jj_3R_156() {
+  private boolean jj_3R_291() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_351()) {
+    if (jj_3R_501()) {
     jj_scanpos = xsp;
-    if (jj_3R_352()) return true;
+    if (jj_3R_502()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_103() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(SYNC)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_151()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_288()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_498() {
+  private boolean jj_3R_501() {
     if (jj_scan_token(268)) return true;
     return false;
   }
 
-  private boolean jj_3R_287() {
+  private boolean jj_3R_158() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_497()) {
+    if (jj_3R_355()) {
     jj_scanpos = xsp;
-    if (jj_3R_498()) return true;
+    if (jj_3R_356()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_497() {
-    if (jj_scan_token(267)) return true;
+  private boolean jj_3R_103() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(SYNC)) return true;
+    if (jj_scan_token(DATABASE)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_291()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_240() {
-    if (jj_3R_447()) return true;
+  private boolean jj_3R_242() {
+    if (jj_3R_451()) return true;
     return false;
   }
 
-  private boolean jj_3R_239() {
-    if (jj_3R_446()) return true;
+  private boolean jj_3R_241() {
+    if (jj_3R_450()) return true;
     return false;
   }
 
-  private boolean jj_3R_238() {
-    if (jj_3R_445()) return true;
+  private boolean jj_3R_240() {
+    if (jj_3R_449()) return true;
     return false;
   }
 
-  private boolean jj_3R_237() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_239() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_236() {
-    if (jj_scan_token(UPSERT)) return true;
+  private boolean jj_3R_101() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(REMOVE)) return true;
+    if (jj_scan_token(SERVER)) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_102() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(SYNC)) return true;
-    if (jj_scan_token(DATABASE)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_287()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_500() {
+    if (jj_scan_token(267)) return true;
     return false;
   }
 
-  private boolean jj_3R_235() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_238() {
+    if (jj_scan_token(UPSERT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_237() {
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_444()) jj_scanpos = xsp;
+    if (jj_3R_448()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_100() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(REMOVE)) return true;
-    if (jj_scan_token(SERVER)) return true;
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_499() {
+    if (jj_scan_token(266)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_498() {
+    if (jj_scan_token(265)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_497() {
+    if (jj_scan_token(264)) return true;
     return false;
   }
 
   private boolean jj_3R_496() {
-    if (jj_scan_token(266)) return true;
+    if (jj_scan_token(263)) return true;
     return false;
   }
 
@@ -23727,231 +23979,217 @@ Token token;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_235()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_236()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_141()) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_141()) return true;
-    xsp = jj_scanpos;
     if (jj_3R_237()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_238()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_143()) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_143()) return true;
     xsp = jj_scanpos;
     if (jj_3R_239()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_240()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_241()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_242()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_804() {
-    if (jj_3R_447()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_803() {
-    if (jj_3R_449()) return true;
+  private boolean jj_3R_290() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_495()) {
+    jj_scanpos = xsp;
+    if (jj_3R_496()) {
+    jj_scanpos = xsp;
+    if (jj_3R_497()) {
+    jj_scanpos = xsp;
+    if (jj_3R_498()) {
+    jj_scanpos = xsp;
+    if (jj_3R_499()) {
+    jj_scanpos = xsp;
+    if (jj_3R_500()) return true;
+    }
+    }
+    }
+    }
+    }
     return false;
   }
 
   private boolean jj_3R_495() {
-    if (jj_scan_token(265)) return true;
+    if (jj_scan_token(262)) return true;
     return false;
   }
 
-  private boolean jj_3R_494() {
-    if (jj_scan_token(264)) return true;
+  private boolean jj_3R_808() {
+    if (jj_3R_451()) return true;
     return false;
   }
 
-  private boolean jj_3R_493() {
-    if (jj_scan_token(263)) return true;
+  private boolean jj_3R_807() {
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_802() {
+  private boolean jj_3R_806() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_151()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_492() {
-    if (jj_scan_token(262)) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_801() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3R_805() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_286() {
+  private boolean jj_3R_102() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(STATUS)) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_491()) {
-    jj_scanpos = xsp;
-    if (jj_3R_492()) {
-    jj_scanpos = xsp;
-    if (jj_3R_493()) {
-    jj_scanpos = xsp;
-    if (jj_3R_494()) {
-    jj_scanpos = xsp;
-    if (jj_3R_495()) {
-    jj_scanpos = xsp;
-    if (jj_3R_496()) return true;
-    }
-    }
-    }
-    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_290()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_491() {
-    if (jj_scan_token(261)) return true;
+  private boolean jj_3R_812() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_290() {
+  private boolean jj_3R_294() {
     if (jj_scan_token(MOVE)) return true;
     if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_448()) return true;
+    if (jj_3R_452()) return true;
     if (jj_scan_token(TO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_801()) {
+    if (jj_3R_805()) {
     jj_scanpos = xsp;
-    if (jj_3R_802()) return true;
+    if (jj_3R_806()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_803()) jj_scanpos = xsp;
+    if (jj_3R_807()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_804()) jj_scanpos = xsp;
+    if (jj_3R_808()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_63() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3_64() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3_62() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3_63() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_101() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(STATUS)) return true;
+  private boolean jj_3R_93() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(SEQUENCE)) return true;
+    if (jj_3R_153()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_286()) { jj_scanpos = xsp; break; }
-    }
+    xsp = jj_scanpos;
+    if (jj_3R_812()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_808() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_811() {
+    if (jj_scan_token(CACHE)) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_442() {
+  private boolean jj_3R_446() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_151()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_233() {
-    if (jj_3R_148()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3_61() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_810() {
+    if (jj_scan_token(INCREMENT)) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_232() {
-    if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_235() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_231() {
+  private boolean jj_3_62() {
     if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_79() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_148()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_92() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_151()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_808()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_807() {
-    if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_809() {
+    if (jj_scan_token(START)) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_230() {
-    if (jj_3R_151()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_442()) jj_scanpos = xsp;
+  private boolean jj_3R_234() {
+    if (jj_scan_token(RETURN)) return true;
+    if (jj_3R_447()) return true;
     return false;
   }
 
-  private boolean jj_3R_806() {
-    if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_233() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_805() {
-    if (jj_scan_token(START)) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_79() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_90() {
+  private boolean jj_3R_91() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_805()) jj_scanpos = xsp;
+    if (jj_3R_809()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_806()) jj_scanpos = xsp;
+    if (jj_3R_810()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_807()) jj_scanpos = xsp;
+    if (jj_3R_811()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_800() {
+  private boolean jj_3R_232() {
+    if (jj_3R_153()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_446()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_804() {
     if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_799() {
+  private boolean jj_3R_803() {
     if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_802() {
+    if (jj_scan_token(START)) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
@@ -23960,822 +24198,841 @@ Token token;
     if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_230()) {
+    if (jj_3R_232()) {
     jj_scanpos = xsp;
-    if (jj_3R_231()) return true;
+    if (jj_3R_233()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_232()) jj_scanpos = xsp;
+    if (jj_3R_234()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_233()) jj_scanpos = xsp;
+    if (jj_3R_235()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_798() {
-    if (jj_scan_token(START)) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_801() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_234() {
+  private boolean jj_3R_236() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
   private boolean jj_3R_81() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_234()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_797() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_82() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_344() {
-    if (jj_scan_token(CONTENT)) return true;
-    if (jj_3R_219()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_526() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_151()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_236()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_78() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_797()) jj_scanpos = xsp;
+    if (jj_3R_801()) jj_scanpos = xsp;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_798()) jj_scanpos = xsp;
+    if (jj_3R_802()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_799()) jj_scanpos = xsp;
+    if (jj_3R_803()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_800()) jj_scanpos = xsp;
+    if (jj_3R_804()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_641() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_82() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
     return false;
   }
 
-  private boolean jj_3R_300() {
-    if (jj_scan_token(CONSOLE)) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_151()) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_348() {
+    if (jj_scan_token(CONTENT)) return true;
+    if (jj_3R_221()) return true;
     return false;
   }
 
-  private boolean jj_3_60() {
-    if (jj_scan_token(SET)) return true;
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_530() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_153()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_141()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_526()) { jj_scanpos = xsp; break; }
-    }
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3_155() {
+  private boolean jj_3R_304() {
+    if (jj_scan_token(CONSOLE)) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_153()) return true;
+    if (jj_3R_143()) return true;
+    return false;
+  }
+
+  private boolean jj_3_156() {
     if (jj_3R_65()) return true;
     return false;
   }
 
-  private boolean jj_3R_299() {
+  private boolean jj_3R_303() {
     if (jj_scan_token(SLEEP)) return true;
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_525() {
+  private boolean jj_3R_645() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_141()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_641()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_908() {
-    if (jj_3R_301()) return true;
+  private boolean jj_3R_912() {
+    if (jj_3R_305()) return true;
     return false;
   }
 
-  private boolean jj_3R_822() {
+  private boolean jj_3R_826() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_907()) {
+    if (jj_3R_911()) {
     jj_scanpos = xsp;
-    if (jj_3R_908()) {
+    if (jj_3R_912()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(186)) return true;
+    if (jj_scan_token(187)) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_907() {
+  private boolean jj_3R_911() {
     if (jj_3R_65()) return true;
     return false;
   }
 
-  private boolean jj_3R_524() {
+  private boolean jj_3_61() {
+    if (jj_scan_token(SET)) return true;
+    if (jj_3R_153()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_143()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_530()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_529() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_143()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_645()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_301() {
+  private boolean jj_3R_528() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_143()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_305() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_164()) return true;
+    if (jj_3R_166()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_822()) { jj_scanpos = xsp; break; }
+      if (jj_3R_826()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_152() {
+  private boolean jj_3R_508() {
+    if (jj_3R_143()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_302() {
+    if (jj_scan_token(RETURN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_508()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_154() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_504() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_301() {
+    if (jj_scan_token(ROLLBACK)) return true;
     return false;
   }
 
-  private boolean jj_3R_298() {
-    if (jj_scan_token(RETURN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_504()) jj_scanpos = xsp;
+  private boolean jj_3R_507() {
+    if (jj_scan_token(RETRY)) return true;
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3_59() {
+  private boolean jj_3_60() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_152()) { jj_scanpos = xsp; break; }
+      if (jj_3R_154()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(VALUES)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_524()) { jj_scanpos = xsp; break; }
+      if (jj_3R_528()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_525()) { jj_scanpos = xsp; break; }
+      if (jj_3R_529()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_297() {
-    if (jj_scan_token(ROLLBACK)) return true;
+  private boolean jj_3R_300() {
+    if (jj_scan_token(COMMIT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_507()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_57() {
-    if (jj_3R_139()) return true;
+  private boolean jj_3_58() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_503() {
-    if (jj_scan_token(RETRY)) return true;
-    if (jj_3R_64()) return true;
+  private boolean jj_3_155() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_739() {
+  private boolean jj_3R_506() {
+    if (jj_scan_token(ISOLATION)) return true;
+    if (jj_3R_153()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_743() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_148() {
+  private boolean jj_3_154() {
+    if (jj_3R_222()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_150() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_59()) {
-    jj_scanpos = xsp;
     if (jj_3_60()) {
     jj_scanpos = xsp;
-    if (jj_3R_344()) return true;
+    if (jj_3_61()) {
+    jj_scanpos = xsp;
+    if (jj_3R_348()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_150() {
-    if (jj_3R_345()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_149() {
-    if (jj_3R_139()) return true;
+  private boolean jj_3R_152() {
+    if (jj_3R_349()) return true;
     return false;
   }
 
-  private boolean jj_3R_296() {
-    if (jj_scan_token(COMMIT)) return true;
+  private boolean jj_3R_299() {
+    if (jj_scan_token(BEGIN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_503()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_56() {
-    if (jj_3R_139()) return true;
+    if (jj_3R_506()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_154() {
+  private boolean jj_3R_151() {
     if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_502() {
-    if (jj_scan_token(ISOLATION)) return true;
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_686() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_658() {
-    if (jj_scan_token(UNSAFE)) return true;
+  private boolean jj_3_57() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3_153() {
-    if (jj_3R_220()) return true;
+  private boolean jj_3R_685() {
+    if (jj_3R_224()) return true;
     return false;
   }
 
-  private boolean jj_3R_875() {
-    if (jj_3R_345()) return true;
+  private boolean jj_3R_662() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_295() {
-    if (jj_scan_token(BEGIN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_502()) jj_scanpos = xsp;
+  private boolean jj_3R_879() {
+    if (jj_3R_349()) return true;
     return false;
   }
 
-  private boolean jj_3_58() {
+  private boolean jj_3_59() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_149()) {
+    if (jj_3R_151()) {
     jj_scanpos = xsp;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_682() {
+  private boolean jj_3R_878() {
     if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_874() {
-    if (jj_3R_139()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_681() {
-    if (jj_3R_222()) return true;
+  private boolean jj_3R_592() {
+    if (jj_scan_token(LET)) return true;
+    if (jj_3R_153()) return true;
+    if (jj_scan_token(EQ)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_685()) {
+    jj_scanpos = xsp;
+    if (jj_3R_686()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_741() {
+  private boolean jj_3R_745() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_874()) {
+    if (jj_3R_878()) {
     jj_scanpos = xsp;
-    if (jj_3R_875()) return true;
+    if (jj_3R_879()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_55() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3_56() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3_54() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3_55() {
+    if (jj_3R_149()) return true;
     return false;
   }
 
-  private boolean jj_3R_740() {
+  private boolean jj_3R_744() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_657() {
+  private boolean jj_3R_661() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_740()) jj_scanpos = xsp;
+    if (jj_3R_744()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_741()) {
+    if (jj_3R_745()) {
     jj_scanpos = xsp;
-    if (jj_3_58()) return true;
+    if (jj_3_59()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_654() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3R_658() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_588() {
-    if (jj_scan_token(LET)) return true;
-    if (jj_3R_151()) return true;
-    if (jj_scan_token(EQ)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_681()) {
-    jj_scanpos = xsp;
-    if (jj_3R_682()) return true;
-    }
+  private boolean jj_3R_77() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_653() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_953() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_153()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_657() {
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_739()) jj_scanpos = xsp;
+    if (jj_3R_743()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_656() {
+  private boolean jj_3R_660() {
     if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_443()) return true;
+    if (jj_3R_447()) return true;
     return false;
   }
 
-  private boolean jj_3R_655() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_659() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_652() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3R_656() {
+    if (jj_3R_149()) return true;
     return false;
   }
 
-  private boolean jj_3R_833() {
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_942() {
+    if (jj_3R_153()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_953()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_77() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(USER)) return true;
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_837() {
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_949() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_906() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_942()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_938() {
-    if (jj_3R_151()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_949()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_905() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_289() {
+  private boolean jj_3R_293() {
     if (jj_scan_token(INSERT)) return true;
     if (jj_scan_token(INTO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_652()) {
+    if (jj_3R_656()) {
     jj_scanpos = xsp;
-    if (jj_3R_653()) {
+    if (jj_3R_657()) {
     jj_scanpos = xsp;
-    if (jj_3R_654()) return true;
+    if (jj_3R_658()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_655()) jj_scanpos = xsp;
+    if (jj_3R_659()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_656()) jj_scanpos = xsp;
+    if (jj_3R_660()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_657()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_658()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_902() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
+    if (jj_3R_661()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_938()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
+    if (jj_3R_662()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_901() {
-    if (jj_3R_151()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_796() {
+  private boolean jj_3R_800() {
     if (jj_scan_token(ROLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_901()) {
+    if (jj_3R_905()) {
     jj_scanpos = xsp;
-    if (jj_3R_902()) return true;
+    if (jj_3R_906()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_795() {
-    if (jj_3R_574()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_696() {
-    if (jj_3R_151()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_141()) return true;
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_141()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_794() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_799() {
+    if (jj_3R_578()) return true;
     return false;
   }
 
-  private boolean jj_3R_704() {
-    if (jj_3R_141()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_833()) jj_scanpos = xsp;
+  private boolean jj_3R_798() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_832() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_700() {
+    if (jj_3R_153()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_143()) return true;
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
   private boolean jj_3R_76() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(USER)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     if (jj_scan_token(IDENTIFIED)) return true;
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_794()) {
+    if (jj_3R_798()) {
     jj_scanpos = xsp;
-    if (jj_3R_795()) return true;
+    if (jj_3R_799()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_796()) jj_scanpos = xsp;
+    if (jj_3R_800()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_793() {
+  private boolean jj_3R_797() {
     if (jj_scan_token(LANGUAGE)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_900() {
+  private boolean jj_3R_904() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_702() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_708() {
+    if (jj_3R_143()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_832()) jj_scanpos = xsp;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_141()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_899() {
-    if (jj_scan_token(TRUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_831() {
-    if (jj_scan_token(SLASHASSIGN)) return true;
+    if (jj_3R_837()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_828() {
-    if (jj_scan_token(PLUSASSIGN)) return true;
+  private boolean jj_3R_836() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_830() {
-    if (jj_scan_token(STARASSIGN)) return true;
+  private boolean jj_3R_903() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_792() {
+  private boolean jj_3R_796() {
     if (jj_scan_token(IDEMPOTENT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_899()) {
+    if (jj_3R_903()) {
     jj_scanpos = xsp;
-    if (jj_3R_900()) return true;
+    if (jj_3R_904()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_827() {
-    if (jj_scan_token(EQ)) return true;
+  private boolean jj_3R_902() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_829() {
-    if (jj_scan_token(MINUSASSIGN)) return true;
+  private boolean jj_3R_706() {
+    if (jj_3R_153()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_836()) jj_scanpos = xsp;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_898() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_835() {
+    if (jj_scan_token(SLASHASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_462() {
-    if (jj_scan_token(COUNT)) return true;
+  private boolean jj_3R_832() {
+    if (jj_scan_token(PLUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_826() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_834() {
+    if (jj_scan_token(STARASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_791() {
+  private boolean jj_3R_795() {
     if (jj_scan_token(PARAMETERS)) return true;
     if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_898()) { jj_scanpos = xsp; break; }
+      if (jj_3R_902()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_705() {
+  private boolean jj_3R_831() {
+    if (jj_scan_token(EQ)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_833() {
+    if (jj_scan_token(MINUSASSIGN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_466() {
+    if (jj_scan_token(COUNT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_830() {
+    if (jj_3R_169()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_709() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_704()) return true;
+    if (jj_3R_708()) return true;
     return false;
   }
 
-  private boolean jj_3R_694() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_75() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(FUNCTION)) return true;
+    if (jj_3R_153()) return true;
+    if (jj_3R_578()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_826()) jj_scanpos = xsp;
+    if (jj_3R_795()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_827()) {
+    if (jj_3R_796()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_797()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_698() {
+    if (jj_3R_153()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_830()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_831()) {
     jj_scanpos = xsp;
-    if (jj_3R_828()) {
+    if (jj_3R_832()) {
     jj_scanpos = xsp;
-    if (jj_3R_829()) {
+    if (jj_3R_833()) {
     jj_scanpos = xsp;
-    if (jj_3R_830()) {
+    if (jj_3R_834()) {
     jj_scanpos = xsp;
-    if (jj_3R_831()) return true;
+    if (jj_3R_835()) return true;
     }
     }
     }
     }
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_703() {
+  private boolean jj_3R_707() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_702()) return true;
+    if (jj_3R_706()) return true;
     return false;
   }
 
-  private boolean jj_3R_606() {
+  private boolean jj_3R_825() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_823()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_610() {
     if (jj_scan_token(REMOVE)) return true;
-    if (jj_3R_704()) return true;
+    if (jj_3R_708()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_705()) { jj_scanpos = xsp; break; }
+      if (jj_3R_709()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_701() {
+  private boolean jj_3R_705() {
     if (jj_scan_token(ADD)) return true;
     return false;
   }
 
-  private boolean jj_3R_700() {
+  private boolean jj_3R_704() {
     if (jj_scan_token(INCREMENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_75() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(FUNCTION)) return true;
-    if (jj_3R_151()) return true;
-    if (jj_3R_574()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_791()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_792()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_793()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_699() {
+  private boolean jj_3R_703() {
     if (jj_scan_token(CONTENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_821() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_819()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_698() {
+  private boolean jj_3R_702() {
     if (jj_scan_token(MERGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_605() {
+  private boolean jj_3R_609() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_700()) {
+    if (jj_3R_704()) {
     jj_scanpos = xsp;
-    if (jj_3R_701()) return true;
+    if (jj_3R_705()) return true;
     }
-    if (jj_3R_702()) return true;
+    if (jj_3R_706()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_703()) { jj_scanpos = xsp; break; }
+      if (jj_3R_707()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_697() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_696()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_461() {
-    if (jj_scan_token(AFTER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_604() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_698()) {
-    jj_scanpos = xsp;
-    if (jj_3R_699()) return true;
-    }
-    if (jj_3R_219()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_294() {
+  private boolean jj_3R_298() {
     if (jj_scan_token(REVOKE)) return true;
-    if (jj_3R_501()) return true;
+    if (jj_3R_505()) return true;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_819()) return true;
+    if (jj_3R_823()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_821()) { jj_scanpos = xsp; break; }
+      if (jj_3R_825()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_695() {
+  private boolean jj_3R_701() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_694()) return true;
+    if (jj_3R_700()) return true;
     return false;
   }
 
-  private boolean jj_3R_603() {
+  private boolean jj_3R_824() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_823()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_465() {
+    if (jj_scan_token(AFTER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_608() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_702()) {
+    jj_scanpos = xsp;
+    if (jj_3R_703()) return true;
+    }
+    if (jj_3R_221()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_699() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_698()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_607() {
     if (jj_scan_token(PUT)) return true;
-    if (jj_3R_696()) return true;
+    if (jj_3R_700()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_697()) { jj_scanpos = xsp; break; }
+      if (jj_3R_701()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_820() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_819()) return true;
+  private boolean jj_3R_297() {
+    if (jj_scan_token(GRANT)) return true;
+    if (jj_3R_505()) return true;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_823()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_824()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_602() {
+  private boolean jj_3R_606() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_694()) return true;
+    if (jj_3R_698()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_695()) { jj_scanpos = xsp; break; }
+      if (jj_3R_699()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_449() {
+  private boolean jj_3R_910() {
+    if (jj_3R_153()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_909() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_453() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_602()) {
+    if (jj_3R_606()) {
     jj_scanpos = xsp;
-    if (jj_3R_603()) {
+    if (jj_3R_607()) {
     jj_scanpos = xsp;
-    if (jj_3R_604()) {
+    if (jj_3R_608()) {
     jj_scanpos = xsp;
-    if (jj_3R_605()) {
+    if (jj_3R_609()) {
     jj_scanpos = xsp;
-    if (jj_3R_606()) return true;
+    if (jj_3R_610()) return true;
     }
     }
     }
@@ -24783,192 +25040,194 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_293() {
-    if (jj_scan_token(GRANT)) return true;
-    if (jj_3R_501()) return true;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_819()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_820()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_908() {
+    if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_467() {
+  private boolean jj_3R_471() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_255() {
-    if (jj_3R_459()) return true;
+  private boolean jj_3R_823() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_908()) {
+    jj_scanpos = xsp;
+    if (jj_3R_909()) {
+    jj_scanpos = xsp;
+    if (jj_3R_910()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_451() {
+  private boolean jj_3R_257() {
+    if (jj_3R_463()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_455() {
     if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_466() {
+  private boolean jj_3R_470() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_254() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_256() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_906() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_469() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_465() {
+  private boolean jj_3R_626() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_905() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_468() {
+    if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_464() {
-    if (jj_scan_token(RECORD)) return true;
+  private boolean jj_3R_625() {
+    if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_904() {
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_624() {
+    if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_463() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_623() {
+    if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_819() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_904()) {
-    jj_scanpos = xsp;
-    if (jj_3R_905()) {
-    jj_scanpos = xsp;
-    if (jj_3R_906()) return true;
-    }
-    }
+  private boolean jj_3R_467() {
+    if (jj_3R_447()) return true;
     return false;
   }
 
-  private boolean jj_3R_253() {
+  private boolean jj_3R_622() {
+    if (jj_scan_token(UPDATE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_255() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_464()) {
+    if (jj_3R_468()) {
     jj_scanpos = xsp;
-    if (jj_3R_465()) {
+    if (jj_3R_469()) {
     jj_scanpos = xsp;
-    if (jj_3R_466()) {
+    if (jj_3R_470()) {
     jj_scanpos = xsp;
-    if (jj_3R_467()) return true;
+    if (jj_3R_471()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_252() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_453()) return true;
+  private boolean jj_3R_621() {
+    if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_460() {
-    if (jj_scan_token(BEFORE)) return true;
+  private boolean jj_3R_254() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_457()) return true;
     return false;
   }
 
-  private boolean jj_3R_622() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_464() {
+    if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_621() {
-    if (jj_scan_token(ALL)) return true;
+  private boolean jj_3R_620() {
+    if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_251() {
+  private boolean jj_3R_253() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_460()) {
+    if (jj_3R_464()) {
     jj_scanpos = xsp;
-    if (jj_3R_461()) {
+    if (jj_3R_465()) {
     jj_scanpos = xsp;
-    if (jj_3R_462()) return true;
+    if (jj_3R_466()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_463()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_620() {
-    if (jj_scan_token(EXECUTE)) return true;
+    if (jj_3R_467()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_619() {
-    if (jj_scan_token(DELETE)) return true;
+  private boolean jj_3R_505() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_620()) {
+    jj_scanpos = xsp;
+    if (jj_3R_621()) {
+    jj_scanpos = xsp;
+    if (jj_3R_622()) {
+    jj_scanpos = xsp;
+    if (jj_3R_623()) {
+    jj_scanpos = xsp;
+    if (jj_3R_624()) {
+    jj_scanpos = xsp;
+    if (jj_3R_625()) {
+    jj_scanpos = xsp;
+    if (jj_3R_626()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_250() {
+  private boolean jj_3R_252() {
     if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_249() {
-    if (jj_3R_449()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_618() {
-    if (jj_scan_token(UPDATE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_617() {
-    if (jj_scan_token(READ)) return true;
+  private boolean jj_3R_251() {
+    if (jj_3R_453()) return true;
     return false;
   }
 
-  private boolean jj_3R_616() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_140() {
+    if (jj_scan_token(PROFILE)) return true;
+    if (jj_3R_224()) return true;
     return false;
   }
 
   private boolean jj_3R_85() {
     if (jj_scan_token(UPDATE)) return true;
-    if (jj_3R_241()) return true;
+    if (jj_3R_243()) return true;
     Token xsp;
-    if (jj_3R_249()) return true;
+    if (jj_3R_251()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_249()) { jj_scanpos = xsp; break; }
+      if (jj_3R_251()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_250()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_251()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_252()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_253()) jj_scanpos = xsp;
@@ -24976,172 +25235,141 @@ Token token;
     if (jj_3R_254()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_255()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_501() {
-    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_616()) {
-    jj_scanpos = xsp;
-    if (jj_3R_617()) {
-    jj_scanpos = xsp;
-    if (jj_3R_618()) {
-    jj_scanpos = xsp;
-    if (jj_3R_619()) {
-    jj_scanpos = xsp;
-    if (jj_3R_620()) {
-    jj_scanpos = xsp;
-    if (jj_3R_621()) {
-    jj_scanpos = xsp;
-    if (jj_3R_622()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
+    if (jj_3R_256()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_257()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_248() {
-    if (jj_3R_459()) return true;
+  private boolean jj_3R_250() {
+    if (jj_3R_463()) return true;
     return false;
   }
 
-  private boolean jj_3R_247() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_249() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_452() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_456() {
+    if (jj_3R_447()) return true;
     return false;
   }
 
-  private boolean jj_3R_457() {
+  private boolean jj_3R_461() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_456() {
+  private boolean jj_3R_460() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_455() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_591() {
+    if (jj_scan_token(EXPLAIN)) return true;
+    if (jj_3R_224()) return true;
     return false;
   }
 
-  private boolean jj_3R_138() {
-    if (jj_scan_token(PROFILE)) return true;
-    if (jj_3R_222()) return true;
+  private boolean jj_3R_459() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_454() {
+  private boolean jj_3R_793() {
+    if (jj_3R_161()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_794() {
+    if (jj_scan_token(INVERSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_458() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_450() {
+  private boolean jj_3R_792() {
+    if (jj_3R_153()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_454() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_246() {
+  private boolean jj_3R_248() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_454()) {
+    if (jj_3R_458()) {
     jj_scanpos = xsp;
-    if (jj_3R_455()) {
+    if (jj_3R_459()) {
     jj_scanpos = xsp;
-    if (jj_3R_456()) {
+    if (jj_3R_460()) {
     jj_scanpos = xsp;
-    if (jj_3R_457()) return true;
+    if (jj_3R_461()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_245() {
+  private boolean jj_3R_247() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_453()) return true;
+    if (jj_3R_457()) return true;
     return false;
   }
 
-  private boolean jj_3R_244() {
+  private boolean jj_3R_246() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_450()) {
+    if (jj_3R_454()) {
     jj_scanpos = xsp;
-    if (jj_3R_451()) return true;
+    if (jj_3R_455()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_452()) jj_scanpos = xsp;
+    if (jj_3R_456()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_587() {
-    if (jj_scan_token(EXPLAIN)) return true;
-    if (jj_3R_222()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_789() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_791() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
   private boolean jj_3R_790() {
-    if (jj_scan_token(INVERSE)) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_243() {
+  private boolean jj_3R_245() {
     if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_788() {
-    if (jj_3R_151()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_242() {
-    if (jj_3R_449()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_787() {
-    if (jj_3R_159()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_786() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_244() {
+    if (jj_3R_453()) return true;
     return false;
   }
 
   private boolean jj_3R_84() {
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_241()) return true;
+    if (jj_3R_243()) return true;
     Token xsp;
-    if (jj_3R_242()) return true;
+    if (jj_3R_244()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_242()) { jj_scanpos = xsp; break; }
+      if (jj_3R_244()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_243()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_244()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_245()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_246()) jj_scanpos = xsp;
@@ -25149,442 +25377,508 @@ Token token;
     if (jj_3R_247()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_248()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_341() {
-    if (jj_3R_447()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_340() {
-    if (jj_3R_458()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_339() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_453()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_338() {
-    if (jj_3R_151()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_249()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_250()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_74() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(LINK)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     if (jj_scan_token(DOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_786()) {
+    if (jj_3R_790()) {
     jj_scanpos = xsp;
-    if (jj_3R_787()) return true;
+    if (jj_3R_791()) return true;
     }
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     if (jj_scan_token(DOT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_788()) {
+    if (jj_3R_792()) {
     jj_scanpos = xsp;
-    if (jj_3R_789()) return true;
+    if (jj_3R_793()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_790()) jj_scanpos = xsp;
+    if (jj_3R_794()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_818() {
-    if (jj_3R_903()) return true;
+  private boolean jj_3R_345() {
+    if (jj_3R_451()) return true;
     return false;
   }
 
-  private boolean jj_3R_146() {
-    if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(EDGE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_338()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_339()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_340()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_341()) jj_scanpos = xsp;
+  private boolean jj_3R_822() {
+    if (jj_3R_907()) return true;
     return false;
   }
 
-  private boolean jj_3R_334() {
-    if (jj_3R_447()) return true;
+  private boolean jj_3R_344() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_333() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_343() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_457()) return true;
     return false;
   }
 
-  private boolean jj_3R_332() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_453()) return true;
+  private boolean jj_3R_342() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_292() {
+  private boolean jj_3R_296() {
     if (jj_scan_token(OPTIMIZE)) return true;
     if (jj_scan_token(DATABASE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_818()) { jj_scanpos = xsp; break; }
+      if (jj_3R_822()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_903() {
-    if (jj_scan_token(MINUS)) return true;
-    if (jj_3R_151()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_144() {
+  private boolean jj_3R_148() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_141()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_332()) jj_scanpos = xsp;
+    if (jj_3R_342()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_333()) jj_scanpos = xsp;
+    if (jj_3R_343()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_334()) jj_scanpos = xsp;
+    if (jj_3R_344()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_345()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_817() {
-    if (jj_3R_151()) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_338() {
+    if (jj_3R_451()) return true;
     return false;
   }
 
   private boolean jj_3R_337() {
-    if (jj_3R_447()) return true;
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_336() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_907() {
+    if (jj_scan_token(MINUS)) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_335() {
+  private boolean jj_3R_336() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_453()) return true;
+    if (jj_3R_457()) return true;
     return false;
   }
 
-  private boolean jj_3_152() {
+  private boolean jj_3R_821() {
+    if (jj_3R_153()) return true;
+    if (jj_3R_143()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_146() {
+    if (jj_scan_token(DELETE)) return true;
+    if (jj_scan_token(EDGE)) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_143()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_336()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_337()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_338()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3_153() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_99() {
+  private boolean jj_3R_100() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(DATABASE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_152()) {
+    if (jj_3_153()) {
     jj_scanpos = xsp;
-    if (jj_3R_817()) return true;
+    if (jj_3R_821()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_815() {
+  private boolean jj_3R_819() {
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_814() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_341() {
+    if (jj_3R_451()) return true;
     return false;
   }
 
-  private boolean jj_3R_816() {
+  private boolean jj_3R_818() {
+    if (jj_3R_153()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_340() {
+    if (jj_3R_462()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_339() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_457()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_820() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_145() {
+  private boolean jj_3R_99() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_818()) {
+    jj_scanpos = xsp;
+    if (jj_3R_819()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_820()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_289() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_147() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_335()) jj_scanpos = xsp;
+    if (jj_3R_339()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_336()) jj_scanpos = xsp;
+    if (jj_3R_340()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_337()) jj_scanpos = xsp;
+    if (jj_3R_341()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_98() {
-    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_814()) {
-    jj_scanpos = xsp;
-    if (jj_3R_815()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_816()) jj_scanpos = xsp;
+    if (jj_3R_289()) jj_scanpos = xsp;
+    if (jj_3R_153()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_331() {
-    if (jj_3R_447()) return true;
+  private boolean jj_3R_335() {
+    if (jj_3R_451()) return true;
     return false;
   }
 
-  private boolean jj_3R_330() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_334() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_329() {
+  private boolean jj_3R_333() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_453()) return true;
+    if (jj_3R_457()) return true;
     return false;
   }
 
-  private boolean jj_3R_328() {
+  private boolean jj_3R_332() {
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_285() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_789() {
+    if (jj_scan_token(ID)) return true;
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_97() {
-    if (jj_scan_token(ALTER)) return true;
+  private boolean jj_3R_788() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_231() {
+    if (jj_scan_token(BLOB)) return true;
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_151()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_285()) jj_scanpos = xsp;
-    if (jj_3R_151()) return true;
-    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_327() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_331() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_785() {
-    if (jj_scan_token(ID)) return true;
-    if (jj_3R_64()) return true;
+  private boolean jj_3R_73() {
+    if (jj_scan_token(CREATE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(247)) {
+    jj_scanpos = xsp;
+    if (jj_3R_231()) return true;
+    }
+    if (jj_3R_153()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_788()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_789()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_784() {
+  private boolean jj_3R_816() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_817() {
     if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_229() {
-    if (jj_scan_token(BLOB)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_815() {
+    if (jj_3R_524()) return true;
     return false;
   }
 
-  private boolean jj_3R_638() {
+  private boolean jj_3R_642() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_155()) return true;
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_143() {
+  private boolean jj_3R_145() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_327()) jj_scanpos = xsp;
+    if (jj_3R_331()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_328()) jj_scanpos = xsp;
+    if (jj_3R_332()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_329()) jj_scanpos = xsp;
+    if (jj_3R_333()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_330()) jj_scanpos = xsp;
+    if (jj_3R_334()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_331()) jj_scanpos = xsp;
+    if (jj_3R_335()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_326() {
-    if (jj_3R_447()) return true;
+  private boolean jj_3R_330() {
+    if (jj_3R_451()) return true;
     return false;
   }
 
-  private boolean jj_3R_73() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_523() {
+    if (jj_3R_157()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_642()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_97() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(246)) {
+    if (jj_3R_815()) {
     jj_scanpos = xsp;
-    if (jj_3R_229()) return true;
+    if (jj_3R_816()) return true;
     }
-    if (jj_3R_151()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_784()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_785()) jj_scanpos = xsp;
+    if (jj_3R_817()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_812() {
+  private boolean jj_3R_814() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
   private boolean jj_3R_813() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+    if (jj_3R_524()) return true;
     return false;
   }
 
-  private boolean jj_3R_519() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_329() {
+    if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_638()) { jj_scanpos = xsp; break; }
-    }
+    xsp = jj_scanpos;
+    if (jj_3R_523()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_811() {
-    if (jj_3R_520()) return true;
+  private boolean jj_3R_951() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_325() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_519()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_952() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_221()) return true;
     return false;
   }
 
-  private boolean jj_3R_324() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_328() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_96() {
-    if (jj_scan_token(DROP)) return true;
+  private boolean jj_3R_295() {
+    if (jj_scan_token(REBUILD)) return true;
     if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_811()) {
+    if (jj_3R_813()) {
     jj_scanpos = xsp;
-    if (jj_3R_812()) return true;
+    if (jj_3R_814()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_813()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_810() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_941() {
+    if (jj_3R_153()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_951()) { jj_scanpos = xsp; break; }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_952()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_809() {
-    if (jj_3R_520()) return true;
+  private boolean jj_3_54() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
   private boolean jj_3_53() {
-    if (jj_3R_146()) return true;
+    if (jj_3R_147()) return true;
     return false;
   }
 
-  private boolean jj_3R_947() {
+  private boolean jj_3_151() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_221()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_901() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_151()) {
+    jj_scanpos = xsp;
+    if (jj_3R_941()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_949() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_948() {
+  private boolean jj_3R_950() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_219()) return true;
+    if (jj_3R_221()) return true;
+    return false;
+  }
+
+  private boolean jj_3_52() {
+    if (jj_3R_146()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_144() {
+    if (jj_scan_token(DELETE)) return true;
+    if (jj_scan_token(EDGE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_328()) {
+    jj_scanpos = xsp;
+    if (jj_3R_329()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_330()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3_51() {
+    if (jj_3R_145()) return true;
     return false;
   }
 
-  private boolean jj_3_52() {
-    if (jj_3R_145()) return true;
+  private boolean jj_3R_230() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3_51() {
+  private boolean jj_3_50() {
     if (jj_3R_144()) return true;
     return false;
   }
 
-  private boolean jj_3R_142() {
-    if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(EDGE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_324()) {
-    jj_scanpos = xsp;
-    if (jj_3R_325()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_326()) jj_scanpos = xsp;
+  private boolean jj_3R_229() {
+    if (jj_3R_147()) return true;
     return false;
   }
 
-  private boolean jj_3R_291() {
-    if (jj_scan_token(REBUILD)) return true;
-    if (jj_scan_token(INDEX)) return true;
+  private boolean jj_3R_787() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_809()) {
-    jj_scanpos = xsp;
-    if (jj_3R_810()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3_50() {
-    if (jj_3R_143()) return true;
+    if (jj_3R_901()) jj_scanpos = xsp;
     return false;
   }
 
@@ -25593,20 +25887,15 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_937() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_940() {
+    if (jj_3R_153()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_947()) { jj_scanpos = xsp; break; }
+      if (jj_3R_949()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_948()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_49() {
-    if (jj_3R_142()) return true;
+    if (jj_3R_950()) jj_scanpos = xsp;
     return false;
   }
 
@@ -25615,152 +25904,134 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_226() {
-    if (jj_3R_144()) return true;
-    return false;
-  }
-
   private boolean jj_3_150() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_219()) return true;
+    if (jj_3R_221()) return true;
     return false;
   }
 
-  private boolean jj_3R_897() {
+  private boolean jj_3R_900() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_150()) {
     jj_scanpos = xsp;
-    if (jj_3R_937()) return true;
+    if (jj_3R_940()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_945() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_151()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_946() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_219()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_225() {
-    if (jj_3R_143()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_224() {
-    if (jj_3R_142()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_783() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_897()) jj_scanpos = xsp;
+  private boolean jj_3R_226() {
+    if (jj_3R_144()) return true;
     return false;
   }
 
   private boolean jj_3R_69() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_224()) {
-    jj_scanpos = xsp;
-    if (jj_3R_225()) {
-    jj_scanpos = xsp;
     if (jj_3R_226()) {
     jj_scanpos = xsp;
     if (jj_3R_227()) {
     jj_scanpos = xsp;
-    if (jj_3R_228()) return true;
-    }
+    if (jj_3R_228()) {
+    jj_scanpos = xsp;
+    if (jj_3R_229()) {
+    jj_scanpos = xsp;
+    if (jj_3R_230()) return true;
     }
     }
     }
-    return false;
-  }
-
-  private boolean jj_3R_936() {
-    if (jj_3R_151()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_945()) { jj_scanpos = xsp; break; }
     }
-    xsp = jj_scanpos;
-    if (jj_3R_946()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_771() {
+  private boolean jj_3R_775() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_453()) return true;
+    if (jj_3R_457()) return true;
     return false;
   }
 
-  private boolean jj_3R_770() {
+  private boolean jj_3R_774() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_773() {
-    if (jj_3R_447()) return true;
+  private boolean jj_3R_777() {
+    if (jj_3R_451()) return true;
     return false;
   }
 
-  private boolean jj_3R_769() {
+  private boolean jj_3R_773() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_772() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_776() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3_149() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_219()) return true;
+  private boolean jj_3_152() {
+    if (jj_scan_token(ENGINE)) return true;
+    if (jj_3R_153()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_900()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_896() {
+  private boolean jj_3R_899() {
+    if (jj_3R_153()) return true;
+    return false;
+  }
+
+  private boolean jj_3_148() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    if (jj_3R_153()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_939() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_153()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_948() {
+    if (jj_scan_token(VALUE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_786() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_149()) {
+    if (jj_3_148()) {
     jj_scanpos = xsp;
-    if (jj_3R_936()) return true;
+    if (jj_3R_899()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_768() {
-    if (jj_scan_token(UNSAFE)) return true;
+  private boolean jj_3R_947() {
+    if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_767() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_772() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_766() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_453()) return true;
+  private boolean jj_3R_771() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3_151() {
-    if (jj_scan_token(ENGINE)) return true;
-    if (jj_3R_151()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_896()) jj_scanpos = xsp;
+  private boolean jj_3R_770() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_457()) return true;
     return false;
   }
 
@@ -25769,607 +26040,601 @@ Token token;
     if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_769()) jj_scanpos = xsp;
-    if (jj_3R_241()) return true;
+    if (jj_3R_773()) jj_scanpos = xsp;
+    if (jj_3R_243()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_770()) jj_scanpos = xsp;
+    if (jj_3R_774()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_771()) jj_scanpos = xsp;
+    if (jj_3R_775()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_772()) jj_scanpos = xsp;
+    if (jj_3R_776()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_773()) jj_scanpos = xsp;
+    if (jj_3R_777()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_765() {
+  private boolean jj_3R_769() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_895() {
-    if (jj_3R_151()) return true;
-    return false;
-  }
-
-  private boolean jj_3_147() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
-    if (jj_3R_151()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_935() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_151()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_944() {
-    if (jj_scan_token(VALUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_782() {
+  private boolean jj_3R_938() {
+    if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_147()) {
+    if (jj_3R_947()) {
     jj_scanpos = xsp;
-    if (jj_3R_895()) return true;
+    if (jj_3R_948()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_943() {
-    if (jj_scan_token(KEY)) return true;
+  private boolean jj_3R_937() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_873() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_877() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_872() {
-    if (jj_3R_630()) return true;
+  private boolean jj_3R_876() {
+    if (jj_3R_634()) return true;
     return false;
   }
 
-  private boolean jj_3R_871() {
-    if (jj_3R_508()) return true;
+  private boolean jj_3R_875() {
+    if (jj_3R_512()) return true;
     return false;
   }
 
   private boolean jj_3R_67() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_241()) return true;
+    if (jj_3R_243()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_765()) jj_scanpos = xsp;
+    if (jj_3R_769()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_766()) jj_scanpos = xsp;
+    if (jj_3R_770()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_767()) jj_scanpos = xsp;
+    if (jj_3R_771()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_768()) jj_scanpos = xsp;
+    if (jj_3R_772()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_870() {
-    if (jj_3R_507()) return true;
+  private boolean jj_3R_874() {
+    if (jj_3R_511()) return true;
     return false;
   }
 
-  private boolean jj_3R_934() {
-    if (jj_scan_token(BY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_943()) {
-    jj_scanpos = xsp;
-    if (jj_3R_944()) return true;
-    }
+  private boolean jj_3R_873() {
+    if (jj_3R_510()) return true;
     return false;
   }
 
-  private boolean jj_3R_869() {
-    if (jj_3R_506()) return true;
+  private boolean jj_3R_936() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_926() {
+  private boolean jj_3R_930() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_925() {
-    if (jj_3R_527()) return true;
+  private boolean jj_3R_929() {
+    if (jj_3R_531()) return true;
     return false;
   }
 
-  private boolean jj_3R_933() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_898() {
+    if (jj_scan_token(COMMA)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_936()) {
+    jj_scanpos = xsp;
+    if (jj_3R_937()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_938()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_939()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_868() {
+  private boolean jj_3R_872() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_925()) jj_scanpos = xsp;
+    if (jj_3R_929()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_926()) jj_scanpos = xsp;
+    if (jj_3R_930()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_897() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_153()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_935() {
+    if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_932() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_934() {
+    if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3_48() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3_49() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_924() {
-    if (jj_3R_527()) return true;
+  private boolean jj_3R_928() {
+    if (jj_3R_531()) return true;
     return false;
   }
 
-  private boolean jj_3R_894() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3R_896() {
+    if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_932()) {
+    if (jj_3R_934()) {
     jj_scanpos = xsp;
-    if (jj_3R_933()) return true;
+    if (jj_3R_935()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_934()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_935()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_867() {
+  private boolean jj_3R_871() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_151()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_923() {
-    if (jj_3R_527()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_893() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_931() {
-    if (jj_scan_token(VALUE)) return true;
+  private boolean jj_3R_927() {
+    if (jj_3R_531()) return true;
     return false;
   }
 
-  private boolean jj_3R_930() {
-    if (jj_scan_token(KEY)) return true;
+  private boolean jj_3R_870() {
+    if (jj_3R_143()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_928()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_866() {
-    if (jj_3R_141()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_924()) jj_scanpos = xsp;
+  private boolean jj_3R_220() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_892() {
-    if (jj_scan_token(BY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_930()) {
-    jj_scanpos = xsp;
-    if (jj_3R_931()) return true;
-    }
+  private boolean jj_3R_219() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3_47() {
+  private boolean jj_3_48() {
     if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_923()) jj_scanpos = xsp;
+    if (jj_3R_927()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_865() {
+  private boolean jj_3R_869() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_662()) return true;
+    if (jj_3R_666()) return true;
     return false;
   }
 
   private boolean jj_3R_218() {
-    if (jj_3R_159()) return true;
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_217() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3_149() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_218()) jj_scanpos = xsp;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_153()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_219()) {
+    jj_scanpos = xsp;
+    if (jj_3R_220()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_896()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_897()) jj_scanpos = xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_898()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_560() {
+  private boolean jj_3R_564() {
     if (jj_scan_token(MATCH)) return true;
-    if (jj_3R_662()) return true;
+    if (jj_3R_666()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_865()) { jj_scanpos = xsp; break; }
+      if (jj_3R_869()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RETURN)) return true;
     xsp = jj_scanpos;
-    if (jj_3_47()) {
+    if (jj_3_48()) {
     jj_scanpos = xsp;
-    if (jj_3R_866()) return true;
+    if (jj_3R_870()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_867()) jj_scanpos = xsp;
+    if (jj_3R_871()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_868()) { jj_scanpos = xsp; break; }
+      if (jj_3R_872()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_869()) jj_scanpos = xsp;
+    if (jj_3R_873()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_870()) jj_scanpos = xsp;
+    if (jj_3R_874()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_871()) jj_scanpos = xsp;
+    if (jj_3R_875()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_872()) jj_scanpos = xsp;
+    if (jj_3R_876()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_873()) jj_scanpos = xsp;
+    if (jj_3R_877()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_921() {
+  private boolean jj_3R_925() {
     if (jj_scan_token(BREADTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_216() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_920() {
-    if (jj_scan_token(DEPTH_FIRST)) return true;
-    return false;
-  }
-
-  private boolean jj_3_148() {
+  private boolean jj_3R_72() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(INDEX)) return true;
+    if (jj_3R_524()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_216()) jj_scanpos = xsp;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_151()) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_217()) {
+    if (jj_3_149()) {
     jj_scanpos = xsp;
-    if (jj_3R_218()) return true;
+    if (jj_3R_786()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_892()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_893()) jj_scanpos = xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_894()) { jj_scanpos = xsp; break; }
+    if (jj_3_152()) {
+    jj_scanpos = xsp;
+    if (jj_3R_787()) return true;
     }
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_864() {
+  private boolean jj_3R_924() {
+    if (jj_scan_token(DEPTH_FIRST)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_868() {
     if (jj_scan_token(STRATEGY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_920()) {
+    if (jj_3R_924()) {
     jj_scanpos = xsp;
-    if (jj_3R_921()) return true;
+    if (jj_3R_925()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_863() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_288() {
+    if (jj_scan_token(FORCE)) return true;
     return false;
   }
 
-  private boolean jj_3R_862() {
+  private boolean jj_3R_867() {
+    if (jj_3R_462()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_287() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_866() {
     if (jj_scan_token(WHILE)) return true;
-    if (jj_3R_453()) return true;
+    if (jj_3R_457()) return true;
     return false;
   }
 
-  private boolean jj_3R_861() {
+  private boolean jj_3R_865() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_919() {
+  private boolean jj_3R_923() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_742()) return true;
+    if (jj_3R_746()) return true;
     return false;
   }
 
-  private boolean jj_3R_72() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(INDEX)) return true;
-    if (jj_3R_520()) return true;
+  private boolean jj_3R_665() {
+    if (jj_3R_746()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_148()) {
-    jj_scanpos = xsp;
-    if (jj_3R_782()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3_151()) {
-    jj_scanpos = xsp;
-    if (jj_3R_783()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_923()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_661() {
-    if (jj_3R_742()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_919()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_636() {
+    if (jj_3R_634()) return true;
     return false;
   }
 
-  private boolean jj_3R_632() {
-    if (jj_3R_630()) return true;
+  private boolean jj_3R_286() {
+    if (jj_3R_153()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_631() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_96() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(PROPERTY)) return true;
+    if (jj_3R_153()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_153()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_287()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_288()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_284() {
-    if (jj_scan_token(FORCE)) return true;
+  private boolean jj_3R_635() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_283() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3_147() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_153()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_559() {
+  private boolean jj_3R_563() {
     if (jj_scan_token(TRAVERSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_661()) jj_scanpos = xsp;
+    if (jj_3R_665()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_241()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_861()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_862()) jj_scanpos = xsp;
+    if (jj_3R_243()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_863()) jj_scanpos = xsp;
+    if (jj_3R_865()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_864()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_282() {
-    if (jj_3R_151()) return true;
-    if (jj_3R_141()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_95() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_151()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_151()) return true;
-    Token xsp;
+    if (jj_3R_866()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_283()) jj_scanpos = xsp;
+    if (jj_3R_867()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_284()) jj_scanpos = xsp;
+    if (jj_3R_868()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_515() {
+  private boolean jj_3R_519() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_313() {
+  private boolean jj_3R_317() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_514() {
+  private boolean jj_3R_518() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_312() {
+  private boolean jj_3R_316() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_513() {
+  private boolean jj_3R_517() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_512() {
+  private boolean jj_3R_516() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3_146() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_151()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_514() {
+    if (jj_3R_462()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_636()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_510() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_932() {
+    if (jj_3R_634()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_95() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(PROPERTY)) return true;
+    if (jj_3R_153()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_632()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_928() {
-    if (jj_3R_630()) return true;
+    if (jj_3_147()) {
+    jj_scanpos = xsp;
+    if (jj_3R_286()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_311() {
+  private boolean jj_3R_315() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_512()) {
+    if (jj_3R_516()) {
     jj_scanpos = xsp;
-    if (jj_3R_513()) {
+    if (jj_3R_517()) {
     jj_scanpos = xsp;
-    if (jj_3R_514()) {
+    if (jj_3R_518()) {
     jj_scanpos = xsp;
-    if (jj_3R_515()) return true;
+    if (jj_3R_519()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_310() {
-    if (jj_3R_459()) return true;
+  private boolean jj_3R_314() {
+    if (jj_3R_463()) return true;
     return false;
   }
 
-  private boolean jj_3R_308() {
+  private boolean jj_3R_312() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_509()) {
+    if (jj_3R_513()) {
     jj_scanpos = xsp;
-    if (jj_3R_510()) return true;
+    if (jj_3R_514()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_509() {
-    if (jj_3R_630()) return true;
+  private boolean jj_3R_513() {
+    if (jj_3R_634()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_631()) jj_scanpos = xsp;
+    if (jj_3R_635()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_309() {
-    if (jj_3R_511()) return true;
+  private boolean jj_3R_313() {
+    if (jj_3R_515()) return true;
     return false;
   }
 
-  private boolean jj_3R_927() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_931() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_307() {
-    if (jj_3R_508()) return true;
+  private boolean jj_3R_933() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_306() {
-    if (jj_3R_507()) return true;
+  private boolean jj_3R_311() {
+    if (jj_3R_512()) return true;
     return false;
   }
 
-  private boolean jj_3R_94() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_151()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_151()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_146()) {
-    jj_scanpos = xsp;
-    if (jj_3R_282()) return true;
-    }
+  private boolean jj_3R_310() {
+    if (jj_3R_511()) return true;
     return false;
   }
 
-  private boolean jj_3R_305() {
-    if (jj_3R_506()) return true;
+  private boolean jj_3R_309() {
+    if (jj_3R_510()) return true;
     return false;
   }
 
-  private boolean jj_3R_304() {
+  private boolean jj_3R_308() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_453()) return true;
+    if (jj_3R_457()) return true;
     return false;
   }
 
-  private boolean jj_3R_303() {
-    if (jj_3R_505()) return true;
+  private boolean jj_3R_785() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_302() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_895() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_894()) return true;
     return false;
   }
 
-  private boolean jj_3R_929() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_307() {
+    if (jj_3R_509()) return true;
     return false;
   }
 
-  private boolean jj_3R_139() {
-    if (jj_scan_token(SELECT)) return true;
+  private boolean jj_3R_783() {
+    if (jj_3R_153()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_784() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_894()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_895()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_306() {
+    if (jj_3R_447()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_894() {
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_302()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_241()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_303()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_304()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_305()) jj_scanpos = xsp;
+    if (jj_3R_933()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3_146() {
+    if (jj_3R_217()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_141() {
+    if (jj_scan_token(SELECT)) return true;
+    Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_306()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_243()) return true;
     xsp = jj_scanpos;
     if (jj_3R_307()) jj_scanpos = xsp;
     xsp = jj_scanpos;
@@ -26384,941 +26649,880 @@ Token token;
     if (jj_3R_312()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_313()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_314()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_315()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_316()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_317()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_877() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_881() {
+    if (jj_3R_462()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_928()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_781() {
-    if (jj_scan_token(UNSAFE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_891() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_890()) return true;
+    if (jj_3R_932()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_745() {
+  private boolean jj_3R_749() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_876()) {
+    if (jj_3R_880()) {
     jj_scanpos = xsp;
-    if (jj_3R_877()) return true;
+    if (jj_3R_881()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_876() {
-    if (jj_3R_630()) return true;
+  private boolean jj_3R_880() {
+    if (jj_3R_634()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_927()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_779() {
-    if (jj_3R_151()) return true;
+    if (jj_3R_931()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_881() {
+  private boolean jj_3R_885() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_780() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_890()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_891()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_750() {
+  private boolean jj_3R_754() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_880() {
+  private boolean jj_3R_884() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_890() {
-    if (jj_3R_151()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_929()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_749() {
+  private boolean jj_3R_753() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_879() {
+  private boolean jj_3R_883() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3_145() {
-    if (jj_3R_215()) return true;
+  private boolean jj_3R_882() {
+    if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_878() {
-    if (jj_scan_token(RECORD)) return true;
+  private boolean jj_3R_71() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(PROPERTY)) return true;
+    if (jj_3R_153()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_153()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_146()) jj_scanpos = xsp;
+    if (jj_3R_153()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_783()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_784()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_785()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_748() {
+  private boolean jj_3R_752() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_878()) {
+    if (jj_3R_882()) {
     jj_scanpos = xsp;
-    if (jj_3R_879()) {
+    if (jj_3R_883()) {
     jj_scanpos = xsp;
-    if (jj_3R_880()) {
+    if (jj_3R_884()) {
     jj_scanpos = xsp;
-    if (jj_3R_881()) return true;
+    if (jj_3R_885()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_747() {
-    if (jj_3R_459()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_746() {
-    if (jj_3R_511()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_744() {
-    if (jj_3R_508()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_743() {
-    if (jj_3R_505()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_71() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_151()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_151()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_145()) jj_scanpos = xsp;
-    if (jj_3R_151()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_779()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_780()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_781()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_46() {
-    if (jj_3R_140()) return true;
+  private boolean jj_3R_751() {
+    if (jj_3R_463()) return true;
     return false;
   }
 
-  private boolean jj_3R_345() {
-    if (jj_scan_token(SELECT)) return true;
-    if (jj_3R_443()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_743()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_744()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_745()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_746()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_747()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_748()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_749()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_750()) jj_scanpos = xsp;
+  private boolean jj_3R_750() {
+    if (jj_3R_515()) return true;
     return false;
   }
 
-  private boolean jj_3_45() {
-    if (jj_3R_139()) return true;
+  private boolean jj_3R_748() {
+    if (jj_3R_512()) return true;
     return false;
   }
 
-  private boolean jj_3R_281() {
+  private boolean jj_3R_285() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_215() {
+  private boolean jj_3R_217() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_280() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_747() {
+    if (jj_3R_509()) return true;
     return false;
   }
 
-  private boolean jj_3R_391() {
-    if (jj_3R_140()) return true;
+  private boolean jj_3R_284() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_390() {
-    if (jj_3R_560()) return true;
+  private boolean jj_3_47() {
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3R_488() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_492() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_93() {
+  private boolean jj_3R_94() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_280()) jj_scanpos = xsp;
+    if (jj_3R_284()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_281()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_389() {
-    if (jj_3R_559()) return true;
+    if (jj_3R_285()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_388() {
-    if (jj_3R_345()) return true;
+  private boolean jj_3R_494() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_490() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_349() {
+    if (jj_scan_token(SELECT)) return true;
+    if (jj_3R_447()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_747()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_748()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_749()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_750()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_751()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_752()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_753()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_754()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_387() {
-    if (jj_3R_139()) return true;
+  private boolean jj_3R_283() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_279() {
-    if (jj_scan_token(UNSAFE)) return true;
+  private boolean jj_3R_493() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_489() {
-    if (jj_3R_64()) return true;
+  private boolean jj_3_46() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_487() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_491() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_184() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_387()) {
-    jj_scanpos = xsp;
-    if (jj_3R_388()) {
-    jj_scanpos = xsp;
-    if (jj_3R_389()) {
-    jj_scanpos = xsp;
-    if (jj_3R_390()) {
-    jj_scanpos = xsp;
-    if (jj_3R_391()) return true;
-    }
-    }
-    }
-    }
+  private boolean jj_3R_395() {
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3_42() {
-    if (jj_3R_103()) return true;
+  private boolean jj_3R_394() {
+    if (jj_3R_564()) return true;
     return false;
   }
 
-  private boolean jj_3_44() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_393() {
+    if (jj_3R_563()) return true;
     return false;
   }
 
-  private boolean jj_3_41() {
-    if (jj_3R_102()) return true;
+  private boolean jj_3R_392() {
+    if (jj_3R_349()) return true;
     return false;
   }
 
-  private boolean jj_3R_486() {
-    if (jj_3R_574()) return true;
+  private boolean jj_3R_490() {
+    if (jj_3R_578()) return true;
     return false;
   }
 
-  private boolean jj_3R_278() {
+  private boolean jj_3R_282() {
     if (jj_scan_token(DEFAULTCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_489()) {
+    if (jj_3R_493()) {
     jj_scanpos = xsp;
-    if (jj_3R_490()) return true;
+    if (jj_3R_494()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_485() {
-    if (jj_scan_token(260)) return true;
+  private boolean jj_3R_489() {
+    if (jj_scan_token(261)) return true;
     return false;
   }
 
-  private boolean jj_3_40() {
-    if (jj_3R_101()) return true;
+  private boolean jj_3R_391() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_277() {
+  private boolean jj_3R_281() {
     if (jj_scan_token(ENCRYPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_488()) {
+    if (jj_3R_492()) {
     jj_scanpos = xsp;
     if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_484() {
-    if (jj_3R_151()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_441() {
-    if (jj_3R_588()) return true;
-    return false;
-  }
-
-  private boolean jj_3_39() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3R_488() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_137() {
-    if (jj_3R_103()) return true;
+  private boolean jj_3R_186() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_391()) {
+    jj_scanpos = xsp;
+    if (jj_3R_392()) {
+    jj_scanpos = xsp;
+    if (jj_3R_393()) {
+    jj_scanpos = xsp;
+    if (jj_3R_394()) {
+    jj_scanpos = xsp;
+    if (jj_3R_395()) return true;
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_440() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3_43() {
+    if (jj_3R_104()) return true;
     return false;
   }
 
-  private boolean jj_3R_136() {
-    if (jj_3R_102()) return true;
+  private boolean jj_3_45() {
+    if (jj_3R_140()) return true;
     return false;
   }
 
-  private boolean jj_3R_439() {
-    if (jj_3R_587()) return true;
+  private boolean jj_3_42() {
+    if (jj_3R_103()) return true;
     return false;
   }
 
-  private boolean jj_3R_276() {
+  private boolean jj_3R_280() {
     if (jj_scan_token(DESCRIPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_487()) {
+    if (jj_3R_491()) {
     jj_scanpos = xsp;
     if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_135() {
-    if (jj_3R_101()) return true;
+  private boolean jj_3R_487() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_483() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3_41() {
+    if (jj_3R_102()) return true;
     return false;
   }
 
-  private boolean jj_3R_134() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3R_445() {
+    if (jj_3R_592()) return true;
     return false;
   }
 
-  private boolean jj_3R_482() {
+  private boolean jj_3R_486() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_133() {
-    if (jj_3R_301()) return true;
+  private boolean jj_3_40() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3R_132() {
-    if (jj_3R_300()) return true;
+  private boolean jj_3R_139() {
+    if (jj_3R_104()) return true;
     return false;
   }
 
-  private boolean jj_3R_131() {
-    if (jj_3R_299()) return true;
+  private boolean jj_3R_444() {
+    if (jj_3R_140()) return true;
     return false;
   }
 
-  private boolean jj_3R_275() {
+  private boolean jj_3R_138() {
+    if (jj_3R_103()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_443() {
+    if (jj_3R_591()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_279() {
     if (jj_scan_token(CLUSTERSELECTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_484()) {
+    if (jj_3R_488()) {
     jj_scanpos = xsp;
-    if (jj_3R_485()) {
+    if (jj_3R_489()) {
     jj_scanpos = xsp;
-    if (jj_3R_486()) return true;
+    if (jj_3R_490()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_130() {
-    if (jj_3R_298()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_129() {
-    if (jj_3R_297()) return true;
+  private boolean jj_3R_137() {
+    if (jj_3R_102()) return true;
     return false;
   }
 
-  private boolean jj_3R_128() {
-    if (jj_3R_296()) return true;
+  private boolean jj_3R_136() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3R_127() {
-    if (jj_3R_295()) return true;
+  private boolean jj_3R_135() {
+    if (jj_3R_305()) return true;
     return false;
   }
 
-  private boolean jj_3R_481() {
+  private boolean jj_3R_485() {
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_126() {
-    if (jj_3R_294()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_480() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_134() {
+    if (jj_3R_304()) return true;
     return false;
   }
 
-  private boolean jj_3R_125() {
-    if (jj_3R_293()) return true;
+  private boolean jj_3R_484() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3_36() {
-    if (jj_3R_97()) return true;
+  private boolean jj_3R_133() {
+    if (jj_3R_303()) return true;
     return false;
   }
 
-  private boolean jj_3R_124() {
-    if (jj_3R_292()) return true;
+  private boolean jj_3R_132() {
+    if (jj_3R_302()) return true;
     return false;
   }
 
-  private boolean jj_3R_274() {
+  private boolean jj_3R_278() {
     if (jj_scan_token(ABSTRACT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_482()) {
+    if (jj_3R_486()) {
     jj_scanpos = xsp;
-    if (jj_3R_483()) return true;
+    if (jj_3R_487()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_38() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3R_131() {
+    if (jj_3R_301()) return true;
     return false;
   }
 
-  private boolean jj_3R_479() {
-    if (jj_3R_64()) return true;
+  private boolean jj_3R_130() {
+    if (jj_3R_300()) return true;
     return false;
   }
 
-  private boolean jj_3_37() {
-    if (jj_3R_98()) return true;
+  private boolean jj_3R_483() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_478() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_129() {
+    if (jj_3R_299()) return true;
     return false;
   }
 
-  private boolean jj_3_34() {
-    if (jj_3R_95()) return true;
+  private boolean jj_3R_482() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_273() {
+  private boolean jj_3R_277() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_123() {
-    if (jj_3R_97()) return true;
+  private boolean jj_3R_128() {
+    if (jj_3R_298()) return true;
     return false;
   }
 
-  private boolean jj_3_33() {
-    if (jj_3R_94()) return true;
+  private boolean jj_3R_127() {
+    if (jj_3R_297()) return true;
     return false;
   }
 
-  private boolean jj_3_35() {
-    if (jj_3R_96()) return true;
+  private boolean jj_3_37() {
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3_32() {
-    if (jj_3R_93()) return true;
+  private boolean jj_3R_126() {
+    if (jj_3R_296()) return true;
     return false;
   }
 
-  private boolean jj_3R_122() {
-    if (jj_3R_291()) return true;
+  private boolean jj_3_39() {
+    if (jj_3R_100()) return true;
     return false;
   }
 
-  private boolean jj_3R_477() {
+  private boolean jj_3R_481() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_272() {
+  private boolean jj_3R_276() {
     if (jj_scan_token(REMOVECLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_480()) {
+    if (jj_3R_484()) {
     jj_scanpos = xsp;
-    if (jj_3R_481()) return true;
+    if (jj_3R_485()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_121() {
-    if (jj_3R_95()) return true;
+  private boolean jj_3_38() {
+    if (jj_3R_99()) return true;
     return false;
   }
 
-  private boolean jj_3_30() {
-    if (jj_3R_91()) return true;
+  private boolean jj_3_35() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_476() {
+  private boolean jj_3R_480() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_120() {
-    if (jj_3R_94()) return true;
+  private boolean jj_3R_617() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_613() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_125() {
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_119() {
-    if (jj_3R_93()) return true;
+  private boolean jj_3_34() {
+    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3_28() {
-    if (jj_3R_89()) return true;
+  private boolean jj_3_36() {
+    if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3R_271() {
+  private boolean jj_3_33() {
+    if (jj_3R_94()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_275() {
     if (jj_scan_token(ADDCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_478()) {
+    if (jj_3R_482()) {
     jj_scanpos = xsp;
-    if (jj_3R_479()) return true;
+    if (jj_3R_483()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_31() {
-    if (jj_3R_92()) return true;
-    return false;
-  }
-
-  private boolean jj_3_27() {
-    if (jj_3R_88()) return true;
+  private boolean jj_3R_124() {
+    if (jj_3R_295()) return true;
     return false;
   }
 
-  private boolean jj_3R_118() {
-    if (jj_3R_91()) return true;
+  private boolean jj_3R_123() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3_26() {
-    if (jj_3R_87()) return true;
+  private boolean jj_3_31() {
+    if (jj_3R_92()) return true;
     return false;
   }
 
-  private boolean jj_3R_474() {
+  private boolean jj_3R_478() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3_29() {
-    if (jj_3R_90()) return true;
+  private boolean jj_3R_122() {
+    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3_25() {
-    if (jj_3R_86()) return true;
+  private boolean jj_3R_121() {
+    if (jj_3R_94()) return true;
     return false;
   }
 
-  private boolean jj_3R_117() {
-    if (jj_3R_89()) return true;
+  private boolean jj_3_29() {
+    if (jj_3R_90()) return true;
     return false;
   }
 
-  private boolean jj_3R_116() {
-    if (jj_3R_88()) return true;
+  private boolean jj_3_32() {
+    if (jj_3R_93()) return true;
     return false;
   }
 
-  private boolean jj_3R_270() {
+  private boolean jj_3R_274() {
     if (jj_scan_token(STRICTMODE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_476()) {
+    if (jj_3R_480()) {
     jj_scanpos = xsp;
-    if (jj_3R_477()) return true;
+    if (jj_3R_481()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_24() {
-    if (jj_3R_85()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_473() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_477() {
+    if (jj_3R_153()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_613()) { jj_scanpos = xsp; break; }
+      if (jj_3R_617()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_115() {
-    if (jj_3R_87()) return true;
+  private boolean jj_3_28() {
+    if (jj_3R_89()) return true;
     return false;
   }
 
-  private boolean jj_3_23() {
-    if (jj_3R_84()) return true;
+  private boolean jj_3R_120() {
+    if (jj_3R_92()) return true;
     return false;
   }
 
-  private boolean jj_3R_269() {
-    if (jj_scan_token(OVERSIZE)) return true;
-    if (jj_3R_475()) return true;
+  private boolean jj_3_27() {
+    if (jj_3R_88()) return true;
     return false;
   }
 
-  private boolean jj_3R_114() {
-    if (jj_3R_86()) return true;
+  private boolean jj_3R_273() {
+    if (jj_scan_token(OVERSIZE)) return true;
+    if (jj_3R_479()) return true;
     return false;
   }
 
-  private boolean jj_3_22() {
-    if (jj_3R_83()) return true;
+  private boolean jj_3_30() {
+    if (jj_3R_91()) return true;
     return false;
   }
 
-  private boolean jj_3R_113() {
-    if (jj_3R_290()) return true;
+  private boolean jj_3_26() {
+    if (jj_3R_87()) return true;
     return false;
   }
 
-  private boolean jj_3_21() {
-    if (jj_3R_82()) return true;
+  private boolean jj_3R_119() {
+    if (jj_3R_90()) return true;
     return false;
   }
 
-  private boolean jj_3R_112() {
-    if (jj_3R_85()) return true;
+  private boolean jj_3_25() {
+    if (jj_3R_86()) return true;
     return false;
   }
 
-  private boolean jj_3R_472() {
+  private boolean jj_3R_476() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3_20() {
-    if (jj_3R_81()) return true;
+  private boolean jj_3R_118() {
+    if (jj_3R_89()) return true;
     return false;
   }
 
-  private boolean jj_3R_471() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_475() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_111() {
-    if (jj_3R_84()) return true;
+  private boolean jj_3R_117() {
+    if (jj_3R_88()) return true;
     return false;
   }
 
-  private boolean jj_3_19() {
-    if (jj_3R_80()) return true;
+  private boolean jj_3_24() {
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  private boolean jj_3R_110() {
-    if (jj_3R_83()) return true;
+  private boolean jj_3R_116() {
+    if (jj_3R_87()) return true;
     return false;
   }
 
-  private boolean jj_3R_612() {
+  private boolean jj_3R_616() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3_18() {
-    if (jj_3R_79()) return true;
+  private boolean jj_3_23() {
+    if (jj_3R_84()) return true;
     return false;
   }
 
-  private boolean jj_3R_109() {
-    if (jj_3R_82()) return true;
+  private boolean jj_3R_115() {
+    if (jj_3R_86()) return true;
     return false;
   }
 
-  private boolean jj_3R_470() {
+  private boolean jj_3_22() {
+    if (jj_3R_83()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_474() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_611()) {
+    if (jj_3R_615()) {
     jj_scanpos = xsp;
-    if (jj_3R_612()) return true;
+    if (jj_3R_616()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_611() {
+  private boolean jj_3R_615() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_108() {
-    if (jj_3R_81()) return true;
+  private boolean jj_3R_114() {
+    if (jj_3R_294()) return true;
     return false;
   }
 
-  private boolean jj_3R_268() {
+  private boolean jj_3R_272() {
     if (jj_scan_token(SUPERCLASSES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_473()) {
+    if (jj_3R_477()) {
     jj_scanpos = xsp;
-    if (jj_3R_474()) return true;
+    if (jj_3R_478()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_107() {
+  private boolean jj_3_21() {
+    if (jj_3R_82()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_113() {
+    if (jj_3R_85()) return true;
+    return false;
+  }
+
+  private boolean jj_3_20() {
+    if (jj_3R_81()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_112() {
+    if (jj_3R_84()) return true;
+    return false;
+  }
+
+  private boolean jj_3_19() {
     if (jj_3R_80()) return true;
     return false;
   }
 
-  private boolean jj_3R_106() {
-    if (jj_3R_79()) return true;
+  private boolean jj_3R_473() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_469() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_111() {
+    if (jj_3R_83()) return true;
     return false;
   }
 
-  private boolean jj_3_17() {
-    if (jj_3R_78()) return true;
+  private boolean jj_3_18() {
+    if (jj_3R_79()) return true;
     return false;
   }
 
-  private boolean jj_3_16() {
-    if (jj_3R_77()) return true;
+  private boolean jj_3R_110() {
+    if (jj_3R_82()) return true;
     return false;
   }
 
-  private boolean jj_3_15() {
-    if (jj_3R_76()) return true;
+  private boolean jj_3R_109() {
+    if (jj_3R_81()) return true;
     return false;
   }
 
-  private boolean jj_3_14() {
-    if (jj_3R_75()) return true;
+  private boolean jj_3R_108() {
+    if (jj_3R_80()) return true;
     return false;
   }
 
-  private boolean jj_3R_267() {
+  private boolean jj_3R_271() {
     if (jj_scan_token(SUPERCLASS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_470()) jj_scanpos = xsp;
+    if (jj_3R_474()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_471()) {
+    if (jj_3R_475()) {
     jj_scanpos = xsp;
-    if (jj_3R_472()) return true;
+    if (jj_3R_476()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_13() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3R_107() {
+    if (jj_3R_79()) return true;
     return false;
   }
 
-  private boolean jj_3_12() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3_17() {
+    if (jj_3R_78()) return true;
     return false;
   }
 
-  private boolean jj_3_11() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3_16() {
+    if (jj_3R_77()) return true;
     return false;
   }
 
-  private boolean jj_3R_266() {
+  private boolean jj_3R_270() {
     if (jj_scan_token(SHORTNAME)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_469()) {
+    if (jj_3R_473()) {
     jj_scanpos = xsp;
     if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3_10() {
-    if (jj_3R_71()) return true;
+  private boolean jj_3_15() {
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_265() {
+  private boolean jj_3R_269() {
     if (jj_scan_token(NAME)) return true;
-    if (jj_3R_151()) return true;
-    return false;
-  }
-
-  private boolean jj_3_9() {
-    if (jj_3R_70()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_105() {
-    if (jj_3R_289()) return true;
+  private boolean jj_3_14() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_889() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_64()) return true;
+  private boolean jj_3_13() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3_8() {
-    if (jj_3R_69()) return true;
+  private boolean jj_3R_893() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3_7() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3_12() {
+    if (jj_3R_73()) return true;
     return false;
   }
 
-  private boolean jj_3_6() {
-    if (jj_3R_67()) return true;
+  private boolean jj_3_11() {
+    if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_91() {
+  private boolean jj_3R_92() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_265()) {
-    jj_scanpos = xsp;
-    if (jj_3R_266()) {
-    jj_scanpos = xsp;
-    if (jj_3R_267()) {
-    jj_scanpos = xsp;
-    if (jj_3R_268()) {
-    jj_scanpos = xsp;
     if (jj_3R_269()) {
     jj_scanpos = xsp;
     if (jj_3R_270()) {
@@ -27337,7 +27541,15 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_277()) {
     jj_scanpos = xsp;
-    if (jj_3R_278()) return true;
+    if (jj_3R_278()) {
+    jj_scanpos = xsp;
+    if (jj_3R_279()) {
+    jj_scanpos = xsp;
+    if (jj_3R_280()) {
+    jj_scanpos = xsp;
+    if (jj_3R_281()) {
+    jj_scanpos = xsp;
+    if (jj_3R_282()) return true;
     }
     }
     }
@@ -27352,58 +27564,105 @@ Token token;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_279()) jj_scanpos = xsp;
+    if (jj_3R_283()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_888() {
+  private boolean jj_3R_892() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_104() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3_10() {
+    if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_778() {
+  private boolean jj_3R_782() {
     if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
-  private boolean jj_3R_776() {
+  private boolean jj_3R_780() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_3R_64()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_889()) { jj_scanpos = xsp; break; }
+      if (jj_3R_893()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_777() {
+  private boolean jj_3R_781() {
     if (jj_scan_token(CLUSTERS)) return true;
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_775() {
+  private boolean jj_3_9() {
+    if (jj_3R_70()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_106() {
+    if (jj_3R_293()) return true;
+    return false;
+  }
+
+  private boolean jj_3_8() {
+    if (jj_3R_69()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_779() {
     if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_888()) { jj_scanpos = xsp; break; }
+      if (jj_3R_892()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_43() {
+  private boolean jj_3_7() {
+    if (jj_3R_68()) return true;
+    return false;
+  }
+
+  private boolean jj_3_6() {
+    if (jj_3R_67()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_105() {
+    if (jj_3R_186()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_778() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_640() {
+    if (jj_3R_155()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_639() {
+    if (jj_3R_153()) return true;
+    return false;
+  }
+
+  private boolean jj_3_44() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_104()) {
+    if (jj_3R_105()) {
     jj_scanpos = xsp;
     if (jj_3_6()) {
     jj_scanpos = xsp;
@@ -27411,7 +27670,7 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3_8()) {
     jj_scanpos = xsp;
-    if (jj_3R_105()) {
+    if (jj_3R_106()) {
     jj_scanpos = xsp;
     if (jj_3_9()) {
     jj_scanpos = xsp;
@@ -27431,8 +27690,6 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3_17()) {
     jj_scanpos = xsp;
-    if (jj_3R_106()) {
-    jj_scanpos = xsp;
     if (jj_3R_107()) {
     jj_scanpos = xsp;
     if (jj_3R_108()) {
@@ -27455,32 +27712,32 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_117()) {
     jj_scanpos = xsp;
-    if (jj_3_29()) {
-    jj_scanpos = xsp;
     if (jj_3R_118()) {
     jj_scanpos = xsp;
-    if (jj_3_31()) {
-    jj_scanpos = xsp;
     if (jj_3R_119()) {
     jj_scanpos = xsp;
+    if (jj_3_30()) {
+    jj_scanpos = xsp;
     if (jj_3R_120()) {
     jj_scanpos = xsp;
+    if (jj_3_32()) {
+    jj_scanpos = xsp;
     if (jj_3R_121()) {
     jj_scanpos = xsp;
     if (jj_3R_122()) {
     jj_scanpos = xsp;
-    if (jj_3_35()) {
-    jj_scanpos = xsp;
     if (jj_3R_123()) {
     jj_scanpos = xsp;
-    if (jj_3_37()) {
-    jj_scanpos = xsp;
-    if (jj_3_38()) {
-    jj_scanpos = xsp;
     if (jj_3R_124()) {
     jj_scanpos = xsp;
+    if (jj_3_36()) {
+    jj_scanpos = xsp;
     if (jj_3R_125()) {
     jj_scanpos = xsp;
+    if (jj_3_38()) {
+    jj_scanpos = xsp;
+    if (jj_3_39()) {
+    jj_scanpos = xsp;
     if (jj_3R_126()) {
     jj_scanpos = xsp;
     if (jj_3R_127()) {
@@ -27503,7 +27760,12 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_136()) {
     jj_scanpos = xsp;
-    if (jj_3R_137()) return true;
+    if (jj_3R_137()) {
+    jj_scanpos = xsp;
+    if (jj_3R_138()) {
+    jj_scanpos = xsp;
+    if (jj_3R_139()) return true;
+    }
     }
     }
     }
@@ -27557,243 +27819,248 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_222() {
+  private boolean jj_3R_70() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_3R_153()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_778()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_779()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_780()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_781()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_782()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_224() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_43()) {
+    if (jj_3_44()) {
     jj_scanpos = xsp;
-    if (jj_3R_439()) {
+    if (jj_3R_443()) {
     jj_scanpos = xsp;
-    if (jj_3R_440()) {
+    if (jj_3R_444()) {
     jj_scanpos = xsp;
-    if (jj_3R_441()) return true;
+    if (jj_3R_445()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_774() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_522() {
+    if (jj_scan_token(COMMA)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_639()) {
+    jj_scanpos = xsp;
+    if (jj_3R_640()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_636() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3R_65() {
+    if (jj_3R_224()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_635() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3_5() {
+    if (jj_3R_66()) return true;
     return false;
   }
 
-  private boolean jj_3R_65() {
-    if (jj_3R_222()) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3_4() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3_5() {
-    if (jj_3R_66()) return true;
+  private boolean jj_3R_521() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_70() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_151()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_774()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_775()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_776()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_777()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_778()) jj_scanpos = xsp;
+  private boolean jj_3R_614() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3_4() {
-    if (jj_3R_64()) return true;
+  private boolean jj_3R_520() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_220() {
-    if (jj_3R_222()) return true;
+  private boolean jj_3R_222() {
+    if (jj_3R_224()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(186)) jj_scanpos = xsp;
+    if (jj_scan_token(187)) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_615() {
+  private boolean jj_3R_619() {
     if (jj_3R_66()) return true;
     return false;
   }
 
-  private boolean jj_3R_518() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3R_320() {
+    if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_635()) {
+    if (jj_3R_520()) {
     jj_scanpos = xsp;
-    if (jj_3R_636()) return true;
+    if (jj_3R_521()) return true;
     }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_522()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_614() {
+  private boolean jj_3R_618() {
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_517() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3R_472() {
+    if (jj_3R_157()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_614()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_475() {
+  private boolean jj_3R_319() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_224()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_479() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_614()) {
+    if (jj_3R_618()) {
     jj_scanpos = xsp;
-    if (jj_3R_615()) return true;
+    if (jj_3R_619()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_610() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_155()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_516() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_318() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_223() {
+  private boolean jj_3R_225() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_316() {
-    if (jj_scan_token(LBRACKET)) return true;
+  private boolean jj_3R_142() {
+    if (jj_scan_token(FIND)) return true;
+    if (jj_scan_token(REFERENCES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_516()) {
+    if (jj_3R_318()) {
     jj_scanpos = xsp;
-    if (jj_3R_517()) return true;
-    }
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_518()) { jj_scanpos = xsp; break; }
+    if (jj_3R_319()) return true;
     }
-    if (jj_scan_token(RBRACKET)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_320()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_66() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_223()) jj_scanpos = xsp;
+    if (jj_3R_225()) jj_scanpos = xsp;
     if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_468() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_266() {
+    if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_610()) { jj_scanpos = xsp; break; }
-    }
+    xsp = jj_scanpos;
+    if (jj_3R_472()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_315() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_222()) return true;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_265() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_314() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_223() {
+    if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_221() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_268() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_140() {
-    if (jj_scan_token(FIND)) return true;
-    if (jj_scan_token(REFERENCES)) return true;
+  private boolean jj_3R_89() {
+    if (jj_scan_token(TRUNCATE)) return true;
+    if (jj_scan_token(RECORD)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_314()) {
+    if (jj_3R_265()) {
     jj_scanpos = xsp;
-    if (jj_3R_315()) return true;
+    if (jj_3R_266()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_316()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_64() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_221()) jj_scanpos = xsp;
-    if (jj_scan_token(INTEGER_LITERAL)) return true;
+  private boolean jj_3R_267() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_264() {
-    if (jj_scan_token(LBRACKET)) return true;
+  private boolean jj_3R_64() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_468()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_263() {
-    if (jj_3R_155()) return true;
+    if (jj_3R_223()) jj_scanpos = xsp;
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_89() {
-    if (jj_scan_token(TRUNCATE)) return true;
-    if (jj_scan_token(RECORD)) return true;
+  private boolean jj_3R_90() {
+    if (jj_scan_token(COMPACT)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_263()) {
+    if (jj_3R_267()) {
     jj_scanpos = xsp;
-    if (jj_3R_264()) return true;
+    if (jj_3R_268()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_261() {
+  private boolean jj_3R_263() {
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_260() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_262() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_262() {
+  private boolean jj_3R_264() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
@@ -27803,26 +28070,26 @@ Token token;
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_260()) {
+    if (jj_3R_262()) {
     jj_scanpos = xsp;
-    if (jj_3R_261()) return true;
+    if (jj_3R_263()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_262()) jj_scanpos = xsp;
+    if (jj_3R_264()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_259() {
+  private boolean jj_3R_261() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_258() {
+  private boolean jj_3R_260() {
     if (jj_scan_token(POLYMORPHIC)) return true;
     return false;
   }
 
-  private boolean jj_3R_257() {
+  private boolean jj_3R_259() {
     if (jj_scan_token(OFF)) return true;
     return false;
   }
@@ -27830,16 +28097,16 @@ Token token;
   private boolean jj_3R_87() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_258()) jj_scanpos = xsp;
+    if (jj_3R_260()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_259()) jj_scanpos = xsp;
+    if (jj_3R_261()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_256() {
+  private boolean jj_3R_258() {
     if (jj_scan_token(ON)) return true;
     return false;
   }
@@ -27849,170 +28116,170 @@ Token token;
     if (jj_scan_token(STORAGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_256()) {
+    if (jj_3R_258()) {
     jj_scanpos = xsp;
-    if (jj_3R_257()) return true;
+    if (jj_3R_259()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_586() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_590() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_438() {
-    if (jj_3R_430()) return true;
+  private boolean jj_3R_442() {
+    if (jj_3R_434()) return true;
     return false;
   }
 
-  private boolean jj_3R_437() {
+  private boolean jj_3R_441() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_586()) jj_scanpos = xsp;
+    if (jj_3R_590()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_214() {
+  private boolean jj_3R_216() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_437()) {
+    if (jj_3R_441()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(207)) return true;
+    if (jj_scan_token(208)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_438()) jj_scanpos = xsp;
+    if (jj_3R_442()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_585() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_589() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_436() {
-    if (jj_3R_430()) return true;
+  private boolean jj_3R_440() {
+    if (jj_3R_434()) return true;
     return false;
   }
 
-  private boolean jj_3R_435() {
+  private boolean jj_3R_439() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_585()) jj_scanpos = xsp;
+    if (jj_3R_589()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_213() {
+  private boolean jj_3R_215() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_435()) {
+    if (jj_3R_439()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(207)) return true;
+    if (jj_scan_token(208)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_436()) jj_scanpos = xsp;
+    if (jj_3R_440()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_584() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_588() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_434() {
-    if (jj_3R_430()) return true;
+  private boolean jj_3R_438() {
+    if (jj_3R_434()) return true;
     return false;
   }
 
-  private boolean jj_3R_433() {
+  private boolean jj_3R_437() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_584()) jj_scanpos = xsp;
+    if (jj_3R_588()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_212() {
+  private boolean jj_3R_214() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_433()) {
+    if (jj_3R_437()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(207)) return true;
+    if (jj_scan_token(208)) return true;
     }
     if (jj_scan_token(GT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_434()) jj_scanpos = xsp;
+    if (jj_3R_438()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_583() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_587() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_431() {
+  private boolean jj_3R_435() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_583()) jj_scanpos = xsp;
+    if (jj_3R_587()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_211() {
+  private boolean jj_3R_213() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_431()) {
+    if (jj_3R_435()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(207)) return true;
+    if (jj_scan_token(208)) return true;
     }
-    if (jj_3R_430()) return true;
+    if (jj_3R_434()) return true;
     return false;
   }
 
-  private boolean jj_3R_956() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_960() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_954() {
+  private boolean jj_3R_958() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_956()) jj_scanpos = xsp;
+    if (jj_3R_960()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_950() {
+  private boolean jj_3R_954() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_954()) {
+    if (jj_3R_958()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(207)) return true;
+    if (jj_scan_token(208)) return true;
     }
-    if (jj_3R_430()) return true;
+    if (jj_3R_434()) return true;
     return false;
   }
 
-  private boolean jj_3R_581() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_585() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_151() {
+  private boolean jj_3R_153() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(247)) {
+    if (jj_scan_token(248)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(233)) {
+    if (jj_scan_token(234)) {
     jj_scanpos = xsp;
     if (jj_scan_token(28)) {
     jj_scanpos = xsp;
@@ -28028,7 +28295,7 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(39)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(244)) {
+    if (jj_scan_token(245)) {
     jj_scanpos = xsp;
     if (jj_scan_token(45)) {
     jj_scanpos = xsp;
@@ -28174,15 +28441,15 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(134)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(59)) {
-    jj_scanpos = xsp;
     if (jj_scan_token(135)) {
     jj_scanpos = xsp;
+    if (jj_scan_token(59)) {
+    jj_scanpos = xsp;
     if (jj_scan_token(136)) {
     jj_scanpos = xsp;
     if (jj_scan_token(137)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(139)) {
+    if (jj_scan_token(138)) {
     jj_scanpos = xsp;
     if (jj_scan_token(140)) {
     jj_scanpos = xsp;
@@ -28192,7 +28459,7 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(143)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(145)) {
+    if (jj_scan_token(144)) {
     jj_scanpos = xsp;
     if (jj_scan_token(146)) {
     jj_scanpos = xsp;
@@ -28208,7 +28475,10 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(152)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(248)) return true;
+    if (jj_scan_token(153)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(249)) return true;
+    }
     }
     }
     }
@@ -28311,34 +28581,34 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_429() {
+  private boolean jj_3R_433() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_581()) jj_scanpos = xsp;
+    if (jj_3R_585()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_574() {
+  private boolean jj_3R_212() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(175)) {
+    if (jj_3R_433()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(156)) return true;
+    if (jj_scan_token(208)) return true;
     }
+    if (jj_scan_token(GT)) return true;
+    if (jj_3R_434()) return true;
     return false;
   }
 
-  private boolean jj_3R_210() {
+  private boolean jj_3R_578() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_429()) {
+    if (jj_scan_token(176)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(207)) return true;
+    if (jj_scan_token(157)) return true;
     }
-    if (jj_scan_token(GT)) return true;
-    if (jj_3R_430()) return true;
     return false;
   }
 
@@ -28347,196 +28617,188 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_764() {
+  private boolean jj_3R_768() {
     if (jj_scan_token(PATH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_887() {
+  private boolean jj_3R_891() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_886() {
+  private boolean jj_3R_890() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_763() {
+  private boolean jj_3R_767() {
     if (jj_scan_token(DEPTH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_762() {
+  private boolean jj_3R_766() {
     if (jj_scan_token(OPTIONAL)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_886()) {
+    if (jj_3R_890()) {
     jj_scanpos = xsp;
-    if (jj_3R_887()) return true;
+    if (jj_3R_891()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_761() {
+  private boolean jj_3R_765() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_760() {
+  private boolean jj_3R_764() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_453()) return true;
+    if (jj_3R_457()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_759() {
+  private boolean jj_3R_763() {
     if (jj_scan_token(WHERE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_453()) return true;
+    if (jj_3R_457()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_350() {
-    if (jj_scan_token(LBRACE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(155)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(156)) return true;
-    }
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_141()) return true;
-    if (jj_scan_token(RBRACE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_758() {
+  private boolean jj_3R_762() {
     if (jj_scan_token(AS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_885() {
+  private boolean jj_3R_889() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_884() {
+  private boolean jj_3R_888() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_757() {
+  private boolean jj_3R_761() {
     if (jj_scan_token(RID)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_155()) return true;
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3_2() {
-    if (jj_3R_64()) return true;
+  private boolean jj_3R_354() {
+    if (jj_scan_token(LBRACE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(156)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(157)) return true;
+    }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_64()) return true;
+    if (jj_3R_143()) return true;
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3_1() {
-    if (jj_scan_token(258)) return true;
-    if (jj_3R_64()) return true;
-    if (jj_scan_token(COLON)) return true;
+  private boolean jj_3R_887() {
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_883() {
+  private boolean jj_3_2() {
+    if (jj_3R_64()) return true;
+    if (jj_scan_token(COLON)) return true;
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_882() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_886() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_756() {
+  private boolean jj_3R_760() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_884()) {
+    if (jj_3R_888()) {
     jj_scanpos = xsp;
-    if (jj_3R_885()) return true;
+    if (jj_3R_889()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_155() {
+  private boolean jj_3_1() {
+    if (jj_scan_token(259)) return true;
+    if (jj_3R_64()) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_64()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_759() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1()) {
-    jj_scanpos = xsp;
-    if (jj_3_2()) {
+    if (jj_3R_886()) {
     jj_scanpos = xsp;
-    if (jj_3R_350()) return true;
-    }
+    if (jj_3R_887()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_755() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_scan_token(COLON)) return true;
+  private boolean jj_3R_157() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_882()) {
+    if (jj_3_1()) {
     jj_scanpos = xsp;
-    if (jj_3R_883()) return true;
+    if (jj_3_2()) {
+    jj_scanpos = xsp;
+    if (jj_3R_354()) return true;
+    }
     }
     return false;
   }
 
-  private boolean jj_3R_754() {
+  private boolean jj_3R_758() {
     if (jj_scan_token(CLASSES)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_680() {
+  private boolean jj_3R_684() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_679()) return true;
+    if (jj_3R_683()) return true;
     return false;
   }
 
-  private boolean jj_3R_753() {
+  private boolean jj_3R_757() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_679() {
+  private boolean jj_3R_683() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_753()) {
-    jj_scanpos = xsp;
-    if (jj_3R_754()) {
-    jj_scanpos = xsp;
-    if (jj_3R_755()) {
-    jj_scanpos = xsp;
-    if (jj_3R_756()) {
-    jj_scanpos = xsp;
     if (jj_3R_757()) {
     jj_scanpos = xsp;
     if (jj_3R_758()) {
@@ -28551,7 +28813,15 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_763()) {
     jj_scanpos = xsp;
-    if (jj_3R_764()) return true;
+    if (jj_3R_764()) {
+    jj_scanpos = xsp;
+    if (jj_3R_765()) {
+    jj_scanpos = xsp;
+    if (jj_3R_766()) {
+    jj_scanpos = xsp;
+    if (jj_3R_767()) {
+    jj_scanpos = xsp;
+    if (jj_3R_768()) return true;
     }
     }
     }
@@ -28566,198 +28836,198 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_582() {
-    if (jj_3R_679()) return true;
+  private boolean jj_3R_586() {
+    if (jj_3R_683()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_680()) { jj_scanpos = xsp; break; }
+      if (jj_3R_684()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_144() {
-    if (jj_3R_214()) return true;
+  private boolean jj_3_145() {
+    if (jj_3R_216()) return true;
     return false;
   }
 
-  private boolean jj_3_143() {
-    if (jj_3R_213()) return true;
+  private boolean jj_3_144() {
+    if (jj_3R_215()) return true;
     return false;
   }
 
-  private boolean jj_3_142() {
-    if (jj_3R_212()) return true;
+  private boolean jj_3_143() {
+    if (jj_3R_214()) return true;
     return false;
   }
 
-  private boolean jj_3R_430() {
+  private boolean jj_3R_434() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_582()) jj_scanpos = xsp;
+    if (jj_3R_586()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_951() {
-    if (jj_3R_430()) return true;
+  private boolean jj_3R_955() {
+    if (jj_3R_434()) return true;
     return false;
   }
 
-  private boolean jj_3R_580() {
-    if (jj_3R_214()) return true;
+  private boolean jj_3R_584() {
+    if (jj_3R_216()) return true;
     return false;
   }
 
-  private boolean jj_3R_579() {
-    if (jj_3R_213()) return true;
+  private boolean jj_3R_583() {
+    if (jj_3R_215()) return true;
     return false;
   }
 
-  private boolean jj_3R_578() {
-    if (jj_3R_212()) return true;
+  private boolean jj_3R_582() {
+    if (jj_3R_214()) return true;
     return false;
   }
 
-  private boolean jj_3R_427() {
+  private boolean jj_3R_431() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_578()) {
+    if (jj_3R_582()) {
     jj_scanpos = xsp;
-    if (jj_3R_579()) {
+    if (jj_3R_583()) {
     jj_scanpos = xsp;
-    if (jj_3R_580()) return true;
+    if (jj_3R_584()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3_141() {
-    if (jj_3R_207()) return true;
+  private boolean jj_3_142() {
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_208() {
+  private boolean jj_3R_210() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
-    if (jj_3R_427()) return true;
+    if (jj_3R_431()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_427()) { jj_scanpos = xsp; break; }
+      if (jj_3R_431()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_951()) jj_scanpos = xsp;
+    if (jj_3R_955()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_953() {
-    if (jj_3R_430()) return true;
+  private boolean jj_3R_957() {
+    if (jj_3R_434()) return true;
     return false;
   }
 
-  private boolean jj_3R_952() {
-    if (jj_3R_207()) return true;
+  private boolean jj_3R_956() {
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_209() {
+  private boolean jj_3R_211() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_428()) return true;
+    if (jj_3R_432()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_952()) { jj_scanpos = xsp; break; }
+      if (jj_3R_956()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_953()) jj_scanpos = xsp;
+    if (jj_3R_957()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_955() {
-    if (jj_3R_430()) return true;
+  private boolean jj_3R_959() {
+    if (jj_3R_434()) return true;
     return false;
   }
 
-  private boolean jj_3_140() {
-    if (jj_3R_211()) return true;
+  private boolean jj_3_141() {
+    if (jj_3R_213()) return true;
     return false;
   }
 
-  private boolean jj_3R_428() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_432() {
+    if (jj_3R_159()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_955()) jj_scanpos = xsp;
+    if (jj_3R_959()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_432() {
-    if (jj_3R_430()) return true;
+  private boolean jj_3R_436() {
+    if (jj_3R_434()) return true;
     return false;
   }
 
-  private boolean jj_3_139() {
-    if (jj_3R_210()) return true;
+  private boolean jj_3_140() {
+    if (jj_3R_212()) return true;
     return false;
   }
 
-  private boolean jj_3R_207() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_209() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_432()) jj_scanpos = xsp;
+    if (jj_3R_436()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_942() {
-    if (jj_3R_211()) return true;
+  private boolean jj_3R_946() {
+    if (jj_3R_213()) return true;
     return false;
   }
 
-  private boolean jj_3R_941() {
-    if (jj_3R_950()) return true;
+  private boolean jj_3R_945() {
+    if (jj_3R_954()) return true;
     return false;
   }
 
-  private boolean jj_3R_940() {
-    if (jj_3R_210()) return true;
+  private boolean jj_3R_944() {
+    if (jj_3R_212()) return true;
     return false;
   }
 
-  private boolean jj_3_138() {
-    if (jj_3R_209()) return true;
+  private boolean jj_3_139() {
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3_137() {
-    if (jj_3R_208()) return true;
+  private boolean jj_3_138() {
+    if (jj_3R_210()) return true;
     return false;
   }
 
-  private boolean jj_3_136() {
-    if (jj_3R_207()) return true;
+  private boolean jj_3_137() {
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_922() {
+  private boolean jj_3R_926() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_136()) {
-    jj_scanpos = xsp;
     if (jj_3_137()) {
     jj_scanpos = xsp;
     if (jj_3_138()) {
     jj_scanpos = xsp;
-    if (jj_3R_940()) {
+    if (jj_3_139()) {
     jj_scanpos = xsp;
-    if (jj_3R_941()) {
+    if (jj_3R_944()) {
     jj_scanpos = xsp;
-    if (jj_3R_942()) return true;
+    if (jj_3R_945()) {
+    jj_scanpos = xsp;
+    if (jj_3R_946()) return true;
     }
     }
     }
@@ -28766,908 +29036,916 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_918() {
+  private boolean jj_3R_922() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_662() {
-    if (jj_3R_430()) return true;
+  private boolean jj_3R_666() {
+    if (jj_3R_434()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_922()) { jj_scanpos = xsp; break; }
+      if (jj_3R_926()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_858() {
+  private boolean jj_3R_862() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_857() {
-    if (jj_3R_574()) return true;
+  private boolean jj_3R_861() {
+    if (jj_3R_578()) return true;
     return false;
   }
 
-  private boolean jj_3R_856() {
+  private boolean jj_3R_860() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_855() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_859() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_728() {
+  private boolean jj_3R_732() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_855()) {
+    if (jj_3R_859()) {
     jj_scanpos = xsp;
-    if (jj_3R_856()) {
+    if (jj_3R_860()) {
     jj_scanpos = xsp;
-    if (jj_3R_857()) {
+    if (jj_3R_861()) {
     jj_scanpos = xsp;
-    if (jj_3R_858()) return true;
+    if (jj_3R_862()) return true;
     }
     }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_727() {
+  private boolean jj_3R_731() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_853() {
+  private boolean jj_3R_857() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_726() {
-    if (jj_3R_574()) return true;
+  private boolean jj_3R_730() {
+    if (jj_3R_578()) return true;
     return false;
   }
 
-  private boolean jj_3R_725() {
+  private boolean jj_3R_729() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_724() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_728() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_637() {
+  private boolean jj_3R_641() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_724()) {
+    if (jj_3R_728()) {
     jj_scanpos = xsp;
-    if (jj_3R_725()) {
+    if (jj_3R_729()) {
     jj_scanpos = xsp;
-    if (jj_3R_726()) {
+    if (jj_3R_730()) {
     jj_scanpos = xsp;
-    if (jj_3R_727()) return true;
+    if (jj_3R_731()) return true;
     }
     }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_728()) { jj_scanpos = xsp; break; }
+      if (jj_3R_732()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_135() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_136() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_219() {
+  private boolean jj_3R_221() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_637()) jj_scanpos = xsp;
+    if (jj_3R_641()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_939() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_943() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_742() {
-    if (jj_3R_553()) return true;
+  private boolean jj_3R_746() {
+    if (jj_3R_557()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_939()) jj_scanpos = xsp;
+    if (jj_3R_943()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_854() {
+  private boolean jj_3R_858() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_918()) jj_scanpos = xsp;
+    if (jj_3R_922()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_917() {
+  private boolean jj_3R_921() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_916() {
+  private boolean jj_3R_920() {
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_852() {
+  private boolean jj_3R_856() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_916()) {
+    if (jj_3R_920()) {
     jj_scanpos = xsp;
-    if (jj_3R_917()) return true;
+    if (jj_3R_921()) return true;
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_723() {
+  private boolean jj_3R_727() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_852()) jj_scanpos = xsp;
-    if (jj_3R_151()) return true;
+    if (jj_3R_856()) jj_scanpos = xsp;
+    if (jj_3R_153()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_853()) jj_scanpos = xsp;
+    if (jj_3R_857()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_854()) { jj_scanpos = xsp; break; }
+      if (jj_3R_858()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_722() {
+  private boolean jj_3R_726() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_633() {
+  private boolean jj_3R_637() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_722()) {
+    if (jj_3R_726()) {
     jj_scanpos = xsp;
-    if (jj_3R_723()) return true;
+    if (jj_3R_727()) return true;
     }
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_634() {
-    if (jj_3R_633()) return true;
+  private boolean jj_3R_638() {
+    if (jj_3R_637()) return true;
     return false;
   }
 
-  private boolean jj_3R_511() {
+  private boolean jj_3R_515() {
     if (jj_scan_token(FETCHPLAN)) return true;
-    if (jj_3R_633()) return true;
+    if (jj_3R_637()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_634()) { jj_scanpos = xsp; break; }
+      if (jj_3R_638()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_532() {
+  private boolean jj_3R_536() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_356() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_360() {
+    if (jj_3R_143()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_532()) { jj_scanpos = xsp; break; }
+      if (jj_3R_536()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_158() {
+  private boolean jj_3R_160() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_356()) jj_scanpos = xsp;
+    if (jj_3R_360()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_445() {
+  private boolean jj_3R_449() {
     if (jj_scan_token(RETRY)) return true;
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_707() {
+  private boolean jj_3R_711() {
     if (jj_scan_token(EXCEPTION)) return true;
     return false;
   }
 
-  private boolean jj_3R_446() {
+  private boolean jj_3R_450() {
     if (jj_scan_token(WAIT)) return true;
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_609() {
+  private boolean jj_3R_613() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_706()) {
+    if (jj_3R_710()) {
     jj_scanpos = xsp;
-    if (jj_3R_707()) return true;
+    if (jj_3R_711()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_706() {
+  private boolean jj_3R_710() {
     if (jj_scan_token(RETURN)) return true;
     return false;
   }
 
-  private boolean jj_3R_459() {
+  private boolean jj_3R_463() {
     if (jj_scan_token(TIMEOUT)) return true;
     if (jj_3R_64()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_609()) jj_scanpos = xsp;
+    if (jj_3R_613()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_592() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_596() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_591() {
+  private boolean jj_3R_595() {
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_851() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_855() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_850() {
+  private boolean jj_3R_854() {
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_447() {
+  private boolean jj_3R_451() {
     if (jj_scan_token(BATCH)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_591()) {
+    if (jj_3R_595()) {
     jj_scanpos = xsp;
-    if (jj_3R_592()) return true;
+    if (jj_3R_596()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_849() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_853() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_848() {
+  private boolean jj_3R_852() {
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_721() {
+  private boolean jj_3R_725() {
     if (jj_scan_token(OFFSET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_850()) {
+    if (jj_3R_854()) {
     jj_scanpos = xsp;
-    if (jj_3R_851()) return true;
+    if (jj_3R_855()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_915() {
+  private boolean jj_3R_919() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_720() {
+  private boolean jj_3R_724() {
     if (jj_scan_token(SKIP2)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_848()) {
+    if (jj_3R_852()) {
     jj_scanpos = xsp;
-    if (jj_3R_849()) return true;
+    if (jj_3R_853()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_630() {
+  private boolean jj_3R_634() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_720()) {
+    if (jj_3R_724()) {
     jj_scanpos = xsp;
-    if (jj_3R_721()) return true;
+    if (jj_3R_725()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_608() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_612() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_607() {
+  private boolean jj_3R_611() {
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_912() {
+  private boolean jj_3R_916() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_458() {
+  private boolean jj_3R_462() {
     if (jj_scan_token(LIMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_607()) {
+    if (jj_3R_611()) {
     jj_scanpos = xsp;
-    if (jj_3R_608()) return true;
+    if (jj_3R_612()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_629() {
+  private boolean jj_3R_633() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_625() {
+  private boolean jj_3R_629() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_508() {
+  private boolean jj_3R_512() {
     if (jj_scan_token(UNWIND)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_629()) { jj_scanpos = xsp; break; }
+      if (jj_3R_633()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_913() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_917() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_846() {
+  private boolean jj_3R_850() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_845() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_849() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_847() {
+  private boolean jj_3R_851() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_914()) {
+    if (jj_3R_918()) {
     jj_scanpos = xsp;
-    if (jj_3R_915()) return true;
+    if (jj_3R_919()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_914() {
+  private boolean jj_3R_918() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_839() {
+  private boolean jj_3R_843() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_844() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_848() {
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_913()) jj_scanpos = xsp;
+    if (jj_3R_917()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_506() {
+  private boolean jj_3R_510() {
     if (jj_scan_token(GROUP)) return true;
     if (jj_scan_token(BY)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_625()) { jj_scanpos = xsp; break; }
+      if (jj_3R_629()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_910() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_914() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_842() {
+  private boolean jj_3R_846() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_841() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_845() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_843() {
+  private boolean jj_3R_847() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_911()) {
+    if (jj_3R_915()) {
     jj_scanpos = xsp;
-    if (jj_3R_912()) return true;
+    if (jj_3R_916()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_911() {
+  private boolean jj_3R_915() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_836() {
+  private boolean jj_3R_840() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_719() {
+  private boolean jj_3R_723() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_844()) {
+    if (jj_3R_848()) {
     jj_scanpos = xsp;
-    if (jj_3R_845()) {
+    if (jj_3R_849()) {
     jj_scanpos = xsp;
-    if (jj_3R_846()) return true;
+    if (jj_3R_850()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_847()) jj_scanpos = xsp;
+    if (jj_3R_851()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_840() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_844() {
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_910()) jj_scanpos = xsp;
+    if (jj_3R_914()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_718() {
+  private boolean jj_3R_722() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_840()) {
+    if (jj_3R_844()) {
     jj_scanpos = xsp;
-    if (jj_3R_841()) {
+    if (jj_3R_845()) {
     jj_scanpos = xsp;
-    if (jj_3R_842()) return true;
+    if (jj_3R_846()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_843()) jj_scanpos = xsp;
+    if (jj_3R_847()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_837() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_841() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_628() {
+  private boolean jj_3R_632() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_718()) {
+    if (jj_3R_722()) {
     jj_scanpos = xsp;
-    if (jj_3R_719()) return true;
+    if (jj_3R_723()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_716() {
+  private boolean jj_3R_720() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_715() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_719() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_717() {
+  private boolean jj_3R_721() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_838()) {
+    if (jj_3R_842()) {
     jj_scanpos = xsp;
-    if (jj_3R_839()) return true;
+    if (jj_3R_843()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_838() {
+  private boolean jj_3R_842() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_714() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_718() {
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_837()) jj_scanpos = xsp;
+    if (jj_3R_841()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_834() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_838() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_712() {
+  private boolean jj_3R_716() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_711() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_715() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_713() {
+  private boolean jj_3R_717() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_835()) {
+    if (jj_3R_839()) {
     jj_scanpos = xsp;
-    if (jj_3R_836()) return true;
+    if (jj_3R_840()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_835() {
+  private boolean jj_3R_839() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_627() {
+  private boolean jj_3R_631() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_714()) {
+    if (jj_3R_718()) {
     jj_scanpos = xsp;
-    if (jj_3R_715()) {
+    if (jj_3R_719()) {
     jj_scanpos = xsp;
-    if (jj_3R_716()) return true;
+    if (jj_3R_720()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_717()) jj_scanpos = xsp;
+    if (jj_3R_721()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_710() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_714() {
+    if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_834()) jj_scanpos = xsp;
+    if (jj_3R_838()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_626() {
+  private boolean jj_3R_630() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_710()) {
+    if (jj_3R_714()) {
     jj_scanpos = xsp;
-    if (jj_3R_711()) {
+    if (jj_3R_715()) {
     jj_scanpos = xsp;
-    if (jj_3R_712()) return true;
+    if (jj_3R_716()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_713()) jj_scanpos = xsp;
+    if (jj_3R_717()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_507() {
+  private boolean jj_3R_511() {
     if (jj_scan_token(ORDER)) return true;
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_626()) {
+    if (jj_3R_630()) {
     jj_scanpos = xsp;
-    if (jj_3R_627()) return true;
+    if (jj_3R_631()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_628()) { jj_scanpos = xsp; break; }
+      if (jj_3R_632()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_421() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_425() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_420() {
+  private boolean jj_3R_424() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_419() {
-    if (jj_3R_574()) return true;
+  private boolean jj_3R_423() {
+    if (jj_3R_578()) return true;
     return false;
   }
 
-  private boolean jj_3_134() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3_135() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_200() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_202() {
+    if (jj_3R_143()) return true;
     if (jj_scan_token(MATCHES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_419()) {
+    if (jj_3R_423()) {
     jj_scanpos = xsp;
-    if (jj_3R_420()) {
+    if (jj_3R_424()) {
     jj_scanpos = xsp;
-    if (jj_3R_421()) return true;
+    if (jj_3R_425()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_418() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_422() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_199() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_201() {
+    if (jj_3R_143()) return true;
     if (jj_scan_token(CONTAINSTEXT)) return true;
-    if (jj_3R_141()) return true;
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3_133() {
+  private boolean jj_3_134() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_164()) return true;
+    if (jj_3R_166()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_132() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3_133() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_417() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_421() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_198() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_200() {
+    if (jj_3R_143()) return true;
     if (jj_scan_token(CONTAINSANY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_133()) {
+    if (jj_3_134()) {
     jj_scanpos = xsp;
-    if (jj_3R_418()) return true;
+    if (jj_3R_422()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_131() {
+  private boolean jj_3_132() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_164()) return true;
+    if (jj_3R_166()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_128() {
-    if (jj_3R_139()) return true;
+  private boolean jj_3_129() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_197() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_199() {
+    if (jj_3R_143()) return true;
     if (jj_scan_token(CONTAINSALL)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_131()) {
+    if (jj_3_132()) {
     jj_scanpos = xsp;
-    if (jj_3R_417()) return true;
+    if (jj_3R_421()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_412() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_416() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_206() {
-    if (jj_3R_345()) return true;
+  private boolean jj_3R_208() {
+    if (jj_3R_349()) return true;
     return false;
   }
 
-  private boolean jj_3_130() {
+  private boolean jj_3_131() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_156()) return true;
+    if (jj_3R_158()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_205() {
-    if (jj_3R_139()) return true;
+  private boolean jj_3R_207() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3_129() {
+  private boolean jj_3_130() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_205()) {
+    if (jj_3R_207()) {
     jj_scanpos = xsp;
-    if (jj_3R_206()) return true;
+    if (jj_3R_208()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_125() {
-    if (jj_3R_139()) return true;
+  private boolean jj_3_126() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_192() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_194() {
+    if (jj_3R_143()) return true;
     if (jj_scan_token(NOT)) return true;
-    if (jj_3R_410()) return true;
+    if (jj_3R_414()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_129()) {
-    jj_scanpos = xsp;
     if (jj_3_130()) {
     jj_scanpos = xsp;
-    if (jj_3R_412()) return true;
+    if (jj_3_131()) {
+    jj_scanpos = xsp;
+    if (jj_3R_416()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_204() {
-    if (jj_3R_345()) return true;
+  private boolean jj_3R_206() {
+    if (jj_3R_349()) return true;
     return false;
   }
 
-  private boolean jj_3_127() {
+  private boolean jj_3_128() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_156()) return true;
+    if (jj_3R_158()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_411() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_415() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_203() {
-    if (jj_3R_139()) return true;
+  private boolean jj_3R_205() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3_126() {
+  private boolean jj_3_127() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_203()) {
+    if (jj_3R_205()) {
     jj_scanpos = xsp;
-    if (jj_3R_204()) return true;
+    if (jj_3R_206()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_124() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3_125() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_191() {
-    if (jj_3R_141()) return true;
-    if (jj_3R_410()) return true;
+  private boolean jj_3R_193() {
+    if (jj_3R_143()) return true;
+    if (jj_3R_414()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_126()) {
-    jj_scanpos = xsp;
     if (jj_3_127()) {
     jj_scanpos = xsp;
-    if (jj_3R_411()) return true;
+    if (jj_3_128()) {
+    jj_scanpos = xsp;
+    if (jj_3R_415()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_410() {
+  private boolean jj_3R_414() {
     if (jj_scan_token(IN)) return true;
     return false;
   }
 
-  private boolean jj_3R_414() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_418() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3_123() {
+  private boolean jj_3_124() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_164()) return true;
+    if (jj_3R_166()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_195() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_197() {
+    if (jj_3R_143()) return true;
     if (jj_scan_token(CONTAINS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_123()) {
+    if (jj_3_124()) {
     jj_scanpos = xsp;
-    if (jj_3R_414()) return true;
+    if (jj_3R_418()) return true;
     }
     return false;
   }
 
+  private boolean jj_3R_191() {
+    if (jj_3R_143()) return true;
+    if (jj_scan_token(IS)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(DEFINED)) return true;
+    return false;
+  }
+
   /** Generated Token Manager. */
   public OrientSqlTokenManager token_source;
   /** Current token. */
@@ -29678,7 +29956,7 @@ Token token;
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
   private int jj_gen;
-  final private int[] jj_la1 = new int[407];
+  final private int[] jj_la1 = new int[408];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -29700,33 +29978,33 @@ Token token;
       jj_la1_init_8();
    }
    private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x0,0x0,0x9f800,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x3800,0x4000,0x0,0x0,0x0,0x0,0x0,0x3800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x200000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x400000,0x800000,0x0,0x0,0x800000,0x0,0x0,0x800000,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x20000000,0x0,0x0,0xf0000000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x200000,0x800,0x800,0x800,0x200800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0000000,0x0,0x0,0xfc400000,0x100000,0x10000000,0x0,0x0,0x0,0x0,0xfc600000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc404000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x800,0xfc400000,0x800,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0xfc400000,0x0,0x0,0x1800000,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x98000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0xfc400000,0x9f800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x9f800,0x0,};
+      jj_la1_0 = new int[] {0x0,0x0,0x9f800,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x3800,0x4000,0x0,0x0,0x0,0x0,0x0,0x3800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x200000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x400000,0x800000,0x0,0x0,0x800000,0x0,0x0,0x800000,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x20000000,0x0,0x0,0xf0000000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x200000,0x800,0x800,0x800,0x200800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0000000,0x0,0x0,0xfc400000,0x100000,0x10000000,0x0,0x0,0x0,0x0,0xfc600000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc404000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x800,0xfc400000,0x800,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0xfc400000,0x0,0x0,0x1800000,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x98000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0xfc400000,0x9f800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x9f800,0x0,};
    }
    private static void jj_la1_init_1() {
-      jj_la1_1 = new int[] {0x0,0x0,0x4080000,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x4000000,0x0,0x4000000,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x40000000,0x10000000,0x88021a3,0x4000000,0x0,0x100,0x80,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x40000000,0x10000000,0x0,0x8802183,0x0,0x0,0x400,0x0,0x80000000,0x0,0x0,0x0,0x10000,0x0,0x0,0x10000,0x100,0x80,0x0,0x2800,0x400,0x80000,0x0,0x400,0x20000000,0x0,0x80000,0x0,0x400,0x1000,0x0,0x0,0x0,0x1000,0x8802183,0x0,0x0,0x400,0x1000,0x0,0x400,0x1000,0x0,0x400,0x1000,0x8802183,0x0,0x400,0x1000,0x7,0x0,0x300000,0x88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x7,0x0,0x300000,0x88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x0,0x0,0x1,0x4,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x8802183,0x80000,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x80000,0x0,0x7,0x1000,0x0,0x8802183,0x0,0x1,0x2000000,0x1000000,0x1000,0x0,0x8802d83,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x88021a3,0x0,0x10000,0x0,0x0,0x0,0x8802183,0x0,0x88021a3,0x0,0x88021a3,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0x88021a3,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x10,0x8,0x88021a3,0x0,0x0,0x0,0x0,0x0,0x8802183,0x0,0x88021a3,0x0,0x88021a3,0x0,0x88021a3,0x0,0x0,0x8802183,0x0,0x8802183,0x0,0x0,0x8802183,0x28000,0x28000,0x0,0x8802183,0x28000,0x28000,0x8802183,0x0,0x0,0x8802183,0x28000,0x28000,0x0,0x8802183,0x28000,0x28000,0x8802183,0x0,0x0,0x0,0x0,0x0,0x2800,0x0,0x80000,0x80000,0x0,0x88021a3,0x8802183,0x0,0x0,0x0,0x0,0x0,0x8802183,0x8802183,0x0,0x8802183,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x8802183,0x0,0x0,0x10000,0x8802183,0x0,0x8802183,0x0,0x8802183,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x20000000,0x8802183,0x20000000,0x0,0x0,0x0,0x0,0x8802183,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x88021a3,0x0,0x0,0x88021a3,0x0,0x88021a3,0x0,0x8802183,0x8802183,0x0,0x8802183,0x88021a3,0x88021a3,0x8802183,0x0,0x20000000,0x0,0x20000000,0x8802183,0x0,0x0,0x20000000,0x8802183,0x0,0x0,0x0,0x8802183,0x0,0x200,0x0,0x0,0x8802183,0x0,0x200,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x8802183,0x8802183,0x8802183,0x0,0x0,0x0,0x0,0x0,0x8802183,0x0,0x8802183,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8802183,0x0,0x8802183,0x8802183,0x0,0x0,0x2000000,0x88021a3,0x4080000,0x0,0x0,0x0,0x4,0x8000000,0x0,0x4,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4080000,0x0,};
+      jj_la1_1 = new int[] {0x0,0x0,0x4080000,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x4000000,0x0,0x4000000,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x40000000,0x10000000,0x88021a3,0x4000000,0x0,0x100,0x80,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x40000000,0x10000000,0x0,0x8802183,0x0,0x0,0x400,0x0,0x80000000,0x0,0x0,0x0,0x10000,0x0,0x0,0x10000,0x100,0x80,0x0,0x2800,0x400,0x80000,0x0,0x400,0x20000000,0x0,0x80000,0x0,0x400,0x1000,0x0,0x0,0x0,0x1000,0x8802183,0x0,0x0,0x400,0x1000,0x0,0x400,0x1000,0x0,0x400,0x1000,0x8802183,0x0,0x400,0x1000,0x7,0x0,0x300000,0x88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x7,0x0,0x300000,0x88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x0,0x0,0x1,0x4,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x8802183,0x80000,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x80000,0x0,0x7,0x1000,0x0,0x8802183,0x0,0x1,0x2000000,0x1000000,0x1000,0x0,0x8802d83,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x88021a3,0x0,0x10000,0x0,0x0,0x0,0x8802183,0x0,0x88021a3,0x0,0x88021a3,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0x88021a3,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x10,0x8,0x88021a3,0x0,0x0,0x0,0x0,0x0,0x8802183,0x0,0x88021a3,0x0,0x88021a3,0x0,0x88021a3,0x0,0x0,0x8802183,0x0,0x8802183,0x0,0x0,0x8802183,0x28000,0x28000,0x0,0x8802183,0x28000,0x28000,0x8802183,0x0,0x0,0x8802183,0x28000,0x28000,0x0,0x8802183,0x28000,0x28000,0x8802183,0x0,0x0,0x0,0x0,0x0,0x2800,0x0,0x80000,0x80000,0x0,0x88021a3,0x8802183,0x0,0x0,0x0,0x0,0x0,0x8802183,0x8802183,0x0,0x8802183,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x8802183,0x0,0x0,0x10000,0x8802183,0x0,0x8802183,0x0,0x8802183,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x20000000,0x8802183,0x20000000,0x8802183,0x0,0x0,0x0,0x0,0x8802183,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x88021a3,0x0,0x0,0x88021a3,0x0,0x88021a3,0x0,0x8802183,0x8802183,0x0,0x8802183,0x88021a3,0x88021a3,0x8802183,0x0,0x20000000,0x0,0x20000000,0x8802183,0x0,0x0,0x20000000,0x8802183,0x0,0x0,0x0,0x8802183,0x0,0x200,0x0,0x0,0x8802183,0x0,0x200,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x8802183,0x8802183,0x8802183,0x0,0x0,0x0,0x0,0x0,0x8802183,0x0,0x8802183,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8802183,0x0,0x8802183,0x8802183,0x0,0x0,0x2000000,0x88021a3,0x4080000,0x0,0x0,0x0,0x4,0x8000000,0x0,0x4,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4080000,0x0,};
    }
    private static void jj_la1_init_2() {
-      jj_la1_2 = new int[] {0x0,0x0,0x10a2000,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x40,0x0,0x0,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x1c,0x0,0x0,0x1c,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x1c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x1000,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x540,0xfffbff9c,0x0,0x0,0x540,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x18000,0x40000,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x200000,0x0,0x0,0x400000,0x800000,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0xfffbff9c,0xfffbff9c,0xfe800a00,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0xfffbff9c,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x10a2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10a2000,0x0,};
+      jj_la1_2 = new int[] {0x0,0x0,0x10a2000,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x40,0x0,0x0,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x1c,0x0,0x0,0x1c,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x1c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x1000,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x540,0xfffbff9c,0x0,0x0,0x540,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x18000,0x40000,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x200000,0x0,0x0,0x400000,0x800000,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0xfffbff9c,0xfffbff9c,0xfe800a00,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0xfffbff9c,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x10a2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10a2000,0x0,};
    }
    private static void jj_la1_init_3() {
-      jj_la1_3 = new int[] {0x0,0x0,0xf00e2408,0x80000000,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0xf00c2000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0x7,0x0,0x80000000,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x80000000,0x20,0x80000000,0xffffffff,0x0,0x0,0x100,0x0,0xffffffff,0x0,0x0,0x100,0xffffffff,0xffffffff,0x0,0x40,0xffffffff,0xffffffff,0x0,0x40,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0x80000000,0x0,0x80000000,0x800,0x0,0xffffffff,0x80000000,0xffffffff,0x0,0xffffffff,0xffffffff,0x10000,0xf00000,0xffffffff,0x0,0x0,0x0,0x2000000,0x0,0x4000000,0x8000000,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0xffffffff,0xf00e2408,0x80000000,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0xf00e2408,0x80000000,};
+      jj_la1_3 = new int[] {0x0,0x0,0xe01c6408,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0xe0182000,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0x7,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x20,0x0,0xffffffff,0x0,0x0,0x100,0x0,0xffffffff,0x0,0x0,0x100,0xffffffff,0xffffffff,0x0,0x40,0xffffffff,0xffffffff,0x0,0x40,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x0,0x800,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x20000,0x1e00000,0xffffffff,0x0,0x0,0x0,0x4000000,0x0,0x8000000,0x10000000,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0xffffffff,0xe01c6408,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe01c6408,0x0,};
    }
    private static void jj_la1_init_4() {
-      jj_la1_4 = new int[] {0x18000000,0x0,0x30806,0x10000,0x10000000,0x1fefbff,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30,0x0,0x0,0x0,0x17feffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30,0x0,0x0,0x0,0x0,0x7feffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1fefbff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1fefbff,0x0,0x0,0x0,0x0,0x0,0x0,0x17feffff,0x0,0x0,0x30,0x0,0x0,0x0,0x0,0x0,0x200,0x17feffff,0x0,0x0,0x30,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1fefbff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1fefbff,0x0,0x0,0x0,0x0,0x0,0x0,0x1fefbff,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x17feffff,0x0,0x0,0x0,0x0,0x0,0x1feffff,0x0,0x17feffff,0x0,0x17feffff,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x17feffff,0x10000000,0x17feffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1fefbff,0x0,0x0,0x1fefbff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x17feffff,0x0,0x0,0x0,0x0,0x0,0x11fefbff,0x0,0x17feffff,0x0,0x17feffff,0x0,0x17feffff,0x0,0x0,0x17feffff,0x0,0x17feffff,0x10000000,0x0,0x5fefbff,0x0,0x0,0x0,0x5fefbff,0x0,0x0,0x5fefbff,0x0,0x0,0x5fefbff,0x0,0x0,0x0,0x5fefbff,0x0,0x0,0x5fefbff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x17feffff,0x1fefbff,0x0,0x0,0x0,0x0,0x0,0x1fefbff,0x15fefbff,0x0,0x15fefbff,0x15fefbff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8c0100,0x1fefbff,0x0,0x0,0x8c0100,0x1fefbff,0x0,0x1fefbff,0x0,0x1fefbff,0x0,0x1fefbff,0x0,0x0,0x1fefbff,0x0,0x0,0x1fefbff,0x0,0x0,0x0,0x0,0x0,0x1fefbff,0x0,0x0,0x0,0x0,0x0,0x1fefbff,0x0,0x1fefbff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1fefbff,0x0,0x0,0x1fefbff,0x0,0x1fefbff,0x0,0x1fefbff,0x1fefbff,0x0,0x11fefbff,0x1fefbff,0x1fefbff,0x1fefbff,0x1000000,0x0,0x0,0x0,0x1fefbff,0x0,0x0,0x0,0x1fefbff,0x0,0x0,0x0,0x5fefbff,0x0,0x0,0x0,0x0,0x5fefbff,0x0,0x0,0x0,0x1fefbff,0x1fefbff,0x0,0x0,0x1fefbff,0x1fefbff,0x0,0x0,0x1fefbff,0x1fefbff,0x1fefbff,0x1fefbff,0x0,0x8,0x0,0x0,0x0,0x1fefbff,0x0,0x1fefbff,0x0,0x5fefbff,0x5fefbff,0x0,0x0,0x1fefbff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x11fefbff,0x0,0x1fefbff,0x1fefbff,0x200000,0x1,0x0,0x17feffff,0x20806,0x0,0x0,0x80,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30806,0x10000,};
+      jj_la1_4 = new int[] {0x30000000,0x0,0x6100d,0x20001,0x20000000,0x3fdf7ff,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0xd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x60,0x0,0x0,0x0,0x2ffdffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x60,0x0,0x0,0x0,0x0,0xffdffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3fdf7ff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3fdf7ff,0x0,0x0,0x0,0x0,0x0,0x0,0x2ffdffff,0x0,0x0,0x60,0x0,0x0,0x0,0x0,0x0,0x400,0x2ffdffff,0x0,0x0,0x60,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3fdf7ff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3fdf7ff,0x0,0x0,0x0,0x0,0x0,0x0,0x3fdf7ff,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x2ffdffff,0x0,0x0,0x0,0x0,0x0,0x3fdffff,0x0,0x2ffdffff,0x0,0x2ffdffff,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2ffdffff,0x20000000,0x2ffdffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3fdf7ff,0x0,0x0,0x3fdf7ff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2ffdffff,0x0,0x0,0x0,0x0,0x0,0x23fdf7ff,0x0,0x2ffdffff,0x0,0x2ffdffff,0x0,0x2ffdffff,0x0,0x0,0x2ffdffff,0x0,0x2ffdffff,0x20000000,0x0,0xbfdf7ff,0x0,0x0,0x0,0xbfdf7ff,0x0,0x0,0xbfdf7ff,0x0,0x0,0xbfdf7ff,0x0,0x0,0x0,0xbfdf7ff,0x0,0x0,0xbfdf7ff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2ffdffff,0x3fdf7ff,0x0,0x0,0x0,0x0,0x0,0x3fdf7ff,0x2bfdf7ff,0x0,0x2bfdf7ff,0x2bfdf7ff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1180200,0x3fdf7ff,0x0,0x0,0x1180200,0x3fdf7ff,0x0,0x3fdf7ff,0x0,0x3fdf7ff,0x0,0x3fdf7ff,0x0,0x0,0x3fdf7ff,0x0,0x0,0x3fdf7ff,0x0,0x0,0x0,0x0,0x0,0x3fdf7ff,0x0,0x3fdf7ff,0x0,0x0,0x0,0x0,0x3fdf7ff,0x0,0x3fdf7ff,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x3fdf7ff,0x0,0x0,0x3fdf7ff,0x0,0x3fdf7ff,0x0,0x3fdf7ff,0x3fdf7ff,0x0,0x23fdf7ff,0x3fdf7ff,0x3fdf7ff,0x3fdf7ff,0x2000000,0x0,0x1,0x0,0x3fdf7ff,0x0,0x0,0x0,0x3fdf7ff,0x1,0x0,0x1,0xbfdf7ff,0x0,0x0,0x0,0x0,0xbfdf7ff,0x0,0x0,0x0,0x3fdf7ff,0x3fdf7ff,0x0,0x0,0x3fdf7ff,0x3fdf7ff,0x0,0x0,0x3fdf7ff,0x3fdf7ff,0x3fdf7ff,0x3fdf7ff,0x1,0x10,0x1,0x0,0x0,0x3fdf7ff,0x1,0x3fdf7ff,0x0,0xbfdf7ff,0xbfdf7ff,0x0,0x0,0x3fdf7ff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x23fdf7ff,0x0,0x3fdf7ff,0x3fdf7ff,0x400000,0x2,0x0,0x2ffdffff,0x4100d,0x1,0x1,0x100,0x0,0x0,0x100,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x6100d,0x20001,};
    }
    private static void jj_la1_init_5() {
-      jj_la1_5 = new int[] {0x0,0x400000,0x4000000,0x4000000,0x8000,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x15cc220,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x1000000,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x400020,0x1400020,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x15cc220,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x15cc220,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x8000000,0x0,0x0,0x8000000,0x8000000,0x0,0x11000000,0x0,0x11000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x8000000,0x8000000,0x8000000,0x8000000,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x8000000,0x8000000,0x0,0x0,0x0,0x8000000,0x0,0x0,0x15cc220,0x0,0x0,0x8000000,0x0,0x30020,0x0,0x8000000,0x15cc220,0x8000000,0x15cc220,0x0,0x0,0x1000000,0x10000000,0xc0000,0x400000,0x0,0xc0000,0x400000,0x0,0x15cc220,0xc000,0x100c220,0x8000000,0x100000,0x8000000,0x0,0x8000000,0x8000000,0x400020,0x1000000,0x100000,0x0,0x0,0x8000000,0x0,0x0,0x10000000,0x10000000,0x0,0x0,0x0,0x0,0x15cc220,0xc0000,0x0,0x0,0x0,0x0,0xc000,0x8000000,0x15cc220,0x8000000,0x15cc220,0x8000000,0x15cc220,0x0,0x0,0x110c220,0x0,0x110c220,0xc000,0x11000000,0x400020,0x0,0x0,0x11000000,0x400020,0x0,0x0,0x500020,0x8000000,0x11000000,0x400020,0x0,0x0,0x11000000,0x400020,0x0,0x0,0x500020,0x8000000,0x8000000,0x20,0x20,0x20,0x0,0x20,0x0,0x0,0x8000000,0x15cc220,0x1000000,0x20,0x1000000,0x0,0x10000000,0x0,0x1000000,0xc000,0x8000000,0xc000,0xc000,0x10000000,0x0,0x400000,0x400000,0x400000,0x0,0x400000,0x8000000,0x0,0x20,0x0,0xc0000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x400000,0x0,0x0,0x400000,0x0,0x0,0x0,0x20,0x0,0x8000000,0x400020,0x1400020,0x500020,0x0,0x8000000,0x0,0x1000000,0x0,0x8000000,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0xc0000,0x20,0x20,0xc0000,0x8000,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x8000000,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x10000000,0x8000000,0x0,0xc0000,0x0,0x0,0x8000,0x8000000,0x0,0x1000000,0x0,0x0,0x0,0x15cc220,0x4000000,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x4000000,};
+      jj_la1_5 = new int[] {0x0,0x800000,0x8000000,0x8000000,0x10000,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2b98440,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x2000000,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x800040,0x2800040,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2b98440,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2b98440,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x10000000,0x0,0x0,0x10000000,0x10000000,0x0,0x22000000,0x0,0x22000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x10000000,0x10000000,0x10000000,0x10000000,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x10000000,0x10000000,0x0,0x0,0x0,0x10000000,0x0,0x0,0x2b98440,0x0,0x0,0x10000000,0x0,0x60040,0x0,0x10000000,0x2b98440,0x10000000,0x2b98440,0x0,0x0,0x2000000,0x20000000,0x180000,0x800000,0x0,0x180000,0x800000,0x0,0x2b98440,0x18000,0x2018440,0x10000000,0x200000,0x10000000,0x0,0x10000000,0x10000000,0x800040,0x2000000,0x200000,0x0,0x0,0x10000000,0x0,0x0,0x20000000,0x20000000,0x0,0x0,0x0,0x0,0x2b98440,0x180000,0x0,0x0,0x0,0x0,0x18000,0x10000000,0x2b98440,0x10000000,0x2b98440,0x10000000,0x2b98440,0x0,0x0,0x2218440,0x0,0x2218440,0x18000,0x22000000,0x800040,0x0,0x0,0x22000000,0x800040,0x0,0x0,0xa00040,0x10000000,0x22000000,0x800040,0x0,0x0,0x22000000,0x800040,0x0,0x0,0xa00040,0x10000000,0x10000000,0x40,0x40,0x40,0x0,0x40,0x0,0x0,0x10000000,0x2b98440,0x2000000,0x40,0x2000000,0x0,0x20000000,0x0,0x2000000,0x18000,0x10000000,0x18000,0x18000,0x20000000,0x0,0x800000,0x800000,0x800000,0x0,0x800000,0x10000000,0x0,0x40,0x0,0x180000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x800000,0x0,0x0,0x800000,0x0,0x0,0x0,0x40,0x0,0x40,0x10000000,0x800040,0x2800040,0xa00040,0x0,0x10000000,0x0,0x2000000,0x0,0x10000000,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x180000,0x40,0x40,0x180000,0x10000,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x10000000,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x20000000,0x10000000,0x0,0x180000,0x0,0x0,0x10000,0x10000000,0x0,0x2000000,0x0,0x0,0x0,0x2b98440,0x8000000,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x8000000,};
    }
    private static void jj_la1_init_6() {
-      jj_la1_6 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600c0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x80,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600c0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600c0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1e000001,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x10,0x40000,0x600d0,0x80,0x0,0x0,0x0,0xc0,0x0,0x0,0x600c0,0x0,0x600c0,0x0,0x40000,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x1ff0000,0x600c0,0x0,0x600c0,0x0,0x0,0x0,0xc0,0x80,0x80,0x20000,0x0,0xc0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x600c0,0x0,0x2f0f,0x3,0x0,0x2f0f,0x0,0x0,0x600c0,0x0,0x600c0,0x0,0x600c0,0x2f0f,0x0,0x600c0,0x0,0x600c0,0xc0,0x0,0x20000,0x0,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x200c0,0x200c0,0x200c0,0x0,0x200c0,0x0,0x0,0x0,0x600c0,0x40000,0x60000,0x0,0x40000,0x0,0x40000,0x40000,0x0,0x0,0x0,0x0,0x28004,0x4,0x0,0x0,0x0,0x28004,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x28000,0x0,0x28000,0x0,0x28000,0x0,0x28000,0x0,0x0,0x28000,0x0,0x0,0x28000,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x20000,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30000,0x30000,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x40000,0x0,0x0,0x0,0x0,0x40000,0x20000,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600c0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_6 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc0180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x100,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc0180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc0180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3c000002,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x180,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x20,0x80000,0xc01a0,0x100,0x0,0x0,0x0,0x180,0x0,0x0,0xc0180,0x0,0xc0180,0x0,0x80000,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x3fe0000,0xc0180,0x0,0xc0180,0x0,0x0,0x0,0x180,0x100,0x100,0x40000,0x0,0x180,0x0,0x0,0x0,0x0,0x0,0x40000,0x40000,0x0,0x0,0x0,0x0,0xc0180,0x0,0x5e1e,0x6,0x0,0x5e1e,0x0,0x0,0xc0180,0x0,0xc0180,0x0,0xc0180,0x5e1e,0x0,0xc0180,0x0,0xc0180,0x180,0x0,0x40000,0x0,0x0,0x0,0x40000,0x0,0x0,0x40000,0x0,0x0,0x40000,0x0,0x0,0x0,0x40000,0x0,0x0,0x40000,0x0,0x0,0x40180,0x40180,0x40180,0x0,0x40180,0x0,0x0,0x0,0xc0180,0x80000,0xc0000,0x0,0x80000,0x0,0x80000,0x80000,0x0,0x0,0x0,0x0,0x50008,0x8,0x0,0x0,0x0,0x50008,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x50000,0x0,0x50000,0x0,0x50000,0x0,0x50000,0x0,0x0,0x50000,0x0,0x0,0x50000,0x0,0x0,0x0,0x0,0x40000,0x0,0x40000,0x0,0x40000,0x40000,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x60000,0x60000,0x0,0x0,0x0,0x0,0x40000,0x40000,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x80000,0x0,0x0,0x0,0x0,0x80000,0x40000,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc0180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_7() {
-      jj_la1_7 = new int[] {0x0,0x0,0x0,0x0,0x0,0x1900200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1900200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1900200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1900200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1900200,0x0,0x0,0x0,0x0,0x0,0x0,0x1900200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1900200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x61900200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x400000,0x0,0x60000000,0x0,0x0,0x400000,0x1900200,0x0,0x0,0x0,0x0,0x0,0x0,0x1900200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1900200,0x0,0x0,0x0,0xc0,0x0,0x1900200,0x0,0x1900200,0x0,0x1900200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30,0x1900200,0x0,0x1900200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x60400000,0x80000000,0x1900200,0x60000000,0x0,0x1900200,0x0,0x0,0x0,0x1c000000,0x1e000000,0x0,0x0,0x1900300,0x0,0x10400,0x0,0x100,0x10700,0x1900200,0x0,0x1900200,0x0,0x1900200,0x0,0x1900200,0x11400,0x0,0x1900200,0x0,0x1900200,0x0,0x0,0x1900200,0x0,0x0,0x0,0x1900200,0x0,0x0,0x1900200,0x0,0x0,0x1900200,0x0,0x0,0x0,0x1900200,0x0,0x0,0x1900200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1900200,0x1900200,0x0,0x0,0x0,0x0,0x0,0x1900200,0x1900200,0x0,0x1900200,0x1900200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x60400000,0x1900200,0x60000000,0x0,0x60400000,0x1900200,0x0,0x1900200,0x0,0x1900200,0x0,0x1900200,0x0,0x0,0x1900200,0x0,0x0,0x1900200,0x0,0x0,0x0,0x0,0x0,0x1900200,0x0,0x0,0x0,0x0,0x0,0x61900200,0x0,0x61900200,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x1900200,0x0,0x0,0x1900200,0x0,0x1900200,0x0,0x1900200,0x1900200,0x0,0x1900200,0x1900200,0x1900200,0x1900200,0x0,0x0,0x0,0x0,0x1900200,0x0,0x0,0x0,0x1900200,0x0,0x0,0x0,0x1900200,0x100000,0x0,0x0,0x0,0x1900200,0x100000,0x0,0x0,0x1900200,0x1900200,0x0,0x0,0x1900200,0x1900200,0x0,0x0,0x1900200,0x1900200,0x1900200,0x1900200,0x0,0x400000,0x0,0x0,0x0,0x1900200,0x0,0x1900200,0x0,0x1900200,0x1900200,0x0,0x0,0x1d00200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1900200,0x0,0x1900200,0x1900200,0x0,0x0,0x0,0x1900200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_7 = new int[] {0x0,0x0,0x0,0x0,0x0,0x3200400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3200400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3200400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3200400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3200400,0x0,0x0,0x0,0x0,0x0,0x0,0x3200400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3200400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0xc3200400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x800000,0x0,0xc0000000,0x0,0x0,0x800000,0x3200400,0x0,0x0,0x0,0x0,0x0,0x0,0x3200400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3200400,0x0,0x0,0x0,0x180,0x0,0x3200400,0x0,0x3200400,0x0,0x3200400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x60,0x3200400,0x0,0x3200400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc0800000,0x0,0x3200400,0xc0000000,0x0,0x3200400,0x0,0x0,0x0,0x38000000,0x3c000000,0x0,0x0,0x3200600,0x0,0x20800,0x0,0x200,0x20e00,0x3200400,0x0,0x3200400,0x0,0x3200400,0x0,0x3200400,0x22800,0x0,0x3200400,0x0,0x3200400,0x0,0x0,0x3200400,0x0,0x0,0x0,0x3200400,0x0,0x0,0x3200400,0x0,0x0,0x3200400,0x0,0x0,0x0,0x3200400,0x0,0x0,0x3200400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3200400,0x3200400,0x0,0x0,0x0,0x0,0x0,0x3200400,0x3200400,0x0,0x3200400,0x3200400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc0800000,0x3200400,0xc0000000,0x0,0xc0800000,0x3200400,0x0,0x3200400,0x0,0x3200400,0x0,0x3200400,0x0,0x0,0x3200400,0x0,0x0,0x3200400,0x0,0x0,0x0,0x0,0x0,0x3200400,0x0,0x3200400,0x0,0x0,0x0,0x0,0xc3200400,0x0,0xc3200400,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x3200400,0x0,0x0,0x3200400,0x0,0x3200400,0x0,0x3200400,0x3200400,0x0,0x3200400,0x3200400,0x3200400,0x3200400,0x0,0x0,0x0,0x0,0x3200400,0x0,0x0,0x0,0x3200400,0x0,0x0,0x0,0x3200400,0x200000,0x0,0x0,0x0,0x3200400,0x200000,0x0,0x0,0x3200400,0x3200400,0x0,0x0,0x3200400,0x3200400,0x0,0x0,0x3200400,0x3200400,0x3200400,0x3200400,0x0,0x800000,0x0,0x0,0x0,0x3200400,0x0,0x3200400,0x0,0x3200400,0x3200400,0x0,0x0,0x3a00400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3200400,0x0,0x3200400,0x3200400,0x0,0x0,0x0,0x3200400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_8() {
-      jj_la1_8 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x4,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x4,0x0,0x0,0x4,0x0,0x0,0x4,0x0,0x0,0x0,0x4,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x4,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7e0,0x7e0,0x1800,0x1800,0x6000,0x6000,0x0,0x0,};
+      jj_la1_8 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x1,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x8,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x8,0x0,0x0,0x8,0x0,0x0,0x8,0x0,0x0,0x0,0x8,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x8,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc0,0xfc0,0x3000,0x3000,0xc000,0xc000,0x0,0x0,};
    }
-  final private JJCalls[] jj_2_rtns = new JJCalls[156];
+  final private JJCalls[] jj_2_rtns = new JJCalls[157];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -29736,7 +30014,7 @@ Token token;
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 407; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 408; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -29747,7 +30025,7 @@ Token token;
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 407; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 408; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -29757,7 +30035,7 @@ Token token;
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 407; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 408; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -29768,7 +30046,7 @@ Token token;
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 407; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 408; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -29880,12 +30158,12 @@ Token token;
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[271];
+    boolean[] la1tokens = new boolean[272];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 407; i++) {
+    for (int i = 0; i < 408; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1<<j)) != 0) {
@@ -29918,7 +30196,7 @@ Token token;
         }
       }
     }
-    for (int i = 0; i < 271; i++) {
+    for (int i = 0; i < 272; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -29945,7 +30223,7 @@ Token token;
 
   private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 156; i++) {
+    for (int i = 0; i < 157; i++) {
     try {
       JJCalls p = jj_2_rtns[i];
       do {
@@ -30108,6 +30386,7 @@ Token token;
             case 153: jj_3_154(); break;
             case 154: jj_3_155(); break;
             case 155: jj_3_156(); break;
+            case 156: jj_3_157(); break;
           }
         }
         p = p.next;
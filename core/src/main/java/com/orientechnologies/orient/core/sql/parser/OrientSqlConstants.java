@@ -213,301 +213,303 @@ public interface OrientSqlConstants {
   /** RegularExpression Id. */
   int OPTIMIZE = 109;
   /** RegularExpression Id. */
-  int LINK = 110;
+  int COMPACT = 110;
   /** RegularExpression Id. */
-  int TYPE = 111;
+  int LINK = 111;
   /** RegularExpression Id. */
-  int INVERSE = 112;
+  int TYPE = 112;
   /** RegularExpression Id. */
-  int EXPLAIN = 113;
+  int INVERSE = 113;
   /** RegularExpression Id. */
-  int GRANT = 114;
+  int EXPLAIN = 114;
   /** RegularExpression Id. */
-  int REVOKE = 115;
+  int GRANT = 115;
   /** RegularExpression Id. */
-  int READ = 116;
+  int REVOKE = 116;
   /** RegularExpression Id. */
-  int EXECUTE = 117;
+  int READ = 117;
   /** RegularExpression Id. */
-  int ALL = 118;
+  int EXECUTE = 118;
   /** RegularExpression Id. */
-  int NONE = 119;
+  int ALL = 119;
   /** RegularExpression Id. */
-  int FUNCTION = 120;
+  int NONE = 120;
   /** RegularExpression Id. */
-  int PARAMETERS = 121;
+  int FUNCTION = 121;
   /** RegularExpression Id. */
-  int IDEMPOTENT = 122;
+  int PARAMETERS = 122;
   /** RegularExpression Id. */
-  int LANGUAGE = 123;
+  int IDEMPOTENT = 123;
   /** RegularExpression Id. */
-  int BEGIN = 124;
+  int LANGUAGE = 124;
   /** RegularExpression Id. */
-  int COMMIT = 125;
+  int BEGIN = 125;
   /** RegularExpression Id. */
-  int ROLLBACK = 126;
+  int COMMIT = 126;
   /** RegularExpression Id. */
-  int IF = 127;
+  int ROLLBACK = 127;
   /** RegularExpression Id. */
-  int ISOLATION = 128;
+  int IF = 128;
   /** RegularExpression Id. */
-  int SLEEP = 129;
+  int ISOLATION = 129;
   /** RegularExpression Id. */
-  int CONSOLE = 130;
+  int SLEEP = 130;
   /** RegularExpression Id. */
-  int BLOB = 131;
+  int CONSOLE = 131;
   /** RegularExpression Id. */
-  int SHARED = 132;
+  int BLOB = 132;
   /** RegularExpression Id. */
-  int DEFAULT_ = 133;
+  int SHARED = 133;
   /** RegularExpression Id. */
-  int SEQUENCE = 134;
+  int DEFAULT_ = 134;
   /** RegularExpression Id. */
-  int START = 135;
+  int SEQUENCE = 135;
   /** RegularExpression Id. */
-  int OPTIONAL = 136;
+  int START = 136;
   /** RegularExpression Id. */
-  int COUNT = 137;
+  int OPTIONAL = 137;
   /** RegularExpression Id. */
-  int DISTINCT = 138;
+  int COUNT = 138;
   /** RegularExpression Id. */
-  int HA = 139;
+  int DISTINCT = 139;
   /** RegularExpression Id. */
-  int STATUS = 140;
+  int HA = 140;
   /** RegularExpression Id. */
-  int SERVER = 141;
+  int STATUS = 141;
   /** RegularExpression Id. */
-  int SYNC = 142;
+  int SERVER = 142;
   /** RegularExpression Id. */
-  int EXISTS = 143;
+  int SYNC = 143;
   /** RegularExpression Id. */
-  int FOREACH = 144;
+  int EXISTS = 144;
   /** RegularExpression Id. */
-  int MOVE = 145;
+  int FOREACH = 145;
   /** RegularExpression Id. */
-  int DEPTH_ALIAS = 146;
+  int MOVE = 146;
   /** RegularExpression Id. */
-  int PATH_ALIAS = 147;
+  int DEPTH_ALIAS = 147;
   /** RegularExpression Id. */
-  int IDENTIFIED = 148;
+  int PATH_ALIAS = 148;
   /** RegularExpression Id. */
-  int ROLE = 149;
+  int IDENTIFIED = 149;
   /** RegularExpression Id. */
-  int USER = 150;
+  int ROLE = 150;
   /** RegularExpression Id. */
-  int RID = 151;
+  int USER = 151;
   /** RegularExpression Id. */
-  int DEFAULTCLUSTER = 152;
+  int RID = 152;
   /** RegularExpression Id. */
-  int THIS = 153;
+  int DEFAULTCLUSTER = 153;
   /** RegularExpression Id. */
-  int RECORD_ATTRIBUTE = 154;
+  int THIS = 154;
   /** RegularExpression Id. */
-  int RID_ATTR = 155;
+  int RECORD_ATTRIBUTE = 155;
   /** RegularExpression Id. */
-  int RID_STRING = 156;
+  int RID_ATTR = 156;
   /** RegularExpression Id. */
-  int CLASS_ATTR = 157;
+  int RID_STRING = 157;
   /** RegularExpression Id. */
-  int VERSION_ATTR = 158;
+  int CLASS_ATTR = 158;
   /** RegularExpression Id. */
-  int SIZE_ATTR = 159;
+  int VERSION_ATTR = 159;
   /** RegularExpression Id. */
-  int TYPE_ATTR = 160;
+  int SIZE_ATTR = 160;
   /** RegularExpression Id. */
-  int RAW_ATTR = 161;
+  int TYPE_ATTR = 161;
   /** RegularExpression Id. */
-  int RID_ID_ATTR = 162;
+  int RAW_ATTR = 162;
   /** RegularExpression Id. */
-  int RID_POS_ATTR = 163;
+  int RID_ID_ATTR = 163;
   /** RegularExpression Id. */
-  int FIELDS_ATTR = 164;
+  int RID_POS_ATTR = 164;
   /** RegularExpression Id. */
-  int INTEGER_LITERAL = 165;
+  int FIELDS_ATTR = 165;
   /** RegularExpression Id. */
-  int DECIMAL_LITERAL = 166;
+  int INTEGER_LITERAL = 166;
   /** RegularExpression Id. */
-  int HEX_LITERAL = 167;
+  int DECIMAL_LITERAL = 167;
   /** RegularExpression Id. */
-  int OCTAL_LITERAL = 168;
+  int HEX_LITERAL = 168;
   /** RegularExpression Id. */
-  int FLOATING_POINT_LITERAL = 169;
+  int OCTAL_LITERAL = 169;
   /** RegularExpression Id. */
-  int DECIMAL_FLOATING_POINT_LITERAL = 170;
+  int FLOATING_POINT_LITERAL = 170;
   /** RegularExpression Id. */
-  int DECIMAL_EXPONENT = 171;
+  int DECIMAL_FLOATING_POINT_LITERAL = 171;
   /** RegularExpression Id. */
-  int HEXADECIMAL_FLOATING_POINT_LITERAL = 172;
+  int DECIMAL_EXPONENT = 172;
   /** RegularExpression Id. */
-  int HEXADECIMAL_EXPONENT = 173;
+  int HEXADECIMAL_FLOATING_POINT_LITERAL = 173;
   /** RegularExpression Id. */
-  int CHARACTER_LITERAL = 174;
+  int HEXADECIMAL_EXPONENT = 174;
   /** RegularExpression Id. */
-  int STRING_LITERAL = 175;
+  int CHARACTER_LITERAL = 175;
   /** RegularExpression Id. */
-  int INTEGER_RANGE = 176;
+  int STRING_LITERAL = 176;
   /** RegularExpression Id. */
-  int ELLIPSIS_INTEGER_RANGE = 177;
+  int INTEGER_RANGE = 177;
   /** RegularExpression Id. */
-  int TRUE = 178;
+  int ELLIPSIS_INTEGER_RANGE = 178;
   /** RegularExpression Id. */
-  int FALSE = 179;
+  int TRUE = 179;
   /** RegularExpression Id. */
-  int LPAREN = 180;
+  int FALSE = 180;
   /** RegularExpression Id. */
-  int RPAREN = 181;
+  int LPAREN = 181;
   /** RegularExpression Id. */
-  int LBRACE = 182;
+  int RPAREN = 182;
   /** RegularExpression Id. */
-  int RBRACE = 183;
+  int LBRACE = 183;
   /** RegularExpression Id. */
-  int LBRACKET = 184;
+  int RBRACE = 184;
   /** RegularExpression Id. */
-  int RBRACKET = 185;
+  int LBRACKET = 185;
   /** RegularExpression Id. */
-  int SEMICOLON = 186;
+  int RBRACKET = 186;
   /** RegularExpression Id. */
-  int COMMA = 187;
+  int SEMICOLON = 187;
   /** RegularExpression Id. */
-  int DOT = 188;
+  int COMMA = 188;
   /** RegularExpression Id. */
-  int AT = 189;
+  int DOT = 189;
   /** RegularExpression Id. */
-  int DOLLAR = 190;
+  int AT = 190;
   /** RegularExpression Id. */
-  int BACKTICK = 191;
+  int DOLLAR = 191;
   /** RegularExpression Id. */
-  int EQ = 192;
+  int BACKTICK = 192;
   /** RegularExpression Id. */
-  int EQEQ = 193;
+  int EQ = 193;
   /** RegularExpression Id. */
-  int LT = 194;
+  int EQEQ = 194;
   /** RegularExpression Id. */
-  int GT = 195;
+  int LT = 195;
   /** RegularExpression Id. */
-  int BANG = 196;
+  int GT = 196;
   /** RegularExpression Id. */
-  int TILDE = 197;
+  int BANG = 197;
   /** RegularExpression Id. */
-  int HOOK = 198;
+  int TILDE = 198;
   /** RegularExpression Id. */
-  int COLON = 199;
+  int HOOK = 199;
   /** RegularExpression Id. */
-  int LE = 200;
+  int COLON = 200;
   /** RegularExpression Id. */
-  int GE = 201;
+  int LE = 201;
   /** RegularExpression Id. */
-  int NE = 202;
+  int GE = 202;
   /** RegularExpression Id. */
-  int NEQ = 203;
+  int NE = 203;
   /** RegularExpression Id. */
-  int SC_OR = 204;
+  int NEQ = 204;
   /** RegularExpression Id. */
-  int SC_AND = 205;
+  int SC_OR = 205;
   /** RegularExpression Id. */
-  int INCR = 206;
+  int SC_AND = 206;
   /** RegularExpression Id. */
-  int DECR = 207;
+  int INCR = 207;
   /** RegularExpression Id. */
-  int PLUS = 208;
+  int DECR = 208;
   /** RegularExpression Id. */
-  int MINUS = 209;
+  int PLUS = 209;
   /** RegularExpression Id. */
-  int STAR = 210;
+  int MINUS = 210;
   /** RegularExpression Id. */
-  int SLASH = 211;
+  int STAR = 211;
   /** RegularExpression Id. */
-  int BIT_AND = 212;
+  int SLASH = 212;
   /** RegularExpression Id. */
-  int BIT_OR = 213;
+  int BIT_AND = 213;
   /** RegularExpression Id. */
-  int XOR = 214;
+  int BIT_OR = 214;
   /** RegularExpression Id. */
-  int REM = 215;
+  int XOR = 215;
   /** RegularExpression Id. */
-  int LSHIFT = 216;
+  int REM = 216;
   /** RegularExpression Id. */
-  int PLUSASSIGN = 217;
+  int LSHIFT = 217;
   /** RegularExpression Id. */
-  int MINUSASSIGN = 218;
+  int PLUSASSIGN = 218;
   /** RegularExpression Id. */
-  int STARASSIGN = 219;
+  int MINUSASSIGN = 219;
   /** RegularExpression Id. */
-  int SLASHASSIGN = 220;
+  int STARASSIGN = 220;
   /** RegularExpression Id. */
-  int ANDASSIGN = 221;
+  int SLASHASSIGN = 221;
   /** RegularExpression Id. */
-  int ORASSIGN = 222;
+  int ANDASSIGN = 222;
   /** RegularExpression Id. */
-  int XORASSIGN = 223;
+  int ORASSIGN = 223;
   /** RegularExpression Id. */
-  int REMASSIGN = 224;
+  int XORASSIGN = 224;
   /** RegularExpression Id. */
-  int LSHIFTASSIGN = 225;
+  int REMASSIGN = 225;
   /** RegularExpression Id. */
-  int RSIGNEDSHIFTASSIGN = 226;
+  int LSHIFTASSIGN = 226;
   /** RegularExpression Id. */
-  int RUNSIGNEDSHIFTASSIGN = 227;
+  int RSIGNEDSHIFTASSIGN = 227;
   /** RegularExpression Id. */
-  int RSHIFT = 228;
+  int RUNSIGNEDSHIFTASSIGN = 228;
   /** RegularExpression Id. */
-  int RUNSIGNEDSHIFT = 229;
+  int RSHIFT = 229;
   /** RegularExpression Id. */
-  int ELLIPSIS = 230;
+  int RUNSIGNEDSHIFT = 230;
   /** RegularExpression Id. */
-  int RANGE = 231;
+  int ELLIPSIS = 231;
   /** RegularExpression Id. */
-  int NOT = 232;
+  int RANGE = 232;
   /** RegularExpression Id. */
-  int IN = 233;
+  int NOT = 233;
   /** RegularExpression Id. */
-  int LIKE = 234;
+  int IN = 234;
   /** RegularExpression Id. */
-  int IS = 235;
+  int LIKE = 235;
   /** RegularExpression Id. */
-  int BETWEEN = 236;
+  int IS = 236;
   /** RegularExpression Id. */
-  int CONTAINS = 237;
+  int BETWEEN = 237;
   /** RegularExpression Id. */
-  int CONTAINSALL = 238;
+  int CONTAINS = 238;
   /** RegularExpression Id. */
-  int CONTAINSANY = 239;
+  int CONTAINSALL = 239;
   /** RegularExpression Id. */
-  int CONTAINSKEY = 240;
+  int CONTAINSANY = 240;
   /** RegularExpression Id. */
-  int CONTAINSVALUE = 241;
+  int CONTAINSKEY = 241;
   /** RegularExpression Id. */
-  int CONTAINSTEXT = 242;
+  int CONTAINSVALUE = 242;
   /** RegularExpression Id. */
-  int MATCHES = 243;
+  int CONTAINSTEXT = 243;
   /** RegularExpression Id. */
-  int KEY = 244;
+  int MATCHES = 244;
   /** RegularExpression Id. */
-  int INSTANCEOF = 245;
+  int KEY = 245;
   /** RegularExpression Id. */
-  int CLUSTER = 246;
+  int INSTANCEOF = 246;
   /** RegularExpression Id. */
-  int IDENTIFIER = 247;
+  int CLUSTER = 247;
   /** RegularExpression Id. */
-  int QUOTED_IDENTIFIER = 248;
+  int IDENTIFIER = 248;
   /** RegularExpression Id. */
-  int INDEX_COLON = 249;
+  int QUOTED_IDENTIFIER = 249;
   /** RegularExpression Id. */
-  int INDEXVALUES_IDENTIFIER = 250;
+  int INDEX_COLON = 250;
   /** RegularExpression Id. */
-  int INDEXVALUESASC_IDENTIFIER = 251;
+  int INDEXVALUES_IDENTIFIER = 251;
   /** RegularExpression Id. */
-  int INDEXVALUESDESC_IDENTIFIER = 252;
+  int INDEXVALUESASC_IDENTIFIER = 252;
   /** RegularExpression Id. */
-  int CLUSTER_IDENTIFIER = 253;
+  int INDEXVALUESDESC_IDENTIFIER = 253;
   /** RegularExpression Id. */
-  int CLUSTER_NUMBER_IDENTIFIER = 254;
+  int CLUSTER_IDENTIFIER = 254;
   /** RegularExpression Id. */
-  int METADATA_IDENTIFIER = 255;
+  int CLUSTER_NUMBER_IDENTIFIER = 255;
   /** RegularExpression Id. */
-  int LETTER = 256;
+  int METADATA_IDENTIFIER = 256;
   /** RegularExpression Id. */
-  int PART_LETTER = 257;
+  int LETTER = 257;
+  /** RegularExpression Id. */
+  int PART_LETTER = 258;
 
   /** Lexical state. */
   int DEFAULT = 0;
@@ -628,6 +630,7 @@ public interface OrientSqlConstants {
     "<ID>",
     "<DATABASE>",
     "<OPTIMIZE>",
+    "<COMPACT>",
     "<LINK>",
     "<TYPE>",
     "<INVERSE>",
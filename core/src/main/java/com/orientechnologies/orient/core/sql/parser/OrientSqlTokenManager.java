@@ -19,267 +19,267 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
    switch (pos)
    {
       case 0:
-         if ((active2 & 0x2000000000000000L) != 0L)
-            return 1067;
-         if ((active0 & 0x80L) != 0L || (active3 & 0x10080000L) != 0L)
-            return 2;
-         if ((active2 & 0x8000000000000000L) != 0L)
-            return 37;
          if ((active2 & 0x4000000000000000L) != 0L)
-            return 31;
-         if ((active4 & 0x8L) != 0L)
+            return 1073;
+         if ((active3 & 0x8050000L) != 0L || (active4 & 0xffc0L) != 0L)
+            return 1167;
+         if ((active0 & 0x80L) != 0L || (active3 & 0x20100000L) != 0L)
+            return 2;
+         if ((active4 & 0x10L) != 0L)
          {
-            jjmatchedKind = 247;
+            jjmatchedKind = 248;
             return 31;
          }
-         if ((active2 & 0x1000000000000000L) != 0L || (active3 & 0xc000000000L) != 0L)
+         if ((active3 & 0x1L) != 0L)
+            return 37;
+         if ((active2 & 0x8000000000000000L) != 0L)
+            return 31;
+         if ((active2 & 0x2000000000000000L) != 0L || (active3 & 0x18000000000L) != 0L)
             return 13;
-         if ((active4 & 0x10L) != 0L)
+         if ((active4 & 0x20L) != 0L)
          {
-            jjmatchedKind = 247;
-            return 871;
+            jjmatchedKind = 248;
+            return 877;
          }
-         if ((active3 & 0x4028000L) != 0L || (active4 & 0x7fe0L) != 0L)
-            return 1161;
          return -1;
       case 1:
          if ((active0 & 0x80L) != 0L)
             return 0;
-         if ((active4 & 0x10L) != 0L)
+         if ((active4 & 0x20L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 1;
             }
-            return 926;
+            return 932;
          }
-         if ((active4 & 0x8L) != 0L)
+         if ((active4 & 0x10L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 1;
             }
             return 31;
          }
          return -1;
       case 2:
-         if ((active4 & 0x10L) != 0L)
+         if ((active4 & 0x20L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 2;
             }
             return 31;
          }
-         if ((active4 & 0x8L) != 0L)
+         if ((active4 & 0x10L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 3:
-         if ((active4 & 0x10L) != 0L)
+         if ((active4 & 0x20L) != 0L)
          {
-            jjmatchedKind = 247;
+            jjmatchedKind = 248;
             jjmatchedPos = 3;
             return 31;
          }
-         if ((active4 & 0x8L) != 0L)
+         if ((active4 & 0x10L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 4:
-         if ((active4 & 0x10L) != 0L)
+         if ((active4 & 0x20L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 4;
             }
             return 31;
          }
-         if ((active4 & 0x8L) != 0L)
+         if ((active4 & 0x10L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 5:
-         if ((active4 & 0x10L) != 0L)
+         if ((active4 & 0x20L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         if ((active4 & 0x8L) != 0L)
+         if ((active4 & 0x10L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 6:
-         if ((active4 & 0x10L) != 0L)
+         if ((active4 & 0x20L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         if ((active4 & 0x8L) != 0L)
+         if ((active4 & 0x10L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 7:
-         if ((active4 & 0x10L) != 0L)
+         if ((active4 & 0x20L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         if ((active4 & 0x8L) != 0L)
+         if ((active4 & 0x10L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 8:
-         if ((active4 & 0x10L) != 0L)
+         if ((active4 & 0x20L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         if ((active4 & 0x8L) != 0L)
+         if ((active4 & 0x10L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 9:
-         if ((active4 & 0x10L) != 0L)
+         if ((active4 & 0x20L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         if ((active4 & 0x8L) != 0L)
+         if ((active4 & 0x10L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 10:
-         if ((active4 & 0x10L) != 0L)
+         if ((active4 & 0x20L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         if ((active4 & 0x8L) != 0L)
+         if ((active4 & 0x10L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 11:
-         if ((active4 & 0x8L) != 0L)
+         if ((active4 & 0x10L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 12:
-         if ((active4 & 0x8L) != 0L)
+         if ((active4 & 0x10L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 13:
-         if ((active4 & 0x8L) != 0L)
+         if ((active4 & 0x10L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 14:
-         if ((active4 & 0x8L) != 0L)
+         if ((active4 & 0x10L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 247;
+               jjmatchedKind = 248;
                jjmatchedPos = 1;
             }
             return -1;
@@ -304,78 +304,78 @@ private int jjMoveStringLiteralDfa0_0()
    switch(curChar)
    {
       case 33:
-         jjmatchedKind = 196;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x400L, 0x0L);
+         jjmatchedKind = 197;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x800L, 0x0L);
       case 35:
-         return jjStopAtPos(0, 258);
+         return jjStopAtPos(0, 259);
       case 36:
-         return jjStartNfaWithStates_0(0, 190, 31);
+         return jjStartNfaWithStates_0(0, 191, 31);
       case 37:
-         jjmatchedKind = 215;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x100000000L, 0x0L);
+         jjmatchedKind = 216;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x200000000L, 0x0L);
       case 38:
-         jjmatchedKind = 212;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x20002000L, 0x0L);
+         jjmatchedKind = 213;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x40004000L, 0x0L);
       case 40:
-         return jjStopAtPos(0, 180);
-      case 41:
          return jjStopAtPos(0, 181);
+      case 41:
+         return jjStopAtPos(0, 182);
       case 42:
-         jjmatchedKind = 210;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x8000000L, 0x0L);
+         jjmatchedKind = 211;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x10000000L, 0x0L);
       case 43:
-         jjmatchedKind = 208;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x2004000L, 0x0L);
+         jjmatchedKind = 209;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x4008000L, 0x0L);
       case 44:
-         return jjStopAtPos(0, 187);
+         return jjStopAtPos(0, 188);
       case 45:
-         jjmatchedKind = 209;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x4008000L, 0x7fe0L);
+         jjmatchedKind = 210;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x8010000L, 0xffc0L);
       case 46:
-         jjmatchedKind = 188;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0xc000000000L, 0x0L);
+         jjmatchedKind = 189;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x18000000000L, 0x0L);
       case 47:
-         jjmatchedKind = 211;
-         return jjMoveStringLiteralDfa1_0(0x80L, 0x10000000L, 0x0L);
+         jjmatchedKind = 212;
+         return jjMoveStringLiteralDfa1_0(0x80L, 0x20000000L, 0x0L);
       case 58:
-         return jjStopAtPos(0, 199);
+         return jjStopAtPos(0, 200);
       case 59:
-         return jjStopAtPos(0, 186);
+         return jjStopAtPos(0, 187);
       case 60:
-         jjmatchedKind = 194;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x201000900L, 0x0L);
+         jjmatchedKind = 195;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x402001200L, 0x0L);
       case 61:
-         jjmatchedKind = 192;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x2L, 0x0L);
+         jjmatchedKind = 193;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x4L, 0x0L);
       case 62:
-         jjmatchedKind = 195;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x3c00000200L, 0x0L);
+         jjmatchedKind = 196;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x7800000400L, 0x0L);
       case 63:
-         return jjStopAtPos(0, 198);
+         return jjStopAtPos(0, 199);
       case 64:
-         return jjStartNfaWithStates_0(0, 189, 1067);
+         return jjStartNfaWithStates_0(0, 190, 1073);
       case 91:
-         return jjStopAtPos(0, 184);
-      case 93:
          return jjStopAtPos(0, 185);
+      case 93:
+         return jjStopAtPos(0, 186);
       case 94:
-         jjmatchedKind = 214;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x80000000L, 0x0L);
+         jjmatchedKind = 215;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x100000000L, 0x0L);
       case 95:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x8L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x10L);
       case 96:
-         return jjStartNfaWithStates_0(0, 191, 37);
+         return jjStartNfaWithStates_0(0, 192, 37);
       case 114:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x10L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x20L);
       case 123:
-         return jjStopAtPos(0, 182);
+         return jjStopAtPos(0, 183);
       case 124:
-         jjmatchedKind = 213;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x40001000L, 0x0L);
+         jjmatchedKind = 214;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x80002000L, 0x0L);
       case 125:
-         return jjStopAtPos(0, 183);
+         return jjStopAtPos(0, 184);
       case 126:
-         return jjStopAtPos(0, 197);
+         return jjStopAtPos(0, 198);
       default :
          return jjMoveNfa_0(3, 0);
    }
@@ -390,46 +390,44 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active3, long active4)
    switch(curChar)
    {
       case 38:
-         if ((active3 & 0x2000L) != 0L)
-            return jjStopAtPos(1, 205);
+         if ((active3 & 0x4000L) != 0L)
+            return jjStopAtPos(1, 206);
          break;
       case 42:
          if ((active0 & 0x80L) != 0L)
             return jjStartNfaWithStates_0(1, 7, 0);
          break;
       case 43:
-         if ((active3 & 0x4000L) != 0L)
-            return jjStopAtPos(1, 206);
-         break;
-      case 45:
          if ((active3 & 0x8000L) != 0L)
             return jjStopAtPos(1, 207);
          break;
+      case 45:
+         if ((active3 & 0x10000L) != 0L)
+            return jjStopAtPos(1, 208);
+         break;
       case 46:
-         if ((active3 & 0x8000000000L) != 0L)
+         if ((active3 & 0x10000000000L) != 0L)
          {
-            jjmatchedKind = 231;
+            jjmatchedKind = 232;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x4000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x8000000000L, active4, 0L);
       case 60:
-         if ((active3 & 0x1000000L) != 0L)
+         if ((active3 & 0x2000000L) != 0L)
          {
-            jjmatchedKind = 216;
+            jjmatchedKind = 217;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x200000000L, active4, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x400000000L, active4, 0L);
       case 61:
-         if ((active3 & 0x2L) != 0L)
-            return jjStopAtPos(1, 193);
-         else if ((active3 & 0x100L) != 0L)
-            return jjStopAtPos(1, 200);
+         if ((active3 & 0x4L) != 0L)
+            return jjStopAtPos(1, 194);
          else if ((active3 & 0x200L) != 0L)
             return jjStopAtPos(1, 201);
          else if ((active3 & 0x400L) != 0L)
             return jjStopAtPos(1, 202);
-         else if ((active3 & 0x2000000L) != 0L)
-            return jjStopAtPos(1, 217);
+         else if ((active3 & 0x800L) != 0L)
+            return jjStopAtPos(1, 203);
          else if ((active3 & 0x4000000L) != 0L)
             return jjStopAtPos(1, 218);
          else if ((active3 & 0x8000000L) != 0L)
@@ -444,35 +442,37 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active3, long active4)
             return jjStopAtPos(1, 223);
          else if ((active3 & 0x100000000L) != 0L)
             return jjStopAtPos(1, 224);
+         else if ((active3 & 0x200000000L) != 0L)
+            return jjStopAtPos(1, 225);
          break;
       case 62:
-         if ((active3 & 0x800L) != 0L)
-            return jjStopAtPos(1, 203);
-         else if ((active3 & 0x1000000000L) != 0L)
+         if ((active3 & 0x1000L) != 0L)
+            return jjStopAtPos(1, 204);
+         else if ((active3 & 0x2000000000L) != 0L)
          {
-            jjmatchedKind = 228;
+            jjmatchedKind = 229;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x2c00000000L, active4, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x5800000000L, active4, 0L);
       case 95:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x8L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x10L);
       case 97:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x200L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x400L);
       case 100:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x40L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x80L);
       case 102:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x3800L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x7000L);
       case 108:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x80L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x100L);
       case 109:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x4100L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x8200L);
       case 111:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x410L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x820L);
       case 115:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x20L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x40L);
       case 124:
-         if ((active3 & 0x1000L) != 0L)
-            return jjStopAtPos(1, 204);
+         if ((active3 & 0x2000L) != 0L)
+            return jjStopAtPos(1, 205);
          break;
       default :
          break;
@@ -491,38 +491,38 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old3, long a
    switch(curChar)
    {
       case 46:
-         if ((active3 & 0x4000000000L) != 0L)
-            return jjStopAtPos(2, 230);
+         if ((active3 & 0x8000000000L) != 0L)
+            return jjStopAtPos(2, 231);
          break;
       case 61:
-         if ((active3 & 0x200000000L) != 0L)
-            return jjStopAtPos(2, 225);
-         else if ((active3 & 0x400000000L) != 0L)
+         if ((active3 & 0x400000000L) != 0L)
             return jjStopAtPos(2, 226);
+         else if ((active3 & 0x800000000L) != 0L)
+            return jjStopAtPos(2, 227);
          break;
       case 62:
-         if ((active3 & 0x2000000000L) != 0L)
+         if ((active3 & 0x4000000000L) != 0L)
          {
-            jjmatchedKind = 229;
+            jjmatchedKind = 230;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active3, 0x800000000L, active4, 0L);
+         return jjMoveStringLiteralDfa3_0(active3, 0x1000000000L, active4, 0L);
       case 64:
-         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x8L);
+         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x10L);
       case 97:
-         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x80L);
+         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x100L);
       case 98:
-         if ((active4 & 0x40L) != 0L)
-            return jjStopAtPos(2, 262);
+         if ((active4 & 0x80L) != 0L)
+            return jjStopAtPos(2, 263);
          break;
       case 101:
-         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x4120L);
+         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x8240L);
       case 108:
-         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x200L);
+         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x400L);
       case 111:
-         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x800L);
+         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x1000L);
       case 117:
-         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x3410L);
+         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x6820L);
       default :
          break;
    }
@@ -540,21 +540,21 @@ private int jjMoveStringLiteralDfa3_0(long old3, long active3, long old4, long a
    switch(curChar)
    {
       case 61:
-         if ((active3 & 0x800000000L) != 0L)
-            return jjStopAtPos(3, 227);
+         if ((active3 & 0x1000000000L) != 0L)
+            return jjStopAtPos(3, 228);
          break;
       case 108:
-         if ((active4 & 0x200L) != 0L)
-            return jjStopAtPos(3, 265);
-         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x3000L);
+         if ((active4 & 0x400L) != 0L)
+            return jjStopAtPos(3, 266);
+         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x6000L);
       case 110:
-         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x10L);
+         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x20L);
       case 114:
-         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x4828L);
+         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x9050L);
       case 115:
-         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x100L);
+         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x200L);
       case 116:
-         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x480L);
+         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x900L);
       default :
          break;
    }
@@ -572,26 +572,26 @@ private int jjMoveStringLiteralDfa4_0(long old3, long active3, long old4, long a
    switch(curChar)
    {
       case 99:
-         return jjMoveStringLiteralDfa5_0(active4, 0x800L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x1000L);
       case 100:
-         return jjMoveStringLiteralDfa5_0(active4, 0x10L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x20L);
       case 101:
-         return jjMoveStringLiteralDfa5_0(active4, 0x88L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x110L);
       case 103:
-         return jjMoveStringLiteralDfa5_0(active4, 0x4000L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x8000L);
       case 108:
-         if ((active4 & 0x1000L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
-            jjmatchedKind = 268;
+            jjmatchedKind = 269;
             jjmatchedPos = 4;
          }
-         return jjMoveStringLiteralDfa5_0(active4, 0x2000L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x4000L);
       case 112:
-         return jjMoveStringLiteralDfa5_0(active4, 0x400L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x800L);
       case 115:
-         return jjMoveStringLiteralDfa5_0(active4, 0x100L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x200L);
       case 118:
-         return jjMoveStringLiteralDfa5_0(active4, 0x20L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x40L);
       default :
          break;
    }
@@ -609,23 +609,23 @@ private int jjMoveStringLiteralDfa5_0(long old4, long active4)
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa6_0(active4, 0x10L);
+         return jjMoveStringLiteralDfa6_0(active4, 0x20L);
       case 95:
-         return jjMoveStringLiteralDfa6_0(active4, 0x2000L);
+         return jjMoveStringLiteralDfa6_0(active4, 0x4000L);
       case 97:
-         return jjMoveStringLiteralDfa6_0(active4, 0x100L);
+         return jjMoveStringLiteralDfa6_0(active4, 0x200L);
       case 99:
-         return jjMoveStringLiteralDfa6_0(active4, 0x8L);
+         return jjMoveStringLiteralDfa6_0(active4, 0x10L);
       case 101:
-         if ((active4 & 0x800L) != 0L)
-            return jjStopAtPos(5, 267);
-         else if ((active4 & 0x4000L) != 0L)
-            return jjStopAtPos(5, 270);
-         return jjMoveStringLiteralDfa6_0(active4, 0x20L);
+         if ((active4 & 0x1000L) != 0L)
+            return jjStopAtPos(5, 268);
+         else if ((active4 & 0x8000L) != 0L)
+            return jjStopAtPos(5, 271);
+         return jjMoveStringLiteralDfa6_0(active4, 0x40L);
       case 110:
-         return jjMoveStringLiteralDfa6_0(active4, 0x80L);
+         return jjMoveStringLiteralDfa6_0(active4, 0x100L);
       case 117:
-         return jjMoveStringLiteralDfa6_0(active4, 0x400L);
+         return jjMoveStringLiteralDfa6_0(active4, 0x800L);
       default :
          break;
    }
@@ -643,15 +643,15 @@ private int jjMoveStringLiteralDfa6_0(long old4, long active4)
    switch(curChar)
    {
       case 99:
-         return jjMoveStringLiteralDfa7_0(active4, 0x80L);
-      case 103:
          return jjMoveStringLiteralDfa7_0(active4, 0x100L);
+      case 103:
+         return jjMoveStringLiteralDfa7_0(active4, 0x200L);
       case 111:
-         return jjMoveStringLiteralDfa7_0(active4, 0x8L);
+         return jjMoveStringLiteralDfa7_0(active4, 0x10L);
       case 114:
-         return jjMoveStringLiteralDfa7_0(active4, 0x2030L);
+         return jjMoveStringLiteralDfa7_0(active4, 0x4060L);
       case 116:
-         return jjMoveStringLiteralDfa7_0(active4, 0x400L);
+         return jjMoveStringLiteralDfa7_0(active4, 0x800L);
       default :
          break;
    }
@@ -669,20 +669,20 @@ private int jjMoveStringLiteralDfa7_0(long old4, long active4)
    switch(curChar)
    {
       case 61:
-         return jjMoveStringLiteralDfa8_0(active4, 0x400L);
+         return jjMoveStringLiteralDfa8_0(active4, 0x800L);
       case 101:
-         return jjMoveStringLiteralDfa8_0(active4, 0x2100L);
+         return jjMoveStringLiteralDfa8_0(active4, 0x4200L);
       case 111:
-         return jjMoveStringLiteralDfa8_0(active4, 0x10L);
+         return jjMoveStringLiteralDfa8_0(active4, 0x20L);
       case 114:
-         return jjMoveStringLiteralDfa8_0(active4, 0x8L);
+         return jjMoveStringLiteralDfa8_0(active4, 0x10L);
       case 115:
-         if ((active4 & 0x20L) != 0L)
-            return jjStopAtPos(7, 261);
+         if ((active4 & 0x40L) != 0L)
+            return jjStopAtPos(7, 262);
          break;
       case 121:
-         if ((active4 & 0x80L) != 0L)
-            return jjStopAtPos(7, 263);
+         if ((active4 & 0x100L) != 0L)
+            return jjStopAtPos(7, 264);
          break;
       default :
          break;
@@ -701,17 +701,17 @@ private int jjMoveStringLiteralDfa8_0(long old4, long active4)
    switch(curChar)
    {
       case 98:
-         return jjMoveStringLiteralDfa9_0(active4, 0x10L);
+         return jjMoveStringLiteralDfa9_0(active4, 0x20L);
       case 100:
-         return jjMoveStringLiteralDfa9_0(active4, 0x8L);
+         return jjMoveStringLiteralDfa9_0(active4, 0x10L);
       case 112:
-         return jjMoveStringLiteralDfa9_0(active4, 0x2000L);
+         return jjMoveStringLiteralDfa9_0(active4, 0x4000L);
       case 115:
-         if ((active4 & 0x100L) != 0L)
-            return jjStopAtPos(8, 264);
+         if ((active4 & 0x200L) != 0L)
+            return jjStopAtPos(8, 265);
          break;
       case 116:
-         return jjMoveStringLiteralDfa9_0(active4, 0x400L);
+         return jjMoveStringLiteralDfa9_0(active4, 0x800L);
       default :
          break;
    }
@@ -729,13 +729,13 @@ private int jjMoveStringLiteralDfa9_0(long old4, long active4)
    switch(curChar)
    {
       case 101:
-         return jjMoveStringLiteralDfa10_0(active4, 0x400L);
+         return jjMoveStringLiteralDfa10_0(active4, 0x800L);
       case 105:
-         return jjMoveStringLiteralDfa10_0(active4, 0x10L);
+         return jjMoveStringLiteralDfa10_0(active4, 0x20L);
       case 108:
-         return jjMoveStringLiteralDfa10_0(active4, 0x2000L);
+         return jjMoveStringLiteralDfa10_0(active4, 0x4000L);
       case 109:
-         return jjMoveStringLiteralDfa10_0(active4, 0x8L);
+         return jjMoveStringLiteralDfa10_0(active4, 0x10L);
       default :
          break;
    }
@@ -753,13 +753,13 @@ private int jjMoveStringLiteralDfa10_0(long old4, long active4)
    switch(curChar)
    {
       case 97:
-         return jjMoveStringLiteralDfa11_0(active4, 0x2008L);
+         return jjMoveStringLiteralDfa11_0(active4, 0x4010L);
       case 110:
-         if ((active4 & 0x10L) != 0L)
-            return jjStopAtPos(10, 260);
+         if ((active4 & 0x20L) != 0L)
+            return jjStopAtPos(10, 261);
          break;
       case 120:
-         return jjMoveStringLiteralDfa11_0(active4, 0x400L);
+         return jjMoveStringLiteralDfa11_0(active4, 0x800L);
       default :
          break;
    }
@@ -777,12 +777,12 @@ private int jjMoveStringLiteralDfa11_0(long old4, long active4)
    switch(curChar)
    {
       case 99:
-         return jjMoveStringLiteralDfa12_0(active4, 0x2000L);
+         return jjMoveStringLiteralDfa12_0(active4, 0x4000L);
       case 112:
-         return jjMoveStringLiteralDfa12_0(active4, 0x8L);
+         return jjMoveStringLiteralDfa12_0(active4, 0x10L);
       case 116:
-         if ((active4 & 0x400L) != 0L)
-            return jjStopAtPos(11, 266);
+         if ((active4 & 0x800L) != 0L)
+            return jjStopAtPos(11, 267);
          break;
       default :
          break;
@@ -801,10 +801,10 @@ private int jjMoveStringLiteralDfa12_0(long old4, long active4)
    switch(curChar)
    {
       case 64:
-         return jjMoveStringLiteralDfa13_0(active4, 0x8L);
+         return jjMoveStringLiteralDfa13_0(active4, 0x10L);
       case 101:
-         if ((active4 & 0x2000L) != 0L)
-            return jjStopAtPos(12, 269);
+         if ((active4 & 0x4000L) != 0L)
+            return jjStopAtPos(12, 270);
          break;
       default :
          break;
@@ -823,7 +823,7 @@ private int jjMoveStringLiteralDfa13_0(long old4, long active4)
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa14_0(active4, 0x8L);
+         return jjMoveStringLiteralDfa14_0(active4, 0x10L);
       default :
          break;
    }
@@ -841,7 +841,7 @@ private int jjMoveStringLiteralDfa14_0(long old4, long active4)
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa15_0(active4, 0x8L);
+         return jjMoveStringLiteralDfa15_0(active4, 0x10L);
       default :
          break;
    }
@@ -859,8 +859,8 @@ private int jjMoveStringLiteralDfa15_0(long old4, long active4)
    switch(curChar)
    {
       case 95:
-         if ((active4 & 0x8L) != 0L)
-            return jjStopAtPos(15, 259);
+         if ((active4 & 0x10L) != 0L)
+            return jjStopAtPos(15, 260);
          break;
       default :
          break;
@@ -884,7 +884,7 @@ static final long[] jjbitVec2 = {
 private int jjMoveNfa_0(int startState, int curPos)
 {
    int startsAt = 0;
-   jjnewStateCnt = 1188;
+   jjnewStateCnt = 1194;
    int i = 1;
    jjstateSet[0] = startState;
    int kind = 0x7fffffff;
@@ -899,26 +899,33 @@ private int jjMoveNfa_0(int startState, int curPos)
          {
             switch(jjstateSet[--i])
             {
-               case 1161:
+               case 37:
+               case 33:
+                  jjCheckNAddStates(0, 2);
+                  break;
+               case 1167:
                   if ((0x3fe000000000000L & l) != 0L)
-                     jjCheckNAddStates(0, 2);
+                     jjCheckNAddStates(3, 5);
                   else if (curChar == 48)
-                     jjCheckNAddStates(3, 6);
+                     jjCheckNAddStates(6, 9);
                   if ((0x3fe000000000000L & l) != 0L)
-                     jjCheckNAddStates(7, 9);
+                     jjCheckNAddStates(10, 12);
                   else if (curChar == 48)
-                     jjCheckNAddStates(10, 13);
-                  break;
-               case 37:
-               case 33:
-                  jjCheckNAddStates(14, 16);
+                     jjCheckNAddStates(13, 16);
                   break;
-               case 871:
+               case 932:
                case 31:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 247)
-                     kind = 247;
+                  if (kind > 248)
+                     kind = 248;
+                  jjCheckNAdd(31);
+                  break;
+               case 877:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 248)
+                     kind = 248;
                   jjCheckNAdd(31);
                   break;
                case 3:
@@ -930,8 +937,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(28, 32);
                   else if (curChar == 36)
                   {
-                     if (kind > 247)
-                        kind = 247;
+                     if (kind > 248)
+                        kind = 248;
                      jjCheckNAdd(31);
                   }
                   else if (curChar == 34)
@@ -942,26 +949,19 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 2;
                   if ((0x3fe000000000000L & l) != 0L)
                   {
-                     if (kind > 165)
-                        kind = 165;
+                     if (kind > 166)
+                        kind = 166;
                      jjCheckNAddStates(36, 43);
                   }
                   else if (curChar == 48)
                   {
-                     if (kind > 165)
-                        kind = 165;
+                     if (kind > 166)
+                        kind = 166;
                      jjCheckNAddStates(44, 56);
                   }
                   else if (curChar == 34)
                      jjstateSet[jjnewStateCnt++] = 6;
                   break;
-               case 926:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 247)
-                     kind = 247;
-                  jjCheckNAdd(31);
-                  break;
                case 0:
                   if (curChar == 42)
                      jjstateSet[jjnewStateCnt++] = 1;
@@ -975,8 +975,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 0;
                   break;
                case 10:
-                  if (curChar == 34 && kind > 156)
-                     kind = 156;
+                  if (curChar == 34 && kind > 157)
+                     kind = 157;
                   break;
                case 11:
                   if (curChar == 34)
@@ -989,8 +989,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 13:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 169)
-                     kind = 169;
+                  if (kind > 170)
+                     kind = 170;
                   jjCheckNAddStates(57, 59);
                   break;
                case 15:
@@ -1000,8 +1000,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 16:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 169)
-                     kind = 169;
+                  if (kind > 170)
+                     kind = 170;
                   jjCheckNAddTwoStates(16, 17);
                   break;
                case 18:
@@ -1017,8 +1017,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(33, 35);
                   break;
                case 22:
-                  if (curChar == 34 && kind > 175)
-                     kind = 175;
+                  if (curChar == 34 && kind > 176)
+                     kind = 176;
                   break;
                case 23:
                   if ((0xff000000000000L & l) != 0L)
@@ -1039,8 +1039,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 30:
                   if (curChar != 36)
                      break;
-                  if (kind > 247)
-                     kind = 247;
+                  if (kind > 248)
+                     kind = 248;
                   jjCheckNAdd(31);
                   break;
                case 38:
@@ -1050,15 +1050,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 39:
                   if (curChar != 36)
                      break;
-                  if (kind > 255)
-                     kind = 255;
+                  if (kind > 256)
+                     kind = 256;
                   jjCheckNAdd(40);
                   break;
                case 40:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 255)
-                     kind = 255;
+                  if (kind > 256)
+                     kind = 256;
                   jjCheckNAdd(40);
                   break;
                case 53:
@@ -1088,8 +1088,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 61:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 169)
-                     kind = 169;
+                  if (kind > 170)
+                     kind = 170;
                   jjCheckNAddTwoStates(61, 17);
                   break;
                case 62:
@@ -1099,15 +1099,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 63:
                   if (curChar != 46)
                      break;
-                  if (kind > 169)
-                     kind = 169;
+                  if (kind > 170)
+                     kind = 170;
                   jjCheckNAddStates(67, 69);
                   break;
                case 64:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 169)
-                     kind = 169;
+                  if (kind > 170)
+                     kind = 170;
                   jjCheckNAddStates(67, 69);
                   break;
                case 66:
@@ -1117,13 +1117,13 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 67:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 169)
-                     kind = 169;
+                  if (kind > 170)
+                     kind = 170;
                   jjCheckNAddTwoStates(67, 17);
                   break;
                case 298:
-                  if (curChar == 58 && kind > 249)
-                     kind = 249;
+                  if (curChar == 58 && kind > 250)
+                     kind = 250;
                   break;
                case 309:
                   if (curChar == 58)
@@ -1132,15 +1132,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 311:
                   if (curChar != 36)
                      break;
-                  if (kind > 250)
-                     kind = 250;
+                  if (kind > 251)
+                     kind = 251;
                   jjCheckNAddTwoStates(312, 313);
                   break;
                case 312:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 250)
-                     kind = 250;
+                  if (kind > 251)
+                     kind = 251;
                   jjCheckNAddTwoStates(312, 313);
                   break;
                case 313:
@@ -1150,15 +1150,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 314:
                   if (curChar != 36)
                      break;
-                  if (kind > 250)
-                     kind = 250;
+                  if (kind > 251)
+                     kind = 251;
                   jjCheckNAddTwoStates(313, 315);
                   break;
                case 315:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 250)
-                     kind = 250;
+                  if (kind > 251)
+                     kind = 251;
                   jjCheckNAddTwoStates(313, 315);
                   break;
                case 344:
@@ -1168,15 +1168,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 346:
                   if (curChar != 36)
                      break;
-                  if (kind > 251)
-                     kind = 251;
+                  if (kind > 252)
+                     kind = 252;
                   jjCheckNAddTwoStates(347, 348);
                   break;
                case 347:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 251)
-                     kind = 251;
+                  if (kind > 252)
+                     kind = 252;
                   jjCheckNAddTwoStates(347, 348);
                   break;
                case 348:
@@ -1186,15 +1186,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 349:
                   if (curChar != 36)
                      break;
-                  if (kind > 251)
-                     kind = 251;
+                  if (kind > 252)
+                     kind = 252;
                   jjCheckNAddTwoStates(348, 350);
                   break;
                case 350:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 251)
-                     kind = 251;
+                  if (kind > 252)
+                     kind = 252;
                   jjCheckNAddTwoStates(348, 350);
                   break;
                case 380:
@@ -1204,15 +1204,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 382:
                   if (curChar != 36)
                      break;
-                  if (kind > 252)
-                     kind = 252;
+                  if (kind > 253)
+                     kind = 253;
                   jjCheckNAddTwoStates(383, 384);
                   break;
                case 383:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 252)
-                     kind = 252;
+                  if (kind > 253)
+                     kind = 253;
                   jjCheckNAddTwoStates(383, 384);
                   break;
                case 384:
@@ -1222,348 +1222,348 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 385:
                   if (curChar != 36)
                      break;
-                  if (kind > 252)
-                     kind = 252;
+                  if (kind > 253)
+                     kind = 253;
                   jjCheckNAddTwoStates(384, 386);
                   break;
                case 386:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 252)
-                     kind = 252;
+                  if (kind > 253)
+                     kind = 253;
                   jjCheckNAddTwoStates(384, 386);
                   break;
-               case 548:
+               case 554:
                   if (curChar == 58)
-                     jjstateSet[jjnewStateCnt++] = 549;
+                     jjstateSet[jjnewStateCnt++] = 555;
                   break;
-               case 549:
+               case 555:
                   if (curChar != 36)
                      break;
-                  if (kind > 253)
-                     kind = 253;
-                  jjCheckNAdd(550);
+                  if (kind > 254)
+                     kind = 254;
+                  jjCheckNAdd(556);
                   break;
-               case 550:
+               case 556:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 253)
-                     kind = 253;
-                  jjCheckNAdd(550);
+                  if (kind > 254)
+                     kind = 254;
+                  jjCheckNAdd(556);
                   break;
-               case 557:
+               case 563:
                   if (curChar == 58)
                      jjAddStates(76, 77);
                   break;
-               case 558:
+               case 564:
                   if ((0x3fe000000000000L & l) == 0L)
                      break;
-                  if (kind > 254)
-                     kind = 254;
-                  jjCheckNAddTwoStates(559, 560);
-                  break;
-               case 559:
+                  if (kind > 255)
+                     kind = 255;
+                  jjCheckNAddTwoStates(565, 566);
+                  break;
+               case 565:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 254)
-                     kind = 254;
-                  jjCheckNAddTwoStates(559, 560);
+                  if (kind > 255)
+                     kind = 255;
+                  jjCheckNAddTwoStates(565, 566);
                   break;
-               case 561:
+               case 567:
                   if (curChar != 48)
                      break;
-                  if (kind > 254)
-                     kind = 254;
+                  if (kind > 255)
+                     kind = 255;
                   jjCheckNAddStates(78, 80);
                   break;
-               case 563:
+               case 569:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 254)
-                     kind = 254;
-                  jjCheckNAddTwoStates(563, 560);
+                  if (kind > 255)
+                     kind = 255;
+                  jjCheckNAddTwoStates(569, 566);
                   break;
-               case 564:
+               case 570:
                   if ((0xff000000000000L & l) == 0L)
                      break;
-                  if (kind > 254)
-                     kind = 254;
-                  jjCheckNAddTwoStates(564, 560);
+                  if (kind > 255)
+                     kind = 255;
+                  jjCheckNAddTwoStates(570, 566);
                   break;
-               case 1115:
+               case 1121:
                   if ((0x3fe000000000000L & l) == 0L)
                      break;
-                  if (kind > 165)
-                     kind = 165;
+                  if (kind > 166)
+                     kind = 166;
                   jjCheckNAddStates(36, 43);
                   break;
-               case 1116:
+               case 1122:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 165)
-                     kind = 165;
-                  jjCheckNAddTwoStates(1116, 1117);
+                  if (kind > 166)
+                     kind = 166;
+                  jjCheckNAddTwoStates(1122, 1123);
                   break;
-               case 1118:
+               case 1124:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjCheckNAddStates(7, 9);
+                     jjCheckNAddStates(10, 12);
                   break;
-               case 1120:
+               case 1126:
                   if (curChar == 46)
                      jjCheckNAddStates(81, 83);
                   break;
-               case 1121:
+               case 1127:
                   if (curChar == 45)
-                     jjCheckNAddTwoStates(1122, 1125);
+                     jjCheckNAddTwoStates(1128, 1131);
                   break;
-               case 1122:
+               case 1128:
                   if ((0x3fe000000000000L & l) == 0L)
                      break;
-                  if (kind > 176)
-                     kind = 176;
-                  jjCheckNAddTwoStates(1123, 1124);
+                  if (kind > 177)
+                     kind = 177;
+                  jjCheckNAddTwoStates(1129, 1130);
                   break;
-               case 1123:
+               case 1129:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 176)
-                     kind = 176;
-                  jjCheckNAddTwoStates(1123, 1124);
+                  if (kind > 177)
+                     kind = 177;
+                  jjCheckNAddTwoStates(1129, 1130);
                   break;
-               case 1125:
+               case 1131:
                   if (curChar != 48)
                      break;
-                  if (kind > 176)
-                     kind = 176;
+                  if (kind > 177)
+                     kind = 177;
                   jjCheckNAddStates(84, 86);
                   break;
-               case 1127:
+               case 1133:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 176)
-                     kind = 176;
-                  jjCheckNAddTwoStates(1127, 1124);
+                  if (kind > 177)
+                     kind = 177;
+                  jjCheckNAddTwoStates(1133, 1130);
                   break;
-               case 1128:
+               case 1134:
                   if ((0xff000000000000L & l) == 0L)
                      break;
-                  if (kind > 176)
-                     kind = 176;
-                  jjCheckNAddTwoStates(1128, 1124);
+                  if (kind > 177)
+                     kind = 177;
+                  jjCheckNAddTwoStates(1134, 1130);
                   break;
-               case 1129:
+               case 1135:
                   if (curChar == 46)
-                     jjstateSet[jjnewStateCnt++] = 1120;
+                     jjstateSet[jjnewStateCnt++] = 1126;
                   break;
-               case 1130:
+               case 1136:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjCheckNAddStates(0, 2);
+                     jjCheckNAddStates(3, 5);
                   break;
-               case 1132:
+               case 1138:
                   if (curChar == 46)
                      jjCheckNAddStates(87, 89);
                   break;
-               case 1133:
+               case 1139:
                   if (curChar == 45)
-                     jjCheckNAddTwoStates(1134, 1137);
+                     jjCheckNAddTwoStates(1140, 1143);
                   break;
-               case 1134:
+               case 1140:
                   if ((0x3fe000000000000L & l) == 0L)
                      break;
-                  if (kind > 177)
-                     kind = 177;
-                  jjCheckNAddTwoStates(1135, 1136);
+                  if (kind > 178)
+                     kind = 178;
+                  jjCheckNAddTwoStates(1141, 1142);
                   break;
-               case 1135:
+               case 1141:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 177)
-                     kind = 177;
-                  jjCheckNAddTwoStates(1135, 1136);
+                  if (kind > 178)
+                     kind = 178;
+                  jjCheckNAddTwoStates(1141, 1142);
                   break;
-               case 1137:
+               case 1143:
                   if (curChar != 48)
                      break;
-                  if (kind > 177)
-                     kind = 177;
+                  if (kind > 178)
+                     kind = 178;
                   jjCheckNAddStates(90, 92);
                   break;
-               case 1139:
+               case 1145:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 177)
-                     kind = 177;
-                  jjCheckNAddTwoStates(1139, 1136);
+                  if (kind > 178)
+                     kind = 178;
+                  jjCheckNAddTwoStates(1145, 1142);
                   break;
-               case 1140:
+               case 1146:
                   if ((0xff000000000000L & l) == 0L)
                      break;
-                  if (kind > 177)
-                     kind = 177;
-                  jjCheckNAddTwoStates(1140, 1136);
+                  if (kind > 178)
+                     kind = 178;
+                  jjCheckNAddTwoStates(1146, 1142);
                   break;
-               case 1141:
+               case 1147:
                   if (curChar == 46)
-                     jjstateSet[jjnewStateCnt++] = 1132;
+                     jjstateSet[jjnewStateCnt++] = 1138;
                   break;
-               case 1142:
+               case 1148:
                   if (curChar == 46)
-                     jjstateSet[jjnewStateCnt++] = 1141;
+                     jjstateSet[jjnewStateCnt++] = 1147;
                   break;
-               case 1143:
+               case 1149:
                   if (curChar == 39)
                      jjCheckNAddStates(28, 32);
                   break;
-               case 1144:
+               case 1150:
                   if ((0xffffff7fffffdbffL & l) != 0L)
-                     jjCheckNAdd(1145);
+                     jjCheckNAdd(1151);
                   break;
-               case 1145:
-                  if (curChar == 39 && kind > 174)
-                     kind = 174;
+               case 1151:
+                  if (curChar == 39 && kind > 175)
+                     kind = 175;
                   break;
-               case 1147:
+               case 1153:
                   if ((0x808400000000L & l) != 0L)
-                     jjCheckNAdd(1145);
+                     jjCheckNAdd(1151);
                   break;
-               case 1148:
+               case 1154:
                   if ((0xff000000000000L & l) != 0L)
-                     jjCheckNAddTwoStates(1149, 1145);
+                     jjCheckNAddTwoStates(1155, 1151);
                   break;
-               case 1149:
+               case 1155:
                   if ((0xff000000000000L & l) != 0L)
-                     jjCheckNAdd(1145);
+                     jjCheckNAdd(1151);
                   break;
-               case 1150:
+               case 1156:
                   if ((0xf000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1151;
+                     jjstateSet[jjnewStateCnt++] = 1157;
                   break;
-               case 1151:
+               case 1157:
                   if ((0xff000000000000L & l) != 0L)
-                     jjCheckNAdd(1149);
+                     jjCheckNAdd(1155);
                   break;
-               case 1152:
+               case 1158:
                   if ((0xffffff7fffffdbffL & l) != 0L)
                      jjCheckNAddStates(93, 95);
                   break;
-               case 1154:
+               case 1160:
                   if ((0x808400000000L & l) != 0L)
                      jjCheckNAddStates(93, 95);
                   break;
-               case 1155:
-                  if (curChar == 39 && kind > 175)
-                     kind = 175;
+               case 1161:
+                  if (curChar == 39 && kind > 176)
+                     kind = 176;
                   break;
-               case 1156:
+               case 1162:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(96, 99);
                   break;
-               case 1157:
+               case 1163:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(93, 95);
                   break;
-               case 1158:
+               case 1164:
                   if ((0xf000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1159;
+                     jjstateSet[jjnewStateCnt++] = 1165;
                   break;
-               case 1159:
+               case 1165:
                   if ((0xff000000000000L & l) != 0L)
-                     jjCheckNAdd(1157);
+                     jjCheckNAdd(1163);
                   break;
-               case 1160:
+               case 1166:
                   if (curChar == 45)
                      jjAddStates(24, 27);
                   break;
-               case 1162:
+               case 1168:
                   if ((0x3fe000000000000L & l) != 0L)
-                     jjCheckNAddStates(0, 2);
+                     jjCheckNAddStates(3, 5);
                   break;
-               case 1163:
+               case 1169:
                   if (curChar == 48)
-                     jjCheckNAddStates(10, 13);
+                     jjCheckNAddStates(13, 16);
                   break;
-               case 1165:
+               case 1171:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(100, 102);
                   break;
-               case 1166:
+               case 1172:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(103, 105);
                   break;
-               case 1167:
+               case 1173:
                   if (curChar == 48)
-                     jjCheckNAddStates(3, 6);
+                     jjCheckNAddStates(6, 9);
                   break;
-               case 1169:
+               case 1175:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(106, 108);
                   break;
-               case 1170:
+               case 1176:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(109, 111);
                   break;
-               case 1171:
+               case 1177:
                   if (curChar != 48)
                      break;
-                  if (kind > 165)
-                     kind = 165;
+                  if (kind > 166)
+                     kind = 166;
                   jjCheckNAddStates(44, 56);
                   break;
-               case 1173:
+               case 1179:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 165)
-                     kind = 165;
-                  jjCheckNAddTwoStates(1173, 1117);
+                  if (kind > 166)
+                     kind = 166;
+                  jjCheckNAddTwoStates(1179, 1123);
                   break;
-               case 1174:
+               case 1180:
                   if ((0xff000000000000L & l) == 0L)
                      break;
-                  if (kind > 165)
-                     kind = 165;
-                  jjCheckNAddTwoStates(1174, 1117);
+                  if (kind > 166)
+                     kind = 166;
+                  jjCheckNAddTwoStates(1180, 1123);
                   break;
-               case 1176:
+               case 1182:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjAddStates(112, 113);
                   break;
-               case 1177:
+               case 1183:
                   if (curChar == 46)
-                     jjCheckNAdd(1178);
+                     jjCheckNAdd(1184);
                   break;
-               case 1178:
+               case 1184:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjCheckNAddTwoStates(1178, 1179);
+                     jjCheckNAddTwoStates(1184, 1185);
                   break;
-               case 1180:
+               case 1186:
                   if ((0x280000000000L & l) != 0L)
-                     jjCheckNAdd(1181);
+                     jjCheckNAdd(1187);
                   break;
-               case 1181:
+               case 1187:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 169)
-                     kind = 169;
-                  jjCheckNAddTwoStates(1181, 17);
+                  if (kind > 170)
+                     kind = 170;
+                  jjCheckNAddTwoStates(1187, 17);
                   break;
-               case 1183:
+               case 1189:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(114, 116);
                   break;
-               case 1184:
+               case 1190:
                   if (curChar == 46)
-                     jjCheckNAdd(1185);
+                     jjCheckNAdd(1191);
                   break;
-               case 1186:
+               case 1192:
                   if ((0x280000000000L & l) != 0L)
-                     jjCheckNAdd(1187);
+                     jjCheckNAdd(1193);
                   break;
-               case 1187:
+               case 1193:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 169)
-                     kind = 169;
-                  jjCheckNAddTwoStates(1187, 17);
+                  if (kind > 170)
+                     kind = 170;
+                  jjCheckNAddTwoStates(1193, 17);
                   break;
                default : break;
             }
@@ -1578,71 +1578,83 @@ private int jjMoveNfa_0(int startState, int curPos)
             {
                case 37:
                   if ((0xfffffffeffffffffL & l) != 0L)
-                     jjCheckNAddStates(14, 16);
+                     jjCheckNAddStates(0, 2);
                   if (curChar == 92)
                      jjCheckNAdd(34);
                   break;
-               case 871:
+               case 932:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                  {
+                     if (kind > 248)
+                        kind = 248;
+                     jjCheckNAdd(31);
+                  }
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 940;
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 933;
+                  break;
+               case 877:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 247)
-                        kind = 247;
+                     if (kind > 248)
+                        kind = 248;
                      jjCheckNAdd(31);
                   }
                   if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 936;
+                     jjstateSet[jjnewStateCnt++] = 942;
                   else if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 933;
+                     jjstateSet[jjnewStateCnt++] = 939;
                   else if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 923;
+                     jjstateSet[jjnewStateCnt++] = 929;
                   if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 926;
+                     jjstateSet[jjnewStateCnt++] = 932;
                   else if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 918;
+                     jjstateSet[jjnewStateCnt++] = 924;
                   if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 912;
+                     jjstateSet[jjnewStateCnt++] = 918;
                   if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 900;
+                     jjstateSet[jjnewStateCnt++] = 906;
                   if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 891;
+                     jjstateSet[jjnewStateCnt++] = 897;
                   if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 887;
+                     jjstateSet[jjnewStateCnt++] = 893;
                   if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 882;
+                     jjstateSet[jjnewStateCnt++] = 888;
                   if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 877;
+                     jjstateSet[jjnewStateCnt++] = 883;
                   if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 872;
+                     jjstateSet[jjnewStateCnt++] = 878;
                   break;
-               case 1067:
+               case 1073:
                   if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1113;
+                     jjstateSet[jjnewStateCnt++] = 1119;
                   else if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1108;
+                     jjstateSet[jjnewStateCnt++] = 1114;
                   else if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1091;
+                     jjstateSet[jjnewStateCnt++] = 1097;
                   else if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1087;
+                     jjstateSet[jjnewStateCnt++] = 1093;
                   else if ((0x40000000400000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1080;
+                     jjstateSet[jjnewStateCnt++] = 1086;
                   else if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1075;
+                     jjstateSet[jjnewStateCnt++] = 1081;
                   if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1102;
+                     jjstateSet[jjnewStateCnt++] = 1108;
                   else if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1068;
+                     jjstateSet[jjnewStateCnt++] = 1074;
                   if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1097;
+                     jjstateSet[jjnewStateCnt++] = 1103;
                   if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1094;
+                     jjstateSet[jjnewStateCnt++] = 1100;
                   if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1072;
+                     jjstateSet[jjnewStateCnt++] = 1078;
                   break;
                case 3:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 247)
-                        kind = 247;
+                     if (kind > 248)
+                        kind = 248;
                      jjCheckNAdd(31);
                   }
                   else if (curChar == 64)
@@ -1678,15 +1690,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                   else if ((0x1000000010L & l) != 0L)
                      jjAddStates(213, 223);
                   else if ((0x800000008L & l) != 0L)
-                     jjAddStates(224, 244);
+                     jjAddStates(224, 245);
                   else if ((0x20000000200L & l) != 0L)
-                     jjAddStates(245, 260);
+                     jjAddStates(246, 261);
                   else if ((0x200000002000L & l) != 0L)
-                     jjAddStates(261, 267);
+                     jjAddStates(262, 268);
                   else if ((0x10000000100000L & l) != 0L)
-                     jjAddStates(268, 273);
+                     jjAddStates(269, 274);
                   else if ((0x8000000080000L & l) != 0L)
-                     jjAddStates(274, 289);
+                     jjAddStates(275, 290);
                   else if ((0x80000000800L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 28;
                   else if ((0x10000000100L & l) != 0L)
@@ -1698,18 +1710,6 @@ private int jjMoveNfa_0(int startState, int curPos)
                   else if (curChar == 109)
                      jjstateSet[jjnewStateCnt++] = 47;
                   break;
-               case 926:
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                  {
-                     if (kind > 247)
-                        kind = 247;
-                     jjCheckNAdd(31);
-                  }
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 934;
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 927;
-                  break;
                case 1:
                   if (kind > 6)
                      kind = 6;
@@ -1719,8 +1719,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 5;
                   break;
                case 5:
-                  if ((0x200000002L & l) != 0L && kind > 139)
-                     kind = 139;
+                  if ((0x200000002L & l) != 0L && kind > 140)
+                     kind = 140;
                   break;
                case 6:
                   if (curChar == 64)
@@ -1740,11 +1740,11 @@ private int jjMoveNfa_0(int startState, int curPos)
                   break;
                case 14:
                   if ((0x2000000020L & l) != 0L)
-                     jjAddStates(290, 291);
+                     jjAddStates(291, 292);
                   break;
                case 17:
-                  if ((0x5000000050L & l) != 0L && kind > 169)
-                     kind = 169;
+                  if ((0x5000000050L & l) != 0L && kind > 170)
+                     kind = 170;
                   break;
                case 19:
                   if ((0xffffffffefffffffL & l) != 0L)
@@ -1752,7 +1752,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                   break;
                case 20:
                   if (curChar == 92)
-                     jjAddStates(292, 294);
+                     jjAddStates(293, 295);
                   break;
                case 21:
                   if ((0x14404410000000L & l) != 0L)
@@ -1767,21 +1767,21 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 29;
                   break;
                case 29:
-                  if ((0x200000002000000L & l) != 0L && kind > 244)
-                     kind = 244;
+                  if ((0x200000002000000L & l) != 0L && kind > 245)
+                     kind = 245;
                   break;
                case 30:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 247)
-                     kind = 247;
+                  if (kind > 248)
+                     kind = 248;
                   jjCheckNAdd(31);
                   break;
                case 31:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 247)
-                     kind = 247;
+                  if (kind > 248)
+                     kind = 248;
                   jjCheckNAdd(31);
                   break;
                case 32:
@@ -1790,26 +1790,26 @@ private int jjMoveNfa_0(int startState, int curPos)
                   break;
                case 33:
                   if ((0xfffffffeffffffffL & l) != 0L)
-                     jjCheckNAddStates(14, 16);
+                     jjCheckNAddStates(0, 2);
                   break;
                case 34:
                   if (curChar == 96)
-                     jjCheckNAddStates(14, 16);
+                     jjCheckNAddStates(0, 2);
                   break;
                case 35:
                   if (curChar == 92)
                      jjCheckNAdd(34);
                   break;
                case 36:
-                  if (curChar == 96 && kind > 248)
-                     kind = 248;
+                  if (curChar == 96 && kind > 249)
+                     kind = 249;
                   break;
                case 39:
                case 40:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 255)
-                     kind = 255;
+                  if (kind > 256)
+                     kind = 256;
                   jjCheckNAdd(40);
                   break;
                case 41:
@@ -1849,12 +1849,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddTwoStates(50, 51);
                   break;
                case 50:
-                  if (curChar == 115 && kind > 235)
-                     kind = 235;
+                  if (curChar == 115 && kind > 236)
+                     kind = 236;
                   break;
                case 51:
-                  if (curChar == 83 && kind > 235)
-                     kind = 235;
+                  if (curChar == 83 && kind > 236)
+                     kind = 236;
                   break;
                case 52:
                   if (curChar == 73)
@@ -1862,19 +1862,19 @@ private int jjMoveNfa_0(int startState, int curPos)
                   break;
                case 55:
                   if ((0x2000000020L & l) != 0L)
-                     jjAddStates(295, 296);
+                     jjAddStates(296, 297);
                   break;
                case 59:
                   if ((0x2000000020L & l) != 0L)
-                     jjAddStates(297, 298);
+                     jjAddStates(298, 299);
                   break;
                case 65:
                   if ((0x2000000020L & l) != 0L)
-                     jjAddStates(299, 300);
+                     jjAddStates(300, 301);
                   break;
                case 68:
                   if ((0x8000000080000L & l) != 0L)
-                     jjAddStates(274, 289);
+                     jjAddStates(275, 290);
                   break;
                case 69:
                   if ((0x2000000020L & l) != 0L)
@@ -2129,8 +2129,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 132;
                   break;
                case 132:
-                  if ((0x1000000010000L & l) != 0L && kind > 129)
-                     kind = 129;
+                  if ((0x1000000010000L & l) != 0L && kind > 130)
+                     kind = 130;
                   break;
                case 133:
                   if ((0x10000000100L & l) != 0L)
@@ -2149,8 +2149,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 137;
                   break;
                case 137:
-                  if ((0x1000000010L & l) != 0L && kind > 132)
-                     kind = 132;
+                  if ((0x1000000010L & l) != 0L && kind > 133)
+                     kind = 133;
                   break;
                case 138:
                   if ((0x2000000020L & l) != 0L)
@@ -2177,8 +2177,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 144;
                   break;
                case 144:
-                  if ((0x2000000020L & l) != 0L && kind > 134)
-                     kind = 134;
+                  if ((0x2000000020L & l) != 0L && kind > 135)
+                     kind = 135;
                   break;
                case 145:
                   if ((0x10000000100000L & l) != 0L)
@@ -2193,8 +2193,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 148;
                   break;
                case 148:
-                  if ((0x10000000100000L & l) != 0L && kind > 135)
-                     kind = 135;
+                  if ((0x10000000100000L & l) != 0L && kind > 136)
+                     kind = 136;
                   break;
                case 149:
                   if ((0x10000000100000L & l) != 0L)
@@ -2213,8 +2213,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 153;
                   break;
                case 153:
-                  if ((0x8000000080000L & l) != 0L && kind > 140)
-                     kind = 140;
+                  if ((0x8000000080000L & l) != 0L && kind > 141)
+                     kind = 141;
                   break;
                case 154:
                   if ((0x2000000020L & l) != 0L)
@@ -2233,8 +2233,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 158;
                   break;
                case 158:
-                  if ((0x4000000040000L & l) != 0L && kind > 141)
-                     kind = 141;
+                  if ((0x4000000040000L & l) != 0L && kind > 142)
+                     kind = 142;
                   break;
                case 159:
                   if ((0x200000002000000L & l) != 0L)
@@ -2245,12 +2245,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 161;
                   break;
                case 161:
-                  if ((0x800000008L & l) != 0L && kind > 142)
-                     kind = 142;
+                  if ((0x800000008L & l) != 0L && kind > 143)
+                     kind = 143;
                   break;
                case 162:
                   if ((0x10000000100000L & l) != 0L)
-                     jjAddStates(268, 273);
+                     jjAddStates(269, 274);
                   break;
                case 163:
                   if ((0x4000000040000L & l) != 0L)
@@ -2345,8 +2345,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 186;
                   break;
                case 186:
-                  if ((0x2000000020L & l) != 0L && kind > 111)
-                     kind = 111;
+                  if ((0x2000000020L & l) != 0L && kind > 112)
+                     kind = 112;
                   break;
                case 187:
                   if ((0x4000000040000L & l) != 0L)
@@ -2357,12 +2357,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 189;
                   break;
                case 189:
-                  if ((0x2000000020L & l) != 0L && kind > 178)
-                     kind = 178;
+                  if ((0x2000000020L & l) != 0L && kind > 179)
+                     kind = 179;
                   break;
                case 190:
                   if ((0x200000002000L & l) != 0L)
-                     jjAddStates(261, 267);
+                     jjAddStates(262, 268);
                   break;
                case 191:
                   if ((0x200000002L & l) != 0L)
@@ -2489,8 +2489,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 222;
                   break;
                case 222:
-                  if ((0x2000000020L & l) != 0L && kind > 145)
-                     kind = 145;
+                  if ((0x2000000020L & l) != 0L && kind > 146)
+                     kind = 146;
                   break;
                case 223:
                   if ((0x200000002L & l) != 0L)
@@ -2513,12 +2513,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 228;
                   break;
                case 228:
-                  if ((0x8000000080000L & l) != 0L && kind > 243)
-                     kind = 243;
+                  if ((0x8000000080000L & l) != 0L && kind > 244)
+                     kind = 244;
                   break;
                case 229:
                   if ((0x20000000200L & l) != 0L)
-                     jjAddStates(245, 260);
+                     jjAddStates(246, 261);
                   break;
                case 230:
                   if ((0x400000004000L & l) != 0L)
@@ -2625,8 +2625,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 256;
                   break;
                case 256:
-                  if ((0x2000000020L & l) != 0L && kind > 112)
-                     kind = 112;
+                  if ((0x2000000020L & l) != 0L && kind > 113)
+                     kind = 113;
                   break;
                case 257:
                   if ((0x1000000010L & l) != 0L)
@@ -2661,12 +2661,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 265;
                   break;
                case 265:
-                  if ((0x10000000100000L & l) != 0L && kind > 122)
-                     kind = 122;
+                  if ((0x10000000100000L & l) != 0L && kind > 123)
+                     kind = 123;
                   break;
                case 266:
-                  if ((0x4000000040L & l) != 0L && kind > 127)
-                     kind = 127;
+                  if ((0x4000000040L & l) != 0L && kind > 128)
+                     kind = 128;
                   break;
                case 267:
                   if ((0x8000000080000L & l) != 0L)
@@ -2697,8 +2697,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 274;
                   break;
                case 274:
-                  if ((0x400000004000L & l) != 0L && kind > 128)
-                     kind = 128;
+                  if ((0x400000004000L & l) != 0L && kind > 129)
+                     kind = 129;
                   break;
                case 275:
                   if ((0x1000000010L & l) != 0L)
@@ -2733,12 +2733,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 283;
                   break;
                case 283:
-                  if ((0x1000000010L & l) != 0L && kind > 148)
-                     kind = 148;
+                  if ((0x1000000010L & l) != 0L && kind > 149)
+                     kind = 149;
                   break;
                case 284:
-                  if ((0x400000004000L & l) != 0L && kind > 233)
-                     kind = 233;
+                  if ((0x400000004000L & l) != 0L && kind > 234)
+                     kind = 234;
                   break;
                case 285:
                   if ((0x400000004000L & l) != 0L)
@@ -2773,8 +2773,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 293;
                   break;
                case 293:
-                  if ((0x4000000040L & l) != 0L && kind > 245)
-                     kind = 245;
+                  if ((0x4000000040L & l) != 0L && kind > 246)
+                     kind = 246;
                   break;
                case 294:
                   if ((0x400000004000L & l) != 0L)
@@ -2840,16 +2840,16 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 312:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 250)
-                     kind = 250;
+                  if (kind > 251)
+                     kind = 251;
                   jjCheckNAddTwoStates(312, 313);
                   break;
                case 314:
                case 315:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 250)
-                     kind = 250;
+                  if (kind > 251)
+                     kind = 251;
                   jjCheckNAddTwoStates(313, 315);
                   break;
                case 316:
@@ -2972,16 +2972,16 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 347:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 251)
-                     kind = 251;
+                  if (kind > 252)
+                     kind = 252;
                   jjCheckNAddTwoStates(347, 348);
                   break;
                case 349:
                case 350:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 251)
-                     kind = 251;
+                  if (kind > 252)
+                     kind = 252;
                   jjCheckNAddTwoStates(348, 350);
                   break;
                case 351:
@@ -3108,16 +3108,16 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 383:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 252)
-                     kind = 252;
+                  if (kind > 253)
+                     kind = 253;
                   jjCheckNAddTwoStates(383, 384);
                   break;
                case 385:
                case 386:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 252)
-                     kind = 252;
+                  if (kind > 253)
+                     kind = 253;
                   jjCheckNAddTwoStates(384, 386);
                   break;
                case 387:
@@ -3182,7 +3182,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                   break;
                case 402:
                   if ((0x800000008L & l) != 0L)
-                     jjAddStates(224, 244);
+                     jjAddStates(224, 245);
                   break;
                case 403:
                   if ((0x4000000040000L & l) != 0L)
@@ -3425,127 +3425,127 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 463;
                   break;
                case 463:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 464;
                   break;
                case 464:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 465;
                   break;
                case 465:
-                  if ((0x10000000100000L & l) != 0L && kind > 125)
-                     kind = 125;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 466;
                   break;
                case 466:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 467;
+                  if ((0x10000000100000L & l) != 0L && kind > 110)
+                     kind = 110;
                   break;
                case 467:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 468;
                   break;
                case 468:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 469;
                   break;
                case 469:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 470;
                   break;
                case 470:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 471;
                   break;
                case 471:
-                  if ((0x2000000020L & l) != 0L && kind > 130)
-                     kind = 130;
+                  if ((0x10000000100000L & l) != 0L && kind > 126)
+                     kind = 126;
                   break;
                case 472:
                   if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 473;
                   break;
                case 473:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 474;
                   break;
                case 474:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 475;
                   break;
                case 475:
-                  if ((0x10000000100000L & l) != 0L && kind > 137)
-                     kind = 137;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 476;
                   break;
                case 476:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 477;
                   break;
                case 477:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 478;
+                  if ((0x2000000020L & l) != 0L && kind > 131)
+                     kind = 131;
                   break;
                case 478:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 479;
                   break;
                case 479:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 480;
                   break;
                case 480:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 481;
                   break;
                case 481:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 482;
+                  if ((0x10000000100000L & l) != 0L && kind > 138)
+                     kind = 138;
                   break;
                case 482:
-                  if ((0x8000000080000L & l) != 0L && kind > 237)
-                     kind = 237;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 483;
                   break;
                case 483:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 484;
                   break;
                case 484:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 485;
                   break;
                case 485:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 486;
                   break;
                case 486:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 487;
                   break;
                case 487:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 488;
                   break;
                case 488:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 489;
+                  if ((0x8000000080000L & l) != 0L && kind > 238)
+                     kind = 238;
                   break;
                case 489:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 490;
                   break;
                case 490:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 491;
                   break;
                case 491:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 492;
                   break;
                case 492:
-                  if ((0x100000001000L & l) != 0L && kind > 238)
-                     kind = 238;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 493;
                   break;
                case 493:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 494;
                   break;
                case 494:
@@ -3553,7 +3553,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 495;
                   break;
                case 495:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 496;
                   break;
                case 496:
@@ -3561,31 +3561,31 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 497;
                   break;
                case 497:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 498;
                   break;
                case 498:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 499;
+                  if ((0x100000001000L & l) != 0L && kind > 239)
+                     kind = 239;
                   break;
                case 499:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 500;
                   break;
                case 500:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 501;
                   break;
                case 501:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 502;
                   break;
                case 502:
-                  if ((0x200000002000000L & l) != 0L && kind > 239)
-                     kind = 239;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 503;
                   break;
                case 503:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 504;
                   break;
                case 504:
@@ -3593,7 +3593,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 505;
                   break;
                case 505:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 506;
                   break;
                case 506:
@@ -3601,31 +3601,31 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 507;
                   break;
                case 507:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 508;
                   break;
                case 508:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 509;
+                  if ((0x200000002000000L & l) != 0L && kind > 240)
+                     kind = 240;
                   break;
                case 509:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 510;
                   break;
                case 510:
-                  if ((0x80000000800L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 511;
                   break;
                case 511:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 512;
                   break;
                case 512:
-                  if ((0x200000002000000L & l) != 0L && kind > 240)
-                     kind = 240;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 513;
                   break;
                case 513:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 514;
                   break;
                case 514:
@@ -3633,112 +3633,112 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 515;
                   break;
                case 515:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 516;
                   break;
                case 516:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x80000000800L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 517;
                   break;
                case 517:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 518;
                   break;
                case 518:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 519;
+                  if ((0x200000002000000L & l) != 0L && kind > 241)
+                     kind = 241;
                   break;
                case 519:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 520;
                   break;
                case 520:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 521;
                   break;
                case 521:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 522;
                   break;
                case 522:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 523;
                   break;
                case 523:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 524;
                   break;
                case 524:
-                  if ((0x2000000020L & l) != 0L && kind > 241)
-                     kind = 241;
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 525;
                   break;
                case 525:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 526;
                   break;
                case 526:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 527;
                   break;
                case 527:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 528;
                   break;
                case 528:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 529;
                   break;
                case 529:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 530;
                   break;
                case 530:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 531;
+                  if ((0x2000000020L & l) != 0L && kind > 242)
+                     kind = 242;
                   break;
                case 531:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 532;
                   break;
                case 532:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 533;
                   break;
                case 533:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 534;
                   break;
                case 534:
-                  if ((0x100000001000000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 535;
                   break;
                case 535:
-                  if ((0x10000000100000L & l) != 0L && kind > 242)
-                     kind = 242;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 536;
                   break;
                case 536:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 537;
                   break;
                case 537:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 538;
                   break;
                case 538:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 539;
                   break;
                case 539:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 540;
                   break;
                case 540:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 541;
                   break;
                case 541:
-                  if ((0x4000000040000L & l) != 0L && kind > 246)
-                     kind = 246;
+                  if ((0x10000000100000L & l) != 0L && kind > 243)
+                     kind = 243;
                   break;
                case 542:
                   if ((0x100000001000L & l) != 0L)
@@ -3761,166 +3761,166 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 547;
                   break;
                case 547:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 548;
+                  if ((0x4000000040000L & l) != 0L && kind > 247)
+                     kind = 247;
+                  break;
+               case 548:
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 549;
                   break;
                case 549:
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 550;
+                  break;
                case 550:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 253)
-                     kind = 253;
-                  jjCheckNAdd(550);
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 551;
                   break;
                case 551:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 552;
                   break;
                case 552:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 553;
                   break;
                case 553:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 554;
                   break;
-               case 554:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 555;
-                  break;
                case 555:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 556;
-                  break;
                case 556:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 557;
-                  break;
-               case 560:
-                  if ((0x100000001000L & l) != 0L && kind > 254)
-                     kind = 254;
-                  break;
-               case 562:
-                  if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(563);
-                  break;
-               case 563:
-                  if ((0x7e0000007eL & l) == 0L)
+                  if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
                   if (kind > 254)
                      kind = 254;
-                  jjCheckNAddTwoStates(563, 560);
-                  break;
-               case 565:
-                  if ((0x1000000010L & l) != 0L)
-                     jjAddStates(213, 223);
-                  break;
-               case 566:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 567;
+                  jjCheckNAdd(556);
                   break;
-               case 567:
+               case 557:
                   if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 568;
+                     jjstateSet[jjnewStateCnt++] = 558;
                   break;
-               case 568:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 569;
+               case 558:
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 559;
                   break;
-               case 569:
+               case 559:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 560;
+                  break;
+               case 560:
                   if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 570;
+                     jjstateSet[jjnewStateCnt++] = 561;
                   break;
-               case 570:
-                  if ((0x2000000020L & l) != 0L && kind > 16)
-                     kind = 16;
+               case 561:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 562;
+                  break;
+               case 562:
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 563;
+                  break;
+               case 566:
+                  if ((0x100000001000L & l) != 0L && kind > 255)
+                     kind = 255;
+                  break;
+               case 568:
+                  if ((0x100000001000000L & l) != 0L)
+                     jjCheckNAdd(569);
+                  break;
+               case 569:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 255)
+                     kind = 255;
+                  jjCheckNAddTwoStates(569, 566);
                   break;
                case 571:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 572;
+                  if ((0x1000000010L & l) != 0L)
+                     jjAddStates(213, 223);
                   break;
                case 572:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 573;
                   break;
                case 573:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 574;
                   break;
                case 574:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 575;
                   break;
                case 575:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 576;
                   break;
                case 576:
-                  if ((0x1000000010L & l) != 0L && kind > 38)
-                     kind = 38;
+                  if ((0x2000000020L & l) != 0L && kind > 16)
+                     kind = 16;
                   break;
                case 577:
                   if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 578;
                   break;
                case 578:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 579;
                   break;
                case 579:
-                  if ((0x800000008L & l) != 0L && kind > 49)
-                     kind = 49;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 580;
                   break;
                case 580:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 581;
                   break;
                case 581:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 582;
                   break;
                case 582:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 583;
+                  if ((0x1000000010L & l) != 0L && kind > 38)
+                     kind = 38;
                   break;
                case 583:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 584;
                   break;
                case 584:
-                  if (curChar == 95)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 585;
                   break;
                case 585:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 586;
+                  if ((0x800000008L & l) != 0L && kind > 49)
+                     kind = 49;
                   break;
                case 586:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 587;
                   break;
                case 587:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 588;
                   break;
                case 588:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 589;
                   break;
                case 589:
-                  if ((0x10000000100000L & l) != 0L && kind > 64)
-                     kind = 64;
+                  if ((0x10000000100L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 590;
                   break;
                case 590:
-                  if ((0x2000000020L & l) != 0L)
+                  if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 591;
                   break;
                case 591:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 592;
                   break;
                case 592:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 593;
                   break;
                case 593:
@@ -3928,219 +3928,219 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 594;
                   break;
                case 594:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 595;
                   break;
                case 595:
-                  if ((0x1000000010000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 596;
+                  if ((0x10000000100000L & l) != 0L && kind > 64)
+                     kind = 64;
                   break;
                case 596:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 597;
                   break;
                case 597:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 598;
                   break;
                case 598:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 599;
                   break;
                case 599:
-                  if ((0x400000004000L & l) != 0L && kind > 97)
-                     kind = 97;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 600;
                   break;
                case 600:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 601;
                   break;
                case 601:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 602;
                   break;
                case 602:
-                  if ((0x1000000010000L & l) != 0L && kind > 99)
-                     kind = 99;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 603;
                   break;
                case 603:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 604;
                   break;
                case 604:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 605;
                   break;
                case 605:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 606;
+                  if ((0x400000004000L & l) != 0L && kind > 97)
+                     kind = 97;
                   break;
                case 606:
-                  if ((0x400000004L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 607;
                   break;
                case 607:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 608;
                   break;
                case 608:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 609;
+                  if ((0x1000000010000L & l) != 0L && kind > 99)
+                     kind = 99;
                   break;
                case 609:
-                  if ((0x2000000020L & l) != 0L && kind > 108)
-                     kind = 108;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 610;
                   break;
                case 610:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 611;
                   break;
                case 611:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 612;
                   break;
                case 612:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x400000004L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 613;
                   break;
                case 613:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 614;
                   break;
                case 614:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 615;
                   break;
                case 615:
-                  if ((0x10000000100000L & l) != 0L && kind > 133)
-                     kind = 133;
+                  if ((0x2000000020L & l) != 0L && kind > 108)
+                     kind = 108;
                   break;
                case 616:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 617;
                   break;
                case 617:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 618;
                   break;
                case 618:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 619;
                   break;
                case 619:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 620;
                   break;
                case 620:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 621;
                   break;
                case 621:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 622;
+                  if ((0x10000000100000L & l) != 0L && kind > 134)
+                     kind = 134;
                   break;
                case 622:
-                  if ((0x10000000100000L & l) != 0L && kind > 138)
-                     kind = 138;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 623;
                   break;
                case 623:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 624;
                   break;
                case 624:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 625;
                   break;
                case 625:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 626;
                   break;
                case 626:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 627;
                   break;
                case 627:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 628;
                   break;
                case 628:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 629;
+                  if ((0x10000000100000L & l) != 0L && kind > 139)
+                     kind = 139;
                   break;
                case 629:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 630;
                   break;
                case 630:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 631;
                   break;
                case 631:
-                  if ((0x8000000080000L & l) != 0L && kind > 146)
-                     kind = 146;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 632;
                   break;
                case 632:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 633;
                   break;
                case 633:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 634;
                   break;
                case 634:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 635;
                   break;
                case 635:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 636;
                   break;
                case 636:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 637;
                   break;
                case 637:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 638;
+                  if ((0x8000000080000L & l) != 0L && kind > 147)
+                     kind = 147;
                   break;
                case 638:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 639;
                   break;
                case 639:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 640;
                   break;
                case 640:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 641;
                   break;
                case 641:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 642;
                   break;
                case 642:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 643;
                   break;
                case 643:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 644;
                   break;
                case 644:
-                  if ((0x4000000040000L & l) != 0L && kind > 152)
-                     kind = 152;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 645;
                   break;
                case 645:
-                  if ((0x40000000400000L & l) != 0L)
-                     jjAddStates(210, 212);
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 646;
                   break;
                case 646:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 647;
                   break;
                case 647:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 648;
                   break;
                case 648:
@@ -4152,255 +4152,255 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 650;
                   break;
                case 650:
-                  if ((0x100000001000000L & l) != 0L && kind > 17)
-                     kind = 17;
+                  if ((0x4000000040000L & l) != 0L && kind > 153)
+                     kind = 153;
                   break;
                case 651:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 652;
+                  if ((0x40000000400000L & l) != 0L)
+                     jjAddStates(210, 212);
                   break;
                case 652:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 653;
                   break;
                case 653:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 654;
                   break;
                case 654:
-                  if ((0x2000000020L & l) != 0L && kind > 26)
-                     kind = 26;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 655;
                   break;
                case 655:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 656;
                   break;
                case 656:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 657;
+                  if ((0x100000001000000L & l) != 0L && kind > 17)
+                     kind = 17;
                   break;
                case 657:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 658;
                   break;
                case 658:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 659;
                   break;
                case 659:
-                  if ((0x8000000080000L & l) != 0L && kind > 27)
-                     kind = 27;
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 660;
                   break;
                case 660:
-                  if ((0x2000000020L & l) != 0L)
-                     jjAddStates(202, 209);
+                  if ((0x2000000020L & l) != 0L && kind > 26)
+                     kind = 26;
                   break;
                case 661:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 662;
                   break;
                case 662:
-                  if ((0x8000000080L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 663;
                   break;
                case 663:
-                  if ((0x2000000020L & l) != 0L && kind > 18)
-                     kind = 18;
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 664;
                   break;
                case 664:
-                  if ((0x100000001000000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 665;
                   break;
                case 665:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 666;
+                  if ((0x8000000080000L & l) != 0L && kind > 27)
+                     kind = 27;
                   break;
                case 666:
                   if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 667;
+                     jjAddStates(202, 209);
                   break;
                case 667:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 668;
                   break;
                case 668:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x8000000080L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 669;
                   break;
                case 669:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 670;
+                  if ((0x2000000020L & l) != 0L && kind > 18)
+                     kind = 18;
                   break;
                case 670:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 671;
                   break;
                case 671:
-                  if ((0x400000004000L & l) != 0L && kind > 76)
-                     kind = 76;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 672;
                   break;
                case 672:
-                  if ((0x100000001000000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 673;
                   break;
                case 673:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 674;
                   break;
                case 674:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 675;
                   break;
                case 675:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 676;
                   break;
                case 676:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 677;
                   break;
                case 677:
-                  if ((0x8000000080000L & l) != 0L && kind > 85)
-                     kind = 85;
+                  if ((0x400000004000L & l) != 0L && kind > 76)
+                     kind = 76;
                   break;
                case 678:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 679;
                   break;
                case 679:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 680;
                   break;
                case 680:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 681;
                   break;
                case 681:
-                  if ((0x200000002000000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 682;
                   break;
                case 682:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 683;
                   break;
                case 683:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 684;
+                  if ((0x8000000080000L & l) != 0L && kind > 85)
+                     kind = 85;
                   break;
                case 684:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 685;
                   break;
                case 685:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 686;
                   break;
                case 686:
-                  if ((0x400000004000L & l) != 0L && kind > 98)
-                     kind = 98;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 687;
                   break;
                case 687:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x200000002000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 688;
                   break;
                case 688:
-                  if ((0x8000000080L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 689;
                   break;
                case 689:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 690;
                   break;
                case 690:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 691;
                   break;
                case 691:
-                  if ((0x2000000020L & l) != 0L && kind > 105)
-                     kind = 105;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 692;
                   break;
                case 692:
-                  if ((0x100000001000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 693;
+                  if ((0x400000004000L & l) != 0L && kind > 98)
+                     kind = 98;
                   break;
                case 693:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 694;
                   break;
                case 694:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x8000000080L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 695;
                   break;
                case 695:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 696;
                   break;
                case 696:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 697;
                   break;
                case 697:
-                  if ((0x400000004000L & l) != 0L && kind > 113)
-                     kind = 113;
+                  if ((0x2000000020L & l) != 0L && kind > 105)
+                     kind = 105;
                   break;
                case 698:
                   if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 699;
                   break;
                case 699:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 700;
                   break;
                case 700:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 701;
                   break;
                case 701:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 702;
                   break;
                case 702:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 703;
                   break;
                case 703:
-                  if ((0x2000000020L & l) != 0L && kind > 117)
-                     kind = 117;
+                  if ((0x400000004000L & l) != 0L && kind > 114)
+                     kind = 114;
                   break;
                case 704:
                   if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 705;
                   break;
                case 705:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 706;
                   break;
                case 706:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 707;
                   break;
                case 707:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 708;
                   break;
                case 708:
-                  if ((0x8000000080000L & l) != 0L && kind > 143)
-                     kind = 143;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 709;
                   break;
                case 709:
-                  if ((0x20000000200000L & l) != 0L)
-                     jjAddStates(197, 201);
+                  if ((0x2000000020L & l) != 0L && kind > 118)
+                     kind = 118;
                   break;
                case 710:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 711;
                   break;
                case 711:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 712;
                   break;
                case 712:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 713;
                   break;
                case 713:
@@ -4408,371 +4408,371 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 714;
                   break;
                case 714:
-                  if ((0x2000000020L & l) != 0L && kind > 19)
-                     kind = 19;
+                  if ((0x8000000080000L & l) != 0L && kind > 144)
+                     kind = 144;
                   break;
                case 715:
-                  if ((0x1000000010000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 716;
+                  if ((0x20000000200000L & l) != 0L)
+                     jjAddStates(197, 201);
                   break;
                case 716:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 717;
                   break;
                case 717:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 718;
                   break;
                case 718:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 719;
                   break;
                case 719:
-                  if ((0x10000000100000L & l) != 0L && kind > 20)
-                     kind = 20;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 720;
                   break;
                case 720:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 721;
+                  if ((0x2000000020L & l) != 0L && kind > 19)
+                     kind = 19;
                   break;
                case 721:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 722;
                   break;
                case 722:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 723;
                   break;
                case 723:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 724;
                   break;
                case 724:
-                  if ((0x2000000020L & l) != 0L && kind > 61)
-                     kind = 61;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 725;
                   break;
                case 725:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 726;
+                  if ((0x10000000100000L & l) != 0L && kind > 20)
+                     kind = 20;
                   break;
                case 726:
-                  if ((0x80000000800000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 727;
                   break;
                case 727:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 728;
                   break;
                case 728:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 729;
                   break;
                case 729:
-                  if ((0x1000000010L & l) != 0L && kind > 69)
-                     kind = 69;
+                  if ((0x4000000040L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 730;
                   break;
                case 730:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 731;
+                  if ((0x2000000020L & l) != 0L && kind > 61)
+                     kind = 61;
                   break;
                case 731:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 732;
                   break;
                case 732:
-                  if ((0x4000000040000L & l) != 0L && kind > 150)
-                     kind = 150;
+                  if ((0x80000000800000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 733;
                   break;
                case 733:
-                  if ((0x4000000040L & l) != 0L)
-                     jjAddStates(190, 196);
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 734;
                   break;
                case 734:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 735;
                   break;
                case 735:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 736;
+                  if ((0x1000000010L & l) != 0L && kind > 69)
+                     kind = 69;
                   break;
                case 736:
-                  if ((0x200000002000L & l) != 0L && kind > 21)
-                     kind = 21;
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 737;
                   break;
                case 737:
                   if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 738;
                   break;
                case 738:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 739;
+                  if ((0x4000000040000L & l) != 0L && kind > 151)
+                     kind = 151;
                   break;
                case 739:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 740;
+                  if ((0x4000000040L & l) != 0L)
+                     jjAddStates(190, 196);
                   break;
                case 740:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 741;
                   break;
                case 741:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 742;
                   break;
                case 742:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 743;
+                  if ((0x200000002000L & l) != 0L && kind > 21)
+                     kind = 21;
                   break;
                case 743:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 744;
                   break;
                case 744:
-                  if ((0x400000004000L & l) != 0L && kind > 50)
-                     kind = 50;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 745;
                   break;
                case 745:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 746;
                   break;
                case 746:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 747;
                   break;
                case 747:
-                  if ((0x1000000010L & l) != 0L && kind > 83)
-                     kind = 83;
+                  if ((0x1000000010000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 748;
                   break;
                case 748:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 749;
                   break;
                case 749:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 750;
                   break;
                case 750:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 751;
+                  if ((0x400000004000L & l) != 0L && kind > 50)
+                     kind = 50;
                   break;
                case 751:
-                  if ((0x2000000020L & l) != 0L && kind > 101)
-                     kind = 101;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 752;
                   break;
                case 752:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 753;
                   break;
                case 753:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 754;
+                  if ((0x1000000010L & l) != 0L && kind > 83)
+                     kind = 83;
                   break;
                case 754:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 755;
                   break;
                case 755:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 756;
                   break;
                case 756:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 757;
                   break;
                case 757:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 758;
+                  if ((0x2000000020L & l) != 0L && kind > 101)
+                     kind = 101;
                   break;
                case 758:
-                  if ((0x400000004000L & l) != 0L && kind > 120)
-                     kind = 120;
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 759;
                   break;
                case 759:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 760;
                   break;
                case 760:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 761;
                   break;
                case 761:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 762;
                   break;
                case 762:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 763;
                   break;
                case 763:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 764;
                   break;
                case 764:
-                  if ((0x10000000100L & l) != 0L && kind > 144)
-                     kind = 144;
+                  if ((0x400000004000L & l) != 0L && kind > 121)
+                     kind = 121;
                   break;
                case 765:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 766;
                   break;
                case 766:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 767;
                   break;
                case 767:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 768;
                   break;
                case 768:
-                  if ((0x2000000020L & l) != 0L && kind > 179)
-                     kind = 179;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 769;
                   break;
                case 769:
-                  if ((0x80000000800000L & l) != 0L)
-                     jjAddStates(186, 189);
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 770;
                   break;
                case 770:
-                  if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 771;
+                  if ((0x10000000100L & l) != 0L && kind > 145)
+                     kind = 145;
                   break;
                case 771:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 772;
                   break;
                case 772:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 773;
                   break;
                case 773:
-                  if ((0x2000000020L & l) != 0L && kind > 23)
-                     kind = 23;
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 774;
                   break;
                case 774:
-                  if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 775;
+                  if ((0x2000000020L & l) != 0L && kind > 180)
+                     kind = 180;
                   break;
                case 775:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 776;
+                  if ((0x80000000800000L & l) != 0L)
+                     jjAddStates(186, 189);
                   break;
                case 776:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 777;
                   break;
                case 777:
-                  if ((0x2000000020L & l) != 0L && kind > 24)
-                     kind = 24;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 778;
                   break;
                case 778:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 779;
                   break;
                case 779:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 780;
+                  if ((0x2000000020L & l) != 0L && kind > 23)
+                     kind = 23;
                   break;
                case 780:
-                  if ((0x10000000100000L & l) != 0L && kind > 56)
-                     kind = 56;
+                  if ((0x10000000100L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 781;
                   break;
                case 781:
                   if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 782;
                   break;
                case 782:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 783;
                   break;
                case 783:
-                  if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 784;
+                  if ((0x2000000020L & l) != 0L && kind > 24)
+                     kind = 24;
                   break;
                case 784:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 785;
                   break;
                case 785:
-                  if ((0x400000004000L & l) != 0L && kind > 68)
-                     kind = 68;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 786;
                   break;
                case 786:
-                  if ((0x200000002L & l) != 0L)
-                     jjAddStates(177, 185);
+                  if ((0x10000000100000L & l) != 0L && kind > 56)
+                     kind = 56;
                   break;
                case 787:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 788;
                   break;
                case 788:
-                  if ((0x1000000010L & l) != 0L && kind > 29)
-                     kind = 29;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 789;
                   break;
                case 789:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 790;
                   break;
                case 790:
-                  if ((0x1000000010L & l) != 0L && kind > 35)
-                     kind = 35;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 791;
                   break;
                case 791:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 792;
+                  if ((0x400000004000L & l) != 0L && kind > 68)
+                     kind = 68;
                   break;
                case 792:
-                  if ((0x800000008L & l) != 0L && kind > 47)
-                     kind = 47;
+                  if ((0x200000002L & l) != 0L)
+                     jjAddStates(177, 185);
                   break;
                case 793:
-                  if ((0x8000000080000L & l) != 0L && kind > 48)
-                     kind = 48;
+                  if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 794;
                   break;
                case 794:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 795;
+                  if ((0x1000000010L & l) != 0L && kind > 29)
+                     kind = 29;
                   break;
                case 795:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 796;
                   break;
                case 796:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 797;
+                  if ((0x1000000010L & l) != 0L && kind > 35)
+                     kind = 35;
                   break;
                case 797:
-                  if ((0x4000000040000L & l) != 0L && kind > 53)
-                     kind = 53;
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 798;
                   break;
                case 798:
-                  if ((0x400000004L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 799;
+                  if ((0x800000008L & l) != 0L && kind > 47)
+                     kind = 47;
                   break;
                case 799:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 800;
+                  if ((0x8000000080000L & l) != 0L && kind > 48)
+                     kind = 48;
                   break;
                case 800:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 801;
                   break;
                case 801:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 802;
                   break;
                case 802:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 803;
                   break;
                case 803:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 804;
+                  if ((0x4000000040000L & l) != 0L && kind > 53)
+                     kind = 53;
                   break;
                case 804:
-                  if ((0x10000000100000L & l) != 0L && kind > 87)
-                     kind = 87;
+                  if ((0x400000004L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 805;
                   break;
                case 805:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 806;
                   break;
                case 806:
@@ -4780,167 +4780,167 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 807;
                   break;
                case 807:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 808;
                   break;
                case 808:
-                  if ((0x4000000040000L & l) != 0L && kind > 88)
-                     kind = 88;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 809;
                   break;
                case 809:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 810;
                   break;
                case 810:
-                  if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 811;
+                  if ((0x10000000100000L & l) != 0L && kind > 87)
+                     kind = 87;
                   break;
                case 811:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 812;
                   break;
                case 812:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 813;
                   break;
                case 813:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 814;
                   break;
                case 814:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 815;
+                  if ((0x4000000040000L & l) != 0L && kind > 88)
+                     kind = 88;
                   break;
                case 815:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 816;
                   break;
                case 816:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 817;
                   break;
                case 817:
-                  if ((0x4000000040000L & l) != 0L && kind > 93)
-                     kind = 93;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 818;
                   break;
                case 818:
                   if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 819;
                   break;
                case 819:
-                  if ((0x100000001000L & l) != 0L && kind > 118)
-                     kind = 118;
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 820;
                   break;
                case 820:
-                  if ((0x1000000010000L & l) != 0L)
-                     jjAddStates(170, 176);
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 821;
                   break;
                case 821:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 822;
                   break;
                case 822:
-                  if ((0x10000000100000L & l) != 0L && kind > 30)
-                     kind = 30;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 823;
                   break;
                case 823:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 824;
+                  if ((0x4000000040000L & l) != 0L && kind > 93)
+                     kind = 93;
                   break;
                case 824:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 825;
                   break;
                case 825:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 826;
+                  if ((0x100000001000L & l) != 0L && kind > 119)
+                     kind = 119;
                   break;
                case 826:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 827;
+                  if ((0x1000000010000L & l) != 0L)
+                     jjAddStates(170, 176);
                   break;
                case 827:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 828;
                   break;
                case 828:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 829;
+                  if ((0x10000000100000L & l) != 0L && kind > 30)
+                     kind = 30;
                   break;
                case 829:
-                  if ((0x100000001000L & l) != 0L && kind > 62)
-                     kind = 62;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 830;
                   break;
                case 830:
                   if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 831;
                   break;
                case 831:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 832;
                   break;
                case 832:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 833;
                   break;
                case 833:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 834;
                   break;
                case 834:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 835;
                   break;
                case 835:
-                  if ((0x2000000020L & l) != 0L && kind > 77)
-                     kind = 77;
+                  if ((0x100000001000L & l) != 0L && kind > 62)
+                     kind = 62;
                   break;
                case 836:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 837;
                   break;
                case 837:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 838;
                   break;
                case 838:
-                  if ((0x200000002000000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 839;
                   break;
                case 839:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 840;
                   break;
                case 840:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 841;
                   break;
                case 841:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 842;
+                  if ((0x2000000020L & l) != 0L && kind > 77)
+                     kind = 77;
                   break;
                case 842:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 843;
                   break;
                case 843:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 844;
                   break;
                case 844:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 845;
                   break;
                case 845:
-                  if ((0x800000008L & l) != 0L && kind > 82)
-                     kind = 82;
+                  if ((0x200000002000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 846;
                   break;
                case 846:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 847;
                   break;
                case 847:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 848;
                   break;
                case 848:
@@ -4948,47 +4948,47 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 849;
                   break;
                case 849:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 850;
                   break;
                case 850:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 851;
                   break;
                case 851:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 852;
+                  if ((0x800000008L & l) != 0L && kind > 82)
+                     kind = 82;
                   break;
                case 852:
-                  if ((0x200000002000000L & l) != 0L && kind > 100)
-                     kind = 100;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 853;
                   break;
                case 853:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 854;
                   break;
                case 854:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 855;
                   break;
                case 855:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 856;
                   break;
                case 856:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 857;
                   break;
                case 857:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 858;
                   break;
                case 858:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 859;
+                  if ((0x200000002000000L & l) != 0L && kind > 100)
+                     kind = 100;
                   break;
                case 859:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 860;
                   break;
                case 860:
@@ -4996,167 +4996,167 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 861;
                   break;
                case 861:
-                  if ((0x8000000080000L & l) != 0L && kind > 121)
-                     kind = 121;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 862;
                   break;
                case 862:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 863;
                   break;
                case 863:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 864;
                   break;
                case 864:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 865;
                   break;
                case 865:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 866;
                   break;
                case 866:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 867;
                   break;
                case 867:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 868;
+                  if ((0x8000000080000L & l) != 0L && kind > 122)
+                     kind = 122;
                   break;
                case 868:
                   if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 869;
                   break;
                case 869:
-                  if ((0x8000000080000L & l) != 0L && kind > 147)
-                     kind = 147;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 870;
                   break;
                case 870:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjAddStates(158, 169);
+                  if ((0x10000000100L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 871;
+                  break;
+               case 871:
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 872;
                   break;
                case 872:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 873;
                   break;
                case 873:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 874;
                   break;
                case 874:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 875;
                   break;
                case 875:
-                  if ((0x2000000020L & l) != 0L && kind > 33)
-                     kind = 33;
+                  if ((0x8000000080000L & l) != 0L && kind > 148)
+                     kind = 148;
                   break;
                case 876:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 877;
-                  break;
-               case 877:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 878;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjAddStates(158, 169);
                   break;
                case 878:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 879;
                   break;
                case 879:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 880;
                   break;
                case 880:
-                  if ((0x400000004000L & l) != 0L && kind > 51)
-                     kind = 51;
+                  if ((0x40000000400000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 881;
                   break;
                case 881:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 882;
+                  if ((0x2000000020L & l) != 0L && kind > 33)
+                     kind = 33;
                   break;
                case 882:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 883;
                   break;
                case 883:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 884;
                   break;
                case 884:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 885;
                   break;
                case 885:
-                  if ((0x1000000010L & l) != 0L && kind > 55)
-                     kind = 55;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 886;
                   break;
                case 886:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 887;
+                  if ((0x400000004000L & l) != 0L && kind > 51)
+                     kind = 51;
                   break;
                case 887:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 888;
                   break;
                case 888:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 889;
                   break;
                case 889:
-                  if ((0x200000002000000L & l) != 0L && kind > 57)
-                     kind = 57;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 890;
                   break;
                case 890:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 891;
                   break;
                case 891:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 892;
+                  if ((0x1000000010L & l) != 0L && kind > 55)
+                     kind = 55;
                   break;
                case 892:
                   if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 893;
                   break;
                case 893:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 894;
                   break;
                case 894:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 895;
                   break;
                case 895:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 896;
+                  if ((0x200000002000000L & l) != 0L && kind > 57)
+                     kind = 57;
                   break;
                case 896:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 897;
                   break;
                case 897:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 898;
                   break;
                case 898:
-                  if ((0x8000000080000L & l) != 0L && kind > 84)
-                     kind = 84;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 899;
                   break;
                case 899:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 900;
                   break;
                case 900:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 901;
                   break;
                case 901:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 902;
                   break;
                case 902:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 903;
                   break;
                case 903:
@@ -5164,23 +5164,23 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 904;
                   break;
                case 904:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 905;
+                  if ((0x8000000080000L & l) != 0L && kind > 84)
+                     kind = 84;
                   break;
                case 905:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 906;
                   break;
                case 906:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 907;
                   break;
                case 907:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 908;
                   break;
                case 908:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 909;
                   break;
                case 909:
@@ -5188,75 +5188,79 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 910;
                   break;
                case 910:
-                  if ((0x4000000040000L & l) != 0L && kind > 94)
-                     kind = 94;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 911;
                   break;
                case 911:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 912;
                   break;
                case 912:
-                  if ((0x400000004L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 913;
                   break;
                case 913:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 914;
                   break;
                case 914:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 915;
                   break;
                case 915:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 916;
                   break;
                case 916:
-                  if ((0x1000000010L & l) != 0L && kind > 106)
-                     kind = 106;
+                  if ((0x4000000040000L & l) != 0L && kind > 94)
+                     kind = 94;
                   break;
                case 917:
                   if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 918;
                   break;
                case 918:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x400000004L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 919;
                   break;
                case 919:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 920;
                   break;
                case 920:
-                  if ((0x80000000800L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 921;
                   break;
                case 921:
-                  if ((0x2000000020L & l) != 0L && kind > 115)
-                     kind = 115;
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 922;
                   break;
                case 922:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 923;
+                  if ((0x1000000010L & l) != 0L && kind > 106)
+                     kind = 106;
                   break;
                case 923:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 924;
                   break;
                case 924:
-                  if ((0x1000000010L & l) != 0L && kind > 116)
-                     kind = 116;
+                  if ((0x40000000400000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 925;
                   break;
                case 925:
                   if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 926;
                   break;
+               case 926:
+                  if ((0x80000000800L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 927;
+                  break;
                case 927:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 928;
+                  if ((0x2000000020L & l) != 0L && kind > 116)
+                     kind = 116;
                   break;
                case 928:
-                  if ((0x400000004L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 929;
                   break;
                case 929:
@@ -5264,91 +5268,87 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 930;
                   break;
                case 930:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 931;
+                  if ((0x1000000010L & l) != 0L && kind > 117)
+                     kind = 117;
                   break;
                case 931:
-                  if ((0x80000000800L & l) != 0L && kind > 126)
-                     kind = 126;
-                  break;
-               case 932:
                   if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 933;
+                     jjstateSet[jjnewStateCnt++] = 932;
                   break;
                case 933:
                   if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 934;
                   break;
                case 934:
-                  if ((0x2000000020L & l) != 0L && kind > 149)
-                     kind = 149;
+                  if ((0x400000004L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 935;
                   break;
                case 935:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 936;
                   break;
                case 936:
-                  if ((0x1000000010L & l) != 0L && kind > 151)
-                     kind = 151;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 937;
                   break;
                case 937:
-                  if ((0x800000008000L & l) != 0L)
-                     jjAddStates(150, 157);
+                  if ((0x80000000800L & l) != 0L && kind > 127)
+                     kind = 127;
                   break;
                case 938:
-                  if ((0x4000000040000L & l) != 0L && kind > 36)
-                     kind = 36;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 939;
                   break;
                case 939:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 940;
                   break;
                case 940:
-                  if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 941;
+                  if ((0x2000000020L & l) != 0L && kind > 150)
+                     kind = 150;
                   break;
                case 941:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 942;
                   break;
                case 942:
-                  if ((0x4000000040000L & l) != 0L && kind > 39)
-                     kind = 39;
+                  if ((0x1000000010L & l) != 0L && kind > 152)
+                     kind = 152;
                   break;
                case 943:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 944;
+                  if ((0x800000008000L & l) != 0L)
+                     jjAddStates(150, 157);
                   break;
                case 944:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 945;
+                  if ((0x4000000040000L & l) != 0L && kind > 36)
+                     kind = 36;
                   break;
                case 945:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 946;
                   break;
                case 946:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 947;
                   break;
                case 947:
-                  if ((0x10000000100000L & l) != 0L && kind > 45)
-                     kind = 45;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 948;
                   break;
                case 948:
-                  if ((0x400000004000L & l) != 0L && kind > 79)
-                     kind = 79;
+                  if ((0x4000000040000L & l) != 0L && kind > 39)
+                     kind = 39;
                   break;
                case 949:
                   if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 950;
                   break;
                case 950:
-                  if ((0x4000000040L & l) != 0L && kind > 80)
-                     kind = 80;
+                  if ((0x4000000040L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 951;
                   break;
                case 951:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 952;
                   break;
                case 952:
@@ -5356,299 +5356,299 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 953;
                   break;
                case 953:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 954;
+                  if ((0x10000000100000L & l) != 0L && kind > 45)
+                     kind = 45;
                   break;
                case 954:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 955;
+                  if ((0x400000004000L & l) != 0L && kind > 79)
+                     kind = 79;
                   break;
                case 955:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 956;
                   break;
                case 956:
-                  if ((0x400000004000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 957;
+                  if ((0x4000000040L & l) != 0L && kind > 80)
+                     kind = 80;
                   break;
                case 957:
-                  if ((0x2000000020L & l) != 0L && kind > 91)
-                     kind = 91;
+                  if ((0x40000000400000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 958;
                   break;
                case 958:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 959;
                   break;
                case 959:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 960;
                   break;
                case 960:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 961;
                   break;
                case 961:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 962;
                   break;
                case 962:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 963;
                   break;
                case 963:
-                  if ((0x400000004000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 964;
+                  if ((0x2000000020L & l) != 0L && kind > 91)
+                     kind = 91;
                   break;
                case 964:
-                  if ((0x2000000020L & l) != 0L && kind > 109)
-                     kind = 109;
+                  if ((0x1000000010000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 965;
                   break;
                case 965:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 966;
                   break;
                case 966:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 967;
                   break;
                case 967:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 968;
                   break;
                case 968:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 969;
                   break;
                case 969:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x400000004000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 970;
                   break;
                case 970:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 971;
+                  if ((0x2000000020L & l) != 0L && kind > 109)
+                     kind = 109;
                   break;
                case 971:
-                  if ((0x100000001000L & l) != 0L && kind > 136)
-                     kind = 136;
+                  if ((0x1000000010000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 972;
                   break;
                case 972:
-                  if ((0x400000004000L & l) != 0L)
-                     jjAddStates(144, 149);
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 973;
                   break;
                case 973:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 974;
                   break;
                case 974:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 975;
                   break;
                case 975:
-                  if ((0x100000001000L & l) != 0L && kind > 37)
-                     kind = 37;
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 976;
                   break;
                case 976:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 977;
                   break;
                case 977:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 978;
+                  if ((0x100000001000L & l) != 0L && kind > 137)
+                     kind = 137;
                   break;
                case 978:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 979;
+                  if ((0x400000004000L & l) != 0L)
+                     jjAddStates(144, 149);
                   break;
                case 979:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 980;
                   break;
                case 980:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 981;
                   break;
                case 981:
-                  if ((0x2000000020L & l) != 0L && kind > 60)
-                     kind = 60;
+                  if ((0x100000001000L & l) != 0L && kind > 37)
+                     kind = 37;
                   break;
                case 982:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 983;
                   break;
                case 983:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 984;
                   break;
                case 984:
-                  if ((0x4000000040000L & l) != 0L && kind > 67)
-                     kind = 67;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 985;
                   break;
                case 985:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 986;
                   break;
                case 986:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 987;
                   break;
                case 987:
-                  if ((0x2000000020L & l) != 0L && kind > 89)
-                     kind = 89;
+                  if ((0x2000000020L & l) != 0L && kind > 60)
+                     kind = 60;
                   break;
                case 988:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 989;
                   break;
                case 989:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 990;
                   break;
                case 990:
-                  if ((0x2000000020L & l) != 0L && kind > 119)
-                     kind = 119;
+                  if ((0x4000000040000L & l) != 0L && kind > 67)
+                     kind = 67;
                   break;
                case 991:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 992;
                   break;
                case 992:
-                  if ((0x10000000100000L & l) != 0L && kind > 232)
-                     kind = 232;
+                  if ((0x200000002000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 993;
                   break;
                case 993:
-                  if ((0x8000000080L & l) != 0L)
-                     jjAddStates(142, 143);
+                  if ((0x2000000020L & l) != 0L && kind > 89)
+                     kind = 89;
                   break;
                case 994:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 995;
                   break;
                case 995:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 996;
                   break;
                case 996:
-                  if ((0x20000000200000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 997;
+                  if ((0x2000000020L & l) != 0L && kind > 120)
+                     kind = 120;
                   break;
                case 997:
-                  if ((0x1000000010000L & l) != 0L && kind > 40)
-                     kind = 40;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 998;
                   break;
                case 998:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 999;
+                  if ((0x10000000100000L & l) != 0L && kind > 233)
+                     kind = 233;
                   break;
                case 999:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1000;
+                  if ((0x8000000080L & l) != 0L)
+                     jjAddStates(142, 143);
                   break;
                case 1000:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1001;
                   break;
                case 1001:
-                  if ((0x10000000100000L & l) != 0L && kind > 114)
-                     kind = 114;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1002;
                   break;
                case 1002:
-                  if ((0x400000004L & l) != 0L)
-                     jjAddStates(135, 141);
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1003;
                   break;
                case 1003:
-                  if ((0x200000002000000L & l) != 0L && kind > 41)
-                     kind = 41;
+                  if ((0x1000000010000L & l) != 0L && kind > 40)
+                     kind = 40;
                   break;
                case 1004:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1005;
                   break;
                case 1005:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1006;
                   break;
                case 1006:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1007;
                   break;
                case 1007:
-                  if ((0x10000000100L & l) != 0L && kind > 44)
-                     kind = 44;
+                  if ((0x10000000100000L & l) != 0L && kind > 115)
+                     kind = 115;
                   break;
                case 1008:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1009;
+                  if ((0x400000004L & l) != 0L)
+                     jjAddStates(135, 141);
                   break;
                case 1009:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1010;
+                  if ((0x200000002000000L & l) != 0L && kind > 41)
+                     kind = 41;
                   break;
                case 1010:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1011;
                   break;
                case 1011:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1012;
                   break;
                case 1012:
-                  if ((0x2000000020L & l) != 0L && kind > 52)
-                     kind = 52;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1013;
                   break;
                case 1013:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1014;
+                  if ((0x10000000100L & l) != 0L && kind > 44)
+                     kind = 44;
                   break;
                case 1014:
                   if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1015;
                   break;
                case 1015:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1016;
                   break;
                case 1016:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1017;
                   break;
                case 1017:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1018;
                   break;
                case 1018:
-                  if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1019;
+                  if ((0x2000000020L & l) != 0L && kind > 52)
+                     kind = 52;
                   break;
                case 1019:
-                  if (curChar == 95)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1020;
                   break;
                case 1020:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1021;
                   break;
                case 1021:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1022;
                   break;
                case 1022:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1023;
                   break;
                case 1023:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1024;
                   break;
                case 1024:
-                  if ((0x10000000100000L & l) != 0L && kind > 65)
-                     kind = 65;
+                  if ((0x10000000100L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1025;
                   break;
                case 1025:
-                  if ((0x2000000020L & l) != 0L)
+                  if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 1026;
                   break;
                case 1026:
-                  if ((0x8000000080L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1027;
                   break;
                case 1027:
@@ -5656,119 +5656,119 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 1028;
                   break;
                case 1028:
-                  if ((0x400000004000L & l) != 0L && kind > 124)
-                     kind = 124;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1029;
                   break;
                case 1029:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1030;
                   break;
                case 1030:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1031;
+                  if ((0x10000000100000L & l) != 0L && kind > 65)
+                     kind = 65;
                   break;
                case 1031:
-                  if ((0x400000004L & l) != 0L && kind > 131)
-                     kind = 131;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1032;
                   break;
                case 1032:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x8000000080L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1033;
                   break;
                case 1033:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1034;
                   break;
                case 1034:
-                  if ((0x80000000800000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1035;
+                  if ((0x400000004000L & l) != 0L && kind > 125)
+                     kind = 125;
                   break;
                case 1035:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1036;
                   break;
                case 1036:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1037;
                   break;
                case 1037:
-                  if ((0x400000004000L & l) != 0L && kind > 236)
-                     kind = 236;
+                  if ((0x400000004L & l) != 0L && kind > 132)
+                     kind = 132;
                   break;
                case 1038:
-                  if ((0x100000001000L & l) != 0L)
-                     jjAddStates(128, 134);
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1039;
                   break;
                case 1039:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1040;
                   break;
                case 1040:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x80000000800000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1041;
                   break;
                case 1041:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1042;
                   break;
                case 1042:
-                  if ((0x10000000100000L & l) != 0L && kind > 42)
-                     kind = 42;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1043;
                   break;
                case 1043:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1044;
+                  if ((0x400000004000L & l) != 0L && kind > 237)
+                     kind = 237;
                   break;
                case 1044:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1045;
+                  if ((0x100000001000L & l) != 0L)
+                     jjAddStates(128, 134);
                   break;
                case 1045:
-                  if ((0x80000000800L & l) != 0L && kind > 54)
-                     kind = 54;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1046;
                   break;
                case 1046:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1047;
                   break;
                case 1047:
-                  if ((0x10000000100000L & l) != 0L && kind > 58)
-                     kind = 58;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1048;
                   break;
                case 1048:
-                  if ((0x20000000200000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1049;
+                  if ((0x10000000100000L & l) != 0L && kind > 42)
+                     kind = 42;
                   break;
                case 1049:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1050;
                   break;
                case 1050:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1051;
                   break;
                case 1051:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1052;
+                  if ((0x80000000800L & l) != 0L && kind > 54)
+                     kind = 54;
                   break;
                case 1052:
-                  if ((0x2000000020L & l) != 0L && kind > 66)
-                     kind = 66;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1053;
                   break;
                case 1053:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1054;
+                  if ((0x10000000100000L & l) != 0L && kind > 58)
+                     kind = 58;
                   break;
                case 1054:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1055;
                   break;
                case 1055:
-                  if ((0x80000000800L & l) != 0L && kind > 110)
-                     kind = 110;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1056;
                   break;
                case 1056:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1057;
                   break;
                case 1057:
@@ -5776,196 +5776,196 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 1058;
                   break;
                case 1058:
-                  if ((0x8000000080L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1059;
+                  if ((0x2000000020L & l) != 0L && kind > 66)
+                     kind = 66;
                   break;
                case 1059:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1060;
                   break;
                case 1060:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1061;
                   break;
                case 1061:
-                  if ((0x8000000080L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1062;
+                  if ((0x80000000800L & l) != 0L && kind > 111)
+                     kind = 111;
                   break;
                case 1062:
-                  if ((0x2000000020L & l) != 0L && kind > 123)
-                     kind = 123;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1063;
                   break;
                case 1063:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1064;
                   break;
                case 1064:
-                  if ((0x80000000800L & l) != 0L)
+                  if ((0x8000000080L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1065;
                   break;
                case 1065:
-                  if ((0x2000000020L & l) != 0L && kind > 234)
-                     kind = 234;
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1066;
                   break;
                case 1066:
-                  if (curChar == 64)
-                     jjAddStates(117, 127);
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1067;
+                  break;
+               case 1067:
+                  if ((0x8000000080L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1068;
                   break;
                case 1068:
-                  if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1069;
+                  if ((0x2000000020L & l) != 0L && kind > 124)
+                     kind = 124;
                   break;
                case 1069:
                   if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1070;
                   break;
                case 1070:
-                  if ((0x8000000080000L & l) != 0L && kind > 153)
-                     kind = 153;
+                  if ((0x80000000800L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1071;
                   break;
                case 1071:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1072;
+                  if ((0x2000000020L & l) != 0L && kind > 235)
+                     kind = 235;
                   break;
                case 1072:
-               case 1100:
-                  if ((0x20000000200L & l) != 0L)
-                     jjCheckNAdd(1073);
-                  break;
-               case 1073:
-                  if ((0x1000000010L & l) != 0L && kind > 154)
-                     kind = 154;
+                  if (curChar == 64)
+                     jjAddStates(117, 127);
                   break;
                case 1074:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1075;
                   break;
                case 1075:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1076;
                   break;
                case 1076:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1077;
+                  if ((0x8000000080000L & l) != 0L && kind > 154)
+                     kind = 154;
                   break;
                case 1077:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjCheckNAdd(1078);
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1078;
                   break;
                case 1078:
-                  if ((0x8000000080000L & l) != 0L && kind > 154)
-                     kind = 154;
+               case 1106:
+                  if ((0x20000000200L & l) != 0L)
+                     jjCheckNAdd(1079);
                   break;
                case 1079:
-                  if ((0x40000000400000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1080;
+                  if ((0x1000000010L & l) != 0L && kind > 155)
+                     kind = 155;
                   break;
                case 1080:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1081;
                   break;
                case 1081:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1082;
                   break;
                case 1082:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1083;
                   break;
                case 1083:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1084;
+                  if ((0x8000000080000L & l) != 0L)
+                     jjCheckNAdd(1084);
                   break;
                case 1084:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1085;
+                  if ((0x8000000080000L & l) != 0L && kind > 155)
+                     kind = 155;
                   break;
                case 1085:
-                  if ((0x400000004000L & l) != 0L && kind > 154)
-                     kind = 154;
+                  if ((0x40000000400000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1086;
                   break;
                case 1086:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1087;
                   break;
                case 1087:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1088;
                   break;
                case 1088:
-                  if ((0x400000004000000L & l) != 0L)
-                     jjCheckNAdd(1089);
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1089;
                   break;
                case 1089:
-                  if ((0x2000000020L & l) != 0L && kind > 154)
-                     kind = 154;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1090;
                   break;
                case 1090:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1091;
                   break;
                case 1091:
-                  if ((0x200000002000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1092;
+                  if ((0x400000004000L & l) != 0L && kind > 155)
+                     kind = 155;
                   break;
                case 1092:
-                  if ((0x1000000010000L & l) != 0L)
-                     jjCheckNAdd(1089);
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1093;
                   break;
                case 1093:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1094;
                   break;
                case 1094:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1095;
+                  if ((0x400000004000000L & l) != 0L)
+                     jjCheckNAdd(1095);
                   break;
                case 1095:
-                  if ((0x80000000800000L & l) != 0L && kind > 154)
-                     kind = 154;
+                  if ((0x2000000020L & l) != 0L && kind > 155)
+                     kind = 155;
                   break;
                case 1096:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1097;
                   break;
                case 1097:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1098;
                   break;
                case 1098:
-                  if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1099;
+                  if ((0x1000000010000L & l) != 0L)
+                     jjCheckNAdd(1095);
                   break;
                case 1099:
-                  if (curChar == 95)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1100;
                   break;
+               case 1100:
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1101;
+                  break;
                case 1101:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1102;
+                  if ((0x80000000800000L & l) != 0L && kind > 155)
+                     kind = 155;
                   break;
                case 1102:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1103;
                   break;
                case 1103:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1104;
                   break;
                case 1104:
-                  if (curChar == 95)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1105;
                   break;
                case 1105:
-                  if ((0x1000000010000L & l) != 0L)
+                  if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 1106;
                   break;
-               case 1106:
-                  if ((0x800000008000L & l) != 0L)
-                     jjCheckNAdd(1078);
-                  break;
                case 1107:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1108;
                   break;
                case 1108:
@@ -5973,149 +5973,173 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 1109;
                   break;
                case 1109:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1110;
                   break;
                case 1110:
-                  if ((0x100000001000L & l) != 0L)
+                  if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 1111;
                   break;
                case 1111:
-                  if ((0x1000000010L & l) != 0L)
-                     jjCheckNAdd(1078);
+                  if ((0x1000000010000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1112;
                   break;
                case 1112:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1113;
+                  if ((0x800000008000L & l) != 0L)
+                     jjCheckNAdd(1084);
                   break;
                case 1113:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1114;
                   break;
                case 1114:
-                  if ((0x1000000010L & l) != 0L && kind > 155)
-                     kind = 155;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1115;
                   break;
-               case 1117:
-                  if ((0x100000001000L & l) != 0L && kind > 165)
-                     kind = 165;
+               case 1115:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1116;
                   break;
-               case 1119:
+               case 1116:
                   if ((0x100000001000L & l) != 0L)
-                     jjCheckNAdd(1129);
+                     jjstateSet[jjnewStateCnt++] = 1117;
                   break;
-               case 1124:
-                  if ((0x100000001000L & l) != 0L && kind > 176)
-                     kind = 176;
+               case 1117:
+                  if ((0x1000000010L & l) != 0L)
+                     jjCheckNAdd(1084);
                   break;
-               case 1126:
-                  if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1127);
+               case 1118:
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1119;
                   break;
-               case 1127:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 176)
-                     kind = 176;
-                  jjCheckNAddTwoStates(1127, 1124);
+               case 1119:
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1120;
                   break;
-               case 1131:
+               case 1120:
+                  if ((0x1000000010L & l) != 0L && kind > 156)
+                     kind = 156;
+                  break;
+               case 1123:
+                  if ((0x100000001000L & l) != 0L && kind > 166)
+                     kind = 166;
+                  break;
+               case 1125:
                   if ((0x100000001000L & l) != 0L)
-                     jjCheckNAdd(1142);
+                     jjCheckNAdd(1135);
                   break;
-               case 1136:
+               case 1130:
                   if ((0x100000001000L & l) != 0L && kind > 177)
                      kind = 177;
                   break;
-               case 1138:
+               case 1132:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1139);
+                     jjCheckNAdd(1133);
                   break;
-               case 1139:
+               case 1133:
                   if ((0x7e0000007eL & l) == 0L)
                      break;
                   if (kind > 177)
                      kind = 177;
-                  jjCheckNAddTwoStates(1139, 1136);
+                  jjCheckNAddTwoStates(1133, 1130);
+                  break;
+               case 1137:
+                  if ((0x100000001000L & l) != 0L)
+                     jjCheckNAdd(1148);
+                  break;
+               case 1142:
+                  if ((0x100000001000L & l) != 0L && kind > 178)
+                     kind = 178;
                   break;
                case 1144:
-                  if ((0xffffffffefffffffL & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjCheckNAdd(1145);
                   break;
-               case 1146:
+               case 1145:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 178)
+                     kind = 178;
+                  jjCheckNAddTwoStates(1145, 1142);
+                  break;
+               case 1150:
+                  if ((0xffffffffefffffffL & l) != 0L)
+                     jjCheckNAdd(1151);
+                  break;
+               case 1152:
                   if (curChar == 92)
-                     jjAddStates(301, 303);
+                     jjAddStates(302, 304);
                   break;
-               case 1147:
+               case 1153:
                   if ((0x14404410000000L & l) != 0L)
-                     jjCheckNAdd(1145);
+                     jjCheckNAdd(1151);
                   break;
-               case 1152:
+               case 1158:
                   if ((0xffffffffefffffffL & l) != 0L)
                      jjCheckNAddStates(93, 95);
                   break;
-               case 1153:
+               case 1159:
                   if (curChar == 92)
-                     jjAddStates(304, 306);
+                     jjAddStates(305, 307);
                   break;
-               case 1154:
+               case 1160:
                   if ((0x14404410000000L & l) != 0L)
                      jjCheckNAddStates(93, 95);
                   break;
-               case 1164:
+               case 1170:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1165);
+                     jjCheckNAdd(1171);
                   break;
-               case 1165:
+               case 1171:
                   if ((0x7e0000007eL & l) != 0L)
                      jjCheckNAddStates(100, 102);
                   break;
-               case 1168:
+               case 1174:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1169);
+                     jjCheckNAdd(1175);
                   break;
-               case 1169:
+               case 1175:
                   if ((0x7e0000007eL & l) != 0L)
                      jjCheckNAddStates(106, 108);
                   break;
-               case 1172:
+               case 1178:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1173);
+                     jjCheckNAdd(1179);
                   break;
-               case 1173:
+               case 1179:
                   if ((0x7e0000007eL & l) == 0L)
                      break;
-                  if (kind > 165)
-                     kind = 165;
-                  jjCheckNAddTwoStates(1173, 1117);
+                  if (kind > 166)
+                     kind = 166;
+                  jjCheckNAddTwoStates(1179, 1123);
                   break;
-               case 1175:
+               case 1181:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAddTwoStates(1176, 1177);
+                     jjCheckNAddTwoStates(1182, 1183);
                   break;
-               case 1176:
+               case 1182:
                   if ((0x7e0000007eL & l) != 0L)
-                     jjCheckNAddTwoStates(1176, 1177);
+                     jjCheckNAddTwoStates(1182, 1183);
                   break;
-               case 1178:
+               case 1184:
                   if ((0x7e0000007eL & l) != 0L)
-                     jjAddStates(307, 308);
+                     jjAddStates(308, 309);
                   break;
-               case 1179:
+               case 1185:
                   if ((0x1000000010000L & l) != 0L)
-                     jjAddStates(309, 310);
+                     jjAddStates(310, 311);
                   break;
-               case 1182:
+               case 1188:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1183);
+                     jjCheckNAdd(1189);
                   break;
-               case 1183:
+               case 1189:
                   if ((0x7e0000007eL & l) != 0L)
                      jjCheckNAddStates(114, 116);
                   break;
-               case 1185:
+               case 1191:
                   if ((0x1000000010000L & l) != 0L)
-                     jjAddStates(311, 312);
+                     jjAddStates(312, 313);
                   break;
                default : break;
             }
@@ -6135,7 +6159,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 37:
                case 33:
                   if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     jjCheckNAddStates(14, 16);
+                     jjCheckNAddStates(0, 2);
                   break;
                case 1:
                   if (jjCanMove_0(hiByte, i1, i2, l1, l2) && kind > 6)
@@ -6145,11 +6169,11 @@ private int jjMoveNfa_0(int startState, int curPos)
                   if (jjCanMove_0(hiByte, i1, i2, l1, l2))
                      jjAddStates(33, 35);
                   break;
-               case 1144:
+               case 1150:
                   if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     jjstateSet[jjnewStateCnt++] = 1145;
+                     jjstateSet[jjnewStateCnt++] = 1151;
                   break;
-               case 1152:
+               case 1158:
                   if (jjCanMove_0(hiByte, i1, i2, l1, l2))
                      jjAddStates(93, 95);
                   break;
@@ -6164,7 +6188,7 @@ private int jjMoveNfa_0(int startState, int curPos)
          kind = 0x7fffffff;
       }
       ++curPos;
-      if ((i = jjnewStateCnt) == (startsAt = 1188 - (jjnewStateCnt = startsAt)))
+      if ((i = jjnewStateCnt) == (startsAt = 1194 - (jjnewStateCnt = startsAt)))
          return curPos;
       try { curChar = input_stream.readChar(); }
       catch(java.io.IOException e) { return curPos; }
@@ -6225,26 +6249,26 @@ private int jjMoveStringLiteralDfa1_1(long active0)
    return 2;
 }
 static final int[] jjnextStates = {
-   1130, 1131, 1142, 1168, 1170, 1119, 1129, 1118, 1119, 1129, 1164, 1166, 1131, 1142, 33, 35, 
-   36, 54, 55, 17, 58, 59, 62, 63, 1161, 1162, 1163, 1167, 1144, 1146, 1152, 1153, 
-   1155, 19, 20, 22, 1116, 1117, 1118, 1119, 1129, 1130, 1131, 1142, 1172, 1174, 1117, 1175, 
-   1182, 1168, 1170, 1119, 1129, 1164, 1166, 1131, 1142, 13, 14, 17, 19, 20, 24, 22, 
-   54, 55, 17, 64, 65, 17, 330, 311, 365, 346, 401, 382, 558, 561, 562, 564, 
-   560, 1121, 1122, 1125, 1126, 1128, 1124, 1133, 1134, 1137, 1138, 1140, 1136, 1152, 1153, 1155, 
-   1152, 1153, 1157, 1155, 1165, 1131, 1142, 1166, 1131, 1142, 1169, 1119, 1129, 1170, 1119, 1129, 
-   1176, 1177, 1183, 1184, 1185, 1067, 1071, 1074, 1079, 1086, 1090, 1093, 1096, 1101, 1107, 1112, 
-   1039, 1043, 1046, 1048, 1053, 1056, 1063, 1003, 1004, 1008, 1013, 1025, 1029, 1032, 994, 998, 
-   973, 976, 982, 985, 988, 991, 938, 939, 943, 948, 949, 951, 958, 965, 871, 876, 
-   881, 886, 890, 899, 911, 917, 922, 925, 932, 935, 821, 823, 830, 836, 846, 853, 
-   862, 787, 789, 791, 793, 794, 798, 805, 809, 818, 770, 774, 778, 781, 734, 737, 
-   745, 748, 752, 759, 765, 710, 715, 720, 725, 730, 661, 664, 672, 678, 687, 692, 
-   698, 704, 646, 651, 655, 566, 571, 577, 580, 590, 600, 603, 610, 616, 623, 632, 
-   403, 408, 414, 418, 422, 428, 435, 440, 455, 461, 466, 472, 476, 483, 493, 503, 
-   513, 525, 536, 542, 551, 230, 235, 238, 246, 250, 251, 257, 266, 267, 275, 284, 
-   285, 294, 299, 331, 366, 191, 195, 199, 206, 213, 220, 223, 163, 170, 171, 177, 
-   184, 187, 69, 74, 76, 79, 86, 95, 106, 112, 120, 129, 133, 138, 145, 149, 
-   154, 159, 15, 16, 21, 23, 25, 56, 57, 60, 61, 66, 67, 1147, 1148, 1150, 
-   1154, 1156, 1158, 1178, 1179, 1180, 1181, 1186, 1187, 
+   33, 35, 36, 1136, 1137, 1148, 1174, 1176, 1125, 1135, 1124, 1125, 1135, 1170, 1172, 1137, 
+   1148, 54, 55, 17, 58, 59, 62, 63, 1167, 1168, 1169, 1173, 1150, 1152, 1158, 1159, 
+   1161, 19, 20, 22, 1122, 1123, 1124, 1125, 1135, 1136, 1137, 1148, 1178, 1180, 1123, 1181, 
+   1188, 1174, 1176, 1125, 1135, 1170, 1172, 1137, 1148, 13, 14, 17, 19, 20, 24, 22, 
+   54, 55, 17, 64, 65, 17, 330, 311, 365, 346, 401, 382, 564, 567, 568, 570, 
+   566, 1127, 1128, 1131, 1132, 1134, 1130, 1139, 1140, 1143, 1144, 1146, 1142, 1158, 1159, 1161, 
+   1158, 1159, 1163, 1161, 1171, 1137, 1148, 1172, 1137, 1148, 1175, 1125, 1135, 1176, 1125, 1135, 
+   1182, 1183, 1189, 1190, 1191, 1073, 1077, 1080, 1085, 1092, 1096, 1099, 1102, 1107, 1113, 1118, 
+   1045, 1049, 1052, 1054, 1059, 1062, 1069, 1009, 1010, 1014, 1019, 1031, 1035, 1038, 1000, 1004, 
+   979, 982, 988, 991, 994, 997, 944, 945, 949, 954, 955, 957, 964, 971, 877, 882, 
+   887, 892, 896, 905, 917, 923, 928, 931, 938, 941, 827, 829, 836, 842, 852, 859, 
+   868, 793, 795, 797, 799, 800, 804, 811, 815, 824, 776, 780, 784, 787, 740, 743, 
+   751, 754, 758, 765, 771, 716, 721, 726, 731, 736, 667, 670, 678, 684, 693, 698, 
+   704, 710, 652, 657, 661, 572, 577, 583, 586, 596, 606, 609, 616, 622, 629, 638, 
+   403, 408, 414, 418, 422, 428, 435, 440, 455, 461, 467, 472, 478, 482, 489, 499, 
+   509, 519, 531, 542, 548, 557, 230, 235, 238, 246, 250, 251, 257, 266, 267, 275, 
+   284, 285, 294, 299, 331, 366, 191, 195, 199, 206, 213, 220, 223, 163, 170, 171, 
+   177, 184, 187, 69, 74, 76, 79, 86, 95, 106, 112, 120, 129, 133, 138, 145, 
+   149, 154, 159, 15, 16, 21, 23, 25, 56, 57, 60, 61, 66, 67, 1153, 1154, 
+   1156, 1160, 1162, 1164, 1184, 1185, 1186, 1187, 1192, 1193, 
 };
 private static final boolean jjCanMove_0(int hiByte, int i1, int i2, long l1, long l2)
 {
@@ -6273,11 +6297,11 @@ null, null, null, null, null, null, null, null, null, null, null, null, null, nu
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
-null, null, null, null, null, null, null, null, null, null, null, null, null, "\50", 
-"\51", "\173", "\175", "\133", "\135", "\73", "\54", "\56", "\100", "\44", "\140", 
-"\75", "\75\75", "\74", "\76", "\41", "\176", "\77", "\72", "\74\75", "\76\75", 
-"\41\75", "\74\76", "\174\174", "\46\46", "\53\53", "\55\55", "\53", "\55", "\52", 
-"\57", "\46", "\174", "\136", "\45", "\74\74", "\53\75", "\55\75", "\52\75", 
+null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
+"\50", "\51", "\173", "\175", "\133", "\135", "\73", "\54", "\56", "\100", "\44", 
+"\140", "\75", "\75\75", "\74", "\76", "\41", "\176", "\77", "\72", "\74\75", 
+"\76\75", "\41\75", "\74\76", "\174\174", "\46\46", "\53\53", "\55\55", "\53", "\55", 
+"\52", "\57", "\46", "\174", "\136", "\45", "\74\74", "\53\75", "\55\75", "\52\75", 
 "\57\75", "\46\75", "\174\75", "\136\75", "\45\75", "\74\74\75", "\76\76\75", 
 "\76\76\76\75", "\76\76", "\76\76\76", "\56\56\56", "\56\56", null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
@@ -6307,11 +6331,11 @@ public static final int[] jjnewLexState = {
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
 };
 static final long[] jjtoToken = {
-   0xfffffffffffff801L, 0xffffffffffffffffL, 0xffffc2201fffffffL, 0xffffffffffffffffL, 
-   0x7ffcL, 
+   0xfffffffffffff801L, 0xffffffffffffffffL, 0xffff84403fffffffL, 0xffffffffffffffffL, 
+   0xfff9L, 
 };
 static final long[] jjtoSkip = {
    0x33eL, 0x0L, 0x0L, 0x0L, 
@@ -6326,8 +6350,8 @@ static final long[] jjtoMore = {
    0x0L, 
 };
 protected CharStream input_stream;
-private final int[] jjrounds = new int[1188];
-private final int[] jjstateSet = new int[2376];
+private final int[] jjrounds = new int[1194];
+private final int[] jjstateSet = new int[2388];
 private final StringBuilder jjimage = new StringBuilder();
 private StringBuilder image = jjimage;
 private int jjimageLen;
@@ -6356,7 +6380,7 @@ private void ReInitRounds()
 {
    int i;
    jjround = 0x80000001;
-   for (i = 1188; i-- > 0;)
+   for (i = 1194; i-- > 0;)
       jjrounds[i] = 0x80000000;
 }
 
@@ -147,51 +147,52 @@ public interface OrientSqlTreeConstants
   public int JJTPROFILESTORAGESTATEMENT = 141;
   public int JJTTRUNCATECLASSSTATEMENT = 142;
   public int JJTTRUNCATECLUSTERSTATEMENT = 143;
-  public int JJTTRUNCATERECORDSTATEMENT = 144;
-  public int JJTFINDREFERENCESSTATEMENT = 145;
-  public int JJTCREATECLASSSTATEMENT = 146;
-  public int JJTALTERCLASSSTATEMENT = 147;
-  public int JJTDROPCLASSSTATEMENT = 148;
-  public int JJTIFNOTEXISTS = 149;
-  public int JJTCREATEPROPERTYSTATEMENT = 150;
-  public int JJTCREATEPROPERTYATTRIBUTESTATEMENT = 151;
-  public int JJTALTERPROPERTYSTATEMENT = 152;
-  public int JJTDROPPROPERTYSTATEMENT = 153;
-  public int JJTCREATEINDEXSTATEMENT = 154;
-  public int JJTREBUILDINDEXSTATEMENT = 155;
-  public int JJTDROPINDEXSTATEMENT = 156;
-  public int JJTCREATECLUSTERSTATEMENT = 157;
-  public int JJTALTERCLUSTERSTATEMENT = 158;
-  public int JJTDROPCLUSTERSTATEMENT = 159;
-  public int JJTALTERDATABASESTATEMENT = 160;
-  public int JJTCOMMANDLINEOPTION = 161;
-  public int JJTOPTIMIZEDATABASESTATEMENT = 162;
-  public int JJTCREATELINKSTATEMENT = 163;
-  public int JJTEXPLAINSTATEMENT = 164;
-  public int JJTPROFILESTATEMENT = 165;
-  public int JJTPERMISSION = 166;
-  public int JJTRESOURCEPATHITEM = 167;
-  public int JJTGRANTSTATEMENT = 168;
-  public int JJTREVOKESTATEMENT = 169;
-  public int JJTCREATEFUNCTIONSTATEMENT = 170;
-  public int JJTCREATEUSERSTATEMENT = 171;
-  public int JJTDROPUSERSTATEMENT = 172;
-  public int JJTLETSTATEMENT = 173;
-  public int JJTBEGINSTATEMENT = 174;
-  public int JJTCOMMITSTATEMENT = 175;
-  public int JJTROLLBACKSTATEMENT = 176;
-  public int JJTRETURNSTATEMENT = 177;
-  public int JJTIFSTATEMENT = 178;
-  public int JJTSLEEPSTATEMENT = 179;
-  public int JJTCONSOLESTATEMENT = 180;
-  public int JJTCREATESEQUENCESTATEMENT = 181;
-  public int JJTALTERSEQUENCESTATEMENT = 182;
-  public int JJTDROPSEQUENCESTATEMENT = 183;
-  public int JJTHASTATUSSTATEMENT = 184;
-  public int JJTHAREMOVESERVERSTATEMENT = 185;
-  public int JJTHASYNCDATABASESTATEMENT = 186;
-  public int JJTHASYNCCLUSTERSTATEMENT = 187;
-  public int JJTFOREACHBLOCK = 188;
+  public int JJTCOMPACTCLUSTERSTATEMENT = 144;
+  public int JJTTRUNCATERECORDSTATEMENT = 145;
+  public int JJTFINDREFERENCESSTATEMENT = 146;
+  public int JJTCREATECLASSSTATEMENT = 147;
+  public int JJTALTERCLASSSTATEMENT = 148;
+  public int JJTDROPCLASSSTATEMENT = 149;
+  public int JJTIFNOTEXISTS = 150;
+  public int JJTCREATEPROPERTYSTATEMENT = 151;
+  public int JJTCREATEPROPERTYATTRIBUTESTATEMENT = 152;
+  public int JJTALTERPROPERTYSTATEMENT = 153;
+  public int JJTDROPPROPERTYSTATEMENT = 154;
+  public int JJTCREATEINDEXSTATEMENT = 155;
+  public int JJTREBUILDINDEXSTATEMENT = 156;
+  public int JJTDROPINDEXSTATEMENT = 157;
+  public int JJTCREATECLUSTERSTATEMENT = 158;
+  public int JJTALTERCLUSTERSTATEMENT = 159;
+  public int JJTDROPCLUSTERSTATEMENT = 160;
+  public int JJTALTERDATABASESTATEMENT = 161;
+  public int JJTCOMMANDLINEOPTION = 162;
+  public int JJTOPTIMIZEDATABASESTATEMENT = 163;
+  public int JJTCREATELINKSTATEMENT = 164;
+  public int JJTEXPLAINSTATEMENT = 165;
+  public int JJTPROFILESTATEMENT = 166;
+  public int JJTPERMISSION = 167;
+  public int JJTRESOURCEPATHITEM = 168;
+  public int JJTGRANTSTATEMENT = 169;
+  public int JJTREVOKESTATEMENT = 170;
+  public int JJTCREATEFUNCTIONSTATEMENT = 171;
+  public int JJTCREATEUSERSTATEMENT = 172;
+  public int JJTDROPUSERSTATEMENT = 173;
+  public int JJTLETSTATEMENT = 174;
+  public int JJTBEGINSTATEMENT = 175;
+  public int JJTCOMMITSTATEMENT = 176;
+  public int JJTROLLBACKSTATEMENT = 177;
+  public int JJTRETURNSTATEMENT = 178;
+  public int JJTIFSTATEMENT = 179;
+  public int JJTSLEEPSTATEMENT = 180;
+  public int JJTCONSOLESTATEMENT = 181;
+  public int JJTCREATESEQUENCESTATEMENT = 182;
+  public int JJTALTERSEQUENCESTATEMENT = 183;
+  public int JJTDROPSEQUENCESTATEMENT = 184;
+  public int JJTHASTATUSSTATEMENT = 185;
+  public int JJTHAREMOVESERVERSTATEMENT = 186;
+  public int JJTHASYNCDATABASESTATEMENT = 187;
+  public int JJTHASYNCCLUSTERSTATEMENT = 188;
+  public int JJTFOREACHBLOCK = 189;
 
 
   public String[] jjtNodeName = {
@@ -339,6 +340,7 @@ public interface OrientSqlTreeConstants
     "ProfileStorageStatement",
     "TruncateClassStatement",
     "TruncateClusterStatement",
+    "CompactClusterStatement",
     "TruncateRecordStatement",
     "FindReferencesStatement",
     "CreateClassStatement",
@@ -386,4 +388,4 @@ public interface OrientSqlTreeConstants
     "ForEachBlock",
   };
 }
-/* JavaCC - OriginalChecksum=5f5dbd050e29aa0475fb353c52f97418 (do not edit this line) */
+/* JavaCC - OriginalChecksum=df40b3c4b5519f51457d495fb3a5c4ea (do not edit this line) */
@@ -80,6 +80,23 @@ public interface OCluster {
   OPhysicalPosition createRecord(byte[] content, int recordVersion, byte recordType, OPhysicalPosition allocatedPosition)
       throws IOException;
 
+  /**
+   * Creates several new records in the cluster at once.
+   *
+   * @param contents      the content of the records.
+   * @param recordVersion the current version of all records
+   * @param recordTypes   the types of the records
+   *
+   * @return the positions where the records are created in the same order as passed in content.
+   */
+  default OPhysicalPosition[] createRecords(byte[][] contents, int recordVersion, byte[] recordTypes) throws IOException {
+    final OPhysicalPosition[] result = new OPhysicalPosition[contents.length];
+    for (int i = 0; i < contents.length; i++)
+      result[i] = createRecord(contents[i], recordVersion, recordTypes[i], null);
+
+    return result;
+  }
+
   boolean deleteRecord(long clusterPosition) throws IOException;
 
   void updateRecord(long clusterPosition, byte[] content, int recordVersion, byte recordType) throws IOException;
@@ -91,6 +108,19 @@ public interface OCluster {
 
   ORawBuffer readRecord(long clusterPosition, boolean prefetchRecords) throws IOException;
 
+  /**
+   * Reads several records of the cluster at once.
+   *
+   * @return Records in the same order as passed in positions, <code>null</code> is placed instead of absent records.
+   */
+  default ORawBuffer[] readRecords(long[] clusterPositions) throws IOException {
+    final ORawBuffer[] result = new ORawBuffer[clusterPositions.length];
+    for (int i = 0; i < clusterPositions.length; i++)
+      result[i] = readRecord(clusterPositions[i], false);
+
+    return result;
+  }
+
   ORawBuffer readRecordIfVersionIsNotLatest(long clusterPosition, int recordVersion) throws IOException, ORecordNotFoundException;
 
   boolean exists();
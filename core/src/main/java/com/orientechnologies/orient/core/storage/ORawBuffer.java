@@ -21,6 +21,7 @@ package com.orientechnologies.orient.core.storage;
 
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializer;
 import com.orientechnologies.orient.core.type.OBuffer;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -32,6 +33,12 @@ public class ORawBuffer extends OBuffer {
   public int  version;
   public byte recordType;
 
+  /**
+   * Serializer of the buffer if it is not the one of the database, as for the records sent by the server in the format of the
+   * storage. Not serialized.
+   */
+  public ORecordSerializer recordFormat;
+
   /**
    * Constructor used by serialization.
    */
@@ -35,7 +35,9 @@ import com.orientechnologies.orient.core.util.OBackupable;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.concurrent.Callable;
@@ -82,12 +84,47 @@ public interface OStorage extends OBackupable, OSharedContainer {
   OStorageOperationResult<OPhysicalPosition> createRecord(ORecordId iRecordId, byte[] iContent, int iRecordVersion,
       byte iRecordType, int iMode, ORecordCallback<Long> iCallback);
 
+  /**
+   * Creates several new records in the same cluster at once. Implementations may write all records inside of single atomic
+   * operation to fill cluster pages one by one instead of modification of the same page for each record.
+   *
+   * @return positions of created records in the same order as passed in content.
+   */
+  default OPhysicalPosition[] createRecords(int clusterId, byte[][] contents, int recordVersion, byte[] recordTypes) {
+    final OPhysicalPosition[] result = new OPhysicalPosition[contents.length];
+    for (int i = 0; i < contents.length; i++)
+      result[i] = createRecord(new ORecordId(clusterId, -1), contents[i], recordVersion, recordTypes[i], 0, null).getResult();
+
+    return result;
+  }
+
   OStorageOperationResult<ORawBuffer> readRecord(ORecordId iRid, String iFetchPlan, boolean iIgnoreCache, boolean prefetchRecords,
       ORecordCallback<ORawBuffer> iCallback);
 
   OStorageOperationResult<ORawBuffer> readRecordIfVersionIsNotLatest(ORecordId rid, String fetchPlan, boolean ignoreCache,
       int recordVersion) throws ORecordNotFoundException;
 
+  /**
+   * Reads several records at once. Implementations may group records by clusters and pages to read them with single acquisition
+   * of locks and single load of each page.
+   *
+   * @return Map of read records, records which do not exist are absent in the map.
+   */
+  default Map<ORID, ORawBuffer> readRecords(Collection<? extends ORID> rids) {
+    final Map<ORID, ORawBuffer> result = new HashMap<>();
+    for (ORID rid : rids) {
+      try {
+        final ORawBuffer buffer = readRecord(new ORecordId(rid), null, false, false, null).getResult();
+        if (buffer != null)
+          result.put(rid, buffer);
+      } catch (ORecordNotFoundException ignore) {
+        // absent records are not included in result
+      }
+    }
+
+    return result;
+  }
+
   /**
    * Resurrects a record that was previously deleted, with a new content.
    */
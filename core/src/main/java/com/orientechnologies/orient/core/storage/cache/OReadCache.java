@@ -72,6 +72,20 @@ public interface OReadCache {
 
   void releaseFromRead(OCacheEntry cacheEntry, OWriteCache writeCache);
 
+  /**
+   * Asynchronously loads pages which are going to be requested soon, for example by sequential scan of the file. Pages are read by
+   * single batched read which starts from the first page which is absent in cache. Pages which are out of file range are ignored.
+   * Method does not wait for the pages to be loaded, it is not guaranteed that pages will be loaded at all.
+   *
+   * @param fileId         Id of file pages of which should be loaded.
+   * @param startPageIndex Index of the first page to load.
+   * @param pageCount      Amount of pages to load.
+   * @param writeCache     Write cache which is used to read pages and to execute prefetch task.
+   *
+   * @see OWriteCache#executePrefetch(Runnable)
+   */
+  void prefetch(long fileId, long startPageIndex, int pageCount, OWriteCache writeCache);
+
   void releaseFromWrite(OCacheEntry cacheEntry, OWriteCache writeCache);
 
   void pinPage(OCacheEntry cacheEntry);
@@ -80,6 +94,15 @@ public interface OReadCache {
 
   long getUsedMemory();
 
+  /**
+   * Changes amount of memory which may be used by given cache.
+   *
+   * @param readCacheMaxMemory New maximum size of cache in bytes.
+   *
+   * @throws IllegalStateException In case of new size of cache is too small to hold existing pinned pages.
+   */
+  void changeMaximumAmountOfMemory(long readCacheMaxMemory) throws IllegalStateException;
+
   void clear();
 
   void truncateFile(long fileId, OWriteCache writeCache) throws IOException;
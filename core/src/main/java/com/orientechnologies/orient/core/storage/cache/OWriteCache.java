@@ -217,4 +217,12 @@ public interface OWriteCache {
   void updateDirtyPagesTable(OCachePointer pointer);
 
   OPerformanceStatisticManager getPerformanceStatisticManager();
+
+  /**
+   * Executes task which prefetches pages of files of this cache in background thread. Task is silently dropped if too many prefetch
+   * tasks wait for execution or cache is closed, so it should be used only to read pages which are expected to be requested soon.
+   *
+   * @see OReadCache#prefetch(long, long, int, OWriteCache)
+   */
+  void executePrefetch(Runnable task);
 }
@@ -143,6 +143,11 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
    */
   private static final int CHUNK_SIZE = 32;
 
+  /**
+   * Maximum amount of prefetch tasks which wait for execution, next tasks are dropped.
+   */
+  private static final int PREFETCH_QUEUE_SIZE = 64;
+
   /**
    * Extension for the file which contains mapping between file name and file id
    */
@@ -356,6 +361,11 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
    */
   private final ExecutorService cacheEventsPublisher;
 
+  /**
+   * Executor which reads pages requested by {@link #executePrefetch(Runnable)} in background thread
+   */
+  private final OThreadPoolExecutorWithLogging prefetchExecutor;
+
   /**
    * Mapping between case sensitive file names are used in write cache and file's internal id. Name of file in write cache is case
    * sensitive and can be different from file name which is used to store file in file system.
@@ -463,6 +473,10 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
       cacheEventsPublisher = new OThreadPoolExecutorWithLogging(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
           new SynchronousQueue<>(), new CacheEventsPublisherFactory(storageLocal.getName()));
 
+      prefetchExecutor = new OThreadPoolExecutorWithLogging(0, 1, 60L, TimeUnit.SECONDS,
+          new ArrayBlockingQueue<>(PREFETCH_QUEUE_SIZE), new PrefetchThreadFactory(storageLocal.getName()),
+          new ThreadPoolExecutor.DiscardPolicy());
+
       if (pageFlushInterval > 0)
         commitExecutor.scheduleWithFixedDelay(new PeriodicFlushTask(), pageFlushInterval, pageFlushInterval, TimeUnit.MILLISECONDS);
 
@@ -1376,8 +1390,23 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     }
   }
 
+  @Override
+  public void executePrefetch(Runnable task) {
+    prefetchExecutor.execute(task);
+  }
+
+  /**
+   * Drops prefetch tasks which are not started yet. Running task is not interrupted because interruption of thread closes file
+   * channels, such task fails once files are closed and its failure is ignored by read cache.
+   */
+  private void stopPrefetch() {
+    prefetchExecutor.shutdown();
+    prefetchExecutor.getQueue().clear();
+  }
+
   @Override
   public long[] close() throws IOException {
+    stopPrefetch();
     flush();
 
     if (!commitExecutor.isShutdown()) {
@@ -1591,6 +1620,8 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
 
   @Override
   public long[] delete() throws IOException {
+    stopPrefetch();
+
     final List<Long> result = new ArrayList<>();
     filesLock.acquireWriteLock();
     try {
@@ -3044,6 +3075,25 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     }
   }
 
+  private static class PrefetchThreadFactory implements ThreadFactory {
+    private final String storageName;
+
+    private PrefetchThreadFactory(String storageName) {
+      this.storageName = storageName;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+
+      thread.setDaemon(true);
+      thread.setName("OrientDB Write Cache Prefetch Task (" + storageName + ")");
+      thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+
+      return thread;
+    }
+  }
+
   private static class CacheEventsPublisherFactory implements ThreadFactory {
     private final String storageName;
 
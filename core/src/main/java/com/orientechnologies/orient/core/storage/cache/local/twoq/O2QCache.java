@@ -302,6 +302,51 @@ public class O2QCache implements OReadCache {
     doRelease(cacheEntry);
   }
 
+  @Override
+  public void prefetch(long fileId, final long startPageIndex, final int pageCount, final OWriteCache writeCache) {
+    final long fid = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    //pages which are already loaded are skipped, so task is not scheduled at all if reader is behind of prefetched pages
+    long firstPageIndex = -1;
+    cacheLock.acquireReadLock();
+    try {
+      for (long pageIndex = startPageIndex; pageIndex < startPageIndex + pageCount; pageIndex++) {
+        if (pinnedPages.containsKey(new PinnedPage(fid, pageIndex)))
+          continue;
+
+        final OCacheEntry cacheEntry = get(fid, pageIndex);
+        if (cacheEntry == null || cacheEntry.getCachePointer() == null) {
+          firstPageIndex = pageIndex;
+          break;
+        }
+      }
+    } finally {
+      cacheLock.releaseReadLock();
+    }
+
+    if (firstPageIndex < 0)
+      return;
+
+    final long prefetchStart = firstPageIndex;
+    final int prefetchCount = (int) (startPageIndex + pageCount - firstPageIndex);
+
+    writeCache.executePrefetch(() -> {
+      try {
+        final UpdateCacheResult cacheResult = doLoad(fid, prefetchStart, false, false, writeCache, prefetchCount, null, true);
+        if (cacheResult == null)
+          return;
+
+        doRelease(cacheResult.cacheEntry);
+
+        if (cacheResult.removeColdPages)
+          removeColdestPagesIfNeeded();
+      } catch (IOException | RuntimeException e) {
+        //file may be closed or truncated, pages will be loaded on demand
+        OLogManager.instance().debug(this, "Prefetch of pages of file %d was not completed", e, fid);
+      }
+    });
+  }
+
   private void doRelease(OCacheEntry cacheEntry) {
     Lock fileLock;
     Lock pageLock;
@@ -384,6 +429,7 @@ public class O2QCache implements OReadCache {
    *
    * @throws IllegalStateException In case of new size of disk cache is too small to hold existing pinned pages.
    */
+  @Override
   public void changeMaximumAmountOfMemory(final long readCacheMaxMemory) throws IllegalStateException {
     MemoryData memoryData;
     MemoryData newMemoryData;
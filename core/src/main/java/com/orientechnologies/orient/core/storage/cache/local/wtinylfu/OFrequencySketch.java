@@ -0,0 +1,127 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+/**
+ * Count-Min sketch with 4 bit counters which estimates how often page was accessed recently.
+ * <p>
+ * Every long of the table holds 16 counters, each page is mapped to 4 counters placed in different longs and the estimation is the
+ * minimum of them. Once amount of increments reaches the sample size all counters are halved, so the frequency of pages which are
+ * not accessed any more decays over time.
+ * <p>
+ * This class is not thread safe, it is accessed only under eviction lock of {@link OWTinyLFUCache}.
+ */
+final class OFrequencySketch {
+  private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final long ONE_MASK   = 0x1111111111111111L;
+
+  private long[] table;
+  private int    tableMask;
+  private int    sampleSize;
+  private int    size;
+
+  OFrequencySketch(int maximumSize) {
+    ensureCapacity(maximumSize);
+  }
+
+  /**
+   * Resizes the sketch if maximum size of cache was increased, collected frequencies are lost in such case.
+   */
+  void ensureCapacity(int maximumSize) {
+    final int capacity = tableSize(Math.max(maximumSize, 16));
+    if (table != null && table.length >= capacity)
+      return;
+
+    table = new long[capacity];
+    tableMask = capacity - 1;
+    sampleSize = (int) Math.min(10L * Math.max(maximumSize, 16), Integer.MAX_VALUE);
+    size = 0;
+  }
+
+  private static int tableSize(int maximumSize) {
+    final int size = Integer.highestOneBit(maximumSize - 1) << 1;
+    return size <= 0 ? 1 << 30 : size;
+  }
+
+  /**
+   * @return estimated amount of accesses of the page with given hash, from 0 till 15.
+   */
+  int frequency(int hash) {
+    final int start = (hash & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+
+    for (int i = 0; i < 4; i++) {
+      final int index = indexOf(hash, i);
+      final int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+
+    return frequency;
+  }
+
+  /**
+   * Registers access to the page with given hash.
+   */
+  void increment(int hash) {
+    final int start = (hash & 3) << 2;
+
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      added |= incrementAt(indexOf(hash, i), start + i);
+    }
+
+    if (added && ++size >= sampleSize)
+      reset();
+  }
+
+  private boolean incrementAt(int index, int counter) {
+    final int offset = counter << 2;
+    final long mask = 0xfL << offset;
+
+    if ((table[index] & mask) != mask) {
+      table[index] += 1L << offset;
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Halves all counters, remainders are subtracted from the size of the sample.
+   */
+  private void reset() {
+    int odd = 0;
+    for (int i = 0; i < table.length; i++) {
+      odd += Long.bitCount(table[i] & ONE_MASK);
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+
+    size = (size >>> 1) - (odd >>> 2);
+  }
+
+  private int indexOf(int hash, int i) {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    h += h >>> 32;
+    return ((int) h) & tableMask;
+  }
+}
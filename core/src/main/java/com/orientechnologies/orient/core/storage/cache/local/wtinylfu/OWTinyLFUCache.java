@@ -0,0 +1,1256 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.concur.lock.OPartitionedLockManager;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.types.OModifiableBoolean;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OLoadCacheStateException;
+import com.orientechnologies.orient.core.exception.OReadCacheException;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.cache.*;
+import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OSessionStoragePerformanceStatistic;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read cache which uses W-TinyLFU eviction policy and does not take any global lock on page load and release.
+ * <p>
+ * Pages are kept in a {@link ConcurrentHashMap}, so lookup of a page which is already in cache is lock free. Each page has usage
+ * counter which is incremented by CAS while page is used, page can be evicted only if it is not used: eviction atomically changes
+ * counter from zero to "dead" value, so threads which observe dead page load it again.
+ * <p>
+ * Eviction policy is not updated on every access. Accesses are recorded into striped lossy ring buffers and additions and removals
+ * of pages into the queue of tasks, buffers are drained by the thread which manages to acquire eviction lock, other threads do not
+ * wait for it. Policy consists of:
+ * <ol>
+ * <li>Admission window, LRU list which holds 1% of pages, all new pages are added there.</li>
+ * <li>Main space which is split on probation (20%) and protected (80%) LRU lists. Pages which leave admission window are put to the
+ * probation list, and page which is accessed in probation list is moved to protected list.</li>
+ * <li>Frequency sketch {@link OFrequencySketch} which estimates how often page was accessed recently. If cache is full page which
+ * came from admission window is compared with the LRU page of probation list and the one which is accessed less often is
+ * evicted.</li>
+ * </ol>
+ * So pages which are read only once, during full scan for example, do not wash out frequently used pages.
+ * <p>
+ * Pages which are used during eviction are skipped, so if all pages are used cache may temporary hold more pages than allowed.
+ * Pinned pages are excluded from the policy and are never evicted.
+ *
+ * @see com.orientechnologies.orient.core.config.OGlobalConfiguration#DISK_CACHE_EVICTION_POLICY
+ */
+public final class OWTinyLFUCache implements OReadCache {
+  /**
+   * Maximum amount of times when we will show message that limit of pinned pages was exhausted.
+   */
+  private static final int MAX_AMOUNT_OF_WARNINGS_PINNED_PAGES = 10;
+
+  /**
+   * Maximum percent of pinned pages which may be contained in this cache.
+   */
+  private static final int MAX_PERCENT_OF_PINED_PAGES = 50;
+
+  private static final int WINDOW_PERCENT    = 1;
+  private static final int PROTECTED_PERCENT = 80;
+
+  private static final int READ_BUFFER_SIZE            = 128;
+  private static final int READ_BUFFER_MASK            = READ_BUFFER_SIZE - 1;
+  private static final int READ_BUFFER_DRAIN_THRESHOLD = 64;
+
+  private static final int READ_BUFFERS      = ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors() * 4);
+  private static final int READ_BUFFERS_MASK = READ_BUFFERS - 1;
+
+  /**
+   * Amount of not processed additions and removals of pages after which threads wait for eviction lock, so size of cache can not
+   * exceed the limit too much.
+   */
+  private static final int WRITE_BUFFER_MAX_PENDING = 1024;
+
+  private final int pageSize;
+  private final int percentOfPinnedPages;
+
+  private final ConcurrentMap<PageKey, Node>  data      = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Long, Set<Long>> filePages = new ConcurrentHashMap<>();
+
+  private final ReadBuffer[]               readBuffers;
+  private final ConcurrentLinkedQueue<Task> writeBuffer     = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger               writeBufferSize = new AtomicInteger();
+
+  private final OPartitionedLockManager<Object>  fileLockManager = new OPartitionedLockManager<>(true);
+  private final OPartitionedLockManager<PageKey> pageLockManager = new OPartitionedLockManager<>();
+
+  private final AtomicInteger pinnedPagesWarningCounter = new AtomicInteger();
+  private final AtomicInteger pinnedPages               = new AtomicInteger();
+
+  private volatile int maxSize;
+
+  /**
+   * Eviction policy, all fields below are accessed only under this lock.
+   */
+  private final ReentrantLock    evictionLock = new ReentrantLock();
+  private final NodeList         window       = new NodeList();
+  private final NodeList         probation    = new NodeList();
+  private final NodeList         protectedList = new NodeList();
+  private final OFrequencySketch sketch;
+
+  /**
+   * @param readCacheMaxMemory   Maximum amount of direct memory which can allocated by disk cache in bytes.
+   * @param pageSize             Cache page size in bytes.
+   * @param checkMinSize         If this flat is set size of cache may be {@link O2QCache#MIN_CACHE_SIZE} or bigger.
+   * @param percentOfPinnedPages Maximum percent of pinned pages which may be hold by this cache.
+   */
+  public OWTinyLFUCache(final long readCacheMaxMemory, final int pageSize, final boolean checkMinSize,
+      final int percentOfPinnedPages) {
+    if (percentOfPinnedPages > MAX_PERCENT_OF_PINED_PAGES)
+      throw new IllegalArgumentException(
+          "Percent of pinned pages cannot be more than " + MAX_PERCENT_OF_PINED_PAGES + " but passed value is "
+              + percentOfPinnedPages);
+
+    this.pageSize = pageSize;
+    this.percentOfPinnedPages = percentOfPinnedPages;
+
+    int normalizedSize = normalizeMemory(readCacheMaxMemory, pageSize);
+    if (checkMinSize && normalizedSize < O2QCache.MIN_CACHE_SIZE)
+      normalizedSize = O2QCache.MIN_CACHE_SIZE;
+
+    this.maxSize = normalizedSize;
+    this.sketch = new OFrequencySketch(normalizedSize);
+
+    readBuffers = new ReadBuffer[READ_BUFFERS];
+    for (int i = 0; i < readBuffers.length; i++) {
+      readBuffers[i] = new ReadBuffer();
+    }
+  }
+
+  @Override
+  public long addFile(String fileName, OWriteCache writeCache) throws IOException {
+    final long fileId = writeCache.addFile(fileName);
+    final Set<Long> oldPages = filePages.put(fileId, newPageSet());
+    assert oldPages == null || oldPages.isEmpty();
+
+    return fileId;
+  }
+
+  @Override
+  public long addFile(String fileName, long fileId, OWriteCache writeCache) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final long fid = writeCache.addFile(fileName, fileId);
+    final Set<Long> oldPages = filePages.put(fid, newPageSet());
+    assert oldPages == null || oldPages.isEmpty();
+
+    return fid;
+  }
+
+  @Override
+  public OCacheEntry loadForWrite(long fileId, long pageIndex, boolean checkPinnedPages, OWriteCache writeCache, int pageCount,
+      boolean verifyChecksums) throws IOException {
+    final OCacheEntry cacheEntry = load(fileId, pageIndex, false, writeCache, pageCount, verifyChecksums);
+
+    if (cacheEntry != null) {
+      cacheEntry.acquireExclusiveLock();
+      writeCache.updateDirtyPagesTable(cacheEntry.getCachePointer());
+    }
+
+    return cacheEntry;
+  }
+
+  @Override
+  public OCacheEntry loadForRead(long fileId, long pageIndex, boolean checkPinnedPages, OWriteCache writeCache, int pageCount,
+      boolean verifyChecksums) throws IOException {
+    final OCacheEntry cacheEntry = load(fileId, pageIndex, false, writeCache, pageCount, verifyChecksums);
+
+    if (cacheEntry != null) {
+      cacheEntry.acquireSharedLock();
+    }
+
+    return cacheEntry;
+  }
+
+  @Override
+  public void releaseFromRead(OCacheEntry cacheEntry, OWriteCache writeCache) {
+    cacheEntry.releaseSharedLock();
+
+    release(cacheEntry);
+  }
+
+  @Override
+  public void releaseFromWrite(OCacheEntry cacheEntry, OWriteCache writeCache) {
+    final OCachePointer cachePointer = cacheEntry.getCachePointer();
+    assert cachePointer != null;
+
+    CountDownLatch latch = null;
+
+    //page is put into the write cache before exclusive lock is released, see O2QCache#releaseFromWrite for details
+    if (cacheEntry.isDirty()) {
+      final OSessionStoragePerformanceStatistic sessionStoragePerformanceStatistic = writeCache.getPerformanceStatisticManager()
+          .getSessionPerformanceStatistic();
+
+      if (sessionStoragePerformanceStatistic != null) {
+        sessionStoragePerformanceStatistic.startPageWriteInCacheTimer();
+      }
+
+      try {
+        latch = writeCache.store(cacheEntry.getFileId(), cacheEntry.getPageIndex(), cachePointer);
+      } finally {
+        if (sessionStoragePerformanceStatistic != null) {
+          sessionStoragePerformanceStatistic.stopPageWriteInCacheTimer();
+        }
+      }
+
+      cacheEntry.clearDirty();
+    }
+
+    cachePointer.releaseExclusiveLock();
+
+    release(cacheEntry);
+
+    if (latch != null) {
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        Thread.interrupted();
+        throw OException.wrapException(new OInterruptedException("File flush was interrupted"), e);
+      } catch (Exception e) {
+        throw OException.wrapException(new OReadCacheException("File flush was abnormally terminated"), e);
+      }
+    }
+  }
+
+  @Override
+  public void prefetch(long fileId, final long startPageIndex, final int pageCount, final OWriteCache writeCache) {
+    final long fid = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    //pages which are already loaded are skipped, so task is not scheduled at all if reader is behind of prefetched pages
+    long firstPageIndex = -1;
+    for (long pageIndex = startPageIndex; pageIndex < startPageIndex + pageCount; pageIndex++) {
+      if (!data.containsKey(new PageKey(fid, pageIndex))) {
+        firstPageIndex = pageIndex;
+        break;
+      }
+    }
+
+    if (firstPageIndex < 0)
+      return;
+
+    final long prefetchStart = firstPageIndex;
+    final int prefetchCount = (int) (startPageIndex + pageCount - firstPageIndex);
+
+    writeCache.executePrefetch(() -> {
+      try {
+        prefetchPages(fid, prefetchStart, prefetchCount, writeCache);
+      } catch (IOException | RuntimeException e) {
+        //file may be closed or truncated, pages will be loaded on demand
+        OLogManager.instance().debug(this, "Prefetch of pages of file %d was not completed", e, fid);
+      }
+    });
+  }
+
+  private void prefetchPages(long fileId, long startPageIndex, int pageCount, OWriteCache writeCache) throws IOException {
+    final Lock fileLock = fileLockManager.acquireSharedLock(fileId);
+    try {
+      final Lock[] pageLocks = pageLockManager.acquireExclusiveLocksInBatch(pageKeys(fileId, startPageIndex, pageCount));
+      try {
+        if (data.containsKey(new PageKey(fileId, startPageIndex)))
+          return;
+
+        final OCachePointer[] pointers = writeCache
+            .load(fileId, startPageIndex, pageCount, false, new OModifiableBoolean(), true);
+        for (OCachePointer pointer : pointers) {
+          addFetchedPage(pointer);
+        }
+      } finally {
+        for (Lock pageLock : pageLocks) {
+          pageLock.unlock();
+        }
+      }
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  private void release(OCacheEntry cacheEntry) {
+    final Node node = data.get(new PageKey(cacheEntry.getFileId(), cacheEntry.getPageIndex()));
+    assert node != null && node.entry == cacheEntry;
+
+    cacheEntry.decrementUsages();
+    assert cacheEntry.getUsagesCount() >= 0;
+
+    if (node != null && node.entry == cacheEntry)
+      node.release();
+  }
+
+  @Override
+  public void pinPage(OCacheEntry cacheEntry) {
+    final int maxSize = this.maxSize;
+    if ((100 * (pinnedPages.get() + 1)) / maxSize > percentOfPinnedPages) {
+      if (pinnedPagesWarningCounter.get() < MAX_AMOUNT_OF_WARNINGS_PINNED_PAGES) {
+
+        final long warnings = pinnedPagesWarningCounter.getAndIncrement();
+        if (warnings < MAX_AMOUNT_OF_WARNINGS_PINNED_PAGES) {
+          OLogManager.instance().warn(this, "Maximum amount of pinned pages is reached, given page " + cacheEntry
+              + " will not be marked as pinned which may lead to performance degradation. You may consider to increase the percent of pinned pages "
+              + "by changing the property '" + OGlobalConfiguration.DISK_CACHE_PINNED_PAGES.getKey() + "'");
+        }
+      }
+
+      return;
+    }
+
+    final Node node = data.get(new PageKey(cacheEntry.getFileId(), cacheEntry.getPageIndex()));
+    if (node == null || node.entry != cacheEntry)
+      return;
+
+    synchronized (node) {
+      if (node.pinned)
+        return;
+
+      node.pinned = true;
+    }
+
+    pinnedPages.incrementAndGet();
+    afterWrite(new Task(Task.PIN, node));
+  }
+
+  @Override
+  public OCacheEntry allocateNewPage(long fileId, OWriteCache writeCache, boolean verifyChecksums) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final OCacheEntry cacheEntry;
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      final long filledUpTo = writeCache.getFilledUpTo(fileId);
+      assert filledUpTo >= 0;
+
+      cacheEntry = load(fileId, filledUpTo, true, writeCache, 1, verifyChecksums);
+    } finally {
+      fileLock.unlock();
+    }
+
+    assert cacheEntry != null;
+
+    cacheEntry.acquireExclusiveLock();
+    writeCache.updateDirtyPagesTable(cacheEntry.getCachePointer());
+
+    return cacheEntry;
+  }
+
+  private OCacheEntry load(long fileId, long pageIndex, boolean addNewPages, OWriteCache writeCache, int pageCount,
+      boolean verifyChecksums) throws IOException {
+    if (pageCount < 1)
+      throw new IllegalArgumentException(
+          "Amount of pages to load from cache should be not less than 1 but passed value is " + pageCount);
+
+    final OSessionStoragePerformanceStatistic sessionStoragePerformanceStatistic = writeCache.getPerformanceStatisticManager()
+        .getSessionPerformanceStatistic();
+
+    if (sessionStoragePerformanceStatistic != null) {
+      sessionStoragePerformanceStatistic.startPageReadFromCacheTimer();
+    }
+
+    final OModifiableBoolean cacheHit = new OModifiableBoolean(false);
+    try {
+      fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+      final PageKey pageKey = new PageKey(fileId, pageIndex);
+
+      while (true) {
+        Node node = data.get(pageKey);
+
+        if (node != null) {
+          if (node.acquire()) {
+            cacheHit.setValue(true);
+            node.entry.incrementUsages();
+
+            afterRead(node);
+            return node.entry;
+          }
+
+          //page is being evicted, it will be removed from the map soon
+          Thread.yield();
+          continue;
+        }
+
+        //page is read from the file under page lock, otherwise page which was changed, stored in write cache and evicted by other
+        //thread while we read it may be replaced by its stale copy
+        final Lock fileLock = fileLockManager.acquireSharedLock(fileId);
+        try {
+          final Lock[] pageLocks = pageLockManager.acquireExclusiveLocksInBatch(pageKeys(fileId, pageIndex, pageCount));
+          try {
+            if (data.containsKey(pageKey))
+              continue;
+
+            final OCachePointer[] pointers = writeCache
+                .load(fileId, pageIndex, pageCount, addNewPages, cacheHit, verifyChecksums);
+            if (pointers.length == 0)
+              return null;
+
+            node = new Node(pageKey, new OCacheEntryImpl(fileId, pageIndex, pointers[0], false), 1);
+            data.put(pageKey, node);
+            node.entry.incrementUsages();
+            afterAdd(node);
+
+            for (int i = 1; i < pointers.length; i++) {
+              addFetchedPage(pointers[i]);
+            }
+
+            return node.entry;
+          } finally {
+            for (Lock pageLock : pageLocks) {
+              pageLock.unlock();
+            }
+          }
+        } finally {
+          fileLock.unlock();
+        }
+      }
+    } finally {
+      if (sessionStoragePerformanceStatistic != null) {
+        sessionStoragePerformanceStatistic.incrementPageAccessOnCacheLevel(cacheHit.getValue());
+        sessionStoragePerformanceStatistic.stopPageReadFromCacheTimer();
+      }
+    }
+  }
+
+  private static PageKey[] pageKeys(long fileId, long startPageIndex, int pageCount) {
+    final PageKey[] pageKeys = new PageKey[pageCount];
+    for (int i = 0; i < pageCount; i++) {
+      pageKeys[i] = new PageKey(fileId, startPageIndex + i);
+    }
+
+    return pageKeys;
+  }
+
+  /**
+   * Adds page which was read from disk together with requested one, if this page is absent in cache. Should be called under lock
+   * of the page.
+   */
+  private void addFetchedPage(OCachePointer pointer) {
+    final PageKey pageKey = new PageKey(pointer.getFileId(), pointer.getPageIndex());
+    final Node node = new Node(pageKey, new OCacheEntryImpl(pointer.getFileId(), pointer.getPageIndex(), pointer, false), 0);
+
+    if (data.putIfAbsent(pageKey, node) == null)
+      afterAdd(node);
+    else
+      pointer.decrementReadersReferrer();
+  }
+
+  private void afterAdd(Node node) {
+    Set<Long> pages = filePages.get(node.key.fileId);
+    if (pages == null) {
+      pages = newPageSet();
+
+      final Set<Long> oldPages = filePages.putIfAbsent(node.key.fileId, pages);
+      if (oldPages != null)
+        pages = oldPages;
+    }
+
+    pages.add(node.key.pageIndex);
+
+    afterWrite(new Task(Task.ADD, node));
+  }
+
+  private void afterRead(Node node) {
+    final ReadBuffer buffer = readBuffers[(int) mix(Thread.currentThread().getId()) & READ_BUFFERS_MASK];
+
+    final int pending = buffer.offer(node);
+    if (pending >= READ_BUFFER_DRAIN_THRESHOLD)
+      tryToDrainBuffers();
+  }
+
+  private void afterWrite(Task task) {
+    writeBuffer.add(task);
+
+    if (writeBufferSize.incrementAndGet() > WRITE_BUFFER_MAX_PENDING) {
+      evictionLock.lock();
+      try {
+        maintenance();
+      } finally {
+        evictionLock.unlock();
+      }
+    } else {
+      tryToDrainBuffers();
+    }
+  }
+
+  private void tryToDrainBuffers() {
+    if (evictionLock.tryLock()) {
+      try {
+        maintenance();
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Applies recorded accesses, additions and removals of pages to the eviction policy and evicts pages if cache is overflown.
+   * Called under eviction lock.
+   */
+  private void maintenance() {
+    drainWriteBuffer();
+
+    for (ReadBuffer buffer : readBuffers) {
+      buffer.drain(this);
+    }
+
+    evict();
+  }
+
+  private void drainWriteBuffer() {
+    Task task;
+    while ((task = writeBuffer.poll()) != null) {
+      writeBufferSize.decrementAndGet();
+
+      final Node node = task.node;
+      switch (task.type) {
+      case Task.ADD:
+        if (node.isDead() || node.pinned)
+          break;
+
+        sketch.increment(node.hash);
+        window.addLast(node);
+        node.queue = Node.WINDOW;
+        break;
+      case Task.REMOVE:
+      case Task.PIN:
+        unlink(node);
+        break;
+      default:
+        throw new IllegalStateException("Invalid type of cache task " + task.type);
+      }
+    }
+  }
+
+  private void onAccess(Node node) {
+    switch (node.queue) {
+    case Node.WINDOW:
+      sketch.increment(node.hash);
+      window.moveToLast(node);
+      break;
+    case Node.PROBATION:
+      sketch.increment(node.hash);
+      probation.remove(node);
+      protectedList.addLast(node);
+      node.queue = Node.PROTECTED;
+
+      demoteProtectedPages();
+      break;
+    case Node.PROTECTED:
+      sketch.increment(node.hash);
+      protectedList.moveToLast(node);
+      break;
+    default:
+      //page is removed, pinned or its addition is not processed yet
+    }
+  }
+
+  private void demoteProtectedPages() {
+    final int protectedMax = protectedMaxSize(policyMaxSize());
+
+    while (protectedList.size > protectedMax) {
+      final Node demoted = protectedList.first;
+      protectedList.remove(demoted);
+      probation.addLast(demoted);
+      demoted.queue = Node.PROBATION;
+    }
+  }
+
+  private void evict() {
+    final int maximum = policyMaxSize();
+    final int windowMax = Math.max(1, maximum * WINDOW_PERCENT / 100);
+
+    Node candidate = null;
+    while (window.size > windowMax) {
+      final Node node = window.first;
+      window.remove(node);
+      probation.addLast(node);
+      node.queue = Node.PROBATION;
+
+      if (candidate == null)
+        candidate = node;
+    }
+
+    int attempts = window.size + probation.size + protectedList.size;
+    while (window.size + probation.size + protectedList.size > maximum && attempts-- > 0) {
+      Node victim = probation.first;
+
+      if (victim != null && candidate != null && candidate != victim && candidate.queue == Node.PROBATION) {
+        //admission filter, page which is accessed less often is evicted
+        if (sketch.frequency(candidate.hash) > sketch.frequency(victim.hash)) {
+          evictNode(victim);
+        } else {
+          final Node next = candidate.next;
+          evictNode(candidate);
+          candidate = next;
+        }
+
+        continue;
+      }
+
+      if (victim == null)
+        victim = protectedList.first;
+      if (victim == null)
+        victim = window.first;
+      if (victim == null)
+        break;
+
+      evictNode(victim);
+    }
+  }
+
+  private void evictNode(Node node) {
+    if (!node.tryToKill()) {
+      if (node.isDead()) {
+        //page is removed by other thread
+        unlink(node);
+      } else {
+        //page is used, check next one
+        listOf(node).moveToLast(node);
+      }
+
+      return;
+    }
+
+    assert !node.entry.isDirty();
+
+    unlink(node);
+    removeNode(node);
+  }
+
+  /**
+   * Removes dead page from the cache and frees its memory.
+   */
+  private void removeNode(Node node) {
+    final Set<Long> pages = filePages.get(node.key.fileId);
+    if (pages != null)
+      pages.remove(node.key.pageIndex);
+
+    data.remove(node.key, node);
+
+    final OCachePointer cachePointer = node.entry.getCachePointer();
+    if (cachePointer != null) {
+      cachePointer.decrementReadersReferrer();
+      node.entry.clearCachePointer();
+    }
+  }
+
+  private void unlink(Node node) {
+    final NodeList list = listOf(node);
+    if (list != null) {
+      list.remove(node);
+      node.queue = Node.NONE;
+    }
+  }
+
+  private NodeList listOf(Node node) {
+    switch (node.queue) {
+    case Node.WINDOW:
+      return window;
+    case Node.PROBATION:
+      return probation;
+    case Node.PROTECTED:
+      return protectedList;
+    default:
+      return null;
+    }
+  }
+
+  private int policyMaxSize() {
+    return Math.max(0, maxSize - pinnedPages.get());
+  }
+
+  private static int protectedMaxSize(int maximum) {
+    return (int) ((long) maximum * PROTECTED_PERCENT / 100);
+  }
+
+  /**
+   * Changes amount of memory which may be used by given cache.
+   *
+   * @param readCacheMaxMemory New maximum size of cache in bytes.
+   *
+   * @throws IllegalStateException In case of new size of disk cache is too small to hold existing pinned pages.
+   */
+  @Override
+  public void changeMaximumAmountOfMemory(long readCacheMaxMemory) throws IllegalStateException {
+    final int newMemorySize = normalizeMemory(readCacheMaxMemory, pageSize);
+
+    evictionLock.lock();
+    try {
+      final int oldMemorySize = maxSize;
+      if (oldMemorySize == newMemorySize)
+        return;
+
+      if ((100 * pinnedPages.get() / newMemorySize) > percentOfPinnedPages) {
+        throw new IllegalStateException("Cannot decrease amount of memory used by disk cache "
+            + "because limit of pinned pages will be more than allowed limit " + percentOfPinnedPages);
+      }
+
+      maxSize = newMemorySize;
+      sketch.ensureCapacity(newMemorySize);
+
+      maintenance();
+
+      OLogManager.instance()
+          .info(this, "Disk cache size was changed from " + oldMemorySize + " pages to " + newMemorySize + " pages");
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public long getUsedMemory() {
+    return data.size() * (long) pageSize;
+  }
+
+  @Override
+  public void clear() {
+    evictionLock.lock();
+    try {
+      drainWriteBuffer();
+
+      for (Node node : data.values()) {
+        if (!node.tryToKill())
+          throw new OStorageException("Page with index " + node.key.pageIndex + " for file id " + node.key.fileId
+              + " is used and cannot be removed");
+
+        unlink(node);
+        removeNode(node);
+      }
+
+      for (ReadBuffer buffer : readBuffers) {
+        buffer.drain(this);
+      }
+
+      for (Set<Long> pages : filePages.values())
+        pages.clear();
+
+      pinnedPages.set(0);
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public void truncateFile(long fileId, OWriteCache writeCache) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      writeCache.truncateFile(fileId);
+
+      clearFile(fileId);
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  @Override
+  public void closeFile(long fileId, boolean flush, OWriteCache writeCache) {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      writeCache.close(fileId, flush);
+
+      clearFile(fileId);
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  @Override
+  public void deleteFile(long fileId, OWriteCache writeCache) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      clearFile(fileId);
+      filePages.remove(fileId);
+      writeCache.deleteFile(fileId);
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  private void clearFile(long fileId) {
+    final Set<Long> pages = filePages.get(fileId);
+    if (pages == null || pages.isEmpty())
+      return;
+
+    for (Long pageIndex : pages) {
+      final Node node = data.get(new PageKey(fileId, pageIndex));
+      if (node == null)
+        continue;
+
+      if (!node.tryToKill()) {
+        if (node.isDead())
+          continue;
+
+        throw new OStorageException(
+            "Page with index " + pageIndex + " for file with id " + fileId + " cannot be freed because it is used.");
+      }
+
+      if (node.pinned)
+        pinnedPages.decrementAndGet();
+
+      removeNode(node);
+      afterWrite(new Task(Task.REMOVE, node));
+    }
+
+    pages.clear();
+  }
+
+  @Override
+  public void deleteStorage(OWriteCache writeCache) throws IOException {
+    final long[] filesToClear = writeCache.delete();
+    for (long fileId : filesToClear)
+      clearFileWithLock(fileId);
+
+    final Path stateFile = writeCache.getRootDirectory().resolve(O2QCache.CACHE_STATE_FILE);
+    if (Files.exists(stateFile)) {
+      Files.delete(stateFile);
+    }
+  }
+
+  @Override
+  public void closeStorage(OWriteCache writeCache) throws IOException {
+    if (writeCache == null)
+      return;
+
+    final long[] filesToClear = writeCache.close();
+    for (long fileId : filesToClear)
+      clearFileWithLock(fileId);
+  }
+
+  /**
+   * Removes pages of the file, prefetch task which still loads pages of this file is waited for.
+   */
+  private void clearFileWithLock(long fileId) {
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      clearFile(fileId);
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  /**
+   * Loads pages which were stored by {@link #storeCacheState(OWriteCache)} back into memory if flag
+   * {@link OGlobalConfiguration#STORAGE_KEEP_DISK_CACHE_STATE} is set to <code>true</code>. The same format as in
+   * {@link O2QCache#loadCacheState(OWriteCache)} is used, so state stored by one cache can be loaded by another.
+   */
+  @Override
+  public void loadCacheState(OWriteCache writeCache) {
+    if (!OGlobalConfiguration.STORAGE_KEEP_DISK_CACHE_STATE.getValueAsBoolean()) {
+      return;
+    }
+
+    final Path statePath = writeCache.getRootDirectory().resolve(O2QCache.CACHE_STATE_FILE);
+    if (!Files.exists(statePath))
+      return;
+
+    try (FileChannel channel = FileChannel.open(statePath, StandardOpenOption.READ)) {
+      final InputStream stream = Channels.newInputStream(channel);
+      final BufferedInputStream bufferedInputStream = new BufferedInputStream(stream, 64 * 1024);
+
+      try (DataInputStream dataInputStream = new DataInputStream(bufferedInputStream)) {
+        final List<PageKey> pagesToLoad = new ArrayList<>();
+
+        try {
+          final long maxCacheSize = dataInputStream.readLong();
+          if (maxCacheSize > maxSize) {
+            OLogManager.instance().info(this,
+                "Previous maximum cache size was %d current maximum cache size is %d. Cache state for storage %s will not be restored.",
+                maxCacheSize, maxSize, writeCache.getRootDirectory());
+            return;
+          }
+
+          //the last queue contains only pages which were evicted
+          readStoredPages(writeCache, dataInputStream, pagesToLoad);
+          readStoredPages(writeCache, dataInputStream, pagesToLoad);
+          readStoredPages(writeCache, dataInputStream, null);
+        } catch (IOException ioe) {
+          throw OException.wrapException(new OLoadCacheStateException("Can not restore state of cache from file"), ioe);
+        }
+
+        final OModifiableBoolean cacheHit = new OModifiableBoolean();
+        for (PageKey pageKey : pagesToLoad) {
+          if (data.size() >= policyMaxSize())
+            break;
+
+          if (data.containsKey(pageKey))
+            continue;
+
+          final Lock fileLock = fileLockManager.acquireSharedLock(pageKey.fileId);
+          try {
+            final Lock pageLock = pageLockManager.acquireExclusiveLock(pageKey);
+            try {
+              final OCachePointer[] pointers = writeCache.load(pageKey.fileId, pageKey.pageIndex, 1, false, cacheHit, true);
+              if (pointers.length > 0)
+                addFetchedPage(pointers[0]);
+            } finally {
+              pageLock.unlock();
+            }
+          } finally {
+            fileLock.unlock();
+          }
+        }
+      }
+    } catch (OLoadCacheStateException lcsException) {
+      OLogManager.instance()
+          .warn(this, "Cannot restore state of cache for storage placed under " + writeCache.getRootDirectory(), lcsException);
+    } catch (Exception e) {
+      throw OException.wrapException(
+          new OStorageException("Cannot restore state of cache for storage placed under " + writeCache.getRootDirectory()), e);
+    }
+  }
+
+  private static void readStoredPages(OWriteCache writeCache, DataInputStream dataInputStream, List<PageKey> pages)
+      throws IOException {
+    int internalFileId = dataInputStream.readInt();
+
+    while (internalFileId >= 0) {
+      final long pageIndex = dataInputStream.readLong();
+      final long fileId = writeCache.externalFileId(internalFileId);
+
+      // skip potentially outdated information about unknown files
+      if (pages != null && writeCache.fileNameById(fileId) != null)
+        pages.add(new PageKey(fileId, pageIndex));
+
+      internalFileId = dataInputStream.readInt();
+    }
+  }
+
+  /**
+   * Stores pages of the storage which are contained in cache inside of {@link O2QCache#CACHE_STATE_FILE} file if flag
+   * {@link OGlobalConfiguration#STORAGE_KEEP_DISK_CACHE_STATE} is set to <code>true</code>. Pages are stored from the least
+   * valuable to the most valuable ones, in the format of {@link O2QCache#storeCacheState(OWriteCache)}.
+   */
+  @Override
+  public void storeCacheState(OWriteCache writeCache) {
+    if (!OGlobalConfiguration.STORAGE_KEEP_DISK_CACHE_STATE.getValueAsBoolean()) {
+      return;
+    }
+
+    if (writeCache == null)
+      return;
+
+    evictionLock.lock();
+    try {
+      maintenance();
+
+      final Path stateFile = writeCache.getRootDirectory().resolve(O2QCache.CACHE_STATE_FILE);
+      if (Files.exists(stateFile)) {
+        Files.delete(stateFile);
+      }
+
+      final Set<Long> filesToStore = new HashSet<>(writeCache.files().values());
+
+      try (final FileChannel channel = FileChannel.open(stateFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+        final OutputStream channelStream = Channels.newOutputStream(channel);
+        final BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(channelStream, 64 * 1024);
+
+        try (DataOutputStream dataOutputStream = new DataOutputStream(bufferedOutputStream)) {
+          dataOutputStream.writeLong(maxSize);
+
+          storeList(writeCache, filesToStore, dataOutputStream, probation);
+          storeList(writeCache, filesToStore, dataOutputStream, protectedList);
+          dataOutputStream.writeInt(-1);
+
+          storeList(writeCache, filesToStore, dataOutputStream, window);
+          dataOutputStream.writeInt(-1);
+
+          dataOutputStream.writeInt(-1);
+        }
+      }
+    } catch (Exception e) {
+      OLogManager.instance().error(this, "Cannot store state of cache for storage placed under %s", e, writeCache.getRootDirectory());
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private static void storeList(OWriteCache writeCache, Set<Long> filesToStore, DataOutputStream dataOutputStream, NodeList list)
+      throws IOException {
+    for (Node node = list.first; node != null; node = node.next) {
+      if (filesToStore.contains(node.key.fileId)) {
+        dataOutputStream.writeInt(writeCache.internalFileId(node.key.fileId));
+        dataOutputStream.writeLong(node.key.pageIndex);
+      }
+    }
+  }
+
+  /**
+   * Applies all recorded events to the eviction policy, used in tests to make state of the cache predictable.
+   */
+  void cleanUp() {
+    evictionLock.lock();
+    try {
+      maintenance();
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  boolean contains(long fileId, long pageIndex) {
+    return data.containsKey(new PageKey(fileId, pageIndex));
+  }
+
+  int getMaxSize() {
+    return maxSize;
+  }
+
+  int size() {
+    return data.size();
+  }
+
+  private static Set<Long> newPageSet() {
+    return Collections.newSetFromMap(new ConcurrentHashMap<>());
+  }
+
+  private static int normalizeMemory(long maxSize, int pageSize) {
+    final long tmpMaxSize = maxSize / pageSize;
+    if (tmpMaxSize >= Integer.MAX_VALUE) {
+      return Integer.MAX_VALUE;
+    } else {
+      return (int) tmpMaxSize;
+    }
+  }
+
+  private static int ceilingPowerOfTwo(int value) {
+    return 1 << (32 - Integer.numberOfLeadingZeros(value - 1));
+  }
+
+  private static long mix(long value) {
+    value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+    value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    return value ^ (value >>> 33);
+  }
+
+  private static final class PageKey {
+    private final long fileId;
+    private final long pageIndex;
+
+    private PageKey(long fileId, long pageIndex) {
+      this.fileId = fileId;
+      this.pageIndex = pageIndex;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o)
+        return true;
+      if (o == null || getClass() != o.getClass())
+        return false;
+
+      final PageKey pageKey = (PageKey) o;
+      return fileId == pageKey.fileId && pageIndex == pageKey.pageIndex;
+    }
+
+    @Override
+    public int hashCode() {
+      return (int) mix(fileId * 31 + pageIndex);
+    }
+  }
+
+  /**
+   * Page in the cache. Usage counter is changed by CAS, eviction policy fields are accessed only under eviction lock.
+   */
+  private static final class Node {
+    private static final byte NONE      = 0;
+    private static final byte WINDOW    = 1;
+    private static final byte PROBATION = 2;
+    private static final byte PROTECTED = 3;
+
+    private static final int DEAD = Integer.MIN_VALUE;
+
+    private static final AtomicIntegerFieldUpdater<Node> USAGES = AtomicIntegerFieldUpdater.newUpdater(Node.class, "usages");
+
+    private final PageKey     key;
+    private final OCacheEntry entry;
+    private final int         hash;
+
+    private volatile int     usages;
+    private volatile boolean pinned;
+
+    private Node prev;
+    private Node next;
+    private byte queue = NONE;
+
+    private Node(PageKey key, OCacheEntry entry, int usages) {
+      this.key = key;
+      this.entry = entry;
+      this.hash = key.hashCode();
+      this.usages = usages;
+    }
+
+    private boolean acquire() {
+      while (true) {
+        final int current = usages;
+        if (current < 0)
+          return false;
+
+        if (USAGES.compareAndSet(this, current, current + 1))
+          return true;
+      }
+    }
+
+    private void release() {
+      final int current = USAGES.decrementAndGet(this);
+      assert current >= 0;
+    }
+
+    private boolean tryToKill() {
+      return USAGES.compareAndSet(this, 0, DEAD);
+    }
+
+    private boolean isDead() {
+      return usages == DEAD;
+    }
+  }
+
+  /**
+   * Doubly linked list of pages, the first page is least recently used one.
+   */
+  private static final class NodeList {
+    private Node first;
+    private Node last;
+    private int  size;
+
+    private void addLast(Node node) {
+      node.prev = last;
+      node.next = null;
+
+      if (last == null)
+        first = node;
+      else
+        last.next = node;
+
+      last = node;
+      size++;
+    }
+
+    private void remove(Node node) {
+      if (node.prev == null)
+        first = node.next;
+      else
+        node.prev.next = node.next;
+
+      if (node.next == null)
+        last = node.prev;
+      else
+        node.next.prev = node.prev;
+
+      node.prev = null;
+      node.next = null;
+      size--;
+    }
+
+    private void moveToLast(Node node) {
+      if (node == last)
+        return;
+
+      remove(node);
+      addLast(node);
+    }
+  }
+
+  /**
+   * Lossy ring buffer of page accesses. Accesses are dropped if buffer is full, they are used only to estimate page popularity.
+   */
+  private static final class ReadBuffer {
+    private final AtomicReferenceArray<Node> buffer       = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong                 writeCounter = new AtomicLong();
+    private volatile long readCounter;
+
+    /**
+     * @return amount of accesses which are not applied to eviction policy yet.
+     */
+    private int offer(Node node) {
+      final long head = readCounter;
+      final long tail = writeCounter.get();
+
+      final long size = tail - head;
+      if (size >= READ_BUFFER_SIZE)
+        return READ_BUFFER_SIZE;
+
+      if (writeCounter.compareAndSet(tail, tail + 1)) {
+        buffer.lazySet((int) (tail & READ_BUFFER_MASK), node);
+        return (int) size + 1;
+      }
+
+      return 0;
+    }
+
+    private void drain(OWTinyLFUCache cache) {
+      long head = readCounter;
+      final long tail = writeCounter.get();
+
+      while (head < tail) {
+        final int index = (int) (head & READ_BUFFER_MASK);
+        final Node node = buffer.get(index);
+
+        //slot is reserved but node is not written yet
+        if (node == null)
+          break;
+
+        buffer.lazySet(index, null);
+        cache.onAccess(node);
+        head++;
+      }
+
+      readCounter = head;
+    }
+  }
+
+  private static final class Task {
+    private static final int ADD    = 0;
+    private static final int REMOVE = 1;
+    private static final int PIN    = 2;
+
+    private final int  type;
+    private final Node node;
+
+    private Task(int type, Node node) {
+      this.type = type;
+      this.node = node;
+    }
+  }
+}
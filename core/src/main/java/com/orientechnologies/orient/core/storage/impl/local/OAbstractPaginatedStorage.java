@@ -149,6 +149,7 @@ import com.orientechnologies.orient.core.storage.impl.local.statistic.OPerforman
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OSessionStoragePerformanceStatistic;
 import com.orientechnologies.orient.core.storage.index.engine.OHashTableIndexEngine;
 import com.orientechnologies.orient.core.storage.index.engine.OSBTreeIndexEngine;
+import com.orientechnologies.orient.core.storage.index.sbtree.local.OSBTreeBulkLoader;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OIndexRIDContainerSBTree;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollectionManager;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollectionManagerAbstract;
@@ -173,6 +174,7 @@ import java.io.PrintWriter;
 import java.net.InetAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -317,6 +319,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   private final List<OIndexEngine>        indexEngines              = new ArrayList<>();
   private       boolean                   wereDataRestoredAfterOpen = false;
 
+  /**
+   * Serializes allocation of new pages during data restore from WAL by several threads.
+   */
+  private final Object restorePageAllocationLock = new Object();
+
   private final LongAdder fullCheckpointCount = new LongAdder();
 
   private final AtomicLong recordCreated = new AtomicLong(0);
@@ -1447,6 +1454,35 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  @Override
+  public OPhysicalPosition[] createRecords(final int clusterId, final byte[][] contents, final int recordVersion,
+      final byte[] recordTypes) {
+    try {
+      checkOpenness();
+      checkLowDiskSpaceRequestsAndReadOnlyConditions();
+
+      final OCluster cluster = getClusterById(clusterId);
+
+      if (transaction.get() != null) {
+        return doCreateRecords(cluster, contents, recordVersion, recordTypes);
+      }
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        return doCreateRecords(cluster, contents, recordVersion, recordTypes);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
   @Override
   public ORecordMetadata getRecordMetadata(ORID rid) {
     try {
@@ -1612,6 +1648,38 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  @Override
+  public Map<ORID, ORawBuffer> readRecords(final Collection<? extends ORID> rids) {
+    try {
+      checkOpenness();
+
+      // records are grouped by clusters, so locks of each cluster are acquired only once for the whole batch
+      final Map<Integer, List<ORID>> clusterRids = new HashMap<>();
+      for (ORID rid : rids) {
+        if (rid.isPersistent())
+          clusterRids.computeIfAbsent(rid.getClusterId(), clusterId -> new ArrayList<>()).add(rid);
+      }
+
+      final Map<ORID, ORawBuffer> result = new HashMap<>();
+      for (Map.Entry<Integer, List<ORID>> entry : clusterRids.entrySet()) {
+        final OCluster cluster = findClusterById(entry.getKey());
+        // records of absent cluster are absent too
+        if (cluster == null)
+          continue;
+
+        readRecords(cluster, entry.getValue(), result);
+      }
+
+      return result;
+    } catch (RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
   @Override
   public OStorageOperationResult<ORawBuffer> readRecordIfVersionIsNotLatest(final ORecordId rid, final String fetchPlan,
       final boolean ignoreCache, final int recordVersion) throws ORecordNotFoundException {
@@ -3222,6 +3290,132 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return engine.hasRangeQuerySupport();
   }
 
+  /**
+   * Creates loader which fills empty index with the given id by sorted entries, see {@link OSBTreeBulkLoader}.
+   *
+   * @param indexId        Id of the index.
+   * @param sortBufferSize Amount of entries which are sorted in memory by every sorter of the loader.
+   *
+   * @return Loader or <code>null</code> if engine of the index does not support bulk load.
+   */
+  public OSBTreeBulkLoader<Object, Object> createIndexBulkLoader(int indexId, int sortBufferSize)
+      throws OInvalidIndexEngineIdException {
+    try {
+      checkOpenness();
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        checkIndexId(indexId);
+
+        final OIndexEngine engine = indexEngines.get(indexId);
+        if (!(engine instanceof OSBTreeIndexEngine))
+          return null;
+
+        return ((OSBTreeIndexEngine) engine).createBulkLoader(getTemporaryFilesDirectory(), sortBufferSize);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  /**
+   * Fills index with the given id by entries collected by the loader.
+   *
+   * @param indexId    Id of the index.
+   * @param loader     Loader created by {@link #createIndexBulkLoader(int, int)}.
+   * @param validator  Validator which resolves entries with the same key.
+   * @param fillFactor Part of page space which is filled by entries.
+   *
+   * @return Amount of entries added to the index.
+   */
+  @SuppressWarnings("unchecked")
+  public long bulkLoadIndex(int indexId, OSBTreeBulkLoader<Object, Object> loader,
+      OIndexEngine.Validator<Object, OIdentifiable> validator, float fillFactor) throws OInvalidIndexEngineIdException {
+    try {
+      checkOpenness();
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+
+        checkLowDiskSpaceRequestsAndReadOnlyConditions();
+        checkIndexId(indexId);
+
+        makeStorageDirty();
+        final OIndexEngine engine = indexEngines.get(indexId);
+        return ((OSBTreeIndexEngine) engine).bulkLoad(loader, (OIndexEngine.Validator) validator, fillFactor);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  /**
+   * Calls the given operation inside of single atomic operation, changes of indexes made by the operation are joined to it and
+   * applied at once. If the operation throws an exception, all changes made by it are rolled back.
+   *
+   * @param operation Operation which changes indexes.
+   *
+   * @return Result of the operation.
+   */
+  public <T> T callInsideAtomicOperation(Callable<T> operation) {
+    try {
+      checkOpenness();
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+
+        checkLowDiskSpaceRequestsAndReadOnlyConditions();
+
+        atomicOperationsManager.startAtomicOperation((String) null, true);
+
+        final T result;
+        try {
+          result = operation.call();
+        } catch (Exception e) {
+          atomicOperationsManager.endAtomicOperation(true, e);
+          throw e;
+        }
+
+        atomicOperationsManager.endAtomicOperation(false, null);
+        return result;
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  /**
+   * @return Directory where temporary files of the storage are created or <code>null</code> if default temporary directory is used.
+   */
+  protected Path getTemporaryFilesDirectory() {
+    return null;
+  }
+
   private void makeRollback(OTransactionInternal clientTx, Exception e) {
     // WE NEED TO CALL ROLLBACK HERE, IN THE LOCK
     OLogManager.instance()
@@ -4201,6 +4395,42 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  private OCluster findClusterById(final int clusterId) {
+    stateLock.acquireReadLock();
+    try {
+      checkOpenness();
+      return clusterId < clusters.size() ? clusters.get(clusterId) : null;
+    } finally {
+      stateLock.releaseReadLock();
+    }
+  }
+
+  private void readRecords(final OCluster cluster, final List<ORID> rids, final Map<ORID, ORawBuffer> result) {
+    if (pessimisticLock) {
+      // locks of records are acquired one by one anyway
+      for (ORID rid : rids) {
+        final ORawBuffer buffer = readRecord(cluster, new ORecordId(rid), false);
+        if (buffer != null)
+          result.put(rid, buffer);
+      }
+
+      return;
+    }
+
+    if (transaction.get() != null) {
+      doReadRecords(cluster, rids, result);
+      return;
+    }
+
+    stateLock.acquireReadLock();
+    try {
+      checkOpenness();
+      doReadRecords(cluster, rids, result);
+    } finally {
+      stateLock.releaseReadLock();
+    }
+  }
+
   private ORawBuffer readRecord(final OCluster clusterSegment, final ORecordId rid, boolean prefetchRecords) {
     checkOpenness();
 
@@ -4338,6 +4568,52 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  private OPhysicalPosition[] doCreateRecords(final OCluster cluster, final byte[][] contents, int recordVersion,
+      final byte[] recordTypes) {
+    for (byte[] content : contents) {
+      if (content == null)
+        throw new IllegalArgumentException("Record is null");
+    }
+
+    try {
+      if (recordVersion > -1)
+        recordVersion++;
+      else
+        recordVersion = 0;
+
+      final OPhysicalPosition[] positions;
+
+      makeStorageDirty();
+      atomicOperationsManager.startAtomicOperation((String) null, true);
+      try {
+        positions = cluster.createRecords(contents, recordVersion, recordTypes);
+
+        final ORecordSerializationContext context = ORecordSerializationContext.getContext();
+        if (context != null)
+          context.executeOperations(this);
+        atomicOperationsManager.endAtomicOperation(false, null);
+      } catch (Exception e) {
+        atomicOperationsManager.endAtomicOperation(true, e);
+
+        if (e instanceof OOfflineClusterException)
+          throw (OOfflineClusterException) e;
+
+        OLogManager.instance().error(this, "Error on creating records in cluster: " + cluster, e);
+        throw ODatabaseException.wrapException(new OStorageException("Error during creation of records"), e);
+      }
+
+      if (OLogManager.instance().isDebugEnabled())
+        OLogManager.instance().debug(this, "Created %d records in cluster %s", positions.length, cluster.getName());
+
+      recordCreated.addAndGet(positions.length);
+
+      return positions;
+    } catch (IOException ioe) {
+      throw OException.wrapException(
+          new OStorageException("Error during creation of records in cluster " + (cluster != null ? cluster.getName() : "")), ioe);
+    }
+  }
+
   private OStorageOperationResult<Integer> doUpdateRecord(final ORecordId rid, final boolean updateContent, byte[] content,
       final int version, final byte recordType, final ORecordCallback<Integer> callback, final OCluster cluster) {
 
@@ -4558,6 +4834,25 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  private void doReadRecords(final OCluster cluster, final List<ORID> rids, final Map<ORID, ORawBuffer> result) {
+    final long[] clusterPositions = new long[rids.size()];
+    for (int i = 0; i < clusterPositions.length; i++)
+      clusterPositions[i] = rids.get(i).getClusterPosition();
+
+    try {
+      final ORawBuffer[] buffers = cluster.readRecords(clusterPositions);
+
+      for (int i = 0; i < buffers.length; i++) {
+        if (buffers[i] != null) {
+          result.put(rids.get(i), buffers[i]);
+          recordRead.incrementAndGet();
+        }
+      }
+    } catch (IOException e) {
+      throw OException.wrapException(new OStorageException("Error during read of records of cluster " + cluster.getName()), e);
+    }
+  }
+
   private ORawBuffer doReadRecordIfNotLatest(final OCluster cluster, final ORecordId rid, final int recordVersion)
       throws ORecordNotFoundException {
     try {
@@ -4741,7 +5036,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               engine.delete();
             else
               engine.close();
-          }
+          } else if (engine instanceof OSBTreeIndexEngine)
+            ((OSBTreeIndexEngine) engine).unregisterProfilerHooks();
         }
 
         indexEngines.clear();
@@ -5168,6 +5464,9 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
     long lastReportTime = 0;
 
+    final int restoreThreads = OGlobalConfiguration.WAL_RESTORE_THREADS.getValueAsInteger();
+    final OPageUpdateReplayer replayer = restoreThreads > 1 ? new OPageUpdateReplayer(name, restoreThreads) : null;
+
     try {
       while (lsn != null) {
         logSequenceNumber = lsn;
@@ -5181,7 +5480,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           // in case of data restore from fuzzy checkpoint part of operations may be already flushed to the disk
           if (atomicUnit != null) {
             atomicUnit.add(walRecord);
-            restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate);
+
+            if (replayer == null)
+              restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate);
+            else
+              restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, replayer);
           }
 
         } else if (walRecord instanceof OAtomicUnitStartRecord) {
@@ -5228,6 +5531,9 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         lsn = writeAheadLog.next(lsn);
       }
 
+      if (replayer != null)
+        replayer.awaitCompletion();
+
       OLogManager.instance()
           .infoNoDb(this, "There are %d unfinished atomic operations left, they will be rolled back", operationUnits.size());
 
@@ -5246,6 +5552,12 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               + " Please report issue about this exception to bug tracker and provide WAL files which are backed up in 'wal_backup' directory.",
           e);
       backUpWAL(e);
+    } finally {
+      if (replayer != null) {
+        final Throwable failure = replayer.shutdown();
+        if (failure != null)
+          OLogManager.instance().errorNoDb(this, "Not all page changes were applied during data restore", failure);
+      }
     }
 
     if (atLeastOnePageUpdate.getValue())
@@ -5421,26 +5733,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           }
         }
 
-        final long pageIndex = updatePageRecord.getPageIndex();
         fileId = writeCache.externalFileId(writeCache.internalFileId(fileId));
-
-        OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, false);
-        if (cacheEntry == null) {
-          do {
-            if (cacheEntry != null)
-              readCache.releaseFromWrite(cacheEntry, writeCache);
-
-            cacheEntry = readCache.allocateNewPage(fileId, writeCache, false);
-          } while (cacheEntry.getPageIndex() != pageIndex);
-        }
-
-        try {
-          ODurablePage durablePage = new ODurablePage(cacheEntry);
-          durablePage.restoreChanges(updatePageRecord.getChanges());
-          durablePage.setLsn(updatePageRecord.getLsn());
-        } finally {
-          readCache.releaseFromWrite(cacheEntry, writeCache);
-        }
+        restorePageUpdate(fileId, updatePageRecord);
 
         atLeastOnePageUpdate.setValue(true);
       } else if (walRecord instanceof OAtomicUnitStartRecord) {
@@ -5458,6 +5752,75 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Restores atomic operation applying page changes in parallel by passed in replayer. If operation creates or deletes files, or
+   * changes files which are absent, it is restored by the current thread once all previously submitted changes are applied.
+   */
+  private void restoreAtomicUnit(List<OWALRecord> atomicUnit, OModifiableBoolean atLeastOnePageUpdate,
+      OPageUpdateReplayer replayer) throws IOException {
+    assert atomicUnit.get(atomicUnit.size() - 1) instanceof OAtomicUnitEndRecord;
+
+    for (OWALRecord walRecord : atomicUnit) {
+      if (walRecord instanceof OFileDeletedWALRecord || walRecord instanceof OFileCreatedWALRecord || (
+          walRecord instanceof OUpdatePageRecord && !writeCache.exists(((OUpdatePageRecord) walRecord).getFileId()))) {
+        replayer.awaitCompletion();
+        restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate);
+        return;
+      }
+    }
+
+    for (OWALRecord walRecord : atomicUnit) {
+      if (walRecord instanceof OUpdatePageRecord) {
+        final OUpdatePageRecord updatePageRecord = (OUpdatePageRecord) walRecord;
+        final long fileId = writeCache.externalFileId(writeCache.internalFileId(updatePageRecord.getFileId()));
+
+        replayer.submit(fileId, updatePageRecord.getPageIndex(), () -> restorePageUpdate(fileId, updatePageRecord));
+        atLeastOnePageUpdate.setValue(true);
+      } else if (!(walRecord instanceof OAtomicUnitStartRecord) && !(walRecord instanceof OAtomicUnitEndRecord)) {
+        OLogManager.instance()
+            .error(this, "Invalid WAL record type was passed %s. Given record will be skipped.", null, walRecord.getClass());
+
+        assert false : "Invalid WAL record type was passed " + walRecord.getClass().getName();
+      }
+    }
+  }
+
+  private void restorePageUpdate(long fileId, OUpdatePageRecord updatePageRecord) throws IOException {
+    final long pageIndex = updatePageRecord.getPageIndex();
+
+    OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, false);
+    if (cacheEntry == null)
+      cacheEntry = allocatePageForRestore(fileId, pageIndex);
+
+    try {
+      ODurablePage durablePage = new ODurablePage(cacheEntry);
+      durablePage.restoreChanges(updatePageRecord.getChanges());
+      durablePage.setLsn(updatePageRecord.getLsn());
+    } finally {
+      readCache.releaseFromWrite(cacheEntry, writeCache);
+    }
+  }
+
+  /**
+   * Adds pages to the file till page with passed in index is allocated. Pages may be restored by several threads, so allocation is
+   * serialized and page is checked once again, it could be allocated by other thread which restores page with bigger index.
+   */
+  private OCacheEntry allocatePageForRestore(long fileId, long pageIndex) throws IOException {
+    synchronized (restorePageAllocationLock) {
+      OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, false);
+      if (cacheEntry == null) {
+        do {
+          if (cacheEntry != null)
+            readCache.releaseFromWrite(cacheEntry, writeCache);
+
+          cacheEntry = readCache.allocateNewPage(fileId, writeCache, false);
+        } while (cacheEntry.getPageIndex() != pageIndex);
+      }
+
+      return cacheEntry;
+    }
+  }
+
   /**
    * Method which is called before any data modification operation to check alarm conditions such as: <ol> <li>Low disk space</li>
    * <li>Exception during data flush in background threads</li> <li>Broken files</li> </ol>
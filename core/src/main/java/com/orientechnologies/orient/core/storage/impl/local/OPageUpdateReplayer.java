@@ -0,0 +1,207 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Applies page changes restored from WAL by several threads.
+ * <p>
+ * Each page is assigned to a single thread by its file id and page index, and every thread applies changes in the order they were
+ * submitted, so changes of the same page are applied in the same order as they were logged. Changes of different pages are
+ * independent from each other once atomic operations are resolved, so they may be applied in any order.
+ * <p>
+ * Operations which change the set of files have to be applied only when all submitted page changes are applied, see
+ * {@link #awaitCompletion()}.
+ *
+ * @see com.orientechnologies.orient.core.config.OGlobalConfiguration#WAL_RESTORE_THREADS
+ */
+final class OPageUpdateReplayer {
+  private static final int QUEUE_CAPACITY = 1024;
+
+  /**
+   * Page change which is applied by one of the restore threads.
+   */
+  interface PageUpdate {
+    void apply() throws IOException;
+  }
+
+  private static final PageUpdate STOP = () -> {
+  };
+
+  private final Worker[] workers;
+
+  private volatile Throwable failure;
+
+  OPageUpdateReplayer(String storageName, int threads) {
+    workers = new Worker[threads];
+
+    for (int i = 0; i < threads; i++) {
+      final Worker worker = new Worker();
+      final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, worker);
+      thread.setDaemon(true);
+      thread.setName("OrientDB WAL Restore Task (" + storageName + ") #" + i);
+      thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+
+      worker.thread = thread;
+      workers[i] = worker;
+
+      thread.start();
+    }
+  }
+
+  /**
+   * Schedules change of the page. Blocks if the thread which is responsible for the page has too many not applied changes.
+   */
+  void submit(long fileId, long pageIndex, PageUpdate update) throws IOException {
+    checkFailure();
+
+    long hash = fileId * 0x9E3779B97F4A7C15L + pageIndex;
+    hash ^= hash >>> 32;
+    hash *= 0xC2B2AE3D27D4EB4FL;
+    hash ^= hash >>> 29;
+
+    workers[(int) ((hash & Long.MAX_VALUE) % workers.length)].put(update);
+  }
+
+  /**
+   * Waits till all submitted changes are applied.
+   *
+   * @throws IOException if some of the changes could not be applied
+   */
+  void awaitCompletion() throws IOException {
+    final CountDownLatch latch = new CountDownLatch(workers.length);
+    for (Worker worker : workers) {
+      worker.put(new Barrier(latch));
+    }
+
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OInterruptedException("Data restore was interrupted"), e);
+    }
+
+    checkFailure();
+  }
+
+  /**
+   * Waits till all submitted changes are applied and stops restore threads.
+   *
+   * @return exception thrown during application of changes, or <code>null</code> if all changes were applied.
+   */
+  Throwable shutdown() {
+    for (Worker worker : workers) {
+      worker.put(STOP);
+    }
+
+    for (Worker worker : workers) {
+      try {
+        worker.thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw OException.wrapException(new OInterruptedException("Data restore was interrupted"), e);
+      }
+    }
+
+    return failure;
+  }
+
+  private void checkFailure() throws IOException {
+    final Throwable t = failure;
+    if (t == null)
+      return;
+
+    if (t instanceof IOException)
+      throw (IOException) t;
+    if (t instanceof RuntimeException)
+      throw (RuntimeException) t;
+    if (t instanceof Error)
+      throw (Error) t;
+
+    throw new IllegalStateException(t);
+  }
+
+  private static final class Barrier implements PageUpdate {
+    private final CountDownLatch latch;
+
+    private Barrier(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public void apply() {
+      latch.countDown();
+    }
+  }
+
+  private final class Worker implements Runnable {
+    private final BlockingQueue<PageUpdate> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    private Thread thread;
+
+    private void put(PageUpdate update) {
+      try {
+        queue.put(update);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw OException.wrapException(new OInterruptedException("Data restore was interrupted"), e);
+      }
+    }
+
+    @Override
+    public void run() {
+      while (true) {
+        final PageUpdate update;
+        try {
+          update = queue.take();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+
+        if (update == STOP)
+          return;
+
+        // once one of the changes failed the rest of them are skipped, restore is going to be paused anyway
+        if (failure != null && !(update instanceof Barrier))
+          continue;
+
+        try {
+          update.apply();
+        } catch (IOException | RuntimeException | Error e) {
+          synchronized (OPageUpdateReplayer.this) {
+            if (failure == null)
+              failure = e;
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,332 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.exception.OClusterFreeSpaceMapException;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
+
+import java.io.IOException;
+
+/**
+ * Durable map of free space of pages of {@link OPaginatedCluster}. Map stores free space class of each cluster page, pages
+ * which do not have enough free space to be tracked are stored with class <code>-1</code>.
+ * <p>
+ * Map is hierarchical, each page of the map contains tree of maximums of free space classes of
+ * {@link OClusterFreeSpaceMapBucket#MAX_ENTRIES} cluster pages, so search of page which has enough space to store record costs
+ * logarithmic amount of operations and does not require to load cluster pages. Search always returns page with the smallest
+ * index, so records are packed to the beginning of the cluster file.
+ */
+public class OClusterFreeSpaceMap extends ODurableComponent {
+  public static final String DEF_EXTENSION = ".fsm";
+  private long fileId;
+
+  public OClusterFreeSpaceMap(OAbstractPaginatedStorage storage, String name, String lockName) {
+    super(storage, name, DEF_EXTENSION, lockName);
+  }
+
+  public boolean exists() {
+    startOperation();
+    try {
+      acquireSharedLock();
+      try {
+        return isFileExists(atomicOperationsManager.getCurrentOperation(), getFullName());
+      } finally {
+        releaseSharedLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  public void open() throws IOException {
+    startOperation();
+    try {
+      acquireExclusiveLock();
+      try {
+        OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+        fileId = openFile(atomicOperation, getFullName());
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  public void create() throws IOException {
+    startOperation();
+    try {
+      final OAtomicOperation atomicOperation = startAtomicOperation(false);
+
+      acquireExclusiveLock();
+      try {
+        fileId = addFile(atomicOperation, getFullName());
+        endAtomicOperation(false, null);
+      } catch (IOException ioe) {
+        endAtomicOperation(true, ioe);
+        throw ioe;
+      } catch (Exception e) {
+        endAtomicOperation(true, e);
+        throw OException.wrapException(new OClusterFreeSpaceMapException("Error during creation of cluster free space map", this),
+            e);
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  public void flush() {
+    startOperation();
+    try {
+      atomicOperationsManager.acquireReadLock(this);
+      try {
+        acquireSharedLock();
+        try {
+          writeCache.flush(fileId);
+        } finally {
+          releaseSharedLock();
+        }
+      } finally {
+        atomicOperationsManager.releaseReadLock(this);
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  public void close(boolean flush) throws IOException {
+    startOperation();
+    try {
+      acquireExclusiveLock();
+      try {
+        readCache.closeFile(fileId, flush, writeCache);
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  public void truncate() throws IOException {
+    startOperation();
+    try {
+      final OAtomicOperation atomicOperation = startAtomicOperation(true);
+      acquireExclusiveLock();
+      try {
+        truncateFile(atomicOperation, fileId);
+        endAtomicOperation(false, null);
+      } catch (IOException ioe) {
+        endAtomicOperation(true, ioe);
+        throw ioe;
+      } catch (Exception e) {
+        endAtomicOperation(true, e);
+        throw OException
+            .wrapException(new OClusterFreeSpaceMapException("Error during truncation of cluster free space map", this), e);
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  public void delete() throws IOException {
+    startOperation();
+    try {
+      final OAtomicOperation atomicOperation = startAtomicOperation(false);
+
+      acquireExclusiveLock();
+      try {
+        deleteFile(atomicOperation, fileId);
+        endAtomicOperation(false, null);
+      } catch (IOException ioe) {
+        endAtomicOperation(true, ioe);
+        throw ioe;
+      } catch (Exception e) {
+        endAtomicOperation(true, e);
+        throw OException
+            .wrapException(new OClusterFreeSpaceMapException("Error during deletion of cluster free space map", this), e);
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  public void rename(String newName) throws IOException {
+    startOperation();
+    try {
+      startAtomicOperation(true);
+      acquireExclusiveLock();
+      try {
+        writeCache.renameFile(fileId, newName + getExtension());
+        setName(newName);
+        endAtomicOperation(false, null);
+      } catch (IOException ioe) {
+        endAtomicOperation(true, ioe);
+        throw ioe;
+      } catch (Exception e) {
+        endAtomicOperation(true, e);
+        throw OException.wrapException(new OClusterFreeSpaceMapException("Error during rename of cluster free space map", this), e);
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  /**
+   * Sets free space class of cluster page, pages of the map are added if needed.
+   *
+   * @param freeSpaceIndex Free space class of page or negative value if page does not have enough free space to be tracked.
+   */
+  public void update(final long pageIndex, final int freeSpaceIndex) throws IOException {
+    startOperation();
+    try {
+      final OAtomicOperation atomicOperation = startAtomicOperation(true);
+
+      acquireExclusiveLock();
+      try {
+        final long bucketIndex = pageIndex / OClusterFreeSpaceMapBucket.MAX_ENTRIES;
+        final int index = (int) (pageIndex % OClusterFreeSpaceMapBucket.MAX_ENTRIES);
+        final int value = freeSpaceIndex < 0 ? 0 : freeSpaceIndex + 1;
+
+        long filledUpTo = getFilledUpTo(atomicOperation, fileId);
+        if (bucketIndex >= filledUpTo && value == 0) {
+          endAtomicOperation(false, null);
+          return;
+        }
+
+        while (filledUpTo <= bucketIndex) {
+          final OCacheEntry cacheEntry = addPage(atomicOperation, fileId);
+          releasePageFromWrite(atomicOperation, cacheEntry);
+          filledUpTo++;
+        }
+
+        final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, bucketIndex, false);
+        try {
+          final OClusterFreeSpaceMapBucket bucket = new OClusterFreeSpaceMapBucket(cacheEntry);
+          bucket.set(index, value);
+        } finally {
+          releasePageFromWrite(atomicOperation, cacheEntry);
+        }
+
+        endAtomicOperation(false, null);
+      } catch (IOException | RuntimeException e) {
+        endAtomicOperation(true, e);
+        throw OException.wrapException(
+            new OClusterFreeSpaceMapException("Error during update of free space of page " + pageIndex + " of cluster", this), e);
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  /**
+   * @return Free space class of cluster page or <code>-1</code> if page is not tracked by the map.
+   */
+  public int get(final long pageIndex) throws IOException {
+    startOperation();
+    try {
+      atomicOperationsManager.acquireReadLock(this);
+      try {
+        acquireSharedLock();
+        try {
+          final long bucketIndex = pageIndex / OClusterFreeSpaceMapBucket.MAX_ENTRIES;
+          final int index = (int) (pageIndex % OClusterFreeSpaceMapBucket.MAX_ENTRIES);
+
+          final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+          if (bucketIndex >= getFilledUpTo(atomicOperation, fileId))
+            return -1;
+
+          final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, bucketIndex, false);
+          try {
+            final OClusterFreeSpaceMapBucket bucket = new OClusterFreeSpaceMapBucket(cacheEntry);
+            return bucket.get(index) - 1;
+          } finally {
+            releasePageFromRead(atomicOperation, cacheEntry);
+          }
+        } finally {
+          releaseSharedLock();
+        }
+      } finally {
+        atomicOperationsManager.releaseReadLock(this);
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  /**
+   * @return Index of the first cluster page free space class of which is not less than passed in one or <code>-1</code> if there
+   * is no such page.
+   */
+  public long find(final int freeSpaceIndex) throws IOException {
+    startOperation();
+    try {
+      atomicOperationsManager.acquireReadLock(this);
+      try {
+        acquireSharedLock();
+        try {
+          final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+          final long filledUpTo = getFilledUpTo(atomicOperation, fileId);
+          final int value = Math.max(freeSpaceIndex, 0) + 1;
+
+          for (long bucketIndex = 0; bucketIndex < filledUpTo; bucketIndex++) {
+            final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, bucketIndex, false);
+            try {
+              final OClusterFreeSpaceMapBucket bucket = new OClusterFreeSpaceMapBucket(cacheEntry);
+              final int index = bucket.find(value);
+
+              if (index >= 0)
+                return bucketIndex * OClusterFreeSpaceMapBucket.MAX_ENTRIES + index;
+            } finally {
+              releasePageFromRead(atomicOperation, cacheEntry);
+            }
+          }
+
+          return -1;
+        } finally {
+          releaseSharedLock();
+        }
+      } finally {
+        atomicOperationsManager.releaseReadLock(this);
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  public long getFileId() {
+    return fileId;
+  }
+}
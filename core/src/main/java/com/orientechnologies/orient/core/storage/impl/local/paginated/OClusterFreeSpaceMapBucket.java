@@ -0,0 +1,101 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+
+/**
+ * Page of {@link OClusterFreeSpaceMap}. Page contains complete binary tree of bytes stored in array, leaves of the tree are free
+ * space classes of cluster pages and each inner node contains maximum of its children, so root of the tree is the biggest free
+ * space class of all cluster pages covered by this page.
+ * <p>
+ * Zero value means that page does not have enough free space to be tracked, new page of the map is filled by zeros.
+ */
+public class OClusterFreeSpaceMapBucket extends ODurablePage {
+  private static final int TREE_OFFSET = NEXT_FREE_POSITION;
+
+  public static final int MAX_ENTRIES = Integer.highestOneBit((MAX_PAGE_SIZE_BYTES - TREE_OFFSET + 1) / 2);
+
+  private static final int FIRST_LEAF = MAX_ENTRIES - 1;
+
+  public OClusterFreeSpaceMapBucket(OCacheEntry cacheEntry) {
+    super(cacheEntry);
+  }
+
+  public int get(int index) {
+    return getNode(FIRST_LEAF + index);
+  }
+
+  /**
+   * Sets value of leaf and updates maximums stored in its ancestors, update stops at first ancestor which maximum is not changed.
+   */
+  public void set(int index, int value) {
+    int node = FIRST_LEAF + index;
+    if (getNode(node) == value)
+      return;
+
+    setNode(node, value);
+
+    while (node > 0) {
+      final int sibling = (node & 1) == 1 ? node + 1 : node - 1;
+      final int max = Math.max(getNode(node), getNode(sibling));
+
+      node = (node - 1) >> 1;
+      if (getNode(node) == max)
+        break;
+
+      setNode(node, max);
+    }
+  }
+
+  public int getMax() {
+    return getNode(0);
+  }
+
+  /**
+   * @return Index of first leaf value of which is not less than passed in value or <code>-1</code> if there is no such leaf.
+   */
+  public int find(int value) {
+    if (getNode(0) < value)
+      return -1;
+
+    int node = 0;
+    while (node < FIRST_LEAF) {
+      final int left = 2 * node + 1;
+
+      if (getNode(left) >= value)
+        node = left;
+      else
+        node = left + 1;
+    }
+
+    return node - FIRST_LEAF;
+  }
+
+  private int getNode(int node) {
+    return getByteValue(TREE_OFFSET + node) & 0xFF;
+  }
+
+  private void setNode(int node, int value) {
+    setByteValue(TREE_OFFSET + node, (byte) value);
+  }
+}
@@ -234,6 +234,69 @@ public class OClusterPositionMap extends ODurableComponent {
     }
   }
 
+  /**
+   * Adds mappings for several records at once, mappings are appended to the buckets one after another so consecutive range of
+   * cluster positions is returned.
+   *
+   * @return cluster positions in the same order as passed in page indexes and record positions.
+   */
+  public long[] add(long[] pageIndexes, int[] recordPositions) throws IOException {
+    startOperation();
+    try {
+      OAtomicOperation atomicOperation = startAtomicOperation(true);
+
+      acquireExclusiveLock();
+      try {
+        final long[] result = new long[pageIndexes.length];
+        if (pageIndexes.length == 0) {
+          endAtomicOperation(false, null);
+          return result;
+        }
+
+        long lastPage = getFilledUpTo(atomicOperation, fileId) - 1;
+        OCacheEntry cacheEntry;
+        if (lastPage < 0)
+          cacheEntry = addPage(atomicOperation, fileId);
+        else
+          cacheEntry = loadPageForWrite(atomicOperation, fileId, lastPage, false, 1);
+
+        Exception exception = null;
+        try {
+          OClusterPositionMapBucket bucket = new OClusterPositionMapBucket(cacheEntry);
+          for (int i = 0; i < pageIndexes.length; i++) {
+            if (bucket.isFull()) {
+              releasePageFromWrite(atomicOperation, cacheEntry);
+
+              cacheEntry = addPage(atomicOperation, fileId);
+
+              bucket = new OClusterPositionMapBucket(cacheEntry);
+            }
+
+            final long index = bucket.add(pageIndexes[i], recordPositions[i]);
+            result[i] = index + cacheEntry.getPageIndex() * OClusterPositionMapBucket.MAX_ENTRIES;
+          }
+
+          return result;
+        } catch (Exception e) {
+          exception = e;
+          throw OException.wrapException(
+              new OClusterPositionMapException("Error during creation of mapping between logical and physical record position",
+                  this), e);
+        } finally {
+          try {
+            releasePageFromWrite(atomicOperation, cacheEntry);
+          } finally {
+            endAtomicOperation(exception != null, exception);
+          }
+        }
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
   public long allocate() throws IOException {
     startOperation();
     try {
@@ -71,8 +71,8 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       ".oet", ".fl", ODiskWriteAheadLog.WAL_SEGMENT_EXTENSION, ODiskWriteAheadLog.MASTER_RECORD_EXTENSION,
       OHashTableIndexEngine.BUCKET_FILE_EXTENSION, OHashTableIndexEngine.METADATA_FILE_EXTENSION,
       OHashTableIndexEngine.TREE_FILE_EXTENSION, OHashTableIndexEngine.NULL_BUCKET_FILE_EXTENSION,
-      OClusterPositionMap.DEF_EXTENSION, OSBTreeIndexEngine.DATA_FILE_EXTENSION, OWOWCache.NAME_ID_MAP_EXTENSION,
-      OIndexRIDContainer.INDEX_FILE_EXTENSION, OSBTreeCollectionManagerShared.DEFAULT_EXTENSION,
+      OClusterPositionMap.DEF_EXTENSION, OClusterFreeSpaceMap.DEF_EXTENSION, OSBTreeIndexEngine.DATA_FILE_EXTENSION,
+      OWOWCache.NAME_ID_MAP_EXTENSION, OIndexRIDContainer.INDEX_FILE_EXTENSION, OSBTreeCollectionManagerShared.DEFAULT_EXTENSION,
       OSBTreeIndexEngine.NULL_BUCKET_FILE_EXTENSION, O2QCache.CACHE_STATISTIC_FILE_EXTENSION };
 
   private static final int ONE_KB = 1024;
@@ -333,6 +333,11 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     return lastLSN;
   }
 
+  @Override
+  protected Path getTemporaryFilesDirectory() {
+    return getStoragePath();
+  }
+
   @Override
   protected File createWalTempDirectory() {
     final File walDirectory = new File(getStoragePath().toFile(), "walIncrementalBackupRestoreDirectory");
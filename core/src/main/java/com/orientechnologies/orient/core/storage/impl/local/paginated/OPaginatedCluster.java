@@ -21,6 +21,7 @@ import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OByteSerializer;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.common.types.OModifiableLong;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.compression.OCompression;
 import com.orientechnologies.orient.core.compression.OCompressionFactory;
@@ -52,6 +53,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import static com.orientechnologies.orient.core.config.OGlobalConfiguration.DISK_CACHE_PAGE_SIZE;
+import static com.orientechnologies.orient.core.config.OGlobalConfiguration.PAGINATED_STORAGE_COMPACTION_DELAY;
+import static com.orientechnologies.orient.core.config.OGlobalConfiguration.PAGINATED_STORAGE_COMPACTION_FREE_SPACE;
 import static com.orientechnologies.orient.core.config.OGlobalConfiguration.PAGINATED_STORAGE_LOWEST_FREELIST_BOUNDARY;
 
 /**
@@ -78,6 +81,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
   private volatile OEncryption                           encryption;
   private final    boolean                               systemCluster;
   private          OClusterPositionMap                   clusterPositionMap;
+  private          OClusterFreeSpaceMap                  freeSpaceMap;
   private          OAbstractPaginatedStorage             storageLocal;
   private volatile int                                   id;
   private          long                                  fileId;
@@ -110,6 +114,28 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
     }
   }
 
+  private static final class RecordLocation implements Comparable<RecordLocation> {
+    private final int  index;
+    private final long pageIndex;
+    private final int  recordPosition;
+
+    private boolean multiPage;
+
+    private RecordLocation(int index, long pageIndex, int recordPosition) {
+      this.index = index;
+      this.pageIndex = pageIndex;
+      this.recordPosition = recordPosition;
+    }
+
+    @Override
+    public int compareTo(RecordLocation other) {
+      if (pageIndex != other.pageIndex)
+        return pageIndex < other.pageIndex ? -1 : 1;
+
+      return Integer.compare(recordPosition, other.recordPosition);
+    }
+  }
+
   public OPaginatedCluster(final String name, final OAbstractPaginatedStorage storage) {
     super(storage, name, ".pcl", name + ".pcl");
 
@@ -188,6 +214,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
         registerInStorageConfig((OStorageConfigurationImpl) config.root);
 
         clusterPositionMap.create();
+        freeSpaceMap.create();
 
         endAtomicOperation(false, null);
       } catch (Exception e) {
@@ -211,6 +238,8 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
   public void open() throws IOException {
     startOperation();
     try {
+      final boolean freeSpaceMapExists;
+
       acquireExclusiveLock();
       try {
         final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
@@ -225,9 +254,18 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
         }
 
         clusterPositionMap.open();
+
+        freeSpaceMapExists = freeSpaceMap.exists();
+        if (freeSpaceMapExists)
+          freeSpaceMap.open();
       } finally {
         releaseExclusiveLock();
       }
+
+      if (!freeSpaceMapExists) {
+        OLogManager.instance().info(this, "Free space map of cluster '%s' is absent and will be built from cluster pages", getName());
+        rebuildFreeSpaceMap();
+      }
     } finally {
       completeOperation();
     }
@@ -256,6 +294,9 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
       } finally {
         releaseExclusiveLock();
       }
+
+      // free space map is not replaced together with cluster file, so it is built from scratch
+      rebuildFreeSpaceMap();
     } finally {
       completeOperation();
     }
@@ -303,6 +344,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
 
         readCache.closeFile(fileId, flush, writeCache);
         clusterPositionMap.close(flush);
+        freeSpaceMap.close(flush);
       } finally {
         releaseExclusiveLock();
       }
@@ -321,6 +363,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
         deleteFile(atomicOperation, fileId);
 
         clusterPositionMap.delete();
+        freeSpaceMap.delete();
 
         endAtomicOperation(false, null);
       } catch (IOException ioe) {
@@ -478,22 +521,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
 
         if (entryContentLength < OClusterPage.MAX_RECORD_SIZE) {
           try {
-            byte[] entryContent = new byte[entryContentLength];
-
-            int entryPosition = 0;
-            entryContent[entryPosition] = recordType;
-            entryPosition++;
-
-            OIntegerSerializer.INSTANCE.serializeNative(content.length, entryContent, entryPosition);
-            entryPosition += OIntegerSerializer.INT_SIZE;
-
-            System.arraycopy(content, 0, entryContent, entryPosition, content.length);
-            entryPosition += content.length;
-
-            entryContent[entryPosition] = 1;
-            entryPosition++;
-
-            OLongSerializer.INSTANCE.serializeNative(-1L, entryContent, entryPosition);
+            final byte[] entryContent = createEntryContent(content, recordType, entryContentLength);
 
             final AddEntryResult addEntryResult = addEntry(recordVersion, entryContent, atomicOperation);
 
@@ -518,101 +546,271 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
           }
         } else {
           try {
-            int entrySize = content.length + OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE;
+            final AddEntryResult addEntryResult = addMultiPageEntry(content, recordVersion, recordType, atomicOperation);
 
-            int fullEntryPosition = 0;
-            byte[] fullEntry = new byte[entrySize];
+            updateClusterState(1, addEntryResult.recordsSizeDiff, atomicOperation);
+            final long clusterPosition;
+            if (allocatedPosition != null) {
+              clusterPositionMap.update(allocatedPosition.clusterPosition,
+                  new OClusterPositionMapBucket.PositionEntry(addEntryResult.pageIndex, addEntryResult.pagePosition));
+              clusterPosition = allocatedPosition.clusterPosition;
+            } else
+              clusterPosition = clusterPositionMap.add(addEntryResult.pageIndex, addEntryResult.pagePosition);
 
-            fullEntry[fullEntryPosition] = recordType;
-            fullEntryPosition++;
+            addAtomicOperationMetadata(new ORecordId(id, clusterPosition), atomicOperation);
+            endAtomicOperation(false, null);
 
-            OIntegerSerializer.INSTANCE.serializeNative(content.length, fullEntry, fullEntryPosition);
-            fullEntryPosition += OIntegerSerializer.INT_SIZE;
+            return createPhysicalPosition(recordType, clusterPosition, addEntryResult.recordVersion);
+          } catch (RuntimeException e) {
+            endAtomicOperation(true, e);
+            throw OException.wrapException(new OPaginatedClusterException("Error during record creation", this), e);
+          }
+        }
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      if (statistic != null)
+        statistic.stopRecordCreationTimer();
 
-            System.arraycopy(content, 0, fullEntry, fullEntryPosition, content.length);
+      completeOperation();
+    }
+  }
 
-            long prevPageRecordPointer = -1;
-            long firstPageIndex = -1;
-            int firstPagePosition = -1;
+  /**
+   * Creates several records at once inside of single atomic operation. Records which fit into single page are appended to the
+   * same page till it is full, so each page is loaded once and logged into WAL as single page change per batch, instead of one
+   * change per record. Mappings of positions of all records are added to the position map in one range.
+   *
+   * @return positions of created records in the same order as passed in content.
+   */
+  @Override
+  public OPhysicalPosition[] createRecords(final byte[][] contents, final int recordVersion, final byte[] recordTypes)
+      throws IOException {
+    startOperation();
+    OSessionStoragePerformanceStatistic statistic = performanceStatisticManager.getSessionPerformanceStatistic();
+    if (statistic != null)
+      statistic.startRecordCreationTimer();
+    try {
+      final byte[][] entries = new byte[contents.length][];
+      for (int i = 0; i < contents.length; i++) {
+        final byte[] content = compression.compress(contents[i]);
+        entries[i] = encryption.encrypt(content);
+      }
 
-            int version = 0;
+      OAtomicOperation atomicOperation = startAtomicOperation(true);
+      acquireExclusiveLock();
+      try {
+        final long[] pageIndexes = new long[entries.length];
+        final int[] pagePositions = new int[entries.length];
+        final int[] versions = new int[entries.length];
+        final boolean[] added = new boolean[entries.length];
 
-            int from = 0;
-            int to = from + (OClusterPage.MAX_RECORD_SIZE - OByteSerializer.BYTE_SIZE - OLongSerializer.LONG_SIZE);
+        int recordsSizeDiff = 0;
 
-            int recordsSizeDiff = 0;
+        OCacheEntry cacheEntry = null;
+        OClusterPage localPage = null;
+        long pageIndex = -1;
+        int freePageIndex = -1;
 
-            do {
-              byte[] entryContent = new byte[to - from + OByteSerializer.BYTE_SIZE + OLongSerializer.LONG_SIZE];
-              System.arraycopy(fullEntry, from, entryContent, 0, to - from);
+        try {
+          for (int i = 0; i < entries.length; i++) {
+            final int entryContentLength = getEntryContentLength(entries[i].length);
+            if (entryContentLength >= OClusterPage.MAX_RECORD_SIZE)
+              continue;
+
+            final byte[] entryContent = createEntryContent(entries[i], recordTypes[i], entryContentLength);
+
+            int position = -1;
+            int initialFreeSpace = 0;
+            if (localPage != null) {
+              initialFreeSpace = localPage.getFreeSpace();
+              position = localPage.appendRecord(recordVersion, entryContent);
+            }
 
-              if (from > 0)
-                entryContent[entryContent.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE] = 0;
-              else
-                entryContent[entryContent.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE] = 1;
+            if (position < 0) {
+              if (cacheEntry != null) {
+                releasePageFromWrite(atomicOperation, cacheEntry);
+                cacheEntry = null;
 
-              OLongSerializer.INSTANCE.serializeNative(-1L, entryContent, entryContent.length - OLongSerializer.LONG_SIZE);
+                updateFreePagesIndex(freePageIndex, pageIndex, atomicOperation);
+              }
 
-              final AddEntryResult addEntryResult = addEntry(recordVersion, entryContent, atomicOperation);
-              recordsSizeDiff += addEntryResult.recordsSizeDiff;
+              final FindFreePageResult findFreePageResult = findFreePage(entryContent.length, atomicOperation);
+              pageIndex = findFreePageResult.pageIndex;
+              freePageIndex = findFreePageResult.freePageIndex;
 
-              if (firstPageIndex == -1) {
-                firstPageIndex = addEntryResult.pageIndex;
-                firstPagePosition = addEntryResult.pagePosition;
-                version = addEntryResult.recordVersion;
-              }
+              final boolean newPage = freePageIndex >= FREE_LIST_SIZE;
+              cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
+              if (cacheEntry == null)
+                cacheEntry = addPage(atomicOperation, fileId);
 
-              long addedPagePointer = createPagePointer(addEntryResult.pageIndex, addEntryResult.pagePosition);
-              if (prevPageRecordPointer >= 0) {
-                long prevPageIndex = getPageIndex(prevPageRecordPointer);
-                int prevPageRecordPosition = getRecordPosition(prevPageRecordPointer);
+              localPage = new OClusterPage(cacheEntry, newPage);
+              initialFreeSpace = localPage.getFreeSpace();
+              position = localPage.appendRecord(recordVersion, entryContent);
 
-                final OCacheEntry prevPageCacheEntry = loadPageForWrite(atomicOperation, fileId, prevPageIndex, false);
-                try {
-                  final OClusterPage prevPage = new OClusterPage(prevPageCacheEntry, false);
-                  prevPage.setRecordLongValue(prevPageRecordPosition, -OLongSerializer.LONG_SIZE, addedPagePointer);
-                } finally {
-                  releasePageFromWrite(atomicOperation, prevPageCacheEntry);
-                }
+              if (position < 0) {
+                localPage.dumpToLog();
+                throw new IllegalStateException("Page " + cacheEntry.getPageIndex()
+                    + " does not have enough free space to add record content, freePageIndex=" + freePageIndex
+                    + ", entryContent.length=" + entryContent.length);
               }
+            }
 
-              prevPageRecordPointer = addedPagePointer;
-              from = to;
-              to = to + (OClusterPage.MAX_RECORD_SIZE - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE);
-              if (to > fullEntry.length)
-                to = fullEntry.length;
-
-            } while (from < to);
+            recordsSizeDiff += initialFreeSpace - localPage.getFreeSpace();
 
-            updateClusterState(1, recordsSizeDiff, atomicOperation);
-            final long clusterPosition;
-            if (allocatedPosition != null) {
-              clusterPositionMap.update(allocatedPosition.clusterPosition,
-                  new OClusterPositionMapBucket.PositionEntry(firstPageIndex, firstPagePosition));
-              clusterPosition = allocatedPosition.clusterPosition;
-            } else
-              clusterPosition = clusterPositionMap.add(firstPageIndex, firstPagePosition);
+            pageIndexes[i] = pageIndex;
+            pagePositions[i] = position;
+            versions[i] = localPage.getRecordVersion(position);
+            added[i] = true;
+          }
 
-            addAtomicOperationMetadata(new ORecordId(id, clusterPosition), atomicOperation);
-            endAtomicOperation(false, null);
+          if (cacheEntry != null) {
+            releasePageFromWrite(atomicOperation, cacheEntry);
+            cacheEntry = null;
 
-            return createPhysicalPosition(recordType, clusterPosition, version);
-          } catch (RuntimeException e) {
-            endAtomicOperation(true, e);
-            throw OException.wrapException(new OPaginatedClusterException("Error during record creation", this), e);
+            updateFreePagesIndex(freePageIndex, pageIndex, atomicOperation);
           }
+        } finally {
+          if (cacheEntry != null)
+            releasePageFromWrite(atomicOperation, cacheEntry);
+        }
+
+        for (int i = 0; i < entries.length; i++) {
+          if (added[i])
+            continue;
+
+          final AddEntryResult addEntryResult = addMultiPageEntry(entries[i], recordVersion, recordTypes[i], atomicOperation);
+          recordsSizeDiff += addEntryResult.recordsSizeDiff;
+
+          pageIndexes[i] = addEntryResult.pageIndex;
+          pagePositions[i] = addEntryResult.pagePosition;
+          versions[i] = addEntryResult.recordVersion;
+        }
+
+        // positions are assigned in the same order as records are passed
+        final long[] clusterPositions = clusterPositionMap.add(pageIndexes, pagePositions);
+
+        final OPhysicalPosition[] result = new OPhysicalPosition[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+          result[i] = createPhysicalPosition(recordTypes[i], clusterPositions[i], versions[i]);
+          addAtomicOperationMetadata(new ORecordId(id, clusterPositions[i]), atomicOperation);
         }
+
+        updateClusterState(entries.length, recordsSizeDiff, atomicOperation);
+
+        endAtomicOperation(false, null);
+        return result;
+      } catch (Exception e) {
+        endAtomicOperation(true, e);
+        throw OException.wrapException(new OPaginatedClusterException("Error during creation of records", this), e);
       } finally {
         releaseExclusiveLock();
       }
     } finally {
       if (statistic != null)
-        statistic.stopRecordCreationTimer();
+        statistic.stopRecordCreationTimer(contents.length);
 
       completeOperation();
     }
   }
 
+  private static byte[] createEntryContent(final byte[] content, final byte recordType, final int entryContentLength) {
+    byte[] entryContent = new byte[entryContentLength];
+
+    int entryPosition = 0;
+    entryContent[entryPosition] = recordType;
+    entryPosition++;
+
+    OIntegerSerializer.INSTANCE.serializeNative(content.length, entryContent, entryPosition);
+    entryPosition += OIntegerSerializer.INT_SIZE;
+
+    System.arraycopy(content, 0, entryContent, entryPosition, content.length);
+    entryPosition += content.length;
+
+    entryContent[entryPosition] = 1;
+    entryPosition++;
+
+    OLongSerializer.INSTANCE.serializeNative(-1L, entryContent, entryPosition);
+    return entryContent;
+  }
+
+  /**
+   * Splits record which does not fit into single page into several chunks linked to each other.
+   *
+   * @return position of the first chunk of the record.
+   */
+  private AddEntryResult addMultiPageEntry(final byte[] content, final int recordVersion, final byte recordType,
+      final OAtomicOperation atomicOperation) throws IOException {
+    int entrySize = content.length + OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE;
+
+    int fullEntryPosition = 0;
+    byte[] fullEntry = new byte[entrySize];
+
+    fullEntry[fullEntryPosition] = recordType;
+    fullEntryPosition++;
+
+    OIntegerSerializer.INSTANCE.serializeNative(content.length, fullEntry, fullEntryPosition);
+    fullEntryPosition += OIntegerSerializer.INT_SIZE;
+
+    System.arraycopy(content, 0, fullEntry, fullEntryPosition, content.length);
+
+    long prevPageRecordPointer = -1;
+    long firstPageIndex = -1;
+    int firstPagePosition = -1;
+
+    int version = 0;
+
+    int from = 0;
+    int to = from + (OClusterPage.MAX_RECORD_SIZE - OByteSerializer.BYTE_SIZE - OLongSerializer.LONG_SIZE);
+
+    int recordsSizeDiff = 0;
+
+    do {
+      byte[] entryContent = new byte[to - from + OByteSerializer.BYTE_SIZE + OLongSerializer.LONG_SIZE];
+      System.arraycopy(fullEntry, from, entryContent, 0, to - from);
+
+      if (from > 0)
+        entryContent[entryContent.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE] = 0;
+      else
+        entryContent[entryContent.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE] = 1;
+
+      OLongSerializer.INSTANCE.serializeNative(-1L, entryContent, entryContent.length - OLongSerializer.LONG_SIZE);
+
+      final AddEntryResult addEntryResult = addEntry(recordVersion, entryContent, atomicOperation);
+      recordsSizeDiff += addEntryResult.recordsSizeDiff;
+
+      if (firstPageIndex == -1) {
+        firstPageIndex = addEntryResult.pageIndex;
+        firstPagePosition = addEntryResult.pagePosition;
+        version = addEntryResult.recordVersion;
+      }
+
+      long addedPagePointer = createPagePointer(addEntryResult.pageIndex, addEntryResult.pagePosition);
+      if (prevPageRecordPointer >= 0) {
+        long prevPageIndex = getPageIndex(prevPageRecordPointer);
+        int prevPageRecordPosition = getRecordPosition(prevPageRecordPointer);
+
+        final OCacheEntry prevPageCacheEntry = loadPageForWrite(atomicOperation, fileId, prevPageIndex, false);
+        try {
+          final OClusterPage prevPage = new OClusterPage(prevPageCacheEntry, false);
+          prevPage.setRecordLongValue(prevPageRecordPosition, -OLongSerializer.LONG_SIZE, addedPagePointer);
+        } finally {
+          releasePageFromWrite(atomicOperation, prevPageCacheEntry);
+        }
+      }
+
+      prevPageRecordPointer = addedPagePointer;
+      from = to;
+      to = to + (OClusterPage.MAX_RECORD_SIZE - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE);
+      if (to > fullEntry.length)
+        to = fullEntry.length;
+
+    } while (from < to);
+
+    return new AddEntryResult(firstPageIndex, firstPagePosition, version, recordsSizeDiff);
+  }
+
   private void addAtomicOperationMetadata(ORID rid, OAtomicOperation atomicOperation) {
     if (!addRidMetadata)
       return;
@@ -682,9 +880,15 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
   private ORawBuffer internalReadRecord(long clusterPosition, long pageIndex, int recordPosition, int pageCount)
       throws IOException {
     final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
-    if (getFilledUpTo(atomicOperation, fileId) <= pageIndex)
+    final long filledUpTo = getFilledUpTo(atomicOperation, fileId);
+    if (filledUpTo <= pageIndex)
       return null;
 
+    //scan reads pages in batches, once reader reaches the start of the batch, the next one is read in background
+    if (pageCount > 1 && pageIndex % pageCount == 0 && pageIndex + pageCount < filledUpTo
+        && OGlobalConfiguration.QUERY_SCAN_ASYNC_PREFETCH.getValueAsBoolean())
+      prefetchPages(atomicOperation, fileId, pageIndex + pageCount, pageCount);
+
     int recordVersion;
     final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false, pageCount);
     try {
@@ -701,6 +905,10 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
     if (fullContent == null)
       return null;
 
+    return createRawBuffer(fullContent, recordVersion);
+  }
+
+  private ORawBuffer createRawBuffer(byte[] fullContent, int recordVersion) {
     int fullContentPosition = 0;
 
     final byte recordType = fullContent[fullContentPosition];
@@ -717,6 +925,88 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
     return new ORawBuffer(recordContent, recordVersion, recordType);
   }
 
+  /**
+   * Reads several records at once. Locks of the cluster are acquired only once for the whole batch and records are read in order
+   * of pages which contain them, so records located on the same page are read from single loaded page.
+   */
+  @Override
+  public ORawBuffer[] readRecords(final long[] clusterPositions) throws IOException {
+    final ORawBuffer[] result = new ORawBuffer[clusterPositions.length];
+    if (clusterPositions.length == 0)
+      return result;
+
+    startOperation();
+    try {
+      atomicOperationsManager.acquireReadLock(this);
+      try {
+        acquireSharedLock();
+        try {
+          final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+          final long filledUpTo = getFilledUpTo(atomicOperation, fileId);
+
+          final RecordLocation[] locations = new RecordLocation[clusterPositions.length];
+          int locationsCount = 0;
+
+          for (int i = 0; i < clusterPositions.length; i++) {
+            final OClusterPositionMapBucket.PositionEntry positionEntry = clusterPositionMap.get(clusterPositions[i], 1);
+            if (positionEntry != null && positionEntry.getPageIndex() < filledUpTo)
+              locations[locationsCount++] = new RecordLocation(i, positionEntry.getPageIndex(), positionEntry.getRecordPosition());
+          }
+
+          Arrays.sort(locations, 0, locationsCount);
+
+          int i = 0;
+          while (i < locationsCount) {
+            final long pageIndex = locations[i].pageIndex;
+
+            final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+            try {
+              final OClusterPage localPage = new OClusterPage(cacheEntry, false);
+
+              for (; i < locationsCount && locations[i].pageIndex == pageIndex; i++) {
+                final RecordLocation location = locations[i];
+                if (localPage.isDeleted(location.recordPosition))
+                  continue;
+
+                final byte[] content = localPage
+                    .getRecordBinaryValue(location.recordPosition, 0, localPage.getRecordSize(location.recordPosition));
+
+                // position points to the middle of the record
+                if (content[content.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE] == 0)
+                  continue;
+
+                if (OLongSerializer.INSTANCE.deserializeNative(content, content.length - OLongSerializer.LONG_SIZE) >= 0) {
+                  location.multiPage = true;
+                  continue;
+                }
+
+                result[location.index] = createRawBuffer(content, localPage.getRecordVersion(location.recordPosition));
+              }
+            } finally {
+              releasePageFromRead(atomicOperation, cacheEntry);
+            }
+          }
+
+          // records which are split between several pages are read one by one
+          for (int n = 0; n < locationsCount; n++) {
+            final RecordLocation location = locations[n];
+            if (location.multiPage)
+              result[location.index] = internalReadRecord(clusterPositions[location.index], location.pageIndex,
+                  location.recordPosition, 1);
+          }
+
+          return result;
+        } finally {
+          releaseSharedLock();
+        }
+      } finally {
+        atomicOperationsManager.releaseReadLock(this);
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
   @Override
   public ORawBuffer readRecordIfVersionIsNotLatest(long clusterPosition, final int recordVersion)
       throws IOException, ORecordNotFoundException {
@@ -1324,6 +1614,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
       try {
         truncateFile(atomicOperation, fileId);
         clusterPositionMap.truncate();
+        freeSpaceMap.truncate();
 
         initCusterState(atomicOperation);
 
@@ -1340,6 +1631,101 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
     }
   }
 
+  /**
+   * Moves records from sparse pages of the cluster to the pages with smaller indexes which have enough free space to hold them,
+   * so records are packed at the beginning of the cluster file and freed pages are reused by new records. Page is considered as
+   * sparse if it contains at least {@link OGlobalConfiguration#PAGINATED_STORAGE_COMPACTION_FREE_SPACE} of free space. Records
+   * which are split between several pages are not moved. Cluster positions of records are not changed.
+   * <p>
+   * Records are moved in portions which are equal to the size of page of cluster position map, each portion is moved inside of
+   * separate atomic operation, so compaction may be performed in background together with other operations on the cluster.
+   * Compaction makes pause of {@link OGlobalConfiguration#PAGINATED_STORAGE_COMPACTION_DELAY} between portions and stops if
+   * current thread is interrupted.
+   *
+   * @return Amount of moved records.
+   */
+  public long compact() throws IOException {
+    return compact(null);
+  }
+
+  /**
+   * Compacts the cluster, see {@link #compact()}.
+   *
+   * @param releasedDataPages if not null, is increased by the amount of pages emptied by compaction minus the amount of empty
+   *                          pages filled by it, so the amount of data pages after compaction is known without scanning the
+   *                          cluster again, see {@link #getDataPagesCount()}.
+   *
+   * @return Amount of moved records.
+   */
+  public long compact(final OModifiableLong releasedDataPages) throws IOException {
+    final OContextConfiguration configuration = storageLocal.getConfiguration().getContextConfiguration();
+    final int compactionFreeSpace = configuration.getValueAsInteger(PAGINATED_STORAGE_COMPACTION_FREE_SPACE) * ONE_KB;
+    final int compactionDelay = configuration.getValueAsInteger(PAGINATED_STORAGE_COMPACTION_DELAY);
+
+    long movedRecords = 0;
+    long lastPosition = -1;
+
+    while (true) {
+      final OClusterPositionMap.OClusterPositionEntry[] entries = higherPositionsEntries(lastPosition);
+      if (entries.length == 0)
+        return movedRecords;
+
+      movedRecords += compactRecords(entries, compactionFreeSpace, releasedDataPages);
+      lastPosition = entries[entries.length - 1].getPosition();
+
+      if (compactionDelay > 0) {
+        try {
+          Thread.sleep(compactionDelay);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          OLogManager.instance().info(this, "Compaction of cluster %s was interrupted", getName());
+          return movedRecords;
+        }
+      }
+    }
+  }
+
+  /**
+   * @return Amount of pages of the cluster which contain records. Only these pages are read during full scan of the cluster, so
+   * this value may be used to estimate effect of cluster compaction.
+   */
+  public long getDataPagesCount() throws IOException {
+    startOperation();
+    try {
+      atomicOperationsManager.acquireReadLock(this);
+      try {
+        acquireSharedLock();
+        try {
+          final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+          final long pagesCount = getFilledUpTo(atomicOperation, fileId);
+
+          long dataPagesCount = 0;
+          for (long pageIndex = 0; pageIndex < pagesCount; pageIndex++) {
+            if (pageIndex == pinnedStateEntryIndex)
+              continue;
+
+            final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+            try {
+              final OClusterPage localPage = new OClusterPage(cacheEntry, false);
+              if (localPage.getRecordsCount() > 0)
+                dataPagesCount++;
+            } finally {
+              releasePageFromRead(atomicOperation, cacheEntry);
+            }
+          }
+
+          return dataPagesCount;
+        } finally {
+          releaseSharedLock();
+        }
+      } finally {
+        atomicOperationsManager.releaseReadLock(this);
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
   @Override
   public OPhysicalPosition getPhysicalPosition(OPhysicalPosition position) throws IOException {
     startOperation();
@@ -1567,6 +1953,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
         try {
           writeCache.flush(fileId);
           clusterPositionMap.flush();
+          freeSpaceMap.flush();
         } finally {
           releaseSharedLock();
         }
@@ -1747,6 +2134,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
     this.id = config.getId();
 
     clusterPositionMap = new OClusterPositionMap(storage, getName(), getFullName());
+    freeSpaceMap = new OClusterFreeSpaceMap(storage, getName(), getFullName());
   }
 
   private void setEncryptionInternal(final String iMethod, final String iKey) {
@@ -1794,6 +2182,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
 
     writeCache.renameFile(fileId, newName + getExtension());
     clusterPositionMap.rename(newName);
+    freeSpaceMap.rename(newName);
 
     config.name = newName;
     storageLocal.renameCluster(getName(), newName);
@@ -1932,149 +2321,213 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
       if (freePageIndex < 0)
         freePageIndex = 0;
 
-      long pageIndex;
+      final long pageIndex = freeSpaceMap.find(freePageIndex);
+      if (pageIndex < 0)
+        return new FindFreePageResult(getFilledUpTo(atomicOperation, fileId), FREE_LIST_SIZE);
 
-      final OCacheEntry pinnedStateEntry = loadPageForRead(atomicOperation, fileId, pinnedStateEntryIndex, true);
-      if (pinnedStateEntry == null) {
-        loadPageForRead(atomicOperation, fileId, pinnedStateEntryIndex, true);
+      //free space map is broken automatically fix it
+      if (pageIndex >= getFilledUpTo(atomicOperation, fileId)) {
+        freeSpaceMap.update(pageIndex, -1);
+        continue;
       }
-      try {
-        OPaginatedClusterState freePageLists = new OPaginatedClusterState(pinnedStateEntry);
-        do {
-          pageIndex = freePageLists.getFreeListPage(freePageIndex);
-          freePageIndex++;
-        } while (pageIndex < 0 && freePageIndex < FREE_LIST_SIZE);
 
+      final int realFreePageIndex;
+      final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+      try {
+        final OClusterPage localPage = new OClusterPage(cacheEntry, false);
+        realFreePageIndex = calculateFreePageIndex(localPage);
       } finally {
-        releasePageFromRead(atomicOperation, pinnedStateEntry);
+        releasePageFromRead(atomicOperation, cacheEntry);
       }
 
-      if (pageIndex < 0)
-        pageIndex = getFilledUpTo(atomicOperation, fileId);
-      else
-        freePageIndex--;
-
-      if (freePageIndex < FREE_LIST_SIZE) {
-        OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
-
-        //free list is broken automatically fix it
-        if (cacheEntry == null) {
-          updateFreePagesList(freePageIndex, -1, atomicOperation);
-
-          continue;
-        } else {
-          int realFreePageIndex;
-          try {
-            OClusterPage localPage = new OClusterPage(cacheEntry, false);
-            realFreePageIndex = calculateFreePageIndex(localPage);
-          } finally {
-            releasePageFromWrite(atomicOperation, cacheEntry);
-          }
-
-          if (realFreePageIndex != freePageIndex) {
-            OLogManager.instance()
-                .warn(this, "Page in file %s with index %d was placed in wrong free list, this error will be fixed automatically",
-                    getFullName(), pageIndex);
+      if (realFreePageIndex < freePageIndex) {
+        OLogManager.instance()
+            .warn(this, "Page in file %s with index %d has wrong free space in free space map, this error will be fixed automatically",
+                getFullName(), pageIndex);
 
-            updateFreePagesIndex(freePageIndex, pageIndex, atomicOperation);
-            continue;
-          }
-        }
+        freeSpaceMap.update(pageIndex, realFreePageIndex);
+        continue;
       }
 
-      return new FindFreePageResult(pageIndex, freePageIndex);
+      return new FindFreePageResult(pageIndex, realFreePageIndex);
     }
   }
 
   private void updateFreePagesIndex(int prevFreePageIndex, long pageIndex, OAtomicOperation atomicOperation) throws IOException {
-    final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
-
+    final int newFreePageIndex;
+    final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
     try {
       final OClusterPage localPage = new OClusterPage(cacheEntry, false);
-      int newFreePageIndex = calculateFreePageIndex(localPage);
+      newFreePageIndex = calculateFreePageIndex(localPage);
+    } finally {
+      releasePageFromRead(atomicOperation, cacheEntry);
+    }
 
-      if (prevFreePageIndex == newFreePageIndex)
-        return;
+    if (prevFreePageIndex == newFreePageIndex)
+      return;
 
-      long nextPageIndex = localPage.getNextPage();
-      long prevPageIndex = localPage.getPrevPage();
+    freeSpaceMap.update(pageIndex, newFreePageIndex);
+  }
 
-      if (prevPageIndex >= 0) {
-        final OCacheEntry prevPageCacheEntry = loadPageForWrite(atomicOperation, fileId, prevPageIndex, false);
+  private OClusterPositionMap.OClusterPositionEntry[] higherPositionsEntries(long clusterPosition) throws IOException {
+    startOperation();
+    try {
+      atomicOperationsManager.acquireReadLock(this);
+      try {
+        acquireSharedLock();
         try {
-          final OClusterPage prevPage = new OClusterPage(prevPageCacheEntry, false);
-          assert calculateFreePageIndex(prevPage) == prevFreePageIndex;
-          prevPage.setNextPage(nextPageIndex);
+          return clusterPositionMap.higherPositionsEntries(clusterPosition);
         } finally {
-          releasePageFromWrite(atomicOperation, prevPageCacheEntry);
+          releaseSharedLock();
         }
+      } finally {
+        atomicOperationsManager.releaseReadLock(this);
       }
+    } finally {
+      completeOperation();
+    }
+  }
 
-      if (nextPageIndex >= 0) {
-        final OCacheEntry nextPageCacheEntry = loadPageForWrite(atomicOperation, fileId, nextPageIndex, false);
-        try {
-          final OClusterPage nextPage = new OClusterPage(nextPageCacheEntry, false);
-          if (calculateFreePageIndex(nextPage) != prevFreePageIndex)
-            calculateFreePageIndex(nextPage);
-
-          assert calculateFreePageIndex(nextPage) == prevFreePageIndex;
-          nextPage.setPrevPage(prevPageIndex);
-
-        } finally {
-          releasePageFromWrite(atomicOperation, nextPageCacheEntry);
+  private int compactRecords(OClusterPositionMap.OClusterPositionEntry[] entries, int compactionFreeSpace,
+      OModifiableLong releasedDataPages) throws IOException {
+    startOperation();
+    try {
+      final OAtomicOperation atomicOperation = startAtomicOperation(true);
+      acquireExclusiveLock();
+      try {
+        int movedRecords = 0;
+        for (OClusterPositionMap.OClusterPositionEntry entry : entries) {
+          if (moveRecord(entry.getPosition(), compactionFreeSpace, releasedDataPages, atomicOperation))
+            movedRecords++;
         }
+
+        endAtomicOperation(false, null);
+        return movedRecords;
+      } catch (IOException | RuntimeException e) {
+        endAtomicOperation(true, e);
+        throw OException.wrapException(new OPaginatedClusterException("Error during compaction of cluster", this), e);
+      } finally {
+        releaseExclusiveLock();
       }
+    } finally {
+      completeOperation();
+    }
+  }
 
-      localPage.setNextPage(-1);
-      localPage.setPrevPage(-1);
+  private boolean moveRecord(long clusterPosition, int compactionFreeSpace, OModifiableLong releasedDataPages,
+      OAtomicOperation atomicOperation) throws IOException {
+    // position could be changed since cluster position map was read
+    final OClusterPositionMapBucket.PositionEntry positionEntry = clusterPositionMap.get(clusterPosition, 1);
+    if (positionEntry == null)
+      return false;
 
-      if (prevFreePageIndex < 0 && newFreePageIndex < 0)
-        return;
+    final long pageIndex = positionEntry.getPageIndex();
+    final int recordPosition = positionEntry.getRecordPosition();
 
-      if (prevFreePageIndex >= 0 && prevFreePageIndex < FREE_LIST_SIZE) {
-        if (prevPageIndex < 0)
-          updateFreePagesList(prevFreePageIndex, nextPageIndex, atomicOperation);
-      }
+    final byte[] entryContent;
+    final int recordVersion;
+    final int freePageIndex;
 
-      if (newFreePageIndex >= 0) {
-        long oldFreePage;
-        OCacheEntry pinnedStateEntry = loadPageForRead(atomicOperation, fileId, pinnedStateEntryIndex, true);
-        try {
-          OPaginatedClusterState clusterFreeList = new OPaginatedClusterState(pinnedStateEntry);
-          oldFreePage = clusterFreeList.getFreeListPage(newFreePageIndex);
-        } finally {
-          releasePageFromRead(atomicOperation, pinnedStateEntry);
-        }
+    OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+    try {
+      final OClusterPage localPage = new OClusterPage(cacheEntry, false);
+      if (localPage.getFreeSpace() < compactionFreeSpace || localPage.isDeleted(recordPosition))
+        return false;
 
-        if (oldFreePage >= 0) {
-          final OCacheEntry oldFreePageCacheEntry = loadPageForWrite(atomicOperation, fileId, oldFreePage, false);
-          try {
-            final OClusterPage oldFreeLocalPage = new OClusterPage(oldFreePageCacheEntry, false);
-            assert calculateFreePageIndex(oldFreeLocalPage) == newFreePageIndex;
+      entryContent = localPage.getRecordBinaryValue(recordPosition, 0, localPage.getRecordSize(recordPosition));
+      if (OLongSerializer.INSTANCE.deserializeNative(entryContent, entryContent.length - OLongSerializer.LONG_SIZE) >= 0)
+        return false;
 
-            oldFreeLocalPage.setPrevPage(pageIndex);
-          } finally {
-            releasePageFromWrite(atomicOperation, oldFreePageCacheEntry);
-          }
+      recordVersion = localPage.getRecordVersion(recordPosition);
+      freePageIndex = calculateFreePageIndex(localPage);
+    } finally {
+      releasePageFromRead(atomicOperation, cacheEntry);
+    }
 
-          localPage.setNextPage(oldFreePage);
-          localPage.setPrevPage(-1);
-        }
+    final FindFreePageResult findFreePageResult = findFreePage(entryContent.length, atomicOperation);
+    if (findFreePageResult.pageIndex >= pageIndex)
+      return false;
+
+    final int newRecordPosition;
+    int recordsSizeDiff;
+
+    cacheEntry = loadPageForWrite(atomicOperation, fileId, findFreePageResult.pageIndex, false);
+    try {
+      final OClusterPage localPage = new OClusterPage(cacheEntry, false);
+      final int initialFreeSpace = localPage.getFreeSpace();
+      if (releasedDataPages != null && localPage.getRecordsCount() == 0)
+        releasedDataPages.decrement();
 
-        updateFreePagesList(newFreePageIndex, pageIndex, atomicOperation);
+      newRecordPosition = localPage.appendRecord(recordVersion, entryContent);
+      if (newRecordPosition < 0) {
+        localPage.dumpToLog();
+        throw new IllegalStateException(
+            "Page " + cacheEntry.getPageIndex() + " does not have enough free space to add record content, freePageIndex="
+                + findFreePageResult.freePageIndex + ", entryContent.length=" + entryContent.length);
       }
+
+      recordsSizeDiff = initialFreeSpace - localPage.getFreeSpace();
+    } finally {
+      releasePageFromWrite(atomicOperation, cacheEntry);
+    }
+
+    updateFreePagesIndex(findFreePageResult.freePageIndex, findFreePageResult.pageIndex, atomicOperation);
+
+    cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
+    try {
+      final OClusterPage localPage = new OClusterPage(cacheEntry, false);
+      final int initialFreeSpace = localPage.getFreeSpace();
+
+      localPage.deleteRecord(recordPosition);
+      recordsSizeDiff -= localPage.getFreeSpace() - initialFreeSpace;
+      if (releasedDataPages != null && localPage.getRecordsCount() == 0)
+        releasedDataPages.increment();
     } finally {
       releasePageFromWrite(atomicOperation, cacheEntry);
     }
+
+    updateFreePagesIndex(freePageIndex, pageIndex, atomicOperation);
+
+    clusterPositionMap
+        .update(clusterPosition, new OClusterPositionMapBucket.PositionEntry(findFreePageResult.pageIndex, newRecordPosition));
+    updateClusterState(0, recordsSizeDiff, atomicOperation);
+
+    return true;
   }
 
-  private void updateFreePagesList(int freeListIndex, long pageIndex, OAtomicOperation atomicOperation) throws IOException {
-    final OCacheEntry pinnedStateEntry = loadPageForWrite(atomicOperation, fileId, pinnedStateEntryIndex, true);
+  private void rebuildFreeSpaceMap() throws IOException {
+    final OAtomicOperation atomicOperation = startAtomicOperation(false);
+    acquireExclusiveLock();
     try {
-      OPaginatedClusterState paginatedClusterState = new OPaginatedClusterState(pinnedStateEntry);
-      paginatedClusterState.setFreeListPage(freeListIndex, pageIndex);
+      if (freeSpaceMap.exists())
+        freeSpaceMap.truncate();
+      else
+        freeSpaceMap.create();
+
+      final long filledUpTo = getFilledUpTo(atomicOperation, fileId);
+      for (long pageIndex = 0; pageIndex < filledUpTo; pageIndex++) {
+        if (pageIndex == pinnedStateEntryIndex)
+          continue;
+
+        final int freePageIndex;
+        final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+        try {
+          final OClusterPage localPage = new OClusterPage(cacheEntry, false);
+          freePageIndex = calculateFreePageIndex(localPage);
+        } finally {
+          releasePageFromRead(atomicOperation, cacheEntry);
+        }
+
+        freeSpaceMap.update(pageIndex, freePageIndex);
+      }
+
+      endAtomicOperation(false, null);
+    } catch (IOException | RuntimeException e) {
+      endAtomicOperation(true, e);
+      throw OException
+          .wrapException(new OPaginatedClusterException("Error during build of free space map of cluster " + getName(), this), e);
     } finally {
-      releasePageFromWrite(atomicOperation, pinnedStateEntry);
+      releaseExclusiveLock();
     }
   }
 
@@ -2099,6 +2552,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
       paginatedClusterState.setSize(0);
       paginatedClusterState.setRecordsSize(0);
 
+      // free lists are replaced by free space map, they are kept empty to preserve layout of state page
       for (int i = 0; i < FREE_LIST_SIZE; i++)
         paginatedClusterState.setFreeListPage(i, -1);
 
@@ -426,6 +426,9 @@ public class OAtomicOperationsManager implements OAtomicOperationsMangerMXBean {
         currentOperation.set(null);
       }
 
+      // components are unlocked, so other operations may proceed while this one waits for the WAL flush
+      if (lsn != null && !rollback)
+        writeAheadLog.waitForDurability(lsn);
     } else {
       lsn = null;
       operation.decrementCounter();
@@ -147,6 +147,17 @@ public abstract class ODurableComponent extends OSharedResourceAdaptive {
     return atomicOperation.loadPageForRead(fileId, pageIndex, checkPinnedPages, pageCount);
   }
 
+  /**
+   * Asynchronously loads pages which are going to be read soon. Pages are not prefetched inside of atomic operation because they
+   * may be changed by this operation.
+   *
+   * @see OReadCache#prefetch(long, long, int, OWriteCache)
+   */
+  protected void prefetchPages(OAtomicOperation atomicOperation, long fileId, long startPageIndex, int pageCount) {
+    if (atomicOperation == null)
+      readCache.prefetch(fileId, startPageIndex, pageCount, writeCache);
+  }
+
   protected void pinPage(OAtomicOperation atomicOperation, OCacheEntry cacheEntry) {
     if (atomicOperation == null)
       readCache.pinPage(cacheEntry);
@@ -20,6 +20,7 @@
 
 package com.orientechnologies.orient.core.storage.impl.local.paginated.base;
 
+import com.orientechnologies.common.comparator.ODefaultComparator;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
 import com.orientechnologies.common.serialization.types.OByteSerializer;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
@@ -160,6 +161,41 @@ public class ODurablePage {
     return changes.getBinaryValue(buffer, pageOffset, valLen);
   }
 
+  /**
+   * Compares bytes of the page with bytes of passed in array as unsigned numbers, the same way as strings are compared.
+   *
+   * @param pageOffset  Offset of the first byte to compare inside of the page.
+   * @param value       Array with which bytes of the page are compared.
+   * @param valueOffset Offset of the first byte to compare inside of the array.
+   * @param length      Amount of bytes to compare.
+   *
+   * @return Negative number, zero or positive number if bytes of the page are less than, equal to or greater than bytes of array.
+   */
+  protected int compareBinaryValue(int pageOffset, byte[] value, int valueOffset, int length) {
+    assert cacheEntry.getCachePointer().getBuffer() == null || cacheEntry.isLockAcquiredByCurrentThread();
+
+    if (changes == null) {
+      final ByteBuffer buffer = pointer.getBuffer();
+
+      for (int i = 0; i < length; i++) {
+        final int result = (buffer.get(pageOffset + i) & 0xFF) - (value[valueOffset + i] & 0xFF);
+        if (result != 0)
+          return result;
+      }
+
+      return 0;
+    }
+
+    final byte[] pageValue = changes.getBinaryValue(pointer.getBufferDuplicate(), pageOffset, length);
+    for (int i = 0; i < length; i++) {
+      final int result = (pageValue[i] & 0xFF) - (value[valueOffset + i] & 0xFF);
+      if (result != 0)
+        return result;
+    }
+
+    return 0;
+  }
+
   protected int getObjectSizeInDirectMemory(OBinarySerializer binarySerializer, int offset) {
     assert cacheEntry.getCachePointer().getBuffer() == null || cacheEntry.isLockAcquiredByCurrentThread();
 
@@ -184,6 +220,22 @@ public class ODurablePage {
     return binarySerializer.deserializeFromByteBufferObject(buffer, changes, offset);
   }
 
+  /**
+   * Compares object which is serialized at passed in offset with passed in object. Object is compared directly in page buffer if
+   * there are no changes of the page done inside of atomic operation, otherwise it is deserialized.
+   *
+   * @see OBinarySerializer#compareInByteBuffer(ByteBuffer, int, Object)
+   */
+  protected <T> int compareInDirectMemory(OBinarySerializer<T> binarySerializer, int offset, T object) {
+    assert cacheEntry.getCachePointer().getBuffer() == null || cacheEntry.isLockAcquiredByCurrentThread();
+
+    if (changes == null)
+      return binarySerializer.compareInByteBuffer(pointer.getBufferDuplicate(), offset, object);
+
+    return ODefaultComparator.INSTANCE
+        .compare(binarySerializer.deserializeFromByteBufferObject(pointer.getBufferDuplicate(), changes, offset), object);
+  }
+
   protected byte getByteValue(int pageOffset) {
     assert cacheEntry.getCachePointer().getBuffer() == null || cacheEntry.isLockAcquiredByCurrentThread();
 
@@ -26,11 +26,14 @@ import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OIOException;
 import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.profiler.OProfiler;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.common.thread.OScheduledThreadPoolExecutorWithLogging;
 import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.config.OStorageConfiguration;
 import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.storage.OStorageAbstract;
 import com.orientechnologies.orient.core.storage.impl.local.OCheckpointRequestListener;
@@ -40,6 +43,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPagi
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationMetadata;
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OPerformanceStatisticManager;
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OSessionStoragePerformanceStatistic;
+import com.sun.jna.Platform;
 
 import java.io.EOFException;
 import java.io.File;
@@ -72,6 +76,12 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
   private static final int    ONE_KB                  = 1024;
   private static final int    ONE_MB                  = ONE_KB * ONE_KB;
 
+  /**
+   * Mapped files can not be deleted on Windows till they are unmapped, and it happens only on GC, so segments which are cut could
+   * not be removed.
+   */
+  private final boolean mappedReadEnabled;
+
   private final long walSizeHardLimit = OGlobalConfiguration.WAL_MAX_SIZE.getValueAsLong() * ONE_KB * ONE_KB;
   private       long walSizeLimit     = walSizeHardLimit;
 
@@ -124,6 +134,11 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
 
   private final ConcurrentNavigableMap<OLogSequenceNumber, Runnable> events = new ConcurrentSkipListMap<>();
 
+  /**
+   * Not <code>null</code> if group commit is enabled, see {@link #enableGroupCommit(int)}.
+   */
+  private volatile OWALGroupCommitter groupCommitter;
+
   public ODiskWriteAheadLog(OLocalPaginatedStorage storage) throws IOException {
     this(storage.getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.WAL_CACHE_SIZE),
         storage.getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.WAL_COMMIT_TIMEOUT),
@@ -132,6 +147,98 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
         storage.getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.WAL_SEGMENT_BUFFER_SIZE)
             * ONE_MB,
         storage.getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.WAL_FILE_AUTOCLOSE_INTERVAL));
+
+    if (storage.getConfiguration().getContextConfiguration().getValueAsBoolean(OGlobalConfiguration.WAL_GROUP_COMMIT))
+      enableGroupCommit(
+          storage.getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.WAL_GROUP_COMMIT_MAX_DELAY));
+  }
+
+  /**
+   * Enables group commit: after this call {@link #waitForDurability(OLogSequenceNumber)} blocks till the passed in LSN is forced to
+   * the disk, and concurrent callers share the same WAL flush.
+   *
+   * @param maxDelay maximum time (in microseconds) the WAL flush may be delayed to wait for other commits.
+   */
+  public void enableGroupCommit(int maxDelay) {
+    groupCommitter = new OWALGroupCommitter(this, maxDelay, TimeUnit.MICROSECONDS);
+    registerGroupCommitProfilerHooks();
+  }
+
+  private static boolean isMappedReadEnabled(final OLocalPaginatedStorage storage) {
+    final OStorageConfiguration configuration = storage.getConfiguration();
+    if (configuration != null && configuration.getContextConfiguration() != null)
+      return configuration.getContextConfiguration().getValueAsBoolean(OGlobalConfiguration.WAL_MAPPED_READ);
+
+    return OGlobalConfiguration.WAL_MAPPED_READ.getValueAsBoolean();
+  }
+
+  /**
+   * @return <code>true</code> if segments to which records are not appended any more are read through memory mapped files.
+   */
+  boolean isMappedReadEnabled() {
+    return mappedReadEnabled;
+  }
+
+  @Override
+  public void waitForDurability(OLogSequenceNumber lsn) {
+    final OWALGroupCommitter committer = groupCommitter;
+    if (committer != null)
+      committer.waitForDurability(lsn);
+  }
+
+  /**
+   * @return amount of WAL flushes performed by group commit.
+   */
+  public long getGroupCommitBatches() {
+    final OWALGroupCommitter committer = groupCommitter;
+    return committer == null ? 0 : committer.getBatches();
+  }
+
+  /**
+   * @return amount of commits which waited for group commit.
+   */
+  public long getGroupCommitCommits() {
+    final OWALGroupCommitter committer = groupCommitter;
+    return committer == null ? 0 : committer.getCommits();
+  }
+
+  /**
+   * @return total time spent by group commit to force the WAL (in nanoseconds).
+   */
+  public long getGroupCommitFsyncTime() {
+    final OWALGroupCommitter committer = groupCommitter;
+    return committer == null ? 0 : committer.getFsyncTime();
+  }
+
+  private String groupCommitMetricPrefix() {
+    return "db." + getStorage().getName() + ".wal.groupCommit";
+  }
+
+  private void registerGroupCommitProfilerHooks() {
+    final OProfiler profiler = Orient.instance().getProfiler();
+    final String prefix = groupCommitMetricPrefix();
+
+    profiler.registerHookValue(prefix + ".batches", "Number of WAL flushes performed by group commit", OProfiler.METRIC_TYPE.COUNTER,
+        this::getGroupCommitBatches, "db.*.wal.groupCommit.batches");
+    profiler.registerHookValue(prefix + ".commits", "Number of commits which waited for group commit", OProfiler.METRIC_TYPE.COUNTER,
+        this::getGroupCommitCommits, "db.*.wal.groupCommit.commits");
+    profiler.registerHookValue(prefix + ".lastBatchSize", "Number of commits made durable by the last WAL flush of group commit",
+        OProfiler.METRIC_TYPE.SIZE, () -> groupCommitter.getLastBatchSize(), "db.*.wal.groupCommit.lastBatchSize");
+    profiler.registerHookValue(prefix + ".maxBatchSize", "Maximum number of commits made durable by a single WAL flush",
+        OProfiler.METRIC_TYPE.SIZE, () -> groupCommitter.getMaxBatchSize(), "db.*.wal.groupCommit.maxBatchSize");
+    profiler.registerHookValue(prefix + ".fsyncTime", "Total time spent by group commit to force the WAL (in ms.)",
+        OProfiler.METRIC_TYPE.CHRONO, () -> getGroupCommitFsyncTime() / 1000000, "db.*.wal.groupCommit.fsyncTime");
+  }
+
+  private void unregisterGroupCommitProfilerHooks() {
+    final OProfiler profiler = Orient.instance().getProfiler();
+    final String prefix = groupCommitMetricPrefix();
+
+    profiler.unregisterHookValue(prefix + ".batches");
+    profiler.unregisterHookValue(prefix + ".commits");
+    profiler.unregisterHookValue(prefix + ".lastBatchSize");
+    profiler.unregisterHookValue(prefix + ".maxBatchSize");
+    profiler.unregisterHookValue(prefix + ".fsyncTime");
   }
 
   @Override
@@ -180,6 +287,7 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
     this.commitDelay = commitDelay;
     this.maxSegmentSize = maxSegmentSize;
     this.storage = storage;
+    this.mappedReadEnabled = isMappedReadEnabled(storage) && !Platform.isWindows();
     this.performanceStatisticManager = storage.getPerformanceStatisticManager();
     this.autoFileCloser = new OScheduledThreadPoolExecutorWithLogging(1, r -> {
       final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
@@ -269,6 +377,10 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
       } else {
         Collections.sort(logSegments);
 
+        for (int i = 0; i < logSegments.size() - 1; i++) {
+          logSegments.get(i).seal();
+        }
+
         logSegments.get(logSegments.size() - 1).startBackgroundWrite();
 
         flushedLsn = findFlushedLSN();
@@ -629,6 +741,8 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
       if (last.filledUpTo() == 0) {
         last.delete(false);
         logSegments.remove(logSegments.size() - 1);
+      } else {
+        last.seal();
       }
 
       last = new OLogSegmentV2(this, walLocation.resolve(getSegmentName(lsn.getSegment() + 1)), maxPagesCacheSize, fileTTL,
@@ -645,6 +759,7 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
 
   private void appendNewSegment(OLogSegment last) throws IOException {
     last.stopBackgroundWrite(true);
+    last.seal();
 
     last = new OLogSegmentV2(this, walLocation.resolve(getSegmentName(last.getOrder() + 1)), maxPagesCacheSize, fileTTL,
         segmentBufferSize, new SubScheduledExecutorService(autoFileCloser), new SubScheduledExecutorService(commitExecutor));
@@ -772,6 +887,9 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
 
       cutTillLimits.clear();
 
+      if (groupCommitter != null)
+        unregisterGroupCommitProfilerHooks();
+
       for (OLogSegment logSegment : logSegments)
         logSegment.close(flush);
 
@@ -90,4 +90,10 @@ public interface OLogSegment extends Comparable<OLogSegment> {
    * Start background task which performs periodical write of background buffer to the disk.
    */
   void startBackgroundWrite();
+
+  /**
+   * Marks segment as sealed, records will not be appended to it any more, so its content can be read directly from the file
+   * bypassing the segment buffer. Should be called after all records are written to the disk.
+   */
+  void seal();
 }
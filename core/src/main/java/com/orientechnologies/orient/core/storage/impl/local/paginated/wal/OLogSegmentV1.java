@@ -324,6 +324,13 @@ public class OLogSegmentV1 implements OLogSegment {
     return last;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void seal() {
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -54,6 +54,9 @@ final class OLogSegmentV2 implements OLogSegment {
 
   private WeakReference<OPair<OLogSequenceNumber, byte[]>> lastReadRecord = new WeakReference<>(null);
 
+  private volatile boolean                 sealed       = false;
+  private          OWALSegmentMappedReader mappedReader = null;
+
   private final class WriteTask implements Runnable {
     private WriteTask() {
     }
@@ -571,7 +574,7 @@ final class OLogSegmentV2 implements OLogSegment {
     long pageCount = (filledUpTo + OWALPage.PAGE_SIZE - 1) / OWALPage.PAGE_SIZE;
 
     while (pageIndex < pageCount) {
-      byte[] pageContent = segmentCache.readPage(pageIndex);
+      byte[] pageContent = readPage(pageIndex);
 
       if (isPageBroken(pageContent))
         throw new OWALPageBrokenException("WAL page with index " + pageIndex + " is broken");
@@ -607,6 +610,38 @@ final class OLogSegmentV2 implements OLogSegment {
     return record;
   }
 
+  /**
+   * Reads page of the sealed segment through the memory mapped file, if it is allowed, and through the segment buffer otherwise.
+   */
+  private byte[] readPage(long pageIndex) throws IOException {
+    if (sealed) {
+      synchronized (this) {
+        if (mappedReader == null && !closed)
+          mappedReader = new OWALSegmentMappedReader(path);
+
+        if (mappedReader != null && pageIndex < mappedReader.pages())
+          return mappedReader.readPage(pageIndex);
+      }
+    }
+
+    return segmentCache.readPage(pageIndex);
+  }
+
+  private synchronized void closeMappedReader() throws IOException {
+    if (mappedReader != null) {
+      mappedReader.close();
+      mappedReader = null;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void seal() {
+    sealed = writeAheadLog.isMappedReadEnabled();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -655,6 +690,8 @@ final class OLogSegmentV2 implements OLogSegment {
     if (!closed) {
       lastReadRecord.clear();
 
+      closeMappedReader();
+
       stopBackgroundWrite(flush);
 
       segmentCache.close(flush);
@@ -99,6 +99,10 @@ public class OMemoryWriteAheadLog extends OAbstractWriteAheadLog {
     throw new UnsupportedOperationException("Operation not supported for in memory storage.");
   }
 
+  @Override
+  public void waitForDurability(OLogSequenceNumber lsn) {
+  }
+
   @Override
   public boolean cutTill(OLogSequenceNumber lsn) throws IOException {
     return false;
@@ -0,0 +1,199 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.orient.core.exception.OStorageException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Group commit of the {@link ODiskWriteAheadLog}.
+ * <p>
+ * Threads which commit an atomic operation wait in {@link #waitForDurability(OLogSequenceNumber)} till the end record of the
+ * operation is forced to the disk. The first waiting thread becomes the leader: it waits for other commits to join the batch, forces
+ * the WAL and wakes up all the threads whose records are durable; if some of them are still not durable the next one becomes the
+ * leader.
+ * <p>
+ * The time the leader waits adapts to the observed arrival rate of commits: the leader keeps waiting only while the next commit is
+ * expected within twice the average interval between commits, and never more than the configured maximum delay. So with sparse
+ * commits the WAL is forced immediately, and with many concurrent commits a single fsync covers all of them.
+ *
+ * @see com.orientechnologies.orient.core.config.OGlobalConfiguration#WAL_GROUP_COMMIT
+ */
+final class OWALGroupCommitter {
+  /**
+   * weight of the last interval between commits in the average interval
+   */
+  private static final double ARRIVAL_WEIGHT = 0.2;
+
+  private final ODiskWriteAheadLog writeAheadLog;
+  private final long               maxDelayNanos;
+
+  private final Lock      lock    = new ReentrantLock();
+  private final Condition arrived = lock.newCondition();
+  private final Condition flushed = lock.newCondition();
+
+  private boolean leaderActive      = false;
+  private int     waiting           = 0;
+  private long    lastArrival       = -1;
+  private double  averageArrivalGap = Double.MAX_VALUE;
+
+  private final AtomicLong batches       = new AtomicLong();
+  private final AtomicLong commits       = new AtomicLong();
+  private final AtomicLong fsyncTime     = new AtomicLong();
+  private final AtomicLong maxBatchSize  = new AtomicLong();
+  private final AtomicLong lastBatchSize = new AtomicLong();
+
+  OWALGroupCommitter(ODiskWriteAheadLog writeAheadLog, long maxDelay, TimeUnit timeUnit) {
+    this.writeAheadLog = writeAheadLog;
+    this.maxDelayNanos = timeUnit.toNanos(maxDelay);
+  }
+
+  /**
+   * Blocks till the record with the passed in LSN is forced to the disk.
+   */
+  void waitForDurability(OLogSequenceNumber lsn) {
+    commits.incrementAndGet();
+
+    lock.lock();
+    try {
+      registerArrival();
+      waiting++;
+      try {
+        while (!isDurable(lsn)) {
+          if (leaderActive) {
+            flushed.awaitUninterruptibly();
+            continue;
+          }
+
+          leaderActive = true;
+          try {
+            lead();
+          } finally {
+            leaderActive = false;
+            flushed.signalAll();
+          }
+
+          if (!isDurable(lsn))
+            throw new OStorageException("WAL was flushed but record with LSN " + lsn + " is still not durable");
+        }
+      } finally {
+        waiting--;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void registerArrival() {
+    final long now = System.nanoTime();
+    if (lastArrival >= 0) {
+      final long gap = now - lastArrival;
+      if (averageArrivalGap == Double.MAX_VALUE)
+        averageArrivalGap = gap;
+      else
+        averageArrivalGap = ARRIVAL_WEIGHT * gap + (1 - ARRIVAL_WEIGHT) * averageArrivalGap;
+    }
+    lastArrival = now;
+
+    arrived.signal();
+  }
+
+  /**
+   * Waits for other commits to join the batch and forces the WAL. Called with the lock held, which is released during the fsync.
+   */
+  private void lead() {
+    final long deadline = System.nanoTime() + maxDelayNanos;
+    long remaining = maxDelayNanos;
+    while (remaining > 0) {
+      final double expectedGap = averageArrivalGap * 2;
+      if (expectedGap >= remaining)
+        break;
+
+      final int batchSize = waiting;
+      try {
+        arrived.awaitNanos((long) expectedGap);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+
+      //nobody joined the batch in the expected interval, do not wait any more
+      if (waiting == batchSize)
+        break;
+
+      remaining = deadline - System.nanoTime();
+    }
+
+    final int batchSize = waiting;
+    lock.unlock();
+    try {
+      final long start = System.nanoTime();
+      writeAheadLog.flush();
+      fsyncTime.addAndGet(System.nanoTime() - start);
+    } finally {
+      lock.lock();
+    }
+
+    batches.incrementAndGet();
+    lastBatchSize.set(batchSize);
+    if (batchSize > maxBatchSize.get())
+      maxBatchSize.set(batchSize);
+  }
+
+  private boolean isDurable(OLogSequenceNumber lsn) {
+    final OLogSequenceNumber flushedLsn = writeAheadLog.getFlushedLsn();
+    return flushedLsn != null && lsn.compareTo(flushedLsn) <= 0;
+  }
+
+  /**
+   * @return amount of WAL flushes performed by the group commit
+   */
+  long getBatches() {
+    return batches.get();
+  }
+
+  /**
+   * @return amount of commits which waited for the group commit
+   */
+  long getCommits() {
+    return commits.get();
+  }
+
+  /**
+   * @return total time spent to force the WAL by the group commit, in nanoseconds
+   */
+  long getFsyncTime() {
+    return fsyncTime.get();
+  }
+
+  long getLastBatchSize() {
+    return lastBatchSize.get();
+  }
+
+  long getMaxBatchSize() {
+    return maxBatchSize.get();
+  }
+}
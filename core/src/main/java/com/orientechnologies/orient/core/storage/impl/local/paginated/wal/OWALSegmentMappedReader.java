@@ -0,0 +1,141 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.common.jna.OCLibrary;
+import com.orientechnologies.common.jna.ONative;
+import com.orientechnologies.common.log.OLogManager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads pages of a WAL segment to which records are not appended any more through a read only memory mapped file.
+ * <p>
+ * Segment is mapped by windows of {@link #WINDOW_PAGES} pages. WAL is mostly read sequentially (during data restore and during
+ * WAL iteration), so when a window is mapped the kernel is asked to read ahead the next one, if native calls are available.
+ *
+ * @see OLogSegmentV2#seal()
+ */
+final class OWALSegmentMappedReader {
+  /**
+   * Amount of pages mapped at once, 64 Mb.
+   */
+  static final int WINDOW_PAGES = 1024;
+
+  private final Path        path;
+  private final FileChannel channel;
+  private final long        pages;
+
+  private int fd = -1;
+
+  private long             windowIndex = -1;
+  private MappedByteBuffer window;
+
+  OWALSegmentMappedReader(Path path) throws IOException {
+    this.path = path;
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    this.pages = channel.size() / OWALPage.PAGE_SIZE;
+
+    openDescriptor();
+  }
+
+  private void openDescriptor() {
+    try {
+      final ONative nativeLib = ONative.instance();
+      if (!nativeLib.isFileAdviceSupported())
+        return;
+
+      fd = nativeLib.openForRead(path.toAbsolutePath().toString());
+      nativeLib.fadvise(fd, 0, 0, OCLibrary.POSIX_FADV_SEQUENTIAL);
+    } catch (RuntimeException | LinkageError e) {
+      OLogManager.instance().debug(this, "Read ahead hints are not available for WAL segment %s", e, path);
+      fd = -1;
+    }
+  }
+
+  /**
+   * @return amount of complete pages in the segment
+   */
+  long pages() {
+    return pages;
+  }
+
+  /**
+   * Reads copy of the page content.
+   */
+  byte[] readPage(long pageIndex) throws IOException {
+    if (pageIndex >= pages)
+      throw new OWALPageBrokenException("WAL page with index " + pageIndex + " is absent in segment " + path);
+
+    final long pageWindow = pageIndex / WINDOW_PAGES;
+    if (pageWindow != windowIndex)
+      mapWindow(pageWindow);
+
+    final byte[] content = new byte[OWALPage.PAGE_SIZE];
+    final ByteBuffer buffer = window.duplicate();
+    buffer.position((int) (pageIndex - pageWindow * WINDOW_PAGES) * OWALPage.PAGE_SIZE);
+    buffer.get(content);
+
+    return content;
+  }
+
+  private void mapWindow(long pageWindow) throws IOException {
+    final long firstPage = pageWindow * WINDOW_PAGES;
+    final long windowPages = Math.min(WINDOW_PAGES, pages - firstPage);
+
+    window = channel.map(FileChannel.MapMode.READ_ONLY, firstPage * OWALPage.PAGE_SIZE, windowPages * OWALPage.PAGE_SIZE);
+    windowIndex = pageWindow;
+
+    final long nextPage = firstPage + WINDOW_PAGES;
+    if (fd >= 0 && nextPage < pages) {
+      final long nextPages = Math.min(WINDOW_PAGES, pages - nextPage);
+      try {
+        ONative.instance().fadvise(fd, nextPage * OWALPage.PAGE_SIZE, nextPages * OWALPage.PAGE_SIZE, OCLibrary.POSIX_FADV_WILLNEED);
+      } catch (RuntimeException | LinkageError e) {
+        OLogManager.instance().debug(this, "Can not read ahead WAL segment %s", e, path);
+      }
+    }
+  }
+
+  /**
+   * Closes the file, mapped window is released when it is garbage collected.
+   */
+  void close() throws IOException {
+    window = null;
+    windowIndex = -1;
+
+    if (fd >= 0) {
+      try {
+        ONative.instance().close(fd);
+      } catch (RuntimeException | LinkageError e) {
+        OLogManager.instance().debug(this, "Can not close descriptor of WAL segment %s", e, path);
+      }
+      fd = -1;
+    }
+
+    channel.close();
+  }
+}
@@ -75,6 +75,16 @@ public interface OWriteAheadLog {
 
   OLogSequenceNumber getFlushedLsn();
 
+  /**
+   * Blocks till the record with the passed in LSN is forced to the disk, if group commit is enabled, otherwise returns immediately.
+   * Concurrent callers share the same flush of the WAL.
+   *
+   * @param lsn LSN of the record which should be durable.
+   *
+   * @see com.orientechnologies.orient.core.config.OGlobalConfiguration#WAL_GROUP_COMMIT
+   */
+  void waitForDurability(OLogSequenceNumber lsn);
+
   /**
    * Cut WAL content till passed in value of LSN at maximum in many cases smaller portion of WAL may be cut. If value of LSN is
    * bigger than values provided in {@link #addCutTillLimit(OLogSequenceNumber)} then "protected" part of WAL will be preserved for
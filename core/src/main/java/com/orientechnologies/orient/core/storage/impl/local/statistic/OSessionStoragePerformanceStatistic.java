@@ -820,6 +820,13 @@ public class OSessionStoragePerformanceStatistic {
   }
 
   public void stopRecordCreationTimer() {
+    stopRecordCreationTimer(1);
+  }
+
+  /**
+   * @param createdRecords Amount of records which were created by single cluster operation.
+   */
+  public void stopRecordCreationTimer(int createdRecords) {
     final Component component = componentsStack.peek();
 
     checkComponentType(component, ComponentType.CLUSTER);
@@ -833,7 +840,7 @@ public class OSessionStoragePerformanceStatistic {
       countersByComponent.put(component.name, cHolder);
     }
 
-    cHolder.createdRecords++;
+    cHolder.createdRecords += createdRecords;
     cHolder.timeRecordCreation += timeDiff;
 
     makeSnapshotIfNeeded(endTs);
@@ -583,6 +583,18 @@ public class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implements O
     return totalPages * pageSize;
   }
 
+  @Override
+  public void changeMaximumAmountOfMemory(long readCacheMaxMemory) {
+  }
+
+  @Override
+  public void prefetch(long fileId, long startPageIndex, int pageCount, OWriteCache writeCache) {
+  }
+
+  @Override
+  public void executePrefetch(Runnable task) {
+  }
+
   @Override
   public boolean checkLowDiskSpace() throws IOException {
     return true;
@@ -21,6 +21,7 @@ package com.orientechnologies.orient.core.storage.index.engine;
 
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
 import com.orientechnologies.common.util.OCommonConst;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.encryption.OEncryption;
@@ -66,9 +67,16 @@ public final class OHashTableIndexEngine implements OIndexEngine {
 
   private int version;
 
-  private final String name;
+  private final String                name;
+  private final OContextConfiguration configuration;
+
+  /**
+   * Bloom filter of keys of the hash table, <code>null</code> if it is not used by the index.
+   */
+  private volatile OIndexBloomFilter bloomFilter;
 
   public OHashTableIndexEngine(String name, Boolean durableInNonTxMode, OAbstractPaginatedStorage storage, int version) {
+    this.configuration = storage.getConfiguration().getContextConfiguration();
 
     boolean durableInNonTx;
     if (durableInNonTxMode == null)
@@ -111,6 +119,10 @@ public final class OHashTableIndexEngine implements OIndexEngine {
     }
 
     hashTable.create(keySerializer, valueSerializer, keyTypes, encryption, hashFunction, nullPointerSupport);
+
+    if (OIndexBloomFilter
+        .isEnabled(metadata, engineProperties, configuration.getValueAsBoolean(OGlobalConfiguration.INDEX_BLOOM_FILTER)))
+      buildBloomFilter(keySerializer, keyTypes, keySize);
   }
 
   @Override
@@ -129,6 +141,7 @@ public final class OHashTableIndexEngine implements OIndexEngine {
 
   @Override
   public void delete() {
+    bloomFilter = null;
     hashTable.delete();
   }
 
@@ -144,16 +157,25 @@ public final class OHashTableIndexEngine implements OIndexEngine {
       hashFunction = new OMurmurHash3HashFunction<>(keySerializer);
     }
     hashTable.load(indexName, keyTypes, nullPointerSupport, encryption, hashFunction);
+
+    if (OIndexBloomFilter.isEnabled(engineProperties))
+      buildBloomFilter(keySerializer, keyTypes, keySize);
   }
 
   @Override
   public boolean contains(Object key) {
-    return hashTable.get(key) != null;
+    return get(key) != null;
   }
 
   @Override
   public boolean remove(Object key) {
-    return hashTable.remove(key) != null;
+    final boolean removed = hashTable.remove(key) != null;
+
+    final OIndexBloomFilter filter = bloomFilter;
+    if (removed && filter != null)
+      filter.remove();
+
+    return removed;
   }
 
   @Override
@@ -163,16 +185,28 @@ public final class OHashTableIndexEngine implements OIndexEngine {
 
   @Override
   public void close() {
+    bloomFilter = null;
     hashTable.close();
   }
 
   @Override
   public Object get(Object key) {
-    return hashTable.get(key);
+    final OIndexBloomFilter filter = bloomFilter;
+    if (filter == null || !filter.isApplicable(key))
+      return hashTable.get(key);
+
+    if (!filter.mightContain(key))
+      return null;
+
+    final Object value = hashTable.get(key);
+    filter.lookedUp(value != null);
+
+    return value;
   }
 
   @Override
   public void put(Object key, Object value) {
+    addToBloomFilter(key);
     hashTable.put(key, value);
   }
 
@@ -192,9 +226,50 @@ public final class OHashTableIndexEngine implements OIndexEngine {
   @SuppressWarnings("unchecked")
   @Override
   public boolean validatedPut(Object key, OIdentifiable value, Validator<Object, OIdentifiable> validator) {
+    addToBloomFilter(key);
     return hashTable.validatedPut(key, value, (Validator) validator);
   }
 
+  /**
+   * @return Bloom filter of keys of the index or <code>null</code> if it is not used by the index.
+   */
+  public OIndexBloomFilter getBloomFilter() {
+    return bloomFilter;
+  }
+
+  private void addToBloomFilter(Object key) {
+    final OIndexBloomFilter filter = bloomFilter;
+    if (filter != null)
+      filter.add(key);
+  }
+
+  /**
+   * Builds Bloom filter from the keys of the hash table. New filter is installed before keys are read, so keys which are put
+   * concurrently are added to it, but it does not answer look ups till all keys of the hash table are added.
+   */
+  @SuppressWarnings("unchecked")
+  private void buildBloomFilter(OBinarySerializer keySerializer, OType[] keyTypes, int keySize) {
+    if (keySerializer == null)
+      return;
+
+    final OIndexBloomFilter filter = new OIndexBloomFilter(keySerializer, keyTypes, keySize, 2 * hashTable.size(),
+        configuration.getValueAsFloat(OGlobalConfiguration.INDEX_BLOOM_FILTER_FALSE_POSITIVE_RATE));
+    bloomFilter = filter;
+
+    final OHashIndexBucket.Entry<Object, Object> firstEntry = hashTable.firstEntry();
+    if (firstEntry != null) {
+      OHashIndexBucket.Entry<Object, Object>[] entries = hashTable.ceilingEntries(firstEntry.key);
+      while (entries.length > 0) {
+        for (OHashIndexBucket.Entry<Object, Object> entry : entries)
+          filter.add(entry.key);
+
+        entries = hashTable.higherEntries(entries[entries.length - 1].key);
+      }
+    }
+
+    filter.built();
+  }
+
   @Override
   public long size(ValuesTransformer transformer) {
     if (transformer == null)
@@ -0,0 +1,340 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.index.engine;
+
+import com.orientechnologies.common.hash.OMurmurHash3;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In memory Bloom filter of keys of index engine which allows to answer look ups of absent keys without loading of index pages.
+ * <p>
+ * Filter is scalable, once amount of keys exceeds capacity of the current filter slice new slice of double capacity and half
+ * false positive rate is added, so overall false positive rate does not exceed configured one. Keys are added before they are
+ * put in the index, so key which is put by rolled back atomic operation only causes false positive answers. Keys can not be
+ * removed from the filter, because removal can be rolled back as well, removed keys are only counted and filter is rebuilt from
+ * the content of the index when the index is opened next time.
+ * <p>
+ * Filter is not applied to <code>null</code> keys and to composite keys which contain less items than the index, such keys are
+ * always looked up in the index.
+ *
+ * @see com.orientechnologies.orient.core.config.OGlobalConfiguration#INDEX_BLOOM_FILTER
+ */
+public final class OIndexBloomFilter {
+  /**
+   * Name of the metadata field of the index and of the property of index engine which contains flag whether Bloom filter is used
+   * by the index.
+   */
+  public static final String BLOOM_FILTER_PROPERTY = "bloomFilter";
+
+  private static final int  SEED         = 0x5bd1e995;
+  private static final long MIN_CAPACITY = 1024;
+
+  private final OBinarySerializer<Object> keySerializer;
+  private final OType[]                   keyTypes;
+  private final int                       keySize;
+  private final double                    falsePositiveRate;
+
+  private volatile Slice[] slices;
+  private volatile boolean built;
+
+  private final AtomicLong entries        = new AtomicLong();
+  private final AtomicLong removedEntries = new AtomicLong();
+  private final AtomicLong hits           = new AtomicLong();
+  private final AtomicLong misses         = new AtomicLong();
+  private final AtomicLong falsePositives = new AtomicLong();
+
+  /**
+   * Creates empty filter, filter does not answer look ups till {@link #built()} is called, but keys can be added concurrently
+   * with the building.
+   *
+   * @param expectedEntries   Amount of keys which are expected to be added to the first slice of the filter.
+   * @param falsePositiveRate Overall false positive rate of the filter.
+   */
+  public OIndexBloomFilter(OBinarySerializer<Object> keySerializer, OType[] keyTypes, int keySize, long expectedEntries,
+      double falsePositiveRate) {
+    this.keySerializer = keySerializer;
+    this.keyTypes = keyTypes;
+    this.keySize = keySize;
+    this.falsePositiveRate = falsePositiveRate;
+
+    this.slices = new Slice[] { new Slice(Math.max(expectedEntries, MIN_CAPACITY), falsePositiveRate / 2) };
+  }
+
+  /**
+   * Resolves whether Bloom filter is used by the index, if index metadata contains {@link #BLOOM_FILTER_PROPERTY} field its value
+   * is used, otherwise default value is used. Resolved value is stored in the properties of index engine, so the filter is
+   * rebuilt once index is loaded.
+   */
+  public static boolean isEnabled(ODocument metadata, Map<String, String> engineProperties, boolean defaultValue) {
+    final Object value = metadata != null ? metadata.field(BLOOM_FILTER_PROPERTY) : null;
+    final boolean enabled = value != null ? Boolean.parseBoolean(value.toString()) : defaultValue;
+
+    if (engineProperties != null)
+      engineProperties.put(BLOOM_FILTER_PROPERTY, Boolean.toString(enabled));
+
+    return enabled;
+  }
+
+  /**
+   * @return <code>true</code> if properties of index engine contain flag that Bloom filter is used by the index.
+   */
+  public static boolean isEnabled(Map<String, String> engineProperties) {
+    return engineProperties != null && Boolean.parseBoolean(engineProperties.get(BLOOM_FILTER_PROPERTY));
+  }
+
+  /**
+   * Marks filter as completely built, since this moment negative answers of the filter are used for look ups.
+   */
+  public void built() {
+    built = true;
+  }
+
+  /**
+   * @return <code>true</code> if filter is built and can answer look up of given key.
+   */
+  public boolean isApplicable(Object key) {
+    if (!built || key == null)
+      return false;
+
+    return !(key instanceof OCompositeKey) || ((OCompositeKey) key).getKeys().size() >= keySize;
+  }
+
+  /**
+   * Adds key to the filter, call is ignored if filter is not applicable to the key.
+   */
+  public void add(Object key) {
+    if (key == null || (key instanceof OCompositeKey && ((OCompositeKey) key).getKeys().size() < keySize))
+      return;
+
+    final long hashCode = hashCode(key);
+
+    Slice slice = lastSlice();
+    if (slice.count.get() >= slice.capacity)
+      slice = addSlice(slice);
+
+    if (slice.add(hashCode))
+      entries.incrementAndGet();
+  }
+
+  /**
+   * Counts key removed from the index, key itself stays in the filter till the filter is rebuilt.
+   */
+  public void remove() {
+    removedEntries.incrementAndGet();
+  }
+
+  /**
+   * Checks whether key may be contained in the index, negative answers are counted as filter misses. Filter has to be applicable to
+   * the key.
+   *
+   * @return <code>false</code> if key is definitely absent in the index.
+   *
+   * @see #isApplicable(Object)
+   */
+  public boolean mightContain(Object key) {
+    final long hashCode = hashCode(key);
+
+    for (Slice slice : slices)
+      if (slice.mightContain(hashCode))
+        return true;
+
+    misses.incrementAndGet();
+    return false;
+  }
+
+  /**
+   * Counts result of look up of key which was not filtered out by the filter.
+   *
+   * @param found <code>true</code> if key was found in the index.
+   */
+  public void lookedUp(boolean found) {
+    if (found)
+      hits.incrementAndGet();
+    else
+      falsePositives.incrementAndGet();
+  }
+
+  /**
+   * @return Amount of look ups of keys which passed the filter and were found in the index.
+   */
+  public long getHits() {
+    return hits.get();
+  }
+
+  /**
+   * @return Amount of look ups of keys which were filtered out, index pages were not loaded for them.
+   */
+  public long getMisses() {
+    return misses.get();
+  }
+
+  /**
+   * @return Amount of look ups of keys which passed the filter but were absent in the index.
+   */
+  public long getFalsePositives() {
+    return falsePositives.get();
+  }
+
+  /**
+   * @return Amount of distinct keys added to the filter, keys whose bits were already set by other keys are not counted.
+   */
+  public long getEntries() {
+    return entries.get();
+  }
+
+  /**
+   * @return Amount of keys removed from the index since the filter was built, they are still contained in the filter.
+   */
+  public long getRemovedEntries() {
+    return removedEntries.get();
+  }
+
+  /**
+   * @return Amount of memory consumed by bits of the filter in bytes.
+   */
+  public long getSize() {
+    long size = 0;
+    for (Slice slice : slices)
+      size += slice.bits.length() * 8L;
+
+    return size;
+  }
+
+  public double getFalsePositiveRate() {
+    return falsePositiveRate;
+  }
+
+  @Override
+  public String toString() {
+    return "OIndexBloomFilter{" + "entries=" + entries + ", removedEntries=" + removedEntries + ", hits=" + hits + ", misses="
+        + misses + ", falsePositives=" + falsePositives + ", slices=" + slices.length + ", size=" + getSize() + '}';
+  }
+
+  private long hashCode(Object key) {
+    final Object preprocessed = keySerializer.preprocess(key, (Object[]) keyTypes);
+
+    final byte[] serializedKey = new byte[keySerializer.getObjectSize(preprocessed, (Object[]) keyTypes)];
+    keySerializer.serializeNativeObject(preprocessed, serializedKey, 0, (Object[]) keyTypes);
+
+    return OMurmurHash3.murmurHash3_x64_64(serializedKey, SEED);
+  }
+
+  private Slice lastSlice() {
+    final Slice[] slices = this.slices;
+    return slices[slices.length - 1];
+  }
+
+  private synchronized Slice addSlice(Slice full) {
+    final Slice last = lastSlice();
+    if (last != full)
+      return last;
+
+    final Slice slice = new Slice(full.capacity * 2, full.falsePositiveRate / 2);
+
+    final Slice[] slices = Arrays.copyOf(this.slices, this.slices.length + 1);
+    slices[slices.length - 1] = slice;
+    this.slices = slices;
+
+    return slice;
+  }
+
+  private static final class Slice {
+    private final long            capacity;
+    private final double          falsePositiveRate;
+    private final AtomicLongArray bits;
+    private final long            bitsCount;
+    private final int             hashesCount;
+    private final AtomicLong      count = new AtomicLong();
+
+    private Slice(long capacity, double falsePositiveRate) {
+      this.capacity = capacity;
+      this.falsePositiveRate = falsePositiveRate;
+
+      final long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+      final int words = (int) Math.min((optimalBits + 63) >>> 6, Integer.MAX_VALUE - 8);
+
+      this.bits = new AtomicLongArray(words);
+      this.bitsCount = words * 64L;
+      this.hashesCount = Math.max(1, (int) Math.round((double) bitsCount / capacity * Math.log(2)));
+    }
+
+    /**
+     * Bit positions are calculated by double hashing of two halves of 64-bit hash code (Kirsch and Mitzenmacher).
+     *
+     * @return <code>true</code> if at least one bit of the key was not set before.
+     */
+    private boolean add(long hashCode) {
+      final int firstHash = (int) hashCode;
+      final int secondHash = (int) (hashCode >>> 32);
+
+      boolean changed = false;
+      for (int i = 1; i <= hashesCount; i++) {
+        final long bitIndex = bitIndex(firstHash, secondHash, i);
+        final int wordIndex = (int) (bitIndex >>> 6);
+        final long mask = 1L << bitIndex;
+
+        long word = bits.get(wordIndex);
+        while ((word & mask) == 0) {
+          if (bits.compareAndSet(wordIndex, word, word | mask)) {
+            changed = true;
+            break;
+          }
+
+          word = bits.get(wordIndex);
+        }
+      }
+
+      if (changed)
+        count.incrementAndGet();
+
+      return changed;
+    }
+
+    private boolean mightContain(long hashCode) {
+      final int firstHash = (int) hashCode;
+      final int secondHash = (int) (hashCode >>> 32);
+
+      for (int i = 1; i <= hashesCount; i++) {
+        final long bitIndex = bitIndex(firstHash, secondHash, i);
+        if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0)
+          return false;
+      }
+
+      return true;
+    }
+
+    private long bitIndex(int firstHash, int secondHash, int i) {
+      long combinedHash = firstHash + (long) i * secondHash;
+      if (combinedHash < 0)
+        combinedHash = ~combinedHash;
+
+      return combinedHash % bitsCount;
+    }
+  }
+}
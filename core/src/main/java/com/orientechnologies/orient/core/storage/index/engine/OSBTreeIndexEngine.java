@@ -20,7 +20,11 @@
 
 package com.orientechnologies.orient.core.storage.index.engine;
 
+import com.orientechnologies.common.profiler.OProfiler;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.encryption.OEncryption;
 import com.orientechnologies.orient.core.index.OIndexAbstractCursor;
@@ -34,7 +38,9 @@ import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.index.sbtree.local.OSBTree;
+import com.orientechnologies.orient.core.storage.index.sbtree.local.OSBTreeBulkLoader;
 
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -52,10 +58,23 @@ public class OSBTreeIndexEngine implements OIndexEngine {
   private final OSBTree<Object, Object> sbTree;
   private       int                     version;
   private final String                  name;
+  private final OContextConfiguration   configuration;
+  private final String                  profilerMetric;
+
+  /**
+   * Bloom filter of keys of the tree, <code>null</code> if it is not used by the index.
+   */
+  private volatile OIndexBloomFilter bloomFilter;
+
+  private OBinarySerializer keySerializer;
+  private OType[]           keyTypes;
+  private int               keySize;
 
   public OSBTreeIndexEngine(String name, OAbstractPaginatedStorage storage, int version) {
     this.name = name;
     this.version = version;
+    this.configuration = storage.getConfiguration().getContextConfiguration();
+    this.profilerMetric = "db." + storage.getName() + ".index." + name;
 
     sbTree = new OSBTree<>(name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
   }
@@ -78,10 +97,17 @@ public class OSBTreeIndexEngine implements OIndexEngine {
       OBinarySerializer keySerializer, int keySize, Set<String> clustersToIndex, Map<String, String> engineProperties,
       ODocument metadata, OEncryption encryption) {
     sbTree.create(keySerializer, valueSerializer, keyTypes, keySize, nullPointerSupport, encryption);
+    registerProfilerHooks();
+
+    if (OIndexBloomFilter
+        .isEnabled(metadata, engineProperties, configuration.getValueAsBoolean(OGlobalConfiguration.INDEX_BLOOM_FILTER)))
+      buildBloomFilter(keySerializer, keyTypes, keySize);
   }
 
   @Override
   public void delete() {
+    unregisterProfilerHooks();
+    bloomFilter = null;
     sbTree.delete();
   }
 
@@ -94,16 +120,26 @@ public class OSBTreeIndexEngine implements OIndexEngine {
   public void load(String indexName, OBinarySerializer valueSerializer, boolean isAutomatic, OBinarySerializer keySerializer,
       OType[] keyTypes, boolean nullPointerSupport, int keySize, Map<String, String> engineProperties, OEncryption encryption) {
     sbTree.load(indexName, keySerializer, valueSerializer, keyTypes, keySize, nullPointerSupport, encryption);
+    registerProfilerHooks();
+
+    if (OIndexBloomFilter.isEnabled(engineProperties))
+      buildBloomFilter(keySerializer, keyTypes, keySize);
   }
 
   @Override
   public boolean contains(Object key) {
-    return sbTree.get(key) != null;
+    return get(key) != null;
   }
 
   @Override
   public boolean remove(Object key) {
-    return sbTree.remove(key) != null;
+    final boolean removed = sbTree.remove(key) != null;
+
+    final OIndexBloomFilter filter = bloomFilter;
+    if (removed && filter != null)
+      filter.remove();
+
+    return removed;
   }
 
   @Override
@@ -118,12 +154,24 @@ public class OSBTreeIndexEngine implements OIndexEngine {
 
   @Override
   public void close() {
+    unregisterProfilerHooks();
+    bloomFilter = null;
     sbTree.close();
   }
 
   @Override
   public Object get(Object key) {
-    return sbTree.get(key);
+    final OIndexBloomFilter filter = bloomFilter;
+    if (filter == null || !filter.isApplicable(key))
+      return sbTree.get(key);
+
+    if (!filter.mightContain(key))
+      return null;
+
+    final Object value = sbTree.get(key);
+    filter.lookedUp(value != null);
+
+    return value;
   }
 
   @Override
@@ -158,17 +206,82 @@ public class OSBTreeIndexEngine implements OIndexEngine {
 
   @Override
   public void put(Object key, Object value) {
+    addToBloomFilter(key);
     sbTree.put(key, value);
   }
 
   @Override
   public void update(Object key, OIndexKeyUpdater<Object> updater) {
+    addToBloomFilter(key);
     sbTree.update(key, updater, null);
   }
 
+  /**
+   * @see OSBTree#createBulkLoader(Path, int)
+   */
+  public OSBTreeBulkLoader<Object, Object> createBulkLoader(Path directory, int sortBufferSize) {
+    return sbTree.createBulkLoader(directory, sortBufferSize);
+  }
+
+  /**
+   * Fills the tree by the given loader. Bloom filter is not used during the load, because entries are put directly to the tree,
+   * it is rebuilt once load is completed.
+   *
+   * @see OSBTreeBulkLoader#load(Validator, float)
+   */
+  public long bulkLoad(OSBTreeBulkLoader<Object, Object> loader, Validator<Object, Object> validator, float fillFactor) {
+    final boolean filterEnabled = bloomFilter != null;
+    bloomFilter = null;
+    try {
+      return loader.load(validator, fillFactor);
+    } finally {
+      if (filterEnabled)
+        buildBloomFilter(keySerializer, keyTypes, keySize);
+    }
+  }
+
+  /**
+   * @return Bloom filter of keys of the index or <code>null</code> if it is not used by the index.
+   */
+  public OIndexBloomFilter getBloomFilter() {
+    return bloomFilter;
+  }
+
+  /**
+   * @see OSBTree#getKeySpaceStatistics()
+   */
+  public OSBTree.KeySpaceStatistics getKeySpaceStatistics() {
+    return sbTree.getKeySpaceStatistics();
+  }
+
+  /**
+   * Reports the space occupied by keys and the space saved by key compression to the profiler, if key compression is enabled.
+   * Values are gathered by walking through all the buckets of the tree when the profiler reads them.
+   */
+  private void registerProfilerHooks() {
+    if (!OGlobalConfiguration.SBTREE_KEY_COMPRESSION.getValueAsBoolean())
+      return;
+
+    final OProfiler profiler = Orient.instance().getProfiler();
+    profiler.registerHookValue(profilerMetric + ".keysSpace", "Bytes occupied by the keys of the index", OProfiler.METRIC_TYPE.SIZE,
+        () -> getKeySpaceStatistics().getKeysSpace(), "db.*.index.*.keysSpace");
+    profiler.registerHookValue(profilerMetric + ".savedKeysSpace", "Bytes saved by compression of the keys of the index",
+        OProfiler.METRIC_TYPE.SIZE, () -> getKeySpaceStatistics().getSavedSpace(), "db.*.index.*.savedKeysSpace");
+  }
+
+  /**
+   * Removes the hooks registered to the profiler, called also by the storage which closes the files of the tree by itself.
+   */
+  public void unregisterProfilerHooks() {
+    final OProfiler profiler = Orient.instance().getProfiler();
+    profiler.unregisterHookValue(profilerMetric + ".keysSpace");
+    profiler.unregisterHookValue(profilerMetric + ".savedKeysSpace");
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public boolean validatedPut(Object key, OIdentifiable value, Validator<Object, OIdentifiable> validator) {
+    addToBloomFilter(key);
     return sbTree.validatedPut(key, value, (Validator) validator);
   }
 
@@ -248,6 +361,39 @@ public class OSBTreeIndexEngine implements OIndexEngine {
     return name;
   }
 
+  private void addToBloomFilter(Object key) {
+    final OIndexBloomFilter filter = bloomFilter;
+    if (filter != null)
+      filter.add(key);
+  }
+
+  /**
+   * Builds Bloom filter from the keys of the tree. New filter is installed before keys are read, so keys which are put concurrently
+   * are added to it, but it does not answer look ups till all keys of the tree are added.
+   */
+  @SuppressWarnings("unchecked")
+  private void buildBloomFilter(OBinarySerializer keySerializer, OType[] keyTypes, int keySize) {
+    this.keySerializer = keySerializer;
+    this.keyTypes = keyTypes;
+    this.keySize = keySize;
+
+    if (keySerializer == null)
+      return;
+
+    final OIndexBloomFilter filter = new OIndexBloomFilter(keySerializer, keyTypes, keySize, 2 * sbTree.size(),
+        configuration.getValueAsFloat(OGlobalConfiguration.INDEX_BLOOM_FILTER_FALSE_POSITIVE_RATE));
+    bloomFilter = filter;
+
+    final OSBTree.OSBTreeKeyCursor<Object> cursor = sbTree.keyCursor();
+    Object key = cursor.next(-1);
+    while (key != null) {
+      filter.add(key);
+      key = cursor.next(-1);
+    }
+
+    filter.built();
+  }
+
   private static final class OSBTreeIndexCursor extends OIndexAbstractCursor {
     private final OSBTree.OSBTreeCursor<Object, Object> treeCursor;
     private final ValuesTransformer                     valuesTransformer;
@@ -24,6 +24,9 @@ import com.orientechnologies.common.comparator.ODefaultComparator;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.encryption.OEncryption;
 import com.orientechnologies.orient.core.exception.OTooBigIndexKeyException;
@@ -43,6 +46,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODura
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OSessionStoragePerformanceStatistic;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -98,6 +102,16 @@ public class OSBTree<K, V> extends ODurableComponent {
   private final AtomicLong           bonsayFileId     = new AtomicLong(0);
   private       OEncryption          encryption;
 
+  /**
+   * Normalizer used to read buckets stored in compressed format, <code>null</code> if keys of this tree can not be normalized.
+   */
+  private OSBTreeKeyNormalizer keyNormalizer;
+
+  /**
+   * Whether new buckets are created in compressed format, see {@link OGlobalConfiguration#SBTREE_KEY_COMPRESSION}.
+   */
+  private boolean keyCompression;
+
   public OSBTree(String name, String dataFileExtension, String nullFileExtension, OAbstractPaginatedStorage storage) {
     super(storage, name, dataFileExtension, name + dataFileExtension);
     acquireExclusiveLock();
@@ -131,6 +145,7 @@ public class OSBTree<K, V> extends ODurableComponent {
 
         this.encryption = encryption;
         this.keySerializer = keySerializer;
+        initKeyNormalizer();
 
         this.valueSerializer = valueSerializer;
         this.nullPointerSupport = nullPointerSupport;
@@ -144,7 +159,7 @@ public class OSBTree<K, V> extends ODurableComponent {
         try {
 
           OSBTreeBucket<K, V> rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, true, keySerializer, keyTypes, valueSerializer,
-              encryption);
+              encryption, bucketKeyNormalizer());
           rootBucket.setTreeSize(0);
 
         } finally {
@@ -207,7 +222,7 @@ public class OSBTree<K, V> extends ODurableComponent {
             OCacheEntry keyBucketCacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
             try {
               OSBTreeBucket<K, V> keyBucket = new OSBTreeBucket<K, V>(keyBucketCacheEntry, keySerializer, keyTypes, valueSerializer,
-                  encryption);
+                  encryption, keyNormalizer);
 
               OSBTreeBucket.SBTreeEntry<K, V> treeEntry = keyBucket.getEntry(bucketSearchResult.itemIndex);
               return readValue(treeEntry.value, atomicOperation);
@@ -292,7 +307,7 @@ public class OSBTree<K, V> extends ODurableComponent {
 
           OCacheEntry keyBucketCacheEntry = loadPageForWrite(atomicOperation, fileId, bucketSearchResult.getLastPathItem(), false);
           OSBTreeBucket<K, V> keyBucket = new OSBTreeBucket<K, V>(keyBucketCacheEntry, keySerializer, keyTypes, valueSerializer,
-              encryption);
+              encryption, keyNormalizer);
           final V oldValue = bucketSearchResult.itemIndex > -1 ?
               readValue(keyBucket.getValue(bucketSearchResult.itemIndex), atomicOperation) :
               null;
@@ -364,7 +379,8 @@ public class OSBTree<K, V> extends ODurableComponent {
 
               keyBucketCacheEntry = loadPageForWrite(atomicOperation, fileId, bucketSearchResult.getLastPathItem(), false);
 
-              keyBucket = new OSBTreeBucket<K, V>(keyBucketCacheEntry, keySerializer, keyTypes, valueSerializer, encryption);
+              keyBucket = new OSBTreeBucket<K, V>(keyBucketCacheEntry, keySerializer, keyTypes, valueSerializer,
+                  encryption, keyNormalizer);
             }
 
             releasePageFromWrite(atomicOperation, keyBucketCacheEntry);
@@ -455,6 +471,143 @@ public class OSBTree<K, V> extends ODurableComponent {
     }
   }
 
+  /**
+   * Creates loader which sorts entries added in arbitrary order and fills this tree by {@link #bulkLoad(Iterator, float)}.
+   *
+   * @param directory      Directory where sorted runs of entries are stored if they do not fit in memory, if <code>null</code>
+   *                       default temporary directory is used.
+   * @param sortBufferSize Amount of entries which are sorted in memory by every sorter of loader.
+   */
+  public OSBTreeBulkLoader<K, V> createBulkLoader(Path directory, int sortBufferSize) {
+    acquireSharedLock();
+    try {
+      return new OSBTreeBulkLoader<K, V>(this, keySerializer, valueSerializer, keyTypes, MAX_KEY_SIZE, directory, sortBufferSize);
+    } finally {
+      releaseSharedLock();
+    }
+  }
+
+  /**
+   * Fills empty tree by entries which are sorted in ascending order of keys and do not contain duplicates or <code>null</code>
+   * keys. Tree is built bottom-up: leaves are filled one after another till the given fill factor, internal pages are built from
+   * the first keys of the pages of the level below, so neither key lookups nor page splits are performed.
+   * <p>
+   * All pages except of the root page are written directly to the disk cache and flushed to the disk before the root page is
+   * changed, so only the change of the root page is logged in WAL. Atomic operation is marked as non-tx operation, so indexes are
+   * rebuilt if storage is crashed before the root page is changed.
+   *
+   * @param entries    Entries sorted in ascending order of keys.
+   * @param fillFactor Part of page space which is filled by entries, from 0 (exclusive) till 1 (inclusive).
+   *
+   * @return Amount of loaded entries or <code>-1</code> if tree is not empty or its keys are encrypted, entries are not consumed
+   * in such case.
+   */
+  public long bulkLoad(Iterator<Map.Entry<K, V>> entries, float fillFactor) {
+    if (fillFactor <= 0 || fillFactor > 1)
+      throw new IllegalArgumentException("Invalid fill factor " + fillFactor);
+
+    startOperation();
+    try {
+      final OAtomicOperation atomicOperation;
+      try {
+        atomicOperation = startAtomicOperation(true);
+      } catch (IOException e) {
+        throw OException.wrapException(new OSBTreeException("Error during sbtree bulk load", this), e);
+      }
+
+      acquireExclusiveLock();
+      try {
+        final OCacheEntry rootCacheEntry = loadPageForRead(atomicOperation, fileId, ROOT_INDEX, false);
+        final boolean isEmpty;
+        try {
+          final OSBTreeBucket<K, V> rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, keySerializer, keyTypes, valueSerializer,
+              encryption, keyNormalizer);
+          isEmpty = rootBucket.isLeaf() && rootBucket.isEmpty();
+        } finally {
+          releasePageFromRead(atomicOperation, rootCacheEntry);
+        }
+
+        if (!isEmpty || encryption != null) {
+          endAtomicOperation(false, null);
+          return -1;
+        }
+
+        final int maxSpace = (int) (OSBTreeBucket.getMaxEntriesSpace() * fillFactor);
+        final BulkLoadLevel leaves = new BulkLoadLevel(true, maxSpace);
+
+        long loaded = 0;
+        K prevKey = null;
+        while (entries.hasNext()) {
+          final Map.Entry<K, V> entry = entries.next();
+          final K key = keySerializer.preprocess(entry.getKey(), (Object[]) keyTypes);
+          if (key == null)
+            throw new OSBTreeException("Null keys can not be loaded in bulk", this);
+
+          final int keySize = keySerializer.getObjectSize(key, (Object[]) keyTypes);
+          if (keySize > MAX_KEY_SIZE)
+            throw new OTooBigIndexKeyException(
+                "Key size is more than allowed, operation was canceled. Current key size " + keySize + ", allowed  " + MAX_KEY_SIZE,
+                getName());
+
+          if (prevKey != null && comparator.compare(prevKey, key) >= 0)
+            throw new OSBTreeException("Keys of loaded entries are not sorted in ascending order, key " + key + " follows key " + prevKey,
+                this);
+
+          final V value = entry.getValue();
+          final int valueSize = valueSerializer.getObjectSize(value);
+          final boolean createLinkToTheValue = valueSize > MAX_EMBEDDED_VALUE_SIZE;
+
+          final OSBTreeValue<V> treeValue;
+          if (createLinkToTheValue)
+            treeValue = new OSBTreeValue<V>(true, createLinkToTheValue(value, null), null);
+          else
+            treeValue = new OSBTreeValue<V>(false, -1, value);
+
+          leaves.add(new OSBTreeBucket.SBTreeEntry<K, V>(-1, -1, key, treeValue), keySize,
+              OByteSerializer.BYTE_SIZE + (createLinkToTheValue ? OLongSerializer.LONG_SIZE : valueSize));
+
+          prevKey = key;
+          loaded++;
+        }
+
+        final BulkLoadLevel rootLevel = leaves.finish();
+
+        // all pages which are referenced by the root have to be on the disk before the root change is logged
+        writeCache.flush(fileId);
+
+        final OCacheEntry rootEntry = loadPageForWrite(atomicOperation, fileId, ROOT_INDEX, false);
+        try {
+          OSBTreeBucket<K, V> rootBucket = new OSBTreeBucket<K, V>(rootEntry, keySerializer, keyTypes, valueSerializer, encryption,
+              keyNormalizer);
+          final long freeListPage = rootBucket.getValuesFreeListFirstIndex();
+          final long treeSize = rootBucket.getTreeSize();
+
+          rootBucket = new OSBTreeBucket<K, V>(rootEntry, rootLevel.isLeaf, keySerializer, keyTypes, valueSerializer, encryption,
+              bucketKeyNormalizer());
+          rootBucket.setTreeSize(treeSize + loaded);
+          rootBucket.setValuesFreeListFirstIndex(freeListPage);
+
+          rootLevel.fill(rootBucket, rootLevel.entries);
+        } finally {
+          releasePageFromWrite(atomicOperation, rootEntry);
+        }
+
+        endAtomicOperation(false, null);
+        return loaded;
+      } catch (IOException e) {
+        rollback(e);
+        throw OException.wrapException(new OSBTreeException("Error during bulk load of sbtree with name " + getName(), this), e);
+      } catch (RuntimeException e) {
+        rollback(e);
+        throw e;
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
   public void close(boolean flush) {
     startOperation();
     try {
@@ -501,7 +654,7 @@ public class OSBTree<K, V> extends ODurableComponent {
 
         try {
           OSBTreeBucket<K, V> rootBucket = new OSBTreeBucket<K, V>(cacheEntry, true, keySerializer, keyTypes, valueSerializer,
-              encryption);
+              encryption, bucketKeyNormalizer());
 
           rootBucket.setTreeSize(0);
 
@@ -617,6 +770,7 @@ public class OSBTree<K, V> extends ODurableComponent {
 
         this.keySerializer = keySerializer;
         this.valueSerializer = valueSerializer;
+        initKeyNormalizer();
       } catch (IOException e) {
         throw OException.wrapException(new OSBTreeException("Exception during loading of sbtree " + name, this), e);
       } finally {
@@ -639,7 +793,7 @@ public class OSBTree<K, V> extends ODurableComponent {
           OCacheEntry rootCacheEntry = loadPageForRead(atomicOperation, fileId, ROOT_INDEX, false);
           try {
             OSBTreeBucket<K, V> rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, keySerializer, keyTypes, valueSerializer,
-                encryption);
+                encryption, keyNormalizer);
             return rootBucket.getTreeSize();
           } finally {
             releasePageFromRead(atomicOperation, rootCacheEntry);
@@ -739,7 +893,7 @@ public class OSBTree<K, V> extends ODurableComponent {
     OCacheEntry keyBucketCacheEntry = loadPageForWrite(atomicOperation, fileId, bucketSearchResult.getLastPathItem(), false);
     try {
       OSBTreeBucket<K, V> keyBucket = new OSBTreeBucket<K, V>(keyBucketCacheEntry, keySerializer, keyTypes, valueSerializer,
-          encryption);
+          encryption, keyNormalizer);
 
       final OSBTreeValue<V> removed = keyBucket.getEntry(bucketSearchResult.itemIndex).value;
       final V value = readValue(removed, atomicOperation);
@@ -840,7 +994,8 @@ public class OSBTree<K, V> extends ODurableComponent {
 
           final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, searchResult.getLastPathItem(), false);
           try {
-            OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer, encryption);
+            OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer,
+                encryption, keyNormalizer);
             return bucket.getKey(searchResult.itemIndex);
           } finally {
             releasePageFromRead(atomicOperation, cacheEntry);
@@ -880,7 +1035,8 @@ public class OSBTree<K, V> extends ODurableComponent {
 
           final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, searchResult.getLastPathItem(), false);
           try {
-            OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer, encryption);
+            OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer,
+                encryption, keyNormalizer);
             return bucket.getKey(searchResult.itemIndex);
           } finally {
             releasePageFromRead(atomicOperation, cacheEntry);
@@ -901,6 +1057,77 @@ public class OSBTree<K, V> extends ODurableComponent {
     }
   }
 
+  /**
+   * Walks through all buckets of the tree and gathers statistics of the space occupied by keys, which allows to see how much space
+   * is saved by key compression, see {@link OGlobalConfiguration#SBTREE_KEY_COMPRESSION}.
+   */
+  public KeySpaceStatistics getKeySpaceStatistics() {
+    startOperation();
+    try {
+      atomicOperationsManager.acquireReadLock(this);
+      try {
+        acquireSharedLock();
+        try {
+          final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+          final KeySpaceStatistics statistics = new KeySpaceStatistics();
+
+          List<Long> level = new ArrayList<Long>();
+          level.add(ROOT_INDEX);
+
+          while (!level.isEmpty()) {
+            final List<Long> nextLevel = new ArrayList<Long>();
+
+            for (long pageIndex : level) {
+              final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+              try {
+                final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer,
+                    encryption, keyNormalizer);
+                final int size = bucket.size();
+
+                statistics.pages++;
+                statistics.entries += size;
+                statistics.keysSpace += bucket.getKeysSpace();
+
+                if (bucket.isKeyCompressed()) {
+                  statistics.compressedPages++;
+
+                  for (int i = 0; i < size; i++)
+                    statistics.uncompressedKeysSpace += keySerializer.getObjectSize(bucket.getKey(i), (Object[]) keyTypes);
+                } else
+                  statistics.uncompressedKeysSpace += bucket.getKeysSpace();
+
+                if (!bucket.isLeaf()) {
+                  for (int i = 0; i < size; i++) {
+                    final OSBTreeBucket.SBTreeEntry<K, V> entry = bucket.getEntry(i);
+                    if (i == 0)
+                      nextLevel.add(entry.leftChild);
+
+                    nextLevel.add(entry.rightChild);
+                  }
+                }
+              } finally {
+                releasePageFromRead(atomicOperation, cacheEntry);
+              }
+            }
+
+            level = nextLevel;
+          }
+
+          return statistics;
+        } finally {
+          releaseSharedLock();
+        }
+      } catch (IOException e) {
+        throw OException
+            .wrapException(new OSBTreeException("Error during gathering of key statistics of sbtree [" + getName() + "]", this), e);
+      } finally {
+        atomicOperationsManager.releaseReadLock(this);
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
   public OSBTreeKeyCursor<K> keyCursor() {
     final OSessionStoragePerformanceStatistic statistic = performanceStatisticManager.getSessionPerformanceStatistic();
 
@@ -997,6 +1224,17 @@ public class OSBTree<K, V> extends ODurableComponent {
     atomicOperationsManager.acquireExclusiveLockTillOperationComplete(this);
   }
 
+  private void initKeyNormalizer() {
+    // encrypted keys are stored as is, their binary presentation does not preserve order
+    keyNormalizer = encryption == null && keySerializer != null ?
+        OSBTreeKeyNormalizer.create(keySerializer, keyTypes, keySize) : null;
+    keyCompression = keyNormalizer != null && OGlobalConfiguration.SBTREE_KEY_COMPRESSION.getValueAsBoolean();
+  }
+
+  private OSBTreeKeyNormalizer bucketKeyNormalizer() {
+    return keyCompression ? keyNormalizer : null;
+  }
+
   private void checkNullSupport(K key) {
     if (key == null && !nullPointerSupport)
       throw new OSBTreeException("Null keys are not supported.", this);
@@ -1024,7 +1262,8 @@ public class OSBTree<K, V> extends ODurableComponent {
 
     OCacheEntry rootCacheEntry = loadPageForWrite(atomicOperation, fileId, ROOT_INDEX, false);
 
-    OSBTreeBucket<K, V> rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, keySerializer, keyTypes, valueSerializer, encryption);
+    OSBTreeBucket<K, V> rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, keySerializer, keyTypes, valueSerializer,
+        encryption, keyNormalizer);
     try {
       prevFreeListItem = rootBucket.getValuesFreeListFirstIndex();
       rootBucket.setValuesFreeListFirstIndex(pageIndex);
@@ -1110,7 +1349,7 @@ public class OSBTree<K, V> extends ODurableComponent {
     long freeListFirstIndex;
     OSBTreeBucket<K, V> rootBucket;
     try {
-      rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, keySerializer, keyTypes, valueSerializer, encryption);
+      rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, keySerializer, keyTypes, valueSerializer, encryption, keyNormalizer);
       freeListFirstIndex = rootBucket.getValuesFreeListFirstIndex();
     } finally {
       releasePageFromRead(atomicOperation, rootCacheEntry);
@@ -1123,7 +1362,7 @@ public class OSBTree<K, V> extends ODurableComponent {
         long nextFreeListIndex = valuePage.getNextFreeListPage();
 
         rootCacheEntry = loadPageForWrite(atomicOperation, fileId, ROOT_INDEX, false);
-        rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, keySerializer, keyTypes, valueSerializer, encryption);
+        rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, keySerializer, keyTypes, valueSerializer, encryption, keyNormalizer);
         try {
           rootBucket.setValuesFreeListFirstIndex(nextFreeListIndex);
         } finally {
@@ -1153,7 +1392,7 @@ public class OSBTree<K, V> extends ODurableComponent {
     OCacheEntry rootCacheEntry = loadPageForWrite(atomicOperation, fileId, ROOT_INDEX, false);
     try {
       OSBTreeBucket<K, V> rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, keySerializer, keyTypes, valueSerializer,
-          encryption);
+          encryption, keyNormalizer);
       rootBucket.setTreeSize(rootBucket.getTreeSize() + diffSize);
     } finally {
       releasePageFromWrite(atomicOperation, rootCacheEntry);
@@ -1164,7 +1403,7 @@ public class OSBTree<K, V> extends ODurableComponent {
     OCacheEntry rootCacheEntry = loadPageForWrite(atomicOperation, fileId, ROOT_INDEX, false);
     try {
       OSBTreeBucket<K, V> rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, keySerializer, keyTypes, valueSerializer,
-          encryption);
+          encryption, keyNormalizer);
       rootBucket.setTreeSize(size);
     } finally {
       releasePageFromWrite(atomicOperation, rootCacheEntry);
@@ -1311,7 +1550,8 @@ public class OSBTree<K, V> extends ODurableComponent {
     OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, bucketIndex, false);
     int itemIndex = 0;
     try {
-      OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer, encryption);
+      OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer,
+          encryption, keyNormalizer);
 
       while (true) {
         if (!bucket.isLeaf()) {
@@ -1359,7 +1599,7 @@ public class OSBTree<K, V> extends ODurableComponent {
 
         cacheEntry = loadPageForRead(atomicOperation, fileId, bucketIndex, false);
 
-        bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer, encryption);
+        bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer, encryption, keyNormalizer);
       }
     } finally {
       releasePageFromRead(atomicOperation, cacheEntry);
@@ -1373,7 +1613,8 @@ public class OSBTree<K, V> extends ODurableComponent {
 
     OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, bucketIndex, false);
 
-    OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer, encryption);
+    OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer,
+        encryption, keyNormalizer);
 
     int itemIndex = bucket.size() - 1;
     try {
@@ -1424,7 +1665,7 @@ public class OSBTree<K, V> extends ODurableComponent {
 
         cacheEntry = loadPageForRead(atomicOperation, fileId, bucketIndex, false);
 
-        bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer, encryption);
+        bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer, encryption, keyNormalizer);
         if (itemIndex == OSBTreeBucket.MAX_PAGE_SIZE_BYTES + 1)
           itemIndex = bucket.size() - 1;
       }
@@ -1528,13 +1769,17 @@ public class OSBTree<K, V> extends ODurableComponent {
     OCacheEntry bucketEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
     try {
       OSBTreeBucket<K, V> bucketToSplit = new OSBTreeBucket<K, V>(bucketEntry, keySerializer, keyTypes, valueSerializer,
-          encryption);
+          encryption, keyNormalizer);
 
       final boolean splitLeaf = bucketToSplit.isLeaf();
       final int bucketSize = bucketToSplit.size();
 
       int indexToSplit = bucketSize >>> 1;
-      final K separationKey = bucketToSplit.getKey(indexToSplit);
+      final K separationKey;
+      if (splitLeaf && keyCompression)
+        separationKey = shortestSeparator(bucketToSplit.getKey(indexToSplit - 1), bucketToSplit.getKey(indexToSplit));
+      else
+        separationKey = bucketToSplit.getKey(indexToSplit);
       final List<OSBTreeBucket.SBTreeEntry<K, V>> rightEntries = new ArrayList<OSBTreeBucket.SBTreeEntry<K, V>>(indexToSplit);
 
       final int startRightIndex = splitLeaf ? indexToSplit : indexToSplit + 1;
@@ -1554,6 +1799,63 @@ public class OSBTree<K, V> extends ODurableComponent {
     }
   }
 
+  /**
+   * Returns the shortest key which is bigger than <code>left</code> but not bigger than <code>right</code>. Keys in leaf buckets
+   * are always accessed by their full value, so there is no need to copy the whole first key of the right bucket into the parent,
+   * only its part which distinguishes it from the last key of the left bucket. Only string keys or string parts of composite keys
+   * are truncated, in all other cases <code>right</code> is returned as is.
+   */
+  @SuppressWarnings("unchecked")
+  private K shortestSeparator(K left, K right) {
+    if (left instanceof String && right instanceof String)
+      return (K) shortestSeparator((String) left, (String) right);
+
+    if (left instanceof OCompositeKey && right instanceof OCompositeKey) {
+      final List<Object> leftKeys = ((OCompositeKey) left).getKeys();
+      final List<Object> rightKeys = ((OCompositeKey) right).getKeys();
+
+      if (leftKeys.size() != rightKeys.size())
+        return right;
+
+      for (int i = 0; i < rightKeys.size(); i++) {
+        final Object leftItem = leftKeys.get(i);
+        final Object rightItem = rightKeys.get(i);
+
+        if (leftItem == null ? rightItem == null : leftItem.equals(rightItem))
+          continue;
+
+        if (!(leftItem instanceof String) || !(rightItem instanceof String))
+          return right;
+
+        final String separatorItem = shortestSeparator((String) leftItem, (String) rightItem);
+        if (separatorItem == rightItem)
+          return right;
+
+        final OCompositeKey separator = new OCompositeKey(rightKeys.subList(0, i));
+        separator.addKey(separatorItem);
+        for (int n = i + 1; n < rightKeys.size(); n++)
+          separator.addKey(rightKeys.get(n));
+
+        return (K) separator;
+      }
+    }
+
+    return right;
+  }
+
+  private static String shortestSeparator(String left, String right) {
+    final int length = Math.min(left.length(), right.length());
+
+    int commonPrefix = 0;
+    while (commonPrefix < length && left.charAt(commonPrefix) == right.charAt(commonPrefix))
+      commonPrefix++;
+
+    if (commonPrefix + 1 >= right.length() || left.compareTo(right) >= 0)
+      return right;
+
+    return right.substring(0, commonPrefix + 1);
+  }
+
   private BucketSearchResult splitNonRootBucket(List<Long> path, int keyIndex, K keyToInsert, long pageIndex,
       OSBTreeBucket<K, V> bucketToSplit, boolean splitLeaf, int indexToSplit, K separationKey,
       List<OSBTreeBucket.SBTreeEntry<K, V>> rightEntries, OAtomicOperation atomicOperation) throws IOException {
@@ -1561,7 +1863,7 @@ public class OSBTree<K, V> extends ODurableComponent {
 
     try {
       OSBTreeBucket<K, V> newRightBucket = new OSBTreeBucket<K, V>(rightBucketEntry, splitLeaf, keySerializer, keyTypes,
-          valueSerializer, encryption);
+          valueSerializer, encryption, bucketKeyNormalizer());
       newRightBucket.addAll(rightEntries);
 
       bucketToSplit.shrink(indexToSplit);
@@ -1577,7 +1879,7 @@ public class OSBTree<K, V> extends ODurableComponent {
         if (rightSiblingPageIndex >= 0) {
           final OCacheEntry rightSiblingBucketEntry = loadPageForWrite(atomicOperation, fileId, rightSiblingPageIndex, false);
           OSBTreeBucket<K, V> rightSiblingBucket = new OSBTreeBucket<K, V>(rightSiblingBucketEntry, keySerializer, keyTypes,
-              valueSerializer, encryption);
+              valueSerializer, encryption, keyNormalizer);
           try {
             rightSiblingBucket.setLeftSibling(rightBucketEntry.getPageIndex());
           } finally {
@@ -1590,7 +1892,7 @@ public class OSBTree<K, V> extends ODurableComponent {
       OCacheEntry parentCacheEntry = loadPageForWrite(atomicOperation, fileId, parentIndex, false);
       try {
         OSBTreeBucket<K, V> parentBucket = new OSBTreeBucket<K, V>(parentCacheEntry, keySerializer, keyTypes, valueSerializer,
-            encryption);
+            encryption, keyNormalizer);
         OSBTreeBucket.SBTreeEntry<K, V> parentEntry = new OSBTreeBucket.SBTreeEntry<K, V>(pageIndex,
             rightBucketEntry.getPageIndex(), separationKey, null);
 
@@ -1609,7 +1911,8 @@ public class OSBTree<K, V> extends ODurableComponent {
 
           insertionIndex = bucketSearchResult.itemIndex;
 
-          parentBucket = new OSBTreeBucket<K, V>(parentCacheEntry, keySerializer, keyTypes, valueSerializer, encryption);
+          parentBucket = new OSBTreeBucket<K, V>(parentCacheEntry, keySerializer, keyTypes, valueSerializer, encryption,
+              keyNormalizer);
         }
 
       } finally {
@@ -1652,7 +1955,7 @@ public class OSBTree<K, V> extends ODurableComponent {
     OCacheEntry rightBucketEntry = addPage(atomicOperation, fileId);
     try {
       OSBTreeBucket<K, V> newLeftBucket = new OSBTreeBucket<K, V>(leftBucketEntry, splitLeaf, keySerializer, keyTypes,
-          valueSerializer, encryption);
+          valueSerializer, encryption, bucketKeyNormalizer());
       newLeftBucket.addAll(leftEntries);
 
       if (splitLeaf)
@@ -1664,7 +1967,7 @@ public class OSBTree<K, V> extends ODurableComponent {
 
     try {
       OSBTreeBucket<K, V> newRightBucket = new OSBTreeBucket<K, V>(rightBucketEntry, splitLeaf, keySerializer, keyTypes,
-          valueSerializer, encryption);
+          valueSerializer, encryption, bucketKeyNormalizer());
       newRightBucket.addAll(rightEntries);
 
       if (splitLeaf)
@@ -1673,7 +1976,8 @@ public class OSBTree<K, V> extends ODurableComponent {
       releasePageFromWrite(atomicOperation, rightBucketEntry);
     }
 
-    bucketToSplit = new OSBTreeBucket<K, V>(bucketEntry, false, keySerializer, keyTypes, valueSerializer, encryption);
+    bucketToSplit = new OSBTreeBucket<K, V>(bucketEntry, false, keySerializer, keyTypes, valueSerializer, encryption,
+        bucketKeyNormalizer());
 
     bucketToSplit.setTreeSize(treeSize);
     bucketToSplit.setValuesFreeListFirstIndex(freeListPage);
@@ -1713,7 +2017,7 @@ public class OSBTree<K, V> extends ODurableComponent {
 
       try {
         final OSBTreeBucket<K, V> keyBucket = new OSBTreeBucket<K, V>(bucketEntry, keySerializer, keyTypes, valueSerializer,
-            encryption);
+            encryption, keyNormalizer);
         final int index = keyBucket.find(key);
 
         if (keyBucket.isLeaf())
@@ -1845,6 +2149,286 @@ public class OSBTree<K, V> extends ODurableComponent {
     K next(int prefetchSize);
   }
 
+  /**
+   * Level of the tree which is built by {@link #bulkLoad(Iterator, float)}. Entries of the page which is filled at the moment are
+   * kept in memory, the page is written once the next entry does not fit in it and the first key of the written page is added to
+   * the upper level. Level which has not written any page till the end of the load becomes the root of the tree.
+   */
+  private final class BulkLoadLevel {
+    private final boolean isLeaf;
+    private final int     maxSpace;
+
+    /**
+     * Entries of leaf page or children of internal page. Children are presented by the index of the child page stored as left child
+     * and the first key of the child page.
+     */
+    private List<OSBTreeBucket.SBTreeEntry<K, V>> entries = new ArrayList<OSBTreeBucket.SBTreeEntry<K, V>>();
+    private int usedSpace;
+
+    /**
+     * Children of the full internal page which is not written yet, it is kept till the end of the level is reached so the last
+     * internal page of the level can borrow a child from it instead of being left with the single child.
+     */
+    private List<OSBTreeBucket.SBTreeEntry<K, V>> fullPage;
+
+    private long          lastPageIndex = -1;
+    private K             lastKey;
+    private BulkLoadLevel parent;
+
+    /**
+     * State of the keys stored in the page which is filled at the moment, used only if new buckets are created with compressed
+     * keys. Space of the keys is calculated by the longest possible header of key suffix so the estimation never lags behind the
+     * real size of the page.
+     */
+    private byte[] firstKey;
+    private int    prefixLength;
+    private int    keysSpace;
+    private int    keysCount;
+
+    private BulkLoadLevel(boolean isLeaf, int maxSpace) {
+      this.isLeaf = isLeaf;
+      this.maxSpace = maxSpace;
+    }
+
+    private void add(OSBTreeBucket.SBTreeEntry<K, V> entry, int keySize, int valueSize) throws IOException {
+      final byte[] normalizedKey = normalizeKey(entry.key);
+
+      int entrySize = valueSize + OIntegerSerializer.INT_SIZE;
+      if (normalizedKey == null)
+        entrySize += keySize;
+
+      if (!entries.isEmpty() && usedSpace + getKeysSpace(normalizedKey) + entrySize > maxSpace) {
+        writePage(entries);
+
+        entries = new ArrayList<OSBTreeBucket.SBTreeEntry<K, V>>();
+        usedSpace = 0;
+        resetKeys();
+      }
+
+      entries.add(entry);
+      usedSpace += entrySize;
+      addKey(normalizedKey);
+    }
+
+    private void addChild(K firstKey, long pageIndex) throws IOException {
+      final OSBTreeBucket.SBTreeEntry<K, V> child = new OSBTreeBucket.SBTreeEntry<K, V>(pageIndex, -1, firstKey, null);
+      // key of the first child is not stored in the page
+      if (entries.isEmpty()) {
+        entries.add(child);
+        return;
+      }
+
+      final byte[] normalizedKey = normalizeKey(firstKey);
+
+      int entrySize = 2 * OLongSerializer.LONG_SIZE + OIntegerSerializer.INT_SIZE;
+      if (normalizedKey == null)
+        entrySize += keySerializer.getObjectSize(firstKey, (Object[]) keyTypes);
+
+      if (entries.size() > 1 && usedSpace + getKeysSpace(normalizedKey) + entrySize > maxSpace) {
+        if (fullPage != null)
+          writePage(fullPage);
+
+        fullPage = entries;
+
+        entries = new ArrayList<OSBTreeBucket.SBTreeEntry<K, V>>();
+        entries.add(child);
+        usedSpace = 0;
+        resetKeys();
+      } else {
+        entries.add(child);
+        usedSpace += entrySize;
+        addKey(normalizedKey);
+      }
+    }
+
+    private byte[] normalizeKey(K key) {
+      if (!keyCompression)
+        return null;
+
+      return keyNormalizer.normalize(key);
+    }
+
+    /**
+     * @return Space which is occupied by compressed keys of the page if the given key is added to them.
+     */
+    private int getKeysSpace(byte[] key) {
+      if (key == null)
+        return getKeysSpace(prefixLength, keysSpace, keysCount);
+
+      final int newPrefixLength =
+          firstKey == null ? key.length : OSBTreeKeyNormalizer.commonPrefixLength(firstKey, key, prefixLength);
+      return getKeysSpace(newPrefixLength, keysSpace + OSBTreeBucket.getCompressedKeySize(key.length, 0), keysCount + 1);
+    }
+
+    private int getKeysSpace(int prefixLength, int keysSpace, int keysCount) {
+      if (keysCount == 0)
+        return 0;
+
+      return OSBTreeBucket.getKeyPrefixSpace(prefixLength) + keysSpace - keysCount * prefixLength;
+    }
+
+    private void addKey(byte[] key) {
+      if (key == null)
+        return;
+
+      // keys are sorted, so the common prefix of the first and the last keys is common for all keys of the page
+      if (firstKey == null) {
+        firstKey = key;
+        prefixLength = key.length;
+      } else
+        prefixLength = OSBTreeKeyNormalizer.commonPrefixLength(firstKey, key, prefixLength);
+
+      keysSpace += OSBTreeBucket.getCompressedKeySize(key.length, 0);
+      keysCount++;
+    }
+
+    private void resetKeys() {
+      firstKey = null;
+      prefixLength = 0;
+      keysSpace = 0;
+      keysCount = 0;
+    }
+
+    /**
+     * Writes the rest of the entries of the level and of all levels above it.
+     *
+     * @return Level which entries have to be written in the root page.
+     */
+    private BulkLoadLevel finish() throws IOException {
+      if (fullPage != null && entries.size() == 1) {
+        if (fullPage.size() > 2) {
+          entries.add(0, fullPage.remove(fullPage.size() - 1));
+        } else {
+          fullPage.addAll(entries);
+          entries = fullPage;
+          fullPage = null;
+        }
+      }
+
+      if (lastPageIndex < 0 && fullPage == null)
+        return this;
+
+      if (fullPage != null) {
+        writePage(fullPage);
+        fullPage = null;
+      }
+
+      writePage(entries);
+      return parent.finish();
+    }
+
+    private void writePage(List<OSBTreeBucket.SBTreeEntry<K, V>> pageEntries) throws IOException {
+      final OCacheEntry cacheEntry = addPage(null, fileId);
+      final long pageIndex = cacheEntry.getPageIndex();
+      try {
+        final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, isLeaf, keySerializer, keyTypes, valueSerializer,
+            encryption, bucketKeyNormalizer());
+        fill(bucket, pageEntries);
+
+        if (isLeaf)
+          bucket.setLeftSibling(lastPageIndex);
+      } finally {
+        releasePageFromWrite(null, cacheEntry);
+      }
+
+      if (isLeaf && lastPageIndex >= 0) {
+        final OCacheEntry leftSiblingEntry = loadPageForWrite(null, fileId, lastPageIndex, false);
+        try {
+          final OSBTreeBucket<K, V> leftSibling = new OSBTreeBucket<K, V>(leftSiblingEntry, keySerializer, keyTypes, valueSerializer,
+              encryption, keyNormalizer);
+          leftSibling.setRightSibling(pageIndex);
+        } finally {
+          releasePageFromWrite(null, leftSiblingEntry);
+        }
+      }
+
+      lastPageIndex = pageIndex;
+
+      if (parent == null)
+        parent = new BulkLoadLevel(false, maxSpace);
+
+      final K pageFirstKey = pageEntries.get(0).key;
+      if (isLeaf && keyCompression && lastKey != null)
+        parent.addChild(shortestSeparator(lastKey, pageFirstKey), pageIndex);
+      else
+        parent.addChild(pageFirstKey, pageIndex);
+
+      lastKey = pageEntries.get(pageEntries.size() - 1).key;
+    }
+
+    private void fill(OSBTreeBucket<K, V> bucket, List<OSBTreeBucket.SBTreeEntry<K, V>> pageEntries) throws IOException {
+      if (isLeaf) {
+        for (int i = 0; i < pageEntries.size(); i++) {
+          if (!bucket.addEntry(i, pageEntries.get(i), false))
+            throw new OSBTreeException("Entry does not fit in the page during bulk load", OSBTree.this);
+        }
+      } else {
+        for (int i = 1; i < pageEntries.size(); i++) {
+          final OSBTreeBucket.SBTreeEntry<K, V> entry = new OSBTreeBucket.SBTreeEntry<K, V>(pageEntries.get(i - 1).leftChild,
+              pageEntries.get(i).leftChild, pageEntries.get(i).key, null);
+
+          if (!bucket.addEntry(i - 1, entry, false))
+            throw new OSBTreeException("Entry does not fit in the page during bulk load", OSBTree.this);
+        }
+      }
+    }
+  }
+
+  /**
+   * Statistics of the space occupied by keys in the buckets of the tree.
+   *
+   * @see #getKeySpaceStatistics()
+   */
+  public static final class KeySpaceStatistics {
+    private long pages;
+    private long compressedPages;
+    private long entries;
+    private long keysSpace;
+    private long uncompressedKeysSpace;
+
+    private KeySpaceStatistics() {
+    }
+
+    public long getPages() {
+      return pages;
+    }
+
+    /**
+     * @return Amount of buckets which are stored with compressed keys.
+     */
+    public long getCompressedPages() {
+      return compressedPages;
+    }
+
+    public long getEntries() {
+      return entries;
+    }
+
+    /**
+     * @return Amount of bytes which are occupied by keys in all buckets of the tree.
+     */
+    public long getKeysSpace() {
+      return keysSpace;
+    }
+
+    /**
+     * @return Amount of bytes which would be occupied by keys if they were stored without compression.
+     */
+    public long getUncompressedKeysSpace() {
+      return uncompressedKeysSpace;
+    }
+
+    public long getSavedSpace() {
+      return uncompressedKeysSpace - keysSpace;
+    }
+
+    @Override
+    public String toString() {
+      return "KeySpaceStatistics{" + "pages=" + pages + ", compressedPages=" + compressedPages + ", entries=" + entries
+          + ", keysSpace=" + keysSpace + ", uncompressedKeysSpace=" + uncompressedKeysSpace + '}';
+    }
+  }
+
   private static class BucketSearchResult {
     private final int             itemIndex;
     private final ArrayList<Long> path;
@@ -1920,7 +2504,7 @@ public class OSBTree<K, V> extends ODurableComponent {
               final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
               try {
                 final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer,
-                    encryption);
+                    encryption, keyNormalizer);
 
                 if (itemIndex >= bucket.size()) {
                   pageIndex = bucket.getRightSibling();
@@ -2052,7 +2636,7 @@ public class OSBTree<K, V> extends ODurableComponent {
               final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
               try {
                 final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer,
-                    encryption);
+                    encryption, keyNormalizer);
 
                 if (itemIndex >= bucket.size()) {
                   pageIndex = bucket.getRightSibling();
@@ -2196,7 +2780,7 @@ public class OSBTree<K, V> extends ODurableComponent {
               final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
               try {
                 final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer,
-                    encryption);
+                    encryption, keyNormalizer);
 
                 if (itemIndex >= bucket.size()) {
                   itemIndex = bucket.size() - 1;
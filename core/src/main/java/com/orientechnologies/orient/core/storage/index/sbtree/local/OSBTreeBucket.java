@@ -33,10 +33,16 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
 /**
+ * Bucket may keep keys in two formats. By default keys are stored in the format of key serializer. If bucket is created with key
+ * normalizer, keys are stored in normalized form (see {@link OSBTreeKeyNormalizer}), common prefix of all keys of the bucket is
+ * stored once after the header of the bucket and every key keeps only the rest of its bytes. Format of the bucket is stored
+ * together with the leaf flag, so buckets of both formats may be used in the same tree.
+ *
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
  * @since 8/7/13
  */
@@ -60,6 +66,21 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
 
   private static final int POSITIONS_ARRAY_OFFSET = FREE_VALUES_LIST_OFFSET + OLongSerializer.LONG_SIZE;
 
+  /**
+   * Buckets with compressed keys keep size of the common prefix of the keys and prefix itself in place of positions array, positions
+   * array follows the prefix.
+   */
+  private static final int KEY_PREFIX_SIZE_OFFSET = POSITIONS_ARRAY_OFFSET;
+  private static final int KEY_PREFIX_OFFSET      = KEY_PREFIX_SIZE_OFFSET + OIntegerSerializer.INT_SIZE;
+
+  private static final byte LEAF_FLAG            = 1;
+  private static final byte KEY_COMPRESSION_FLAG = 2;
+
+  /**
+   * Length of the rest of the compressed key is stored in one byte, longer lengths are stored as this marker followed by integer.
+   */
+  private static final int LONG_SUFFIX_MARKER = 0xFF;
+
   private final boolean isLeaf;
 
   private final OBinarySerializer<K> keySerializer;
@@ -71,21 +92,45 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
 
   private final OEncryption encryption;
 
+  /**
+   * Not <code>null</code> only if keys of the bucket are compressed.
+   */
+  private final OSBTreeKeyNormalizer keyNormalizer;
+
+  private int    positionsOffset;
+  private byte[] keyPrefix;
+
   @SuppressFBWarnings("EI_EXPOSE_REP2")
   public OSBTreeBucket(OCacheEntry cacheEntry, boolean isLeaf, OBinarySerializer<K> keySerializer, OType[] keyTypes,
       OBinarySerializer<V> valueSerializer, OEncryption encryption) throws IOException {
+    this(cacheEntry, isLeaf, keySerializer, keyTypes, valueSerializer, encryption, null);
+  }
+
+  /**
+   * Creates new bucket, keys of the bucket are compressed if key normalizer is passed.
+   */
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public OSBTreeBucket(OCacheEntry cacheEntry, boolean isLeaf, OBinarySerializer<K> keySerializer, OType[] keyTypes,
+      OBinarySerializer<V> valueSerializer, OEncryption encryption, OSBTreeKeyNormalizer keyNormalizer) throws IOException {
     super(cacheEntry);
 
+    assert keyNormalizer == null || encryption == null;
+
     this.isLeaf = isLeaf;
     this.keySerializer = keySerializer;
     this.keyTypes = keyTypes;
     this.valueSerializer = valueSerializer;
     this.encryption = encryption;
+    this.keyNormalizer = keyNormalizer;
 
     setIntValue(FREE_POINTER_OFFSET, MAX_PAGE_SIZE_BYTES);
     setIntValue(SIZE_OFFSET, 0);
 
-    setByteValue(IS_LEAF_OFFSET, (byte) (isLeaf ? 1 : 0));
+    byte flags = isLeaf ? LEAF_FLAG : 0;
+    if (keyNormalizer != null)
+      flags |= KEY_COMPRESSION_FLAG;
+
+    setByteValue(IS_LEAF_OFFSET, flags);
     setLongValue(LEFT_SIBLING_OFFSET, -1);
     setLongValue(RIGHT_SIBLING_OFFSET, -1);
 
@@ -94,18 +139,55 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
 
     setByteValue(KEY_SERIALIZER_OFFSET, this.keySerializer.getId());
     setByteValue(VALUE_SERIALIZER_OFFSET, this.valueSerializer.getId());
+
+    if (keyNormalizer != null) {
+      setIntValue(KEY_PREFIX_SIZE_OFFSET, 0);
+      positionsOffset = KEY_PREFIX_OFFSET;
+      keyPrefix = new byte[0];
+    } else {
+      positionsOffset = POSITIONS_ARRAY_OFFSET;
+    }
   }
 
   @SuppressFBWarnings("EI_EXPOSE_REP2")
   public OSBTreeBucket(OCacheEntry cacheEntry, OBinarySerializer<K> keySerializer, OType[] keyTypes,
       OBinarySerializer<V> valueSerializer, OEncryption encryption) {
+    this(cacheEntry, keySerializer, keyTypes, valueSerializer, encryption, null);
+  }
+
+  /**
+   * Loads existing bucket, key normalizer is used only if keys of the bucket are compressed.
+   */
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public OSBTreeBucket(OCacheEntry cacheEntry, OBinarySerializer<K> keySerializer, OType[] keyTypes,
+      OBinarySerializer<V> valueSerializer, OEncryption encryption, OSBTreeKeyNormalizer keyNormalizer) {
     super(cacheEntry);
     this.keyTypes = keyTypes;
     this.encryption = encryption;
 
-    this.isLeaf = getByteValue(IS_LEAF_OFFSET) > 0;
+    final byte flags = getByteValue(IS_LEAF_OFFSET);
+
+    this.isLeaf = (flags & LEAF_FLAG) != 0;
     this.keySerializer = keySerializer;
     this.valueSerializer = valueSerializer;
+
+    if ((flags & KEY_COMPRESSION_FLAG) != 0) {
+      if (keyNormalizer == null)
+        throw new IllegalStateException("Bucket contains compressed keys, but keys of the tree can not be normalized");
+
+      this.keyNormalizer = keyNormalizer;
+      positionsOffset = KEY_PREFIX_OFFSET + getIntValue(KEY_PREFIX_SIZE_OFFSET);
+    } else {
+      this.keyNormalizer = null;
+      positionsOffset = POSITIONS_ARRAY_OFFSET;
+    }
+  }
+
+  /**
+   * @return amount of space which is available for entries and their positions in empty bucket.
+   */
+  static int getMaxEntriesSpace() {
+    return MAX_PAGE_SIZE_BYTES - POSITIONS_ARRAY_OFFSET;
   }
 
   public void setTreeSize(long size) throws IOException {
@@ -129,13 +211,18 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
   }
 
   public int find(K key) {
+    if (keyNormalizer != null) {
+      final byte[] normalizedKey = keyNormalizer.normalize(key);
+      if (normalizedKey != null)
+        return findNormalized(normalizedKey);
+    }
+
     int low = 0;
     int high = size() - 1;
 
     while (low <= high) {
       int mid = (low + high) >>> 1;
-      K midVal = getKey(mid);
-      int cmp = comparator.compare(midVal, key);
+      int cmp = compareKey(mid, key);
 
       if (cmp < 0)
         low = mid + 1;
@@ -147,17 +234,65 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     return -(low + 1); // key not found.
   }
 
-  public long remove(int entryIndex) throws IOException {
-    int entryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE);
-    int keySize;
+  /**
+   * Binary search by normalized key, common prefix of the keys is compared only once, the rest of the keys is compared in place.
+   */
+  private int findNormalized(byte[] key) {
+    final byte[] prefix = getKeyPrefix();
+    final int size = size();
 
-    if (encryption == null) {
-      keySize = getObjectSizeInDirectMemory(keySerializer, entryPosition);
-    } else {
-      final int decryptedSize = getIntValue(entryPosition);
-      keySize = OIntegerSerializer.INT_SIZE + decryptedSize;
+    // if key is shorter than prefix it is a partial key which is equal to all keys with the same prefix
+    final int prefixLength = Math.min(prefix.length, key.length);
+
+    final int prefixCmp = compareBytes(prefix, key, prefixLength);
+    if (prefixCmp < 0)
+      return -(size + 1);
+    if (prefixCmp > 0)
+      return -1;
+
+    int low = 0;
+    int high = size - 1;
+
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = compareKeySuffix(mid, key, prefixLength);
+
+      if (cmp < 0)
+        low = mid + 1;
+      else if (cmp > 0)
+        high = mid - 1;
+      else
+        return mid; // key found
+    }
+    return -(low + 1); // key not found.
+  }
+
+  /**
+   * Compares rest of the compressed key with the rest of the normalized key. Only common part of both keys is compared, as
+   * normalized keys are self-delimiting keys are equal only if they are the same or one of them is partial composite key.
+   */
+  private int compareKeySuffix(int index, byte[] key, int prefixLength) {
+    final int keyPosition = getKeyPosition(index);
+    final int suffixLength = getKeySuffixLength(keyPosition);
+
+    return compareBinaryValue(keyPosition + getKeySuffixHeaderSize(suffixLength), key, prefixLength,
+        Math.min(suffixLength, key.length - prefixLength));
+  }
+
+  private static int compareBytes(byte[] first, byte[] second, int length) {
+    for (int i = 0; i < length; i++) {
+      final int result = (first[i] & 0xFF) - (second[i] & 0xFF);
+      if (result != 0)
+        return result;
     }
 
+    return 0;
+  }
+
+  public long remove(int entryIndex) throws IOException {
+    int entryPosition = getIntValue(positionsOffset + entryIndex * OIntegerSerializer.INT_SIZE);
+    int keySize = getKeySize(entryPosition);
+
     int entrySize;
     long linkValue = -1;
 
@@ -181,8 +316,8 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
 
     int size = size();
     if (entryIndex < size - 1) {
-      moveData(POSITIONS_ARRAY_OFFSET + (entryIndex + 1) * OIntegerSerializer.INT_SIZE,
-          POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE, (size - entryIndex - 1) * OIntegerSerializer.INT_SIZE);
+      moveData(positionsOffset + (entryIndex + 1) * OIntegerSerializer.INT_SIZE,
+          positionsOffset + entryIndex * OIntegerSerializer.INT_SIZE, (size - entryIndex - 1) * OIntegerSerializer.INT_SIZE);
     }
 
     size--;
@@ -194,7 +329,7 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     }
     setIntValue(FREE_POINTER_OFFSET, freePointer + entrySize);
 
-    int currentPositionOffset = POSITIONS_ARRAY_OFFSET;
+    int currentPositionOffset = positionsOffset;
 
     for (int i = 0; i < size; i++) {
       int currentEntryPosition = getIntValue(currentPositionOffset);
@@ -211,25 +346,11 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
   }
 
   public SBTreeEntry<K, V> getEntry(int entryIndex) {
-    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsOffset);
 
     if (isLeaf) {
-      K key;
-      if (encryption == null) {
-        key = deserializeFromDirectMemory(keySerializer, entryPosition);
-
-        entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
-      } else {
-        final int encryptionSize = getIntValue(entryPosition);
-        entryPosition += OIntegerSerializer.INT_SIZE;
-
-        final byte[] encryptedKey = getBinaryValue(entryPosition, encryptionSize);
-        entryPosition += encryptedKey.length;
-
-        final byte[] serializedKey = encryption.decrypt(encryptedKey);
-
-        key = keySerializer.deserializeNativeObject(serializedKey, 0);
-      }
+      final K key = readKey(entryPosition);
+      entryPosition += getKeySize(entryPosition);
 
       boolean isLinkValue = getByteValue(entryPosition) > 0;
       long link = -1;
@@ -248,20 +369,7 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
       long rightChild = getLongValue(entryPosition);
       entryPosition += OLongSerializer.LONG_SIZE;
 
-      K key;
-
-      if (encryption == null) {
-        key = deserializeFromDirectMemory(keySerializer, entryPosition);
-      } else {
-        final int encryptionSize = getIntValue(entryPosition);
-        entryPosition += OIntegerSerializer.INT_SIZE;
-
-        final byte[] encryptedKey = getBinaryValue(entryPosition, encryptionSize);
-
-        final byte[] serializedKey = encryption.decrypt(encryptedKey);
-
-        key = keySerializer.deserializeNativeObject(serializedKey, 0);
-      }
+      final K key = readKey(entryPosition);
 
       return new SBTreeEntry<K, V>(leftChild, rightChild, key, null);
     }
@@ -277,15 +385,10 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
   public OSBTreeValue<V> getValue(int entryIndex) {
     assert isLeaf;
 
-    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsOffset);
 
     // skip key
-    if (encryption == null) {
-      entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
-    } else {
-      final int encryptedSize = getIntValue(entryPosition);
-      entryPosition += OIntegerSerializer.INT_SIZE + encryptedSize;
-    }
+    entryPosition += getKeySize(entryPosition);
 
     boolean isLinkValue = getByteValue(entryPosition) > 0;
     long link = -1;
@@ -300,33 +403,208 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
   }
 
   public K getKey(int index) {
-    int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    return readKey(getKeyPosition(index));
+  }
+
+  /**
+   * Compares key with given index with passed in key, not encrypted keys are compared directly in the page without deserialization.
+   */
+  private int compareKey(int index, K key) {
+    if (encryption != null || keyNormalizer != null)
+      return comparator.compare(getKey(index), key);
+
+    return compareInDirectMemory(keySerializer, getKeyPosition(index), key);
+  }
+
+  private int getKeyPosition(int index) {
+    int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + positionsOffset);
 
     if (!isLeaf)
       entryPosition += 2 * OLongSerializer.LONG_SIZE;
 
+    return entryPosition;
+  }
+
+  @SuppressWarnings("unchecked")
+  private K readKey(int keyPosition) {
+    if (keyNormalizer != null)
+      return (K) keyNormalizer.denormalize(readNormalizedKey(keyPosition));
+
     if (encryption == null) {
-      return deserializeFromDirectMemory(keySerializer, entryPosition);
+      return deserializeFromDirectMemory(keySerializer, keyPosition);
     } else {
-      final int encryptedSize = getIntValue(entryPosition);
-      entryPosition += OIntegerSerializer.INT_SIZE;
+      final int encryptedSize = getIntValue(keyPosition);
+      keyPosition += OIntegerSerializer.INT_SIZE;
 
-      final byte[] encryptedKey = getBinaryValue(entryPosition, encryptedSize);
+      final byte[] encryptedKey = getBinaryValue(keyPosition, encryptedSize);
       final byte[] serializedKey = encryption.decrypt(encryptedKey);
       return keySerializer.deserializeNativeObject(serializedKey, 0);
     }
   }
 
+  private int getKeySize(int keyPosition) {
+    if (keyNormalizer != null) {
+      final int suffixLength = getKeySuffixLength(keyPosition);
+      return getKeySuffixHeaderSize(suffixLength) + suffixLength;
+    }
+
+    if (encryption == null)
+      return getObjectSizeInDirectMemory(keySerializer, keyPosition);
+
+    return OIntegerSerializer.INT_SIZE + getIntValue(keyPosition);
+  }
+
+  /**
+   * @return Amount of space which is used by keys in this bucket, including the common prefix of compressed keys.
+   */
+  int getKeysSpace() {
+    final int size = size();
+
+    int keysSpace = 0;
+    for (int i = 0; i < size; i++)
+      keysSpace += getKeySize(getKeyPosition(i));
+
+    if (keyNormalizer != null)
+      keysSpace += positionsOffset - KEY_PREFIX_SIZE_OFFSET;
+
+    return keysSpace;
+  }
+
+  boolean isKeyCompressed() {
+    return keyNormalizer != null;
+  }
+
+  /**
+   * @return Amount of space which is occupied in the bucket with compressed keys by the key of the given length which has common
+   * prefix of the given length with the other keys of the bucket.
+   */
+  static int getCompressedKeySize(int keyLength, int prefixLength) {
+    final int suffixLength = keyLength - prefixLength;
+    return getKeySuffixHeaderSize(suffixLength) + suffixLength;
+  }
+
+  /**
+   * @return Amount of space which is occupied in the bucket with compressed keys by the common prefix of the given length.
+   */
+  static int getKeyPrefixSpace(int prefixLength) {
+    return OIntegerSerializer.INT_SIZE + prefixLength;
+  }
+
+  private static int getKeySuffixHeaderSize(int suffixLength) {
+    if (suffixLength < LONG_SUFFIX_MARKER)
+      return OByteSerializer.BYTE_SIZE;
+
+    return OByteSerializer.BYTE_SIZE + OIntegerSerializer.INT_SIZE;
+  }
+
+  private int getKeySuffixLength(int keyPosition) {
+    final int suffixLength = getByteValue(keyPosition) & 0xFF;
+    if (suffixLength < LONG_SUFFIX_MARKER)
+      return suffixLength;
+
+    return getIntValue(keyPosition + OByteSerializer.BYTE_SIZE);
+  }
+
+  private byte[] getKeyPrefix() {
+    if (keyPrefix == null)
+      keyPrefix = getBinaryValue(KEY_PREFIX_OFFSET, positionsOffset - KEY_PREFIX_OFFSET);
+
+    return keyPrefix;
+  }
+
+  private byte[] readNormalizedKey(int keyPosition) {
+    final byte[] prefix = getKeyPrefix();
+    final int suffixLength = getKeySuffixLength(keyPosition);
+
+    final byte[] key = Arrays.copyOf(prefix, prefix.length + suffixLength);
+    if (suffixLength > 0) {
+      final byte[] suffix = getBinaryValue(keyPosition + getKeySuffixHeaderSize(suffixLength), suffixLength);
+      System.arraycopy(suffix, 0, key, prefix.length, suffixLength);
+    }
+
+    return key;
+  }
+
+  private int writeKeySuffix(int keyPosition, byte[] key, int prefixLength) throws IOException {
+    final int suffixLength = key.length - prefixLength;
+    int position = keyPosition;
+
+    if (suffixLength < LONG_SUFFIX_MARKER) {
+      position += setByteValue(position, (byte) suffixLength);
+    } else {
+      position += setByteValue(position, (byte) LONG_SUFFIX_MARKER);
+      position += setIntValue(position, suffixLength);
+    }
+
+    position += setBinaryValue(position, Arrays.copyOfRange(key, prefixLength, key.length));
+    return position - keyPosition;
+  }
+
+  /**
+   * @return Size of value of leaf entry together with the flag which indicates whether value is stored as link.
+   */
+  private int getValueSize(int valuePosition) {
+    if (valueSerializer.isFixedLength())
+      return OByteSerializer.BYTE_SIZE + valueSerializer.getFixedLength();
+
+    if (getByteValue(valuePosition) > 0)
+      return OByteSerializer.BYTE_SIZE + OLongSerializer.LONG_SIZE;
+
+    return OByteSerializer.BYTE_SIZE + getObjectSizeInDirectMemory(valueSerializer, valuePosition + OByteSerializer.BYTE_SIZE);
+  }
+
+  private byte[] serializeValue(OSBTreeValue<V> value) {
+    final int valueSize;
+    if (valueSerializer.isFixedLength())
+      valueSize = valueSerializer.getFixedLength();
+    else if (value.isLink())
+      valueSize = OLongSerializer.LONG_SIZE;
+    else
+      valueSize = valueSerializer.getObjectSize(value.getValue());
+
+    final byte[] serializedValue = new byte[OByteSerializer.BYTE_SIZE + valueSize];
+    serializedValue[0] = value.isLink() ? (byte) 1 : (byte) 0;
+
+    if (value.isLink())
+      OLongSerializer.INSTANCE.serializeNative(value.getLink(), serializedValue, OByteSerializer.BYTE_SIZE);
+    else
+      valueSerializer.serializeNativeObject(value.getValue(), serializedValue, OByteSerializer.BYTE_SIZE);
+
+    return serializedValue;
+  }
+
   public boolean isLeaf() {
     return isLeaf;
   }
 
   public void addAll(List<SBTreeEntry<K, V>> entries) throws IOException {
+    if (keyNormalizer != null) {
+      assert isEmpty();
+
+      final List<CompressedEntry> compressedEntries = new ArrayList<CompressedEntry>(entries.size());
+      for (SBTreeEntry<K, V> entry : entries)
+        compressedEntries.add(toCompressedEntry(entry));
+
+      if (!writeCompressedEntries(compressedEntries, getCommonPrefixLength(compressedEntries)))
+        throw new IllegalStateException("Entries do not fit into the bucket");
+
+      return;
+    }
+
     for (int i = 0; i < entries.size(); i++)
       addEntry(i, entries.get(i), false);
   }
 
   public void shrink(int newSize) throws IOException {
+    if (keyNormalizer != null) {
+      final List<CompressedEntry> compressedEntries = readCompressedEntries(newSize);
+
+      final boolean written = writeCompressedEntries(compressedEntries, getCommonPrefixLength(compressedEntries));
+      assert written;
+
+      return;
+    }
+
     List<SBTreeEntry<K, V>> treeEntries = new ArrayList<SBTreeEntry<K, V>>(newSize);
 
     for (int i = 0; i < newSize; i++) {
@@ -344,6 +622,9 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
   }
 
   public boolean addEntry(int index, SBTreeEntry<K, V> treeEntry, boolean updateNeighbors) throws IOException {
+    if (keyNormalizer != null)
+      return addCompressedEntry(index, toCompressedEntry(treeEntry), updateNeighbors);
+
     final int keySize;
     byte[] encryptedKey = null;
 
@@ -377,18 +658,18 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
 
     int size = size();
     int freePointer = getIntValue(FREE_POINTER_OFFSET);
-    if (freePointer - entrySize < (size + 1) * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET)
+    if (freePointer - entrySize < (size + 1) * OIntegerSerializer.INT_SIZE + positionsOffset)
       return false;
 
     if (index <= size - 1) {
-      moveData(POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE,
-          POSITIONS_ARRAY_OFFSET + (index + 1) * OIntegerSerializer.INT_SIZE, (size - index) * OIntegerSerializer.INT_SIZE);
+      moveData(positionsOffset + index * OIntegerSerializer.INT_SIZE,
+          positionsOffset + (index + 1) * OIntegerSerializer.INT_SIZE, (size - index) * OIntegerSerializer.INT_SIZE);
     }
 
     freePointer -= entrySize;
 
     setIntValue(FREE_POINTER_OFFSET, freePointer);
-    setIntValue(POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE, freePointer);
+    setIntValue(positionsOffset + index * OIntegerSerializer.INT_SIZE, freePointer);
     setIntValue(SIZE_OFFSET, size + 1);
 
     if (isLeaf) {
@@ -430,32 +711,184 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
 
       size++;
 
-      if (updateNeighbors && size > 1) {
-        if (index < size - 1) {
-          final int nextEntryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + (index + 1) * OIntegerSerializer.INT_SIZE);
-          setLongValue(nextEntryPosition, treeEntry.rightChild);
-        }
+      if (updateNeighbors && size > 1)
+        updateNeighbors(index, size, treeEntry.leftChild, treeEntry.rightChild);
+    }
 
-        if (index > 0) {
-          final int prevEntryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + (index - 1) * OIntegerSerializer.INT_SIZE);
-          setLongValue(prevEntryPosition + OLongSerializer.LONG_SIZE, treeEntry.leftChild);
-        }
+    return true;
+  }
+
+  private void updateNeighbors(int index, int size, long leftChild, long rightChild) throws IOException {
+    if (index < size - 1) {
+      final int nextEntryPosition = getIntValue(positionsOffset + (index + 1) * OIntegerSerializer.INT_SIZE);
+      setLongValue(nextEntryPosition, rightChild);
+    }
+
+    if (index > 0) {
+      final int prevEntryPosition = getIntValue(positionsOffset + (index - 1) * OIntegerSerializer.INT_SIZE);
+      setLongValue(prevEntryPosition + OLongSerializer.LONG_SIZE, leftChild);
+    }
+  }
+
+  /**
+   * Adds entry to the bucket with compressed keys. If key of the entry does not start with the common prefix of the bucket, all
+   * entries of the bucket are rewritten with shorter prefix. The first key added to the empty bucket becomes its prefix.
+   */
+  private boolean addCompressedEntry(int index, CompressedEntry entry, boolean updateNeighbors) throws IOException {
+    final int size = size();
+    final byte[] prefix = getKeyPrefix();
+    final int prefixLength = OSBTreeKeyNormalizer.commonPrefixLength(prefix, entry.key, prefix.length);
+
+    if (size == 0 || prefixLength < prefix.length) {
+      final List<CompressedEntry> entries = readCompressedEntries(size);
+      entries.add(index, entry);
+
+      if (!isLeaf && updateNeighbors) {
+        if (index < size)
+          entries.set(index + 1, entries.get(index + 1).withLeftChild(entry.rightChild));
+
+        if (index > 0)
+          entries.set(index - 1, entries.get(index - 1).withRightChild(entry.leftChild));
       }
+
+      return writeCompressedEntries(entries, size == 0 ? entry.key.length : prefixLength);
+    }
+
+    final int entrySize = getCompressedEntrySize(entry, prefixLength);
+
+    int freePointer = getIntValue(FREE_POINTER_OFFSET);
+    if (freePointer - entrySize < (size + 1) * OIntegerSerializer.INT_SIZE + positionsOffset)
+      return false;
+
+    if (index <= size - 1) {
+      moveData(positionsOffset + index * OIntegerSerializer.INT_SIZE,
+          positionsOffset + (index + 1) * OIntegerSerializer.INT_SIZE, (size - index) * OIntegerSerializer.INT_SIZE);
     }
 
+    freePointer -= entrySize;
+
+    setIntValue(FREE_POINTER_OFFSET, freePointer);
+    setIntValue(positionsOffset + index * OIntegerSerializer.INT_SIZE, freePointer);
+    setIntValue(SIZE_OFFSET, size + 1);
+
+    writeCompressedEntry(freePointer, entry, prefixLength);
+
+    if (!isLeaf && updateNeighbors && size > 0)
+      updateNeighbors(index, size + 1, entry.leftChild, entry.rightChild);
+
     return true;
   }
 
-  public int updateValue(int index, OSBTreeValue<V> value) throws IOException {
-    int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+  /**
+   * Replaces content of the bucket with compressed keys by passed in entries.
+   *
+   * @return <code>false</code> if entries do not fit into the bucket, bucket is not changed in such case.
+   */
+  private boolean writeCompressedEntries(List<CompressedEntry> entries, int prefixLength) throws IOException {
+    final int newPositionsOffset = KEY_PREFIX_OFFSET + prefixLength;
 
-    if (encryption == null) {
-      entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
+    int entriesSize = 0;
+    for (CompressedEntry entry : entries)
+      entriesSize += getCompressedEntrySize(entry, prefixLength) + OIntegerSerializer.INT_SIZE;
+
+    if (newPositionsOffset + entriesSize > MAX_PAGE_SIZE_BYTES)
+      return false;
+
+    final byte[] prefix = entries.isEmpty() ? new byte[0] : Arrays.copyOf(entries.get(0).key, prefixLength);
+    setIntValue(KEY_PREFIX_SIZE_OFFSET, prefixLength);
+    setBinaryValue(KEY_PREFIX_OFFSET, prefix);
+
+    positionsOffset = newPositionsOffset;
+    keyPrefix = prefix;
+
+    int freePointer = MAX_PAGE_SIZE_BYTES;
+    for (int i = 0; i < entries.size(); i++) {
+      final CompressedEntry entry = entries.get(i);
+
+      freePointer -= getCompressedEntrySize(entry, prefixLength);
+      writeCompressedEntry(freePointer, entry, prefixLength);
+
+      setIntValue(positionsOffset + i * OIntegerSerializer.INT_SIZE, freePointer);
+    }
+
+    setIntValue(FREE_POINTER_OFFSET, freePointer);
+    setIntValue(SIZE_OFFSET, entries.size());
+
+    return true;
+  }
+
+  private void writeCompressedEntry(int entryPosition, CompressedEntry entry, int prefixLength) throws IOException {
+    if (isLeaf) {
+      entryPosition += writeKeySuffix(entryPosition, entry.key, prefixLength);
+      setBinaryValue(entryPosition, entry.value);
     } else {
-      final int encryptedSize = getIntValue(entryPosition);
-      entryPosition += OIntegerSerializer.INT_SIZE + encryptedSize;
+      entryPosition += setLongValue(entryPosition, entry.leftChild);
+      entryPosition += setLongValue(entryPosition, entry.rightChild);
+      writeKeySuffix(entryPosition, entry.key, prefixLength);
+    }
+  }
+
+  private int getCompressedEntrySize(CompressedEntry entry, int prefixLength) {
+    final int keySize = getCompressedKeySize(entry.key.length, prefixLength);
+
+    if (isLeaf)
+      return keySize + entry.value.length;
+
+    return keySize + 2 * OLongSerializer.LONG_SIZE;
+  }
+
+  private List<CompressedEntry> readCompressedEntries(int count) {
+    final List<CompressedEntry> entries = new ArrayList<CompressedEntry>(count + 1);
+
+    for (int i = 0; i < count; i++) {
+      int entryPosition = getIntValue(positionsOffset + i * OIntegerSerializer.INT_SIZE);
+
+      if (isLeaf) {
+        final byte[] key = readNormalizedKey(entryPosition);
+        entryPosition += getKeySize(entryPosition);
+
+        entries.add(new CompressedEntry(-1, -1, key, getBinaryValue(entryPosition, getValueSize(entryPosition))));
+      } else {
+        final long leftChild = getLongValue(entryPosition);
+        final long rightChild = getLongValue(entryPosition + OLongSerializer.LONG_SIZE);
+
+        entries.add(new CompressedEntry(leftChild, rightChild, readNormalizedKey(entryPosition + 2 * OLongSerializer.LONG_SIZE),
+            null));
+      }
     }
 
+    return entries;
+  }
+
+  private CompressedEntry toCompressedEntry(SBTreeEntry<K, V> treeEntry) {
+    final byte[] key = keyNormalizer.normalize(treeEntry.key);
+    if (key == null)
+      throw new IllegalStateException("Key " + treeEntry.key + " can not be stored in the bucket with compressed keys");
+
+    if (isLeaf)
+      return new CompressedEntry(-1, -1, key, serializeValue(treeEntry.value));
+
+    return new CompressedEntry(treeEntry.leftChild, treeEntry.rightChild, key, null);
+  }
+
+  /**
+   * Keys are sorted, so common prefix of the first and the last keys is common for all of them.
+   */
+  private static int getCommonPrefixLength(List<CompressedEntry> entries) {
+    if (entries.isEmpty())
+      return 0;
+
+    final byte[] firstKey = entries.get(0).key;
+    final byte[] lastKey = entries.get(entries.size() - 1).key;
+
+    return OSBTreeKeyNormalizer.commonPrefixLength(firstKey, lastKey, firstKey.length);
+  }
+
+  public int updateValue(int index, OSBTreeValue<V> value) throws IOException {
+    int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + positionsOffset);
+
+    entryPosition += getKeySize(entryPosition);
+
     boolean isLinkValue = getByteValue(entryPosition) > 0;
 
     entryPosition += OByteSerializer.BYTE_SIZE;
@@ -507,6 +940,31 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     return getLongValue(RIGHT_SIBLING_OFFSET);
   }
 
+  /**
+   * Entry of the bucket with compressed keys, which is kept in binary form while content of the bucket is rewritten.
+   */
+  private static final class CompressedEntry {
+    private final long   leftChild;
+    private final long   rightChild;
+    private final byte[] key;
+    private final byte[] value;
+
+    private CompressedEntry(long leftChild, long rightChild, byte[] key, byte[] value) {
+      this.leftChild = leftChild;
+      this.rightChild = rightChild;
+      this.key = key;
+      this.value = value;
+    }
+
+    private CompressedEntry withLeftChild(long leftChild) {
+      return new CompressedEntry(leftChild, rightChild, key, value);
+    }
+
+    private CompressedEntry withRightChild(long rightChild) {
+      return new CompressedEntry(leftChild, rightChild, key, value);
+    }
+  }
+
   public static final class SBTreeEntry<K, V> implements Comparable<SBTreeEntry<K, V>> {
     private final Comparator<? super K> comparator = ODefaultComparator.INSTANCE;
 
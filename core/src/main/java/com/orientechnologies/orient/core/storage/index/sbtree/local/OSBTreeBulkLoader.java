@@ -0,0 +1,392 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.index.sbtree.local;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.orient.core.exception.OTooBigIndexKeyException;
+import com.orientechnologies.orient.core.index.OIndexEngine;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts entries which are added in arbitrary order and fills {@link OSBTree} by them using {@link OSBTree#bulkLoad(Iterator,
+ * float)}.
+ * <p>
+ * Entries are added through {@link Sorter}s, every sorter is used by a single thread, so keys may be extracted by several threads in
+ * parallel. Sorter keeps entries in memory till their amount reaches the size of the sort buffer, then entries are sorted and
+ * written to a temporary file as a sorted run. During the load all runs are merged, entries with the same key are resolved by the
+ * validator of the index and the result is passed to the tree. If the tree is not empty at that moment, merged entries are put in
+ * the tree one by one.
+ *
+ * @see OSBTree#createBulkLoader(Path, int)
+ */
+public class OSBTreeBulkLoader<K, V> implements AutoCloseable {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final OSBTree<K, V>         tree;
+  private final OBinarySerializer<K>  keySerializer;
+  private final OBinarySerializer<V>  valueSerializer;
+  private final OType[]               keyTypes;
+  private final int                   maxKeySize;
+  private final Path                  directory;
+  private final int                   sortBufferSize;
+  private final Comparator<? super K> comparator = ODefaultComparator.INSTANCE;
+
+  private final List<Sorter>  sorters   = new ArrayList<Sorter>();
+  private final List<FileRun> fileRuns  = new ArrayList<FileRun>();
+  private final List<Path>    tempFiles = new ArrayList<Path>();
+
+  OSBTreeBulkLoader(OSBTree<K, V> tree, OBinarySerializer<K> keySerializer, OBinarySerializer<V> valueSerializer, OType[] keyTypes,
+      int maxKeySize, Path directory, int sortBufferSize) {
+    this.tree = tree;
+    this.keySerializer = keySerializer;
+    this.valueSerializer = valueSerializer;
+    this.keyTypes = keyTypes;
+    this.maxKeySize = maxKeySize;
+    this.directory = directory;
+    this.sortBufferSize = Math.max(sortBufferSize, 1);
+  }
+
+  /**
+   * @return New sorter which has to be used by a single thread.
+   */
+  public synchronized Sorter newSorter() {
+    final Sorter sorter = new Sorter();
+    sorters.add(sorter);
+    return sorter;
+  }
+
+  /**
+   * Merges entries added by all sorters and fills the tree by them. Sorters can not be used after this call.
+   *
+   * @param validator  Validator which resolves entries with the same key, if it is <code>null</code> the last added value is loaded.
+   * @param fillFactor Part of page space which is filled by entries.
+   *
+   * @return Amount of entries which are added to the tree.
+   */
+  public synchronized long load(OIndexEngine.Validator<K, V> validator, float fillFactor) {
+    final List<Run> runs = new ArrayList<Run>(fileRuns);
+    for (Sorter sorter : sorters)
+      runs.add(sorter.finish());
+
+    final MergeIterator entries = new MergeIterator(runs, validator);
+    try {
+      final long loaded = tree.bulkLoad(entries, fillFactor);
+      if (loaded >= 0)
+        return loaded;
+
+      long added = 0;
+      while (entries.hasNext()) {
+        final Map.Entry<K, V> entry = entries.next();
+        if (validator == null) {
+          tree.put(entry.getKey(), entry.getValue());
+          added++;
+        } else if (tree.validatedPut(entry.getKey(), entry.getValue(), validator))
+          added++;
+      }
+
+      return added;
+    } finally {
+      entries.close();
+    }
+  }
+
+  /**
+   * Deletes temporary files of sorted runs.
+   */
+  @Override
+  public synchronized void close() {
+    for (FileRun run : fileRuns)
+      run.close();
+
+    for (Path file : tempFiles) {
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        OLogManager.instance().warn(this, "Cannot delete temporary file of index bulk load %s", e, file);
+      }
+    }
+
+    tempFiles.clear();
+    fileRuns.clear();
+  }
+
+  private synchronized Path createTempFile() throws IOException {
+    final Path file;
+    if (directory != null)
+      file = Files.createTempFile(directory, tree.getName(), ".srt");
+    else
+      file = Files.createTempFile(tree.getName(), ".srt");
+
+    tempFiles.add(file);
+    return file;
+  }
+
+  private synchronized void addRun(FileRun run) {
+    fileRuns.add(run);
+  }
+
+  private OException wrapException(String message, IOException e) {
+    return OException.wrapException(new OSBTreeException(message + " of sbtree with name " + tree.getName(), tree), e);
+  }
+
+  /**
+   * Collects entries of a single thread.
+   */
+  public final class Sorter {
+    private List<Map.Entry<K, V>> buffer = new ArrayList<Map.Entry<K, V>>();
+
+    private Sorter() {
+    }
+
+    /**
+     * Adds entry which will be loaded in the tree.
+     *
+     * @throws OTooBigIndexKeyException if size of the key exceeds the maximum allowed key size, entry is not added in such case.
+     */
+    public void add(K key, V value) {
+      key = keySerializer.preprocess(key, (Object[]) keyTypes);
+
+      final int keySize = keySerializer.getObjectSize(key, (Object[]) keyTypes);
+      if (keySize > maxKeySize)
+        throw new OTooBigIndexKeyException(
+            "Key size is more than allowed, operation was canceled. Current key size " + keySize + ", allowed  " + maxKeySize,
+            tree.getName());
+
+      buffer.add(new AbstractMap.SimpleImmutableEntry<K, V>(key, value));
+      if (buffer.size() >= sortBufferSize)
+        spill();
+    }
+
+    private void spill() {
+      sort(buffer);
+
+      try {
+        final Path file = createTempFile();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE))) {
+          for (Map.Entry<K, V> entry : buffer) {
+            final byte[] key = new byte[keySerializer.getObjectSize(entry.getKey(), (Object[]) keyTypes)];
+            keySerializer.serializeNativeObject(entry.getKey(), key, 0, (Object[]) keyTypes);
+
+            final byte[] value = new byte[valueSerializer.getObjectSize(entry.getValue())];
+            valueSerializer.serializeNativeObject(entry.getValue(), value, 0);
+
+            out.writeInt(key.length);
+            out.write(key);
+            out.writeInt(value.length);
+            out.write(value);
+          }
+        }
+
+        addRun(new FileRun(file, buffer.size()));
+      } catch (IOException e) {
+        throw wrapException("Error during write of sorted entries", e);
+      }
+
+      buffer = new ArrayList<Map.Entry<K, V>>();
+    }
+
+    private Run finish() {
+      final List<Map.Entry<K, V>> entries = buffer;
+      buffer = null;
+
+      sort(entries);
+      return new MemoryRun(entries.iterator());
+    }
+
+    private void sort(List<Map.Entry<K, V>> entries) {
+      entries.sort((first, second) -> comparator.compare(first.getKey(), second.getKey()));
+    }
+  }
+
+  private abstract class Run {
+    K key;
+    V value;
+
+    /**
+     * Moves to the next entry of the run.
+     *
+     * @return <code>false</code> if there are no entries left.
+     */
+    abstract boolean next();
+
+    void close() {
+    }
+  }
+
+  private final class MemoryRun extends Run {
+    private final Iterator<Map.Entry<K, V>> entries;
+
+    private MemoryRun(Iterator<Map.Entry<K, V>> entries) {
+      this.entries = entries;
+    }
+
+    @Override
+    boolean next() {
+      if (!entries.hasNext())
+        return false;
+
+      final Map.Entry<K, V> entry = entries.next();
+      key = entry.getKey();
+      value = entry.getValue();
+      return true;
+    }
+  }
+
+  private final class FileRun extends Run {
+    private final Path file;
+    private       long size;
+
+    private DataInputStream in;
+
+    private FileRun(Path file, long size) {
+      this.file = file;
+      this.size = size;
+    }
+
+    @Override
+    boolean next() {
+      if (size == 0) {
+        close();
+        return false;
+      }
+
+      try {
+        if (in == null)
+          in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+
+        final byte[] serializedKey = new byte[in.readInt()];
+        in.readFully(serializedKey);
+
+        final byte[] serializedValue = new byte[in.readInt()];
+        in.readFully(serializedValue);
+
+        key = keySerializer.deserializeNativeObject(serializedKey, 0);
+        value = valueSerializer.deserializeNativeObject(serializedValue, 0);
+      } catch (IOException e) {
+        throw wrapException("Error during read of sorted entries", e);
+      }
+
+      size--;
+      return true;
+    }
+
+    @Override
+    void close() {
+      if (in != null) {
+        try {
+          in.close();
+        } catch (IOException e) {
+          OLogManager.instance().warn(this, "Cannot close temporary file of index bulk load %s", e, file);
+        }
+        in = null;
+      }
+    }
+  }
+
+  /**
+   * Merges sorted runs, entries with the same key are merged into a single entry by validator.
+   */
+  private final class MergeIterator implements Iterator<Map.Entry<K, V>> {
+    private final PriorityQueue<Run>           queue;
+    private final OIndexEngine.Validator<K, V> validator;
+    private final List<Run>                    runs;
+
+    private Map.Entry<K, V> nextEntry;
+
+    private MergeIterator(List<Run> runs, OIndexEngine.Validator<K, V> validator) {
+      this.runs = runs;
+      this.validator = validator;
+      this.queue = new PriorityQueue<Run>(Math.max(runs.size(), 1), (first, second) -> comparator.compare(first.key, second.key));
+
+      for (Run run : runs) {
+        if (run.next())
+          queue.add(run);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (nextEntry == null && !queue.isEmpty()) {
+        final K key = queue.peek().key;
+        V value = null;
+
+        while (!queue.isEmpty() && comparator.compare(queue.peek().key, key) == 0) {
+          final Run run = queue.poll();
+          value = resolve(key, value, run.value);
+
+          if (run.next())
+            queue.add(run);
+        }
+
+        if (value != null)
+          nextEntry = new AbstractMap.SimpleImmutableEntry<K, V>(key, value);
+      }
+
+      return nextEntry != null;
+    }
+
+    @Override
+    public Map.Entry<K, V> next() {
+      if (!hasNext())
+        throw new NoSuchElementException();
+
+      final Map.Entry<K, V> entry = nextEntry;
+      nextEntry = null;
+      return entry;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V resolve(K key, V oldValue, V newValue) {
+      if (validator == null)
+        return newValue;
+
+      final Object result = validator.validate(key, oldValue, newValue);
+      if (result == OIndexEngine.Validator.IGNORE)
+        return oldValue;
+
+      return (V) result;
+    }
+
+    private void close() {
+      for (Run run : runs)
+        run.close();
+    }
+  }
+}
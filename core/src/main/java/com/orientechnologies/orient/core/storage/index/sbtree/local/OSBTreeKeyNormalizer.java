@@ -0,0 +1,371 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.index.sbtree.local;
+
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OBooleanSerializer;
+import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.common.serialization.types.ODateTimeSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.common.serialization.types.OShortSerializer;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OAlwaysGreaterKey;
+import com.orientechnologies.orient.core.index.OAlwaysLessKey;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
+
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * Converts keys of {@link OSBTree} to normalized form which is used by buckets with compressed keys.
+ * <p>
+ * Normalized keys are compared as unsigned byte strings and the result of comparison is the same as the result of comparison of
+ * keys themselves. Every item of the key is self-delimiting, so different keys are never prefixes of each other, and a key which is
+ * a prefix of another one is a partial composite key which is equal to it in terms of {@link OCompositeKey#compareTo(OCompositeKey)}.
+ * Because of that keys which have common beginning also have common prefix of normalized form which is stored only once per page.
+ * <p>
+ * Items of composite keys are preceded by marker byte, which is used to present <code>null</code> items and items which are always
+ * less or greater than any other value. Strings are presented as sequence of characters which are encoded by one byte for ASCII
+ * characters, two bytes for characters with codes below <code>0x7F7F</code> and three bytes for the rest, sequence is terminated by
+ * zero byte. Numbers are stored in big endian order with inverted sign bit.
+ * <p>
+ * Only keys which consist of strings, integer numbers, booleans, links and date-times can be normalized.
+ *
+ * @see OSBTreeBucket
+ */
+final class OSBTreeKeyNormalizer {
+  private static final byte ALWAYS_LESS    = 0;
+  private static final byte NULL           = 1;
+  private static final byte NOT_NULL       = 2;
+  private static final byte ALWAYS_GREATER = (byte) 0xFF;
+
+  private static final int TWO_BYTES_CHAR_START   = 0x80;
+  private static final int THREE_BYTES_CHAR_START = TWO_BYTES_CHAR_START + 0x7F00;
+
+  private final OType[] types;
+  private final boolean composite;
+
+  private OSBTreeKeyNormalizer(OType[] types, boolean composite) {
+    this.types = types;
+    this.composite = composite;
+  }
+
+  /**
+   * @return Normalizer for the keys of the tree or <code>null</code> if keys of such types can not be normalized.
+   */
+  static OSBTreeKeyNormalizer create(OBinarySerializer<?> keySerializer, OType[] keyTypes, int keySize) {
+    if (keySerializer.getId() == OCompositeKeySerializer.ID) {
+      if (keyTypes == null || keyTypes.length < keySize)
+        return null;
+
+      for (OType keyType : keyTypes) {
+        if (!isSupported(keyType))
+          return null;
+      }
+
+      return new OSBTreeKeyNormalizer(Arrays.copyOf(keyTypes, keyTypes.length), true);
+    }
+
+    final OType type = getTypeBySerializerId(keySerializer.getId());
+    if (type == null)
+      return null;
+
+    return new OSBTreeKeyNormalizer(new OType[] { type }, false);
+  }
+
+  private static boolean isSupported(OType type) {
+    switch (type) {
+    case STRING:
+    case INTEGER:
+    case LONG:
+    case SHORT:
+    case BYTE:
+    case BOOLEAN:
+    case LINK:
+    case DATETIME:
+      return true;
+    default:
+      return false;
+    }
+  }
+
+  private static OType getTypeBySerializerId(byte serializerId) {
+    switch (serializerId) {
+    case OStringSerializer.ID:
+      return OType.STRING;
+    case OIntegerSerializer.ID:
+      return OType.INTEGER;
+    case OLongSerializer.ID:
+      return OType.LONG;
+    case OShortSerializer.ID:
+      return OType.SHORT;
+    case OByteSerializer.ID:
+      return OType.BYTE;
+    case OBooleanSerializer.ID:
+      return OType.BOOLEAN;
+    case OLinkSerializer.ID:
+      return OType.LINK;
+    case ODateTimeSerializer.ID:
+      return OType.DATETIME;
+    default:
+      return null;
+    }
+  }
+
+  /**
+   * @return Normalized presentation of the key or <code>null</code> if key contains values which do not match types of the tree.
+   */
+  byte[] normalize(Object key) {
+    final Output output = new Output();
+
+    if (!composite) {
+      if (!writeValue(output, types[0], key))
+        return null;
+
+      return output.toByteArray();
+    }
+
+    if (!(key instanceof OCompositeKey))
+      return null;
+
+    final OCompositeKey compositeKey = (OCompositeKey) key;
+    int index = 0;
+    for (Object item : compositeKey.getKeys()) {
+      if (item instanceof OAlwaysLessKey) {
+        output.write(ALWAYS_LESS);
+      } else if (item instanceof OAlwaysGreaterKey) {
+        output.write(ALWAYS_GREATER);
+      } else if (item == null) {
+        output.write(NULL);
+      } else {
+        if (index >= types.length)
+          return null;
+
+        output.write(NOT_NULL);
+        if (!writeValue(output, types[index], item))
+          return null;
+      }
+
+      index++;
+    }
+
+    return output.toByteArray();
+  }
+
+  /**
+   * Restores key from its normalized presentation.
+   */
+  Object denormalize(byte[] normalizedKey) {
+    final int[] position = new int[1];
+
+    if (!composite)
+      return readValue(normalizedKey, position, types[0]);
+
+    final OCompositeKey compositeKey = new OCompositeKey();
+    int index = 0;
+    while (position[0] < normalizedKey.length) {
+      final byte marker = normalizedKey[position[0]++];
+
+      if (marker == ALWAYS_LESS)
+        compositeKey.addKey(new OAlwaysLessKey());
+      else if (marker == ALWAYS_GREATER)
+        compositeKey.addKey(new OAlwaysGreaterKey());
+      else if (marker == NULL)
+        compositeKey.addKey(null);
+      else
+        compositeKey.addKey(readValue(normalizedKey, position, types[index]));
+
+      index++;
+    }
+
+    return compositeKey;
+  }
+
+  /**
+   * @return Length of the common prefix of two normalized keys.
+   */
+  static int commonPrefixLength(byte[] first, byte[] second, int length) {
+    final int maxLength = Math.min(length, Math.min(first.length, second.length));
+
+    for (int i = 0; i < maxLength; i++) {
+      if (first[i] != second[i])
+        return i;
+    }
+
+    return maxLength;
+  }
+
+  private static boolean writeValue(Output output, OType type, Object value) {
+    switch (type) {
+    case STRING:
+      if (!(value instanceof String))
+        return false;
+
+      final String string = (String) value;
+      for (int i = 0; i < string.length(); i++) {
+        final int character = string.charAt(i) + 1;
+
+        if (character < TWO_BYTES_CHAR_START) {
+          output.write(character);
+        } else if (character < THREE_BYTES_CHAR_START) {
+          final int shifted = character - TWO_BYTES_CHAR_START;
+          output.write(TWO_BYTES_CHAR_START + (shifted >>> 8));
+          output.write(shifted);
+        } else {
+          final int shifted = character - THREE_BYTES_CHAR_START;
+          output.write(0xFF);
+          output.write(shifted >>> 8);
+          output.write(shifted);
+        }
+      }
+
+      output.write(0);
+      return true;
+    case INTEGER:
+      if (!(value instanceof Integer))
+        return false;
+
+      writeNumber(output, ((Integer) value) ^ Integer.MIN_VALUE, OIntegerSerializer.INT_SIZE);
+      return true;
+    case LONG:
+      if (!(value instanceof Long))
+        return false;
+
+      writeNumber(output, ((Long) value) ^ Long.MIN_VALUE, OLongSerializer.LONG_SIZE);
+      return true;
+    case SHORT:
+      if (!(value instanceof Short))
+        return false;
+
+      writeNumber(output, ((Short) value) ^ Short.MIN_VALUE, OShortSerializer.SHORT_SIZE);
+      return true;
+    case BYTE:
+      if (!(value instanceof Byte))
+        return false;
+
+      output.write((Byte) value ^ Byte.MIN_VALUE);
+      return true;
+    case BOOLEAN:
+      if (!(value instanceof Boolean))
+        return false;
+
+      output.write((Boolean) value ? 1 : 0);
+      return true;
+    case LINK:
+      if (!(value instanceof OIdentifiable))
+        return false;
+
+      final ORID rid = ((OIdentifiable) value).getIdentity();
+      // cluster id is stored as short the same way as it is done by link serializer
+      writeNumber(output, ((short) rid.getClusterId()) ^ Short.MIN_VALUE, OShortSerializer.SHORT_SIZE);
+      writeNumber(output, rid.getClusterPosition() ^ Long.MIN_VALUE, OLongSerializer.LONG_SIZE);
+      return true;
+    case DATETIME:
+      if (!(value instanceof Date))
+        return false;
+
+      writeNumber(output, ((Date) value).getTime() ^ Long.MIN_VALUE, OLongSerializer.LONG_SIZE);
+      return true;
+    default:
+      return false;
+    }
+  }
+
+  private static Object readValue(byte[] normalizedKey, int[] position, OType type) {
+    switch (type) {
+    case STRING:
+      final StringBuilder builder = new StringBuilder();
+
+      int first;
+      while ((first = normalizedKey[position[0]++] & 0xFF) != 0) {
+        final int character;
+
+        if (first < TWO_BYTES_CHAR_START) {
+          character = first;
+        } else if (first < 0xFF) {
+          character = (((first - TWO_BYTES_CHAR_START) << 8) | (normalizedKey[position[0]++] & 0xFF)) + TWO_BYTES_CHAR_START;
+        } else {
+          character =
+              (((normalizedKey[position[0]] & 0xFF) << 8) | (normalizedKey[position[0] + 1] & 0xFF)) + THREE_BYTES_CHAR_START;
+          position[0] += 2;
+        }
+
+        builder.append((char) (character - 1));
+      }
+
+      return builder.toString();
+    case INTEGER:
+      return (int) readNumber(normalizedKey, position, OIntegerSerializer.INT_SIZE) ^ Integer.MIN_VALUE;
+    case LONG:
+      return readNumber(normalizedKey, position, OLongSerializer.LONG_SIZE) ^ Long.MIN_VALUE;
+    case SHORT:
+      return (short) (readNumber(normalizedKey, position, OShortSerializer.SHORT_SIZE) ^ Short.MIN_VALUE);
+    case BYTE:
+      return (byte) (normalizedKey[position[0]++] ^ Byte.MIN_VALUE);
+    case BOOLEAN:
+      return normalizedKey[position[0]++] != 0;
+    case LINK:
+      final int clusterId = (short) (readNumber(normalizedKey, position, OShortSerializer.SHORT_SIZE) ^ Short.MIN_VALUE);
+      final long clusterPosition = readNumber(normalizedKey, position, OLongSerializer.LONG_SIZE) ^ Long.MIN_VALUE;
+      return new ORecordId(clusterId, clusterPosition);
+    case DATETIME:
+      return new Date(readNumber(normalizedKey, position, OLongSerializer.LONG_SIZE) ^ Long.MIN_VALUE);
+    default:
+      throw new IllegalStateException("Type " + type + " can not be used in normalized keys");
+    }
+  }
+
+  private static void writeNumber(Output output, long value, int size) {
+    for (int i = size - 1; i >= 0; i--)
+      output.write((int) (value >>> (i << 3)));
+  }
+
+  private static long readNumber(byte[] normalizedKey, int[] position, int size) {
+    long value = 0;
+    for (int i = 0; i < size; i++)
+      value = (value << 8) | (normalizedKey[position[0]++] & 0xFF);
+
+    return value;
+  }
+
+  private static final class Output {
+    private byte[] buffer = new byte[16];
+    private int    size;
+
+    private void write(int value) {
+      if (size == buffer.length)
+        buffer = Arrays.copyOf(buffer, size << 1);
+
+      buffer[size++] = (byte) value;
+    }
+
+    private byte[] toByteArray() {
+      return Arrays.copyOf(buffer, size);
+    }
+  }
+}
@@ -82,14 +82,21 @@ public abstract class OChannel extends OListenerManger<OChannelListener> {
     super(true);
     socketBufferSize = iConfig.getValueAsInteger(OGlobalConfiguration.NETWORK_SOCKET_BUFFER_SIZE);
 
+    setSocket(iSocket);
+    // THIS TIMEOUT IS CORRECT BUT CREATE SOME PROBLEM ON REMOTE, NEED CHECK BEFORE BE ENABLED
+    // timeout = iConfig.getValueAsLong(OGlobalConfiguration.NETWORK_REQUEST_TIMEOUT);
+  }
+
+  /**
+   * Sets the socket of the channel, used also to replace the socket of a channel which is not connected yet.
+   */
+  protected final void setSocket(final Socket iSocket) throws SocketException {
     socket = iSocket;
     socket.setTcpNoDelay(true);
     if (socketBufferSize > 0) {
       socket.setSendBufferSize(socketBufferSize);
       socket.setReceiveBufferSize(socketBufferSize);
     }
-    // THIS TIMEOUT IS CORRECT BUT CREATE SOME PROBLEM ON REMOTE, NEED CHECK BEFORE BE ENABLED
-    // timeout = iConfig.getValueAsLong(OGlobalConfiguration.NETWORK_REQUEST_TIMEOUT);
   }
 
   public static String getLocalIpAddress(final boolean iFavoriteIp4) throws SocketException {
@@ -226,6 +233,13 @@ public abstract class OChannel extends OListenerManger<OChannelListener> {
     return socket != null ? socket.getLocalSocketAddress().toString() : "?";
   }
 
+  /**
+   * Returns amount of bytes received from this channel.
+   */
+  public long getReceivedBytes() {
+    return metricReceivedBytes;
+  }
+
   protected void updateMetricTransmittedBytes(final int iDelta) {
     metricGlobalTransmittedBytes.addAndGet(iDelta);
     metricTransmittedBytes += iDelta;
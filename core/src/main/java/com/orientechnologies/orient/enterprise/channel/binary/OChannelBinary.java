@@ -22,6 +22,7 @@ package com.orientechnologies.orient.enterprise.channel.binary;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OIOException;
 import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.compression.OCompression;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.id.ORID;
@@ -41,10 +42,13 @@ import java.util.Arrays;
  */
 public abstract class OChannelBinary extends OChannel implements OChannelDataInput, OChannelDataOutput {
   private static final int MAX_LENGTH_DEBUG = 150;
-  protected final boolean          debug;
-  private final   int              maxChunkSize;
-  public          DataInputStream  in;
-  public          DataOutputStream out;
+  protected final boolean                        debug;
+  private final   int                            maxChunkSize;
+  public          DataInputStream                in;
+  public          DataOutputStream               out;
+  private         OCompression                   compression;
+  private         OChannelCompressedInputStream  compressedIn;
+  private         OChannelCompressedOutputStream compressedOut;
 
   public OChannelBinary(final Socket iSocket, final OContextConfiguration iConfig) throws IOException {
     super(iSocket, iConfig);
@@ -355,6 +359,52 @@ public abstract class OChannelBinary extends OChannel implements OChannelDataInp
     super.close();
   }
 
+  /**
+   * Switches the channel to frames compressed by the passed compression, see {@link OChannelCompressedOutputStream}. Both the sides
+   * of the connection have to switch after the same message, when no other data is pending on the channel.
+   *
+   * @param compression Compression of the frames
+   * @param threshold   Frames smaller than this amount of bytes are sent uncompressed
+   */
+  public void enableCompression(final OCompression compression, final int threshold) {
+    this.compression = compression;
+    compressedIn = new OChannelCompressedInputStream(inStream, compression);
+    compressedOut = new OChannelCompressedOutputStream(outStream, compression, threshold);
+
+    inStream = compressedIn;
+    outStream = compressedOut;
+    in = new DataInputStream(inStream);
+    out = new DataOutputStream(outStream);
+  }
+
+  /**
+   * @return the compression of the frames, or null if the channel is not compressed.
+   */
+  public OCompression getCompression() {
+    return compression;
+  }
+
+  /**
+   * @return amount of bytes sent and received by the channel before compression and after decompression.
+   */
+  public long getCompressionUncompressedBytes() {
+    return compression != null ? compressedOut.getUncompressedBytes() + compressedIn.getUncompressedBytes() : 0;
+  }
+
+  /**
+   * @return amount of bytes sent and received by the channel on the network, including the frame headers.
+   */
+  public long getCompressionCompressedBytes() {
+    return compression != null ? compressedOut.getCompressedBytes() + compressedIn.getCompressedBytes() : 0;
+  }
+
+  /**
+   * @return time spent by the channel in compression and decompression in nanoseconds.
+   */
+  public long getCompressionTime() {
+    return compression != null ? compressedOut.getCompressionTime() + compressedIn.getDecompressionTime() : 0;
+  }
+
   public DataOutputStream getDataOutput() {
     return out;
   }
@@ -34,9 +34,12 @@ import java.io.IOException;
  */
 public class OChannelBinaryProtocol {
   // OUTGOING
-  public static final byte REQUEST_SHUTDOWN  = 1;
-  public static final byte REQUEST_CONNECT   = 2;
-  public static final byte REQUEST_HANDSHAKE = 20;
+  public static final byte REQUEST_SHUTDOWN              = 1;
+  public static final byte REQUEST_CONNECT               = 2;
+  public static final byte REQUEST_HANDSHAKE             = 20;
+  public static final byte REQUEST_COMPRESSION           = 21;                 // since 3.0
+  public static final byte REQUEST_RECORD_STORAGE_FORMAT = 22;                 // since 3.0
+  public static final byte REQUEST_PIPELINING            = 23;                 // since 3.0
 
   public static final byte REQUEST_DB_OPEN         = 3;
   public static final byte REQUEST_DB_CREATE       = 4;
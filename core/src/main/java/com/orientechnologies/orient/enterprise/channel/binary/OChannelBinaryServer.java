@@ -25,25 +25,70 @@ import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
 import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 
 public class OChannelBinaryServer extends OChannelBinary {
+  private static final long WRITE_RETRY_INTERVAL = TimeUnit.MILLISECONDS.toNanos(1);
 
   public OChannelBinaryServer(final Socket iSocket, final OContextConfiguration iConfig) throws IOException {
     super(iSocket, iConfig);
 
+    // SOCKET OF A CHANNEL CAN BE SWITCHED TO NON BLOCKING MODE WHEN CONNECTION IS IDLE, BUT DATA CAN BE PUSHED TO THE CLIENT ANYWAY
+    final OutputStream socketOutputStream =
+        socket.getChannel() != null ? new OChannelOutputStream(socket.getChannel()) : socket.getOutputStream();
+
     if (socketBufferSize > 0) {
       inStream = new BufferedInputStream(socket.getInputStream(), socketBufferSize);
-      outStream = new BufferedOutputStream(socket.getOutputStream(), socketBufferSize);
+      outStream = new BufferedOutputStream(socketOutputStream, socketBufferSize);
     } else {
       inStream = new BufferedInputStream(socket.getInputStream());
-      outStream = new BufferedOutputStream(socket.getOutputStream());
+      outStream = new BufferedOutputStream(socketOutputStream);
     }
 
     out = new DataOutputStream(outStream);
     in = new DataInputStream(inStream);
     connected();
   }
+
+  /**
+   * Writes to the socket channel in both blocking and non blocking mode.
+   */
+  private static final class OChannelOutputStream extends OutputStream {
+    private final SocketChannel channel;
+
+    private OChannelOutputStream(final SocketChannel channel) {
+      this.channel = channel;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+      final ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+      while (buffer.hasRemaining()) {
+        if (channel.write(buffer) == 0) {
+          // SOCKET BUFFER IS FULL IN NON BLOCKING MODE, WAIT FOR THE CLIENT TO READ THE DATA
+          LockSupport.parkNanos(WRITE_RETRY_INTERVAL);
+          if (Thread.currentThread().isInterrupted())
+            throw new InterruptedIOException();
+        }
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+  }
 }
@@ -0,0 +1,145 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.enterprise.channel.binary;
+
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.impl.OLZ4Compression;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the frames written by {@link OChannelCompressedOutputStream}, uncompressing the compressed ones.
+ */
+public class OChannelCompressedInputStream extends InputStream {
+  private final    DataInputStream in;
+  private final    OCompression    compression;
+  private final    byte[]          buffer   = new byte[OChannelCompressedOutputStream.FRAME_SIZE];
+  private          byte[]          frame    = buffer;
+  private          int             position;
+  private          int             limit;
+  private volatile long            uncompressedBytes;
+  private volatile long            compressedBytes;
+  private volatile long            decompressionTime;
+
+  public OChannelCompressedInputStream(final InputStream in, final OCompression compression) {
+    this.in = new DataInputStream(in);
+    this.compression = compression;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!fill())
+      return -1;
+    return frame[position++] & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len) throws IOException {
+    if (len == 0)
+      return 0;
+    if (!fill())
+      return -1;
+
+    final int chunk = Math.min(len, limit - position);
+    System.arraycopy(frame, position, b, off, chunk);
+    position += chunk;
+    return chunk;
+  }
+
+  /**
+   * Counts also the bytes of the next frames available on the network, so the caller knows whether there is more data to read
+   * even if the current frame is consumed.
+   */
+  @Override
+  public int available() throws IOException {
+    return limit - position + in.available();
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  public long getUncompressedBytes() {
+    return uncompressedBytes;
+  }
+
+  public long getCompressedBytes() {
+    return compressedBytes;
+  }
+
+  /**
+   * @return time spent in decompression in nanoseconds.
+   */
+  public long getDecompressionTime() {
+    return decompressionTime;
+  }
+
+  private boolean fill() throws IOException {
+    while (position == limit) {
+      final int first = in.read();
+      if (first < 0)
+        return false;
+
+      final int header = first << 24 | (in.readUnsignedByte() << 16) | (in.readUnsignedByte() << 8) | in.readUnsignedByte();
+      final int length = header < 0 ? -header : header;
+      if (length < 0 || length > buffer.length)
+        throw new IOException("Invalid length of compressed network frame: " + length);
+
+      in.readFully(buffer, 0, length);
+      compressedBytes += 4 + length;
+
+      if (header < 0) {
+        final long start = System.nanoTime();
+        frame = uncompress(length);
+        decompressionTime += System.nanoTime() - start;
+      } else
+        frame = buffer;
+
+      position = 0;
+      limit = header < 0 ? frame.length : length;
+      uncompressedBytes += limit;
+    }
+    return true;
+  }
+
+  /**
+   * Uncompresses the frame read in the buffer. The frame comes from the network, so it is rejected if once uncompressed it would be
+   * empty or larger than the frames written by {@link OChannelCompressedOutputStream}, before allocating the uncompressed content
+   * when the size is known in advance.
+   */
+  private byte[] uncompress(final int length) throws IOException {
+    final byte[] result;
+    try {
+      if (compression instanceof OLZ4Compression)
+        result = ((OLZ4Compression) compression).uncompress(buffer, 0, length, buffer.length);
+      else
+        result = compression.uncompress(buffer, 0, length);
+    } catch (RuntimeException e) {
+      throw new IOException("Cannot uncompress network frame", e);
+    }
+
+    if (result.length == 0 || result.length > buffer.length)
+      throw new IOException("Invalid uncompressed length of network frame: " + result.length);
+    return result;
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.enterprise.channel.binary;
+
+import com.orientechnologies.orient.core.compression.OCompression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Splits the written data in frames which are sent on flush or when the frame is full. Every frame starts with 4 bytes int: the
+ * length of the uncompressed frame or, if negative, the length of the compressed frame. Frames smaller than the threshold, or which
+ * do not get smaller by the compression, are sent uncompressed.
+ *
+ * @see OChannelCompressedInputStream
+ */
+public class OChannelCompressedOutputStream extends OutputStream {
+  public static final int FRAME_SIZE = 64 * 1024;
+
+  private final    OutputStream out;
+  private final    OCompression compression;
+  private final    int          threshold;
+  private final    byte[]       frame  = new byte[FRAME_SIZE];
+  private final    byte[]       header = new byte[4];
+  private          int          count;
+  private volatile long         uncompressedBytes;
+  private volatile long         compressedBytes;
+  private volatile long         compressionTime;
+
+  public OChannelCompressedOutputStream(final OutputStream out, final OCompression compression, final int threshold) {
+    this.out = out;
+    this.compression = compression;
+    this.threshold = threshold;
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    if (count == frame.length)
+      writeFrame();
+    frame[count++] = (byte) b;
+  }
+
+  @Override
+  public void write(final byte[] b, int off, int len) throws IOException {
+    while (len > 0) {
+      if (count == frame.length)
+        writeFrame();
+
+      final int chunk = Math.min(len, frame.length - count);
+      System.arraycopy(b, off, frame, count, chunk);
+      count += chunk;
+      off += chunk;
+      len -= chunk;
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    writeFrame();
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      out.close();
+    }
+  }
+
+  public long getUncompressedBytes() {
+    return uncompressedBytes;
+  }
+
+  public long getCompressedBytes() {
+    return compressedBytes;
+  }
+
+  /**
+   * @return time spent in compression in nanoseconds.
+   */
+  public long getCompressionTime() {
+    return compressionTime;
+  }
+
+  private void writeFrame() throws IOException {
+    if (count == 0)
+      return;
+
+    final int length = count;
+    count = 0;
+    uncompressedBytes += length;
+
+    if (length >= threshold) {
+      final long start = System.nanoTime();
+      final byte[] compressed = compression.compress(frame, 0, length);
+      compressionTime += System.nanoTime() - start;
+
+      if (compressed.length < length) {
+        writeHeader(-compressed.length);
+        out.write(compressed);
+        compressedBytes += header.length + compressed.length;
+        return;
+      }
+    }
+
+    writeHeader(length);
+    out.write(frame, 0, length);
+    compressedBytes += header.length + length;
+  }
+
+  private void writeHeader(final int value) throws IOException {
+    header[0] = (byte) (value >>> 24);
+    header[1] = (byte) (value >>> 16);
+    header[2] = (byte) (value >>> 8);
+    header[3] = (byte) value;
+    out.write(header);
+  }
+}
@@ -0,0 +1,157 @@
+package com.orientechnologies.orient.core.compression.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class OLZ4CompressionTest {
+  private final OLZ4Compression compression = OLZ4Compression.INSTANCE;
+
+  @Test
+  public void testRandomContent() {
+    final Random random = new Random(42);
+    for (int i = 0; i < 200; i++) {
+      final byte[] content = new byte[random.nextInt(64 * 1024)];
+      random.nextBytes(content);
+      assertRoundTrip(content);
+    }
+  }
+
+  @Test
+  public void testLowEntropyContent() {
+    final Random random = new Random(43);
+    for (int i = 0; i < 200; i++) {
+      final byte[] content = new byte[random.nextInt(64 * 1024)];
+      for (int j = 0; j < content.length; j++)
+        content[j] = (byte) ('a' + random.nextInt(4));
+
+      final byte[] compressed = assertRoundTrip(content);
+      if (content.length > 1024)
+        Assert.assertTrue(compressed.length < content.length);
+    }
+  }
+
+  @Test
+  public void testShortContent() {
+    for (int length = 0; length <= 12; length++) {
+      final byte[] zeros = new byte[length];
+      assertRoundTrip(zeros);
+
+      final byte[] sequence = new byte[length];
+      for (int i = 0; i < length; i++)
+        sequence[i] = (byte) i;
+      assertRoundTrip(sequence);
+    }
+  }
+
+  @Test
+  public void testLongLiteralRuns() {
+    final Random random = new Random(44);
+    for (int literals : new int[] { 14, 15, 16, 269, 270, 271, 600 }) {
+      // LITERALS FOLLOWED BY A MATCH, SO THE LENGTH OF THE LITERALS IS ENCODED IN THE SEQUENCE AND NOT ONLY IN THE LAST ONE
+      final byte[] content = new byte[literals + 100];
+      random.nextBytes(content);
+      Arrays.fill(content, literals, content.length, (byte) 7);
+      assertRoundTrip(content);
+
+      final byte[] onlyLiterals = new byte[literals];
+      random.nextBytes(onlyLiterals);
+      assertRoundTrip(onlyLiterals);
+    }
+  }
+
+  @Test
+  public void testLongMatches() {
+    for (int length : new int[] { 19, 20, 273, 274, 275, 5000, 100_000 }) {
+      final byte[] content = new byte[length + 16];
+      for (int i = 0; i < 16; i++)
+        content[i] = (byte) i;
+      // NON OVERLAPPING MATCH FOLLOWED BY AN OVERLAPPING ONE
+      for (int i = 16; i < content.length; i++)
+        content[i] = content[i - 16];
+
+      final byte[] compressed = assertRoundTrip(content);
+      Assert.assertTrue(compressed.length < 64 + content.length / 100);
+    }
+  }
+
+  @Test
+  public void testOffset() {
+    final Random random = new Random(45);
+    final byte[] content = new byte[10_000];
+    for (int i = 0; i < content.length; i++)
+      content[i] = (byte) random.nextInt(3);
+
+    for (int offset : new int[] { 1, 7, 1000 }) {
+      final int length = content.length - 2 * offset;
+      final byte[] compressed = compression.compress(content, offset, length);
+      Assert.assertArrayEquals(Arrays.copyOfRange(content, offset, offset + length), compression.uncompress(compressed));
+
+      // COMPRESSED CONTENT READ FROM THE MIDDLE OF A BUFFER
+      final byte[] buffer = new byte[compressed.length + 2 * offset];
+      System.arraycopy(compressed, 0, buffer, offset, compressed.length);
+      Assert.assertArrayEquals(Arrays.copyOfRange(content, offset, offset + length),
+          compression.uncompress(buffer, offset, compressed.length));
+    }
+  }
+
+  @Test
+  public void testUncompressedLengthLargerThanMax() {
+    final byte[] compressed = compression.compress(new byte[1000]);
+    Assert.assertEquals(1000, compression.uncompress(compressed, 0, compressed.length, 1000).length);
+
+    try {
+      compression.uncompress(compressed, 0, compressed.length, 999);
+      Assert.fail();
+    } catch (IllegalArgumentException e) {
+      // EXPECTED
+    }
+
+    // DECLARES 2GB IN FEW BYTES
+    try {
+      compression.uncompress(new byte[] { 0x7F, -1, -1, -1, 0 }, 0, 5, 64 * 1024);
+      Assert.fail();
+    } catch (IllegalArgumentException e) {
+      // EXPECTED
+    }
+  }
+
+  @Test
+  public void testCorruptedContent() {
+    // MORE LITERALS THAN THE CONTENT
+    assertCorrupted(new byte[] { 0, 0, 0, 10, (byte) 0xA0, 1, 2 });
+    // MORE LITERALS THAN THE UNCOMPRESSED LENGTH
+    assertCorrupted(new byte[] { 0, 0, 0, 1, 0x20, 1, 2 });
+    // MATCH BEFORE THE BEGINNING OF THE UNCOMPRESSED CONTENT
+    assertCorrupted(new byte[] { 0, 0, 0, 10, 0x10, 1, 5, 0 });
+    // MATCH DISTANCE OF ZERO
+    assertCorrupted(new byte[] { 0, 0, 0, 10, 0x10, 1, 0, 0 });
+    // MATCH LONGER THAN THE UNCOMPRESSED LENGTH
+    assertCorrupted(new byte[] { 0, 0, 0, 6, 0x1F, 1, 1, 0, 10 });
+    // TRUNCATED MATCH DISTANCE
+    assertCorrupted(new byte[] { 0, 0, 0, 10, 0x10, 1, 1 });
+    // TRUNCATED LENGTH OF LITERALS
+    assertCorrupted(new byte[] { 0, 0, 0, 100, (byte) 0xF0, (byte) 0xFF });
+    // MISSING UNCOMPRESSED LENGTH
+    assertCorrupted(new byte[] { 0, 0 });
+  }
+
+  private byte[] assertRoundTrip(final byte[] content) {
+    final byte[] compressed = compression.compress(content);
+    Assert.assertTrue(compressed.length <= 4 + content.length + content.length / 255 + 16);
+    Assert.assertArrayEquals(content, compression.uncompress(compressed));
+    Assert.assertArrayEquals(content, compression.uncompress(compressed, 0, compressed.length, content.length));
+    return compressed;
+  }
+
+  private void assertCorrupted(final byte[] compressed) {
+    try {
+      compression.uncompress(compressed, 0, compressed.length, 64 * 1024);
+      Assert.fail();
+    } catch (IllegalArgumentException e) {
+      // EXPECTED
+    }
+  }
+}
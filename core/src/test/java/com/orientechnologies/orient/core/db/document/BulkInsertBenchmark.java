@@ -0,0 +1,64 @@
+package com.orientechnologies.orient.core.db.document;
+
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.io.File;
+import java.util.Random;
+
+/**
+ * Compares throughput of insertion of documents one by one and by {@link OBulkRecordInserter} on plocal database.
+ */
+public class BulkInsertBenchmark {
+  private static final int RECORDS    = 500_000;
+  private static final int BATCH_SIZE = OBulkRecordInserter.DEFAULT_BATCH_SIZE;
+
+  public static void main(String[] args) {
+    final String buildDirectory = System.getProperty("buildDirectory", ".");
+    final String dbPath = new File(buildDirectory, BulkInsertBenchmark.class.getSimpleName()).getAbsolutePath();
+
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx("plocal:" + dbPath);
+    if (db.exists()) {
+      db.open("admin", "admin");
+      db.drop();
+    }
+
+    db.create();
+    try {
+      db.addCluster("singleInsert");
+      db.addCluster("bulkInsert");
+
+      System.out.printf("%10s %10s %18s%n", "mode", "records", "records per second");
+
+      long start = System.nanoTime();
+      final Random singleRandom = new Random(42);
+      for (int i = 0; i < RECORDS; i++) {
+        db.save(createDocument(i, singleRandom), "singleInsert");
+      }
+      print("single", start);
+
+      start = System.nanoTime();
+      final Random bulkRandom = new Random(42);
+      try (OBulkRecordInserter inserter = new OBulkRecordInserter(db, BATCH_SIZE)) {
+        for (int i = 0; i < RECORDS; i++) {
+          inserter.insert(createDocument(i, bulkRandom), "bulkInsert");
+        }
+      }
+      print("bulk", start);
+    } finally {
+      db.drop();
+    }
+  }
+
+  private static ODocument createDocument(int index, Random random) {
+    final ODocument document = new ODocument();
+    document.field("index", index);
+    document.field("name", "name" + random.nextInt());
+    document.field("value", random.nextDouble());
+    return document;
+  }
+
+  private static void print(String mode, long start) {
+    final long elapsed = System.nanoTime() - start;
+    System.out.printf("%10s %10d %18.0f%n", mode, RECORDS, RECORDS * 1_000_000_000.0 / elapsed);
+  }
+}
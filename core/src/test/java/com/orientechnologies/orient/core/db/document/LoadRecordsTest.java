@@ -0,0 +1,134 @@
+package com.orientechnologies.orient.core.db.document;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class LoadRecordsTest {
+  private ODatabaseDocumentTx db;
+
+  @Before
+  public void before() {
+    db = new ODatabaseDocumentTx("memory:" + LoadRecordsTest.class.getSimpleName());
+    db.create();
+  }
+
+  @After
+  public void after() {
+    db.drop();
+  }
+
+  @Test
+  public void testReadRecordsFromStorage() {
+    final List<ORID> rids = createRecords();
+
+    final List<ORID> requested = new ArrayList<>(rids);
+    requested.add(new ORecordId(rids.get(0).getClusterId(), 100000));
+    requested.add(new ORecordId(32000, 1));
+    Collections.shuffle(requested, new Random(42));
+
+    final Map<ORID, ORawBuffer> buffers = db.getStorage().readRecords(requested);
+
+    int existing = 0;
+    for (ORID rid : requested) {
+      final ORawBuffer expected = rid.getClusterId() == 32000 ?
+          null :
+          db.getStorage().readRecord((ORecordId) rid, null, false, false, null).getResult();
+
+      if (expected == null) {
+        Assert.assertFalse(buffers.containsKey(rid));
+      } else {
+        existing++;
+        final ORawBuffer buffer = buffers.get(rid);
+        Assert.assertNotNull(buffer);
+        Assert.assertArrayEquals(expected.buffer, buffer.buffer);
+        Assert.assertEquals(expected.version, buffer.version);
+        Assert.assertEquals(expected.recordType, buffer.recordType);
+      }
+    }
+
+    Assert.assertEquals(existing, buffers.size());
+  }
+
+  @Test
+  public void testLoadRecords() {
+    final List<ORID> rids = createRecords();
+    db.getLocalCache().clear();
+
+    // part of the records is taken from local cache
+    for (int i = 0; i < rids.size(); i += 10)
+      db.load(rids.get(i));
+
+    final List<ORecord> records = db.loadRecords(rids);
+
+    int index = 0;
+    for (ORID rid : rids) {
+      if (db.getStorage().readRecord((ORecordId) rid, null, false, false, null).getResult() == null)
+        continue;
+
+      final ORecord record = records.get(index++);
+      Assert.assertEquals(rid, record.getIdentity());
+      Assert.assertEquals(rid.getClusterPosition(), (long) ((ODocument) record).field("position"));
+    }
+
+    Assert.assertEquals(index, records.size());
+  }
+
+  @Test
+  public void testLoadRecordsInTransaction() {
+    final List<ORID> rids = createRecords();
+    db.getLocalCache().clear();
+
+    db.begin();
+    // first record is deleted
+    final ODocument document = db.load(rids.get(1));
+    document.field("value", "changed");
+    document.save();
+
+    final List<ORecord> records = db.loadRecords(Arrays.asList(rids.get(1), rids.get(2)));
+    Assert.assertEquals(2, records.size());
+    Assert.assertEquals("changed", ((ODocument) records.get(0)).field("value"));
+    db.rollback();
+  }
+
+  private List<ORID> createRecords() {
+    final Random random = new Random(42);
+    final List<ORID> rids = new ArrayList<>();
+
+    for (String clusterName : new String[] { "loadRecords1", "loadRecords2" }) {
+      db.addCluster(clusterName);
+
+      for (int i = 0; i < 500; i++) {
+        final ODocument document = new ODocument();
+        // some of the records do not fit into single page
+        final char[] value = new char[i % 50 == 0 ? 100 * 1024 : random.nextInt(1024)];
+        Arrays.fill(value, 'a');
+        document.field("value", new String(value));
+        document.save(clusterName);
+
+        document.field("position", document.getIdentity().getClusterPosition());
+        document.save();
+
+        rids.add(document.getIdentity().copy());
+      }
+    }
+
+    for (int i = 0; i < rids.size(); i += 7)
+      db.delete(rids.get(i));
+
+    return rids;
+  }
+}
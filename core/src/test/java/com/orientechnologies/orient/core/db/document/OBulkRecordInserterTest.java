@@ -0,0 +1,186 @@
+package com.orientechnologies.orient.core.db.document;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class OBulkRecordInserterTest {
+  private ODatabaseDocumentTx db;
+
+  @Before
+  public void before() {
+    db = new ODatabaseDocumentTx("memory:" + OBulkRecordInserterTest.class.getSimpleName());
+    db.create();
+  }
+
+  @After
+  public void after() {
+    db.drop();
+  }
+
+  @Test
+  public void testBulkInsert() {
+    final int clusterId = db.addCluster("bulkInsert");
+    final Random random = new Random(42);
+
+    final List<ODocument> documents = new ArrayList<>();
+    final List<ORID> notifiedRids = new ArrayList<>();
+
+    final OBulkRecordInserter inserter = new OBulkRecordInserter(db, 100);
+    for (int i = 0; i < 2000; i++) {
+      final ODocument document = new ODocument();
+      // some of the records do not fit into single page
+      final char[] value = new char[i % 100 == 0 ? 100 * 1024 : random.nextInt(1024)];
+      Arrays.fill(value, 'a');
+      document.field("index", i);
+      document.field("value", new String(value));
+
+      inserter.insert(document, "bulkInsert", record -> notifiedRids.add(record.getIdentity().copy()));
+      documents.add(document);
+    }
+    inserter.flush();
+
+    Assert.assertEquals(2000, notifiedRids.size());
+    Assert.assertEquals(2000, db.countClusterElements(clusterId));
+
+    db.getLocalCache().clear();
+    for (int i = 0; i < documents.size(); i++) {
+      final ODocument document = documents.get(i);
+      Assert.assertTrue(document.getIdentity().isPersistent());
+      Assert.assertEquals(clusterId, document.getIdentity().getClusterId());
+      Assert.assertEquals(i, document.getIdentity().getClusterPosition());
+      Assert.assertEquals(1, document.getVersion());
+      Assert.assertFalse(document.isDirty());
+
+      final ODocument loaded = db.load(document.getIdentity());
+      Assert.assertEquals(i, (int) loaded.field("index"));
+      Assert.assertEquals(document.field("value"), loaded.field("value"));
+      Assert.assertEquals(document.getVersion(), loaded.getVersion());
+    }
+
+    final ODocument document = documents.get(1);
+    document.field("value", "updated");
+    document.save();
+
+    db.getLocalCache().clear();
+    Assert.assertEquals("updated", db.<ODocument>load(document.getIdentity()).field("value"));
+  }
+
+  @Test
+  public void testClassWithIndexIsSavedAsUsual() {
+    final OClass clazz = db.getMetadata().getSchema().createClass("BulkInsertIndexed");
+    clazz.createProperty("key", OType.INTEGER);
+    clazz.createIndex("BulkInsertIndexed.key", OClass.INDEX_TYPE.UNIQUE, "key");
+
+    final OBulkRecordInserter inserter = new OBulkRecordInserter(db, 100);
+    for (int i = 0; i < 10; i++) {
+      final ODocument document = new ODocument(clazz);
+      document.field("key", i);
+      inserter.insert(document, null);
+
+      Assert.assertTrue(document.getIdentity().isPersistent());
+    }
+
+    final ODocument duplicate = new ODocument(clazz);
+    duplicate.field("key", 1);
+    try {
+      inserter.insert(duplicate, null);
+      Assert.fail();
+    } catch (ORecordDuplicatedException e) {
+      // expected
+    }
+
+    inserter.flush();
+    Assert.assertEquals(10, db.getMetadata().getIndexManager().getIndex("BulkInsertIndexed.key").getSize());
+  }
+
+  @Test
+  public void testBulkInsertByClass() {
+    final OClass clazz = db.getMetadata().getSchema().createClass("BulkInsertClass");
+
+    try (OBulkRecordInserter inserter = new OBulkRecordInserter(db, 7)) {
+      for (int i = 0; i < 100; i++) {
+        final ODocument document = new ODocument(clazz);
+        document.field("index", i);
+        inserter.insert(document, null);
+      }
+    }
+
+    Assert.assertEquals(100, clazz.count());
+  }
+
+  @Test
+  public void testBulkInsertInTransaction() {
+    db.addCluster("bulkInsertTx");
+
+    db.begin();
+    final OBulkRecordInserter inserter = new OBulkRecordInserter(db, 100);
+    final ODocument document = new ODocument();
+    document.field("value", "tx");
+    inserter.insert(document, "bulkInsertTx");
+    inserter.flush();
+
+    Assert.assertTrue(document.getIdentity().isTemporary());
+    db.commit();
+
+    Assert.assertTrue(document.getIdentity().isPersistent());
+    Assert.assertEquals(1, db.countClusterElements("bulkInsertTx"));
+  }
+
+  @Test
+  public void testLinkToBufferedRecord() {
+    final OClass clazz = db.getMetadata().getSchema().createClass("BulkInsertLinked");
+
+    final List<ORID> notifiedRids = new ArrayList<>();
+    try (OBulkRecordInserter inserter = new OBulkRecordInserter(db, 100)) {
+      final ODocument target = new ODocument(clazz);
+      target.field("name", "target");
+      inserter.insert(target, null, record -> notifiedRids.add(record.getIdentity().copy()));
+
+      final ODocument source = new ODocument(clazz);
+      source.field("name", "source");
+      source.field("link", target);
+      inserter.insert(source, null, record -> notifiedRids.add(record.getIdentity().copy()));
+
+      Assert.assertTrue(target.getIdentity().isPersistent());
+      Assert.assertTrue(source.getIdentity().isPersistent());
+    }
+
+    Assert.assertEquals(2, clazz.count());
+    Assert.assertEquals(2, notifiedRids.size());
+
+    db.getLocalCache().clear();
+    final ODocument source = db.load(notifiedRids.get(1));
+    Assert.assertEquals(notifiedRids.get(0), source.<ODocument>field("link").getIdentity());
+    Assert.assertEquals("target", source.<ODocument>field("link").field("name"));
+  }
+
+  @Test
+  public void testBufferedRecordSavedByOtherMeans() {
+    final OClass clazz = db.getMetadata().getSchema().createClass("BulkInsertSaved");
+
+    final List<ORID> notifiedRids = new ArrayList<>();
+    final ODocument document = new ODocument(clazz);
+    try (OBulkRecordInserter inserter = new OBulkRecordInserter(db, 100)) {
+      document.field("name", "saved");
+      inserter.insert(document, null, record -> notifiedRids.add(record.getIdentity().copy()));
+
+      document.save();
+      Assert.assertTrue(document.getIdentity().isPersistent());
+    }
+
+    Assert.assertEquals(1, clazz.count());
+    Assert.assertEquals(Arrays.asList(document.getIdentity()), notifiedRids);
+  }
+}
@@ -4,12 +4,16 @@ import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.impl.ODocument;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Created by tglman on 23/05/16.
@@ -78,4 +82,72 @@ public class ODatabaseImportTest {
     dbImp.drop();
   }
 
+  @Test
+  public void exportImportBulkInsertWithLinks() throws IOException {
+    ODatabaseDocument db = new ODatabaseDocumentTx("memory:" + ODatabaseImportTest.class.getSimpleName() + "_bulkInsert");
+    db.create();
+    db.getMetadata().getSchema().createClass("Person");
+    db.getMetadata().getSchema().createClass("Group");
+
+    // DELETED RECORDS SHIFT THE POSITIONS, SO IMPORTED RECORDS GET NEW IDENTITIES AND LINKS ARE MIGRATED
+    final List<ODocument> persons = new ArrayList<ODocument>();
+    for (int i = 0; i < 30; i++) {
+      ODocument person = new ODocument("Person");
+      person.field("name", "person" + i);
+      person.save();
+      persons.add(person);
+    }
+    for (int i = 0; i < 10; i++)
+      persons.remove(0).delete();
+
+    for (int i = 0; i < persons.size(); i++) {
+      ODocument person = persons.get(i);
+      person.field("friend", persons.get((i + 1) % persons.size()));
+      person.save();
+    }
+
+    ODocument group = new ODocument("Group");
+    group.field("name", "group");
+    group.field("members", new ArrayList<ODocument>(persons));
+    group.save();
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ODatabaseExport export = new ODatabaseExport((ODatabaseDocumentInternal) db, output, new OCommandOutputListener() {
+      @Override
+      public void onMessage(String iText) {
+      }
+    });
+    export.exportDatabase();
+    db.drop();
+
+    ODatabaseDocument dbImp = new ODatabaseDocumentTx("memory:import_" + ODatabaseImportTest.class.getSimpleName() + "_bulkInsert");
+    dbImp.create();
+    ODatabaseImport importer = new ODatabaseImport((ODatabaseDocumentInternal) dbImp,
+        new ByteArrayInputStream(output.toByteArray()), new OCommandOutputListener() {
+      @Override
+      public void onMessage(String iText) {
+      }
+    });
+    importer.setOptions(" -bulkInsert=true");
+    Assert.assertTrue(importer.isBulkInsert());
+    importer.importDatabase();
+
+    dbImp.getLocalCache().clear();
+    Assert.assertEquals(20, dbImp.countClass("Person"));
+    Assert.assertEquals(1, dbImp.countClass("Group"));
+
+    for (ODocument person : dbImp.browseClass("Person")) {
+      final int index = Integer.parseInt(person.<String>field("name").substring("person".length()));
+      final ODocument friend = person.field("friend");
+      Assert.assertEquals("person" + (index == 29 ? 10 : index + 1), friend.field("name"));
+    }
+
+    final ODocument importedGroup = dbImp.browseClass("Group").next();
+    final List<OIdentifiable> members = importedGroup.field("members");
+    Assert.assertEquals(20, members.size());
+    for (int i = 0; i < members.size(); i++)
+      Assert.assertEquals("person" + (i + 10), members.get(i).<ODocument>getRecord().field("name"));
+
+    dbImp.drop();
+  }
 }
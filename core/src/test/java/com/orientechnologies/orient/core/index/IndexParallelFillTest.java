@@ -0,0 +1,107 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+
+public class IndexParallelFillTest {
+  private static final int DOCUMENTS_COUNT = 20000;
+
+  private ODatabaseDocument db;
+
+  @Before
+  public void before() {
+    db = new ODatabaseDocumentTx("memory:" + IndexParallelFillTest.class.getSimpleName());
+    db.create();
+
+    db.getConfiguration().setValue(OGlobalConfiguration.INDEX_REBUILD_THREADS, 4);
+    db.getConfiguration().setValue(OGlobalConfiguration.INDEX_REBUILD_BATCH_SIZE, 100);
+  }
+
+  @After
+  public void after() {
+    db.drop();
+  }
+
+  @Test
+  public void testNotUniqueIndexOfSeveralClusters() {
+    final OClass person = createClass();
+    for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+      final ODocument document = new ODocument("Person");
+      document.field("name", "name" + (i % 100));
+      document.save();
+    }
+
+    person.createIndex("Person.name", OClass.INDEX_TYPE.NOTUNIQUE, "name");
+    final OIndex<?> index = db.getMetadata().getIndexManager().getIndex("Person.name");
+    assertNotUniqueIndex(index);
+
+    Assert.assertEquals(DOCUMENTS_COUNT, index.rebuild());
+    assertNotUniqueIndex(index);
+  }
+
+  @Test
+  public void testUniqueHashIndexOfSeveralClusters() {
+    final OClass person = createClass();
+    for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+      final ODocument document = new ODocument("Person");
+      document.field("name", "name" + i);
+      document.save();
+    }
+
+    person.createIndex("Person.name", OClass.INDEX_TYPE.UNIQUE_HASH_INDEX, "name");
+    final OIndex<?> index = db.getMetadata().getIndexManager().getIndex("Person.name");
+    Assert.assertEquals(DOCUMENTS_COUNT, index.getSize());
+
+    for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+      final OIdentifiable rid = (OIdentifiable) index.get("name" + i);
+      Assert.assertNotNull(rid);
+      Assert.assertEquals("name" + i, ((ODocument) rid.getRecord()).field("name"));
+    }
+  }
+
+  @Test
+  public void testDuplicatedKeysInDifferentClusters() {
+    final OClass person = createClass();
+    for (int i = 0; i < 1000; i++) {
+      final ODocument document = new ODocument("Person");
+      document.field("name", "name" + (i % 999));
+      document.save();
+    }
+
+    try {
+      person.createIndex("Person.name", OClass.INDEX_TYPE.UNIQUE_HASH_INDEX, "name");
+      Assert.fail();
+    } catch (ORecordDuplicatedException expected) {
+    }
+  }
+
+  private OClass createClass() {
+    final OClass person = db.getMetadata().getSchema().createClass("Person");
+    person.createProperty("name", OType.STRING);
+    for (int i = 0; i < 3; i++) {
+      person.addCluster("person_" + i);
+    }
+    return person;
+  }
+
+  private void assertNotUniqueIndex(OIndex<?> index) {
+    Assert.assertEquals(DOCUMENTS_COUNT, index.getSize());
+
+    for (int i = 0; i < 100; i++) {
+      final Collection<?> rids = (Collection<?>) index.get("name" + i);
+      Assert.assertEquals(DOCUMENTS_COUNT / 100, rids.size());
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class UniqueIndexBulkLoadTest {
+  private static final int DOCUMENTS_COUNT = 20000;
+
+  private ODatabaseDocument db;
+
+  @Before
+  public void before() {
+    db = new ODatabaseDocumentTx("memory:" + UniqueIndexBulkLoadTest.class.getSimpleName());
+    db.create();
+  }
+
+  @After
+  public void after() {
+    db.drop();
+  }
+
+  @Test
+  public void testIndexOfSeveralClusters() {
+    final OClass person = createClass();
+    for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+      final ODocument document = new ODocument("Person");
+      document.field("name", "name" + i);
+      document.save();
+    }
+    // document without key is indexed too
+    final ODocument withoutName = new ODocument("Person");
+    withoutName.save();
+
+    person.createIndex("Person.name", OClass.INDEX_TYPE.UNIQUE, "name");
+    final OIndex<?> index = db.getMetadata().getIndexManager().getIndex("Person.name");
+    assertIndex(index, withoutName);
+
+    Assert.assertEquals(DOCUMENTS_COUNT + 1, index.rebuild());
+    assertIndex(index, withoutName);
+
+    try {
+      final ODocument document = new ODocument("Person");
+      document.field("name", "name10");
+      document.save();
+      Assert.fail();
+    } catch (ORecordDuplicatedException expected) {
+    }
+  }
+
+  @Test
+  public void testDuplicatedKeysInDifferentClusters() {
+    final OClass person = createClass();
+    for (int i = 0; i < 100; i++) {
+      final ODocument document = new ODocument("Person");
+      document.field("name", "name" + (i % 99));
+      document.save();
+    }
+
+    try {
+      person.createIndex("Person.name", OClass.INDEX_TYPE.UNIQUE, "name");
+      Assert.fail();
+    } catch (ORecordDuplicatedException expected) {
+    }
+  }
+
+  private OClass createClass() {
+    final OClass person = db.getMetadata().getSchema().createClass("Person");
+    person.createProperty("name", OType.STRING);
+    for (int i = 0; i < 3; i++) {
+      person.addCluster("person_" + i);
+    }
+    return person;
+  }
+
+  private void assertIndex(OIndex<?> index, ODocument withoutName) {
+    Assert.assertEquals(DOCUMENTS_COUNT + 1, index.getSize());
+
+    for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+      final OIdentifiable rid = (OIdentifiable) index.get("name" + i);
+      Assert.assertNotNull(rid);
+      Assert.assertEquals("name" + i, ((ODocument) rid.getRecord()).field("name"));
+    }
+
+    Assert.assertEquals(withoutName.getIdentity(), index.get(null));
+  }
+}
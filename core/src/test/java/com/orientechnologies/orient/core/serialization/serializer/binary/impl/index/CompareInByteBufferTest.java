@@ -0,0 +1,131 @@
+package com.orientechnologies.orient.core.serialization.serializer.binary.impl.index;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OAlwaysGreaterKey;
+import com.orientechnologies.orient.core.index.OAlwaysLessKey;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Date;
+import java.util.Random;
+
+public class CompareInByteBufferTest {
+  private static final int OFFSET = 13;
+
+  private final Random random = new Random(42);
+
+  @Test
+  public void testString() {
+    for (int i = 0; i < 10000; i++) {
+      assertCompare(OStringSerializer.INSTANCE, randomString(), randomString());
+    }
+
+    assertCompare(OStringSerializer.INSTANCE, "", "");
+    assertCompare(OStringSerializer.INSTANCE, "abc", "abc");
+    assertCompare(OStringSerializer.INSTANCE, "abc", "abcd");
+    assertCompare(OStringSerializer.INSTANCE, "abcd", "abc");
+    assertCompare(OStringSerializer.INSTANCE, "￿", "a");
+  }
+
+  @Test
+  public void testIntegerAndLong() {
+    for (int i = 0; i < 10000; i++) {
+      assertCompare(OIntegerSerializer.INSTANCE, random.nextInt(), random.nextInt());
+      assertCompare(OLongSerializer.INSTANCE, random.nextLong(), random.nextLong());
+    }
+
+    assertCompare(OIntegerSerializer.INSTANCE, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    assertCompare(OLongSerializer.INSTANCE, Long.MAX_VALUE, Long.MAX_VALUE);
+  }
+
+  @Test
+  public void testLink() {
+    for (int i = 0; i < 10000; i++) {
+      assertCompare(OLinkSerializer.INSTANCE, randomRid(), randomRid());
+    }
+
+    assertCompare(OLinkSerializer.INSTANCE, new ORecordId(5, 1L << 40), new ORecordId(5, 1L << 40));
+    assertCompare(OLinkSerializer.INSTANCE, new ORecordId(5, 255), new ORecordId(5, 256));
+  }
+
+  @Test
+  public void testCompositeKey() {
+    final OType[] types = { OType.STRING, OType.INTEGER, OType.LINK, OType.DATETIME };
+
+    for (int i = 0; i < 10000; i++) {
+      final OCompositeKey first = randomCompositeKey();
+      final OCompositeKey second = randomCompositeKey();
+
+      assertCompare(OCompositeKeySerializer.INSTANCE, first, second, types);
+      assertCompare(OCompositeKeySerializer.INSTANCE, first, first, types);
+
+      // partial keys which are used in range queries
+      final OCompositeKey partial = new OCompositeKey(first.getKeys().get(0));
+      assertCompare(OCompositeKeySerializer.INSTANCE, first, partial, types);
+
+      partial.addKey(new OAlwaysGreaterKey());
+      assertCompare(OCompositeKeySerializer.INSTANCE, first, partial, types);
+
+      final OCompositeKey lessPartial = new OCompositeKey(first.getKeys().get(0), new OAlwaysLessKey());
+      assertCompare(OCompositeKeySerializer.INSTANCE, first, lessPartial, types);
+    }
+  }
+
+  @Test
+  public void testCompositeKeyWithNulls() {
+    final OType[] types = { OType.STRING, OType.INTEGER };
+
+    assertCompare(OCompositeKeySerializer.INSTANCE, new OCompositeKey("a", null), new OCompositeKey("a", null), types);
+    assertCompare(OCompositeKeySerializer.INSTANCE, new OCompositeKey("a", null), new OCompositeKey("a", 1), types);
+    assertCompare(OCompositeKeySerializer.INSTANCE, new OCompositeKey("a", 1), new OCompositeKey("a", null), types);
+    assertCompare(OCompositeKeySerializer.INSTANCE, new OCompositeKey(null, 1), new OCompositeKey("a", 1), types);
+  }
+
+  private <T> void assertCompare(OBinarySerializer<T> serializer, T stored, T key, Object... hints) {
+    final byte[] serialized = new byte[serializer.getObjectSize(stored, hints)];
+    serializer.serializeNativeObject(stored, serialized, 0, hints);
+
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(serialized.length + 2 * OFFSET).order(ByteOrder.nativeOrder());
+    buffer.position(OFFSET);
+    buffer.put(serialized);
+    buffer.position(0);
+
+    final T deserialized = serializer.deserializeNativeObject(serialized, 0);
+    final int expected = Integer.signum(ODefaultComparator.INSTANCE.compare(deserialized, key));
+
+    Assert.assertEquals(stored + " <> " + key, expected, Integer.signum(serializer.compareInByteBuffer(buffer, OFFSET, key)));
+    Assert.assertEquals(0, buffer.position());
+  }
+
+  private String randomString() {
+    final int length = random.nextInt(6);
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      // small alphabet, so strings often have common prefixes
+      if (random.nextInt(10) == 0)
+        builder.append((char) random.nextInt(Character.MAX_VALUE + 1));
+      else
+        builder.append((char) ('a' + random.nextInt(3)));
+    }
+    return builder.toString();
+  }
+
+  private OIdentifiable randomRid() {
+    return new ORecordId(random.nextInt(3), random.nextBoolean() ? random.nextInt(300) : random.nextLong() & Long.MAX_VALUE);
+  }
+
+  private OCompositeKey randomCompositeKey() {
+    return new OCompositeKey(randomString(), random.nextInt(3), randomRid(), new Date(random.nextInt(3)));
+  }
+}
@@ -0,0 +1,95 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OPaginatedCluster;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class OCompactClusterStatementExecutionTest {
+  static ODatabaseDocument database;
+
+  @BeforeClass public static void beforeClass() {
+    database = new ODatabaseDocumentTx("memory:OCompactClusterStatementExecutionTest");
+    database.create();
+  }
+
+  @AfterClass public static void afterClass() {
+    database.drop();
+  }
+
+  @Test
+  public void testCompactCluster() throws IOException {
+    final String clusterName = "CompactCluster";
+    final int clusterId = database.addCluster(clusterName);
+
+    final char[] chars = new char[4 * 1024];
+    Arrays.fill(chars, 'a');
+    final String value = new String(chars);
+
+    final List<ORID> rids = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      final ODocument document = new ODocument();
+      document.field("index", i);
+      document.field("value", value);
+      document.save(clusterName);
+
+      rids.add(document.getIdentity().copy());
+    }
+
+    // leave only every fourth record, so all pages become sparse
+    for (int i = 0; i < rids.size(); i++) {
+      if (i % 4 != 0) {
+        database.delete(rids.get(i));
+      }
+    }
+
+    OResultSet result = database.command("compact cluster " + clusterName);
+    Assert.assertTrue(result.hasNext());
+    OResult item = result.next();
+    Assert.assertEquals("compact cluster", item.getProperty("operation"));
+    Assert.assertEquals(clusterId, (int) item.getProperty("clusterId"));
+    Assert.assertTrue((Long) item.getProperty("movedRecords") > 0);
+    Assert.assertTrue((Long) item.getProperty("scanPagesAfter") < (Long) item.getProperty("scanPagesBefore"));
+    Assert.assertTrue((Long) item.getProperty("reclaimedBytes") > 0);
+    final OPaginatedCluster cluster = (OPaginatedCluster) ((ODatabaseDocumentInternal) database).getStorage().getUnderlying()
+        .getClusterById(clusterId);
+    Assert.assertEquals(cluster.getDataPagesCount(), (long) item.getProperty("scanPagesAfter"));
+    result.close();
+
+    Assert.assertEquals(250, database.countClusterElements(clusterId));
+    for (int i = 0; i < rids.size(); i += 4) {
+      final ODocument document = database.load(rids.get(i));
+      Assert.assertEquals(i, (int) document.field("index"));
+      Assert.assertEquals(value, document.field("value"));
+    }
+
+    result = database.command("compact cluster " + clusterId);
+    item = result.next();
+    Assert.assertEquals(0L, (long) item.getProperty("movedRecords"));
+    Assert.assertEquals(0L, (long) item.getProperty("reclaimedBytes"));
+    Assert.assertEquals(item.<Long>getProperty("scanPagesBefore"), item.<Long>getProperty("scanPagesAfter"));
+    result.close();
+  }
+
+  @Test
+  public void testCompactNotExistingClusterId() {
+    try {
+      database.command("compact cluster -5").close();
+      Assert.fail();
+    } catch (ODatabaseException e) {
+      Assert.assertTrue(e.getMessage().contains("Cluster with id -5 does not exist"));
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.orientechnologies.orient.core.sql.executor;
 
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
@@ -3697,4 +3698,263 @@ public class OSelectStatementExecutionTest {
     }
   }
 
+  @Test
+  public void testParallelClassScan() {
+    String className = "testParallelClassScan";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 3; i++) {
+      clazz.addCluster(className + "_" + i);
+    }
+    for (int i = 0; i < 1000; i++) {
+      OElement elem = db.newElement(className);
+      elem.setProperty("val", i);
+      elem.save();
+    }
+
+    Object oldAuto = OGlobalConfiguration.QUERY_PARALLEL_AUTO.getValue();
+    Object oldMinRecords = OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.getValue();
+    OGlobalConfiguration.QUERY_PARALLEL_AUTO.setValue(true);
+    OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.setValue(0);
+    try {
+      try (OResultSet result = db.query("select from " + className + " where val >= ?", 500)) {
+        Set<Integer> values = new HashSet<>();
+        while (result.hasNext()) {
+          int val = result.next().getProperty("val");
+          Assert.assertTrue(val >= 500);
+          Assert.assertTrue(values.add(val));
+        }
+        Assert.assertEquals(500, values.size());
+        OExecutionStep first = result.getExecutionPlan().get().getSteps().get(0);
+        Assert.assertTrue(first instanceof ParallelExecStep);
+        Assert.assertTrue(((ParallelExecStep) first).isParallel());
+      }
+
+      try (OResultSet result = db.query("select from " + className + " limit 10")) {
+        int count = 0;
+        while (result.hasNext()) {
+          result.next();
+          count++;
+        }
+        Assert.assertEquals(10, count);
+      }
+
+      try (OResultSet result = db.query("select from " + className + " order by @rid")) {
+        Assert.assertTrue(result.getExecutionPlan().get().getSteps().get(0) instanceof FetchFromClassExecutionStep);
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_AUTO.setValue(oldAuto);
+      OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.setValue(oldMinRecords);
+    }
+  }
+
+  @Test
+  public void testOrderBySpill() {
+    String className = "testOrderBySpill";
+    db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 10000; i++) {
+      OElement elem = db.newElement(className);
+      elem.setProperty("val", (i * 7919) % 10000);
+      elem.setProperty("group", i % 3);
+      elem.setProperty("payload", "payload of the record number " + i);
+      elem.save();
+    }
+
+    Object oldLimit = OGlobalConfiguration.QUERY_MEMORY_LIMIT_PER_OPERATION.getValue();
+    OGlobalConfiguration.QUERY_MEMORY_LIMIT_PER_OPERATION.setValue(1);
+    try {
+      try (OResultSet result = db.query("select from " + className + " order by val desc")) {
+        for (int i = 9999; i >= 0; i--) {
+          Assert.assertTrue(result.hasNext());
+          OResult item = result.next();
+          Assert.assertTrue(item.isElement());
+          Assert.assertEquals((Integer) i, item.getProperty("val"));
+          Assert.assertTrue(item.getElement().get().getIdentity().isPersistent());
+        }
+        Assert.assertFalse(result.hasNext());
+        Map<String, Long> stats = result.getQueryStats();
+        Assert.assertTrue(stats.get(OrderByStep.STAT_SPILLED_RUNS) > 0);
+        Assert.assertTrue(stats.get(OrderByStep.STAT_SPILLED_BYTES) > 0);
+      }
+
+      try (OResultSet result = db.query("select group, val, payload from " + className + " order by group, val")) {
+        int lastGroup = -1;
+        int lastVal = -1;
+        int count = 0;
+        while (result.hasNext()) {
+          OResult item = result.next();
+          int group = item.getProperty("group");
+          int val = item.getProperty("val");
+          Assert.assertTrue(group > lastGroup || (group == lastGroup && val > lastVal));
+          Assert.assertNotNull(item.getProperty("payload"));
+          lastGroup = group;
+          lastVal = val;
+          count++;
+        }
+        Assert.assertEquals(10000, count);
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_MEMORY_LIMIT_PER_OPERATION.setValue(oldLimit);
+    }
+  }
+
+  @Test
+  public void testOrderByLimitTopK() {
+    String className = "testOrderByLimitTopK";
+    db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 1000; i++) {
+      OElement elem = db.newElement(className);
+      elem.setProperty("val", (i * 37) % 100);
+      elem.setProperty("seq", i);
+      elem.save();
+    }
+
+    List<Integer> expected = new ArrayList<>();
+    try (OResultSet result = db.query("select from " + className + " order by val desc")) {
+      while (result.hasNext()) {
+        expected.add(result.next().getProperty("seq"));
+      }
+    }
+    Assert.assertEquals(1000, expected.size());
+
+    try (OResultSet result = db.query("select from " + className + " order by val desc skip 5 limit 20")) {
+      for (int i = 5; i < 25; i++) {
+        Assert.assertTrue(result.hasNext());
+        Assert.assertEquals(expected.get(i), result.next().getProperty("seq"));
+      }
+      Assert.assertFalse(result.hasNext());
+    }
+
+    try (OResultSet result = db.query("select from " + className + " order by val desc limit 0")) {
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
+  @Test
+  public void testGroupBySpill() {
+    String className = "testGroupBySpill";
+    db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 30000; i++) {
+      OElement elem = db.newElement(className);
+      elem.setProperty("key", "key of the group " + (i % 10000));
+      elem.setProperty("val", i);
+      elem.save();
+    }
+
+    Object oldLimit = OGlobalConfiguration.QUERY_MEMORY_LIMIT_PER_OPERATION.getValue();
+    OGlobalConfiguration.QUERY_MEMORY_LIMIT_PER_OPERATION.setValue(1);
+    try {
+      try (OResultSet result = db.query("select key, count(*) as count, sum(val) as total from " + className + " group by key")) {
+        Set<String> keys = new HashSet<>();
+        while (result.hasNext()) {
+          OResult item = result.next();
+          String key = item.getProperty("key");
+          Assert.assertTrue(keys.add(key));
+          int group = Integer.parseInt(key.substring("key of the group ".length()));
+          Assert.assertEquals(3L, (long) item.getProperty("count"));
+          Assert.assertEquals(3 * group + 30000, ((Number) item.getProperty("total")).intValue());
+        }
+        Assert.assertEquals(10000, keys.size());
+        Map<String, Long> stats = result.getQueryStats();
+        Assert.assertTrue(stats.get(AggregateProjectionCalculationStep.STAT_SPILLED_ROWS) > 0);
+        Assert.assertTrue(stats.get(AggregateProjectionCalculationStep.STAT_SPILLED_BYTES) > 0);
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_MEMORY_LIMIT_PER_OPERATION.setValue(oldLimit);
+    }
+  }
+
+  @Test
+  public void testDistinctSpill() {
+    String className = "testDistinctSpill";
+    db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 40000; i++) {
+      OElement elem = db.newElement(className);
+      elem.setProperty("name", "name number " + (i % 20000));
+      elem.setProperty("surname", "surname");
+      elem.save();
+    }
+
+    Object oldLimit = OGlobalConfiguration.QUERY_MEMORY_LIMIT_PER_OPERATION.getValue();
+    OGlobalConfiguration.QUERY_MEMORY_LIMIT_PER_OPERATION.setValue(1);
+    try {
+      try (OResultSet result = db.query("select distinct name, surname from " + className)) {
+        Set<String> names = new HashSet<>();
+        while (result.hasNext()) {
+          OResult item = result.next();
+          Assert.assertTrue(names.add(item.getProperty("name")));
+          Assert.assertEquals("surname", item.getProperty("surname"));
+        }
+        Assert.assertEquals(20000, names.size());
+        Map<String, Long> stats = result.getQueryStats();
+        Assert.assertTrue(stats.get(DistinctExecutionStep.STAT_SPILLED_ROWS) > 0);
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_MEMORY_LIMIT_PER_OPERATION.setValue(oldLimit);
+    }
+  }
+
+  @Test
+  public void testDistinctOrderByOverMemoryLimit() {
+    String className = "testDistinctOrderByOverMemoryLimit";
+    db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 40000; i++) {
+      OElement elem = db.newElement(className);
+      elem.setProperty("name", String.format("name number %05d", i % 20000));
+      elem.save();
+    }
+
+    Object oldLimit = OGlobalConfiguration.QUERY_MEMORY_LIMIT_PER_OPERATION.getValue();
+    OGlobalConfiguration.QUERY_MEMORY_LIMIT_PER_OPERATION.setValue(1);
+    try {
+      try (OResultSet result = db
+          .query("select distinct name from " + className + " order by name desc skip 15000 limit 100")) {
+        for (int i = 0; i < 100; i++) {
+          Assert.assertTrue(result.hasNext());
+          Assert.assertEquals(String.format("name number %05d", 4999 - i), result.next().getProperty("name"));
+        }
+        Assert.assertFalse(result.hasNext());
+        // the sorted input is not spilled, it would be returned out of order
+        Assert.assertNull(result.getQueryStats().get(DistinctExecutionStep.STAT_SPILLED_ROWS));
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_MEMORY_LIMIT_PER_OPERATION.setValue(oldLimit);
+    }
+  }
+
+  @Test
+  public void testFieldsToDecode() {
+    String className = "testFieldsToDecode";
+    db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 10; i++) {
+      OElement elem = db.newElement(className);
+      elem.setProperty("name", "name" + i);
+      elem.setProperty("surname", "surname" + i);
+      elem.setProperty("age", i);
+      elem.setProperty("notNeeded", "foo");
+      elem.save();
+    }
+
+    try (OResultSet result = db.query("select name from " + className + " where age > 4 order by surname")) {
+      String plan = result.getExecutionPlan().get().prettyPrint(0, 2);
+      Assert.assertTrue(plan.contains("fields to decode: [name, surname, age]"));
+      for (int i = 5; i < 10; i++) {
+        Assert.assertTrue(result.hasNext());
+        OResult item = result.next();
+        Assert.assertEquals("name" + i, item.getProperty("name"));
+        Assert.assertNull(item.getProperty("notNeeded"));
+      }
+      Assert.assertFalse(result.hasNext());
+    }
+
+    try (OResultSet result = db.query("select from " + className + " where age > 4")) {
+      String plan = result.getExecutionPlan().get().prettyPrint(0, 2);
+      Assert.assertFalse(plan.contains("fields to decode"));
+      for (int i = 5; i < 10; i++) {
+        Assert.assertTrue(result.hasNext());
+        Assert.assertEquals("foo", result.next().getProperty("notNeeded"));
+      }
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
 }
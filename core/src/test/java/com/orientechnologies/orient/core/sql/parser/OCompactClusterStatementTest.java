@@ -0,0 +1,26 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import org.junit.Test;
+public class OCompactClusterStatementTest extends OParserTestAbstract {
+
+  @Test
+  public void testPlain() {
+    checkRightSyntax("COMPACT CLUSTER Foo");
+    checkRightSyntax("compact cluster Foo");
+
+    checkRightSyntax("COMPACT CLUSTER 12");
+    checkRightSyntax("compact cluster 12");
+
+    checkRightSyntax("COMPACT CLUSTER `Foo bar`");
+
+    checkWrongSyntax("COMPACT CsUSTER Foo");
+    checkWrongSyntax("compact cluster Foo bar");
+  }
+
+  @Test
+  public void testKeywordAsIdentifier() {
+    checkRightSyntax("select compact from foo");
+    checkRightSyntax("create class compact");
+  }
+
+}
@@ -0,0 +1,119 @@
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.OChecksumMode;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
+import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares throughput of page loads of {@link O2QCache} and {@link OWTinyLFUCache} depending on amount of threads.
+ * <p>
+ * File which is 4 times bigger than the cache is read by all threads, 80% of reads go to the 10% of the pages, so part of the
+ * pages is hot and the rest of them is constantly evicted.
+ */
+public class ReadCacheThroughputBenchmark {
+  private static final int   PAGE_SIZE   = 4 * 1024;
+  private static final int   CACHE_PAGES = 16 * 1024;
+  private static final int   FILE_PAGES  = 4 * CACHE_PAGES;
+  private static final int[] THREADS     = { 1, 2, 4, 8, 16, 32, 64 };
+  private static final long  DURATION    = 5000;
+
+  private static final OClosableLinkedContainer<Long, OFileClassic> files = new OClosableLinkedContainer<>(1024);
+
+  public static void main(String[] args) throws Exception {
+    OGlobalConfiguration.FILE_LOCK.setValue(Boolean.FALSE);
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.FALSE);
+
+    final String buildDirectory = System.getProperty("buildDirectory", ".");
+    final OLocalPaginatedStorage storage = (OLocalPaginatedStorage) Orient.instance().getRunningEngine("plocal")
+        .createStorage(buildDirectory + "/ReadCacheThroughputBenchmark", null);
+    storage.create(new OContextConfiguration());
+    storage.close(true, false);
+
+    final OByteBufferPool bufferPool = new OByteBufferPool(PAGE_SIZE);
+    final OWOWCache writeCache = new OWOWCache(PAGE_SIZE, bufferPool, null, -1, 4L * FILE_PAGES * PAGE_SIZE, storage, false, files,
+        1, OChecksumMode.Off);
+    writeCache.loadRegisteredFiles();
+
+    try {
+      final O2QCache fillCache = new O2QCache(CACHE_PAGES * (long) PAGE_SIZE, PAGE_SIZE, false, 20);
+      final long fileId = fillCache.addFile("readCacheThroughputBenchmark.tst", writeCache);
+      for (int i = 0; i < FILE_PAGES; i++) {
+        final OCacheEntry entry = fillCache.allocateNewPage(fileId, writeCache, false);
+        entry.markDirty();
+        fillCache.releaseFromWrite(entry, writeCache);
+      }
+      writeCache.flush();
+      fillCache.clear();
+
+      System.out.printf("%10s %8s %16s%n", "cache", "threads", "loads per second");
+      for (int threads : THREADS) {
+        measure("2Q", new O2QCache(CACHE_PAGES * (long) PAGE_SIZE, PAGE_SIZE, false, 20), writeCache, fileId, threads);
+        measure("WTinyLFU", new OWTinyLFUCache(CACHE_PAGES * (long) PAGE_SIZE, PAGE_SIZE, false, 20), writeCache, fileId, threads);
+      }
+    } finally {
+      writeCache.delete();
+      storage.delete();
+      bufferPool.clear();
+    }
+  }
+
+  private static void measure(String name, OReadCache readCache, OWOWCache writeCache, long fileId, int threads)
+      throws Exception {
+    final AtomicBoolean stop = new AtomicBoolean();
+    final LongAdder loads = new LongAdder();
+    final CountDownLatch start = new CountDownLatch(1);
+
+    final List<Thread> workers = new ArrayList<>();
+    for (int n = 0; n < threads; n++) {
+      final Thread worker = new Thread(() -> {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+          start.await();
+
+          long counter = 0;
+          while (!stop.get()) {
+            final int pageIndex = random.nextInt(10) < 8 ? random.nextInt(FILE_PAGES / 10) : random.nextInt(FILE_PAGES);
+
+            final OCacheEntry entry = readCache.loadForRead(fileId, pageIndex, false, writeCache, 1, false);
+            readCache.releaseFromRead(entry, writeCache);
+            counter++;
+          }
+
+          loads.add(counter);
+        } catch (Exception e) {
+          e.printStackTrace();
+        }
+      });
+
+      worker.start();
+      workers.add(worker);
+    }
+
+    start.countDown();
+    Thread.sleep(DURATION);
+    stop.set(true);
+
+    for (Thread worker : workers) {
+      worker.join();
+    }
+
+    System.out.printf("%10s %8d %16d%n", name, threads, loads.sum() * 1000 / DURATION);
+    readCache.clear();
+  }
+}
@@ -0,0 +1,251 @@
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.OChecksumMode;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
+import org.junit.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class WTinyLFUCacheTest {
+  private static final int systemOffset = OIntegerSerializer.INT_SIZE + 3 * OLongSerializer.LONG_SIZE;
+  private static final int PAGE_SIZE    = 8 + systemOffset;
+
+  private static final OByteBufferPool BUFFER_POOL = new OByteBufferPool(PAGE_SIZE);
+
+  private static final OClosableLinkedContainer<Long, OFileClassic> files = new OClosableLinkedContainer<>(1024);
+
+  private static OLocalPaginatedStorage storageLocal;
+
+  private OWOWCache      writeCache;
+  private OWTinyLFUCache readCache;
+  private long           fileId;
+
+  @BeforeClass
+  public static void beforeClass() throws IOException {
+    OGlobalConfiguration.FILE_LOCK.setValue(Boolean.FALSE);
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.FALSE);
+
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null)
+      buildDirectory = ".";
+
+    storageLocal = (OLocalPaginatedStorage) Orient.instance().getRunningEngine("plocal")
+        .createStorage(buildDirectory + "/WTinyLFUCacheTest", null);
+    storageLocal.create(new OContextConfiguration());
+    storageLocal.close(true, false);
+  }
+
+  @AfterClass
+  public static void afterClass() throws IOException {
+    storageLocal.delete();
+
+    BUFFER_POOL.clear();
+    OGlobalConfiguration.FILE_LOCK.setValue(Boolean.TRUE);
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.TRUE);
+  }
+
+  @After
+  public void afterMethod() throws IOException {
+    if (readCache != null) {
+      readCache.deleteStorage(writeCache);
+      readCache.clear();
+    }
+
+    files.clear();
+  }
+
+  private void init(int pages) throws IOException, InterruptedException {
+    writeCache = new OWOWCache(PAGE_SIZE, BUFFER_POOL, null, -1, 15000 * PAGE_SIZE, storageLocal, false, files, 1,
+        OChecksumMode.StoreAndThrow);
+    writeCache.loadRegisteredFiles();
+
+    readCache = new OWTinyLFUCache(pages * PAGE_SIZE, PAGE_SIZE, false, 50);
+    fileId = readCache.addFile("wTinyLFUCacheTest.tst", writeCache);
+  }
+
+  @Test
+  public void testPagesAreReadBackAfterEviction() throws Exception {
+    init(16);
+
+    for (int i = 0; i < 500; i++) {
+      writePage(i);
+    }
+
+    readCache.cleanUp();
+    Assert.assertTrue(readCache.size() <= readCache.getMaxSize());
+
+    for (int i = 0; i < 500; i++) {
+      assertPage(i);
+    }
+
+    readCache.cleanUp();
+    Assert.assertTrue(readCache.size() <= readCache.getMaxSize());
+  }
+
+  @Test
+  public void testFrequentlyUsedPagesSurviveScan() throws Exception {
+    init(100);
+
+    for (int i = 0; i < 1000; i++) {
+      writePage(i);
+    }
+
+    for (int n = 0; n < 10; n++) {
+      for (int i = 0; i < 20; i++) {
+        assertPage(i);
+      }
+
+      readCache.cleanUp();
+    }
+
+    for (int i = 20; i < 1000; i++) {
+      assertPage(i);
+    }
+
+    readCache.cleanUp();
+
+    for (int i = 0; i < 20; i++) {
+      Assert.assertTrue("Page " + i + " was evicted by scan", readCache.contains(fileId, i));
+    }
+  }
+
+  @Test
+  public void testUsedPageIsNotEvicted() throws Exception {
+    init(16);
+
+    for (int i = 0; i < 200; i++) {
+      writePage(i);
+    }
+
+    final OCacheEntry entry = readCache.loadForRead(fileId, 0, false, writeCache, 1, true);
+    try {
+      for (int i = 1; i < 200; i++) {
+        assertPage(i);
+      }
+
+      readCache.cleanUp();
+
+      Assert.assertTrue(readCache.contains(fileId, 0));
+      Assert.assertNotNull(entry.getCachePointer());
+      Assert.assertEquals(0, entry.getCachePointer().getBufferDuplicate().get(systemOffset));
+    } finally {
+      readCache.releaseFromRead(entry, writeCache);
+    }
+  }
+
+  @Test
+  public void testPrefetch() throws Exception {
+    init(100);
+
+    for (int i = 0; i < 50; i++) {
+      writePage(i);
+    }
+
+    writeCache.flush();
+    readCache.clear();
+
+    readCache.prefetch(fileId, 10, 20, writeCache);
+
+    final long end = System.currentTimeMillis() + 10000;
+    while (!readCache.contains(fileId, 29) && System.currentTimeMillis() < end) {
+      Thread.sleep(10);
+    }
+
+    for (int i = 0; i < 50; i++) {
+      Assert.assertEquals("Page " + i, i >= 10 && i < 30, readCache.contains(fileId, i));
+    }
+
+    for (int i = 10; i < 30; i++) {
+      assertPage(i);
+    }
+
+    //pages which are out of file range are ignored
+    readCache.prefetch(fileId, 45, 20, writeCache);
+    final long outOfRangeEnd = System.currentTimeMillis() + 10000;
+    while (!readCache.contains(fileId, 49) && System.currentTimeMillis() < outOfRangeEnd) {
+      Thread.sleep(10);
+    }
+
+    Assert.assertTrue(readCache.contains(fileId, 45));
+    Assert.assertFalse(readCache.contains(fileId, 50));
+  }
+
+  @Test
+  public void testConcurrentReaders() throws Exception {
+    init(64);
+
+    for (int i = 0; i < 1000; i++) {
+      writePage(i);
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int n = 0; n < 8; n++) {
+        futures.add(executor.submit(() -> {
+          final Random random = new Random();
+          for (int i = 0; i < 20000; i++) {
+            // skewed distribution so part of the pages is hot
+            final int pageIndex = random.nextInt(random.nextBoolean() ? 50 : 1000);
+            assertPage(pageIndex);
+          }
+          return null;
+        }));
+      }
+
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    readCache.cleanUp();
+    Assert.assertTrue(readCache.size() <= readCache.getMaxSize());
+  }
+
+  private void writePage(int pageIndex) throws IOException {
+    OCacheEntry entry = readCache.loadForWrite(fileId, pageIndex, false, writeCache, 1, true);
+    if (entry == null) {
+      entry = readCache.allocateNewPage(fileId, writeCache, true);
+      Assert.assertEquals(pageIndex, entry.getPageIndex());
+    }
+
+    entry.markDirty();
+
+    final ByteBuffer buffer = entry.getCachePointer().getBuffer();
+    buffer.position(systemOffset);
+    buffer.putInt(pageIndex);
+    buffer.putInt(-pageIndex);
+
+    readCache.releaseFromWrite(entry, writeCache);
+  }
+
+  private void assertPage(int pageIndex) throws IOException {
+    final OCacheEntry entry = readCache.loadForRead(fileId, pageIndex, false, writeCache, 1, true);
+    try {
+      final ByteBuffer buffer = entry.getCachePointer().getBufferDuplicate();
+      Assert.assertEquals(pageIndex, buffer.getInt(systemOffset));
+      Assert.assertEquals(-pageIndex, buffer.getInt(systemOffset + OIntegerSerializer.INT_SIZE));
+    } finally {
+      readCache.releaseFromRead(entry, writeCache);
+    }
+  }
+}
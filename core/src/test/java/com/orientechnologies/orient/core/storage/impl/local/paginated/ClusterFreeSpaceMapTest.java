@@ -0,0 +1,130 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class ClusterFreeSpaceMapTest {
+  @Test
+  public void testBucketSearch() {
+    final long seed = System.currentTimeMillis();
+    System.out.println("testBucketSearch seed : " + seed);
+    final Random random = new Random(seed);
+
+    OByteBufferPool bufferPool = OByteBufferPool.instance();
+    ByteBuffer buffer = bufferPool.acquireDirect(true);
+
+    OCachePointer cachePointer = new OCachePointer(buffer, bufferPool, 0, 0);
+    cachePointer.incrementReferrer();
+
+    OCacheEntry cacheEntry = new OCacheEntryImpl(0, 0, cachePointer, false);
+    cacheEntry.acquireExclusiveLock();
+    try {
+      final OClusterFreeSpaceMapBucket bucket = new OClusterFreeSpaceMapBucket(cacheEntry);
+      final int[] values = new int[OClusterFreeSpaceMapBucket.MAX_ENTRIES];
+
+      Assert.assertEquals(0, bucket.getMax());
+      Assert.assertEquals(0, bucket.find(0));
+      Assert.assertEquals(-1, bucket.find(1));
+
+      for (int i = 0; i < 100000; i++) {
+        final int index = random.nextInt(values.length);
+        // values are decreased more often than increased, so big values are rare
+        final int value = random.nextInt(4) == 0 ? random.nextInt(50) : random.nextInt(5);
+
+        values[index] = value;
+        bucket.set(index, value);
+
+        Assert.assertEquals(value, bucket.get(index));
+
+        final int searchedValue = random.nextInt(50);
+        Assert.assertEquals(firstNotLess(values, searchedValue), bucket.find(searchedValue));
+      }
+
+      int max = 0;
+      for (int value : values)
+        max = Math.max(max, value);
+
+      Assert.assertEquals(max, bucket.getMax());
+    } finally {
+      cacheEntry.releaseExclusiveLock();
+      cachePointer.decrementReferrer();
+    }
+  }
+
+  @Test
+  public void testCompaction() throws Exception {
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:" + ClusterFreeSpaceMapTest.class.getSimpleName());
+    db.create();
+    try {
+      final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) db.getStorage().getUnderlying();
+      final OPaginatedCluster cluster = (OPaginatedCluster) storage.getClusterById(db.addCluster("freeSpaceMapTest"));
+
+      final List<Long> positions = new ArrayList<Long>();
+      final List<byte[]> records = new ArrayList<byte[]>();
+      for (int i = 0; i < 1000; i++) {
+        final byte[] record = new byte[4 * 1024];
+        new Random(i).nextBytes(record);
+
+        positions.add(cluster.createRecord(record, 1, (byte) 'b', null).clusterPosition);
+        records.add(record);
+      }
+
+      final long filledUpTo = storage.getWriteCache().getFilledUpTo(cluster.getFileId());
+
+      // leave only every fourth record, so all pages become sparse
+      for (int i = 0; i < positions.size(); i++) {
+        if (i % 4 != 0) {
+          Assert.assertTrue(cluster.deleteRecord(positions.get(i)));
+          positions.set(i, -1L);
+        }
+      }
+
+      final long recordsSize = cluster.getRecordsSize();
+
+      Assert.assertTrue(cluster.compact() > 0);
+      Assert.assertEquals(recordsSize, cluster.getRecordsSize());
+      Assert.assertEquals(0, cluster.compact());
+
+      for (int i = 0; i < positions.size(); i++) {
+        if (positions.get(i) < 0)
+          continue;
+
+        final ORawBuffer buffer = cluster.readRecord(positions.get(i), false);
+        Assert.assertArrayEquals(records.get(i), buffer.buffer);
+        Assert.assertEquals(1, buffer.version);
+      }
+
+      // space freed by deleted records and by compaction is reused by new records
+      for (int i = 0; i < 750; i++) {
+        final OPhysicalPosition position = cluster.createRecord(new byte[4 * 1024], 1, (byte) 'b', null);
+        Assert.assertNotNull(cluster.readRecord(position.clusterPosition, false));
+      }
+
+      Assert.assertTrue(storage.getWriteCache().getFilledUpTo(cluster.getFileId()) <= filledUpTo);
+    } finally {
+      db.drop();
+    }
+  }
+
+  private static int firstNotLess(int[] values, int value) {
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] >= value)
+        return i;
+    }
+
+    return -1;
+  }
+}
@@ -0,0 +1,134 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.tool.ODatabaseCompare;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Checks that data restored from WAL by several threads are the same as data of the original storage.
+ */
+public class LocalPaginatedStorageParallelRestoreTest {
+  private static final int RECORDS = 5000;
+
+  private File   buildDir;
+  private Object oldRestoreThreads;
+  private Object oldCheckpointInterval;
+
+  private ODatabaseDocumentTx baseDb;
+  private ODatabaseDocumentTx testDb;
+
+  @Before
+  public void before() {
+    oldRestoreThreads = OGlobalConfiguration.WAL_RESTORE_THREADS.getValue();
+    oldCheckpointInterval = OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL.getValue();
+
+    OGlobalConfiguration.WAL_RESTORE_THREADS.setValue(4);
+    OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL.setValue(100000000);
+
+    String buildDirectory = System.getProperty("buildDirectory", ".");
+    buildDir = new File(buildDirectory, LocalPaginatedStorageParallelRestoreTest.class.getSimpleName());
+    OFileUtils.deleteRecursively(buildDir);
+    Assert.assertTrue(buildDir.mkdirs());
+
+    baseDb = new ODatabaseDocumentTx("plocal:" + buildDir.getAbsolutePath() + "/baseParallelRestore");
+    baseDb.create();
+  }
+
+  @After
+  public void after() {
+    OGlobalConfiguration.WAL_RESTORE_THREADS.setValue(oldRestoreThreads);
+    OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL.setValue(oldCheckpointInterval);
+
+    if (testDb != null) {
+      testDb.open("admin", "admin");
+      testDb.drop();
+    }
+
+    baseDb.open("admin", "admin");
+    baseDb.drop();
+
+    OFileUtils.deleteRecursively(buildDir);
+  }
+
+  @Test
+  public void testRestoreByFewThreads() throws Exception {
+    OClass personClass = baseDb.getMetadata().getSchema().createClass("Person");
+    personClass.createProperty("id", OType.INTEGER).createIndex(OClass.INDEX_TYPE.UNIQUE);
+    personClass.createProperty("name", OType.STRING);
+
+    OClass cityClass = baseDb.getMetadata().getSchema().createClass("City");
+    cityClass.createProperty("name", OType.STRING).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+
+    for (int i = 0; i < RECORDS; i++) {
+      baseDb.begin();
+
+      ODocument person = new ODocument("Person");
+      person.field("id", i);
+      person.field("name", "name" + i);
+      person.save();
+
+      ODocument city = new ODocument("City");
+      city.field("name", "city" + (i % 100));
+      city.field("resident", person);
+      city.save();
+
+      if (i % 10 == 0) {
+        person.field("name", "updated" + i);
+        person.save();
+      }
+
+      baseDb.commit();
+    }
+
+    ((OAbstractPaginatedStorage) baseDb.getStorage()).getWALInstance().flush();
+    copyStorageWithoutClose();
+
+    OStorage baseStorage = baseDb.getStorage();
+    baseDb.close();
+    baseStorage.close();
+
+    testDb = new ODatabaseDocumentTx("plocal:" + buildDir.getAbsolutePath() + "/testParallelRestore");
+    testDb.open("admin", "admin");
+    Assert.assertTrue(((OAbstractPaginatedStorage) testDb.getStorage()).wereDataRestoredAfterOpen());
+    Assert.assertEquals(RECORDS, testDb.countClass("Person"));
+    testDb.close();
+
+    ODatabaseCompare databaseCompare = new ODatabaseCompare(testDb.getURL(), baseDb.getURL(), "admin", "admin",
+        text -> System.out.println(text));
+    databaseCompare.setCompareIndexMetadata(true);
+
+    Assert.assertTrue(databaseCompare.compare());
+  }
+
+  private void copyStorageWithoutClose() throws IOException {
+    final File baseDir = new File(baseDb.getURL().substring("plocal:".length()));
+    final File testDir = new File(buildDir, "testParallelRestore");
+    Assert.assertTrue(testDir.mkdir());
+
+    final File[] storageFiles = baseDir.listFiles();
+    Assert.assertNotNull(storageFiles);
+
+    for (File storageFile : storageFiles) {
+      if (storageFile.getName().equals("dirty.fl"))
+        continue;
+
+      final String name = storageFile.getName().replace("baseParallelRestore", "testParallelRestore");
+      Files.copy(storageFile.toPath(), new File(testDir, name).toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Measures time of data restore after crash depending on size of WAL and amount of threads which restore data.
+ * <p>
+ * For every amount of records storage is filled and copied without close, so copy has to be restored from WAL once it is opened.
+ * Then copy is opened with different values of {@link OGlobalConfiguration#WAL_RESTORE_THREADS}.
+ */
+public class LocalPaginatedStorageRestoreBenchmark {
+  private static final int[] RECORDS = { 50000, 200000, 800000 };
+  private static final int[] THREADS = { 1, 2, 4, 8 };
+
+  private final File buildDir;
+
+  private LocalPaginatedStorageRestoreBenchmark(File buildDir) {
+    this.buildDir = buildDir;
+  }
+
+  public static void main(String[] args) throws Exception {
+    OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL.setValue(100000000);
+
+    String buildDirectory = System.getProperty("buildDirectory", ".");
+    final File buildDir = new File(buildDirectory, LocalPaginatedStorageRestoreBenchmark.class.getSimpleName());
+    OFileUtils.deleteRecursively(buildDir);
+
+    try {
+      new LocalPaginatedStorageRestoreBenchmark(buildDir).benchmark();
+    } finally {
+      OFileUtils.deleteRecursively(buildDir);
+    }
+  }
+
+  private void benchmark() throws Exception {
+    System.out.printf("%10s %12s %8s %12s%n", "records", "WAL size, Mb", "threads", "restore, ms");
+
+    for (int records : RECORDS) {
+      final File image = new File(buildDir, "image" + records);
+      final long walSize = createCrashImage(records, image);
+
+      for (int threads : THREADS) {
+        final File restoreDir = new File(buildDir, "restore" + records + "_" + threads);
+        copyStorage(image, restoreDir, "image" + records, restoreDir.getName());
+
+        OGlobalConfiguration.WAL_RESTORE_THREADS.setValue(threads);
+
+        final ODatabaseDocumentTx db = new ODatabaseDocumentTx("plocal:" + restoreDir.getAbsolutePath());
+        final long start = System.nanoTime();
+        db.open("admin", "admin");
+        final long end = System.nanoTime();
+
+        System.out.printf("%10d %12d %8d %12d%n", records, walSize / (1024 * 1024), threads, (end - start) / 1000000);
+        db.drop();
+      }
+    }
+  }
+
+  /**
+   * Fills the storage and copies its files while it is still open.
+   *
+   * @return size of WAL of copied storage
+   */
+  private long createCrashImage(int records, File image) throws IOException {
+    final File baseDir = new File(buildDir, "base" + records);
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx("plocal:" + baseDir.getAbsolutePath());
+    db.create();
+
+    OClass personClass = db.getMetadata().getSchema().createClass("Person");
+    personClass.createProperty("id", OType.INTEGER).createIndex(OClass.INDEX_TYPE.UNIQUE);
+    personClass.createProperty("name", OType.STRING);
+
+    for (int i = 0; i < records; i++) {
+      db.begin();
+      ODocument person = new ODocument("Person");
+      person.field("id", i);
+      person.field("name", "name" + i);
+      person.save();
+      db.commit();
+    }
+
+    ((OAbstractPaginatedStorage) db.getStorage()).getWALInstance().flush();
+    final long walSize = copyStorage(baseDir, image, "base" + records, image.getName());
+
+    db.drop();
+
+    return walSize;
+  }
+
+  private static long copyStorage(File from, File to, String fromName, String toName) throws IOException {
+    if (!to.mkdirs())
+      throw new IOException("Can not create directory " + to);
+
+    final File[] storageFiles = from.listFiles();
+    if (storageFiles == null)
+      throw new IOException("Can not list files of " + from);
+
+    long walSize = 0;
+    for (File storageFile : storageFiles) {
+      if (storageFile.getName().equals("dirty.fl"))
+        continue;
+
+      final String name = storageFile.getName().replace(fromName, toName);
+      Files.copy(storageFile.toPath(), new File(to, name).toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+      if (name.endsWith(".wal"))
+        walSize += storageFile.length();
+    }
+
+    return walSize;
+  }
+}
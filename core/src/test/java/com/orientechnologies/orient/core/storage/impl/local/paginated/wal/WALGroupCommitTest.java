@@ -0,0 +1,93 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class WALGroupCommitTest {
+  private static final int THREADS            = 8;
+  private static final int RECORDS_PER_THREAD = 100;
+
+  private String dbDirectory;
+  private Object oldGroupCommit;
+
+  @Before
+  public void before() {
+    String buildDirectory = System.getProperty("buildDirectory", ".");
+    dbDirectory = buildDirectory + File.separator + WALGroupCommitTest.class.getSimpleName();
+    OFileUtils.deleteRecursively(new File(dbDirectory));
+
+    oldGroupCommit = OGlobalConfiguration.WAL_GROUP_COMMIT.getValue();
+    OGlobalConfiguration.WAL_GROUP_COMMIT.setValue(true);
+  }
+
+  @After
+  public void after() {
+    OGlobalConfiguration.WAL_GROUP_COMMIT.setValue(oldGroupCommit);
+    OFileUtils.deleteRecursively(new File(dbDirectory));
+  }
+
+  @Test
+  public void testConcurrentCommitsAreDurable() throws Exception {
+    ODatabaseDocumentTx db = new ODatabaseDocumentTx("plocal:" + dbDirectory);
+    db.create();
+    try {
+      db.getMetadata().getSchema().createClass("GroupCommit");
+
+      final ODiskWriteAheadLog wal = (ODiskWriteAheadLog) ((OAbstractPaginatedStorage) db.getStorage()).getWALInstance();
+      final long commitsBefore = wal.getGroupCommitCommits();
+
+      ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+      try {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+          futures.add(executor.submit(() -> {
+            ODatabaseDocumentTx threadDb = new ODatabaseDocumentTx("plocal:" + dbDirectory);
+            threadDb.open("admin", "admin");
+            try {
+              for (int j = 0; j < RECORDS_PER_THREAD; j++) {
+                threadDb.begin();
+                ODocument document = new ODocument("GroupCommit");
+                document.field("value", j);
+                document.save();
+                threadDb.commit();
+              }
+            } finally {
+              threadDb.close();
+            }
+            return null;
+          }));
+        }
+        for (Future<?> future : futures) {
+          future.get();
+        }
+      } finally {
+        executor.shutdown();
+      }
+
+      db.activateOnCurrentThread();
+      Assert.assertEquals(THREADS * RECORDS_PER_THREAD, db.countClass("GroupCommit"));
+
+      final long commits = wal.getGroupCommitCommits() - commitsBefore;
+      Assert.assertTrue(commits >= THREADS * RECORDS_PER_THREAD);
+      Assert.assertTrue(wal.getGroupCommitBatches() > 0);
+      Assert.assertTrue(wal.getGroupCommitBatches() <= wal.getGroupCommitCommits());
+    } finally {
+      db.activateOnCurrentThread();
+      db.drop();
+    }
+  }
+}
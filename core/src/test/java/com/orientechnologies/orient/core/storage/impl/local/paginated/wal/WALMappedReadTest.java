@@ -0,0 +1,112 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.sun.jna.Platform;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+
+public class WALMappedReadTest {
+  private static final int RECORDS = 2000;
+
+  private String dbDirectory;
+  private Object oldMappedRead;
+  private Object oldSegmentSize;
+
+  @Before
+  public void before() {
+    String buildDirectory = System.getProperty("buildDirectory", ".");
+    dbDirectory = buildDirectory + File.separator + WALMappedReadTest.class.getSimpleName();
+    OFileUtils.deleteRecursively(new File(dbDirectory));
+
+    oldMappedRead = OGlobalConfiguration.WAL_MAPPED_READ.getValue();
+    oldSegmentSize = OGlobalConfiguration.WAL_MAX_SEGMENT_SIZE.getValue();
+    OGlobalConfiguration.WAL_MAPPED_READ.setValue(true);
+    OGlobalConfiguration.WAL_MAX_SEGMENT_SIZE.setValue(1);
+  }
+
+  @After
+  public void after() {
+    OGlobalConfiguration.WAL_MAPPED_READ.setValue(oldMappedRead);
+    OGlobalConfiguration.WAL_MAX_SEGMENT_SIZE.setValue(oldSegmentSize);
+    OFileUtils.deleteRecursively(new File(dbDirectory));
+  }
+
+  @Test
+  public void testReadThroughSealedSegments() throws Exception {
+    ODatabaseDocumentTx db = new ODatabaseDocumentTx("plocal:" + dbDirectory);
+    db.create();
+    try {
+      db.getMetadata().getSchema().createClass("MappedRead");
+
+      final ODiskWriteAheadLog wal = (ODiskWriteAheadLog) ((OAbstractPaginatedStorage) db.getStorage()).getWALInstance();
+      final OLogSequenceNumber begin = wal.begin();
+      wal.addCutTillLimit(begin);
+      try {
+        final StringBuilder payload = new StringBuilder();
+        for (int i = 0; i < 2048; i++) {
+          payload.append((char) ('a' + i % 26));
+        }
+
+        for (int i = 0; i < RECORDS; i++) {
+          ODocument document = new ODocument("MappedRead");
+          document.field("value", i);
+          document.field("payload", payload.toString());
+          document.save();
+        }
+        wal.flush();
+
+        final OLogSequenceNumber end = wal.end();
+        Assert.assertTrue(end.getSegment() > begin.getSegment());
+
+        int endRecords = 0;
+        OLogSequenceNumber lsn = begin;
+        while (lsn != null && lsn.compareTo(end) <= 0) {
+          final OWALRecord record = wal.read(lsn);
+          Assert.assertNotNull(record);
+          Assert.assertEquals(lsn, record.getLsn());
+
+          if (record instanceof OAtomicUnitEndRecord)
+            endRecords++;
+
+          lsn = wal.next(lsn);
+        }
+
+        Assert.assertTrue(endRecords >= RECORDS);
+      } finally {
+        wal.removeCutTillLimit(begin);
+      }
+    } finally {
+      db.activateOnCurrentThread();
+      db.drop();
+    }
+  }
+
+  @Test
+  public void testDatabaseSetting() {
+    OGlobalConfiguration.WAL_MAPPED_READ.setValue(false);
+
+    final OrientDBConfig config = OrientDBConfig.builder().addConfig(OGlobalConfiguration.WAL_MAPPED_READ, true).build();
+    try (OrientDB orientDB = new OrientDB("embedded:" + new File(dbDirectory).getParentFile().getAbsolutePath(), config)) {
+      orientDB.create(WALMappedReadTest.class.getSimpleName(), ODatabaseType.PLOCAL, config);
+      try (ODatabaseSession session = orientDB.open(WALMappedReadTest.class.getSimpleName(), "admin", "admin", config)) {
+        final ODiskWriteAheadLog wal = (ODiskWriteAheadLog) ((OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) session)
+            .getStorage()).getWALInstance();
+        Assert.assertEquals(!Platform.isWindows(), wal.isMappedReadEnabled());
+      }
+      orientDB.drop(WALMappedReadTest.class.getSimpleName());
+    }
+  }
+}
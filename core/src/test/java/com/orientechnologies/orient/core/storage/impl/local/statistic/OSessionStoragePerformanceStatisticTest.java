@@ -276,6 +276,37 @@ public class OSessionStoragePerformanceStatisticTest {
     Assert.assertEquals(doc.field("commitTime"), Long.valueOf(100L));
   }
 
+  @Test
+  public void testRecordCreationBatch() {
+    final OModifiableInteger counter = new OModifiableInteger();
+
+    OSessionStoragePerformanceStatistic sessionStoragePerformanceStatistic = new OSessionStoragePerformanceStatistic(100,
+        new OSessionStoragePerformanceStatistic.NanoTimer() {
+          @Override
+          public long getNano() {
+            counter.increment(100);
+            return counter.getValue();
+          }
+        }, -1);
+
+    sessionStoragePerformanceStatistic
+        .startComponentOperation("cluster", OSessionStoragePerformanceStatistic.ComponentType.CLUSTER);
+
+    sessionStoragePerformanceStatistic.startRecordCreationTimer();
+    sessionStoragePerformanceStatistic.stopRecordCreationTimer();
+
+    sessionStoragePerformanceStatistic.startRecordCreationTimer();
+    counter.increment(300);
+    sessionStoragePerformanceStatistic.stopRecordCreationTimer(4);
+
+    sessionStoragePerformanceStatistic.completeComponentOperation();
+
+    final ODocument doc = sessionStoragePerformanceStatistic.toDocument();
+    final Map<String, ODocument> docByComponent = doc.field("dataByComponent");
+
+    Assert.assertEquals(docByComponent.get("cluster").field("recordCreationTime"), Long.valueOf(100L));
+  }
+
   @Test
   public void testCacheHit() {
     OSessionStoragePerformanceStatistic sessionStoragePerformanceStatistic = new OSessionStoragePerformanceStatistic(100,
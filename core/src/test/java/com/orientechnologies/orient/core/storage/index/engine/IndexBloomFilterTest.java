@@ -0,0 +1,95 @@
+package com.orientechnologies.orient.core.storage.index.engine;
+
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class IndexBloomFilterTest {
+  @Test
+  public void testNoFalseNegatives() {
+    final OIndexBloomFilter filter = new OIndexBloomFilter(serializer(OStringSerializer.INSTANCE), null, 1, 1000, 0.01);
+    filter.built();
+
+    // amount of keys exceeds initial capacity, so new slices are added
+    for (int i = 0; i < 100000; i++)
+      filter.add("key" + i);
+
+    for (int i = 0; i < 100000; i++) {
+      Assert.assertTrue(filter.isApplicable("key" + i));
+      Assert.assertTrue(filter.mightContain("key" + i));
+    }
+
+    Assert.assertEquals(0, filter.getMisses());
+
+    int falsePositives = 0;
+    for (int i = 0; i < 100000; i++) {
+      if (filter.mightContain("absent" + i))
+        falsePositives++;
+    }
+
+    Assert.assertTrue("False positives : " + falsePositives, falsePositives < 2000);
+    Assert.assertEquals(100000 - falsePositives, filter.getMisses());
+  }
+
+  @Test
+  public void testCounters() {
+    final OIndexBloomFilter filter = new OIndexBloomFilter(serializer(OStringSerializer.INSTANCE), null, 1, 1000, 0.01);
+    Assert.assertFalse(filter.isApplicable("key"));
+
+    filter.add("key");
+    filter.built();
+
+    Assert.assertTrue(filter.isApplicable("key"));
+    Assert.assertFalse(filter.isApplicable(null));
+
+    Assert.assertTrue(filter.mightContain("key"));
+    filter.lookedUp(true);
+    filter.lookedUp(false);
+    filter.remove();
+
+    Assert.assertEquals(1, filter.getEntries());
+    Assert.assertEquals(1, filter.getHits());
+    Assert.assertEquals(1, filter.getFalsePositives());
+    Assert.assertEquals(1, filter.getRemovedEntries());
+  }
+
+  @Test
+  public void testCompositeKeys() {
+    final OIndexBloomFilter filter = new OIndexBloomFilter(serializer(OCompositeKeySerializer.INSTANCE),
+        new OType[] { OType.STRING, OType.INTEGER }, 2, 1000, 0.01);
+    filter.built();
+
+    filter.add(new OCompositeKey("a", 1));
+    filter.add(new OCompositeKey("b"));
+
+    Assert.assertTrue(filter.mightContain(new OCompositeKey("a", 1)));
+    Assert.assertFalse(filter.isApplicable(new OCompositeKey("a")));
+    Assert.assertEquals(1, filter.getEntries());
+  }
+
+  @Test
+  public void testEngineProperties() {
+    final Map<String, String> engineProperties = new HashMap<String, String>();
+
+    Assert.assertTrue(OIndexBloomFilter.isEnabled(null, engineProperties, true));
+    Assert.assertTrue(OIndexBloomFilter.isEnabled(engineProperties));
+
+    Assert.assertFalse(OIndexBloomFilter.isEnabled(null, engineProperties, false));
+    Assert.assertFalse(OIndexBloomFilter.isEnabled(engineProperties));
+
+    Assert.assertFalse(OIndexBloomFilter.isEnabled(null));
+    Assert.assertFalse(OIndexBloomFilter.isEnabled(null, null, false));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static OBinarySerializer<Object> serializer(OBinarySerializer<?> serializer) {
+    return (OBinarySerializer<Object>) serializer;
+  }
+}
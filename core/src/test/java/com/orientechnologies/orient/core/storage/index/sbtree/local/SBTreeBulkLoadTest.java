@@ -0,0 +1,241 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.local;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OIndexEngine;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class SBTreeBulkLoadTest {
+  private static final int KEYS_COUNT = 100000;
+
+  private OSBTree<String, OIdentifiable> sbTree;
+  private ODatabaseSession               databaseDocumentTx;
+  private OrientDB                       orientDB;
+  private String                         dbName;
+
+  @Before
+  public void before() {
+    final String buildDirectory =
+        System.getProperty("buildDirectory", ".") + File.separator + SBTreeBulkLoadTest.class.getSimpleName();
+
+    dbName = "sbTreeBulkLoadTest";
+    OFileUtils.deleteRecursively(new File(buildDirectory, dbName));
+
+    orientDB = new OrientDB("plocal:" + buildDirectory, OrientDBConfig.defaultConfig());
+    orientDB.create(dbName, ODatabaseType.PLOCAL);
+
+    databaseDocumentTx = orientDB.open(dbName, "admin", "admin");
+
+    sbTree = new OSBTree<>("sbTree", ".sbt", ".nbt", (OAbstractPaginatedStorage) ((ODatabaseInternal) databaseDocumentTx).getStorage());
+    sbTree.create(OStringSerializer.INSTANCE, OLinkSerializer.INSTANCE, null, 1, false, null);
+  }
+
+  @After
+  public void afterMethod() {
+    orientDB.drop(dbName);
+    orientDB.close();
+  }
+
+  @Test
+  public void testLoadOfShuffledKeys() {
+    final List<Integer> numbers = new ArrayList<>();
+    for (int i = 0; i < KEYS_COUNT; i++) {
+      numbers.add(i);
+    }
+    Collections.shuffle(numbers, new Random(42));
+
+    try (OSBTreeBulkLoader<String, OIdentifiable> loader = sbTree.createBulkLoader(null, 10000)) {
+      // several sorters, as if keys were extracted by several threads
+      final List<OSBTreeBulkLoader<String, OIdentifiable>.Sorter> sorters = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        sorters.add(loader.newSorter());
+      }
+
+      for (int i = 0; i < KEYS_COUNT; i++) {
+        final int number = numbers.get(i);
+        sorters.get(i % sorters.size()).add(key(number), new ORecordId(number % 32000, number));
+      }
+
+      Assert.assertEquals(KEYS_COUNT, loader.load(null, 0.9f));
+    }
+
+    assertContent(KEYS_COUNT);
+
+    // tree built in bulk is changed in usual way
+    for (int i = KEYS_COUNT; i < KEYS_COUNT + 1000; i++) {
+      sbTree.put(key(i), new ORecordId(i % 32000, i));
+    }
+    for (int i = 0; i < KEYS_COUNT; i += 2) {
+      Assert.assertNotNull(sbTree.remove(key(i)));
+    }
+
+    for (int i = 0; i < KEYS_COUNT + 1000; i++) {
+      if (i < KEYS_COUNT && i % 2 == 0)
+        Assert.assertNull(sbTree.get(key(i)));
+      else
+        Assert.assertEquals(new ORecordId(i % 32000, i), sbTree.get(key(i)));
+    }
+    Assert.assertEquals(KEYS_COUNT / 2 + 1000, sbTree.size());
+  }
+
+  @Test
+  public void testLoadIsPersistent() {
+    try (OSBTreeBulkLoader<String, OIdentifiable> loader = sbTree.createBulkLoader(null, 1000)) {
+      final OSBTreeBulkLoader<String, OIdentifiable>.Sorter sorter = loader.newSorter();
+      for (int i = KEYS_COUNT - 1; i >= 0; i--) {
+        sorter.add(key(i), new ORecordId(i % 32000, i));
+      }
+
+      Assert.assertEquals(KEYS_COUNT, loader.load(null, 1.0f));
+    }
+
+    databaseDocumentTx.close();
+    orientDB.close();
+
+    orientDB = new OrientDB("plocal:" + System.getProperty("buildDirectory", ".") + File.separator + SBTreeBulkLoadTest.class
+        .getSimpleName(), OrientDBConfig.defaultConfig());
+    databaseDocumentTx = orientDB.open(dbName, "admin", "admin");
+
+    sbTree = new OSBTree<>("sbTree", ".sbt", ".nbt", (OAbstractPaginatedStorage) ((ODatabaseInternal) databaseDocumentTx).getStorage());
+    sbTree.load("sbTree", OStringSerializer.INSTANCE, OLinkSerializer.INSTANCE, null, 1, false, null);
+
+    assertContent(KEYS_COUNT);
+  }
+
+  @Test
+  public void testSingleLeafAndEmptyLoad() {
+    try (OSBTreeBulkLoader<String, OIdentifiable> loader = sbTree.createBulkLoader(null, 1000)) {
+      loader.newSorter();
+      Assert.assertEquals(0, loader.load(null, 0.9f));
+    }
+    Assert.assertEquals(0, sbTree.size());
+    Assert.assertNull(sbTree.firstKey());
+
+    try (OSBTreeBulkLoader<String, OIdentifiable> loader = sbTree.createBulkLoader(null, 1000)) {
+      final OSBTreeBulkLoader<String, OIdentifiable>.Sorter sorter = loader.newSorter();
+      for (int i = 0; i < 10; i++) {
+        sorter.add(key(i), new ORecordId(i % 32000, i));
+      }
+      Assert.assertEquals(10, loader.load(null, 0.9f));
+    }
+
+    assertContent(10);
+  }
+
+  @Test
+  public void testDuplicatesAreResolvedByValidator() {
+    final OIndexEngine.Validator<String, OIdentifiable> validator = (key, oldValue, newValue) -> {
+      if (oldValue != null && !oldValue.equals(newValue))
+        throw new ORecordDuplicatedException("Duplicated key " + key, "sbTree", oldValue.getIdentity(), key);
+
+      return oldValue != null ? OIndexEngine.Validator.IGNORE : newValue;
+    };
+
+    try (OSBTreeBulkLoader<String, OIdentifiable> loader = sbTree.createBulkLoader(null, 100)) {
+      final OSBTreeBulkLoader<String, OIdentifiable>.Sorter sorter = loader.newSorter();
+      for (int i = 0; i < 1000; i++) {
+        sorter.add(key(i), new ORecordId(i % 32000, i));
+        sorter.add(key(i), new ORecordId(i % 32000, i));
+      }
+
+      Assert.assertEquals(1000, loader.load(validator, 0.9f));
+    }
+    assertContent(1000);
+
+    sbTree.clear();
+
+    try (OSBTreeBulkLoader<String, OIdentifiable> loader = sbTree.createBulkLoader(null, 100)) {
+      final OSBTreeBulkLoader<String, OIdentifiable>.Sorter sorter = loader.newSorter();
+      for (int i = 0; i < 1000; i++) {
+        sorter.add(key(i), new ORecordId(i % 32000, i));
+      }
+      sorter.add(key(500), new ORecordId(2, 500));
+
+      loader.load(validator, 0.9f);
+      Assert.fail();
+    } catch (ORecordDuplicatedException expected) {
+    }
+
+    Assert.assertEquals(0, sbTree.size());
+  }
+
+  @Test
+  public void testNotEmptyTreeIsFilledByPuts() {
+    sbTree.put(key(-1), new ORecordId(1, 1));
+
+    try (OSBTreeBulkLoader<String, OIdentifiable> loader = sbTree.createBulkLoader(null, 1000)) {
+      final OSBTreeBulkLoader<String, OIdentifiable>.Sorter sorter = loader.newSorter();
+      for (int i = 0; i < 5000; i++) {
+        sorter.add(key(i), new ORecordId(i % 32000, i));
+      }
+
+      Assert.assertEquals(5000, loader.load(null, 0.9f));
+    }
+
+    Assert.assertEquals(5001, sbTree.size());
+    Assert.assertEquals(new ORecordId(1, 1), sbTree.get(key(-1)));
+    for (int i = 0; i < 5000; i++) {
+      Assert.assertEquals(new ORecordId(i % 32000, i), sbTree.get(key(i)));
+    }
+  }
+
+  private void assertContent(int count) {
+    Assert.assertEquals(count, sbTree.size());
+
+    for (int i = 0; i < count; i++) {
+      Assert.assertEquals(new ORecordId(i % 32000, i), sbTree.get(key(i)));
+    }
+
+    Assert.assertNull(sbTree.get(key(count)));
+    Assert.assertEquals(key(0), sbTree.firstKey());
+    Assert.assertEquals(key(count - 1), sbTree.lastKey());
+
+    // leaves are linked in order of keys in both directions
+    final OSBTree.OSBTreeCursor<String, OIdentifiable> forward = sbTree.iterateEntriesMajor(key(0), true, true);
+    Map.Entry<String, OIdentifiable> entry;
+    int n = 0;
+    while ((entry = forward.next(-1)) != null) {
+      Assert.assertEquals(key(n), entry.getKey());
+      n++;
+    }
+    Assert.assertEquals(count, n);
+
+    final OSBTree.OSBTreeCursor<String, OIdentifiable> backward = sbTree.iterateEntriesMinor(key(count - 1), true, false);
+    while ((entry = backward.next(-1)) != null) {
+      n--;
+      Assert.assertEquals(key(n), entry.getKey());
+    }
+    Assert.assertEquals(0, n);
+  }
+
+  /**
+   * Long keys, so the tree has several levels of internal pages.
+   */
+  private static String key(int number) {
+    final StringBuilder builder = new StringBuilder(String.format("%010d", number));
+    while (builder.length() < 200) {
+      builder.append('k');
+    }
+    return builder.toString();
+  }
+}
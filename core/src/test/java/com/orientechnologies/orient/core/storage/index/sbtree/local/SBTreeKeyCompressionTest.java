@@ -0,0 +1,197 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.local;
+
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+
+public class SBTreeKeyCompressionTest {
+  private static final int KEYS_COUNT = 50000;
+
+  private OSBTree<String, OIdentifiable> sbTree;
+  private ODatabaseSession               databaseDocumentTx;
+  private OrientDB                       orientDB;
+  private boolean                        keyCompression;
+
+  @Before
+  public void before() {
+    keyCompression = OGlobalConfiguration.SBTREE_KEY_COMPRESSION.getValueAsBoolean();
+    OGlobalConfiguration.SBTREE_KEY_COMPRESSION.setValue(true);
+
+    orientDB = new OrientDB("memory:", OrientDBConfig.defaultConfig());
+    orientDB.create(SBTreeKeyCompressionTest.class.getSimpleName(), ODatabaseType.MEMORY);
+    databaseDocumentTx = orientDB.open(SBTreeKeyCompressionTest.class.getSimpleName(), "admin", "admin");
+
+    sbTree = new OSBTree<>("sbTree", ".sbt", ".nbt", getStorage());
+  }
+
+  @After
+  public void after() {
+    databaseDocumentTx.close();
+    orientDB.drop(SBTreeKeyCompressionTest.class.getSimpleName());
+    orientDB.close();
+
+    OGlobalConfiguration.SBTREE_KEY_COMPRESSION.setValue(keyCompression);
+  }
+
+  @Test
+  public void testPutGetRemove() {
+    sbTree.create(OStringSerializer.INSTANCE, OLinkSerializer.INSTANCE, null, 1, false, null);
+
+    final NavigableMap<String, OIdentifiable> expected = new TreeMap<>();
+    final Random random = new Random(42);
+    for (int i = 0; i < KEYS_COUNT; i++) {
+      final String key = key(random.nextInt(10 * KEYS_COUNT));
+      final ORecordId value = new ORecordId(1, i);
+      sbTree.put(key, value);
+      expected.put(key, value);
+    }
+
+    assertTree(expected);
+
+    final OSBTree.KeySpaceStatistics statistics = sbTree.getKeySpaceStatistics();
+    Assert.assertTrue(statistics.getPages() > 1);
+    Assert.assertEquals(statistics.getPages(), statistics.getCompressedPages());
+    Assert.assertTrue(statistics.getSavedSpace() > 0);
+
+    final List<String> keys = new ArrayList<>(expected.keySet());
+    Collections.shuffle(keys, random);
+    for (String key : keys.subList(0, keys.size() / 2)) {
+      Assert.assertEquals(expected.remove(key), sbTree.remove(key));
+      Assert.assertNull(sbTree.remove(key));
+    }
+
+    assertTree(expected);
+    Assert.assertNull(sbTree.get(key(-1)));
+    Assert.assertNull(sbTree.get(key(10 * KEYS_COUNT)));
+  }
+
+  @Test
+  public void testBulkLoad() {
+    sbTree.create(OStringSerializer.INSTANCE, OLinkSerializer.INSTANCE, null, 1, false, null);
+
+    final NavigableMap<String, OIdentifiable> expected = new TreeMap<>();
+    for (int i = 0; i < KEYS_COUNT; i++)
+      expected.put(key(i), new ORecordId(1, i));
+
+    Assert.assertEquals(KEYS_COUNT, sbTree.bulkLoad(expected.entrySet().iterator(), 1.0f));
+    assertTree(expected);
+
+    final OSBTree.KeySpaceStatistics statistics = sbTree.getKeySpaceStatistics();
+    Assert.assertEquals(statistics.getPages(), statistics.getCompressedPages());
+    Assert.assertTrue(statistics.getSavedSpace() > 0);
+
+    // SPLITS OF THE FULL BUCKETS CREATED BY THE BULK LOAD
+    for (int i = 0; i < KEYS_COUNT; i += 3) {
+      final String key = key(i) + "-after-bulk-load";
+      final ORecordId value = new ORecordId(2, i);
+      sbTree.put(key, value);
+      expected.put(key, value);
+    }
+    assertTree(expected);
+  }
+
+  @Test
+  public void testCompressedAndUncompressedBuckets() {
+    OGlobalConfiguration.SBTREE_KEY_COMPRESSION.setValue(false);
+    sbTree.create(OStringSerializer.INSTANCE, OLinkSerializer.INSTANCE, null, 1, false, null);
+
+    final NavigableMap<String, OIdentifiable> expected = new TreeMap<>();
+    for (int i = 0; i < KEYS_COUNT; i += 2) {
+      expected.put(key(i), new ORecordId(1, i));
+      sbTree.put(key(i), new ORecordId(1, i));
+    }
+    Assert.assertEquals(0, sbTree.getKeySpaceStatistics().getCompressedPages());
+
+    // BUCKETS CREATED AFTER THE TREE IS LOADED WITH COMPRESSION ENABLED ARE COMPRESSED, EXISTING ONES ARE READ AS THEY ARE
+    OGlobalConfiguration.SBTREE_KEY_COMPRESSION.setValue(true);
+    sbTree.close();
+    sbTree = new OSBTree<>("sbTree", ".sbt", ".nbt", getStorage());
+    sbTree.load("sbTree", OStringSerializer.INSTANCE, OLinkSerializer.INSTANCE, null, 1, false, null);
+    assertTree(expected);
+
+    for (int i = 1; i < KEYS_COUNT; i += 2) {
+      expected.put(key(i), new ORecordId(1, i));
+      sbTree.put(key(i), new ORecordId(1, i));
+    }
+
+    final OSBTree.KeySpaceStatistics statistics = sbTree.getKeySpaceStatistics();
+    Assert.assertTrue(statistics.getCompressedPages() > 0);
+    Assert.assertTrue(statistics.getCompressedPages() < statistics.getPages());
+    assertTree(expected);
+
+    for (int i = 0; i < KEYS_COUNT; i += 3) {
+      Assert.assertEquals(expected.remove(key(i)), sbTree.remove(key(i)));
+    }
+    assertTree(expected);
+  }
+
+  private void assertTree(NavigableMap<String, OIdentifiable> expected) {
+    Assert.assertEquals(expected.size(), sbTree.size());
+    for (Map.Entry<String, OIdentifiable> entry : expected.entrySet())
+      Assert.assertEquals(entry.getValue(), sbTree.get(entry.getKey()));
+
+    Assert.assertEquals(expected.firstKey(), sbTree.firstKey());
+    Assert.assertEquals(expected.lastKey(), sbTree.lastKey());
+
+    final Random random = new Random(43);
+    for (int i = 0; i < 20; i++) {
+      final String from = key(random.nextInt(10 * KEYS_COUNT));
+      final String to = key(random.nextInt(10 * KEYS_COUNT));
+      final String low = from.compareTo(to) <= 0 ? from : to;
+      final String high = from.compareTo(to) <= 0 ? to : from;
+      final boolean inclusive = i % 2 == 0;
+
+      assertCursor(expected.subMap(low, inclusive, high, inclusive), sbTree.iterateEntriesBetween(low, inclusive, high, inclusive, true));
+      assertCursor(expected.subMap(low, inclusive, high, inclusive).descendingMap(),
+          sbTree.iterateEntriesBetween(low, inclusive, high, inclusive, false));
+
+      assertCursor(expected.tailMap(low, inclusive), sbTree.iterateEntriesMajor(low, inclusive, true));
+      assertCursor(expected.tailMap(low, inclusive).descendingMap(), sbTree.iterateEntriesMajor(low, inclusive, false));
+
+      assertCursor(expected.headMap(high, inclusive), sbTree.iterateEntriesMinor(high, inclusive, true));
+      assertCursor(expected.headMap(high, inclusive).descendingMap(), sbTree.iterateEntriesMinor(high, inclusive, false));
+    }
+
+    // KEYS WHICH ARE PREFIXES OF THE STORED ONES
+    assertCursor(expected.tailMap("key-00", true), sbTree.iterateEntriesMajor("key-00", true, true));
+    assertCursor(expected.headMap("key-00", true).descendingMap(), sbTree.iterateEntriesMinor("key-00", true, false));
+  }
+
+  private static void assertCursor(Map<String, OIdentifiable> expected, OSBTree.OSBTreeCursor<String, OIdentifiable> cursor) {
+    for (Map.Entry<String, OIdentifiable> entry : expected.entrySet()) {
+      final Map.Entry<String, OIdentifiable> actual = cursor.next(-1);
+      Assert.assertNotNull(actual);
+      Assert.assertEquals(entry.getKey(), actual.getKey());
+      Assert.assertEquals(entry.getValue(), actual.getValue());
+    }
+    Assert.assertNull(cursor.next(-1));
+  }
+
+  private OAbstractPaginatedStorage getStorage() {
+    return (OAbstractPaginatedStorage) ((ODatabaseInternal) databaseDocumentTx).getStorage();
+  }
+
+  private static String key(int i) {
+    return String.format("key-%07d", i);
+  }
+}
@@ -0,0 +1,151 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.local;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OAlwaysGreaterKey;
+import com.orientechnologies.orient.core.index.OAlwaysLessKey;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class SBTreeKeyNormalizerTest {
+  @Test
+  public void testStringOrder() {
+    final long seed = System.currentTimeMillis();
+    System.out.println("testStringOrder seed : " + seed);
+    final Random random = new Random(seed);
+
+    final OSBTreeKeyNormalizer normalizer = OSBTreeKeyNormalizer.create(OStringSerializer.INSTANCE, null, 1);
+    Assert.assertNotNull(normalizer);
+
+    for (int i = 0; i < 100000; i++) {
+      final String first = randomString(random);
+      final String second = randomString(random);
+
+      final byte[] normalizedFirst = normalizer.normalize(first);
+      final byte[] normalizedSecond = normalizer.normalize(second);
+
+      Assert.assertEquals(Integer.signum(first.compareTo(second)), Integer.signum(compare(normalizedFirst, normalizedSecond)));
+      Assert.assertEquals(first, normalizer.denormalize(normalizedFirst));
+    }
+  }
+
+  @Test
+  public void testNumberOrder() {
+    final long seed = System.currentTimeMillis();
+    System.out.println("testNumberOrder seed : " + seed);
+    final Random random = new Random(seed);
+
+    final OSBTreeKeyNormalizer intNormalizer = OSBTreeKeyNormalizer.create(OIntegerSerializer.INSTANCE, null, 1);
+    final OSBTreeKeyNormalizer longNormalizer = OSBTreeKeyNormalizer.create(OLongSerializer.INSTANCE, null, 1);
+
+    for (int i = 0; i < 100000; i++) {
+      final int firstInt = random.nextInt();
+      final int secondInt = random.nextInt();
+
+      Assert.assertEquals(Integer.signum(Integer.compare(firstInt, secondInt)),
+          Integer.signum(compare(intNormalizer.normalize(firstInt), intNormalizer.normalize(secondInt))));
+      Assert.assertEquals(firstInt, intNormalizer.denormalize(intNormalizer.normalize(firstInt)));
+
+      final long firstLong = random.nextLong();
+      final long secondLong = random.nextLong();
+
+      Assert.assertEquals(Integer.signum(Long.compare(firstLong, secondLong)),
+          Integer.signum(compare(longNormalizer.normalize(firstLong), longNormalizer.normalize(secondLong))));
+      Assert.assertEquals(firstLong, longNormalizer.denormalize(longNormalizer.normalize(firstLong)));
+    }
+  }
+
+  @Test
+  public void testLinkOrder() {
+    final OSBTreeKeyNormalizer normalizer = OSBTreeKeyNormalizer.create(OLinkSerializer.INSTANCE, null, 1);
+
+    final ORecordId[] rids = { new ORecordId(-1, -1), new ORecordId(0, Long.MIN_VALUE), new ORecordId(0, 0), new ORecordId(0, 1),
+        new ORecordId(1, -5), new ORecordId(12, 3), new ORecordId(Short.MAX_VALUE, Long.MAX_VALUE) };
+
+    for (int i = 0; i < rids.length; i++) {
+      Assert.assertEquals(rids[i], normalizer.denormalize(normalizer.normalize(rids[i])));
+
+      for (int j = 0; j < rids.length; j++) {
+        Assert.assertEquals(Integer.signum(rids[i].compareTo(rids[j])),
+            Integer.signum(compare(normalizer.normalize(rids[i]), normalizer.normalize(rids[j]))));
+      }
+    }
+  }
+
+  @Test
+  public void testCompositeKeyOrder() {
+    final OSBTreeKeyNormalizer normalizer = OSBTreeKeyNormalizer
+        .create(OCompositeKeySerializer.INSTANCE, new OType[] { OType.STRING, OType.INTEGER }, 2);
+    Assert.assertNotNull(normalizer);
+
+    final OCompositeKey[] keys = { new OCompositeKey("a", new OAlwaysLessKey()), new OCompositeKey(null, 1),
+        new OCompositeKey("a", null), new OCompositeKey("a", -1), new OCompositeKey("a", 0), new OCompositeKey("a", 1),
+        new OCompositeKey("a", new OAlwaysGreaterKey()), new OCompositeKey("ab", Integer.MIN_VALUE), new OCompositeKey("b", 0) };
+
+    for (int i = 0; i < keys.length; i++) {
+      for (int j = 0; j < keys.length; j++) {
+        if (i == j)
+          continue;
+
+        Assert.assertEquals(Integer.signum(ODefaultComparator.INSTANCE.compare(keys[i], keys[j])),
+            Integer.signum(compare(normalizer.normalize(keys[i]), normalizer.normalize(keys[j]))));
+      }
+    }
+
+    final OCompositeKey key = new OCompositeKey("key", 42);
+    Assert.assertEquals(key, normalizer.denormalize(normalizer.normalize(key)));
+
+    // partial key is a prefix of the full key, so they are equal in terms of comparison of the common part
+    final byte[] partialKey = normalizer.normalize(new OCompositeKey("key"));
+    Assert.assertEquals(partialKey.length,
+        OSBTreeKeyNormalizer.commonPrefixLength(partialKey, normalizer.normalize(key), Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void testNotNormalizedKeys() {
+    Assert.assertNull(OSBTreeKeyNormalizer.create(OCompositeKeySerializer.INSTANCE, null, 2));
+    Assert.assertNull(OSBTreeKeyNormalizer.create(OCompositeKeySerializer.INSTANCE, new OType[] { OType.STRING, OType.DOUBLE }, 2));
+
+    final OSBTreeKeyNormalizer normalizer = OSBTreeKeyNormalizer.create(OStringSerializer.INSTANCE, null, 1);
+    Assert.assertNull(normalizer.normalize(12));
+  }
+
+  private static String randomString(Random random) {
+    final int length = random.nextInt(16);
+    final StringBuilder builder = new StringBuilder();
+
+    for (int i = 0; i < length; i++) {
+      final int kind = random.nextInt(4);
+      if (kind == 0)
+        builder.append((char) ('a' + random.nextInt(3)));
+      else if (kind == 1)
+        builder.append((char) random.nextInt(0x100));
+      else if (kind == 2)
+        builder.append((char) random.nextInt(0x10000));
+      else
+        builder.append((char) 0);
+    }
+
+    return builder.toString();
+  }
+
+  private static int compare(byte[] first, byte[] second) {
+    final int length = Math.min(first.length, second.length);
+    for (int i = 0; i < length; i++) {
+      final int result = (first[i] & 0xFF) - (second[i] & 0xFF);
+      if (result != 0)
+        return result;
+    }
+
+    return first.length - second.length;
+  }
+}
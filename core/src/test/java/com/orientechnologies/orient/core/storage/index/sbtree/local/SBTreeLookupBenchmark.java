@@ -0,0 +1,94 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.local;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Measures throughput of point lookups in {@link OSBTree} with string and composite keys.
+ * <p>
+ * Keys have long common prefix, so every comparison during binary search inside of the bucket has to check most of the key.
+ */
+public class SBTreeLookupBenchmark {
+  private static final int  KEYS_COUNT = 500000;
+  private static final int  ROUNDS     = 5;
+  private static final long DURATION   = 3000;
+
+  public static void main(String[] args) {
+    final String buildDirectory =
+        System.getProperty("buildDirectory", ".") + File.separator + SBTreeLookupBenchmark.class.getSimpleName();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+
+    final OrientDB orientDB = new OrientDB("plocal:" + buildDirectory, OrientDBConfig.defaultConfig());
+    orientDB.create("sbTreeLookupBenchmark", ODatabaseType.PLOCAL);
+
+    try (ODatabaseSession session = orientDB.open("sbTreeLookupBenchmark", "admin", "admin")) {
+      final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) ((ODatabaseInternal) session).getStorage();
+
+      measure("string", storage, OStringSerializer.INSTANCE, null, SBTreeLookupBenchmark::stringKey);
+      measure("composite", storage, OCompositeKeySerializer.INSTANCE, new OType[] { OType.STRING, OType.INTEGER },
+          number -> new OCompositeKey(stringKey(number / 10), number % 10));
+    } finally {
+      orientDB.drop("sbTreeLookupBenchmark");
+      orientDB.close();
+    }
+  }
+
+  private static <K> void measure(String name, OAbstractPaginatedStorage storage, OBinarySerializer<K> keySerializer,
+      OType[] keyTypes, IntFunction<K> keyFactory) {
+    final OSBTree<K, OIdentifiable> sbTree = new OSBTree<>(name, ".sbt", ".nbt", storage);
+    sbTree.create(keySerializer, OLinkSerializer.INSTANCE, keyTypes, keyTypes == null ? 1 : keyTypes.length, false, null);
+
+    final List<K> keys = new ArrayList<>();
+    for (int i = 0; i < KEYS_COUNT; i++) {
+      keys.add(keyFactory.apply(i));
+    }
+    Collections.shuffle(keys, new Random(42));
+
+    for (int i = 0; i < KEYS_COUNT; i++) {
+      sbTree.put(keys.get(i), new ORecordId(1, i));
+    }
+
+    for (int round = 0; round < ROUNDS; round++) {
+      final long start = System.nanoTime();
+      final long end = start + DURATION * 1000000;
+
+      long lookups = 0;
+      long now;
+      do {
+        for (int i = 0; i < 10000; i++) {
+          if (sbTree.get(keys.get((int) ((lookups + i) % KEYS_COUNT))) == null)
+            throw new IllegalStateException("Key is absent");
+        }
+        lookups += 10000;
+      } while ((now = System.nanoTime()) < end);
+
+      System.out.printf("%10s round %d: %,12d lookups per second%n", name, round, lookups * 1000000000L / (now - start));
+    }
+
+    sbTree.delete();
+  }
+
+  private static String stringKey(int number) {
+    return "benchmark.key.with.a.long.common.prefix." + number;
+  }
+}
@@ -0,0 +1,142 @@
+package com.orientechnologies.orient.enterprise.channel.binary;
+
+import com.orientechnologies.orient.core.compression.impl.OLZ4Compression;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class OChannelCompressedStreamTest {
+  private static final int THRESHOLD = 1024;
+
+  @Test
+  public void testContentLargerThanFrame() throws IOException {
+    final byte[] content = lowEntropy(3 * OChannelCompressedOutputStream.FRAME_SIZE + 1000, 46);
+
+    final ByteArrayOutputStream network = new ByteArrayOutputStream();
+    final OChannelCompressedOutputStream out = new OChannelCompressedOutputStream(network, OLZ4Compression.INSTANCE, THRESHOLD);
+    // WRITTEN BOTH BY SINGLE BYTES AND BY CHUNKS CROSSING THE FRAMES
+    for (int i = 0; i < 100; i++)
+      out.write(content[i]);
+    out.write(content, 100, content.length - 100);
+    out.flush();
+
+    final List<Integer> headers = readHeaders(network.toByteArray());
+    Assert.assertEquals(4, headers.size());
+    for (int i = 0; i < 3; i++)
+      Assert.assertTrue(headers.get(i) < 0);
+    Assert.assertEquals(content.length, out.getUncompressedBytes());
+    Assert.assertEquals(network.size(), out.getCompressedBytes());
+
+    final OChannelCompressedInputStream in = new OChannelCompressedInputStream(new ByteArrayInputStream(network.toByteArray()),
+        OLZ4Compression.INSTANCE);
+    final byte[] read = new byte[content.length];
+    new DataInputStream(in).readFully(read);
+    Assert.assertArrayEquals(content, read);
+    Assert.assertEquals(-1, in.read());
+    Assert.assertEquals(content.length, in.getUncompressedBytes());
+    Assert.assertEquals(network.size(), in.getCompressedBytes());
+  }
+
+  @Test
+  public void testThreshold() throws IOException {
+    final ByteArrayOutputStream network = new ByteArrayOutputStream();
+    final OChannelCompressedOutputStream out = new OChannelCompressedOutputStream(network, OLZ4Compression.INSTANCE, THRESHOLD);
+    out.write(new byte[THRESHOLD - 1]);
+    out.flush();
+    out.write(new byte[THRESHOLD]);
+    out.flush();
+    // NOTHING IS WRITTEN FOR AN EMPTY FRAME
+    out.flush();
+
+    final List<Integer> headers = readHeaders(network.toByteArray());
+    Assert.assertEquals(2, headers.size());
+    Assert.assertEquals(THRESHOLD - 1, (int) headers.get(0));
+    Assert.assertTrue(headers.get(1) < 0);
+
+    assertReadBack(network.toByteArray(), new byte[2 * THRESHOLD - 1]);
+  }
+
+  @Test
+  public void testFrameNotShrunk() throws IOException {
+    final byte[] content = new byte[10_000];
+    new Random(47).nextBytes(content);
+
+    final ByteArrayOutputStream network = new ByteArrayOutputStream();
+    final OChannelCompressedOutputStream out = new OChannelCompressedOutputStream(network, OLZ4Compression.INSTANCE, THRESHOLD);
+    out.write(content);
+    out.flush();
+
+    final List<Integer> headers = readHeaders(network.toByteArray());
+    Assert.assertEquals(1, headers.size());
+    Assert.assertEquals(content.length, (int) headers.get(0));
+    Assert.assertTrue(out.getCompressionTime() > 0);
+
+    assertReadBack(network.toByteArray(), content);
+  }
+
+  @Test
+  public void testFrameLargerThanMax() throws IOException {
+    // COMPRESSED FRAME OF FEW BYTES WHICH DECLARES 2GB ONCE UNCOMPRESSED
+    final byte[] network = new byte[] { -1, -1, -1, -5, 0x7F, -1, -1, -1, 0 };
+    assertInvalid(network);
+
+    // UNCOMPRESSED FRAME LARGER THAN THE BUFFER
+    assertInvalid(new byte[] { 0x7F, -1, -1, -1, 0 });
+  }
+
+  @Test
+  public void testEmptyCompressedFrame() throws IOException {
+    final byte[] compressed = OLZ4Compression.INSTANCE.compress(new byte[0]);
+    final byte[] network = new byte[4 + compressed.length];
+    network[0] = network[1] = network[2] = -1;
+    network[3] = (byte) -compressed.length;
+    System.arraycopy(compressed, 0, network, 4, compressed.length);
+    assertInvalid(network);
+  }
+
+  private static void assertInvalid(final byte[] network) {
+    final OChannelCompressedInputStream in = new OChannelCompressedInputStream(new ByteArrayInputStream(network),
+        OLZ4Compression.INSTANCE);
+    try {
+      in.read();
+      Assert.fail();
+    } catch (IOException e) {
+      // EXPECTED
+    }
+  }
+
+  private static void assertReadBack(final byte[] network, final byte[] content) throws IOException {
+    final OChannelCompressedInputStream in = new OChannelCompressedInputStream(new ByteArrayInputStream(network),
+        OLZ4Compression.INSTANCE);
+    final byte[] read = new byte[content.length];
+    new DataInputStream(in).readFully(read);
+    Assert.assertArrayEquals(content, read);
+    Assert.assertEquals(-1, in.read());
+  }
+
+  private static List<Integer> readHeaders(final byte[] network) throws IOException {
+    final DataInputStream in = new DataInputStream(new ByteArrayInputStream(network));
+    final List<Integer> headers = new ArrayList<Integer>();
+    while (in.available() > 0) {
+      final int header = in.readInt();
+      headers.add(header);
+      in.skipBytes(Math.abs(header));
+    }
+    return headers;
+  }
+
+  private static byte[] lowEntropy(final int length, final long seed) {
+    final Random random = new Random(seed);
+    final byte[] content = new byte[length];
+    for (int i = 0; i < content.length; i++)
+      content[i] = (byte) random.nextInt(4);
+    return content;
+  }
+}
@@ -20,9 +20,11 @@ package com.orientechnologies.orient.etl.loader;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabasePool;
 import com.orientechnologies.orient.core.db.ODatabaseType;
 import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.document.OBulkRecordInserter;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.exception.OConfigurationException;
 import com.orientechnologies.orient.core.exception.OSchemaException;
@@ -34,6 +36,7 @@ import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import com.orientechnologies.orient.etl.OETLPipeline;
 import com.orientechnologies.orient.etl.context.OETLContextWrapper;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -74,6 +77,10 @@ public class OETLOrientDBLoader extends OETLAbstractLoader implements OETLLoader
   private boolean    wal                        = true;
   private boolean    txUseLog                   = false;
   private boolean    skipDuplicates             = false;
+  private boolean    bulkInsert                 = false;
+  private int        bulkInsertBatchSize        = OBulkRecordInserter.DEFAULT_BATCH_SIZE;
+
+  private final List<ODocument> bulkDocuments = new ArrayList<>();
 
   public OETLOrientDBLoader() {
   }
@@ -120,7 +127,9 @@ public class OETLOrientDBLoader extends OETLAbstractLoader implements OETLLoader
         doc.setClassName(className);
       }
 
-      if (clusterName != null) {
+      if (bulkInsert && !tx) {
+        bulkLoad(db, doc);
+      } else if (clusterName != null) {
         db.save(doc, clusterName);
       } else {
         db.save(doc);
@@ -149,6 +158,32 @@ public class OETLOrientDBLoader extends OETLAbstractLoader implements OETLLoader
     }
   }
 
+  /**
+   * Collects documents loaded by all workers and inserts them in batches, bypassing record hooks.
+   */
+  private void bulkLoad(ODatabaseDocument db, ODocument doc) {
+    final List<ODocument> batch;
+    synchronized (bulkDocuments) {
+      bulkDocuments.add(doc);
+      if (bulkDocuments.size() < bulkInsertBatchSize)
+        return;
+
+      batch = new ArrayList<>(bulkDocuments);
+      bulkDocuments.clear();
+    }
+
+    bulkInsert(db, batch);
+  }
+
+  private void bulkInsert(ODatabaseDocument db, List<ODocument> batch) {
+    final OBulkRecordInserter inserter = new OBulkRecordInserter((ODatabaseDocumentInternal) db, batch.size());
+    for (ODocument doc : batch)
+      inserter.insert(doc, clusterName);
+
+    inserter.flush();
+    log(Level.FINE, "inserted batch of %d documents", batch.size());
+  }
+
   private void autoCreateProperties(ODatabaseDocument db, Object input) {
     if (dbType == DOCUMENT && input instanceof ODocument) {
       autoCreatePropertiesOnDocument(db, (ODocument) input);
@@ -330,6 +365,8 @@ public class OETLOrientDBLoader extends OETLAbstractLoader implements OETLLoader
         + "{dbAutoCreateProperties:{optional:true,description:'Auto create properties in schema'}},"
         + "{dbAutoDropIfExists:{optional:true,description:'Auto drop the database if already exists. Default is false.'}},"
         + "{batchCommit:{optional:true,description:'Auto commit every X items. This speed up creation of edges.'}},"
+        + "{bulkInsert:{optional:true,description:'Insert documents in batches without calling of record hooks, ignored in transaction mode. Default is false'}},"
+        + "{bulkInsertBatchSize:{optional:true,description:'Amount of documents inserted at once in bulk insert mode. Default is 1000'}},"
         + "{wal:{optional:true,description:'Use the WAL (Write Ahead Log)'}},"
         + "{useLightweightEdges:{optional:true,description:'Enable/Disable LightweightEdges in Graphs. Default is false'}},"
         + "{standardElementConstraints:{optional:true,description:'Enable/Disable Standard Blueprints constraints on names. Default is true'}},"
@@ -367,6 +404,10 @@ public class OETLOrientDBLoader extends OETLAbstractLoader implements OETLLoader
       txUseLog = conf.<Boolean>field("txUseLog");
     if (conf.containsField("batchCommit"))
       batchCommitSize = conf.<Integer>field("batchCommit");
+    if (conf.containsField("bulkInsert"))
+      bulkInsert = conf.<Boolean>field("bulkInsert");
+    if (conf.containsField("bulkInsertBatchSize"))
+      bulkInsertBatchSize = conf.<Integer>field("bulkInsertBatchSize");
     if (conf.containsField("dbAutoCreate"))
       dbAutoCreate = conf.<Boolean>field("dbAutoCreate");
     if (conf.containsField("dbAutoDropIfExists"))
@@ -563,6 +604,21 @@ public class OETLOrientDBLoader extends OETLAbstractLoader implements OETLLoader
 
   @Override
   public void end() {
+    final List<ODocument> batch;
+    synchronized (bulkDocuments) {
+      batch = new ArrayList<>(bulkDocuments);
+      bulkDocuments.clear();
+    }
+
+    if (!batch.isEmpty()) {
+      final ODatabaseDocument db = pool.acquire();
+      try {
+        db.activateOnCurrentThread();
+        bulkInsert(db, batch);
+      } finally {
+        db.close();
+      }
+    }
   }
 
   @Override
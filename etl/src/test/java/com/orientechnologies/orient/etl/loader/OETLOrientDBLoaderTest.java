@@ -28,7 +28,9 @@ import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 import com.orientechnologies.orient.etl.OETLBaseTest;
 import org.junit.Test;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -137,6 +139,35 @@ public class OETLOrientDBLoaderTest extends OETLBaseTest {
     db.close();
   }
 
+  @Test
+  public void shouldBulkInsertDocuments() {
+    final StringBuilder content = new StringBuilder("name,surname,@class");
+    for (int i = 0; i < 25; i++)
+      content.append("\nJay").append(i).append(",Miner,Person");
+
+    configure("{source: { content: { value: '" + content + "' } }, extractor : { csv: {} }, loader: { orientdb: {\n"
+        + "      dbURL: 'memory:" + name.getMethodName() + "',\n" + "      dbUser: \"admin\",\n" + "      dbPassword: \"admin\",\n"
+        + "      dbAutoCreate: true,\n      tx: false,\n" + "      bulkInsert: true,\n      bulkInsertBatchSize: 10,\n"
+        + "      dbType: \"document\" , \"classes\": [\n" + "        {\n" + "          \"name\": \"Person\"\n" + "        }\n"
+        + "      ]      } } }");
+
+    proc.execute();
+
+    ODatabaseDocument db = proc.getLoader().getPool().acquire();
+
+    List<ODocument> res = db.query(new OSQLSynchQuery<ODocument>("SELECT FROM Person ORDER BY name"));
+
+    assertThat(res.size()).isEqualTo(25);
+    final Set<String> names = new HashSet<>();
+    for (ODocument document : res) {
+      assertThat(document.getIdentity().isPersistent()).isTrue();
+      names.add(document.field("name"));
+    }
+    assertThat(names).hasSize(25).contains("Jay0", "Jay24");
+
+    db.close();
+  }
+
   @Test
   public void shouldSaveDocuments() {
 
@@ -214,6 +214,7 @@ public class OClientConnection {
 
     stats.lastCommandInfo = data.commandInfo;
     stats.lastCommandDetail = data.commandDetail;
+    updateCompressionStats();
 
     data.commandDetail = "-";
     release();
@@ -315,6 +316,21 @@ public class OClientConnection {
     stats.lastCommandReceived = System.currentTimeMillis();
   }
 
+  private void updateCompressionStats() {
+    final ONetworkProtocol protocol = this.protocol;
+    if (protocol == null || !(protocol.getChannel() instanceof OChannelBinary))
+      return;
+
+    final OChannelBinary channel = (OChannelBinary) protocol.getChannel();
+    if (channel.getCompression() != null) {
+      stats.compression = channel.getCompression().name();
+      stats.compressionUncompressedBytes = channel.getCompressionUncompressedBytes();
+      stats.compressionCompressedBytes = channel.getCompressionCompressedBytes();
+      stats.compressionTime = channel.getCompressionTime();
+    } else
+      stats.compression = null;
+  }
+
   public void setDisconnectOnAfter(boolean disconnectOnAfter) {
     this.disconnectOnAfter = disconnectOnAfter;
   }
@@ -385,6 +385,10 @@ public class OClientConnectionManager {
         continue;
 
       final ONetworkProtocolBinary p = (ONetworkProtocolBinary) c.getProtocol();
+      if (p.isRequestIdsEnabled())
+        // PIPELINED CONNECTION: THE CLIENT WOULD READ THE CONFIGURATION AS THE RESPONSE OF A REQUEST
+        continue;
+
       final OChannelBinary channel = p.getChannel();
       final ORecordSerializer ser = ORecordSerializerFactory.instance().getFormat(c.getData().getSerializationImpl());
       if (ser == null)
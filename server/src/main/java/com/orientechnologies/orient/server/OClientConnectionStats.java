@@ -5,14 +5,28 @@ package com.orientechnologies.orient.server;
  */
 public class OClientConnectionStats {
 
-  public int                 totalRequests             = 0;
-  public String              lastCommandInfo           = null;
-  public String              lastCommandDetail         = null;
-  public long                lastCommandExecutionTime  = 0;
-  public long                lastCommandReceived       = 0;
-  public String              lastDatabase              = null;
-  public String              lastUser                  = null;
-  public long                totalCommandExecutionTime = 0;
+  public int    totalRequests                = 0;
+  public String lastCommandInfo              = null;
+  public String lastCommandDetail            = null;
+  public long   lastCommandExecutionTime     = 0;
+  public long   lastCommandReceived          = 0;
+  public String lastDatabase                 = null;
+  public String lastUser                     = null;
+  public long   totalCommandExecutionTime    = 0;
 
+  // COMPRESSION OF THE NETWORK CHANNEL WHICH SERVED THE LAST REQUEST, NULL IF NOT COMPRESSED
+  public String compression                  = null;
+  public long   compressionUncompressedBytes = 0;
+  public long   compressionCompressedBytes   = 0;
+  public long   compressionTime              = 0; // IN NANOSECONDS
 
+  /**
+   * @return ratio between the bytes sent and received before compression and the bytes transferred on the network, 1 if the
+   * channel is not compressed.
+   */
+  public double getCompressionRatio() {
+    return compression != null && compressionCompressedBytes > 0 ?
+        (double) compressionUncompressedBytes / compressionCompressedBytes :
+        1;
+  }
 }
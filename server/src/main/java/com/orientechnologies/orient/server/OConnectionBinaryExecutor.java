@@ -272,7 +272,8 @@ public final class OConnectionBinaryExecutor implements OBinaryRequestExecutor {
       final ORecord record = connection.getDatabase()
           .load(rid, fetchPlanString, ignoreCache, loadTombstones, OStorage.LOCKING_STRATEGY.NONE);
       if (record != null) {
-        byte[] bytes = getRecordBytes(connection, record);
+        final boolean storageFormat = isStorageFormatAccepted(record);
+        byte[] bytes = storageFormat ? record.toStream() : getRecordBytes(connection, record);
         final Set<ORecord> recordsToSend = new HashSet<ORecord>();
         if (record != null) {
           if (fetchPlanString.length() > 0) {
@@ -294,7 +295,8 @@ public final class OConnectionBinaryExecutor implements OBinaryRequestExecutor {
             }
           }
         }
-        response = new OReadRecordResponse(ORecordInternal.getRecordType(record), record.getVersion(), bytes, recordsToSend);
+        response = new OReadRecordResponse(ORecordInternal.getRecordType(record), record.getVersion(), bytes, recordsToSend,
+            storageFormat);
       } else {
         // No Record to send
         response = new OReadRecordResponse((byte) 0, 0, null, null);
@@ -333,7 +335,8 @@ public final class OConnectionBinaryExecutor implements OBinaryRequestExecutor {
       final ORecord record = connection.getDatabase().loadIfVersionIsNotLatest(rid, recordVersion, fetchPlanString, ignoreCache);
 
       if (record != null) {
-        byte[] bytes = getRecordBytes(connection, record);
+        final boolean storageFormat = isStorageFormatAccepted(record);
+        byte[] bytes = storageFormat ? record.toStream() : getRecordBytes(connection, record);
         final Set<ORecord> recordsToSend = new HashSet<ORecord>();
         if (fetchPlanString.length() > 0) {
           // BUILD THE SERVER SIDE RECORD TO ACCES TO THE FETCH
@@ -353,7 +356,7 @@ public final class OConnectionBinaryExecutor implements OBinaryRequestExecutor {
           }
         }
         response = new OReadRecordIfVersionIsNotLatestResponse(ORecordInternal.getRecordType(record), record.getVersion(), bytes,
-            recordsToSend);
+            recordsToSend, storageFormat);
       } else {
         response = new OReadRecordIfVersionIsNotLatestResponse((byte) 0, 0, null, null);
       }
@@ -1134,6 +1137,19 @@ public final class OConnectionBinaryExecutor implements OBinaryRequestExecutor {
     return new OSetGlobalConfigurationResponse();
   }
 
+  /**
+   * Checks whether a loaded document can be sent as it is stored, without the conversion to the format of the network, because the
+   * client of the connection which serves the request accepts the format of the storage.
+   */
+  private boolean isStorageFormatAccepted(final ORecord record) {
+    if (ORecordInternal.getRecordType(record) != ODocument.RECORD_TYPE || !(connection
+        .getProtocol() instanceof ONetworkProtocolBinary))
+      return false;
+
+    final String format = ((ONetworkProtocolBinary) connection.getProtocol()).getRecordStorageFormat();
+    return format != null && format.equals(connection.getDatabase().getSerializer().toString());
+  }
+
   public static byte[] getRecordBytes(OClientConnection connection, final ORecord iRecord) {
     final byte[] stream;
     String dbSerializerName = null;
@@ -102,6 +102,9 @@ public class OServerInfo {
       writeField(json, 2, "lastCommandDetail", stats.lastCommandDetail);
       writeField(json, 2, "lastExecutionTime", stats.lastCommandExecutionTime);
       writeField(json, 2, "totalWorkingTime", stats.totalCommandExecutionTime);
+      writeField(json, 2, "compression", stats.compression != null ? stats.compression : "-");
+      writeField(json, 2, "compressionRatio", stats.getCompressionRatio());
+      writeField(json, 2, "compressionTime", stats.compressionTime / 1000000);
       writeField(json, 2, "connectedOn", connectedOn);
       writeField(json, 2, "protocol", c.getProtocol().getType());
       writeField(json, 2, "sessionId", data.sessionId);
@@ -32,11 +32,14 @@ import com.orientechnologies.orient.server.config.OServerCommandConfiguration;
 import com.orientechnologies.orient.server.config.OServerParameterConfiguration;
 import com.orientechnologies.orient.server.network.protocol.OBeforeDatabaseOpenNetworkEventListener;
 import com.orientechnologies.orient.server.network.protocol.ONetworkProtocol;
+import com.orientechnologies.orient.server.network.protocol.binary.ONetworkBinaryNioDispatcher;
+import com.orientechnologies.orient.server.network.protocol.binary.ONetworkProtocolBinary;
 import com.orientechnologies.orient.server.network.protocol.http.command.OServerCommand;
 
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.net.*;
+import java.nio.channels.ServerSocketChannel;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -53,6 +56,7 @@ public class OServerNetworkListener extends Thread {
   private OServer                                       server;
   private int                                           protocolVersion = -1;
   private List<OBeforeDatabaseOpenNetworkEventListener> beforeDatabaseOpenNetworkEventListener = new ArrayList<OBeforeDatabaseOpenNetworkEventListener>();
+  private ONetworkBinaryNioDispatcher                   nioDispatcher;
 
   public OServerNetworkListener(final OServer iServer, final OServerSocketFactory iSocketFactory, final String iHostName,
       final String iHostPortRange, final String iProtocolName, final Class<? extends ONetworkProtocol> iProtocol,
@@ -73,10 +77,22 @@ public class OServerNetworkListener extends Thread {
       throw OException.wrapException(new ONetworkProtocolException(message), e);
     }
 
-    listen(iHostName, iHostPortRange, iProtocolName, iProtocol);
+    readParameters(iServer.getContextConfiguration(), iParameters);
+
+    final boolean nio = isNioSupported(iProtocol);
+    listen(iHostName, iHostPortRange, iProtocolName, iProtocol, nio);
     protocolType = iProtocol;
 
-    readParameters(iServer.getContextConfiguration(), iParameters);
+    if (nio) {
+      try {
+        nioDispatcher = new ONetworkBinaryNioDispatcher(server, iHostName + ":" + serverSocket.getLocalPort(),
+            configuration.getValueAsInteger(OGlobalConfiguration.NETWORK_BINARY_NIO_WORKERS),
+            configuration.getValueAsInteger(OGlobalConfiguration.NETWORK_BINARY_NIO_SHUTDOWN_TIMEOUT));
+      } catch (IOException e) {
+        throw OException.wrapException(new OSystemException("Cannot create selector for binary connections"), e);
+      }
+      nioDispatcher.start();
+    }
 
     if (iCommands != null) {
       for (int i = 0; i < iCommands.length; ++i) {
@@ -167,6 +183,9 @@ public class OServerNetworkListener extends Thread {
   public void shutdown() {
     this.active = false;
 
+    if (nioDispatcher != null)
+      nioDispatcher.shutdown();
+
     if (serverSocket != null)
       try {
         serverSocket.close();
@@ -178,6 +197,14 @@ public class OServerNetworkListener extends Thread {
     return active;
   }
 
+  /**
+   * @return dispatcher which serves the accepted binary connections or <code>null</code> if every connection is served by its own
+   * thread.
+   */
+  public ONetworkBinaryNioDispatcher getNioDispatcher() {
+    return nioDispatcher;
+  }
+
   @Override
   public void run() {
     try {
@@ -327,17 +354,30 @@ public class OServerNetworkListener extends Thread {
    * @param iHostName
    */
   private void listen(final String iHostName, final String iHostPortRange, final String iProtocolName,
-      Class<? extends ONetworkProtocol> protocolClass) {
+      Class<? extends ONetworkProtocol> protocolClass, final boolean nio) {
 
     for (int port : getPorts(iHostPortRange)) {
       inboundAddr = new InetSocketAddress(iHostName, port);
       try {
-        serverSocket = socketFactory.createServerSocket(port, 0, InetAddress.getByName(iHostName));
+        if (nio) {
+          // SOCKETS ACCEPTED BY THE CHANNEL'S SOCKET HAVE THEIR OWN CHANNEL WHICH CAN BE REGISTERED IN A SELECTOR
+          final ServerSocketChannel serverSocketChannel = ServerSocketChannel.open();
+          try {
+            serverSocketChannel.socket().bind(new InetSocketAddress(InetAddress.getByName(iHostName), port), 0);
+          } catch (IOException e) {
+            serverSocketChannel.close();
+            throw e;
+          }
+          serverSocket = serverSocketChannel.socket();
+        } else
+          serverSocket = socketFactory.createServerSocket(port, 0, InetAddress.getByName(iHostName));
 
         if (serverSocket.isBound()) {
           OLogManager.instance().info(this,
               "Listening $ANSI{green " + iProtocolName + "} connections on $ANSI{green " + inboundAddr.getAddress().getHostAddress()
-                  + ":" + inboundAddr.getPort() + "} (protocol v." + protocolVersion + ", socket=" + socketFactory.getName() + ")");
+                  + ":" + inboundAddr.getPort() + "} (protocol v." + protocolVersion + ", socket=" + socketFactory.getName() + (nio ?
+                  ", nio" :
+                  "") + ")");
 
           return;
         }
@@ -359,6 +399,20 @@ public class OServerNetworkListener extends Thread {
     throw new OSystemException("Unable to listen for connections using the configured ports '%s' on host '%s'");
   }
 
+  private boolean isNioSupported(final Class<? extends ONetworkProtocol> protocolClass) {
+    if (!configuration.getValueAsBoolean(OGlobalConfiguration.NETWORK_BINARY_NIO_ENABLED) || !ONetworkProtocolBinary.class
+        .isAssignableFrom(protocolClass))
+      return false;
+
+    if (socketFactory != OServerSocketFactory.getDefault()) {
+      OLogManager.instance().warn(this, "Socket factory '%s' does not support NIO, binary connections will be served by dedicated threads",
+          socketFactory.getName());
+      return false;
+    }
+
+    return true;
+  }
+
   /**
    * Initializes connection parameters by the reading XML configuration. If not specified, get the parameters defined as global
    * configuration.
@@ -0,0 +1,182 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.network.protocol.binary;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
+import com.orientechnologies.orient.server.OServer;
+
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves binary connections without a thread per connection. Idle connections are registered in a selector, once data arrive on
+ * the socket the connection is passed to the pool of worker threads which executes requests using the same blocking code of
+ * {@link ONetworkProtocolBinary}, so wire protocol is not changed. When there is no more data to read the connection is returned
+ * to the selector.
+ * <p>
+ * Channel can be switched to blocking mode only when it is not registered in any selector, so the selection key is cancelled and
+ * the channel is deregistered before the connection is passed to the worker.
+ */
+public class ONetworkBinaryNioDispatcher extends Thread {
+  private final Selector                       selector;
+  private final OThreadPoolExecutorWithLogging workers;
+  private final Queue<ONetworkProtocolBinary>  pending = new ConcurrentLinkedQueue<ONetworkProtocolBinary>();
+  private final long                           shutdownTimeout;
+  private volatile boolean                     active  = true;
+
+  public ONetworkBinaryNioDispatcher(final OServer server, final String name, final int workersCount, final long shutdownTimeout)
+      throws IOException {
+    super(server.getThreadGroup(), "OrientDB binary NIO dispatcher " + name);
+    setDaemon(true);
+
+    this.shutdownTimeout = shutdownTimeout;
+    selector = Selector.open();
+
+    final AtomicInteger workerCounter = new AtomicInteger();
+    workers = new OThreadPoolExecutorWithLogging(workersCount, workersCount, 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<Runnable>(), r -> {
+      final Thread thread = new Thread(server.getThreadGroup(), r,
+          "OrientDB binary NIO worker " + name + " #" + workerCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    workers.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Registers connection to wait for the next request, may be called from any thread.
+   */
+  public void register(final ONetworkProtocolBinary protocol) {
+    if (!active) {
+      protocol.shutdown();
+      return;
+    }
+
+    pending.add(protocol);
+    selector.wakeup();
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  /**
+   * Stops accepting requests and waits till the requests which are already executed by the workers are completed, so storages
+   * are not closed under them. Connections are closed once their requests are completed.
+   */
+  public void shutdown() {
+    active = false;
+    selector.wakeup();
+
+    workers.shutdown();
+    try {
+      if (!workers.awaitTermination(shutdownTimeout, TimeUnit.MILLISECONDS))
+        OLogManager.instance().warn(this, "Requests of binary connections were not completed in %d ms", shutdownTimeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void run() {
+    final List<ONetworkProtocolBinary> ready = new ArrayList<ONetworkProtocolBinary>();
+    try {
+      while (active) {
+        selector.select();
+        registerPending();
+
+        while (!selector.selectedKeys().isEmpty()) {
+          for (SelectionKey key : selector.selectedKeys()) {
+            key.cancel();
+            ready.add((ONetworkProtocolBinary) key.attachment());
+          }
+          selector.selectedKeys().clear();
+
+          // CANCELLED KEYS ARE REMOVED ON THE NEXT SELECTION, ONLY AFTER THAT CHANNELS CAN BE SWITCHED TO BLOCKING MODE
+          selector.selectNow();
+        }
+
+        for (ONetworkProtocolBinary protocol : ready)
+          dispatch(protocol);
+
+        ready.clear();
+      }
+    } catch (IOException | ClosedSelectorException e) {
+      if (active)
+        OLogManager.instance().error(this, "Error on selection of binary connections", e);
+    } finally {
+      close();
+    }
+  }
+
+  private void registerPending() {
+    ONetworkProtocolBinary protocol;
+    while ((protocol = pending.poll()) != null) {
+      try {
+        final SocketChannel socketChannel = protocol.getChannel().socket.getChannel();
+        socketChannel.configureBlocking(false);
+        socketChannel.register(selector, SelectionKey.OP_READ, protocol);
+      } catch (IOException | RuntimeException e) {
+        OLogManager.instance().debug(this, "Error on registration of binary connection %s", e, protocol);
+        protocol.shutdown();
+      }
+    }
+  }
+
+  private void dispatch(final ONetworkProtocolBinary protocol) {
+    try {
+      protocol.getChannel().socket.getChannel().configureBlocking(true);
+      workers.execute(() -> protocol.executeAvailableRequests(this));
+    } catch (IOException | RejectedExecutionException e) {
+      OLogManager.instance().debug(this, "Error on dispatching of binary connection %s", e, protocol);
+      protocol.shutdown();
+    }
+  }
+
+  private void close() {
+    active = false;
+    workers.shutdown();
+
+    try {
+      for (SelectionKey key : selector.keys())
+        ((ONetworkProtocolBinary) key.attachment()).shutdown();
+
+      selector.close();
+    } catch (IOException | ClosedSelectorException e) {
+      OLogManager.instance().debug(this, "Error on closing of selector", e);
+    }
+
+    ONetworkProtocolBinary protocol;
+    while ((protocol = pending.poll()) != null)
+      protocol.shutdown();
+  }
+}
@@ -30,6 +30,8 @@ import com.orientechnologies.orient.client.remote.OBinaryRequest;
 import com.orientechnologies.orient.client.remote.OBinaryResponse;
 import com.orientechnologies.orient.client.remote.message.*;
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
@@ -67,8 +69,11 @@ import java.io.PrintStream;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.function.Function;
@@ -84,6 +89,11 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
   private boolean tokenConnection = true;
   private long    requests        = 0;
   private          HandshakeInfo       handshakeInfo;
+  private          Set<String>         acceptedCompressions = Collections.emptySet();
+  private          boolean             recordStorageFormatEnabled;
+  private volatile String              recordStorageFormat;
+  private volatile boolean             requestIds;
+  private          int                 requestId;
   private volatile OBinaryPushResponse expectedPushResponse;
   private BlockingQueue<OBinaryPushResponse> pushResponse = new SynchronousQueue<OBinaryPushResponse>();
 
@@ -115,12 +125,20 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
 
     OChannelBinaryServer channel = new OChannelBinaryServer(iSocket, iConfig);
     initVariables(iServer, channel);
+    acceptedCompressions = parseCompressions(iConfig.getValueAsString(OGlobalConfiguration.NETWORK_BINARY_COMPRESSION));
+    recordStorageFormatEnabled = iConfig.getValueAsBoolean(OGlobalConfiguration.NETWORK_BINARY_RECORD_STORAGE_FORMAT);
 
     // SEND PROTOCOL VERSION
     channel.writeShort((short) getVersion());
 
     channel.flush();
-    start();
+
+    final ONetworkBinaryNioDispatcher nioDispatcher = iListener != null ? iListener.getNioDispatcher() : null;
+    if (nioDispatcher != null && iSocket.getChannel() != null)
+      nioDispatcher.register(this);
+    else
+      start();
+
     setName("OrientDB (" + iSocket.getLocalSocketAddress() + ") <- BinaryClient (" + iSocket.getRemoteSocketAddress() + ")");
   }
 
@@ -135,6 +153,15 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
     channel.close();
   }
 
+  private static Set<String> parseCompressions(final String compressions) {
+    final Set<String> result = new HashSet<String>();
+    if (compressions != null)
+      for (String compression : compressions.split(","))
+        if (!compression.trim().isEmpty())
+          result.add(compression.trim());
+    return result;
+  }
+
   private boolean isHandshaking(int requestType) {
     return requestType == OChannelBinaryProtocol.REQUEST_CONNECT || requestType == OChannelBinaryProtocol.REQUEST_DB_OPEN
         || requestType == OChannelBinaryProtocol.REQUEST_SHUTDOWN || requestType == OChannelBinaryProtocol.REQUEST_DB_REOPEN
@@ -160,6 +187,8 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
     clientTxId = 0;
     okSent = false;
     try {
+      if (requestIds)
+        requestId = channel.readInt();
       requestType = channel.readByte();
 
       if (server.rejectRequests()) {
@@ -178,6 +207,19 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
       }
 
       clientTxId = channel.readInt();
+      if (requestType == OChannelBinaryProtocol.REQUEST_COMPRESSION) {
+        handleCompression();
+        return;
+      }
+      if (requestType == OChannelBinaryProtocol.REQUEST_RECORD_STORAGE_FORMAT) {
+        handleRecordStorageFormat();
+        return;
+      }
+      if (requestType == OChannelBinaryProtocol.REQUEST_PIPELINING) {
+        handlePipelining();
+        return;
+      }
+
       // GET THE CONNECTION IF EXIST
       OClientConnection connection = server.getClientConnectionManager().getConnection(clientTxId, this);
       if (isDistributed(requestType)) {
@@ -191,6 +233,34 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
     }
   }
 
+  /**
+   * Executes by the current thread the requests which are available on the channel, used instead of the connection thread when
+   * the connection is served by {@link ONetworkBinaryNioDispatcher}. Connection is returned to the dispatcher once there is no more
+   * data to read.
+   */
+  void executeAvailableRequests(final ONetworkBinaryNioDispatcher dispatcher) {
+    try {
+      do {
+        try {
+          execute();
+        } catch (Exception e) {
+          if (isDumpExceptions())
+            OLogManager.instance().error(this, "Error during request execution", e);
+        }
+      } while (!isShutdownFlag() && channel.inStream.available() > 0);
+    } catch (IOException e) {
+      sendShutdown();
+    } finally {
+      // WORKER THREAD IS SHARED BY ALL THE CONNECTIONS
+      Thread.interrupted();
+    }
+
+    if (isShutdownFlag())
+      shutdown();
+    else
+      dispatcher.register(this);
+  }
+
   private void handleHandshake() throws IOException {
     short protocolVersion = channel.readShort();
     String driverName = channel.readString();
@@ -202,6 +272,94 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
     this.factory = ONetworkBinaryProtocolFactory.matchProtocol(protocolVersion);
   }
 
+  /**
+   * Answers the request of compression of the frames of the connection with the accepted compression, or null if it is not
+   * accepted, and switches the channel to the compressed frames just after the answer.
+   */
+  private void handleCompression() throws IOException {
+    final String compressionName = channel.readString();
+    final int threshold = channel.readInt();
+
+    final OCompression compression = acceptedCompressions.contains(compressionName) && OCompressionFactory.INSTANCE
+        .getCompressions().contains(compressionName) ? OCompressionFactory.INSTANCE.getCompression(compressionName, null) : null;
+
+    channel.acquireWriteLock();
+    try {
+      writeRequestId();
+      channel.writeByte(OChannelBinaryProtocol.RESPONSE_STATUS_OK);
+      channel.writeInt(clientTxId);
+      channel.writeString(compression != null ? compression.name() : null);
+      channel.flush();
+
+      if (compression != null)
+        channel.enableCompression(compression, threshold);
+    } finally {
+      channel.releaseWriteLock();
+    }
+  }
+
+  /**
+   * Answers whether the loaded records are sent in the requested format when the storage uses it, see
+   * {@link OConnectionBinaryExecutor#executeReadRecord(OReadRecordRequest)}.
+   */
+  private void handleRecordStorageFormat() throws IOException {
+    final String format = channel.readString();
+    final boolean accepted = recordStorageFormatEnabled && ORecordSerializerFactory.instance().getFormat(format) != null;
+    recordStorageFormat = accepted ? format : null;
+
+    channel.acquireWriteLock();
+    try {
+      writeRequestId();
+      channel.writeByte(OChannelBinaryProtocol.RESPONSE_STATUS_OK);
+      channel.writeInt(clientTxId);
+      channel.writeBoolean(accepted);
+      channel.flush();
+    } finally {
+      channel.releaseWriteLock();
+    }
+  }
+
+  /**
+   * Accepts the request of the client to send an id before each request of the connection, which is sent back before its
+   * response. The client pipelines the requests of several threads over the connection and matches the responses by the id.
+   */
+  private void handlePipelining() throws IOException {
+    channel.acquireWriteLock();
+    try {
+      writeRequestId();
+      channel.writeByte(OChannelBinaryProtocol.RESPONSE_STATUS_OK);
+      channel.writeInt(clientTxId);
+      channel.writeBoolean(true);
+      channel.flush();
+    } finally {
+      channel.releaseWriteLock();
+    }
+    requestIds = true;
+  }
+
+  /**
+   * @return true if the client of this connection sends an id with each request, see {@link #handlePipelining()}
+   */
+  public boolean isRequestIdsEnabled() {
+    return requestIds;
+  }
+
+  /**
+   * Writes the id of the request being answered, when the client sends the ids.
+   */
+  private void writeRequestId() throws IOException {
+    if (requestIds)
+      channel.writeInt(requestId);
+  }
+
+  /**
+   * @return the format of the storage in which the client of this connection accepts the loaded records, or null if the client
+   * accepts only the format of the network.
+   */
+  public String getRecordStorageFormat() {
+    return recordStorageFormat;
+  }
+
   public void setHandshakeInfo(HandshakeInfo handshakeInfo) {
     this.handshakeInfo = handshakeInfo;
   }
@@ -580,6 +738,7 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
     channel.acquireWriteLock();
     try {
 
+      writeRequestId();
       channel.writeByte(OChannelBinaryProtocol.RESPONSE_STATUS_ERROR);
       channel.writeInt(iClientTxId);
       if (handshakeInfo != null) {
@@ -691,6 +850,7 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
   }
 
   protected void sendOk(OClientConnection connection, final int iClientTxId) throws IOException {
+    writeRequestId();
     channel.writeByte(OChannelBinaryProtocol.RESPONSE_STATUS_OK);
     channel.writeInt(iClientTxId);
     okSent = true;
@@ -0,0 +1,92 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.server.OServer;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * Opens given amount of idle binary connections to the server which serves connections by dedicated threads and by NIO dispatcher,
+ * and measures threads and heap used by the server and throughput of requests of single active session.
+ * <p>
+ * Client and server run in the same JVM, so limit of open files should be at least twice bigger than the amount of connections.
+ * Amounts of connections can be passed as arguments, default are 1000 and 10000.
+ */
+public class BinaryConnectionScalingBenchmark {
+  private static final String SERVER_DIRECTORY = "./target/connectionScaling";
+  private static final int    REQUESTS         = 5_000;
+  private static final int    WORKERS          = 32;
+
+  public static void main(String[] args) throws Exception {
+    OLogManager.instance().setConsoleLevel(Level.WARNING.getName());
+
+    final int[] connections = args.length > 0 ? new int[args.length] : new int[] { 1_000, 10_000 };
+    for (int i = 0; i < args.length; i++)
+      connections[i] = Integer.parseInt(args[i]);
+
+    System.out.printf("%8s %12s %15s %13s %20s%n", "mode", "connections", "server threads", "heap used MB", "requests per second");
+    for (int count : connections) {
+      run(false, count);
+      run(true, count);
+    }
+  }
+
+  private static void run(boolean nio, int connections) throws Exception {
+    final OServer server = new OServer(false);
+    server.setServerRootDirectory(SERVER_DIRECTORY);
+    server.startup(ONetworkBinaryNioTest.createConfiguration(nio, WORKERS));
+    server.activate();
+
+    final List<Socket> sockets = new ArrayList<Socket>(connections);
+    try {
+      for (int i = 0; i < connections; i++) {
+        final Socket socket = new Socket("localhost", 2424);
+        // WAIT FOR THE PROTOCOL VERSION, SO THE CONNECTION IS ACCEPTED BY THE SERVER
+        new DataInputStream(socket.getInputStream()).readShort();
+        sockets.add(socket);
+      }
+
+      System.gc();
+      final int threads = server.getThreadGroup().activeCount();
+      final long heapUsed = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+
+      final double throughput;
+      try (OrientDB orientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig())) {
+        orientDB.create(BinaryConnectionScalingBenchmark.class.getSimpleName(), ODatabaseType.MEMORY);
+        try (ODatabaseDocument session = orientDB
+            .open(BinaryConnectionScalingBenchmark.class.getSimpleName(), "admin", "admin")) {
+          final long start = System.nanoTime();
+          for (int i = 0; i < REQUESTS; i++) {
+            try (OResultSet result = session.query("select from OUser limit 1")) {
+              result.next();
+            }
+          }
+          throughput = REQUESTS * 1_000_000_000.0 / (System.nanoTime() - start);
+        }
+      }
+
+      System.out.printf("%8s %12d %15d %13d %20.0f%n", nio ? "nio" : "thread", connections, threads, heapUsed / (1024 * 1024),
+          throughput);
+    } finally {
+      for (Socket socket : sockets)
+        socket.close();
+
+      server.shutdown();
+      Orient.instance().shutdown();
+      OFileUtils.deleteRecursively(new File(SERVER_DIRECTORY));
+      Orient.instance().startup();
+    }
+  }
+}
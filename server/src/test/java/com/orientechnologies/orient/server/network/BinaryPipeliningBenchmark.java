@@ -0,0 +1,112 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.client.remote.ORemoteConnectionManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.*;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.server.OServer;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.logging.Level;
+
+/**
+ * Measures throughput of record loads done by many threads against the server on the loopback interface, when each request takes
+ * exclusive connection from the pool and when requests of all threads are pipelined over a few shared connections. Each thread
+ * waits for the response before sending the next request, so the workload is bound by the round trip latency.
+ * <p>
+ * Amounts of threads can be passed as arguments, default are 8, 32 and 128.
+ */
+public class BinaryPipeliningBenchmark {
+  private static final String SERVER_DIRECTORY = "./target/pipelining";
+  private static final int    REQUESTS         = 200_000;
+  private static final int    CONNECTIONS      = 2;
+
+  public static void main(String[] args) throws Exception {
+    OLogManager.instance().setConsoleLevel(Level.WARNING.getName());
+
+    final int[] threads = args.length > 0 ? new int[args.length] : new int[] { 8, 32, 128 };
+    for (int i = 0; i < args.length; i++)
+      threads[i] = Integer.parseInt(args[i]);
+
+    System.out.printf("%10s %8s %12s %20s%n", "mode", "threads", "connections", "requests per second");
+    for (int count : threads) {
+      run(false, count);
+      run(true, count);
+    }
+  }
+
+  private static void run(boolean pipelining, int threads) throws Exception {
+    OGlobalConfiguration.CLIENT_CHANNEL_PIPELINING.setValue(pipelining);
+    OGlobalConfiguration.CLIENT_CHANNEL_PIPELINING_CONNECTIONS.setValue(CONNECTIONS);
+    OGlobalConfiguration.CLIENT_CHANNEL_MAX_POOL.setValue(threads + 1);
+
+    final OServer server = new OServer(false);
+    server.setServerRootDirectory(SERVER_DIRECTORY);
+    server.startup(ONetworkBinaryNioTest.createConfiguration(false, 1));
+    server.activate();
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try (OrientDB orientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig())) {
+      final String name = BinaryPipeliningBenchmark.class.getSimpleName();
+      orientDB.create(name, ODatabaseType.MEMORY);
+
+      final ORID rid;
+      try (ODatabaseDocument session = orientDB.open(name, "admin", "admin")) {
+        final OElement element = session.newElement("V");
+        element.setProperty("name", "benchmark");
+        rid = element.save().getIdentity();
+      }
+
+      final List<ODatabaseDocument> sessions = new ArrayList<ODatabaseDocument>();
+      for (int i = 0; i < threads; i++)
+        sessions.add(orientDB.open(name, "admin", "admin"));
+
+      final CyclicBarrier barrier = new CyclicBarrier(threads + 1);
+      final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+      for (ODatabaseDocument session : sessions) {
+        futures.add(executor.submit(() -> {
+          session.activateOnCurrentThread();
+          barrier.await();
+          for (int i = 0; i < REQUESTS / threads; i++) {
+            session.getLocalCache().clear();
+            session.load(rid);
+          }
+          return null;
+        }));
+      }
+
+      barrier.await();
+      final long start = System.nanoTime();
+      for (Future<Void> future : futures)
+        future.get();
+      final double throughput = (REQUESTS / threads) * threads * 1_000_000_000.0 / (System.nanoTime() - start);
+
+      final ORemoteConnectionManager connectionManager = ((OrientDBRemote) OrientDBInternal.extract(orientDB))
+          .getConnectionManager();
+      int connections = pipelining ? CONNECTIONS : 0;
+      for (String url : connectionManager.getURLs())
+        connections += connectionManager.getCreatedInstancesInPool(url);
+
+      System.out.printf("%10s %8d %12d %20.0f%n", pipelining ? "pipelined" : "pool", threads, connections, throughput);
+
+      for (ODatabaseDocument session : sessions) {
+        session.activateOnCurrentThread();
+        session.close();
+      }
+    } finally {
+      executor.shutdown();
+      server.shutdown();
+      Orient.instance().shutdown();
+      OFileUtils.deleteRecursively(new File(SERVER_DIRECTORY));
+      Orient.instance().startup();
+    }
+  }
+}
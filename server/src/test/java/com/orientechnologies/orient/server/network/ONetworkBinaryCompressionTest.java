@@ -0,0 +1,125 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.compression.impl.OLZ4Compression;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.server.OClientConnection;
+import com.orientechnologies.orient.server.OClientConnectionStats;
+import com.orientechnologies.orient.server.OServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks that the frames of binary connections are compressed when requested by the client and accepted by the server.
+ */
+public class ONetworkBinaryCompressionTest {
+  private static final String SERVER_DIRECTORY = "./target/compression";
+
+  private OServer server;
+  private boolean backwardCompatibility;
+  private String  clientCompression;
+  private String  serverCompression;
+
+  @Before
+  public void before() throws Exception {
+    backwardCompatibility = OGlobalConfiguration.SERVER_BACKWARD_COMPATIBILITY.getValueAsBoolean();
+    OGlobalConfiguration.SERVER_BACKWARD_COMPATIBILITY.setValue(false);
+
+    clientCompression = OGlobalConfiguration.CLIENT_CHANNEL_COMPRESSION.getValueAsString();
+    serverCompression = OGlobalConfiguration.NETWORK_BINARY_COMPRESSION.getValueAsString();
+    OGlobalConfiguration.CLIENT_CHANNEL_COMPRESSION.setValue(OLZ4Compression.NAME);
+
+    server = new OServer(false);
+    server.setServerRootDirectory(SERVER_DIRECTORY);
+    server.startup(ONetworkBinaryNioTest.createConfiguration(true, 2));
+    server.activate();
+  }
+
+  @After
+  public void after() {
+    server.shutdown();
+
+    Orient.instance().shutdown();
+    OFileUtils.deleteRecursively(new File(SERVER_DIRECTORY));
+    Orient.instance().startup();
+
+    OGlobalConfiguration.SERVER_BACKWARD_COMPATIBILITY.setValue(backwardCompatibility);
+    OGlobalConfiguration.CLIENT_CHANNEL_COMPRESSION.setValue(clientCompression);
+    OGlobalConfiguration.NETWORK_BINARY_COMPRESSION.setValue(serverCompression);
+  }
+
+  @Test
+  public void testCompressedConnection() {
+    try (OrientDB orientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig())) {
+      orientDB.create(ONetworkBinaryCompressionTest.class.getSimpleName(), ODatabaseType.MEMORY);
+      final OClientConnectionStats stats = writeAndRead(orientDB);
+      Assert.assertEquals(OLZ4Compression.NAME, stats.compression);
+      Assert.assertTrue(stats.getCompressionRatio() > 2);
+      Assert.assertTrue(stats.compressionTime > 0);
+    }
+  }
+
+  @Test
+  public void testCompressionRefusedByServer() {
+    OGlobalConfiguration.NETWORK_BINARY_COMPRESSION.setValue("");
+
+    try (OrientDB orientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig())) {
+      orientDB.create(ONetworkBinaryCompressionTest.class.getSimpleName(), ODatabaseType.MEMORY);
+      final OClientConnectionStats stats = writeAndRead(orientDB);
+      Assert.assertNull(stats.compression);
+      Assert.assertEquals(1, stats.getCompressionRatio(), 0);
+    }
+  }
+
+  private OClientConnectionStats writeAndRead(OrientDB orientDB) {
+    final char[] payload = new char[100_000];
+    Arrays.fill(payload, 'a');
+
+    try (ODatabaseDocument session = orientDB.open(ONetworkBinaryCompressionTest.class.getSimpleName(), "admin", "admin")) {
+      session.createClass("Item");
+
+      final List<ORID> rids = new ArrayList<ORID>();
+      for (int i = 0; i < 20; i++) {
+        final OElement element = session.newElement("Item");
+        element.setProperty("index", i);
+        element.setProperty("payload", new String(payload) + i);
+        rids.add(element.save().getIdentity());
+      }
+
+      session.getLocalCache().clear();
+      for (int i = 0; i < rids.size(); i++)
+        Assert.assertEquals(new String(payload) + i, session.load(rids.get(i)).<OElement>getRecord().getProperty("payload"));
+
+      try (OResultSet result = session.query("select from Item order by index")) {
+        for (int i = 0; i < rids.size(); i++)
+          Assert.assertEquals(new String(payload) + i, result.next().getProperty("payload"));
+        Assert.assertFalse(result.hasNext());
+      }
+      return findStats();
+    }
+  }
+
+  private OClientConnectionStats findStats() {
+    OClientConnectionStats stats = null;
+    for (OClientConnection connection : server.getClientConnectionManager().getConnections())
+      if (stats == null || connection.getStats().compressionUncompressedBytes > stats.compressionUncompressedBytes)
+        stats = connection.getStats();
+    Assert.assertNotNull(stats);
+    return stats;
+  }
+}
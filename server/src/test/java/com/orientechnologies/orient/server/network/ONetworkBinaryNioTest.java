@@ -0,0 +1,190 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.*;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.server.OServer;
+import com.orientechnologies.orient.server.config.*;
+import com.orientechnologies.orient.server.network.protocol.binary.ONetworkProtocolBinary;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Checks that binary connections served by a selector and pool of workers behave as the connections served by dedicated threads.
+ */
+public class ONetworkBinaryNioTest {
+  private static final String SERVER_DIRECTORY = "./target/nio";
+
+  private OServer  server;
+  private OrientDB orientDB;
+  private boolean  backwardCompatibility;
+
+  @Before
+  public void before() throws Exception {
+    backwardCompatibility = OGlobalConfiguration.SERVER_BACKWARD_COMPATIBILITY.getValueAsBoolean();
+    OGlobalConfiguration.SERVER_BACKWARD_COMPATIBILITY.setValue(false);
+
+    server = new OServer(false);
+    server.setServerRootDirectory(SERVER_DIRECTORY);
+    server.startup(createConfiguration(true, 4));
+    server.activate();
+
+    orientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig());
+    orientDB.create(ONetworkBinaryNioTest.class.getSimpleName(), ODatabaseType.MEMORY);
+  }
+
+  @After
+  public void after() {
+    orientDB.close();
+    server.shutdown();
+
+    Orient.instance().shutdown();
+    OFileUtils.deleteRecursively(new File(SERVER_DIRECTORY));
+    Orient.instance().startup();
+
+    OGlobalConfiguration.SERVER_BACKWARD_COMPATIBILITY.setValue(backwardCompatibility);
+  }
+
+  static OServerConfiguration createConfiguration(boolean nio, int workers) {
+    final OServerConfiguration configuration = new OServerConfiguration();
+    configuration.network = new OServerNetworkConfiguration();
+    configuration.network.protocols = new ArrayList<OServerNetworkProtocolConfiguration>();
+    configuration.network.protocols.add(new OServerNetworkProtocolConfiguration("binary", ONetworkProtocolBinary.class.getName()));
+
+    final OServerNetworkListenerConfiguration listener = new OServerNetworkListenerConfiguration();
+    listener.parameters = new OServerParameterConfiguration[] {
+        new OServerParameterConfiguration(OGlobalConfiguration.NETWORK_BINARY_NIO_ENABLED.getKey(), String.valueOf(nio)),
+        new OServerParameterConfiguration(OGlobalConfiguration.NETWORK_BINARY_NIO_WORKERS.getKey(), String.valueOf(workers)) };
+    configuration.network.listeners = new ArrayList<OServerNetworkListenerConfiguration>();
+    configuration.network.listeners.add(listener);
+
+    configuration.users = new OServerUserConfiguration[] { new OServerUserConfiguration("root", "root", "*") };
+    return configuration;
+  }
+
+  @Test
+  public void testListenerUsesDispatcher() {
+    final OServerNetworkListener listener = server.getListenerByProtocol(ONetworkProtocolBinary.class);
+    Assert.assertNotNull(listener.getNioDispatcher());
+    Assert.assertTrue(listener.getNioDispatcher().isActive());
+  }
+
+  @Test
+  public void testMoreConnectionsThanWorkers() throws Exception {
+    final List<ODatabaseDocument> sessions = new ArrayList<ODatabaseDocument>();
+    for (int i = 0; i < 20; i++)
+      sessions.add(orientDB.open(ONetworkBinaryNioTest.class.getSimpleName(), "admin", "admin"));
+
+    sessions.get(0).activateOnCurrentThread();
+    sessions.get(0).getMetadata().getSchema().createClass("Item");
+
+    final ExecutorService executor = Executors.newFixedThreadPool(sessions.size());
+    try {
+      final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+      for (int i = 0; i < sessions.size(); i++) {
+        final ODatabaseDocument session = sessions.get(i);
+        final int sessionIndex = i;
+        futures.add(executor.submit(() -> {
+          session.activateOnCurrentThread();
+          for (int n = 0; n < 50; n++) {
+            final OElement element = session.newElement("Item");
+            element.setProperty("session", sessionIndex);
+            element.setProperty("n", n);
+            element.save();
+          }
+
+          try (OResultSet result = session.query("select count(*) as count from Item where session = ?", sessionIndex)) {
+            Assert.assertEquals(50L, (long) result.next().getProperty("count"));
+          }
+          session.close();
+          return null;
+        }));
+      }
+
+      for (Future<Void> future : futures)
+        future.get(1, TimeUnit.MINUTES);
+    } finally {
+      executor.shutdown();
+    }
+
+    try (ODatabaseDocument session = orientDB.open(ONetworkBinaryNioTest.class.getSimpleName(), "admin", "admin")) {
+      try (OResultSet result = session.query("select count(*) as count from Item")) {
+        Assert.assertEquals(1000L, (long) result.next().getProperty("count"));
+      }
+    }
+  }
+
+  @Test
+  public void testShutdownWaitsForRunningRequest() throws Exception {
+    try (ODatabaseDocument session = orientDB.open(ONetworkBinaryNioTest.class.getSimpleName(), "admin", "admin")) {
+      session.getMetadata().getSchema().createClass("Item");
+
+      final ExecutorService executor = Executors.newSingleThreadExecutor();
+      try {
+        final Future<Void> script = executor.submit(() -> {
+          session.activateOnCurrentThread();
+          session.execute("sql", "sleep 1000; insert into Item set name = 'foo';").close();
+          return null;
+        });
+
+        // LET THE SCRIPT START ON THE SERVER
+        Thread.sleep(300);
+        server.shutdown();
+
+        script.get(1, TimeUnit.MINUTES);
+      } finally {
+        executor.shutdown();
+      }
+    }
+  }
+
+  @Test
+  public void testPushToIdleConnection() throws Exception {
+    try (ODatabaseDocument session = orientDB.open(ONetworkBinaryNioTest.class.getSimpleName(), "admin", "admin")) {
+      session.getMetadata().getSchema().createClass("Live");
+
+      final CountDownLatch created = new CountDownLatch(2);
+      final OLiveQueryMonitor monitor = session.live("select from Live", new OLiveQueryResultListener() {
+        @Override
+        public void onCreate(ODatabaseDocument database, OResult data) {
+          created.countDown();
+        }
+
+        @Override
+        public void onUpdate(ODatabaseDocument database, OResult before, OResult after) {
+        }
+
+        @Override
+        public void onDelete(ODatabaseDocument database, OResult data) {
+        }
+
+        @Override
+        public void onError(ODatabaseDocument database, OException exception) {
+        }
+
+        @Override
+        public void onEnd(ODatabaseDocument database) {
+        }
+      });
+
+      session.command("insert into Live set name = 'foo'").close();
+      session.command("insert into Live set name = 'bar'").close();
+
+      Assert.assertTrue(created.await(1, TimeUnit.MINUTES));
+      monitor.unSubscribe();
+    }
+  }
+}
@@ -0,0 +1,237 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.client.remote.ORemoteConnectionManager;
+import com.orientechnologies.orient.client.remote.OStorageRemote;
+import com.orientechnologies.orient.client.remote.OStorageRemoteSession;
+import com.orientechnologies.orient.client.remote.message.OCountRecordsRequest;
+import com.orientechnologies.orient.client.remote.message.OCountRecordsResponse;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.*;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.enterprise.channel.binary.OChannelDataInput;
+import com.orientechnologies.orient.server.OServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Checks that requests of many threads pipelined over a few shared connections get their own responses.
+ */
+public class ONetworkBinaryPipeliningTest {
+  private static final String SERVER_DIRECTORY = "./target/pipelining";
+  private static final int    THREADS          = 16;
+  private static final int    CONNECTIONS      = 2;
+
+  private OServer  server;
+  private OrientDB orientDB;
+  private boolean  backwardCompatibility;
+  private boolean  pipelining;
+  private int      pipeliningConnections;
+
+  @Before
+  public void before() throws Exception {
+    backwardCompatibility = OGlobalConfiguration.SERVER_BACKWARD_COMPATIBILITY.getValueAsBoolean();
+    OGlobalConfiguration.SERVER_BACKWARD_COMPATIBILITY.setValue(false);
+
+    pipelining = OGlobalConfiguration.CLIENT_CHANNEL_PIPELINING.getValueAsBoolean();
+    pipeliningConnections = OGlobalConfiguration.CLIENT_CHANNEL_PIPELINING_CONNECTIONS.getValueAsInteger();
+    OGlobalConfiguration.CLIENT_CHANNEL_PIPELINING.setValue(true);
+    OGlobalConfiguration.CLIENT_CHANNEL_PIPELINING_CONNECTIONS.setValue(CONNECTIONS);
+
+    server = new OServer(false);
+    server.setServerRootDirectory(SERVER_DIRECTORY);
+    server.startup(ONetworkBinaryNioTest.createConfiguration(false, 1));
+    server.activate();
+
+    orientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig());
+    orientDB.create(ONetworkBinaryPipeliningTest.class.getSimpleName(), ODatabaseType.MEMORY);
+  }
+
+  @After
+  public void after() {
+    orientDB.close();
+    server.shutdown();
+
+    Orient.instance().shutdown();
+    OFileUtils.deleteRecursively(new File(SERVER_DIRECTORY));
+    Orient.instance().startup();
+
+    OGlobalConfiguration.SERVER_BACKWARD_COMPATIBILITY.setValue(backwardCompatibility);
+    OGlobalConfiguration.CLIENT_CHANNEL_PIPELINING.setValue(pipelining);
+    OGlobalConfiguration.CLIENT_CHANNEL_PIPELINING_CONNECTIONS.setValue(pipeliningConnections);
+  }
+
+  @Test
+  public void testManyThreadsOverFewConnections() throws Exception {
+    final List<ODatabaseDocument> sessions = new ArrayList<ODatabaseDocument>();
+    for (int i = 0; i < THREADS; i++)
+      sessions.add(orientDB.open(ONetworkBinaryPipeliningTest.class.getSimpleName(), "admin", "admin"));
+
+    sessions.get(0).activateOnCurrentThread();
+    sessions.get(0).getMetadata().getSchema().createClass("Item");
+
+    final ORemoteConnectionManager connectionManager = ((OrientDBRemote) OrientDBInternal.extract(orientDB))
+        .getConnectionManager();
+    final int pooledConnections = countPooledConnections(connectionManager);
+    Assert.assertTrue(pooledConnections > 0);
+
+    final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+      for (int i = 0; i < THREADS; i++) {
+        final ODatabaseDocument session = sessions.get(i);
+        final int sessionIndex = i;
+        futures.add(executor.submit(() -> {
+          session.activateOnCurrentThread();
+          barrier.await();
+
+          final List<ORID> rids = new ArrayList<ORID>();
+          for (int n = 0; n < 50; n++) {
+            final OElement element = session.newElement("Item");
+            element.setProperty("session", sessionIndex);
+            element.setProperty("n", n);
+            element.save();
+            rids.add(element.getIdentity());
+          }
+
+          session.getLocalCache().clear();
+          for (int n = 0; n < rids.size(); n++) {
+            final OElement element = session.load(rids.get(n));
+            Assert.assertEquals(sessionIndex, (int) element.getProperty("session"));
+            Assert.assertEquals(n, (int) element.getProperty("n"));
+          }
+
+          try (OResultSet result = session.query("select count(*) as count from Item where session = ?", sessionIndex)) {
+            Assert.assertEquals(50L, (long) result.next().getProperty("count"));
+          }
+          return null;
+        }));
+      }
+
+      for (Future<Void> future : futures)
+        future.get(1, TimeUnit.MINUTES);
+    } finally {
+      executor.shutdown();
+    }
+
+    // CONCURRENT REQUESTS DID NOT TAKE EXCLUSIVE CONNECTIONS FROM THE POOL
+    Assert.assertEquals(pooledConnections, countPooledConnections(connectionManager));
+
+    for (ODatabaseDocument session : sessions) {
+      session.activateOnCurrentThread();
+      session.close();
+    }
+
+    try (ODatabaseDocument session = orientDB.open(ONetworkBinaryPipeliningTest.class.getSimpleName(), "admin", "admin")) {
+      try (OResultSet result = session.query("select count(*) as count from Item")) {
+        Assert.assertEquals(THREADS * 50L, (long) result.next().getProperty("count"));
+      }
+    }
+  }
+
+  @Test
+  public void testResponseFailingInPipeline() throws Exception {
+    final List<ODatabaseDocument> sessions = new ArrayList<ODatabaseDocument>();
+    for (int i = 0; i < THREADS; i++)
+      sessions.add(orientDB.open(ONetworkBinaryPipeliningTest.class.getSimpleName(), "admin", "admin"));
+
+    final ODatabaseDocument first = sessions.get(0);
+    first.activateOnCurrentThread();
+    first.getMetadata().getSchema().createClass("Item");
+    final List<ORID> rids = new ArrayList<ORID>();
+    for (int n = 0; n < 50; n++) {
+      final OElement element = first.newElement("Item");
+      element.setProperty("n", n);
+      element.save();
+      rids.add(element.getIdentity());
+    }
+
+    final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+      for (int i = 0; i < THREADS; i++) {
+        final ODatabaseDocument session = sessions.get(i);
+        final boolean failing = i == 0;
+        futures.add(executor.submit(() -> {
+          session.activateOnCurrentThread();
+          barrier.await();
+
+          for (int round = 0; round < 20; round++) {
+            if (failing && round % 5 == 2) {
+              // THE REST OF THE RESPONSE IS LEFT IN THE SHARED CHANNEL
+              final OStorageRemote storage = (OStorageRemote) ((ODatabaseDocumentInternal) session).getStorage();
+              try {
+                storage.networkOperation(new OPartiallyReadCountRequest(), "Error on counting records");
+                Assert.fail();
+              } catch (ODatabaseException e) {
+                // EXPECTED
+              }
+            }
+
+            session.getLocalCache().clear();
+            for (int n = 0; n < rids.size(); n++)
+              Assert.assertEquals(n, (int) session.<OElement>load(rids.get(n)).getProperty("n"));
+
+            // ERROR RESPONSES ARE READ TO THEIR END AND DO NOT BREAK THE SHARED CHANNEL
+            try (OResultSet result = session.query("select from NotExisting")) {
+              Assert.fail();
+            } catch (OCommandExecutionException e) {
+              // EXPECTED
+            }
+
+            try (OResultSet result = session.query("select count(*) as count from Item")) {
+              Assert.assertEquals(50L, (long) result.next().getProperty("count"));
+            }
+          }
+          return null;
+        }));
+      }
+
+      for (Future<Void> future : futures)
+        future.get(1, TimeUnit.MINUTES);
+    } finally {
+      executor.shutdown();
+    }
+
+    for (ODatabaseDocument session : sessions) {
+      session.activateOnCurrentThread();
+      session.close();
+    }
+  }
+
+  private static int countPooledConnections(ORemoteConnectionManager connectionManager) {
+    int connections = 0;
+    for (String url : connectionManager.getURLs())
+      connections += connectionManager.getCreatedInstancesInPool(url);
+    return connections;
+  }
+
+  private static class OPartiallyReadCountRequest extends OCountRecordsRequest {
+    @Override
+    public OCountRecordsResponse createResponse() {
+      return new OCountRecordsResponse() {
+        @Override
+        public void read(OChannelDataInput network, OStorageRemoteSession session) throws IOException {
+          network.readInt();
+          throw new ODatabaseException("Response read partially");
+        }
+      };
+    }
+  }
+}
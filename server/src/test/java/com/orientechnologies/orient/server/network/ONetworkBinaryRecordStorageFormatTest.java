@@ -0,0 +1,193 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+import com.orientechnologies.orient.server.OClientConnection;
+import com.orientechnologies.orient.server.OServer;
+import com.orientechnologies.orient.server.network.protocol.binary.ONetworkProtocolBinary;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Checks that records sent by the server in the format of the storage, when requested by the client, are loaded as the records
+ * sent in the format of the network.
+ */
+public class ONetworkBinaryRecordStorageFormatTest {
+  private static final String SERVER_DIRECTORY = "./target/recordStorageFormat";
+  private static final String DATABASE         = ONetworkBinaryRecordStorageFormatTest.class.getSimpleName();
+
+  private OServer  server;
+  private OrientDB orientDB;
+  private boolean  backwardCompatibility;
+  private boolean  recordStorageFormat;
+
+  @Before
+  public void before() throws Exception {
+    backwardCompatibility = OGlobalConfiguration.SERVER_BACKWARD_COMPATIBILITY.getValueAsBoolean();
+    OGlobalConfiguration.SERVER_BACKWARD_COMPATIBILITY.setValue(false);
+
+    recordStorageFormat = OGlobalConfiguration.CLIENT_CHANNEL_RECORD_STORAGE_FORMAT.getValueAsBoolean();
+    OGlobalConfiguration.CLIENT_CHANNEL_RECORD_STORAGE_FORMAT.setValue(true);
+
+    server = new OServer(false);
+    server.setServerRootDirectory(SERVER_DIRECTORY);
+    server.startup(ONetworkBinaryNioTest.createConfiguration(false, 1));
+    server.activate();
+
+    orientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig());
+    orientDB.create(DATABASE, ODatabaseType.MEMORY);
+  }
+
+  @After
+  public void after() {
+    orientDB.close();
+    server.shutdown();
+
+    Orient.instance().shutdown();
+    OFileUtils.deleteRecursively(new File(SERVER_DIRECTORY));
+    Orient.instance().startup();
+
+    OGlobalConfiguration.SERVER_BACKWARD_COMPATIBILITY.setValue(backwardCompatibility);
+    OGlobalConfiguration.CLIENT_CHANNEL_RECORD_STORAGE_FORMAT.setValue(recordStorageFormat);
+  }
+
+  @Test
+  public void testLoadRecordsInStorageFormat() {
+    try (ODatabaseDocument session = orientDB.open(DATABASE, "admin", "admin")) {
+      final OClass itemClass = session.createClass("Item");
+      itemClass.createProperty("name", OType.STRING);
+      itemClass.createProperty("amount", OType.DECIMAL);
+      itemClass.createProperty("tags", OType.EMBEDDEDLIST, OType.STRING);
+
+      final OVertex target = session.newVertex("V");
+      target.setProperty("name", "target");
+      target.save();
+
+      final ODocument embedded = new ODocument();
+      embedded.field("nested", "value");
+
+      final Map<String, Object> map = new HashMap<String, Object>();
+      map.put("one", 1);
+      map.put("two", "2");
+
+      final OElement item = session.newElement("Item");
+      item.setProperty("name", "item");
+      item.setProperty("amount", new BigDecimal("12.34"));
+      item.setProperty("tags", Arrays.asList("a", "b", "c"));
+      item.setProperty("count", 42L);
+      item.setProperty("created", new Date(1_500_000_000_000L));
+      item.setProperty("data", new byte[] { 1, 2, 3 });
+      item.setProperty("embedded", embedded, OType.EMBEDDED);
+      item.setProperty("map", map);
+      item.setProperty("link", target.getIdentity());
+      final ORID itemRid = item.save().getIdentity();
+
+      final OVertex hub = session.newVertex("V");
+      hub.save();
+      for (int i = 0; i < 100; i++) {
+        final OVertex other = session.newVertex("V");
+        other.save();
+        session.newEdge(hub, other).save();
+      }
+      final ORID hubRid = hub.getIdentity();
+
+      session.getLocalCache().clear();
+      final OElement loaded = session.load(itemRid);
+      Assert.assertEquals("Item", loaded.getSchemaType().get().getName());
+      Assert.assertEquals("item", loaded.getProperty("name"));
+      Assert.assertEquals(new BigDecimal("12.34"), loaded.getProperty("amount"));
+      Assert.assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<Object>(loaded.<List<Object>>getProperty("tags")));
+      Assert.assertEquals(42L, (long) loaded.getProperty("count"));
+      Assert.assertEquals(new Date(1_500_000_000_000L), loaded.getProperty("created"));
+      Assert.assertArrayEquals(new byte[] { 1, 2, 3 }, loaded.getProperty("data"));
+      Assert.assertEquals("value", loaded.<OElement>getProperty("embedded").getProperty("nested"));
+      Assert.assertEquals(1, (int) loaded.<Map<String, Object>>getProperty("map").get("one"));
+      Assert.assertEquals(target.getIdentity(), loaded.<OElement>getProperty("link").getIdentity());
+
+      session.getLocalCache().clear();
+      final OVertex loadedHub = session.load(hubRid);
+      int edges = 0;
+      for (Object ignored : loadedHub.getEdges(com.orientechnologies.orient.core.record.ODirection.OUT))
+        edges++;
+      Assert.assertEquals(100, edges);
+
+      // RECORD LOADED IN STORAGE FORMAT IS SAVED IN THE FORMAT OF THE NETWORK
+      loaded.setProperty("name", "updated");
+      loaded.save();
+      session.getLocalCache().clear();
+      Assert.assertEquals("updated", session.load(itemRid).<OElement>getRecord().getProperty("name"));
+      Assert.assertEquals(new BigDecimal("12.34"), session.load(itemRid).<OElement>getRecord().getProperty("amount"));
+
+      // THE RECORD FILLED BEFORE IS FILLED AGAIN BY THE RELOAD
+      loaded.reload();
+      Assert.assertEquals("updated", loaded.getProperty("name"));
+      Assert.assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<Object>(loaded.<List<Object>>getProperty("tags")));
+
+      Assert.assertTrue(isStorageFormatAccepted());
+    }
+  }
+
+  @Test
+  public void testReadRecordAfterSessionClose() {
+    final OElement loaded;
+    try (ODatabaseDocument session = orientDB.open(DATABASE, "admin", "admin")) {
+      session.createClass("Item");
+      final OElement item = session.newElement("Item");
+      item.setProperty("name", "item");
+      final ORID rid = item.save().getIdentity();
+
+      session.getLocalCache().clear();
+      loaded = session.load(rid);
+    }
+
+    // PROPERTIES ARE RESOLVED BY THE SCHEMA OF THE SESSION, SO THEY ARE READ BEFORE IT IS CLOSED
+    Assert.assertEquals("item", loaded.getProperty("name"));
+  }
+
+  @Test
+  public void testLoadRecordWithPropertyCreatedByAnotherClient() {
+    try (ODatabaseDocument session = orientDB.open(DATABASE, "admin", "admin")) {
+      session.createClass("Item");
+
+      final ORID rid;
+      try (OrientDB otherOrientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig())) {
+        try (ODatabaseDocument other = otherOrientDB.open(DATABASE, "admin", "admin")) {
+          other.getMetadata().getSchema().getClass("Item").createProperty("created", OType.STRING);
+          final OElement item = other.newElement("Item");
+          item.setProperty("created", "by other client");
+          rid = item.save().getIdentity();
+        }
+      }
+
+      session.activateOnCurrentThread();
+      session.getLocalCache().clear();
+      Assert.assertEquals("by other client", session.load(rid).<OElement>getRecord().getProperty("created"));
+    }
+  }
+
+  private boolean isStorageFormatAccepted() {
+    for (OClientConnection connection : server.getClientConnectionManager().getConnections())
+      if (connection.getProtocol() instanceof ONetworkProtocolBinary && ORecordSerializerBinary.NAME
+          .equals(((ONetworkProtocolBinary) connection.getProtocol()).getRecordStorageFormat()))
+        return true;
+    return false;
+  }
+}
@@ -0,0 +1,88 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.server.OServer;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.logging.Level;
+
+/**
+ * Measures throughput of export of all records of a class by remote query on the loopback interface with pages of fixed number
+ * of records, with pages of adapted size and with prefetching of the next page.
+ */
+public class RemoteResultSetExportBenchmark {
+  private static final String SERVER_DIRECTORY = "./target/remoteExport";
+  private static final int    RECORDS          = 50_000;
+  private static final int    RECORD_SIZE      = 1024;
+  private static final int    PAGE_BYTES       = 1024 * 1024;
+  private static final int    ROUNDS           = 5;
+
+  public static void main(String[] args) throws Exception {
+    OLogManager.instance().setConsoleLevel(Level.WARNING.getName());
+    OGlobalConfiguration.SERVER_BACKWARD_COMPATIBILITY.setValue(false);
+
+    final OServer server = new OServer(false);
+    server.setServerRootDirectory(SERVER_DIRECTORY);
+    server.startup(ONetworkBinaryNioTest.createConfiguration(false, 1));
+    server.activate();
+
+    final String name = RemoteResultSetExportBenchmark.class.getSimpleName();
+    try (OrientDB orientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig())) {
+      orientDB.create(name, ODatabaseType.MEMORY);
+
+      try (ODatabaseDocument session = orientDB.open(name, "admin", "admin")) {
+        session.createClass("Item");
+
+        final char[] payload = new char[RECORD_SIZE];
+        Arrays.fill(payload, 'a');
+        for (int i = 0; i < RECORDS; i++) {
+          final OElement element = session.newElement("Item");
+          element.setProperty("index", i);
+          element.setProperty("payload", new String(payload));
+          element.save();
+        }
+
+        System.out.printf("%20s %10s %18s %8s%n", "mode", "records", "records per second", "MB/s");
+        for (int round = 0; round < ROUNDS; round++) {
+          export(session, "fixed pages", 0, false);
+          export(session, "adaptive pages", PAGE_BYTES, false);
+          export(session, "adaptive + prefetch", PAGE_BYTES, true);
+        }
+      }
+    } finally {
+      server.shutdown();
+      Orient.instance().shutdown();
+      OFileUtils.deleteRecursively(new File(SERVER_DIRECTORY));
+      Orient.instance().startup();
+    }
+  }
+
+  private static void export(ODatabaseDocument session, String mode, int pageBytes, boolean prefetch) {
+    OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_BYTES.setValue(pageBytes);
+    OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PREFETCH.setValue(prefetch);
+
+    final long start = System.nanoTime();
+    long bytes = 0;
+    int records = 0;
+    try (OResultSet result = session.query("select from Item")) {
+      while (result.hasNext()) {
+        bytes += result.next().<String>getProperty("payload").length();
+        records++;
+      }
+    }
+    final long elapsed = System.nanoTime() - start;
+
+    System.out.printf("%20s %10d %18.0f %8.1f%n", mode, records, records * 1_000_000_000.0 / elapsed,
+        bytes * 1_000_000_000.0 / elapsed / (1024 * 1024));
+  }
+}
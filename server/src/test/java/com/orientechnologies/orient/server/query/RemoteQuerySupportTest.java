@@ -1,6 +1,7 @@
 package com.orientechnologies.orient.server.query;
 
 import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.client.remote.message.ORemoteResultSet;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseType;
@@ -21,7 +22,9 @@ import org.junit.Test;
 import java.io.File;
 import java.util.*;
 
+import static com.orientechnologies.orient.core.config.OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_BYTES;
 import static com.orientechnologies.orient.core.config.OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE;
+import static com.orientechnologies.orient.core.config.OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PREFETCH;
 import static org.junit.Assert.*;
 
 /**
@@ -66,6 +69,106 @@ public class RemoteQuerySupportTest {
     }
   }
 
+  @Test
+  public void testQueryWithPrefetch() {
+    for (int i = 0; i < 150; i++) {
+      ODocument doc = new ODocument("Some");
+      doc.setProperty("prop", i);
+      session.save(doc);
+    }
+
+    QUERY_REMOTE_RESULTSET_PREFETCH.setValue(true);
+    try {
+      OResultSet res = session.query("select from Some order by prop");
+      assertNotNull(((ORemoteResultSet) res).getPrefetchNetwork());
+      for (int i = 0; i < 150; i++) {
+        assertTrue(res.hasNext());
+        assertEquals(i, (int) res.next().getProperty("prop"));
+
+        if (i % 25 == 0) {
+          // OTHER REQUESTS WHILE THE NEXT PAGE IS PREFETCHED
+          try (OResultSet count = session.query("select count(*) as count from Some")) {
+            assertEquals(150L, (long) count.next().getProperty("count"));
+          }
+        }
+      }
+      assertFalse(res.hasNext());
+
+      // CLOSE BEFORE THE END READS PREFETCHED PAGE, SO THE CONNECTION CAN BE REUSED
+      res = session.query("select from Some order by prop");
+      for (int i = 0; i < 15; i++)
+        res.next();
+      res.close();
+
+      try (OResultSet count = session.query("select count(*) as count from Some")) {
+        assertEquals(150L, (long) count.next().getProperty("count"));
+      }
+    } finally {
+      QUERY_REMOTE_RESULTSET_PREFETCH.setValue(false);
+    }
+  }
+
+  @Test
+  public void testNotClosedResultSetsWithPrefetch() throws InterruptedException {
+    for (int i = 0; i < 30; i++) {
+      ODocument doc = new ODocument("Some");
+      doc.setProperty("prop", i);
+      session.save(doc);
+    }
+
+    final int maxPrefetches = OGlobalConfiguration.CLIENT_CHANNEL_MAX_POOL.getValueAsInteger() / 2;
+    QUERY_REMOTE_RESULTSET_PREFETCH.setValue(true);
+    try {
+      List<ORemoteResultSet> notClosed = new ArrayList<>();
+      int prefetched = 0;
+      for (int i = 0; i < maxPrefetches + 10; i++) {
+        final ORemoteResultSet res = (ORemoteResultSet) session.query("select from Some");
+        if (res.getPrefetchNetwork() != null)
+          prefetched++;
+        notClosed.add(res);
+      }
+      // PREFETCHES ARE LIMITED SO THE POOL IS NOT EXHAUSTED BY RESULT SETS WHICH ARE NOT CLOSED
+      assertEquals(maxPrefetches, prefetched);
+
+      // CHANNELS OF GARBAGE COLLECTED RESULT SETS ARE RELEASED
+      notClosed = null;
+      boolean released = false;
+      for (int i = 0; i < 20 && !released; i++) {
+        System.gc();
+        Thread.sleep(50);
+        try (ORemoteResultSet res = (ORemoteResultSet) session.query("select from Some")) {
+          released = res.getPrefetchNetwork() != null;
+        }
+      }
+      assertTrue(released);
+    } finally {
+      QUERY_REMOTE_RESULTSET_PREFETCH.setValue(false);
+    }
+  }
+
+  @Test
+  public void testQueryWithAdaptivePageSize() {
+    for (int i = 0; i < 150; i++) {
+      ODocument doc = new ODocument("Some");
+      doc.setProperty("prop", "value");
+      session.save(doc);
+    }
+
+    QUERY_REMOTE_RESULTSET_PAGE_BYTES.setValue(100 * 1024);
+    try {
+      ORemoteResultSet res = (ORemoteResultSet) session.query("select from Some");
+      // SMALL RECORDS, SO NEXT PAGES ARE BIGGER THAN THE FIRST ONE
+      assertTrue(res.getNextPageSize() > 10);
+      for (int i = 0; i < 150; i++) {
+        assertTrue(res.hasNext());
+        assertEquals(res.next().getProperty("prop"), "value");
+      }
+      assertFalse(res.hasNext());
+    } finally {
+      QUERY_REMOTE_RESULTSET_PAGE_BYTES.setValue(0);
+    }
+  }
+
   @Test
   public void testCommandSelect() {
     for (int i = 0; i < 150; i++) {